@@ -26,6 +26,9 @@ import software.amazon.awssdk.codegen.model.intermediate.Metadata;
 import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
 import software.amazon.awssdk.codegen.model.intermediate.ShapeType;
 import software.amazon.awssdk.codegen.poet.eventstream.EventStreamUtils;
+import software.amazon.awssdk.codegen.poet.transform.JsonPojoMarshallerSpec;
+import software.amazon.awssdk.codegen.poet.transform.JsonPojoShapes;
+import software.amazon.awssdk.codegen.poet.transform.JsonPojoUnmarshallerSpec;
 import software.amazon.awssdk.codegen.poet.transform.MarshallerSpec;
 
 public class MarshallerGeneratorTasks extends BaseGeneratorTasks {
@@ -39,10 +42,23 @@ public class MarshallerGeneratorTasks extends BaseGeneratorTasks {
 
     @Override
     protected List<GeneratorTask> createTasks() {
-        return model.getShapes().entrySet().stream()
-                    .filter(e -> shouldGenerate(e.getValue()))
-                    .flatMap(safeFunction(e -> createTask(e.getValue())))
-                    .collect(Collectors.toList());
+        Stream<GeneratorTask> marshallerTasks = model.getShapes().entrySet().stream()
+                                                     .filter(e -> shouldGenerate(e.getValue()))
+                                                     .flatMap(safeFunction(e -> createTask(e.getValue())));
+        return Stream.concat(marshallerTasks, jsonPojoTasks())
+                     .collect(Collectors.toList());
+    }
+
+    private Stream<GeneratorTask> jsonPojoTasks() {
+        JsonPojoShapes jsonPojoShapes = new JsonPojoShapes(model);
+        Stream<GeneratorTask> marshallers =
+            jsonPojoShapes.marshallerShapes().stream()
+                          .map(safeFunction(s -> createPoetGeneratorTask(new JsonPojoMarshallerSpec(model, s, jsonPojoShapes))));
+        Stream<GeneratorTask> unmarshallers =
+            jsonPojoShapes.unmarshallerShapes().stream()
+                          .map(safeFunction(s -> createPoetGeneratorTask(new JsonPojoUnmarshallerSpec(model, s,
+                                                                                                      jsonPojoShapes))));
+        return Stream.concat(marshallers, unmarshallers);
     }
 
     private boolean shouldGenerate(ShapeModel shapeModel) {
@@ -351,6 +351,19 @@ public class CustomizationConfig {
      */
     private boolean enableFastUnmarshaller;
 
+    /**
+     * A boolean flag to indicate if type-specialized marshallers and unmarshallers should be generated for the shapes of
+     * AWS/JSON, CBOR and Smithy RPCv2 CBOR services whose members are all bound to the payload. The generated code replaces the
+     * generic traversal of the shape's {@code SdkField}s for those shapes.
+     */
+    private boolean enableGeneratedJsonMarshallers;
+
+    /**
+     * A boolean flag to indicate if successful responses of REST/XML, AWS/Query and EC2 services should be unmarshalled
+     * directly from the XML parser events instead of an intermediate DOM.
+     */
+    private boolean enableStreamingXmlUnmarshaller;
+
     /**
      * A boolean flag to indicate if support for configuring a bearer token sourced from the environment should be added to the
      * generated service. When enabled, the generated client will use bearer auth with the token sourced from the
@@ -941,6 +954,22 @@ public class CustomizationConfig {
         this.enableFastUnmarshaller = enableFastUnmarshaller;
     }
 
+    public boolean getEnableGeneratedJsonMarshallers() {
+        return enableGeneratedJsonMarshallers;
+    }
+
+    public void setEnableGeneratedJsonMarshallers(boolean enableGeneratedJsonMarshallers) {
+        this.enableGeneratedJsonMarshallers = enableGeneratedJsonMarshallers;
+    }
+
+    public boolean getEnableStreamingXmlUnmarshaller() {
+        return enableStreamingXmlUnmarshaller;
+    }
+
+    public void setEnableStreamingXmlUnmarshaller(boolean enableStreamingXmlUnmarshaller) {
+        this.enableStreamingXmlUnmarshaller = enableStreamingXmlUnmarshaller;
+    }
+
     public boolean isEnableEnvironmentBearerToken() {
         return enableEnvironmentBearerToken;
     }
@@ -21,6 +21,10 @@ public class MultipartCustomization {
     private String multipartEnableMethodDoc;
     private String contextParamEnabledKey;
     private String contextParamConfigKey;
+    private String syncMultipartConfigMethodDoc;
+    private String syncMultipartEnableMethodDoc;
+    private String syncContextParamEnabledKey;
+    private String syncContextParamConfigKey;
 
     public String getMultipartConfigurationClass() {
         return multipartConfigurationClass;
@@ -61,4 +65,36 @@ public class MultipartCustomization {
     public void setContextParamConfigKey(String contextParamConfigKey) {
         this.contextParamConfigKey = contextParamConfigKey;
     }
+
+    public String getSyncMultipartConfigMethodDoc() {
+        return syncMultipartConfigMethodDoc;
+    }
+
+    public void setSyncMultipartConfigMethodDoc(String syncMultipartConfigMethodDoc) {
+        this.syncMultipartConfigMethodDoc = syncMultipartConfigMethodDoc;
+    }
+
+    public String getSyncMultipartEnableMethodDoc() {
+        return syncMultipartEnableMethodDoc;
+    }
+
+    public void setSyncMultipartEnableMethodDoc(String syncMultipartEnableMethodDoc) {
+        this.syncMultipartEnableMethodDoc = syncMultipartEnableMethodDoc;
+    }
+
+    public String getSyncContextParamEnabledKey() {
+        return syncContextParamEnabledKey;
+    }
+
+    public void setSyncContextParamEnabledKey(String syncContextParamEnabledKey) {
+        this.syncContextParamEnabledKey = syncContextParamEnabledKey;
+    }
+
+    public String getSyncContextParamConfigKey() {
+        return syncContextParamConfigKey;
+    }
+
+    public void setSyncContextParamConfigKey(String syncContextParamConfigKey) {
+        this.syncContextParamConfigKey = syncContextParamConfigKey;
+    }
 }
@@ -86,6 +86,7 @@ import software.amazon.awssdk.identity.spi.IdentityProvider;
 import software.amazon.awssdk.identity.spi.IdentityProviders;
 import software.amazon.awssdk.identity.spi.TokenIdentity;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.SdkClientJsonProtocolAdvancedOption;
+import software.amazon.awssdk.protocols.query.unmarshall.SdkClientXmlProtocolAdvancedOption;
 import software.amazon.awssdk.regions.ServiceMetadataAdvancedOption;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -530,6 +531,11 @@ public class BaseClientBuilderClass implements ClassSpec {
                                  SdkClientJsonProtocolAdvancedOption.class);
         }
 
+        if (model.getMetadata().isXmlProtocol() && model.getCustomizationConfig().getEnableStreamingXmlUnmarshaller()) {
+            builder.addStatement("builder.option($1T.ENABLE_STREAMING_UNMARSHALLER, true)",
+                                 SdkClientXmlProtocolAdvancedOption.class);
+        }
+
         if (hasRequestAlgorithmMember(model) || hasResponseAlgorithms(model)) {
             builder.addStatement("$T clientConfig = config", SdkClientConfiguration.class);
 
@@ -17,12 +17,14 @@ package software.amazon.awssdk.codegen.poet.builder;
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.WildcardTypeName;
 import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.client.config.AwsClientOption;
+import software.amazon.awssdk.codegen.model.config.customization.MultipartCustomization;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.poet.ClassSpec;
 import software.amazon.awssdk.codegen.poet.PoetUtils;
@@ -77,6 +79,12 @@ public class SyncClientBuilderClass implements ClassSpec {
             builder.addMethod(tokenProviderMethodImpl());
         }
 
+        MultipartCustomization multipartCustomization = model.getCustomizationConfig().getMultipartCustomization();
+        if (multipartCustomization != null && multipartCustomization.getSyncContextParamEnabledKey() != null) {
+            builder.addMethod(multipartEnabledMethod(multipartCustomization));
+            builder.addMethod(multipartConfigMethods(multipartCustomization));
+        }
+
         builder.addMethod(buildClientMethod());
 
         return builder.build();
@@ -117,6 +125,31 @@ public class SyncClientBuilderClass implements ClassSpec {
                          .build();
     }
 
+    private MethodSpec multipartEnabledMethod(MultipartCustomization multipartCustomization) {
+        return MethodSpec.methodBuilder("multipartEnabled")
+                         .addAnnotation(Override.class)
+                         .addModifiers(Modifier.PUBLIC)
+                         .returns(builderInterfaceName)
+                         .addParameter(Boolean.class, "enabled")
+                         .addStatement("clientContextParams.put($N, enabled)",
+                                       multipartCustomization.getSyncContextParamEnabledKey())
+                         .addStatement("return this")
+                         .build();
+    }
+
+    private MethodSpec multipartConfigMethods(MultipartCustomization multipartCustomization) {
+        ClassName mulitpartConfigClassName =
+            PoetUtils.classNameFromFqcn(multipartCustomization.getMultipartConfigurationClass());
+        return MethodSpec.methodBuilder("multipartConfiguration")
+                         .addAnnotation(Override.class)
+                         .addModifiers(Modifier.PUBLIC)
+                         .addParameter(ParameterSpec.builder(mulitpartConfigClassName, "multipartConfig").build())
+                         .returns(builderInterfaceName)
+                         .addStatement("clientContextParams.put($N, multipartConfig)",
+                                       multipartCustomization.getSyncContextParamConfigKey())
+                         .addStatement("return this")
+                         .build();
+    }
 
     private MethodSpec buildClientMethod() {
         MethodSpec.Builder builder = MethodSpec.methodBuilder("buildClient")
@@ -17,34 +17,97 @@ package software.amazon.awssdk.codegen.poet.builder;
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
+import java.util.function.Consumer;
+import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
+import software.amazon.awssdk.codegen.model.config.customization.MultipartCustomization;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.poet.ClassSpec;
 import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
 
 public class SyncClientBuilderInterface implements ClassSpec {
+    private static final Logger log = Logger.loggerFor(SyncClientBuilderInterface.class);
+
     private final ClassName builderInterfaceName;
     private final ClassName clientInterfaceName;
     private final ClassName baseBuilderInterfaceName;
+    private final IntermediateModel model;
 
     public SyncClientBuilderInterface(IntermediateModel model) {
         String basePackage = model.getMetadata().getFullClientPackageName();
         this.clientInterfaceName = ClassName.get(basePackage, model.getMetadata().getSyncInterface());
         this.builderInterfaceName = ClassName.get(basePackage, model.getMetadata().getSyncBuilderInterface());
         this.baseBuilderInterfaceName = ClassName.get(basePackage, model.getMetadata().getBaseBuilderInterface());
+        this.model = model;
     }
 
     @Override
     public TypeSpec poetSpec() {
-        return PoetUtils.createInterfaceBuilder(builderInterfaceName)
-                        .addSuperinterface(ParameterizedTypeName.get(ClassName.get(AwsSyncClientBuilder.class),
-                                                                     builderInterfaceName, clientInterfaceName))
-                        .addSuperinterface(ParameterizedTypeName.get(baseBuilderInterfaceName,
-                                                                     builderInterfaceName, clientInterfaceName))
-                        .addJavadoc(getJavadoc())
-                        .build();
+        TypeSpec.Builder builder = PoetUtils
+            .createInterfaceBuilder(builderInterfaceName)
+            .addSuperinterface(ParameterizedTypeName.get(ClassName.get(AwsSyncClientBuilder.class),
+                                                         builderInterfaceName, clientInterfaceName))
+            .addSuperinterface(ParameterizedTypeName.get(baseBuilderInterfaceName,
+                                                         builderInterfaceName, clientInterfaceName))
+            .addJavadoc(getJavadoc());
+
+        MultipartCustomization multipartCustomization = model.getCustomizationConfig().getMultipartCustomization();
+        if (multipartCustomization != null && multipartCustomization.getSyncContextParamEnabledKey() != null) {
+            includeMultipartMethod(builder, multipartCustomization);
+        }
+        return builder.build();
+    }
+
+    private void includeMultipartMethod(TypeSpec.Builder builder, MultipartCustomization multipartCustomization) {
+        log.debug(() -> String.format("Adding multipart config methods to sync builder interface for service '%s'",
+                  model.getMetadata().getServiceId()));
+
+        // .multipartEnabled(Boolean)
+        builder.addMethod(
+            MethodSpec.methodBuilder("multipartEnabled")
+                      .addModifiers(Modifier.DEFAULT, Modifier.PUBLIC)
+                      .returns(builderInterfaceName)
+                      .addParameter(Boolean.class, "enabled")
+                      .addCode("throw new $T();", UnsupportedOperationException.class)
+                      .addJavadoc(CodeBlock.of(multipartCustomization.getSyncMultipartEnableMethodDoc()))
+                      .build());
+
+        // .multipartConfiguration(MultipartConfiguration)
+        String multiPartConfigMethodName = "multipartConfiguration";
+        String multipartConfigClass = Validate.notNull(multipartCustomization.getMultipartConfigurationClass(),
+                                                       "'multipartConfigurationClass' must be defined");
+        ClassName mulitpartConfigClassName = PoetUtils.classNameFromFqcn(multipartConfigClass);
+        builder.addMethod(
+            MethodSpec.methodBuilder(multiPartConfigMethodName)
+                      .addModifiers(Modifier.DEFAULT, Modifier.PUBLIC)
+                      .returns(builderInterfaceName)
+                      .addParameter(ParameterSpec.builder(mulitpartConfigClassName, "multipartConfiguration").build())
+                      .addCode("throw new $T();", UnsupportedOperationException.class)
+                      .addJavadoc(CodeBlock.of(multipartCustomization.getSyncMultipartConfigMethodDoc()))
+                      .build());
+
+        // .multipartConfiguration(Consumer<MultipartConfiguration>)
+        ClassName mulitpartConfigBuilderClassName = PoetUtils.classNameFromFqcn(multipartConfigClass + ".Builder");
+        ParameterizedTypeName consumerBuilderType = ParameterizedTypeName.get(ClassName.get(Consumer.class),
+                                                                              mulitpartConfigBuilderClassName);
+        builder.addMethod(
+            MethodSpec.methodBuilder(multiPartConfigMethodName)
+                      .addModifiers(Modifier.DEFAULT, Modifier.PUBLIC)
+                      .returns(builderInterfaceName)
+                      .addParameter(ParameterSpec.builder(consumerBuilderType, "multipartConfiguration").build())
+                      .addStatement("$T builder = $T.builder()",
+                                    mulitpartConfigBuilderClassName,
+                                    mulitpartConfigClassName)
+                      .addStatement("multipartConfiguration.accept(builder)")
+                      .addStatement("return multipartConfiguration(builder.build())")
+                      .addJavadoc(CodeBlock.of(multipartCustomization.getSyncMultipartConfigMethodDoc()))
+                      .build());
     }
 
     @Override
@@ -83,6 +83,7 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.AsyncClientHandler;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRefreshCache;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRequest;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -323,8 +324,9 @@ public final class AsyncClientClass extends AsyncClientInterface {
                              List.class,
                              MetricPublisher.class,
                              opModel.getInput().getVariableName())
-               .addStatement("$1T apiCallMetricCollector = metricPublishers.isEmpty() ? $2T.create() : $1T.create($3S)",
-                             MetricCollector.class, NoOpMetricCollector.class, "ApiCall");
+               .addStatement("$T apiCallMetricCollector = metricPublishers.isEmpty() ? $T.create() : "
+                             + "$T.createApiCallMetricCollector(clientConfiguration)",
+                             MetricCollector.class, NoOpMetricCollector.class, MetricUtils.class);
         builder.beginControlFlow("try");
 
         builder.addStatement("apiCallMetricCollector.reportMetric($T.$L, $S)",
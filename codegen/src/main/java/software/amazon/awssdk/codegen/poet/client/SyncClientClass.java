@@ -66,6 +66,7 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.SyncClientHandler;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRefreshCache;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRequest;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -317,8 +318,9 @@ public class SyncClientClass extends SyncClientInterface {
                             List.class,
                             MetricPublisher.class,
                             opModel.getInput().getVariableName())
-              .addStatement("$1T apiCallMetricCollector = metricPublishers.isEmpty() ? $2T.create() : $1T.create($3S)",
-                            MetricCollector.class, NoOpMetricCollector.class, "ApiCall");
+              .addStatement("$T apiCallMetricCollector = metricPublishers.isEmpty() ? $T.create() : "
+                            + "$T.createApiCallMetricCollector(clientConfiguration)",
+                            MetricCollector.class, NoOpMetricCollector.class, MetricUtils.class);
 
         method.beginControlFlow("try")
                 .addStatement("apiCallMetricCollector.reportMetric($T.$L, $S)",
@@ -46,6 +46,7 @@ import software.amazon.awssdk.codegen.poet.client.traits.HttpChecksumTrait;
 import software.amazon.awssdk.codegen.poet.client.traits.RequestCompressionTrait;
 import software.amazon.awssdk.codegen.poet.eventstream.EventStreamUtils;
 import software.amazon.awssdk.codegen.poet.model.EventStreamSpecHelper;
+import software.amazon.awssdk.codegen.poet.transform.JsonPojoShapes;
 import software.amazon.awssdk.core.SdkPojoBuilder;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
@@ -67,10 +68,12 @@ public class JsonProtocolSpec implements ProtocolSpec {
 
     private final PoetExtension poetExtensions;
     private final IntermediateModel model;
+    private final JsonPojoShapes jsonPojoShapes;
 
     public JsonProtocolSpec(PoetExtension poetExtensions, IntermediateModel model) {
         this.poetExtensions = poetExtensions;
         this.model = model;
+        this.jsonPojoShapes = new JsonPojoShapes(model);
     }
 
     @Override
@@ -152,6 +155,13 @@ public class JsonProtocolSpec implements ProtocolSpec {
 
         if (opModel.hasEventStreamOutput()) {
             responseHandlersForEventStreaming(opModel, pojoResponseType, protocolFactory, builder);
+        } else if (jsonPojoShapes.hasUnmarshaller(opModel)) {
+            builder.add("\n\n$T<$T> responseHandler = $L.createResponseHandler(operationMetadata, $T::builder, $T.INSTANCE);",
+                        HttpResponseHandler.class,
+                        pojoResponseType,
+                        protocolFactory,
+                        pojoResponseType,
+                        jsonPojoShapes.unmarshallerClass(opModel.getOutputShape()));
         } else {
             builder.add("\n\n$T<$T> responseHandler = $L.createResponseHandler(operationMetadata, $T::builder);",
                         HttpResponseHandler.class,
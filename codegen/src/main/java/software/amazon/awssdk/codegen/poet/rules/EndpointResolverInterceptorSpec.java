@@ -61,6 +61,7 @@ import software.amazon.awssdk.codegen.poet.auth.scheme.ModelAuthSchemeClassesKno
 import software.amazon.awssdk.codegen.poet.waiters.JmesPathAcceptorGenerator;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SelectedAuthScheme;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.Context;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
@@ -184,8 +185,8 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         b.addStatement("long resolveEndpointStart = $T.nanoTime()", System.class);
         b.addStatement("$T endpointParams = ruleParams(result, executionAttributes)",
                        endpointRulesSpecUtils.parametersClassName());
-        b.addStatement("$T endpoint = $N.resolveEndpoint(endpointParams).join()",
-                       Endpoint.class, providerVar);
+        b.addStatement("$T endpoint = $T.resolveEndpoint(executionAttributes, $N, endpointParams, $N::resolveEndpoint)",
+                       Endpoint.class, EndpointResolutionCache.class, providerVar, providerVar);
         b.addStatement("$1T resolveEndpointDuration = $1T.ofNanos($2T.nanoTime() - resolveEndpointStart)", Duration.class,
                        System.class);
         b.addStatement("$T metricCollector = executionAttributes.getOptionalAttribute($T.API_CALL_METRIC_COLLECTOR)",
@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.transform;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.Map;
+import java.util.Optional;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetExtension;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.codegen.poet.model.TypeProvider;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.util.IdempotentUtils;
+import software.amazon.awssdk.protocols.json.JsonPojoMarshaller;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+
+/**
+ * Generates a {@link JsonPojoMarshaller} that writes the members of a shape with straight-line calls to the
+ * {@link StructuredJsonGenerator}, producing the same output as the generic marshalling of its {@code SdkField}s.
+ */
+public class JsonPojoMarshallerSpec implements ClassSpec {
+
+    private final IntermediateModel model;
+    private final ShapeModel shapeModel;
+    private final JsonPojoShapes jsonPojoShapes;
+    private final TypeProvider typeProvider;
+    private final ClassName pojoClassName;
+    private final ClassName className;
+
+    public JsonPojoMarshallerSpec(IntermediateModel model, ShapeModel shapeModel, JsonPojoShapes jsonPojoShapes) {
+        this.model = model;
+        this.shapeModel = shapeModel;
+        this.jsonPojoShapes = jsonPojoShapes;
+        this.typeProvider = new TypeProvider(model);
+        this.pojoClassName = new PoetExtension(model).getModelClass(shapeModel.getShapeName());
+        this.className = jsonPojoShapes.marshallerClass(shapeModel);
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        return TypeSpec.classBuilder(className)
+                       .addJavadoc("{@link $T} for {@link $T}", JsonPojoMarshaller.class, pojoClassName)
+                       .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                       .addAnnotation(PoetUtils.generatedAnnotation())
+                       .addAnnotation(SdkInternalApi.class)
+                       .addSuperinterface(ParameterizedTypeName.get(ClassName.get(JsonPojoMarshaller.class), pojoClassName))
+                       .addField(FieldSpec.builder(className, "INSTANCE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                                          .initializer("new $T()", className)
+                                          .build())
+                       .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                       .addMethod(marshallFieldsMethod())
+                       .build();
+    }
+
+    @Override
+    public ClassName className() {
+        return className;
+    }
+
+    private MethodSpec marshallFieldsMethod() {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("marshallFields")
+                                              .addAnnotation(Override.class)
+                                              .addModifiers(Modifier.PUBLIC)
+                                              .addParameter(pojoClassName, "pojo")
+                                              .addParameter(StructuredJsonGenerator.class, "generator");
+        JsonPojoShapes.members(shapeModel).forEach(m -> method.addCode(marshallMember(m)));
+        return method.build();
+    }
+
+    private CodeBlock marshallMember(MemberModel member) {
+        String value = "pojo." + member.getFluentGetterMethodName() + "()";
+        String locationName = member.getHttp().getMarshallLocationName();
+        CodeBlock.Builder code = CodeBlock.builder();
+
+        if (member.isIdempotencyToken()) {
+            return code.addStatement("generator.writeFieldName($S)", locationName)
+                       .addStatement("generator.writeValue($L != null ? $L : $T.getGenerator().get())",
+                                     value, value, IdempotentUtils.class)
+                       .build();
+        }
+
+        if (model.getCustomizationConfig().isRequiredTraitValidationEnabled() && member.isRequired()) {
+            code.beginControlFlow("if ($L == null)", value)
+                .addStatement("throw new $T($S)", IllegalArgumentException.class,
+                              String.format("Parameter '%s' must not be null", locationName))
+                .endControlFlow();
+        }
+
+        code.beginControlFlow("if ($L)", shouldEmit(member, value))
+            .addStatement("generator.writeFieldName($S)", locationName);
+        writeValue(code, member, value, 0, true);
+        return code.endControlFlow().build();
+    }
+
+    /**
+     * Null values are never written, and neither are lists and maps that were never set.
+     */
+    private CodeBlock shouldEmit(MemberModel valueModel, String value) {
+        return valueModel.getAutoConstructClassIfExists()
+                         .map(c -> CodeBlock.of("$L != null && !($L instanceof $T && $L.isEmpty())", value, value, c, value))
+                         .orElseGet(() -> CodeBlock.of("$L != null", value));
+    }
+
+    private void writeValue(CodeBlock.Builder code, MemberModel valueModel, String value, int depth, boolean isMember) {
+        if (valueModel.isList()) {
+            writeList(code, valueModel.getListModel().getListMemberModel(), value, depth);
+            return;
+        }
+        if (valueModel.isMap()) {
+            writeMap(code, valueModel.getMapModel().getValueModel(), value, depth);
+            return;
+        }
+        switch (valueModel.getMarshallingType()) {
+            case "SDK_POJO":
+                code.addStatement("generator.writeStartObject()")
+                    .addStatement("$T.INSTANCE.marshallFields($L, generator)",
+                                  jsonPojoShapes.marshallerClass(jsonPojoShapes.structureShape(valueModel)), value)
+                    .addStatement("generator.writeEndObject()");
+                break;
+            case "INSTANT":
+                // Timestamps in lists and maps always use the default format of the wire format
+                if (isMember) {
+                    code.addStatement("$T.writeInstant(generator, $L, $L)", JsonPojoMarshaller.class, value,
+                                      timestampFormat(valueModel));
+                } else {
+                    code.addStatement("generator.writeValue($L)", value);
+                }
+                break;
+            case "SDK_BYTES":
+                code.addStatement("generator.writeValue($L.asByteBuffer())", value);
+                break;
+            case "DOCUMENT":
+                code.addStatement("$T.writeDocument(generator, $L)", JsonPojoMarshaller.class, value);
+                break;
+            default:
+                code.addStatement("generator.writeValue($L)", value);
+                break;
+        }
+    }
+
+    private void writeList(CodeBlock.Builder code, MemberModel elementModel, String list, int depth) {
+        String element = "element" + depth;
+        code.addStatement("generator.writeStartArray($L.size())", list)
+            .beginControlFlow("for ($T $L : $L)", typeProvider.fieldType(elementModel), element, list)
+            .beginControlFlow("if ($L == null)", element)
+            .addStatement("generator.writeNull()");
+        Optional<ClassName> autoConstructClass = elementModel.getAutoConstructClassIfExists();
+        if (autoConstructClass.isPresent()) {
+            code.nextControlFlow("else if (!($L instanceof $T && $L.isEmpty()))", element, autoConstructClass.get(), element);
+        } else {
+            code.nextControlFlow("else");
+        }
+        writeValue(code, elementModel, element, depth + 1, false);
+        code.endControlFlow()
+            .endControlFlow()
+            .addStatement("generator.writeEndArray()");
+    }
+
+    private void writeMap(CodeBlock.Builder code, MemberModel valueModel, String map, int depth) {
+        String entry = "entry" + depth;
+        String value = "value" + depth;
+        TypeName valueType = typeProvider.fieldType(valueModel);
+        code.addStatement("generator.writeStartObject()")
+            .beginControlFlow("for ($T $L : $L.entrySet())",
+                              ParameterizedTypeName.get(ClassName.get(Map.Entry.class), ClassName.get(String.class), valueType),
+                              entry, map)
+            .addStatement("$T $L = $L.getValue()", valueType, value, entry)
+            .beginControlFlow("if ($L)", shouldEmit(valueModel, value))
+            .addStatement("generator.writeFieldName($L.getKey())", entry);
+        writeValue(code, valueModel, value, depth + 1, false);
+        code.endControlFlow()
+            .endControlFlow()
+            .addStatement("generator.writeEndObject()");
+    }
+
+    private static CodeBlock timestampFormat(MemberModel member) {
+        if (member.getTimestampFormat() == null) {
+            return CodeBlock.of("null");
+        }
+        return CodeBlock.of("$T.$L", TimestampFormatTrait.Format.class,
+                            TimestampFormatTrait.Format.fromString(member.getTimestampFormat()).name());
+    }
+}
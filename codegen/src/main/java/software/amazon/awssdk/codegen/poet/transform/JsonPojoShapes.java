@@ -0,0 +1,250 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.transform;
+
+import com.squareup.javapoet.ClassName;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.model.config.customization.CustomizationConfig;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
+import software.amazon.awssdk.codegen.model.intermediate.Protocol;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeType;
+import software.amazon.awssdk.codegen.poet.PoetExtension;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+
+/**
+ * Decides which shapes get a generated {@code JsonPojoMarshaller} or {@code JsonPojoUnmarshaller} when the
+ * {@link CustomizationConfig#getEnableGeneratedJsonMarshallers()} customization is enabled.
+ * <p>
+ * Only shapes whose members are all plain payload members qualify, and only if every structure they contain qualifies as well.
+ * Anything that needs the generic marshalling, like headers, explicit payloads, streaming or event streams, keeps using it.
+ */
+public final class JsonPojoShapes {
+
+    private static final Set<String> SCALAR_MARSHALLING_TYPES = new HashSet<>(Arrays.asList(
+        "STRING", "INTEGER", "LONG", "SHORT", "BYTE", "FLOAT", "DOUBLE", "BIG_DECIMAL", "BOOLEAN", "INSTANT", "SDK_BYTES",
+        "DOCUMENT"));
+
+    private final IntermediateModel model;
+    private final PoetExtension poetExtensions;
+    private Set<String> eligibleShapes;
+
+    public JsonPojoShapes(IntermediateModel model) {
+        this.model = model;
+        this.poetExtensions = new PoetExtension(model);
+    }
+
+    /**
+     * @return True if the customization is enabled and the protocol of the service supports it.
+     */
+    public boolean isEnabled() {
+        if (!model.getCustomizationConfig().getEnableGeneratedJsonMarshallers()) {
+            return false;
+        }
+        Protocol protocol = model.getMetadata().getProtocol();
+        return protocol == Protocol.AWS_JSON || protocol == Protocol.CBOR || protocol == Protocol.SMITHY_RPC_V2_CBOR;
+    }
+
+    /**
+     * @return True if the given request shape is marshalled with its generated marshaller.
+     */
+    public boolean hasMarshaller(ShapeModel requestShape) {
+        return isEnabled() && requestShape.getShapeType() == ShapeType.Request && isEligible(requestShape);
+    }
+
+    /**
+     * @return True if the response of the given operation is unmarshalled with its generated unmarshaller.
+     */
+    public boolean hasUnmarshaller(OperationModel operation) {
+        return isEnabled()
+               && !operation.hasStreamingOutput()
+               && !operation.hasEventStreamOutput()
+               && operation.getOutputShape() != null
+               && isEligible(operation.getOutputShape());
+    }
+
+    /**
+     * @return The request shapes with a generated marshaller, and all the structures they contain.
+     */
+    public Collection<ShapeModel> marshallerShapes() {
+        if (!isEnabled()) {
+            return Collections.emptyList();
+        }
+        return reachableFrom(model.getShapes().values().stream()
+                                  .filter(this::hasMarshaller)
+                                  .collect(Collectors.toList()));
+    }
+
+    /**
+     * @return The response shapes with a generated unmarshaller, and all the structures they contain.
+     */
+    public Collection<ShapeModel> unmarshallerShapes() {
+        if (!isEnabled()) {
+            return Collections.emptyList();
+        }
+        return reachableFrom(model.getOperations().values().stream()
+                                  .filter(this::hasUnmarshaller)
+                                  .map(OperationModel::getOutputShape)
+                                  .collect(Collectors.toList()));
+    }
+
+    public ClassName marshallerClass(ShapeModel shape) {
+        return poetExtensions.getTransformClass(shape.getShapeName() + "JsonMarshaller");
+    }
+
+    public ClassName unmarshallerClass(ShapeModel shape) {
+        return poetExtensions.getTransformClass(shape.getShapeName() + "JsonUnmarshaller");
+    }
+
+    /**
+     * @return The structure shape that the given member, or list member or map value, refers to.
+     */
+    ShapeModel structureShape(MemberModel member) {
+        return Utils.findMemberShapeModelByC2jNameIfExists(model, member.getC2jShape());
+    }
+
+    /**
+     * @return The members that are marshalled, in the same order as the {@code SdkField}s of the shape.
+     */
+    static List<MemberModel> members(ShapeModel shape) {
+        return shape.getMembers().stream()
+                    .filter(m -> !m.isSynthetic())
+                    .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The structures that the members of the given shape, or their list members or map values, refer to.
+     */
+    private List<ShapeModel> structures(ShapeModel shape) {
+        return members(shape).stream()
+                             .map(JsonPojoShapes::innermostValue)
+                             .filter(v -> "SDK_POJO".equals(v.getMarshallingType()))
+                             .map(this::structureShape)
+                             .collect(Collectors.toList());
+    }
+
+    private Collection<ShapeModel> reachableFrom(List<ShapeModel> roots) {
+        Map<String, ShapeModel> reachable = new LinkedHashMap<>();
+        Deque<ShapeModel> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            ShapeModel shape = pending.pop();
+            if (reachable.putIfAbsent(shape.getShapeName(), shape) != null) {
+                continue;
+            }
+            structures(shape).forEach(pending::push);
+        }
+        return reachable.values();
+    }
+
+    private static MemberModel innermostValue(MemberModel member) {
+        MemberModel current = member;
+        while (current.isList() || current.isMap()) {
+            current = current.isList() ? current.getListModel().getListMemberModel()
+                                       : current.getMapModel().getValueModel();
+        }
+        return current;
+    }
+
+    private boolean isEligible(ShapeModel shape) {
+        if (eligibleShapes == null) {
+            eligibleShapes = computeEligibleShapes();
+        }
+        return eligibleShapes.contains(shape.getShapeName());
+    }
+
+    /**
+     * Starts from the shapes whose own members qualify, then removes the shapes containing a structure that doesn't qualify
+     * until there is nothing left to remove. This also settles recursive shapes.
+     */
+    private Set<String> computeEligibleShapes() {
+        Map<String, ShapeModel> candidates = new HashMap<>();
+        model.getShapes().values().stream()
+             .filter(this::isLocallyEligible)
+             .forEach(shape -> candidates.put(shape.getShapeName(), shape));
+
+        boolean changed = true;
+        while (changed) {
+            changed = candidates.values()
+                                .removeIf(shape -> structures(shape).stream()
+                                                                    .anyMatch(s -> !candidates.containsKey(s.getShapeName())));
+        }
+        return new HashSet<>(candidates.keySet());
+    }
+
+    private boolean isLocallyEligible(ShapeModel shape) {
+        ShapeType shapeType = shape.getShapeType();
+        if (shapeType != ShapeType.Request && shapeType != ShapeType.Response && shapeType != ShapeType.Model) {
+            return false;
+        }
+        if (shape.isEventStream() || shape.isEvent() || shape.isDocument() || shape.isHasStreamingMember()
+            || shape.isHasPayloadMember()) {
+            return false;
+        }
+        String payloadMember = model.getCustomizationConfig().getAttachPayloadTraitToMember().get(shape.getC2jName());
+        if (payloadMember != null) {
+            return false;
+        }
+        return members(shape).stream().allMatch(this::isEligibleMember);
+    }
+
+    private boolean isEligibleMember(MemberModel member) {
+        if (member.getHttp().getMarshallLocation() != MarshallLocation.PAYLOAD
+            || member.getHttp().getIsPayload()
+            || member.getHttp().getIsStreaming()
+            || member.isEventHeader()
+            || member.isEventPayload()
+            || member.isJsonValue()
+            || member.ignoreDataTypeConversionFailures()
+            || model.getCustomizationConfig().getModelMarshallerDefaultValueSupplier().containsKey(member.getC2jName())) {
+            return false;
+        }
+        if (member.getShape() != null && (member.getShape().isEventStream()
+                                          || member.getShape().getShapeType() == ShapeType.Exception)) {
+            return false;
+        }
+        return isEligibleValue(member);
+    }
+
+    private boolean isEligibleValue(MemberModel valueModel) {
+        if (valueModel.isList()) {
+            return isEligibleValue(valueModel.getListModel().getListMemberModel());
+        }
+        if (valueModel.isMap()) {
+            return valueModel.getMapModel().getKeyModel().isSimple()
+                   && isEligibleValue(valueModel.getMapModel().getValueModel());
+        }
+        String marshallingType = valueModel.getMarshallingType();
+        if ("SDK_POJO".equals(marshallingType)) {
+            return structureShape(valueModel) != null;
+        }
+        return SCALAR_MARSHALLING_TYPES.contains(Objects.toString(marshallingType));
+    }
+}
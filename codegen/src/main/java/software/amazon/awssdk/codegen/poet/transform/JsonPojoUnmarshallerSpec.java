@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.transform;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetExtension;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.codegen.poet.model.TypeProvider;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.protocols.json.JsonPojoReader;
+import software.amazon.awssdk.protocols.json.JsonPojoUnmarshaller;
+
+/**
+ * Generates a {@link JsonPojoUnmarshaller} that reads the members of a shape with a switch on the field name and
+ * type-specialized calls to the {@link JsonPojoReader}, producing the same POJO as the generic unmarshalling of its
+ * {@code SdkField}s. Unknown fields are skipped.
+ */
+public class JsonPojoUnmarshallerSpec implements ClassSpec {
+
+    private final ShapeModel shapeModel;
+    private final JsonPojoShapes jsonPojoShapes;
+    private final TypeProvider typeProvider;
+    private final ClassName pojoClassName;
+    private final ClassName className;
+
+    public JsonPojoUnmarshallerSpec(IntermediateModel model, ShapeModel shapeModel, JsonPojoShapes jsonPojoShapes) {
+        this.shapeModel = shapeModel;
+        this.jsonPojoShapes = jsonPojoShapes;
+        this.typeProvider = new TypeProvider(model);
+        this.pojoClassName = new PoetExtension(model).getModelClass(shapeModel.getShapeName());
+        this.className = jsonPojoShapes.unmarshallerClass(shapeModel);
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        return TypeSpec.classBuilder(className)
+                       .addJavadoc("{@link $T} for {@link $T}", JsonPojoUnmarshaller.class, pojoClassName)
+                       .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                       .addAnnotation(PoetUtils.generatedAnnotation())
+                       .addAnnotation(SdkInternalApi.class)
+                       .addSuperinterface(ParameterizedTypeName.get(ClassName.get(JsonPojoUnmarshaller.class), pojoClassName))
+                       .addField(FieldSpec.builder(className, "INSTANCE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                                          .initializer("new $T()", className)
+                                          .build())
+                       .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                       .addMethod(unmarshallMethod())
+                       .build();
+    }
+
+    @Override
+    public ClassName className() {
+        return className;
+    }
+
+    private MethodSpec unmarshallMethod() {
+        CodeBlock.Builder code = CodeBlock.builder()
+                                          .addStatement("$T builder = $T.builder()", pojoClassName.nestedClass("Builder"),
+                                                        pojoClassName)
+                                          .addStatement("$T fieldName", String.class)
+                                          .beginControlFlow("while ((fieldName = reader.nextFieldName()) != null)")
+                                          .beginControlFlow("switch (fieldName)");
+        JsonPojoShapes.members(shapeModel).forEach(m -> code.add(unmarshallMember(m)));
+        code.add("default:\n")
+            .indent()
+            .addStatement("reader.skipValue()")
+            .addStatement("break")
+            .unindent()
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return builder.build()");
+
+        return MethodSpec.methodBuilder("unmarshall")
+                         .addAnnotation(Override.class)
+                         .addModifiers(Modifier.PUBLIC)
+                         .addParameter(JsonPojoReader.class, "reader")
+                         .addException(IOException.class)
+                         .returns(pojoClassName)
+                         .addCode(code.build())
+                         .build();
+    }
+
+    private CodeBlock unmarshallMember(MemberModel member) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        String setter = member.getFluentSetterMethodName();
+        if (member.isList() || member.isMap()) {
+            code.add("case $S: {\n", member.getHttp().getMarshallLocationName())
+                .indent();
+            String container = readContainer(code, member, 0);
+            code.addStatement("builder.$L($L)", setter, container)
+                .addStatement("break")
+                .unindent()
+                .add("}\n");
+        } else {
+            code.add("case $S:\n", member.getHttp().getMarshallLocationName())
+                .indent()
+                .addStatement("builder.$L($L)", setter, readValue(member))
+                .addStatement("break")
+                .unindent();
+        }
+        return code.build();
+    }
+
+    /**
+     * Declares a variable holding the list or map read from the current value, null if the value is a JSON null.
+     *
+     * @return The name of the variable.
+     */
+    private String readContainer(CodeBlock.Builder code, MemberModel containerModel, int depth) {
+        if (containerModel.isList()) {
+            MemberModel elementModel = containerModel.getListModel().getListMemberModel();
+            String list = "list" + depth;
+            code.addStatement("$T $L = null", typeProvider.fieldType(containerModel), list)
+                .beginControlFlow("if (reader.startArray())")
+                .addStatement("$L = new $T<>()", list, ArrayList.class)
+                .beginControlFlow("while (reader.nextArrayElement())");
+            code.addStatement("$L.add($L)", list, readElement(code, elementModel, depth));
+            code.endControlFlow()
+                .endControlFlow();
+            return list;
+        }
+
+        MemberModel valueModel = containerModel.getMapModel().getValueModel();
+        String map = "map" + depth;
+        String key = "key" + depth;
+        code.addStatement("$T $L = null", typeProvider.fieldType(containerModel), map)
+            .beginControlFlow("if (reader.startObject())")
+            .addStatement("$L = new $T<>()", map, LinkedHashMap.class)
+            .addStatement("$T $L", String.class, key)
+            .beginControlFlow("while (($L = reader.nextFieldName()) != null)", key);
+        code.addStatement("$L.put($L, $L)", map, key, readElement(code, valueModel, depth));
+        code.endControlFlow()
+            .endControlFlow();
+        return map;
+    }
+
+    private CodeBlock readElement(CodeBlock.Builder code, MemberModel elementModel, int depth) {
+        if (elementModel.isList() || elementModel.isMap()) {
+            return CodeBlock.of("$L", readContainer(code, elementModel, depth + 1));
+        }
+        return readValue(elementModel);
+    }
+
+    private CodeBlock readValue(MemberModel valueModel) {
+        switch (valueModel.getMarshallingType()) {
+            case "SDK_POJO":
+                return CodeBlock.of("reader.startObject() ? $T.INSTANCE.unmarshall(reader) : null",
+                                    jsonPojoShapes.unmarshallerClass(jsonPojoShapes.structureShape(valueModel)));
+            case "STRING":
+                return CodeBlock.of("reader.readString()");
+            case "INTEGER":
+                return CodeBlock.of("reader.readInteger()");
+            case "LONG":
+                return CodeBlock.of("reader.readLong()");
+            case "SHORT":
+                return CodeBlock.of("reader.readShort()");
+            case "BYTE":
+                return CodeBlock.of("reader.readByte()");
+            case "FLOAT":
+                return CodeBlock.of("reader.readFloat()");
+            case "DOUBLE":
+                return CodeBlock.of("reader.readDouble()");
+            case "BIG_DECIMAL":
+                return CodeBlock.of("reader.readBigDecimal()");
+            case "BOOLEAN":
+                return CodeBlock.of("reader.readBoolean()");
+            case "SDK_BYTES":
+                return CodeBlock.of("reader.readSdkBytes()");
+            case "DOCUMENT":
+                return CodeBlock.of("reader.readDocument()");
+            case "INSTANT":
+                if (valueModel.getTimestampFormat() == null) {
+                    return CodeBlock.of("reader.readInstant(null)");
+                }
+                return CodeBlock.of("reader.readInstant($T.$L)", TimestampFormatTrait.Format.class,
+                                    TimestampFormatTrait.Format.fromString(valueModel.getTimestampFormat()).name());
+            default:
+                throw new IllegalStateException("Unsupported marshalling type: " + valueModel.getMarshallingType());
+        }
+    }
+}
@@ -137,6 +137,10 @@ public class MarshallerSpec implements ClassSpec {
         if (shapeModel.isEvent()) {
             return new EventStreamJsonMarshallerSpec(shapeModel);
         }
+        JsonPojoShapes jsonPojoShapes = new JsonPojoShapes(intermediateModel);
+        if (jsonPojoShapes.hasMarshaller(shapeModel)) {
+            return new JsonMarshallerSpec(shapeModel, jsonPojoShapes.marshallerClass(shapeModel));
+        }
         return new JsonMarshallerSpec(shapeModel);
     }
 }
@@ -45,9 +45,19 @@ import software.amazon.awssdk.utils.StringUtils;
 public class JsonMarshallerSpec implements MarshallerProtocolSpec {
 
     protected final ShapeModel shapeModel;
+    private final ClassName pojoMarshallerClass;
 
     public JsonMarshallerSpec(ShapeModel shapeModel) {
+        this(shapeModel, null);
+    }
+
+    /**
+     * @param pojoMarshallerClass Generated {@code JsonPojoMarshaller} of the request shape, or null to use the generic
+     * marshalling.
+     */
+    public JsonMarshallerSpec(ShapeModel shapeModel, ClassName pojoMarshallerClass) {
         this.shapeModel = shapeModel;
+        this.pojoMarshallerClass = pojoMarshallerClass;
     }
 
     @Override
@@ -67,12 +77,18 @@ public class JsonMarshallerSpec implements MarshallerProtocolSpec {
     @Override
     public CodeBlock marshalCodeBlock(ClassName requestClassName) {
         String variableName = shapeModel.getVariable().getVariableName();
-        return CodeBlock.builder()
-                        .addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
-                                      + "(SDK_OPERATION_BINDING)",
-                                      ProtocolMarshaller.class, SdkHttpFullRequest.class)
-                        .addStatement("return protocolMarshaller.marshall($L)", variableName)
-                        .build();
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (pojoMarshallerClass != null) {
+            code.addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
+                              + "(SDK_OPERATION_BINDING, $T.INSTANCE)",
+                              ProtocolMarshaller.class, SdkHttpFullRequest.class, pojoMarshallerClass);
+        } else {
+            code.addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
+                              + "(SDK_OPERATION_BINDING)",
+                              ProtocolMarshaller.class, SdkHttpFullRequest.class);
+        }
+        return code.addStatement("return protocolMarshaller.marshall($L)", variableName)
+                   .build();
     }
 
     @Override
@@ -439,6 +439,21 @@ public class ClientTestModels {
         return new IntermediateModelBuilder(models).build();
     }
 
+    public static IntermediateModel serviceWithMultipart() {
+        File serviceModel =
+            new File(ClientTestModels.class.getResource("client/c2j/service-with-multipart/service-2.json").getFile());
+        File customizationModel =
+            new File(ClientTestModels.class.getResource("client/c2j/service-with-multipart/customization.config")
+                                           .getFile());
+        C2jModels models = C2jModels
+            .builder()
+            .serviceModel(getServiceModel(serviceModel))
+            .customizationConfig(getCustomizationConfig(customizationModel))
+            .build();
+
+        return new IntermediateModelBuilder(models).build();
+    }
+
     public static IntermediateModel serviceS3() {
         File serviceModel =
             new File(ClientTestModels.class.getResource("client/c2j/s3-test/service-2.json").getFile());
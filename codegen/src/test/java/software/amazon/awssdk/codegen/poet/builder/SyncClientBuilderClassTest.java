@@ -17,6 +17,7 @@ package software.amazon.awssdk.codegen.poet.builder;
 
 import static software.amazon.awssdk.codegen.poet.ClientTestModels.composedClientJsonServiceModels;
 import static software.amazon.awssdk.codegen.poet.ClientTestModels.restJsonServiceModels;
+import static software.amazon.awssdk.codegen.poet.ClientTestModels.serviceWithMultipart;
 import static software.amazon.awssdk.codegen.poet.builder.BuilderClassTestUtils.validateGeneration;
 
 import org.junit.jupiter.api.Test;
@@ -35,4 +36,9 @@ public class SyncClientBuilderClassTest {
         validateGeneration(SyncClientBuilderClass::new, composedClientJsonServiceModels(),
                            "test-composed-sync-client-builder-class.java");
     }
+
+    @Test
+    public void syncClientBuilderClassWithMultipart() {
+        validateGeneration(SyncClientBuilderClass::new, serviceWithMultipart(), "test-multipart-sync-client-builder-class.java");
+    }
 }
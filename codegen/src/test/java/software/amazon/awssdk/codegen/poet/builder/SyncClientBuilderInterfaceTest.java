@@ -16,6 +16,7 @@
 package software.amazon.awssdk.codegen.poet.builder;
 
 import static software.amazon.awssdk.codegen.poet.ClientTestModels.restJsonServiceModels;
+import static software.amazon.awssdk.codegen.poet.ClientTestModels.serviceWithMultipart;
 import static software.amazon.awssdk.codegen.poet.builder.BuilderClassTestUtils.validateGeneration;
 
 import org.junit.jupiter.api.Test;
@@ -28,4 +29,10 @@ public class SyncClientBuilderInterfaceTest {
     public void syncClientBuilderInterface() {
         validateGeneration(SyncClientBuilderInterface::new, restJsonServiceModels(), "test-sync-client-builder-interface.java");
     }
+
+    @Test
+    public void syncClientBuilderInterfaceWithMultipart() {
+        validateGeneration(SyncClientBuilderInterface::new, serviceWithMultipart(),
+                           "test-multipart-sync-client-builder-interface.java");
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.transform;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
+
+import java.util.Locale;
+import org.hamcrest.MatcherAssert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.poet.ClientTestModels;
+
+public class JsonPojoMarshallerSpecTest {
+    private static IntermediateModel model;
+    private static JsonPojoShapes jsonPojoShapes;
+
+    @BeforeClass
+    public static void setUp() {
+        model = ClientTestModels.rpcv2ServiceModels();
+        model.getCustomizationConfig().setEnableGeneratedJsonMarshallers(true);
+        jsonPojoShapes = new JsonPojoShapes(model);
+    }
+
+    @Test
+    public void marshaller_scalars() {
+        assertMarshaller("SimpleScalarPropertiesRequest");
+    }
+
+    @Test
+    public void marshaller_recursiveStructures() {
+        assertMarshaller("RecursiveShapesRequest");
+        assertMarshaller("RecursiveShapesInputOutputNested1");
+    }
+
+    @Test
+    public void marshaller_nestedContainers() {
+        assertMarshaller("RpcV2CborListsRequest");
+        assertMarshaller("RpcV2CborSparseMapsRequest");
+    }
+
+    @Test
+    public void unmarshaller_scalars() {
+        assertUnmarshaller("SimpleScalarPropertiesResponse");
+    }
+
+    @Test
+    public void unmarshaller_recursiveStructures() {
+        assertUnmarshaller("RecursiveShapesResponse");
+        assertUnmarshaller("RecursiveShapesInputOutputNested1");
+    }
+
+    @Test
+    public void unmarshaller_nestedContainers() {
+        assertUnmarshaller("RpcV2CborListsResponse");
+        assertUnmarshaller("RpcV2CborSparseMapsResponse");
+    }
+
+    @Test
+    public void shapes_onlyIncludeShapesReachableFromOperations() {
+        assertThat(jsonPojoShapes.marshallerShapes().stream().map(ShapeModel::getShapeName).collect(toSet()))
+            .contains("SimpleScalarPropertiesRequest", "RecursiveShapesRequest", "RecursiveShapesInputOutputNested2")
+            .doesNotContain("SimpleScalarPropertiesResponse", "GreetingWithErrorsResponse");
+        assertThat(jsonPojoShapes.unmarshallerShapes().stream().map(ShapeModel::getShapeName).collect(toSet()))
+            .contains("SimpleScalarPropertiesResponse", "RecursiveShapesResponse", "RecursiveShapesInputOutputNested2")
+            .doesNotContain("SimpleScalarPropertiesRequest");
+    }
+
+    @Test
+    public void shapes_customizationDisabled_noShapes() {
+        IntermediateModel disabled = ClientTestModels.rpcv2ServiceModels();
+        JsonPojoShapes shapes = new JsonPojoShapes(disabled);
+
+        assertThat(shapes.isEnabled()).isFalse();
+        assertThat(shapes.marshallerShapes()).isEmpty();
+        assertThat(shapes.unmarshallerShapes()).isEmpty();
+    }
+
+    @Test
+    public void shapes_restJsonProtocol_notEnabled() {
+        IntermediateModel restJson = ClientTestModels.restJsonServiceModels();
+        restJson.getCustomizationConfig().setEnableGeneratedJsonMarshallers(true);
+
+        assertThat(new JsonPojoShapes(restJson).isEnabled()).isFalse();
+    }
+
+    private void assertMarshaller(String shapeName) {
+        JsonPojoMarshallerSpec spec = new JsonPojoMarshallerSpec(model, model.getShapes().get(shapeName), jsonPojoShapes);
+        MatcherAssert.assertThat(spec, generatesTo(referenceFile(shapeName, "jsonmarshaller")));
+    }
+
+    private void assertUnmarshaller(String shapeName) {
+        JsonPojoUnmarshallerSpec spec = new JsonPojoUnmarshallerSpec(model, model.getShapes().get(shapeName), jsonPojoShapes);
+        MatcherAssert.assertThat(spec, generatesTo(referenceFile(shapeName, "jsonunmarshaller")));
+    }
+
+    private static String referenceFile(String shapeName, String suffix) {
+        return "jsonpojo/" + shapeName.toLowerCase(Locale.ENGLISH) + suffix + ".java";
+    }
+}
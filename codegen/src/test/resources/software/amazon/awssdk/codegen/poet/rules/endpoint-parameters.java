@@ -2,6 +2,7 @@ package software.amazon.awssdk.services.query.endpoints;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.regions.Region;
@@ -138,6 +139,55 @@ public final class QueryEndpointParams implements ToCopyableBuilder<QueryEndpoin
         return new BuilderImpl(this);
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        QueryEndpointParams other = (QueryEndpointParams) obj;
+        return Objects.equals(region, other.region)
+        && Objects.equals(useDualStackEndpoint, other.useDualStackEndpoint)
+        && Objects.equals(useFIPSEndpoint, other.useFIPSEndpoint)
+        && Objects.equals(accountId, other.accountId)
+        && Objects.equals(accountIdEndpointMode, other.accountIdEndpointMode)
+        && Objects.equals(listOfStrings, other.listOfStrings)
+        && Objects.equals(defaultListOfStrings, other.defaultListOfStrings)
+        && Objects.equals(endpointId, other.endpointId)
+        && Objects.equals(defaultTrueParam, other.defaultTrueParam)
+        && Objects.equals(defaultStringParam, other.defaultStringParam)
+        && Objects.equals(deprecatedParam, other.deprecatedParam)
+        && Objects.equals(booleanContextParam, other.booleanContextParam)
+        && Objects.equals(stringContextParam, other.stringContextParam)
+        && Objects.equals(operationContextParam, other.operationContextParam)
+        && Objects.equals(customEndpointArray, other.customEndpointArray)
+        && Objects.equals(arnList, other.arnList);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        hashCode = 31 * hashCode + Objects.hashCode(region);
+        hashCode = 31 * hashCode + Objects.hashCode(useDualStackEndpoint);
+        hashCode = 31 * hashCode + Objects.hashCode(useFIPSEndpoint);
+        hashCode = 31 * hashCode + Objects.hashCode(accountId);
+        hashCode = 31 * hashCode + Objects.hashCode(accountIdEndpointMode);
+        hashCode = 31 * hashCode + Objects.hashCode(listOfStrings);
+        hashCode = 31 * hashCode + Objects.hashCode(defaultListOfStrings);
+        hashCode = 31 * hashCode + Objects.hashCode(endpointId);
+        hashCode = 31 * hashCode + Objects.hashCode(defaultTrueParam);
+        hashCode = 31 * hashCode + Objects.hashCode(defaultStringParam);
+        hashCode = 31 * hashCode + Objects.hashCode(deprecatedParam);
+        hashCode = 31 * hashCode + Objects.hashCode(booleanContextParam);
+        hashCode = 31 * hashCode + Objects.hashCode(stringContextParam);
+        hashCode = 31 * hashCode + Objects.hashCode(operationContextParam);
+        hashCode = 31 * hashCode + Objects.hashCode(customEndpointArray);
+        hashCode = 31 * hashCode + Objects.hashCode(arnList);
+        return hashCode;
+    }
+
     public interface Builder extends CopyableBuilder<Builder, QueryEndpointParams> {
         Builder region(Region region);
 
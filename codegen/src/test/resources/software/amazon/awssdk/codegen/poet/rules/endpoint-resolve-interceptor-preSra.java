@@ -19,6 +19,7 @@ import software.amazon.awssdk.awscore.internal.useragent.BusinessMetricsUtils;
 import software.amazon.awssdk.awscore.util.SignerOverrideUtils;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SelectedAuthScheme;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.Context;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
@@ -70,7 +71,8 @@ public final class QueryResolveEndpointInterceptor implements ExecutionIntercept
         try {
             long resolveEndpointStart = System.nanoTime();
             QueryEndpointParams endpointParams = ruleParams(result, executionAttributes);
-            Endpoint endpoint = provider.resolveEndpoint(endpointParams).join();
+            Endpoint endpoint = EndpointResolutionCache.resolveEndpoint(executionAttributes, provider, endpointParams,
+                    provider::resolveEndpoint);
             Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
             Optional<MetricCollector> metricCollector = executionAttributes
                 .getOptionalAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
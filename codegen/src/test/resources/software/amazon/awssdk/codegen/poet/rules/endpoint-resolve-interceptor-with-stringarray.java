@@ -14,6 +14,7 @@ import software.amazon.awssdk.awscore.endpoints.authscheme.SigV4AuthScheme;
 import software.amazon.awssdk.awscore.endpoints.authscheme.SigV4aAuthScheme;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SelectedAuthScheme;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.Context;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
@@ -49,7 +50,8 @@ public final class SampleSvcResolveEndpointInterceptor implements ExecutionInter
         try {
             long resolveEndpointStart = System.nanoTime();
             SampleSvcEndpointParams endpointParams = ruleParams(result, executionAttributes);
-            Endpoint endpoint = provider.resolveEndpoint(endpointParams).join();
+            Endpoint endpoint = EndpointResolutionCache.resolveEndpoint(executionAttributes, provider, endpointParams,
+                    provider::resolveEndpoint);
             Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
             Optional<MetricCollector> metricCollector = executionAttributes
                 .getOptionalAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
@@ -46,12 +46,12 @@ import software.amazon.awssdk.core.internal.util.HttpChecksumUtils;
 import software.amazon.awssdk.core.signer.Presigner;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SigningKeyCache;
 import software.amazon.awssdk.http.auth.aws.signer.SignerConstant;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
-import software.amazon.awssdk.utils.cache.FifoCache;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
@@ -66,9 +66,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     public static final String EMPTY_STRING_SHA256_HEX = BinaryUtils.toHex(hash(""));
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
-    private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
+    private static final SigningKeyCache SIGNER_CACHE = SigningKeyCache.create();
     private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect", "transfer-encoding", "x-forwarded-for");
 
@@ -227,11 +225,9 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     }
 
     protected final byte[] deriveSigningKey(AwsCredentials credentials, Instant signingInstant, String region, String service) {
-        String cacheKey = createSigningCacheKeyName(credentials, region, service);
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
-
-        if (signerKey != null && signerKey.isValidForDate(signingInstant)) {
-            return signerKey.getSigningKey();
+        byte[] cachedSigningKey = SIGNER_CACHE.get(credentials.secretAccessKey(), region, service, signingInstant);
+        if (cachedSigningKey != null) {
+            return cachedSigningKey;
         }
 
         LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
@@ -240,7 +236,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                 Aws4SignerUtils.formatDateStamp(signingInstant),
                 region,
                 service);
-        SIGNER_CACHE.add(cacheKey, new SignerKey(signingInstant, signingKey));
+        SIGNER_CACHE.put(credentials.secretAccessKey(), region, service, signingInstant, signingKey);
         return signingKey;
     }
 
@@ -282,12 +278,6 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return stringToSign;
     }
 
-    private String createSigningCacheKeyName(AwsCredentials credentials,
-                                             String regionName,
-                                             String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -19,8 +19,6 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.DigestInputStream;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -46,25 +44,9 @@ import software.amazon.awssdk.utils.StringUtils;
 @SdkInternalApi
 public abstract class AbstractAwsSigner implements Signer {
 
-    private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST;
-
-    static {
-        SHA256_MESSAGE_DIGEST = ThreadLocal.withInitial(() -> {
-            try {
-                return MessageDigest.getInstance("SHA-256");
-            } catch (NoSuchAlgorithmException e) {
-                throw SdkClientException.builder()
-                                        .message("Unable to get SHA256 Function" + e.getMessage())
-                                        .cause(e)
-                                        .build();
-            }
-        });
-    }
-
     private static byte[] doHash(String text) throws SdkClientException {
-        try {
-            MessageDigest md = getMessageDigestInstance();
-            md.update(text.getBytes(StandardCharsets.UTF_8));
+        try (DigestAlgorithm.CloseableMessageDigest md = getMessageDigestInstance()) {
+            md.messageDigest().update(text.getBytes(StandardCharsets.UTF_8));
             return md.digest();
         } catch (Exception e) {
             throw SdkClientException.builder()
@@ -75,12 +57,10 @@ public abstract class AbstractAwsSigner implements Signer {
     }
 
     /**
-     * Returns the re-usable thread local version of MessageDigest.
+     * Returns a re-usable SHA-256 MessageDigest, shared by all threads. It must be closed once it is no longer used.
      */
-    private static MessageDigest getMessageDigestInstance() {
-        MessageDigest messageDigest = SHA256_MESSAGE_DIGEST.get();
-        messageDigest.reset();
-        return messageDigest;
+    private static DigestAlgorithm.CloseableMessageDigest getMessageDigestInstance() {
+        return DigestAlgorithm.SHA256.getDigest();
     }
 
     /**
@@ -134,8 +114,8 @@ public abstract class AbstractAwsSigner implements Signer {
     }
 
     protected byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) throws SdkClientException {
-        try {
-            Mac mac = algorithm.getMac();
+        try (SigningAlgorithm.CloseableMac closeableMac = algorithm.getMac()) {
+            Mac mac = closeableMac.mac();
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (Exception e) {
@@ -159,16 +139,15 @@ public abstract class AbstractAwsSigner implements Signer {
     }
 
     byte[] hash(InputStream input, SdkChecksum sdkChecksum) throws SdkClientException {
-        try {
-            MessageDigest md = getMessageDigestInstance();
+        try (DigestAlgorithm.CloseableMessageDigest md = getMessageDigestInstance()) {
             @SuppressWarnings("resource")
             DigestInputStream digestInputStream = new SdkDigestInputStream(
-                    input, md, sdkChecksum);
+                    input, md.messageDigest(), sdkChecksum);
             byte[] buffer = new byte[1024];
             while (digestInputStream.read(buffer) > -1) {
                 ;
             }
-            return digestInputStream.getMessageDigest().digest();
+            return md.digest();
         } catch (Exception e) {
             throw SdkClientException.builder()
                                     .message("Unable to compute hash while signing request: " + e.getMessage())
@@ -186,9 +165,8 @@ public abstract class AbstractAwsSigner implements Signer {
      * @throws SdkClientException If the hash cannot be computed.
      */
     byte[] hash(byte[] data, SdkChecksum sdkChecksum) throws SdkClientException {
-        try {
-            MessageDigest md = getMessageDigestInstance();
-            md.update(data);
+        try (DigestAlgorithm.CloseableMessageDigest md = getMessageDigestInstance()) {
+            md.messageDigest().update(data);
             if (sdkChecksum != null) {
                 sdkChecksum.update(data);
             }
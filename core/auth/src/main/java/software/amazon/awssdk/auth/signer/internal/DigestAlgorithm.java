@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Deque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * The message digests used by the signers of this module, with a cache of released instances that is shared by all threads,
+ * like the one of {@link SigningAlgorithm}.
+ */
+@SdkInternalApi
+public enum DigestAlgorithm {
+
+    SHA256("SHA-256");
+
+    private static final Supplier<MessageDigest> CLOSED_DIGEST = () -> {
+        throw new IllegalStateException("This message digest is closed.");
+    };
+
+    private static final int MAX_CACHED_DIGESTS = 10_000;
+
+    private final String algorithmName;
+    private final Deque<MessageDigest> digestCache = new LinkedBlockingDeque<>(MAX_CACHED_DIGESTS); // LIFO
+
+    DigestAlgorithm(String algorithmName) {
+        this.algorithmName = algorithmName;
+    }
+
+    /**
+     * Returns a {@link CloseableMessageDigest} to use for this algorithm. It must be closed once it is no longer used, so that
+     * the underlying {@link MessageDigest} can be reused.
+     */
+    public CloseableMessageDigest getDigest() {
+        MessageDigest digest = digestCache.pollFirst();
+        if (digest != null) {
+            return new CloseableMessageDigest(digest);
+        }
+        return new CloseableMessageDigest(newDigest());
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(algorithmName);
+        } catch (NoSuchAlgorithmException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to fetch message digest instance for Algorithm "
+                                             + algorithmName + ": " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
+    public final class CloseableMessageDigest implements SdkAutoCloseable {
+        private Supplier<MessageDigest> digest;
+
+        private CloseableMessageDigest(MessageDigest digest) {
+            this.digest = () -> digest;
+        }
+
+        /**
+         * Retrieve the message digest instance.
+         */
+        public MessageDigest messageDigest() {
+            return digest.get();
+        }
+
+        /**
+         * Complete the hash computation and release the message digest back to the cache.
+         */
+        public byte[] digest() {
+            byte[] result = messageDigest().digest();
+            close();
+            return result;
+        }
+
+        /**
+         * Release this message digest back to the cache. Once released, you must not use the digest anymore.
+         */
+        @Override
+        public void close() {
+            if (digest == CLOSED_DIGEST) {
+                return;
+            }
+
+            // Discard any partial input, so that the next user starts from a clean state. Drop this digest if the cache is
+            // full.
+            MessageDigest released = digest.get();
+            released.reset();
+            digestCache.offerFirst(released);
+
+            digest = CLOSED_DIGEST;
+        }
+    }
+}
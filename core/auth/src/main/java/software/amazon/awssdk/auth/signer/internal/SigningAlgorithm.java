@@ -16,48 +16,86 @@
 package software.amazon.awssdk.auth.signer.internal;
 
 import java.security.NoSuchAlgorithmException;
+import java.util.Deque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.Supplier;
 import javax.crypto.Mac;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 @SdkInternalApi
 public enum SigningAlgorithm {
 
     HmacSHA256;
 
-    private final ThreadLocal<Mac> macReference;
+    private static final Supplier<Mac> CLOSED_MAC = () -> {
+        throw new IllegalStateException("This mac is closed.");
+    };
 
-    SigningAlgorithm() {
-        String algorithmName = this.toString();
-        macReference = new MacThreadLocal(algorithmName);
-    }
+    private static final int MAX_CACHED_MACS = 10_000;
+
+    /**
+     * Released {@link Mac} instances, shared by all threads. Unlike a thread local, this doesn't create a new instance for every
+     * (virtual) thread that signs a request.
+     */
+    private final Deque<Mac> macCache = new LinkedBlockingDeque<>(MAX_CACHED_MACS); // LIFO
 
     /**
-     * Returns the thread local reference for the crypto algorithm
+     * Returns a {@link CloseableMac} to use for this algorithm. It must be closed once it is no longer used, so that the
+     * underlying {@link Mac} can be reused.
      */
-    public Mac getMac() {
-        return macReference.get();
+    public CloseableMac getMac() {
+        Mac mac = macCache.pollFirst();
+        if (mac != null) {
+            return new CloseableMac(mac);
+        }
+        return new CloseableMac(newMac());
+    }
+
+    private Mac newMac() {
+        String algorithmName = this.toString();
+        try {
+            return Mac.getInstance(algorithmName);
+        } catch (NoSuchAlgorithmException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to fetch Mac instance for Algorithm "
+                                             + algorithmName + e.getMessage())
+                                    .cause(e)
+                                    .build();
+
+        }
     }
 
-    private static class MacThreadLocal extends ThreadLocal<Mac> {
-        private final String algorithmName;
+    public final class CloseableMac implements SdkAutoCloseable {
+        private Supplier<Mac> mac;
 
-        MacThreadLocal(String algorithmName) {
-            this.algorithmName = algorithmName;
+        private CloseableMac(Mac mac) {
+            this.mac = () -> mac;
         }
 
-        @Override
-        protected Mac initialValue() {
-            try {
-                return Mac.getInstance(algorithmName);
-            } catch (NoSuchAlgorithmException e) {
-                throw SdkClientException.builder()
-                                        .message("Unable to fetch Mac instance for Algorithm "
-                                                 + algorithmName + e.getMessage())
-                                        .cause(e)
-                                        .build();
+        /**
+         * Retrieve the mac instance. It must be initialized with a key before it is used.
+         */
+        public Mac mac() {
+            return mac.get();
+        }
 
+        /**
+         * Release this mac back to the cache. Once released, you must not use the mac anymore.
+         */
+        @Override
+        public void close() {
+            if (mac == CLOSED_MAC) {
+                return;
             }
+
+            // Discard any partial input, so that the next user starts from a clean state. Drop this mac if the cache is full.
+            Mac released = mac.get();
+            released.reset();
+            macCache.offerFirst(released);
+
+            mac = CLOSED_MAC;
         }
     }
 }
@@ -20,7 +20,6 @@ import static software.amazon.awssdk.auth.signer.internal.util.HeaderTransformsH
 
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -30,6 +29,7 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.signer.internal.AbstractAws4Signer;
+import software.amazon.awssdk.auth.signer.internal.DigestAlgorithm;
 import software.amazon.awssdk.auth.signer.internal.SigningAlgorithm;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -37,6 +37,9 @@ import software.amazon.awssdk.utils.BinaryUtils;
 /**
  * An implementation of AwsChunkSigner that can calculate a Sigv4 compatible chunk
  * signature.
+ *
+ * <p>The {@link java.security.MessageDigest} used for each chunk is borrowed from a shared cache. The {@link Mac} is created
+ * and initialized with the signing key once per signer, because every chunk of a request is signed with the same key.
  */
 @SdkInternalApi
 public class AwsS3V4ChunkSigner implements AwsChunkSigner {
@@ -47,20 +50,13 @@ public class AwsS3V4ChunkSigner implements AwsChunkSigner {
 
     private final String dateTime;
     private final String keyPath;
-    private final MessageDigest sha256;
-    private final MessageDigest sha256ForTrailer;
     private final Mac hmacSha256;
-    private final Mac trailerHmacSha256;
 
     public AwsS3V4ChunkSigner(byte[] signingKey, String datetime, String keyPath) {
         try {
-            this.sha256 = MessageDigest.getInstance("SHA-256");
-            this.sha256ForTrailer = MessageDigest.getInstance("SHA-256");
             String signingAlgo = SigningAlgorithm.HmacSHA256.toString();
             this.hmacSha256 = Mac.getInstance(signingAlgo);
             hmacSha256.init(new SecretKeySpec(signingKey, signingAlgo));
-            trailerHmacSha256 = Mac.getInstance(signingAlgo);
-            trailerHmacSha256.init(new SecretKeySpec(signingKey, signingAlgo));
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException(e);
         } catch (InvalidKeyException e) {
@@ -78,7 +74,7 @@ public class AwsS3V4ChunkSigner implements AwsChunkSigner {
             keyPath + "\n" +
             previousSignature + "\n" +
             AbstractAws4Signer.EMPTY_STRING_SHA256_HEX + "\n" +
-            BinaryUtils.toHex(sha256.digest(chunkData));
+            BinaryUtils.toHex(sha256(chunkData));
         try {
             byte[] bytes = hmacSha256.doFinal(chunkStringToSign.getBytes(StandardCharsets.UTF_8));
             return BinaryUtils.toHex(bytes);
@@ -109,8 +105,15 @@ public class AwsS3V4ChunkSigner implements AwsChunkSigner {
             dateTime + "\n" +
             keyPath + "\n" +
             previousSignature + "\n" +
-            BinaryUtils.toHex(sha256ForTrailer.digest(canonicalizedHeaderString.getBytes(StandardCharsets.UTF_8)));
-        return BinaryUtils.toHex(trailerHmacSha256.doFinal(chunkStringToSign.getBytes(StandardCharsets.UTF_8)));
+            BinaryUtils.toHex(sha256(canonicalizedHeaderString.getBytes(StandardCharsets.UTF_8)));
+        return BinaryUtils.toHex(hmacSha256.doFinal(chunkStringToSign.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try (DigestAlgorithm.CloseableMessageDigest digest = DigestAlgorithm.SHA256.getDigest()) {
+            digest.messageDigest().update(data);
+            return digest.digest();
+        }
     }
 
 
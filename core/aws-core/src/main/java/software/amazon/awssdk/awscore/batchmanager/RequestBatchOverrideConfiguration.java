@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.awscore.batchmanager;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration values for the batch managers that buffer individual requests and send them to a service as batch requests.
+ * All values are optional, and default values will be used if they are not specified.
+ */
+@SdkPublicApi
+public final class RequestBatchOverrideConfiguration
+    implements ToCopyableBuilder<RequestBatchOverrideConfiguration.Builder, RequestBatchOverrideConfiguration> {
+
+    private final Integer maxBatchSize;
+    private final Duration sendRequestFrequency;
+
+    private RequestBatchOverrideConfiguration(Builder builder) {
+        this.maxBatchSize = Validate.isPositiveOrNull(builder.maxBatchSize, "maxBatchSize");
+        this.sendRequestFrequency = Validate.isPositiveOrNull(builder.sendRequestFrequency, "sendRequestFrequency");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of items that can be batched together in a single outbound batch request. A batch manager
+     *         rejects a value greater than the number of entries its service accepts in one batch request, and uses that
+     *         number when no value is set.
+     */
+    public Integer maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum duration an outgoing call waits for additional requests with the same batch key before being sent.
+     *         If the {@link #maxBatchSize()} is reached before this duration, the batch will be sent immediately.
+     *         The default value is 200 milliseconds.
+     */
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder()
+            .maxBatchSize(maxBatchSize)
+            .sendRequestFrequency(sendRequestFrequency);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("RequestBatchOverrideConfiguration")
+                       .add("maxBatchSize", maxBatchSize)
+                       .add("sendRequestFrequency", sendRequestFrequency)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        RequestBatchOverrideConfiguration that = (RequestBatchOverrideConfiguration) o;
+
+        if (maxBatchSize != null ? !maxBatchSize.equals(that.maxBatchSize) : that.maxBatchSize != null) {
+            return false;
+        }
+        return sendRequestFrequency != null ? sendRequestFrequency.equals(that.sendRequestFrequency) :
+               that.sendRequestFrequency == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxBatchSize != null ? maxBatchSize.hashCode() : 0;
+        result = 31 * result + (sendRequestFrequency != null ? sendRequestFrequency.hashCode() : 0);
+        return result;
+    }
+
+    public static final class Builder implements CopyableBuilder<Builder, RequestBatchOverrideConfiguration> {
+
+        private Integer maxBatchSize;
+        private Duration sendRequestFrequency;
+
+        private Builder() {
+        }
+
+        /**
+         * Specifies the maximum number of items that the batch manager will include in a single outbound batch request.
+         *
+         * @param maxBatchSize The maximum number of items to be batched together in a single request.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Specifies the frequency at which outbound batches are sent. This defines the maximum duration that an outbound batch
+         * is held open for additional requests before being sent. If the maxBatchSize is reached before this duration, the
+         * batch will be sent immediately. The default value is 200 milliseconds.
+         *
+         * @param sendRequestFrequency The new value for the frequency at which outbound requests are sent.
+         * @return This Builder object for method chaining.
+         */
+        public Builder sendRequestFrequency(Duration sendRequestFrequency) {
+            this.sendRequestFrequency = sendRequestFrequency;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link RequestBatchOverrideConfiguration} object based on the values set in this builder.
+         *
+         * @return A new {@link RequestBatchOverrideConfiguration} object.
+         */
+        @Override
+        public RequestBatchOverrideConfiguration build() {
+            return new RequestBatchOverrideConfiguration(this);
+        }
+    }
+}
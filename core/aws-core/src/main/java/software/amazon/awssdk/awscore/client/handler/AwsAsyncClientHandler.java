@@ -60,6 +60,7 @@ public final class AwsAsyncClientHandler extends SdkAsyncClientHandler implement
     protected <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext
         invokeInterceptorsAndCreateExecutionContext(ClientExecutionParams<InputT, OutputT> executionParams) {
         SdkClientConfiguration clientConfiguration = resolveRequestConfiguration(executionParams);
-        return AwsExecutionContextBuilder.invokeInterceptorsAndCreateExecutionContext(executionParams, clientConfiguration);
+        return AwsExecutionContextBuilder.invokeInterceptorsAndCreateExecutionContext(
+            executionParams, clientConfiguration, resolveInterceptorChain(clientConfiguration));
     }
 }
@@ -64,7 +64,8 @@ public final class AwsSyncClientHandler extends SdkSyncClientHandler implements
     protected <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext
         invokeInterceptorsAndCreateExecutionContext(ClientExecutionParams<InputT, OutputT> executionParams) {
         SdkClientConfiguration clientConfiguration = resolveRequestConfiguration(executionParams);
-        return AwsExecutionContextBuilder.invokeInterceptorsAndCreateExecutionContext(executionParams, clientConfiguration);
+        return AwsExecutionContextBuilder.invokeInterceptorsAndCreateExecutionContext(
+            executionParams, clientConfiguration, resolveInterceptorChain(clientConfiguration));
     }
 
     private <InputT extends SdkRequest, OutputT> ClientExecutionParams<InputT, OutputT> addCrc32Validation(
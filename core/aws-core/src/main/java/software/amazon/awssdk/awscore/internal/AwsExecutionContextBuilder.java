@@ -54,6 +54,7 @@ import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.internal.util.HttpChecksumResolver;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.core.useragent.AdditionalMetadata;
@@ -80,11 +81,24 @@ public final class AwsExecutionContextBuilder {
     public static <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext
         invokeInterceptorsAndCreateExecutionContext(ClientExecutionParams<InputT, OutputT> executionParams,
                                                 SdkClientConfiguration clientConfig) {
+        return invokeInterceptorsAndCreateExecutionContext(
+            executionParams, clientConfig,
+            new ExecutionInterceptorChain(clientConfig.option(SdkClientOption.EXECUTION_INTERCEPTORS)));
+    }
+
+    /**
+     * Used by both sync and async clients to create the execution context, and run initial interceptors, using an interceptor
+     * chain created ahead of time for the provided configuration.
+     */
+    public static <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext
+        invokeInterceptorsAndCreateExecutionContext(ClientExecutionParams<InputT, OutputT> executionParams,
+                                                SdkClientConfiguration clientConfig,
+                                                ExecutionInterceptorChain executionInterceptorChain) {
         // Note: This is currently copied to DefaultS3Presigner and other presigners.
         // Don't edit this without considering those
 
         SdkRequest originalRequest = executionParams.getInput();
-        MetricCollector metricCollector = resolveMetricCollector(executionParams);
+        MetricCollector metricCollector = resolveMetricCollector(executionParams, clientConfig);
 
         ExecutionAttributes executionAttributes = mergeExecutionAttributeOverrides(
             executionParams.executionAttributes(),
@@ -121,6 +135,8 @@ public final class AwsExecutionContextBuilder {
                           clientConfig.option(SdkClientOption.CLIENT_ENDPOINT_PROVIDER))
             .putAttribute(SdkInternalExecutionAttribute.ENDPOINT_PROVIDER,
                           resolveEndpointProvider(originalRequest, clientConfig))
+            .putAttribute(SdkInternalExecutionAttribute.ENDPOINT_RESOLUTION_CACHE,
+                          clientConfig.option(SdkClientOption.ENDPOINT_RESOLUTION_CACHE))
             .putAttribute(SdkInternalExecutionAttribute.CLIENT_CONTEXT_PARAMS,
                           clientConfig.option(SdkClientOption.CLIENT_CONTEXT_PARAMS))
             .putAttribute(SdkInternalExecutionAttribute.DISABLE_HOST_PREFIX_INJECTION,
@@ -144,9 +160,6 @@ public final class AwsExecutionContextBuilder {
         // Auth Scheme resolution related attributes
         putAuthSchemeResolutionAttributes(executionAttributes, clientConfig, originalRequest);
 
-        ExecutionInterceptorChain executionInterceptorChain =
-            new ExecutionInterceptorChain(clientConfig.option(SdkClientOption.EXECUTION_INTERCEPTORS));
-
         InterceptorContext interceptorContext = InterceptorContext.builder()
                                                                   .request(originalRequest)
                                                                   .asyncRequestBody(executionParams.getAsyncRequestBody())
@@ -333,10 +346,11 @@ public final class AwsExecutionContextBuilder {
         return executionAttributes;
     }
 
-    private static MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params) {
+    private static MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params,
+                                                          SdkClientConfiguration clientConfig) {
         MetricCollector metricCollector = params.getMetricCollector();
         if (metricCollector == null) {
-            metricCollector = MetricCollector.create("ApiCall");
+            metricCollector = MetricUtils.createApiCallMetricCollector(clientConfig);
         }
         return metricCollector;
     }
@@ -13,13 +13,13 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.services.sqs.internal.batchmanager;
+package software.amazon.awssdk.awscore.internal.batchmanager;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
 
-@SdkInternalApi
+@SdkProtectedApi
 public final class BatchingExecutionContext<RequestT, ResponseT> {
 
     private final RequestT request;
@@ -28,9 +28,14 @@ public final class BatchingExecutionContext<RequestT, ResponseT> {
     private final Optional<Integer> responsePayloadByteSize;
 
     public BatchingExecutionContext(RequestT request, CompletableFuture<ResponseT> response) {
+        this(request, response, Optional.empty());
+    }
+
+    public BatchingExecutionContext(RequestT request, CompletableFuture<ResponseT> response,
+                                    Optional<Integer> responsePayloadByteSize) {
         this.request = request;
         this.response = response;
-        responsePayloadByteSize = RequestPayloadCalculator.calculateMessageSize(request);
+        this.responsePayloadByteSize = responsePayloadByteSize;
     }
 
     public RequestT request() {
@@ -42,7 +47,7 @@ public final class BatchingExecutionContext<RequestT, ResponseT> {
     }
 
     /**
-     * Optional because responsePayloadByteSize is required only for SendMessageRequests and not for other requests.
+     * Optional because the payload size is only calculated for requests whose batches are limited in bytes.
      */
     public Optional<Integer> responsePayloadByteSize() {
         return responsePayloadByteSize;
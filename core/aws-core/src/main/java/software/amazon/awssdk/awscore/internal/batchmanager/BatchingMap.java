@@ -13,31 +13,40 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.services.sqs.internal.batchmanager;
+package software.amazon.awssdk.awscore.internal.batchmanager;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
 
 /**
  * Outer map maps a batchKey (ex. queueUrl, overrideConfig etc.) to a {@link RequestBatchBuffer}
  *
  * @param <RequestT> the type of an outgoing response
  */
-@SdkInternalApi
+@SdkProtectedApi
 public final class BatchingMap<RequestT, ResponseT> {
 
     private final int maxBatchKeys;
     private final int maxBatchBytesSize;
     private final int maxBatchSize;
     private final int maxBufferSize;
+    private final Function<RequestT, Optional<Integer>> payloadSizeCalculator;
     private final Map<String, RequestBatchBuffer<RequestT, ResponseT>> batchContextMap;
 
     public BatchingMap(RequestBatchConfiguration overrideConfiguration) {
+        this(overrideConfiguration, r -> Optional.empty());
+    }
+
+    public BatchingMap(RequestBatchConfiguration overrideConfiguration,
+                       Function<RequestT, Optional<Integer>> payloadSizeCalculator) {
+        this.payloadSizeCalculator = payloadSizeCalculator;
         this.batchContextMap = new ConcurrentHashMap<>();
         this.maxBatchKeys = overrideConfiguration.maxBatchKeys();
         this.maxBatchBytesSize = overrideConfiguration.maxBatchBytesSize();
@@ -51,7 +60,8 @@ public final class BatchingMap<RequestT, ResponseT> {
             if (batchContextMap.size() == maxBatchKeys) {
                 throw new IllegalStateException("Reached MaxBatchKeys of: " + maxBatchKeys);
             }
-            return new RequestBatchBuffer<>(scheduleFlush.get(), maxBatchSize, maxBatchBytesSize, maxBufferSize);
+            return new RequestBatchBuffer<>(scheduleFlush.get(), maxBatchSize, maxBatchBytesSize, maxBufferSize,
+                                            payloadSizeCalculator);
         }).put(request, response);
     }
 
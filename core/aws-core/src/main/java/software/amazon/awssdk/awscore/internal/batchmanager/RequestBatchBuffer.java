@@ -13,20 +13,22 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.services.sqs.internal.batchmanager;
+package software.amazon.awssdk.awscore.internal.batchmanager;
 
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
 
-@SdkInternalApi
+@SdkProtectedApi
 public final class RequestBatchBuffer<RequestT, ResponseT> {
     private final Object flushLock = new Object();
     private final Object scheduledFlushLock = new Object();
@@ -35,6 +37,7 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
     private final int maxBatchItems;
     private final int maxBufferSize;
     private final int maxBatchSizeInBytes;
+    private final Function<RequestT, Optional<Integer>> payloadSizeCalculator;
     /**
      * Batch entries in a batch request require a unique ID so nextId keeps track of the ID to assign to the next
      * BatchingExecutionContext. For simplicity, the ID is just an integer that is incremented everytime a new request and
@@ -55,6 +58,12 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
 
     public RequestBatchBuffer(ScheduledFuture<?> scheduledFlush,
                               int maxBatchItems, int maxBatchSizeInBytes, int maxBufferSize) {
+        this(scheduledFlush, maxBatchItems, maxBatchSizeInBytes, maxBufferSize, r -> Optional.empty());
+    }
+
+    public RequestBatchBuffer(ScheduledFuture<?> scheduledFlush,
+                              int maxBatchItems, int maxBatchSizeInBytes, int maxBufferSize,
+                              Function<RequestT, Optional<Integer>> payloadSizeCalculator) {
         this.idToBatchContext = new ConcurrentHashMap<>();
         this.nextId = 0;
         this.nextBatchEntry = 0;
@@ -62,6 +71,7 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
         this.maxBatchItems = maxBatchItems;
         this.maxBufferSize = maxBufferSize;
         this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+        this.payloadSizeCalculator = payloadSizeCalculator;
     }
 
     public Map<String, BatchingExecutionContext<RequestT, ResponseT>> extractBatchIfReady() {
@@ -80,7 +90,7 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
     public Map<String, BatchingExecutionContext<RequestT, ResponseT>> extractBatchIfSizeExceeded(RequestT request) {
         synchronized (flushLock) {
             if (maxBatchSizeInBytes > 0 && !idToBatchContext.isEmpty()) {
-                int incomingRequestBytes = RequestPayloadCalculator.calculateMessageSize(request).orElse(0);
+                int incomingRequestBytes = payloadSizeCalculator.apply(request).orElse(0);
                 if (isByteSizeThresholdCrossed(incomingRequestBytes)) {
                     return extractEntries(maxBatchItems);
                 }
@@ -130,7 +140,7 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
                 nextId = 0;
             }
             String id = Integer.toString(nextId++);
-            idToBatchContext.put(id, new BatchingExecutionContext<>(request, response));
+            idToBatchContext.put(id, new BatchingExecutionContext<>(request, response, payloadSizeCalculator.apply(request)));
         }
     }
 
@@ -13,13 +13,13 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.services.sqs.internal.batchmanager;
+package software.amazon.awssdk.awscore.internal.batchmanager;
 
 import java.time.Duration;
-import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchOverrideConfiguration;
 
-@SdkInternalApi
+@SdkProtectedApi
 public final class RequestBatchConfiguration {
 
     public static final int DEFAULT_MAX_BATCH_ITEMS = 10;
@@ -50,12 +50,11 @@ public final class RequestBatchConfiguration {
         return new Builder();
     }
 
-    public static Builder builder(BatchOverrideConfiguration configuration) {
+    public static Builder builder(RequestBatchOverrideConfiguration configuration) {
         if (configuration != null) {
             return new Builder()
                 .maxBatchItems(configuration.maxBatchSize())
-                .sendRequestFrequency(configuration.sendRequestFrequency())
-                .maxBatchBytesSize(configuration.maxBatchSize());
+                .sendRequestFrequency(configuration.sendRequestFrequency());
         }
         return new Builder();
     }
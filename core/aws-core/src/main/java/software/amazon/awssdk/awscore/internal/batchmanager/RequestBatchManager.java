@@ -13,7 +13,7 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.services.sqs.internal.batchmanager;
+package software.amazon.awssdk.awscore.internal.batchmanager;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -27,13 +27,22 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import software.amazon.awssdk.annotations.SdkInternalApi;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.ApiName;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
 
-@SdkInternalApi
+/**
+ * Coalesces individual requests into batch requests. Requests are grouped by the batch key returned by
+ * {@link #getBatchKey(Object)}, and a batch is sent when it reaches the configured number of items or bytes, or when the
+ * configured send request frequency elapses. Each entry of the batch response completes the future of its request.
+ * <p>
+ * Subclasses build and send the batch request in {@link #batchAndSend(List, String)}, and map the batch response back to the
+ * individual requests in {@link #mapBatchResponse(List, Object)}, either by the ID or by the position of each entry.
+ */
+@SdkProtectedApi
 public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
 
 
@@ -53,13 +62,23 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
 
     protected RequestBatchManager(RequestBatchConfiguration overrideConfiguration,
                                   ScheduledExecutorService scheduledExecutor) {
+        this(overrideConfiguration, scheduledExecutor, r -> Optional.empty());
+    }
+
+    /**
+     * @param payloadSizeCalculator the size in bytes that a request adds to a batch, used when the configuration limits the
+     *                              bytes of a batch
+     */
+    protected RequestBatchManager(RequestBatchConfiguration overrideConfiguration,
+                                  ScheduledExecutorService scheduledExecutor,
+                                  Function<RequestT, Optional<Integer>> payloadSizeCalculator) {
         batchConfiguration = overrideConfiguration;
         this.maxBatchItems = batchConfiguration.maxBatchItems();
         this.sendRequestFrequency = batchConfiguration.sendRequestFrequency();
         this.scheduledExecutor = Validate.notNull(scheduledExecutor, "Null scheduledExecutor");
         pendingBatchResponses = ConcurrentHashMap.newKeySet();
         pendingResponses = ConcurrentHashMap.newKeySet();
-        this.requestsAndResponsesMaps = new BatchingMap<>(overrideConfiguration);
+        this.requestsAndResponsesMaps = new BatchingMap<>(overrideConfiguration, payloadSizeCalculator);
 
     }
 
@@ -102,8 +121,14 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
 
     protected abstract String getBatchKey(RequestT request);
 
+    /**
+     * Map the entries of a batch response to the IDs of the requests they belong to, given the requests in the order in
+     * which they were passed to {@link #batchAndSend(List, String)}. Managers whose batch response identifies its entries by
+     * their ID can ignore the requests; the others map the entries by their position in the batch request.
+     */
     protected abstract List<Either<IdentifiableMessage<ResponseT>,
-        IdentifiableMessage<Throwable>>> mapBatchResponse(BatchResponseT batchResponse);
+        IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<RequestT>> identifiedRequests,
+                                                          BatchResponseT batchResponse);
 
     private void manualFlushBuffer(String batchKey,
                                    Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests) {
@@ -122,19 +147,20 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
             CompletableFuture<BatchResponseT> pendingBatchingRequest = batchAndSend(requestEntries, batchKey);
             pendingBatchResponses.add(pendingBatchingRequest);
             pendingBatchingRequest.whenComplete((result, ex) -> {
-                handleAndCompleteResponses(result, ex, flushableRequests);
+                handleAndCompleteResponses(requestEntries, result, ex, flushableRequests);
                 pendingBatchResponses.remove(pendingBatchingRequest);
             });
         }
     }
 
-    private void handleAndCompleteResponses(BatchResponseT batchResult, Throwable exception,
+    private void handleAndCompleteResponses(List<IdentifiableMessage<RequestT>> requestEntries,
+                                            BatchResponseT batchResult, Throwable exception,
                                             Map<String, BatchingExecutionContext<RequestT, ResponseT>> requests) {
         if (exception != null) {
             requests.forEach((contextId, batchExecutionContext) -> batchExecutionContext.response()
                                                                                         .completeExceptionally(exception));
         } else {
-            mapBatchResponse(batchResult)
+            mapBatchResponse(requestEntries, batchResult)
                 .forEach(
                     response -> response.map(actualResponse -> requests.get(actualResponse.id())
                                                                        .response()
@@ -29,7 +29,11 @@ public final class Crc64NvmeChecksum implements SdkChecksum {
     private final SdkChecksum sdkChecksum;
 
     public Crc64NvmeChecksum() {
-        this.sdkChecksum = ChecksumProvider.crc64NvmeCrtImplementation();
+        this(ChecksumProvider.crc64NvmeImplementation());
+    }
+
+    Crc64NvmeChecksum(SdkChecksum sdkChecksum) {
+        this.sdkChecksum = sdkChecksum;
     }
 
     @Override
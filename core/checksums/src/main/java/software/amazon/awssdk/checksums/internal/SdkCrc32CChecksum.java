@@ -564,6 +564,21 @@ public final class SdkCrc32CChecksum implements Checksum, Cloneable {
     };
     private static final long POLYNOMIAL = 0x82F63B78;
 
+    private static final int T8_8_START = 0;
+    private static final int T8_9_START = 256;
+    private static final int T8_10_START = 2 * 256;
+    private static final int T8_11_START = 3 * 256;
+    private static final int T8_12_START = 4 * 256;
+    private static final int T8_13_START = 5 * 256;
+    private static final int T8_14_START = 6 * 256;
+    private static final int T8_15_START = 7 * 256;
+
+    /**
+     * Tables T8_8 through T8_15, derived from {@link #T} when the class is loaded. Together with {@link #T} they let
+     * {@link #update(byte[], int, int)} consume 16 bytes per iteration (slice-by-16).
+     */
+    private static final int[] T16 = extendTables();
+
     private static final long[][] COMBINE_MATRICES = CrcCombineChecksumUtil.generateCombineMatrices(POLYNOMIAL);
     /**
      * the current CRC value, bit-flipped
@@ -610,6 +625,30 @@ public final class SdkCrc32CChecksum implements Checksum, Cloneable {
     public void update(byte[] b, int off, int len) {
         int localCrc = crc;
 
+        while (len > 15) {
+            int c0 = (b[off] ^ localCrc) & 0xff;
+            localCrc >>>= 8;
+            int c1 = (b[off + 1] ^ localCrc) & 0xff;
+            localCrc >>>= 8;
+            int c2 = (b[off + 2] ^ localCrc) & 0xff;
+            localCrc >>>= 8;
+            int c3 = (b[off + 3] ^ localCrc) & 0xff;
+            localCrc = T16[T8_15_START + c0] ^ T16[T8_14_START + c1] ^
+                       T16[T8_13_START + c2] ^ T16[T8_12_START + c3];
+
+            localCrc ^= T16[T8_11_START + (b[off + 4] & 0xff)] ^ T16[T8_10_START + (b[off + 5] & 0xff)] ^
+                        T16[T8_9_START + (b[off + 6] & 0xff)] ^ T16[T8_8_START + (b[off + 7] & 0xff)];
+
+            localCrc ^= T[T8_7_START + (b[off + 8] & 0xff)] ^ T[T8_6_START + (b[off + 9] & 0xff)] ^
+                        T[T8_5_START + (b[off + 10] & 0xff)] ^ T[T_8_4_START + (b[off + 11] & 0xff)];
+
+            localCrc ^= T[T8_3_START + (b[off + 12] & 0xff)] ^ T[T8_2_START + (b[off + 13] & 0xff)] ^
+                        T[T8_1_START + (b[off + 14] & 0xff)] ^ T[T8_0_START + (b[off + 15] & 0xff)];
+
+            off += 16;
+            len -= 16;
+        }
+
         while (len > 7) {
             int c0 = (b[off] ^ localCrc) & 0xff;
             localCrc >>>= 8;
@@ -651,4 +690,19 @@ public final class SdkCrc32CChecksum implements Checksum, Cloneable {
     public SdkCrc32CChecksum clone() {
         return new SdkCrc32CChecksum(crc);
     }
+
+    /**
+     * Each table advances the entries of the previous one by a further zero byte, continuing on from T8_7.
+     */
+    private static int[] extendTables() {
+        int[] tables = new int[8 * 256];
+        for (int i = 0; i < 256; i++) {
+            int value = T[T8_7_START + i];
+            for (int table = 0; table < 8; table++) {
+                value = (value >>> 8) ^ T[T8_0_START + (value & 0xff)];
+                tables[table * 256 + i] = value;
+            }
+        }
+        return tables;
+    }
 }
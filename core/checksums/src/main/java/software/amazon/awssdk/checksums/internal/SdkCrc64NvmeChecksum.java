@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Pure Java implementation of CRC64NVME, used when the AWS CRT library is not on the classpath.
+ * <p>
+ * The checksum is computed with the slice-by-16 algorithm: sixteen 256-entry lookup tables, generated when the class is loaded,
+ * let {@link #update(byte[], int, int)} consume 16 bytes per iteration with independent table lookups instead of one byte at a
+ * time.
+ */
+@SdkInternalApi
+public final class SdkCrc64NvmeChecksum implements Checksum, Cloneable {
+
+    /**
+     * The CRC64NVME polynomial 0xAD93D23594C93659, bit-reflected.
+     */
+    private static final long POLYNOMIAL = 0x9A6C9329AC4BC9B5L;
+
+    private static final int TABLE_COUNT = 16;
+
+    /**
+     * Table {@code n} starts at {@code n * 256} and holds the CRC of each byte value followed by {@code n} zero bytes.
+     */
+    private static final long[] T = generateTables();
+
+    /**
+     * the current CRC value, bit-flipped
+     */
+    private long crc;
+
+    private SdkCrc64NvmeChecksum() {
+        reset();
+    }
+
+    private SdkCrc64NvmeChecksum(long crc) {
+        this.crc = crc;
+    }
+
+    public static SdkCrc64NvmeChecksum create() {
+        return new SdkCrc64NvmeChecksum();
+    }
+
+    @Override
+    public long getValue() {
+        return ~crc;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0xFFFFFFFFFFFFFFFFL;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        long localCrc = crc;
+
+        while (len > 15) {
+            long low = localCrc ^ littleEndianLong(b, off);
+            long high = littleEndianLong(b, off + 8);
+
+            localCrc = T[15 * 256 + (int) (low & 0xff)] ^ T[14 * 256 + (int) ((low >>> 8) & 0xff)] ^
+                       T[13 * 256 + (int) ((low >>> 16) & 0xff)] ^ T[12 * 256 + (int) ((low >>> 24) & 0xff)] ^
+                       T[11 * 256 + (int) ((low >>> 32) & 0xff)] ^ T[10 * 256 + (int) ((low >>> 40) & 0xff)] ^
+                       T[9 * 256 + (int) ((low >>> 48) & 0xff)] ^ T[8 * 256 + (int) (low >>> 56)] ^
+                       T[7 * 256 + (int) (high & 0xff)] ^ T[6 * 256 + (int) ((high >>> 8) & 0xff)] ^
+                       T[5 * 256 + (int) ((high >>> 16) & 0xff)] ^ T[4 * 256 + (int) ((high >>> 24) & 0xff)] ^
+                       T[3 * 256 + (int) ((high >>> 32) & 0xff)] ^ T[2 * 256 + (int) ((high >>> 40) & 0xff)] ^
+                       T[256 + (int) ((high >>> 48) & 0xff)] ^ T[(int) (high >>> 56)];
+
+            off += 16;
+            len -= 16;
+        }
+
+        for (int index = 0; index < len; index++) {
+            localCrc = (localCrc >>> 8) ^ T[(int) ((localCrc ^ b[off]) & 0xff)];
+            off++;
+        }
+
+        // Publish crc out to object
+        crc = localCrc;
+    }
+
+    @Override
+    public void update(int b) {
+        crc = (crc >>> 8) ^ T[(int) ((crc ^ b) & 0xff)];
+    }
+
+    @Override
+    public SdkCrc64NvmeChecksum clone() {
+        return new SdkCrc64NvmeChecksum(crc);
+    }
+
+    private static long littleEndianLong(byte[] b, int off) {
+        return (b[off] & 0xffL)
+               | (b[off + 1] & 0xffL) << 8
+               | (b[off + 2] & 0xffL) << 16
+               | (b[off + 3] & 0xffL) << 24
+               | (b[off + 4] & 0xffL) << 32
+               | (b[off + 5] & 0xffL) << 40
+               | (b[off + 6] & 0xffL) << 48
+               | (b[off + 7] & 0xffL) << 56;
+    }
+
+    private static long[] generateTables() {
+        long[] tables = new long[TABLE_COUNT * 256];
+        for (int i = 0; i < 256; i++) {
+            long value = i;
+            for (int bit = 0; bit < 8; bit++) {
+                value = (value & 1) != 0 ? (value >>> 1) ^ POLYNOMIAL : value >>> 1;
+            }
+            tables[i] = value;
+        }
+        for (int i = 0; i < 256; i++) {
+            long value = tables[i];
+            for (int table = 1; table < TABLE_COUNT; table++) {
+                value = (value >>> 8) ^ tables[(int) (value & 0xff)];
+                tables[table * 256 + i] = value;
+            }
+        }
+        return tables;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SdkImplementedCrc64NvmeChecksumTest extends Crc64NvmeChecksumTest {
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        sdkChecksum = new Crc64NvmeChecksum(ChecksumProvider.createSdkBasedCrc64Nvme());
+    }
+
+    @Test
+    void checkValue_matchesCrc64NvmeSpecification() {
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        byte[] bytes = "123456789".getBytes(StandardCharsets.UTF_8);
+        checksum.update(bytes, 0, bytes.length);
+        assertThat(checksum.getValue()).isEqualTo(0xAE8B14860A799888L);
+    }
+
+    @Test
+    void updateArray_matchesByteAtATimeUpdate_forAllOffsetsAndLengths() {
+        byte[] data = new byte[100];
+        new Random(1234).nextBytes(data);
+
+        for (int off = 0; off < 17; off++) {
+            for (int len = 0; len <= data.length - off; len++) {
+                SdkCrc64NvmeChecksum sliced = SdkCrc64NvmeChecksum.create();
+                sliced.update(data, off, len);
+
+                SdkCrc64NvmeChecksum byteAtATime = SdkCrc64NvmeChecksum.create();
+                for (int i = off; i < off + len; i++) {
+                    byteAtATime.update(data[i]);
+                }
+
+                assertThat(sliced.getValue()).as("off=%d, len=%d", off, len).isEqualTo(byteAtATime.getValue());
+            }
+        }
+    }
+}
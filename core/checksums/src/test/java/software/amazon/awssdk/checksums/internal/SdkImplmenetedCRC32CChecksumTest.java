@@ -15,7 +15,11 @@
 
 package software.amazon.awssdk.checksums.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
 public class SdkImplmenetedCRC32CChecksumTest extends Crc32CChecksumTest {
 
@@ -23,4 +27,24 @@ public class SdkImplmenetedCRC32CChecksumTest extends Crc32CChecksumTest {
     public void setUp() {
         sdkChecksum = ChecksumProvider.createSdkBasedCrc32C();
     }
+
+    @Test
+    public void updateArray_matchesByteAtATimeUpdate_forAllOffsetsAndLengths() {
+        byte[] data = new byte[100];
+        new Random(1234).nextBytes(data);
+
+        for (int off = 0; off < 17; off++) {
+            for (int len = 0; len <= data.length - off; len++) {
+                SdkCrc32CChecksum sliced = SdkCrc32CChecksum.create();
+                sliced.update(data, off, len);
+
+                SdkCrc32CChecksum byteAtATime = SdkCrc32CChecksum.create();
+                for (int i = off; i < off + len; i++) {
+                    byteAtATime.update(data[i]);
+                }
+
+                assertThat(sliced.getValue()).as("off=%d, len=%d", off, len).isEqualTo(byteAtATime.getValue());
+            }
+        }
+    }
 }
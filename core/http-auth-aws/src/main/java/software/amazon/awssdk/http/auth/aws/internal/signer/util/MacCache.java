@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.Deque;
+import java.util.concurrent.LinkedBlockingDeque;
+import javax.crypto.Mac;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+
+/**
+ * Released {@link Mac} instances of one algorithm, shared by all threads. Unlike a thread local, this doesn't create a new
+ * instance for every (virtual) thread that signs a request.
+ */
+@SdkInternalApi
+final class MacCache {
+    private final String algorithmName;
+    private final Deque<Mac> macs; // LIFO
+
+    MacCache(String algorithmName, int maxCachedMacs) {
+        this.algorithmName = algorithmName;
+        this.macs = new LinkedBlockingDeque<>(maxCachedMacs);
+    }
+
+    /**
+     * Returns a released {@link Mac} if there is one, or a new one otherwise. It must be closed once it is no longer used, so
+     * that the underlying {@link Mac} can be reused.
+     */
+    SigningAlgorithm.CloseableMac getMac() {
+        Mac mac = macs.pollFirst();
+        if (mac != null) {
+            return new SigningAlgorithm.CloseableMac(mac, this);
+        }
+        return new SigningAlgorithm.CloseableMac(newMac(), this);
+    }
+
+    /**
+     * Discard any partial input of the mac, so that the next user starts from a clean state, and cache it. The mac is dropped
+     * if the cache is full.
+     */
+    void release(Mac mac) {
+        mac.reset();
+        macs.offerFirst(mac);
+    }
+
+    private Mac newMac() {
+        try {
+            return Mac.getInstance(algorithmName);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Unable to fetch Mac instance for Algorithm "
+                                       + algorithmName + ": " + e.getMessage());
+        }
+    }
+
+    @SdkTestInternalApi
+    int size() {
+        return macs.size();
+    }
+}
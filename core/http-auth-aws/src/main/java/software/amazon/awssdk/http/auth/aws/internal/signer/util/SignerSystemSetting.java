@@ -0,0 +1,53 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.SystemSetting;
+
+/**
+ * Signer specific System Setting.
+ */
+@SdkInternalApi
+public enum SignerSystemSetting implements SystemSetting {
+    /**
+     * The maximum number of signing keys cached by the SigV4 signers. See {@link SigningKeyCache}.
+     */
+    AWS_SIGNING_KEY_CACHE_SIZE("aws.signingKeyCacheSize", "300");
+
+    private final String systemProperty;
+    private final String defaultValue;
+
+    SignerSystemSetting(String systemProperty, String defaultValue) {
+        this.systemProperty = systemProperty;
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public String property() {
+        return systemProperty;
+    }
+
+    @Override
+    public String environmentVariable() {
+        return name();
+    }
+
+    @Override
+    public String defaultValue() {
+        return defaultValue;
+    }
+}
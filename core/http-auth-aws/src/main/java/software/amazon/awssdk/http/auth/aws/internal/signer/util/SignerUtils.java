@@ -41,7 +41,6 @@ import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Pair;
-import software.amazon.awssdk.utils.cache.FifoCache;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
@@ -52,8 +51,7 @@ public final class SignerUtils {
 
     private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
 
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(300);
+    private static final SigningKeyCache SIGNER_CACHE = SigningKeyCache.create();
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd").withZone(ZoneId.of("UTC"));
@@ -99,11 +97,12 @@ public final class SignerUtils {
      * Get the signing key based on the given credentials and a credential-scope
      */
     public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
-        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getRegion(), credentialScope.getService());
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
-
-        if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
-            return signerKey.getSigningKey();
+        byte[] cachedSigningKey = SIGNER_CACHE.get(credentials.secretAccessKey(),
+                                                   credentialScope.getRegion(),
+                                                   credentialScope.getService(),
+                                                   credentialScope.getInstant());
+        if (cachedSigningKey != null) {
+            return cachedSigningKey;
         }
 
         LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
@@ -112,14 +111,20 @@ public final class SignerUtils {
                                           credentialScope.getDate(),
                                           credentialScope.getRegion(),
                                           credentialScope.getService());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(credentialScope.getInstant(), signingKey));
+        SIGNER_CACHE.put(credentials.secretAccessKey(),
+                         credentialScope.getRegion(),
+                         credentialScope.getService(),
+                         credentialScope.getInstant(),
+                         signingKey);
         return signingKey;
     }
 
-    private static String createSigningCacheKeyName(AwsCredentialsIdentity credentials,
-                                                    String regionName,
-                                                    String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
+    /**
+     * The cache of signing keys used by {@link #deriveSigningKey(AwsCredentialsIdentity, CredentialScope)}, e.g. to inspect
+     * its hit rate.
+     */
+    public static SigningKeyCache signingKeyCache() {
+        return SIGNER_CACHE;
     }
 
     private static byte[] newSigningKey(AwsCredentialsIdentity credentials,
@@ -148,8 +153,8 @@ public final class SignerUtils {
      * Sign given data using a key and a specific algorithm
      */
     public static byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) {
-        try {
-            Mac mac = algorithm.getMac();
+        try (SigningAlgorithm.CloseableMac closeableMac = algorithm.getMac()) {
+            Mac mac = closeableMac.mac();
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (Exception e) {
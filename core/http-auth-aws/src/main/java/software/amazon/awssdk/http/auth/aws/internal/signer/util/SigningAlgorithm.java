@@ -15,21 +15,27 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer.util;
 
-import java.security.NoSuchAlgorithmException;
+import java.util.function.Supplier;
 import javax.crypto.Mac;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 @SdkInternalApi
 public enum SigningAlgorithm {
 
     HMAC_SHA256("HmacSHA256");
 
+    private static final Supplier<Mac> CLOSED_MAC = () -> {
+        throw new IllegalStateException("This mac is closed.");
+    };
+
+    private static final int MAX_CACHED_MACS = 10_000;
     private final String algorithmName;
-    private final ThreadLocal<Mac> macReference;
+    private final MacCache macCache;
 
     SigningAlgorithm(String algorithmName) {
         this.algorithmName = algorithmName;
-        macReference = new MacThreadLocal(algorithmName);
+        this.macCache = new MacCache(algorithmName, MAX_CACHED_MACS);
     }
 
     public String getAlgorithmName() {
@@ -37,27 +43,40 @@ public enum SigningAlgorithm {
     }
 
     /**
-     * Returns the thread local reference for the crypto algorithm
+     * Returns a {@link CloseableMac} to use for this algorithm. It must be closed once it is no longer used, so that the
+     * underlying {@link Mac} can be reused.
      */
-    public Mac getMac() {
-        return macReference.get();
+    public CloseableMac getMac() {
+        return macCache.getMac();
     }
 
-    private static class MacThreadLocal extends ThreadLocal<Mac> {
-        private final String algorithmName;
+    public static final class CloseableMac implements SdkAutoCloseable {
+        private final MacCache cache;
+        private Supplier<Mac> mac;
+
+        CloseableMac(Mac mac, MacCache cache) {
+            this.mac = () -> mac;
+            this.cache = cache;
+        }
 
-        MacThreadLocal(String algorithmName) {
-            this.algorithmName = algorithmName;
+        /**
+         * Retrieve the mac instance. It must be initialized with a key before it is used.
+         */
+        public Mac mac() {
+            return mac.get();
         }
 
+        /**
+         * Release this mac back to the cache. Once released, you must not use the mac anymore.
+         */
         @Override
-        protected Mac initialValue() {
-            try {
-                return Mac.getInstance(algorithmName);
-            } catch (NoSuchAlgorithmException e) {
-                throw new RuntimeException("Unable to fetch Mac instance for Algorithm "
-                                           + algorithmName + ": " + e.getMessage());
+        public void close() {
+            if (mac == CLOSED_MAC) {
+                return;
             }
+
+            cache.release(mac.get());
+            mac = CLOSED_MAC;
         }
     }
 }
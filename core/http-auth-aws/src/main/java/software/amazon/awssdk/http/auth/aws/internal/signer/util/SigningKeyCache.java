@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of derived SigV4 signing keys, keyed by the secret access key, region and service they were derived for.
+ * <p>
+ * Reads and writes don't take a lock, and the key is compared field by field instead of being concatenated into a string for
+ * each lookup. When the cache is full, a batch of unspecified entries is evicted before a new entry is added, like
+ * {@code BoundedCache}; only eviction is serialized, and concurrent writers may briefly exceed the maximum size. Hits and
+ * misses are counted, see {@link #hitCount()} and {@link #missCount()}.
+ * <p>
+ * The maximum size of the caches used by the SDK's signers can be configured with
+ * {@link SignerSystemSetting#AWS_SIGNING_KEY_CACHE_SIZE}, and defaults to {@value #DEFAULT_MAX_SIZE}.
+ * <p>
+ * This is also used by the legacy signers in the auth module.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class SigningKeyCache {
+    public static final int DEFAULT_MAX_SIZE = 300;
+
+    private static final Logger LOG = Logger.loggerFor(SigningKeyCache.class);
+
+    private final ConcurrentHashMap<CacheKey, SignerKey> cache = new ConcurrentHashMap<>();
+    private final AtomicInteger cacheSize = new AtomicInteger();
+    private final Object evictionLock = new Object();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maxCacheSize;
+    private final int evictionBatchSize;
+
+    private SigningKeyCache(int maxCacheSize) {
+        this.maxCacheSize = Validate.isPositive(maxCacheSize, "maxCacheSize");
+        this.evictionBatchSize = Math.max(1, maxCacheSize / 10);
+    }
+
+    public static SigningKeyCache create(int maxCacheSize) {
+        return new SigningKeyCache(maxCacheSize);
+    }
+
+    /**
+     * Create a cache with the maximum size configured with {@link SignerSystemSetting#AWS_SIGNING_KEY_CACHE_SIZE}, or
+     * {@value #DEFAULT_MAX_SIZE} if it is not set or not valid.
+     */
+    public static SigningKeyCache create() {
+        return new SigningKeyCache(configuredMaxSize());
+    }
+
+    /**
+     * Retrieve a copy of the signing key cached for the given secret access key, region and service, if it was derived for the
+     * same day as the given signing instant. Otherwise, return null.
+     */
+    public byte[] get(String secretAccessKey, String region, String service, Instant signingInstant) {
+        SignerKey signerKey = cache.get(new CacheKey(secretAccessKey, region, service));
+        if (signerKey != null && signerKey.isValidForDate(signingInstant)) {
+            hits.increment();
+            return signerKey.getSigningKey();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Cache the signing key derived for the given secret access key, region, service and signing instant.
+     */
+    public void put(String secretAccessKey, String region, String service, Instant signingInstant, byte[] signingKey) {
+        CacheKey key = new CacheKey(secretAccessKey, region, service);
+        if (cacheSize.get() >= maxCacheSize && !cache.containsKey(key)) {
+            evict();
+        }
+        if (cache.put(key, new SignerKey(signingInstant, signingKey)) == null) {
+            cacheSize.incrementAndGet();
+        }
+    }
+
+    /**
+     * The number of {@link #get} calls that returned a cached signing key.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of {@link #get} calls that did not return a cached signing key.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return cacheSize.get();
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            Iterator<CacheKey> iterator = cache.keySet().iterator();
+            int count = 0;
+            // Another thread may have evicted while this one was waiting for the lock.
+            while (cacheSize.get() > maxCacheSize - evictionBatchSize && iterator.hasNext() && count < evictionBatchSize) {
+                iterator.next();
+                iterator.remove();
+                count++;
+                cacheSize.decrementAndGet();
+            }
+        }
+    }
+
+    private static int configuredMaxSize() {
+        SignerSystemSetting setting = SignerSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE;
+        try {
+            int maxSize = setting.getIntegerValue().orElse(DEFAULT_MAX_SIZE);
+            if (maxSize > 0) {
+                return maxSize;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the warning below.
+        }
+        LOG.warn(() -> "Ignoring invalid " + setting.property() + " value '" + setting.getStringValue().orElse(null)
+                       + "', using " + DEFAULT_MAX_SIZE + ".");
+        return DEFAULT_MAX_SIZE;
+    }
+
+    private static final class CacheKey {
+        private final String secretAccessKey;
+        private final String region;
+        private final String service;
+        private final int hashCode;
+
+        private CacheKey(String secretAccessKey, String region, String service) {
+            this.secretAccessKey = secretAccessKey;
+            this.region = region;
+            this.service = service;
+            this.hashCode = 31 * (31 * Objects.hashCode(secretAccessKey) + Objects.hashCode(region)) + Objects.hashCode(service);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return hashCode == that.hashCode
+                   && Objects.equals(secretAccessKey, that.secretAccessKey)
+                   && Objects.equals(region, that.region)
+                   && Objects.equals(service, that.service);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
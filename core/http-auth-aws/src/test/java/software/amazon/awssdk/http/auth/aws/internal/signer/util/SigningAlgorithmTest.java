@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+
+public class SigningAlgorithmTest {
+    private static final byte[] KEY = "key".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA = "data".getBytes(StandardCharsets.UTF_8);
+
+    private final MacCache macCache = new MacCache("HmacSHA256", 1);
+
+    @Test
+    void getMac_afterClose_reusesMacAcrossThreads() throws Exception {
+        Mac released;
+        try (SigningAlgorithm.CloseableMac closeableMac = macCache.getMac()) {
+            released = closeableMac.mac();
+        }
+
+        Mac reused = CompletableFuture.supplyAsync(() -> {
+            try (SigningAlgorithm.CloseableMac closeableMac = macCache.getMac()) {
+                return closeableMac.mac();
+            }
+        }).get();
+
+        assertThat(reused).isSameAs(released);
+    }
+
+    @Test
+    void getMac_notClosed_returnsDifferentInstances() {
+        try (SigningAlgorithm.CloseableMac first = macCache.getMac();
+             SigningAlgorithm.CloseableMac second = macCache.getMac()) {
+            assertThat(first.mac()).isNotSameAs(second.mac());
+        }
+    }
+
+    @Test
+    void close_calledTwice_releasesMacOnce() {
+        SigningAlgorithm.CloseableMac closeableMac = macCache.getMac();
+
+        closeableMac.close();
+        closeableMac.close();
+
+        assertThat(macCache.size()).isEqualTo(1);
+        assertThatThrownBy(closeableMac::mac).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void close_cacheFull_dropsMac() {
+        SigningAlgorithm.CloseableMac first = macCache.getMac();
+        SigningAlgorithm.CloseableMac second = macCache.getMac();
+        Mac firstMac = first.mac();
+
+        first.close();
+        second.close();
+
+        assertThat(macCache.size()).isEqualTo(1);
+        try (SigningAlgorithm.CloseableMac reused = macCache.getMac()) {
+            assertThat(reused.mac()).isSameAs(firstMac);
+        }
+    }
+
+    @Test
+    void sign_withReusedMac_matchesNewMac() throws Exception {
+        byte[] first = SignerUtils.sign(DATA, KEY, SigningAlgorithm.HMAC_SHA256);
+        byte[] second = SignerUtils.sign(DATA, "other-key".getBytes(StandardCharsets.UTF_8), SigningAlgorithm.HMAC_SHA256);
+        byte[] third = SignerUtils.sign(DATA, KEY, SigningAlgorithm.HMAC_SHA256);
+
+        Mac expected = Mac.getInstance("HmacSHA256");
+        expected.init(new SecretKeySpec(KEY, "HmacSHA256"));
+        assertThat(first).isEqualTo(expected.doFinal(DATA));
+        assertThat(third).isEqualTo(first);
+        assertThat(second).isNotEqualTo(first);
+    }
+}
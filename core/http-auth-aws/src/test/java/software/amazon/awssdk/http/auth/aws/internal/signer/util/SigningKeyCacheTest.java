@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+public class SigningKeyCacheTest {
+    private static final Instant SIGNING_INSTANT = Instant.parse("2020-03-03T12:00:00Z");
+    private static final byte[] SIGNING_KEY = {1, 2, 3};
+
+    @Test
+    public void get_afterPut_returnsKeyAndCountsHit() {
+        SigningKeyCache cache = SigningKeyCache.create(10);
+        cache.put("secret", "us-east-1", "s3", SIGNING_INSTANT, SIGNING_KEY);
+
+        assertThat(cache.get("secret", "us-east-1", "s3", SIGNING_INSTANT)).isEqualTo(SIGNING_KEY);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    public void get_differentRegionOrService_countsMiss() {
+        SigningKeyCache cache = SigningKeyCache.create(10);
+        cache.put("secret", "us-east-1", "s3", SIGNING_INSTANT, SIGNING_KEY);
+
+        assertThat(cache.get("secret", "us-west-2", "s3", SIGNING_INSTANT)).isNull();
+        assertThat(cache.get("secret", "us-east-1", "sqs", SIGNING_INSTANT)).isNull();
+        assertThat(cache.get("other", "us-east-1", "s3", SIGNING_INSTANT)).isNull();
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void get_differentDay_countsMiss() {
+        SigningKeyCache cache = SigningKeyCache.create(10);
+        cache.put("secret", "us-east-1", "s3", SIGNING_INSTANT, SIGNING_KEY);
+
+        assertThat(cache.get("secret", "us-east-1", "s3", Instant.parse("2020-03-04T00:00:00Z"))).isNull();
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void put_sameKey_replacesEntry() {
+        SigningKeyCache cache = SigningKeyCache.create(10);
+        Instant nextDay = Instant.parse("2020-03-04T12:00:00Z");
+        byte[] nextDayKey = {4, 5, 6};
+        cache.put("secret", "us-east-1", "s3", SIGNING_INSTANT, SIGNING_KEY);
+        cache.put("secret", "us-east-1", "s3", nextDay, nextDayKey);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("secret", "us-east-1", "s3", nextDay)).isEqualTo(nextDayKey);
+    }
+
+    @Test
+    public void put_moreKeysThanMaxSize_staysBounded() {
+        SigningKeyCache cache = SigningKeyCache.create(100);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("secret" + i, "us-east-1", "s3", SIGNING_INSTANT, SIGNING_KEY);
+            assertThat(cache.size()).isLessThanOrEqualTo(100);
+        }
+
+        cache.put("latest", "us-east-1", "s3", SIGNING_INSTANT, SIGNING_KEY);
+        assertThat(cache.get("latest", "us-east-1", "s3", SIGNING_INSTANT)).isEqualTo(SIGNING_KEY);
+    }
+}
@@ -18,6 +18,7 @@ package software.amazon.awssdk.metrics;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.metrics.internal.DefaultMetricCollector;
+import software.amazon.awssdk.metrics.internal.LockFreeMetricCollector;
 
 /**
  * Used to collect metrics reported by the SDK.
@@ -54,4 +55,18 @@ public interface MetricCollector {
     static MetricCollector create(String name) {
         return DefaultMetricCollector.create(name);
     }
+
+    /**
+     * Create a metric collector, and children, that report metrics without taking locks, and allocate a single record per
+     * reported metric. This is intended for clients making a very high number of concurrent calls with metrics enabled.
+     * <p>
+     * Unlike {@link #create(String)}, the records of the returned {@link MetricCollection} are iterated in the order they were
+     * reported, rather than grouped by metric.
+     *
+     * @param name The name of the collector.
+     * @return The collector.
+     */
+    static MetricCollector createLockFree(String name) {
+        return LockFreeMetricCollector.create(name);
+    }
 }
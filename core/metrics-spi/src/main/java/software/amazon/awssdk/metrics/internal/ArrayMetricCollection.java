@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A {@link MetricCollection} backed by an array of records in the order they were reported. A single API call only reports a
+ * few dozen records, so looking up the values of a metric scans the array rather than paying for a map on every call.
+ */
+@SdkInternalApi
+public final class ArrayMetricCollection implements MetricCollection {
+    private final String name;
+    private final MetricRecord<?>[] records;
+    private final List<MetricCollection> children;
+    private final Instant creationTime;
+
+    public ArrayMetricCollection(String name, MetricRecord<?>[] records, List<MetricCollection> children) {
+        this.name = name;
+        this.records = records;
+        this.children = children != null ? children : Collections.emptyList();
+        this.creationTime = Instant.now();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> metricValues(SdkMetric<T> metric) {
+        List<T> values = null;
+        for (MetricRecord<?> record : records) {
+            if (record.metric().equals(metric)) {
+                if (values == null) {
+                    values = new ArrayList<>();
+                }
+                values.add((T) record.value());
+            }
+        }
+        return values == null ? Collections.emptyList() : Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public List<MetricCollection> children() {
+        return Collections.unmodifiableList(children);
+    }
+
+    @Override
+    public Instant creationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public Iterator<MetricRecord<?>> iterator() {
+        return Collections.unmodifiableList(Arrays.asList(records)).iterator();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("MetricCollection")
+                       .add("name", name)
+                       .add("metrics", Arrays.asList(records))
+                       .add("children", children)
+                       .build();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link MetricCollector} that never blocks reporting threads.
+ * <p>
+ * Each reported value is pushed, with a single compare-and-set, onto a linked list whose nodes are themselves the
+ * {@link MetricRecord}s, so reporting a metric allocates exactly one object and no per-metric lists or map entries. The list is
+ * only walked, and the records grouped into an array, when the collector is collected.
+ * <p>
+ * Metrics reported concurrently with {@link #collect()} may or may not be part of the returned collection.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class LockFreeMetricCollector implements MetricCollector {
+    private static final Logger log = Logger.loggerFor(LockFreeMetricCollector.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeMetricCollector, RecordNode> RECORDS =
+        AtomicReferenceFieldUpdater.newUpdater(LockFreeMetricCollector.class, RecordNode.class, "records");
+
+    private static final AtomicReferenceFieldUpdater<LockFreeMetricCollector, ChildNode> CHILDREN =
+        AtomicReferenceFieldUpdater.newUpdater(LockFreeMetricCollector.class, ChildNode.class, "children");
+
+    private final String name;
+
+    /**
+     * The most recently reported record, linking to the ones reported before it.
+     */
+    private volatile RecordNode<?> records;
+
+    /**
+     * The most recently created child, linking to the ones created before it.
+     */
+    private volatile ChildNode children;
+
+    private LockFreeMetricCollector(String name) {
+        this.name = name;
+    }
+
+    public static MetricCollector create(String name) {
+        Validate.notEmpty(name, "name");
+        return new LockFreeMetricCollector(name);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        RecordNode<T> node = new RecordNode<>(metric, data);
+        RecordNode<?> head;
+        do {
+            head = records;
+            node.next = head;
+        } while (!RECORDS.compareAndSet(this, head, node));
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        ChildNode node = new ChildNode(new LockFreeMetricCollector(name));
+        ChildNode head;
+        do {
+            head = children;
+            node.next = head;
+        } while (!CHILDREN.compareAndSet(this, head, node));
+        return node.collector;
+    }
+
+    @Override
+    public MetricCollection collect() {
+        MetricRecord<?>[] collectedRecords = collectRecords();
+        List<MetricCollection> collectedChildren = collectChildren();
+
+        ArrayMetricCollection metricRecords = new ArrayMetricCollection(name, collectedRecords, collectedChildren);
+        log.debug(() -> "Collected metrics records: " + metricRecords);
+        return metricRecords;
+    }
+
+    private MetricRecord<?>[] collectRecords() {
+        RecordNode<?> head = records;
+        int count = 0;
+        for (RecordNode<?> node = head; node != null; node = node.next) {
+            count++;
+        }
+
+        // The list is newest-first, so fill the array from the back to restore reporting order
+        MetricRecord<?>[] result = new MetricRecord<?>[count];
+        for (RecordNode<?> node = head; node != null; node = node.next) {
+            result[--count] = node;
+        }
+        return result;
+    }
+
+    private List<MetricCollection> collectChildren() {
+        ChildNode head = children;
+        List<MetricCollection> result = new ArrayList<>();
+        for (ChildNode node = head; node != null; node = node.next) {
+            result.add(node.collector.collect());
+        }
+
+        // The list is newest-first, so reverse it to restore creation order
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("LockFreeMetricCollector")
+                       .add("name", name)
+                       .build();
+    }
+
+    private static final class RecordNode<T> implements MetricRecord<T> {
+        private final SdkMetric<T> metric;
+        private final T value;
+        private RecordNode<?> next;
+
+        private RecordNode(SdkMetric<T> metric, T value) {
+            this.metric = metric;
+            this.value = value;
+        }
+
+        @Override
+        public SdkMetric<T> metric() {
+            return metric;
+        }
+
+        @Override
+        public T value() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("MetricRecord")
+                           .add("metric", metric.name())
+                           .add("value", value)
+                           .build();
+        }
+    }
+
+    private static final class ChildNode {
+        private final LockFreeMetricCollector collector;
+        private ChildNode next;
+
+        private ChildNode(LockFreeMetricCollector collector) {
+            this.collector = collector;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+public class LockFreeMetricCollectorTest {
+    private static final SdkMetric<Integer> M1 =
+        SdkMetric.create("lockFreeM1", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<String> M2 =
+        SdkMetric.create("lockFreeM2", String.class, MetricLevel.INFO, MetricCategory.CORE);
+
+    @AfterAll
+    public static void teardown() {
+        DefaultSdkMetric.clearDeclaredMetrics();
+    }
+
+    @Test
+    public void name_returnsName() {
+        MetricCollector collector = MetricCollector.createLockFree("collector");
+        assertThat(collector.name()).isEqualTo("collector");
+    }
+
+    @Test
+    public void collect_noMetrics_returnsEmptyCollection() {
+        MetricCollection collection = MetricCollector.createLockFree("collector").collect();
+
+        assertThat(collection.metricValues(M1)).isEmpty();
+        assertThat(collection).isEmpty();
+        assertThat(collection.children()).isEmpty();
+    }
+
+    @Test
+    public void collect_containsValuesInReportingOrder() {
+        MetricCollector collector = MetricCollector.createLockFree("collector");
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(M2, "a");
+        collector.reportMetric(M1, 2);
+        collector.reportMetric(M1, 3);
+
+        MetricCollection collection = collector.collect();
+
+        assertThat(collection.metricValues(M1)).containsExactly(1, 2, 3);
+        assertThat(collection.metricValues(M2)).containsExactly("a");
+        List<Object> reportedValues = StreamSupport.stream(collection.spliterator(), false)
+                                                   .map(MetricRecord::value)
+                                                   .collect(Collectors.toList());
+        assertThat(reportedValues).containsExactly(1, "a", 2, 3);
+    }
+
+    @Test
+    public void collect_containsChildrenInCreationOrder() {
+        MetricCollector parent = MetricCollector.createLockFree("parent");
+        String[] childNames = {"c1", "c2", "c3"};
+        Stream.of(childNames).forEach(parent::createChild);
+
+        MetricCollection collected = parent.collect();
+
+        assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
+    }
+
+    @Test
+    public void collect_includesMetricsReportedToChildren() {
+        MetricCollector parent = MetricCollector.createLockFree("parent");
+        MetricCollector child = parent.createChild("child");
+        child.reportMetric(M1, 42);
+
+        MetricCollection collected = parent.collect();
+
+        assertThat(collected.children()).hasSize(1);
+        assertThat(collected.children().get(0).metricValues(M1)).containsExactly(42);
+    }
+
+    @Test
+    public void reportMetric_concurrentReporters_noValuesLost() throws Exception {
+        int threads = 8;
+        int reportsPerThread = 10_000;
+        MetricCollector collector = MetricCollector.createLockFree("collector");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < reportsPerThread; i++) {
+                        collector.reportMetric(M1, i);
+                    }
+                    collector.createChild("child");
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        MetricCollection collected = collector.collect();
+        assertThat(collected.metricValues(M1)).hasSize(threads * reportsPerThread);
+        assertThat(collected.children()).hasSize(threads);
+        assertThat(collected.metricValues(M1).stream().collect(Collectors.summingLong(Integer::longValue)))
+            .isEqualTo((long) threads * reportsPerThread * (reportsPerThread - 1) / 2);
+    }
+}
@@ -139,6 +139,29 @@ public abstract class BaseAwsJsonProtocolFactory {
                                           operationMetadata.isPayloadJson())));
     }
 
+    /**
+     * Creates a new response handler that unmarshalls the response with a generated {@link JsonPojoUnmarshaller} instead of
+     * the generic {@link software.amazon.awssdk.core.SdkField} traversal.
+     *
+     * @param operationMetadata Metadata about operation being unmarshalled.
+     * @param pojoSupplier {@link Supplier} of the POJO response type, used when the response has no payload.
+     * @param pojoUnmarshaller Generated unmarshaller of the POJO response type. Only valid for response types whose members
+     * are all bound to the payload.
+     * @param <T> Type being unmarshalled.
+     * @return HttpResponseHandler that will handle the HTTP response and unmarshall into a POJO.
+     */
+    public final <T extends SdkPojo> HttpResponseHandler<T> createResponseHandler(JsonOperationMetadata operationMetadata,
+                                                                                  Supplier<SdkPojo> pojoSupplier,
+                                                                                  JsonPojoUnmarshaller<T> pojoUnmarshaller) {
+        return timeUnmarshalling(
+            new AwsJsonResponseHandler<>(
+                new JsonResponseHandler<>(protocolUnmarshaller,
+                                          r -> pojoSupplier.get(),
+                                          operationMetadata.hasStreamingSuccessResponse(),
+                                          operationMetadata.isPayloadJson(),
+                                          pojoUnmarshaller)));
+    }
+
     /**
      * Creates a response handler for handling a error response (non 2xx response).
      *
@@ -229,6 +252,20 @@ public abstract class BaseAwsJsonProtocolFactory {
     }
 
     public final ProtocolMarshaller<SdkHttpFullRequest> createProtocolMarshaller(OperationInfo operationInfo) {
+        return createProtocolMarshaller(operationInfo, null);
+    }
+
+    /**
+     * Creates a marshaller that writes the request payload with a generated {@link JsonPojoMarshaller} instead of the generic
+     * {@link software.amazon.awssdk.core.SdkField} traversal.
+     *
+     * @param operationInfo Metadata about the operation like URI, HTTP method, etc.
+     * @param pojoMarshaller Generated marshaller of the request type, or null to use the generic marshalling. Only valid for
+     * request types whose members are all bound to the payload.
+     */
+    public final <T extends SdkPojo> ProtocolMarshaller<SdkHttpFullRequest> createProtocolMarshaller(
+        OperationInfo operationInfo,
+        JsonPojoMarshaller<T> pojoMarshaller) {
         return JsonProtocolMarshallerBuilder.create()
                                             .endpoint(endpoint(clientConfiguration))
                                             .jsonGenerator(createGenerator(operationInfo))
@@ -237,6 +274,7 @@ public abstract class BaseAwsJsonProtocolFactory {
                                             .sendExplicitNullForPayload(false)
                                             .protocolMetadata(protocolMetadata)
                                             .hasAwsQueryCompatible(hasAwsQueryCompatible)
+                                            .pojoMarshaller(pojoMarshaller)
                                             .build();
     }
 
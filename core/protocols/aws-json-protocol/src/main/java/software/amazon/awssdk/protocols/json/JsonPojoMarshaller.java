@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json;
+
+import java.time.Instant;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.protocols.json.internal.marshall.DocumentTypeJsonMarshaller;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * Writes the payload members of a specific {@link SdkPojo} type straight to a {@link StructuredJsonGenerator}.
+ * <p>
+ * Implementations are generated per shape when the {@code enableGeneratedJsonMarshallers} customization is enabled, and
+ * replace the generic traversal of {@link SdkPojo#sdkFields()}. They must produce the same output as that traversal.
+ *
+ * @param <T> Type of the POJO being marshalled.
+ */
+@SdkProtectedApi
+@FunctionalInterface
+public interface JsonPojoMarshaller<T extends SdkPojo> {
+
+    /**
+     * Writes the fields of the given POJO into the object the generator is currently in. The enclosing
+     * {@code writeStartObject} and {@code writeEndObject} calls are made by the caller.
+     */
+    void marshallFields(T pojo, StructuredJsonGenerator generator);
+
+    /**
+     * Writes a timestamp member, using the format of its {@link TimestampFormatTrait}, or the wire format's own timestamp
+     * representation if the member has none.
+     */
+    static void writeInstant(StructuredJsonGenerator generator, Instant value, TimestampFormatTrait.Format format) {
+        if (format == null) {
+            generator.writeValue(value);
+            return;
+        }
+        switch (format) {
+            case UNIX_TIMESTAMP:
+                generator.writeNumber(DateUtils.formatUnixTimestampInstant(value));
+                break;
+            case RFC_822:
+                generator.writeValue(DateUtils.formatRfc822Date(value));
+                break;
+            case ISO_8601:
+                generator.writeValue(DateUtils.formatIso8601Date(value));
+                break;
+            default:
+                throw SdkClientException.create("Unrecognized timestamp format - " + format);
+        }
+    }
+
+    /**
+     * Writes a document member.
+     */
+    static void writeDocument(StructuredJsonGenerator generator, Document value) {
+        value.accept(new DocumentTypeJsonMarshaller(generator));
+    }
+}
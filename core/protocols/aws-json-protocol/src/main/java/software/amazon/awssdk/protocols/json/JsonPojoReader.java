@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+
+/**
+ * A forward-only cursor over a JSON (or CBOR) document, used by {@link JsonPojoUnmarshaller}s.
+ * <p>
+ * The reader is always positioned on a value. {@link #nextFieldName()} and {@link #nextArrayElement()} move it to the next
+ * value of the current object or array, and exactly one of the {@code read}, {@code start} or {@link #skipValue()} methods
+ * must then be called to consume that value. The {@code read} methods return null for a JSON null, and accept the same
+ * representations as the generic unmarshaller, such as numbers sent as strings.
+ */
+@SdkProtectedApi
+public interface JsonPojoReader {
+
+    /**
+     * Moves to the value of the next field of the current object.
+     *
+     * @return The name of the field, or null if the end of the object was reached.
+     */
+    String nextFieldName() throws IOException;
+
+    /**
+     * Moves to the next element of the current array.
+     *
+     * @return False if the end of the array was reached.
+     */
+    boolean nextArrayElement() throws IOException;
+
+    /**
+     * Enters the object the reader is positioned on.
+     *
+     * @return False if the value is null, in which case there is nothing to read.
+     */
+    boolean startObject() throws IOException;
+
+    /**
+     * Enters the array the reader is positioned on.
+     *
+     * @return False if the value is null, in which case there is nothing to read.
+     */
+    boolean startArray() throws IOException;
+
+    /**
+     * Consumes the current value, which may be an object or an array, without reading it.
+     */
+    void skipValue() throws IOException;
+
+    String readString() throws IOException;
+
+    Integer readInteger() throws IOException;
+
+    Long readLong() throws IOException;
+
+    Short readShort() throws IOException;
+
+    Byte readByte() throws IOException;
+
+    Float readFloat() throws IOException;
+
+    Double readDouble() throws IOException;
+
+    BigDecimal readBigDecimal() throws IOException;
+
+    Boolean readBoolean() throws IOException;
+
+    SdkBytes readSdkBytes() throws IOException;
+
+    /**
+     * Reads a timestamp.
+     *
+     * @param format The format of the member's {@link TimestampFormatTrait}, or null to use the protocol's default.
+     */
+    Instant readInstant(TimestampFormatTrait.Format format) throws IOException;
+
+    /**
+     * Reads a document. Unlike the other methods, a JSON null is returned as a null {@link Document}.
+     */
+    Document readDocument() throws IOException;
+}
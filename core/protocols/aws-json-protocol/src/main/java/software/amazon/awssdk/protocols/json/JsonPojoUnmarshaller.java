@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json;
+
+import java.io.IOException;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * Builds a specific {@link SdkPojo} type straight from a {@link JsonPojoReader}.
+ * <p>
+ * Implementations are generated per shape when the {@code enableGeneratedJsonMarshallers} customization is enabled, and
+ * replace the generic lookup of each field name in {@link SdkPojo#sdkFieldNameToField()}.
+ *
+ * @param <T> Type of the POJO being unmarshalled.
+ */
+@SdkProtectedApi
+@FunctionalInterface
+public interface JsonPojoUnmarshaller<T extends SdkPojo> {
+
+    /**
+     * Reads the fields of an object whose start has already been consumed, up to and including the end of the object.
+     */
+    T unmarshall(JsonPojoReader reader) throws IOException;
+}
@@ -46,6 +46,7 @@ import software.amazon.awssdk.protocols.core.ValueToStringConverter.ValueToStrin
 import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
 import software.amazon.awssdk.protocols.json.BaseAwsJsonProtocolFactory;
+import software.amazon.awssdk.protocols.json.JsonPojoMarshaller;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
 import software.amazon.awssdk.protocols.json.internal.ProtocolFact;
 
@@ -73,6 +74,7 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     private final boolean hasEventStreamingInput;
     private final boolean hasEvent;
     private final boolean hasAwsQueryCompatible;
+    private final JsonPojoMarshaller<SdkPojo> pojoMarshaller;
 
     JsonProtocolMarshaller(URI endpoint,
                            StructuredJsonGenerator jsonGenerator,
@@ -80,6 +82,17 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
                            OperationInfo operationInfo,
                            AwsJsonProtocolMetadata protocolMetadata,
                            boolean hasAwsQueryCompatible) {
+        this(endpoint, jsonGenerator, contentType, operationInfo, protocolMetadata, hasAwsQueryCompatible, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    JsonProtocolMarshaller(URI endpoint,
+                           StructuredJsonGenerator jsonGenerator,
+                           String contentType,
+                           OperationInfo operationInfo,
+                           AwsJsonProtocolMetadata protocolMetadata,
+                           boolean hasAwsQueryCompatible,
+                           JsonPojoMarshaller<?> pojoMarshaller) {
         this.endpoint = endpoint;
         this.jsonGenerator = jsonGenerator;
         this.contentType = contentType;
@@ -91,6 +104,7 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
         this.hasEvent = operationInfo.hasEvent();
         this.request = fillBasicRequestParams(operationInfo);
         this.hasAwsQueryCompatible = hasAwsQueryCompatible;
+        this.pojoMarshaller = (JsonPojoMarshaller<SdkPojo>) pojoMarshaller;
         this.marshallerContext = JsonMarshallerContext.builder()
                                                       .jsonGenerator(jsonGenerator)
                                                       .marshallerRegistry(MARSHALLER_REGISTRY)
@@ -251,7 +265,11 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     @Override
     public SdkHttpFullRequest marshall(SdkPojo pojo) {
         startMarshalling();
-        doMarshall(pojo);
+        if (pojoMarshaller != null) {
+            pojoMarshaller.marshallFields(pojo, jsonGenerator);
+        } else {
+            doMarshall(pojo);
+        }
         return finishMarshalling();
     }
 
@@ -45,6 +45,7 @@ import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.json.JsonPojoUnmarshaller;
 import software.amazon.awssdk.protocols.json.internal.AwsStructuredPlainJsonFactory;
 import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.document.DocumentUnmarshaller;
@@ -247,6 +248,23 @@ public class JsonProtocolUnmarshaller {
         return unmarshall(sdkPojo, response, jsonNode);
     }
 
+    /**
+     * Unmarshalls the response with a generated {@link JsonPojoUnmarshaller}. It must only be given for response types whose
+     * members are all bound to the payload. The generated unmarshaller is ignored unless fast unmarshalling is enabled.
+     */
+    @SuppressWarnings("unchecked")
+    public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                                    SdkHttpFullResponse response,
+                                                    JsonPojoUnmarshaller<?> pojoUnmarshaller) throws IOException {
+        if (this.unmarshallingParser == null) {
+            return unmarshall(sdkPojo, response);
+        }
+        if (!hasJsonPayload(sdkPojo, response)) {
+            return unmarshallResponse(sdkPojo, response);
+        }
+        return (TypeT) unmarshallingParser.parse(sdkPojo, response.content().get(), pojoUnmarshaller);
+    }
+
     private <TypeT extends SdkPojo> TypeT fastUnmarshall(SdkPojo sdkPojo,
                                                     SdkHttpFullResponse response) throws IOException {
         if (!hasJsonPayload(sdkPojo, response)) {
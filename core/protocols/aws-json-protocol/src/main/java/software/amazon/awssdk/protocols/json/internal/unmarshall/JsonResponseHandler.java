@@ -24,6 +24,7 @@ import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.JsonPojoUnmarshaller;
 import software.amazon.awssdk.utils.FunctionalUtils;
 import software.amazon.awssdk.utils.IoUtils;
 
@@ -39,6 +40,7 @@ public final class JsonResponseHandler<T extends SdkPojo> implements HttpRespons
     private final Function<SdkHttpFullResponse, SdkPojo> pojoSupplier;
     private final boolean needsConnectionLeftOpen;
     private final boolean isPayloadJson;
+    private final JsonPojoUnmarshaller<?> pojoUnmarshaller;
     /**
      * The JSON unmarshaller to use when handling the response
      */
@@ -55,12 +57,26 @@ public final class JsonResponseHandler<T extends SdkPojo> implements HttpRespons
                                Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
                                boolean needsConnectionLeftOpen,
                                boolean isPayloadJson) {
+        this(unmarshaller, pojoSupplier, needsConnectionLeftOpen, isPayloadJson, null);
+    }
+
+    /**
+     * Constructs a new response handler that unmarshalls the response with a generated unmarshaller when possible.
+     *
+     * @param unmarshaller    The JSON unmarshaller to use on the response.
+     * @param pojoUnmarshaller The generated unmarshaller of the response type, or null to always use the generic one.
+     */
+    public JsonResponseHandler(JsonProtocolUnmarshaller unmarshaller,
+                               Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
+                               boolean needsConnectionLeftOpen,
+                               boolean isPayloadJson,
+                               JsonPojoUnmarshaller<?> pojoUnmarshaller) {
         this.unmarshaller = paramNotNull(unmarshaller, "unmarshaller");
         this.pojoSupplier = pojoSupplier;
 
         this.needsConnectionLeftOpen = needsConnectionLeftOpen;
         this.isPayloadJson = isPayloadJson;
-
+        this.pojoUnmarshaller = pojoUnmarshaller;
     }
 
 
@@ -72,7 +88,9 @@ public final class JsonResponseHandler<T extends SdkPojo> implements HttpRespons
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Parsing service response JSON.");
 
         try {
-            T result = unmarshaller.unmarshall(pojoSupplier.apply(response), response);
+            T result = pojoUnmarshaller != null
+                       ? unmarshaller.unmarshall(pojoSupplier.apply(response), response, pojoUnmarshaller)
+                       : unmarshaller.unmarshall(pojoSupplier.apply(response), response);
 
             // Make sure we read all the data to get an accurate CRC32 calculation.
             // See https://github.com/aws/aws-sdk-java/issues/1018
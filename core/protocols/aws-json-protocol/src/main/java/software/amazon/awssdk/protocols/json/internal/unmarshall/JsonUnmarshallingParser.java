@@ -19,8 +19,11 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,9 +38,13 @@ import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingKnownType;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
 import software.amazon.awssdk.core.traits.MapTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.traits.Trait;
 import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.protocols.json.JsonPojoReader;
+import software.amazon.awssdk.protocols.json.JsonPojoUnmarshaller;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
 import software.amazon.awssdk.protocols.jsoncore.JsonValueNodeFactory;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
@@ -54,6 +61,23 @@ import software.amazon.awssdk.utils.builder.Buildable;
 @ThreadSafe
 @SuppressWarnings("unchecked")
 final class JsonUnmarshallingParser {
+    /**
+     * Fields describing the values read through a {@link JsonPojoReader}, which only need them to look up and call the
+     * unmarshallers of the registry.
+     */
+    private static final SdkField<Integer> INTEGER_VALUE = valueField(MarshallingType.INTEGER);
+    private static final SdkField<Long> LONG_VALUE = valueField(MarshallingType.LONG);
+    private static final SdkField<Short> SHORT_VALUE = valueField(MarshallingType.SHORT);
+    private static final SdkField<Byte> BYTE_VALUE = valueField(MarshallingType.BYTE);
+    private static final SdkField<Float> FLOAT_VALUE = valueField(MarshallingType.FLOAT);
+    private static final SdkField<Double> DOUBLE_VALUE = valueField(MarshallingType.DOUBLE);
+    private static final SdkField<BigDecimal> BIG_DECIMAL_VALUE = valueField(MarshallingType.BIG_DECIMAL);
+    private static final SdkField<Boolean> BOOLEAN_VALUE = valueField(MarshallingType.BOOLEAN);
+    private static final SdkField<String> STRING_VALUE = valueField(MarshallingType.STRING);
+    private static final SdkField<SdkBytes> SDK_BYTES_VALUE = valueField(MarshallingType.SDK_BYTES);
+    private static final SdkField<Instant> INSTANT_VALUE = valueField(MarshallingType.INSTANT);
+    private static final Map<TimestampFormatTrait.Format, SdkField<Instant>> FORMATTED_INSTANT_VALUES = formattedInstantFields();
+
     private final JsonFactory jsonFactory;
     private final JsonValueNodeFactory jsonValueNodeFactory;
     private final JsonUnmarshallerRegistry unmarshallerRegistry;
@@ -124,6 +148,32 @@ final class JsonUnmarshallingParser {
         });
     }
 
+    /**
+     * Parse the provided {@link InputStream} with a generated {@link JsonPojoUnmarshaller} instead of looking up the
+     * {@link SdkField} of each field. Behaves like {@link #parse(SdkPojo, InputStream)} otherwise, and the given SdkPojo
+     * instance is only used to build the result when the input stream is empty.
+     */
+    public SdkPojo parse(SdkPojo pojo, InputStream content, JsonPojoUnmarshaller<?> pojoUnmarshaller) {
+        return invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content)
+                                                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+
+                JsonUnmarshallerContext c = JsonUnmarshallerContext.builder().build();
+                JsonToken token = parser.nextToken();
+                if (token == null) {
+                    return (SdkPojo) ((Buildable) pojo).build();
+                }
+                if (token == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException("expecting start object, got instead: " + token);
+                }
+                return pojoUnmarshaller.unmarshall(new PojoReader(c, parser));
+            }
+        });
+    }
+
     /**
      * Parses an sdk pojo and fills its fields. The given SdkPojo instance is expected to be a {@link Buildable} instance. This
      * method expects that the START_OBJECT token has been already consumed, so the next token should be either a field name or an
@@ -504,6 +554,145 @@ final class JsonUnmarshallingParser {
         return builder.build();
     }
 
+    private static <T> SdkField<T> valueField(MarshallingType<? super T> marshallingType, Trait... traits) {
+        Trait[] allTraits = new Trait[traits.length + 1];
+        allTraits[0] = LocationTrait.builder()
+                                    .location(MarshallLocation.PAYLOAD)
+                                    .locationName("value")
+                                    .build();
+        System.arraycopy(traits, 0, allTraits, 1, traits.length);
+        return SdkField.<T>builder(marshallingType)
+                       .memberName("value")
+                       .traits(allTraits)
+                       .build();
+    }
+
+    private static Map<TimestampFormatTrait.Format, SdkField<Instant>> formattedInstantFields() {
+        Map<TimestampFormatTrait.Format, SdkField<Instant>> fields = new EnumMap<>(TimestampFormatTrait.Format.class);
+        for (TimestampFormatTrait.Format format : TimestampFormatTrait.Format.values()) {
+            fields.put(format, valueField(MarshallingType.INSTANT, TimestampFormatTrait.create(format)));
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * A {@link JsonPojoReader} over the parser, reading values the same way as {@link #valueFor}.
+     */
+    private final class PojoReader implements JsonPojoReader {
+        private final JsonUnmarshallerContext context;
+        private final JsonParser parser;
+        private JsonToken current;
+
+        private PojoReader(JsonUnmarshallerContext context, JsonParser parser) {
+            this.context = context;
+            this.parser = parser;
+        }
+
+        @Override
+        public String nextFieldName() throws IOException {
+            if (parser.nextToken() == JsonToken.END_OBJECT) {
+                return null;
+            }
+            String fieldName = parser.getText();
+            current = parser.nextToken();
+            return fieldName;
+        }
+
+        @Override
+        public boolean nextArrayElement() throws IOException {
+            current = parser.nextToken();
+            return current != JsonToken.END_ARRAY;
+        }
+
+        @Override
+        public boolean startObject() throws IOException {
+            if (current == JsonToken.VALUE_NULL) {
+                return false;
+            }
+            expect(current, JsonToken.START_OBJECT);
+            return true;
+        }
+
+        @Override
+        public boolean startArray() throws IOException {
+            if (current == JsonToken.VALUE_NULL) {
+                return false;
+            }
+            expect(current, JsonToken.START_ARRAY);
+            return true;
+        }
+
+        @Override
+        public void skipValue() throws IOException {
+            JsonUnmarshallingParser.this.skipValue(parser, current);
+        }
+
+        @Override
+        public String readString() throws IOException {
+            return (String) scalarValue(STRING_VALUE);
+        }
+
+        @Override
+        public Integer readInteger() throws IOException {
+            return (Integer) scalarValue(INTEGER_VALUE);
+        }
+
+        @Override
+        public Long readLong() throws IOException {
+            return (Long) scalarValue(LONG_VALUE);
+        }
+
+        @Override
+        public Short readShort() throws IOException {
+            return (Short) scalarValue(SHORT_VALUE);
+        }
+
+        @Override
+        public Byte readByte() throws IOException {
+            return (Byte) scalarValue(BYTE_VALUE);
+        }
+
+        @Override
+        public Float readFloat() throws IOException {
+            return (Float) scalarValue(FLOAT_VALUE);
+        }
+
+        @Override
+        public Double readDouble() throws IOException {
+            return (Double) scalarValue(DOUBLE_VALUE);
+        }
+
+        @Override
+        public BigDecimal readBigDecimal() throws IOException {
+            return (BigDecimal) scalarValue(BIG_DECIMAL_VALUE);
+        }
+
+        @Override
+        public Boolean readBoolean() throws IOException {
+            return (Boolean) scalarValue(BOOLEAN_VALUE);
+        }
+
+        @Override
+        public SdkBytes readSdkBytes() throws IOException {
+            return (SdkBytes) scalarValue(SDK_BYTES_VALUE);
+        }
+
+        @Override
+        public Instant readInstant(TimestampFormatTrait.Format format) throws IOException {
+            SdkField<Instant> field = format == null ? INSTANT_VALUE : FORMATTED_INSTANT_VALUES.get(format);
+            return (Instant) scalarValue(field);
+        }
+
+        @Override
+        public Document readDocument() throws IOException {
+            return parseDocumentValue(context, parser, current);
+        }
+
+        private Object scalarValue(SdkField<?> field) throws IOException {
+            return valueFor(field, context, field.marshallingType(), parser, current);
+        }
+    }
+
     /**
      * A builder for configuring and creating {@link JsonUnmarshallingParser}. Created via {@link #builder()}.
      */
@@ -0,0 +1,188 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ClientEndpointProvider;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.json.internal.AwsStructuredPlainJsonFactory;
+import software.amazon.awssdk.protocols.json.internal.unmarshall.TestRequest;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class JsonPojoMarshallerTest {
+
+    private static final OperationInfo OPERATION_INFO = OperationInfo.builder()
+                                                                     .httpMethod(SdkHttpMethod.POST)
+                                                                     .hasImplicitPayloadMembers(true)
+                                                                     .build();
+
+    /**
+     * Equivalent of the marshaller that codegen generates for {@link TestRequest}, skipping the structure member.
+     */
+    private static final JsonPojoMarshaller<TestRequest> TEST_REQUEST_MARSHALLER = (pojo, generator) -> {
+        if (pojo.booleanMember() != null) {
+            generator.writeFieldName("booleanMember");
+            generator.writeValue(pojo.booleanMember());
+        }
+        if (pojo.stringMember() != null) {
+            generator.writeFieldName("stringMember");
+            generator.writeValue(pojo.stringMember());
+        }
+        if (pojo.integerMember() != null) {
+            generator.writeFieldName("integerMember");
+            generator.writeValue(pojo.integerMember());
+        }
+        if (pojo.longMember() != null) {
+            generator.writeFieldName("longMember");
+            generator.writeValue(pojo.longMember());
+        }
+        if (pojo.floatMember() != null) {
+            generator.writeFieldName("floatMember");
+            generator.writeValue(pojo.floatMember());
+        }
+        if (pojo.doubleMember() != null) {
+            generator.writeFieldName("doubleMember");
+            generator.writeValue(pojo.doubleMember());
+        }
+        if (pojo.timestampMember() != null) {
+            generator.writeFieldName("timestampMember");
+            JsonPojoMarshaller.writeInstant(generator, pojo.timestampMember(), null);
+        }
+        if (pojo.blobMember() != null) {
+            generator.writeFieldName("blobMember");
+            generator.writeValue(pojo.blobMember().asByteBuffer());
+        }
+        List<String> list = pojo.listOfStringsMember();
+        if (list != null && !(list instanceof SdkAutoConstructList && list.isEmpty())) {
+            generator.writeFieldName("listOfStringsMember");
+            generator.writeStartArray(list.size());
+            for (String element : list) {
+                if (element == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeValue(element);
+                }
+            }
+            generator.writeEndArray();
+        }
+        Map<String, String> map = pojo.mapOfStringToStringMember();
+        if (map != null && !(map instanceof SdkAutoConstructMap && map.isEmpty())) {
+            generator.writeFieldName("mapOfStringToStringMember");
+            generator.writeStartObject();
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                if (entry.getValue() != null) {
+                    generator.writeFieldName(entry.getKey());
+                    generator.writeValue(entry.getValue());
+                }
+            }
+            generator.writeEndObject();
+        }
+        if (pojo.documentField() != null) {
+            generator.writeFieldName("documentMember");
+            JsonPojoMarshaller.writeDocument(generator, pojo.documentField());
+        }
+    };
+
+    @Test
+    public void marshall_withPojoMarshaller_matchesGenericMarshalling() throws IOException {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("k1", "v1");
+        map.put("k2", null);
+        TestRequest request = TestRequest.builder()
+                                         .booleanMember(true)
+                                         .stringMember("foo")
+                                         .integerMember(42)
+                                         .longMember(9007199254740993L)
+                                         .floatMember(1.5f)
+                                         .timestampMember(Instant.ofEpochMilli(1099510880773L))
+                                         .blobMember(SdkBytes.fromUtf8String("bar"))
+                                         .listOfStringsMember(Arrays.asList("a", null, "c"))
+                                         .mapOfStringToStringMember(map)
+                                         .documentField(Document.mapBuilder()
+                                                                .putNumber("n", 1)
+                                                                .putList("l", b -> b.addString("two").addBoolean(false))
+                                                                .build())
+                                         .build();
+
+        AwsJsonProtocolFactory factory = factory(AwsJsonProtocol.AWS_JSON);
+        assertThat(marshall(factory, request, TEST_REQUEST_MARSHALLER)).isEqualTo(marshall(factory, request, null));
+    }
+
+    @Test
+    public void marshall_withPojoMarshaller_emptyAutoConstructContainersAreOmitted() throws IOException {
+        AwsJsonProtocolFactory factory = factory(AwsJsonProtocol.AWS_JSON);
+        TestRequest request = TestRequest.builder().stringMember("foo").build();
+
+        String body = marshall(factory, request, TEST_REQUEST_MARSHALLER);
+
+        assertThat(body).isEqualTo("{\"stringMember\":\"foo\"}")
+                        .isEqualTo(marshall(factory, request, null));
+    }
+
+    @Test
+    public void writeInstant_usesFormatOfTrait() {
+        StructuredJsonGenerator generator = AwsStructuredPlainJsonFactory.SDK_JSON_FACTORY.createWriter("application/json");
+        Instant instant = Instant.ofEpochMilli(1099510880773L);
+
+        generator.writeStartArray();
+        JsonPojoMarshaller.writeInstant(generator, instant, TimestampFormatTrait.Format.UNIX_TIMESTAMP);
+        JsonPojoMarshaller.writeInstant(generator, instant, TimestampFormatTrait.Format.ISO_8601);
+        JsonPojoMarshaller.writeInstant(generator, instant, TimestampFormatTrait.Format.RFC_822);
+        generator.writeEndArray();
+
+        assertThat(new String(generator.getBytes(), StandardCharsets.UTF_8))
+            .isEqualTo("[1099510880.773,\"2004-11-03T19:41:20.773Z\",\"Wed, 03 Nov 2004 19:41:20 GMT\"]");
+    }
+
+    private static String marshall(AwsJsonProtocolFactory factory,
+                                   TestRequest request,
+                                   JsonPojoMarshaller<TestRequest> pojoMarshaller) throws IOException {
+        SdkHttpFullRequest marshalled = factory.createProtocolMarshaller(OPERATION_INFO, pojoMarshaller).marshall(request);
+        return IoUtils.toUtf8String(marshalled.contentStreamProvider().get().newStream());
+    }
+
+    private static AwsJsonProtocolFactory factory(AwsJsonProtocol protocol) {
+        SdkClientConfiguration clientConfig =
+            SdkClientConfiguration.builder()
+                                  .option(SdkClientOption.CLIENT_ENDPOINT_PROVIDER,
+                                          ClientEndpointProvider.forEndpointOverride(URI.create("http://localhost")))
+                                  .build();
+        return AwsJsonProtocolFactory.builder()
+                                     .clientConfiguration(clientConfig)
+                                     .protocolVersion("1.1")
+                                     .protocol(protocol)
+                                     .build();
+    }
+}
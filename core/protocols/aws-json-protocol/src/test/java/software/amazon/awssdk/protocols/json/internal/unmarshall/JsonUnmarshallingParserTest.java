@@ -20,9 +20,15 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.protocols.json.JsonPojoUnmarshaller;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonParseException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -122,6 +128,109 @@ class JsonUnmarshallingParserTest {
         assertEquals(Instant.ofEpochMilli(1099510880771L), timestamp);
     }
 
+    @Test
+    public void parseWithPojoUnmarshallerMatchesGenericParsing() {
+        JsonUnmarshallingParser parser = parser();
+        String json = "{\"booleanMember\": true, \"stringMember\": \"foo\", \"integerMember\": \"42\","
+                      + "\"longMember\": 9007199254740993, \"floatMember\": 1.5, \"doubleMember\": null,"
+                      + "\"timestampMember\": 1099510880.773, \"blobMember\": \"YmFy\","
+                      + "\"unknownMember\": {\"nested\": [1, {\"a\": null}, [true]]},"
+                      + "\"listOfStringsMember\": [\"a\", null, \"c\"],"
+                      + "\"mapOfStringToStringMember\": {\"k1\": \"v1\", \"k2\": null},"
+                      + "\"documentMember\": {\"d\": [1, \"two\", false]}}";
+
+        TestRequest generic = (TestRequest) parser.parse(TestRequest.builder(), from(json));
+        TestRequest generated = (TestRequest) parser.parse(TestRequest.builder(), from(json), TEST_REQUEST_UNMARSHALLER);
+
+        for (SdkField<?> field : generic.sdkFields()) {
+            assertEquals(field.getValueOrDefault(generic), field.getValueOrDefault(generated), field.memberName());
+        }
+        assertEquals(Instant.ofEpochMilli(1099510880773L), generated.timestampMember());
+        assertEquals(42, generated.integerMember());
+    }
+
+    @Test
+    public void parseWithPojoUnmarshallerOnEmptyInputReturnsAValidPojo() {
+        JsonUnmarshallingParser parser = parser();
+        TestRequest req = (TestRequest) parser.parse(TestRequest.builder(), from(""), TEST_REQUEST_UNMARSHALLER);
+        assertNotNull(req);
+    }
+
+    @Test
+    public void parseWithPojoUnmarshallerThrowsOnNumberFoundInsteadOfList() {
+        JsonUnmarshallingParser parser = parser();
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> {
+            parser.parse(TestRequest.builder(), from("{\"listOfStringsMember\": 123}"), TEST_REQUEST_UNMARSHALLER);
+        });
+        assertInstanceOf(JsonParseException.class, e.getCause());
+    }
+
+    /**
+     * Equivalent of the unmarshaller that codegen generates for {@link TestRequest}, skipping the structure member.
+     */
+    private static final JsonPojoUnmarshaller<TestRequest> TEST_REQUEST_UNMARSHALLER = reader -> {
+        TestRequest.Builder builder = TestRequest.builder();
+        String fieldName;
+        while ((fieldName = reader.nextFieldName()) != null) {
+            switch (fieldName) {
+                case "booleanMember":
+                    builder.booleanMember(reader.readBoolean());
+                    break;
+                case "stringMember":
+                    builder.stringMember(reader.readString());
+                    break;
+                case "integerMember":
+                    builder.integerMember(reader.readInteger());
+                    break;
+                case "longMember":
+                    builder.longMember(reader.readLong());
+                    break;
+                case "floatMember":
+                    builder.floatMember(reader.readFloat());
+                    break;
+                case "doubleMember":
+                    builder.doubleMember(reader.readDouble());
+                    break;
+                case "timestampMember":
+                    builder.timestampMember(reader.readInstant(null));
+                    break;
+                case "blobMember":
+                    builder.blobMember(reader.readSdkBytes());
+                    break;
+                case "listOfStringsMember": {
+                    List<String> list = null;
+                    if (reader.startArray()) {
+                        list = new ArrayList<>();
+                        while (reader.nextArrayElement()) {
+                            list.add(reader.readString());
+                        }
+                    }
+                    builder.listOfStringsMember(list);
+                    break;
+                }
+                case "mapOfStringToStringMember": {
+                    Map<String, String> map = null;
+                    if (reader.startObject()) {
+                        map = new LinkedHashMap<>();
+                        String key;
+                        while ((key = reader.nextFieldName()) != null) {
+                            map.put(key, reader.readString());
+                        }
+                    }
+                    builder.mapOfStringToStringMember(map);
+                    break;
+                }
+                case "documentMember":
+                    builder.documentField(reader.readDocument());
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return builder.build();
+    };
+
     static JsonUnmarshallingParser parser() {
         ProtocolUnmarshallDependencies dependencies = JsonProtocolUnmarshaller.defaultProtocolUnmarshallDependencies();
         JsonUnmarshallingParser parser = JsonUnmarshallingParser
@@ -40,6 +40,7 @@ import software.amazon.awssdk.protocols.query.internal.marshall.QueryProtocolMar
 import software.amazon.awssdk.protocols.query.internal.unmarshall.AwsQueryResponseHandler;
 import software.amazon.awssdk.protocols.query.internal.unmarshall.QueryProtocolUnmarshaller;
 import software.amazon.awssdk.protocols.query.unmarshall.AwsXmlErrorProtocolUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.SdkClientXmlProtocolAdvancedOption;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 
 /**
@@ -52,9 +53,11 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final MetricCollectingHttpResponseHandler<AwsServiceException> errorUnmarshaller;
+    private final boolean enableStreamingUnmarshalling;
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
+        this.enableStreamingUnmarshalling = enableStreamingUnmarshalling(clientConfiguration);
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.errorUnmarshaller = timeUnmarshalling(AwsXmlErrorProtocolUnmarshaller
@@ -100,9 +103,20 @@ public class AwsQueryProtocolFactory {
      * @return New {@link HttpResponseHandler} for success responses.
      */
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
-        return timeUnmarshalling(new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
-                                                                                        .hasResultWrapper(!isEc2())
-                                                                                        .build(), r -> pojoSupplier.get()));
+        QueryProtocolUnmarshaller unmarshaller = QueryProtocolUnmarshaller.builder()
+                                                                          .hasResultWrapper(!isEc2())
+                                                                          .enableStreamingUnmarshalling(
+                                                                              enableStreamingUnmarshalling)
+                                                                          .build();
+        return timeUnmarshalling(new AwsQueryResponseHandler<>(unmarshaller, r -> pojoSupplier.get()));
+    }
+
+    private static boolean enableStreamingUnmarshalling(SdkClientConfiguration clientConfiguration) {
+        if (clientConfiguration == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(
+            clientConfiguration.option(SdkClientXmlProtocolAdvancedOption.ENABLE_STREAMING_UNMARSHALLER));
     }
 
     /**
@@ -22,10 +22,13 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TraitType;
@@ -35,6 +38,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Pair;
@@ -66,10 +70,29 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final XmlStreamingUnmarshaller STREAMING_UNMARSHALLER = XmlStreamingUnmarshaller
+        .builder()
+        .matchListMemberNames(false)
+        .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+        .converter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+        .converter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+        .converter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+        .converter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+        .converter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+        .converter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+        .converter(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()))
+        .converter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+        .build();
+
+    private static final String RESPONSE_METADATA = "ResponseMetadata";
+    private static final String REQUEST_ID = "requestId";
+
     private final boolean hasResultWrapper;
+    private final boolean enableStreamingUnmarshalling;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.enableStreamingUnmarshalling = builder.enableStreamingUnmarshalling;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
@@ -83,11 +106,73 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
+        if (enableStreamingUnmarshalling && STREAMING_UNMARSHALLER.isSupported(sdkPojo)) {
+            return streamingUnmarshall(sdkPojo, response);
+        }
+
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
     }
 
+    /**
+     * Unmarshalls the response in a single pass over the parser events, without building an {@link XmlElement} tree.
+     * Produces the same result and metadata as the DOM based path.
+     */
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> streamingUnmarshall(SdkPojo sdkPojo,
+                                                                                        SdkHttpFullResponse response) {
+        Map<String, String> metadata = new HashMap<>();
+        XMLStreamReader reader = response.content().map(XmlStreamingUnmarshaller::createReader).orElse(null);
+        if (reader == null) {
+            return Pair.of((TypeT) build(sdkPojo), metadata);
+        }
+
+        try {
+            SdkPojo result = hasResultWrapper ? unmarshallResultWrapper(reader, sdkPojo, metadata)
+                                              : STREAMING_UNMARSHALLER.unmarshall(reader, sdkPojo,
+                                                                                  (name, r) -> readMetadata(name, r, metadata));
+            return Pair.of((TypeT) result, metadata);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        } finally {
+            XmlStreamingUnmarshaller.closeQuietly(reader);
+        }
+    }
+
+    private SdkPojo unmarshallResultWrapper(XMLStreamReader reader, SdkPojo sdkPojo, Map<String, String> metadata)
+            throws XMLStreamException {
+        SdkPojo result = null;
+        while (XmlStreamingUnmarshaller.nextChildElement(reader)) {
+            String elementName = reader.getLocalName();
+            if (result == null && !RESPONSE_METADATA.equals(elementName)) {
+                result = STREAMING_UNMARSHALLER.unmarshall(reader, sdkPojo);
+            } else if (!readMetadata(elementName, reader, metadata)) {
+                XmlStreamingUnmarshaller.skipElement(reader);
+            }
+        }
+        return result == null ? build(sdkPojo) : result;
+    }
+
+    private boolean readMetadata(String elementName, XMLStreamReader reader, Map<String, String> metadata)
+            throws XMLStreamException {
+        if (RESPONSE_METADATA.equals(elementName)) {
+            while (XmlStreamingUnmarshaller.nextChildElement(reader)) {
+                String key = reader.getLocalName().equals("RequestId") ? AWS_REQUEST_ID : reader.getLocalName();
+                metadata.put(key, XmlStreamingUnmarshaller.readText(reader));
+            }
+            return true;
+        }
+        if (REQUEST_ID.equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, XmlStreamingUnmarshaller.readText(reader));
+            return true;
+        }
+        return false;
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(field -> field.marshallingType() == MarshallingType.SDK_BYTES &&
@@ -110,12 +195,12 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     }
 
     private Map<String, String> parseMetadata(XmlElement document) {
-        XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
+        XmlElement responseMetadata = document.getElementByName(RESPONSE_METADATA);
         Map<String, String> metadata = new HashMap<>();
         if (responseMetadata != null) {
             responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
         }
-        XmlElement requestId = document.getElementByName("requestId");
+        XmlElement requestId = document.getElementByName(REQUEST_ID);
         if (requestId != null) {
             metadata.put(AWS_REQUEST_ID, requestId.textContent());
         }
@@ -145,7 +230,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             }
         }
 
-        return (SdkPojo) ((Buildable) sdkPojo).build();
+        return build(sdkPojo);
     }
 
     /**
@@ -161,6 +246,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean enableStreamingUnmarshalling;
 
         private Builder() {
         }
@@ -210,6 +296,16 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * @param enableStreamingUnmarshalling True if success responses should be unmarshalled directly from parser
+         * events when the response shape supports it, false to always build an intermediate {@link XmlElement} tree.
+         * @return This builder for method chaining.
+         */
+        public Builder enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
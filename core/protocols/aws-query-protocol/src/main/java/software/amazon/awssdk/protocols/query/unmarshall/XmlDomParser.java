@@ -122,6 +122,13 @@ public final class XmlDomParser {
         }
     }
 
+    /**
+     * @return The hardened {@link XMLInputFactory} for the current thread, shared with {@link XmlStreamingUnmarshaller}.
+     */
+    static XMLInputFactory inputFactory() {
+        return FACTORY.get();
+    }
+
     /**
      * Disables certain dangerous features that attempt to automatically fetch DTDs
      *
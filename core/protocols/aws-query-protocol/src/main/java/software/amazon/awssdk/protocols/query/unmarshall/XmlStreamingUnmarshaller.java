@@ -0,0 +1,615 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Single pass unmarshaller that populates {@link SdkPojo} builders directly from StAX parser events, without first
+ * materializing the document as an {@link XmlElement} tree.
+ *
+ * <p>The unmarshaller mirrors the semantics of the DOM based unmarshallers: the first occurrence of a scalar or structure
+ * member wins, flattened lists and maps are accumulated across all sibling occurrences and unknown elements are skipped.
+ * Shapes that the DOM unmarshallers treat specially (explicit payload members, members sharing an element name or
+ * types without a registered converter) are reported as unsupported by {@link #isSupported(SdkPojo)} so that callers
+ * can fall back to {@link XmlDomParser}.
+ */
+@SdkProtectedApi
+public final class XmlStreamingUnmarshaller {
+
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters;
+    private final boolean matchListMemberNames;
+    private final Map<Class<?>, Boolean> supportedShapes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, StructPlan> structPlans = new ConcurrentHashMap<>();
+
+    private XmlStreamingUnmarshaller(Builder builder) {
+        this.converters = new IdentityHashMap<>(builder.converters);
+        this.matchListMemberNames = builder.matchListMemberNames;
+    }
+
+    /**
+     * @param sdkPojo Builder of the shape to unmarshall.
+     * @return True if the shape, and all shapes reachable from it, can be unmarshalled by this unmarshaller. False if the
+     * caller should fall back to the DOM based unmarshaller.
+     */
+    public boolean isSupported(SdkPojo sdkPojo) {
+        Boolean supported = supportedShapes.get(sdkPojo.getClass());
+        if (supported != null) {
+            return supported;
+        }
+
+        boolean result = isSupported(sdkPojo, new HashSet<>());
+        supportedShapes.putIfAbsent(sdkPojo.getClass(), result);
+        return result;
+    }
+
+    /**
+     * Creates a reader for the given stream, positioned at the start of the root element of the document.
+     *
+     * @param inputStream Stream containing the XML document.
+     * @return The reader, or null if the stream contained no content.
+     */
+    public static XMLStreamReader createReader(InputStream inputStream) {
+        try {
+            LookaheadInputStream stream = new LookaheadInputStream(inputStream);
+            if (stream.peek() == -1) {
+                return null;
+            }
+
+            XMLStreamReader reader = XmlDomParser.inputFactory().createXMLStreamReader(stream);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return reader;
+                }
+            }
+            return null;
+        } catch (IOException | XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Unmarshalls the root element of the given document into the given builder. If the root element has the given error
+     * element name, the document is materialized as an {@link XmlElement} and returned instead so that the caller can
+     * handle it as an error.
+     *
+     * @param content Stream containing the XML document.
+     * @param sdkPojo Builder of the shape to unmarshall.
+     * @param errorRootElementName Name of a root element that indicates an error document, may be null.
+     * @return Either the built shape, or the parsed error document.
+     */
+    public Either<SdkPojo, XmlElement> unmarshall(InputStream content, SdkPojo sdkPojo, String errorRootElementName) {
+        XMLStreamReader reader = createReader(content);
+        if (reader == null) {
+            return Either.left(build(sdkPojo));
+        }
+
+        try {
+            if (reader.getLocalName().equals(errorRootElementName)) {
+                return Either.right(readElement(reader));
+            }
+            return Either.left(unmarshall(reader, sdkPojo));
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    /**
+     * Closes the reader. This does not close the underlying stream.
+     */
+    public static void closeQuietly(XMLStreamReader reader) {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Closing the reader does not close the underlying stream, so there is nothing to clean up.
+        }
+    }
+
+    /**
+     * Unmarshalls the element the reader is positioned at into the given builder. On return the reader is positioned at
+     * the end of the element.
+     *
+     * @param reader Reader positioned at the start of the element that holds the members of the shape.
+     * @param sdkPojo Builder of the shape to unmarshall.
+     * @return The built shape.
+     */
+    public SdkPojo unmarshall(XMLStreamReader reader, SdkPojo sdkPojo) {
+        return unmarshall(reader, sdkPojo, null);
+    }
+
+    /**
+     * Unmarshalls the element the reader is positioned at into the given builder, offering every direct child element to
+     * the given handler before it is matched against the members of the shape. This allows protocols to pick out
+     * response metadata that lives alongside the members of the result.
+     *
+     * @param reader Reader positioned at the start of the element that holds the members of the shape.
+     * @param sdkPojo Builder of the shape to unmarshall.
+     * @param childElementHandler Handler for direct child elements, may be null.
+     * @return The built shape.
+     */
+    public SdkPojo unmarshall(XMLStreamReader reader, SdkPojo sdkPojo, ChildElementHandler childElementHandler) {
+        try {
+            return unmarshallStruct(reader, sdkPojo, childElementHandler);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Advances the reader to the next direct child element of the current element.
+     *
+     * @param reader Reader positioned at the start of the parent element or at the end of a previous child element.
+     * @return True if the reader is now positioned at the start of a child element, false if the end of the parent element
+     * was reached.
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the text content of the current element, consistent with {@link XmlElement#textContent()}. On return the
+     * reader is positioned at the end of the element.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = "";
+        StringBuilder builder = null;
+        boolean inTextRun = false;
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (!inTextRun) {
+                        text = reader.getText();
+                        builder = null;
+                        inTextRun = true;
+                    } else {
+                        if (builder == null) {
+                            builder = new StringBuilder(text);
+                        }
+                        builder.append(reader.getText());
+                    }
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    skipElement(reader);
+                    inTextRun = false;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    return builder == null ? text : builder.toString();
+                default:
+                    break;
+            }
+        }
+        return builder == null ? text : builder.toString();
+    }
+
+    /**
+     * Skips the current element and all of its descendants. On return the reader is positioned at the end of the element.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Materializes the current element, and all of its descendants, as an {@link XmlElement}. This is used when a
+     * streamed document turns out to need DOM based handling, for example when it contains an error. On return the reader
+     * is positioned at the end of the element.
+     */
+    public static XmlElement readElement(XMLStreamReader reader) {
+        try {
+            return parseElement(reader);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    private static XmlElement parseElement(XMLStreamReader reader) throws XMLStreamException {
+        XmlElement.Builder elementBuilder = XmlElement.builder().elementName(reader.getLocalName());
+        if (reader.getAttributeCount() > 0) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                attributes.put(attributeKey(reader, i), reader.getAttributeValue(i));
+            }
+            elementBuilder.attributes(attributes);
+        }
+
+        StringBuilder text = null;
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    flushText(elementBuilder, text);
+                    text = null;
+                    elementBuilder.addChildElement(parseElement(reader));
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (text == null) {
+                        text = new StringBuilder();
+                    }
+                    text.append(reader.getText());
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    flushText(elementBuilder, text);
+                    return elementBuilder.build();
+                default:
+                    break;
+            }
+        }
+        return elementBuilder.build();
+    }
+
+    private static void flushText(XmlElement.Builder elementBuilder, StringBuilder text) {
+        if (text != null) {
+            elementBuilder.textContent(text.toString());
+        }
+    }
+
+    private static String attributeKey(XMLStreamReader reader, int index) {
+        String prefix = reader.getAttributePrefix(index);
+        return (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(index);
+    }
+
+    private SdkPojo unmarshallStruct(XMLStreamReader reader, SdkPojo sdkPojo,
+                                     ChildElementHandler childElementHandler) throws XMLStreamException {
+        StructPlan plan = structPlans.computeIfAbsent(sdkPojo.getClass(), c -> new StructPlan(sdkPojo));
+
+        if (!plan.attributeFields.isEmpty()) {
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                SdkField<?> field = plan.attributeFields.get(attributeKey(reader, i));
+                if (field != null) {
+                    field.set(sdkPojo, reader.getAttributeValue(i));
+                }
+            }
+        }
+
+        Set<SdkField<?>> unmarshalledFields = null;
+        Map<SdkField<?>, Object> flattenedValues = null;
+        while (nextChildElement(reader)) {
+            if (childElementHandler != null && childElementHandler.handle(reader.getLocalName(), reader)) {
+                continue;
+            }
+
+            SdkField<?> field = plan.elementFields.get(reader.getLocalName());
+            if (field == null) {
+                skipElement(reader);
+                continue;
+            }
+
+            if (isFlattened(field)) {
+                if (flattenedValues == null) {
+                    flattenedValues = new HashMap<>();
+                }
+                accumulateFlattened(reader, field, flattenedValues);
+                continue;
+            }
+
+            if (unmarshalledFields == null) {
+                unmarshalledFields = new HashSet<>();
+            }
+            if (!unmarshalledFields.add(field)) {
+                // Only the first occurrence of a member is unmarshalled, consistent with the DOM unmarshallers.
+                skipElement(reader);
+                continue;
+            }
+            field.set(sdkPojo, readValue(reader, field));
+        }
+
+        if (flattenedValues != null) {
+            flattenedValues.forEach((field, value) -> field.set(sdkPojo, value));
+        }
+
+        return build(sdkPojo);
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void accumulateFlattened(XMLStreamReader reader, SdkField<?> field, Map<SdkField<?>, Object> values)
+            throws XMLStreamException {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            SdkField<?> memberField = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).memberFieldInfo();
+            List<Object> list = (List<Object>) values.computeIfAbsent(field, f -> new ArrayList<>());
+            list.add(readValue(reader, memberField));
+        } else {
+            MapTrait mapTrait = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT);
+            Map<String, Object> map = (Map<String, Object>) values.computeIfAbsent(field, f -> new HashMap<>());
+            readMapEntry(reader, mapTrait, map);
+        }
+    }
+
+    private Object readValue(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            return unmarshallStruct(reader, field.constructor().get(), null);
+        }
+        if (type == MarshallingType.LIST) {
+            return readList(reader, field);
+        }
+        if (type == MarshallingType.MAP) {
+            return readMap(reader, field);
+        }
+        if (type == MarshallingType.NULL) {
+            skipElement(reader);
+            return null;
+        }
+        return convert(readText(reader), field);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T convert(String text, SdkField<T> field) {
+        StringToValueConverter.StringToValue<T> converter =
+            (StringToValueConverter.StringToValue<T>) converters.get(field.marshallingType());
+        return converter.convert(text, field);
+    }
+
+    private List<Object> readList(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        ListTrait listTrait = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT);
+        SdkField<?> memberField = listTrait.memberFieldInfo();
+        if (listTrait.isFlattened()) {
+            // A flattened list nested in a list or map holds a single member per element.
+            return Collections.singletonList(readValue(reader, memberField));
+        }
+
+        String memberName = listMemberName(listTrait);
+        List<Object> list = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            if (memberName == null || memberName.equals(reader.getLocalName())) {
+                list.add(readValue(reader, memberField));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return list;
+    }
+
+    private String listMemberName(ListTrait listTrait) {
+        if (!matchListMemberNames) {
+            return null;
+        }
+        return listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                      : listTrait.memberFieldInfo().locationName();
+    }
+
+    private Map<String, Object> readMap(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        MapTrait mapTrait = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT);
+        Map<String, Object> map = new HashMap<>();
+        if (mapTrait.isFlattened()) {
+            readMapEntry(reader, mapTrait, map);
+            return map;
+        }
+
+        while (nextChildElement(reader)) {
+            if ("entry".equals(reader.getLocalName())) {
+                readMapEntry(reader, mapTrait, map);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    private void readMapEntry(XMLStreamReader reader, MapTrait mapTrait, Map<String, Object> map)
+            throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        while (nextChildElement(reader)) {
+            String elementName = reader.getLocalName();
+            if (key == null && elementName.equals(mapTrait.keyLocationName())) {
+                key = readText(reader);
+            } else if (elementName.equals(mapTrait.valueLocationName())) {
+                value = readValue(reader, mapTrait.valueFieldInfo());
+            } else {
+                skipElement(reader);
+            }
+        }
+        if (key == null) {
+            throw SdkClientException.create("Map entry is missing the key element " + mapTrait.keyLocationName());
+        }
+        map.put(key, value);
+    }
+
+    /**
+     * Only the shape that is unsupported because of its own members is cached here. The shapes that merely reach it are not,
+     * since the result for a shape reached during the traversal may depend on shapes that are still being visited.
+     */
+    private boolean isSupported(SdkPojo sdkPojo, Set<Class<?>> visited) {
+        Class<?> shape = sdkPojo.getClass();
+        Boolean supported = supportedShapes.get(shape);
+        if (supported != null) {
+            return supported;
+        }
+        if (!visited.add(shape)) {
+            return true;
+        }
+
+        Set<String> elementNames = new HashSet<>();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                continue;
+            }
+            if (field.containsTrait(PayloadTrait.class, TraitType.PAYLOAD_TRAIT)
+                || !elementNames.add(field.unmarshallLocationName())) {
+                return unsupported(shape);
+            }
+            if (!isAttribute(field) && !isSupportedMember(shape, field, visited)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSupportedMember(Class<?> shape, SdkField<?> field, Set<Class<?>> visited) {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            return isSupported(field.constructor().get(), visited);
+        }
+        if (type == MarshallingType.LIST) {
+            return isSupportedMember(shape, field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).memberFieldInfo(), visited);
+        }
+        if (type == MarshallingType.MAP) {
+            return isSupportedMember(shape, field.getTrait(MapTrait.class, TraitType.MAP_TRAIT).valueFieldInfo(), visited);
+        }
+        return type == MarshallingType.NULL || converters.containsKey(type) || unsupported(shape);
+    }
+
+    private boolean unsupported(Class<?> shape) {
+        supportedShapes.putIfAbsent(shape, false);
+        return false;
+    }
+
+    private static boolean isAttribute(SdkField<?> field) {
+        return field.containsTrait(XmlAttributeTrait.class, TraitType.XML_ATTRIBUTE_TRAIT);
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            return field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).isFlattened();
+        }
+        if (field.marshallingType() == MarshallingType.MAP) {
+            return field.getTrait(MapTrait.class, TraitType.MAP_TRAIT).isFlattened();
+        }
+        return false;
+    }
+
+    /**
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Handler for direct child elements of the root shape being unmarshalled.
+     */
+    @FunctionalInterface
+    public interface ChildElementHandler {
+
+        /**
+         * @param elementName Local name of the child element.
+         * @param reader Reader positioned at the start of the child element.
+         * @return True if the handler consumed the element, in which case the reader must be left positioned at the end of
+         * the element. False if the element should be matched against the members of the shape.
+         */
+        boolean handle(String elementName, XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * Member lookup tables for a single shape, computed once per builder class.
+     */
+    private static final class StructPlan {
+        private final Map<String, SdkField<?>> elementFields = new HashMap<>();
+        private final Map<String, SdkField<?>> attributeFields = new HashMap<>();
+
+        private StructPlan(SdkPojo sdkPojo) {
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (field.location() != MarshallLocation.PAYLOAD) {
+                    continue;
+                }
+                if (isAttribute(field)) {
+                    attributeFields.put(field.unmarshallLocationName(), field);
+                } else {
+                    elementFields.put(field.unmarshallLocationName(), field);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link XmlStreamingUnmarshaller}.
+     */
+    public static final class Builder {
+
+        private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters = new IdentityHashMap<>();
+        private boolean matchListMemberNames = true;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the converter used for element text of the given simple type.
+         */
+        public <T> Builder converter(MarshallingType<T> marshallingType, StringToValueConverter.StringToValue<T> converter) {
+            converters.put(Validate.paramNotNull(marshallingType, "marshallingType"),
+                           Validate.paramNotNull(converter, "converter"));
+            return this;
+        }
+
+        /**
+         * Whether non-flattened list members are matched by their modeled element name (REST/XML), or whether every
+         * direct child element is treated as a member (AWS/Query and EC2). Defaults to true.
+         */
+        public Builder matchListMemberNames(boolean matchListMemberNames) {
+            this.matchListMemberNames = matchListMemberNames;
+            return this;
+        }
+
+        /**
+         * @return New instance of {@link XmlStreamingUnmarshaller}.
+         */
+        public XmlStreamingUnmarshaller build() {
+            return new XmlStreamingUnmarshaller(this);
+        }
+    }
+}
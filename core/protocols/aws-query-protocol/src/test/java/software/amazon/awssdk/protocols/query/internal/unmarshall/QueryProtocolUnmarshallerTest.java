@@ -0,0 +1,260 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class QueryProtocolUnmarshallerTest {
+
+    private static final String QUERY_RESPONSE =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+        + "<DescribeThingsResponse xmlns=\"https://example.amazonaws.com/doc/2020-01-01/\">"
+        + "  <DescribeThingsResult>"
+        + "    <StringMember>foo &amp; <![CDATA[bar]]></StringMember>"
+        + "    <IntegerMember>42</IntegerMember>"
+        + "    <TimestampMember>2020-01-01T00:00:00Z</TimestampMember>"
+        + "    <UnknownMember><Nested>ignored</Nested></UnknownMember>"
+        + "    <Things>"
+        + "      <member><Name>a</Name><Tags><entry><key>k1</key><value>v1</value></entry></Tags></member>"
+        + "      <item><Name>b</Name></item>"
+        + "    </Things>"
+        + "    <FlattenedString>one</FlattenedString>"
+        + "    <StringMember>second occurrence is ignored</StringMember>"
+        + "    <FlattenedString>two</FlattenedString>"
+        + "    <Nested><Name>nested</Name></Nested>"
+        + "  </DescribeThingsResult>"
+        + "  <ResponseMetadata>"
+        + "    <RequestId>request-id</RequestId>"
+        + "  </ResponseMetadata>"
+        + "</DescribeThingsResponse>";
+
+    private static final String EC2_RESPONSE =
+        "<DescribeThingsResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">"
+        + "  <requestId>ec2-request-id</requestId>"
+        + "  <StringMember>ec2</StringMember>"
+        + "  <Things>"
+        + "    <item><Name>a</Name></item>"
+        + "  </Things>"
+        + "</DescribeThingsResponse>";
+
+    @Test
+    public void streaming_queryResponse_matchesDomUnmarshalling() {
+        Pair<TestShape, Map<String, String>> dom = unmarshall(queryUnmarshaller(false), QUERY_RESPONSE);
+        Pair<TestShape, Map<String, String>> streaming = unmarshall(queryUnmarshaller(true), QUERY_RESPONSE);
+
+        assertThat(streaming.left().values).isEqualTo(dom.left().values);
+        assertThat(streaming.right()).isEqualTo(dom.right());
+
+        Map<String, Object> values = streaming.left().values;
+        assertThat(values.get("StringMember")).isEqualTo("foo & bar");
+        assertThat(values.get("IntegerMember")).isEqualTo(42);
+        assertThat(values.get("TimestampMember")).isEqualTo(Instant.parse("2020-01-01T00:00:00Z"));
+        assertThat(values.get("FlattenedString")).isEqualTo(Arrays.asList("one", "two"));
+        assertThat(((TestNestedShape) values.get("Nested")).values).containsEntry("Name", "nested");
+        assertThat((List<?>) values.get("Things")).hasSize(2);
+        assertThat(streaming.right()).containsEntry(AWS_REQUEST_ID, "request-id");
+    }
+
+    @Test
+    public void streaming_ec2Response_matchesDomUnmarshalling() {
+        Pair<TestShape, Map<String, String>> dom = unmarshall(ec2Unmarshaller(false), EC2_RESPONSE);
+        Pair<TestShape, Map<String, String>> streaming = unmarshall(ec2Unmarshaller(true), EC2_RESPONSE);
+
+        assertThat(streaming.left().values).isEqualTo(dom.left().values);
+        assertThat(streaming.right()).isEqualTo(dom.right());
+        assertThat(streaming.left().values).containsEntry("StringMember", "ec2");
+        assertThat(streaming.right()).containsEntry(AWS_REQUEST_ID, "ec2-request-id");
+    }
+
+    @Test
+    public void streaming_emptyResponse_returnsEmptyShape() {
+        Pair<TestShape, Map<String, String>> streaming = unmarshall(queryUnmarshaller(true), "");
+
+        assertThat(streaming.left().values).isEmpty();
+        assertThat(streaming.right()).isEmpty();
+    }
+
+    @Test
+    public void streaming_responseWithOnlyMetadata_parsesMetadata() {
+        String xml = "<DeleteThingResponse><ResponseMetadata><RequestId>id</RequestId></ResponseMetadata>"
+                     + "</DeleteThingResponse>";
+        Pair<TestShape, Map<String, String>> streaming = unmarshall(queryUnmarshaller(true), xml);
+
+        assertThat(streaming.left().values).isEmpty();
+        assertThat(streaming.right()).containsEntry(AWS_REQUEST_ID, "id");
+    }
+
+    @Test
+    public void streaming_malformedResponse_throwsSdkClientException() {
+        assertThatThrownBy(() -> unmarshall(queryUnmarshaller(true), "<Response><Result><StringMember>foo</Result>"))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Could not parse XML response.");
+    }
+
+    private static QueryProtocolUnmarshaller queryUnmarshaller(boolean streaming) {
+        return QueryProtocolUnmarshaller.builder().hasResultWrapper(true).enableStreamingUnmarshalling(streaming).build();
+    }
+
+    private static QueryProtocolUnmarshaller ec2Unmarshaller(boolean streaming) {
+        return QueryProtocolUnmarshaller.builder().hasResultWrapper(false).enableStreamingUnmarshalling(streaming).build();
+    }
+
+    private static Pair<TestShape, Map<String, String>> unmarshall(QueryProtocolUnmarshaller unmarshaller, String xml) {
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                                          .build();
+        return unmarshaller.unmarshall(new TestShape(), response);
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name, String memberName) {
+        return SdkField.<T>builder(type)
+                       .memberName(memberName)
+                       .setter((pojo, value) -> ((TestPojo) pojo).values.put(memberName, value))
+                       .getter(pojo -> null)
+                       .traits(location(name))
+                       .build();
+    }
+
+    private static LocationTrait location(String name) {
+        return LocationTrait.builder()
+                            .location(MarshallLocation.PAYLOAD)
+                            .locationName(name)
+                            .unmarshallLocationName(name)
+                            .build();
+    }
+
+    private static SdkField<String> memberField(String name) {
+        return SdkField.<String>builder(MarshallingType.STRING)
+                       .traits(location(name))
+                       .build();
+    }
+
+    private abstract static class TestPojo implements SdkPojo, Buildable {
+        final Map<String, Object> values = new LinkedHashMap<>();
+
+        @Override
+        public Object build() {
+            return this;
+        }
+    }
+
+    private static final class TestNestedShape extends TestPojo {
+        private static final SdkField<String> NAME = field(MarshallingType.STRING, "Name", "Name");
+
+        private static final SdkField<Map<String, String>> TAGS =
+            SdkField.<Map<String, String>>builder(MarshallingType.MAP)
+                    .memberName("Tags")
+                    .setter((pojo, value) -> ((TestPojo) pojo).values.put("Tags", new HashMap<>(value)))
+                    .getter(pojo -> null)
+                    .traits(location("Tags"),
+                            MapTrait.builder()
+                                    .keyLocationName("key")
+                                    .valueLocationName("value")
+                                    .valueFieldInfo(memberField("value"))
+                                    .build())
+                    .build();
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return Arrays.asList(NAME, TAGS);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestNestedShape && values.equals(((TestNestedShape) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+    }
+
+    private static final class TestShape extends TestPojo {
+        private static final SdkField<String> STRING_MEMBER = field(MarshallingType.STRING, "StringMember", "StringMember");
+        private static final SdkField<Integer> INTEGER_MEMBER =
+            field(MarshallingType.INTEGER, "IntegerMember", "IntegerMember");
+        private static final SdkField<Instant> TIMESTAMP_MEMBER =
+            field(MarshallingType.INSTANT, "TimestampMember", "TimestampMember");
+
+        private static final SdkField<SdkPojo> NESTED =
+            SdkField.<SdkPojo>builder(MarshallingType.SDK_POJO)
+                    .memberName("Nested")
+                    .constructor(TestNestedShape::new)
+                    .setter((pojo, value) -> ((TestPojo) pojo).values.put("Nested", value))
+                    .getter(pojo -> null)
+                    .traits(location("Nested"))
+                    .build();
+
+        private static final SdkField<List<SdkPojo>> THINGS =
+            SdkField.<List<SdkPojo>>builder(MarshallingType.LIST)
+                    .memberName("Things")
+                    .setter((pojo, value) -> ((TestPojo) pojo).values.put("Things", value))
+                    .getter(pojo -> null)
+                    .traits(location("Things"),
+                            ListTrait.builder()
+                                     .memberLocationName("member")
+                                     .memberFieldInfo(SdkField.<SdkPojo>builder(MarshallingType.SDK_POJO)
+                                                              .constructor(TestNestedShape::new)
+                                                              .traits(location("member"))
+                                                              .build())
+                                     .build())
+                    .build();
+
+        private static final SdkField<List<String>> FLATTENED_STRING =
+            SdkField.<List<String>>builder(MarshallingType.LIST)
+                    .memberName("FlattenedString")
+                    .setter((pojo, value) -> ((TestPojo) pojo).values.put("FlattenedString", value))
+                    .getter(pojo -> null)
+                    .traits(location("FlattenedString"),
+                            ListTrait.builder()
+                                     .isFlattened(true)
+                                     .memberFieldInfo(memberField("FlattenedString"))
+                                     .build())
+                    .build();
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return Collections.unmodifiableList(Arrays.asList(STRING_MEMBER, INTEGER_MEMBER, TIMESTAMP_MEMBER, NESTED,
+                                                              THINGS, FLATTENED_STRING));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+
+public class XmlStreamingUnmarshallerTest {
+
+    @Test
+    public void isSupported_rootReachesUnsupportedShape_onlyRootAndUnsupportedShapeAreUnsupported() {
+        XmlStreamingUnmarshaller unmarshaller = stringOnlyUnmarshaller();
+
+        assertThat(unmarshaller.isSupported(new RootShape())).isFalse();
+        assertThat(unmarshaller.isSupported(new SupportedShape())).isTrue();
+        assertThat(unmarshaller.isSupported(new UnsupportedShape())).isFalse();
+    }
+
+    @Test
+    public void isSupported_supportedShapeCheckedFirst_isNotAffectedByRoot() {
+        XmlStreamingUnmarshaller unmarshaller = stringOnlyUnmarshaller();
+
+        assertThat(unmarshaller.isSupported(new SupportedShape())).isTrue();
+        assertThat(unmarshaller.isSupported(new RootShape())).isFalse();
+        assertThat(unmarshaller.isSupported(new SupportedShape())).isTrue();
+    }
+
+    @Test
+    public void isSupported_unsupportedShapeCheckedFirst_rootIsUnsupported() {
+        XmlStreamingUnmarshaller unmarshaller = stringOnlyUnmarshaller();
+
+        assertThat(unmarshaller.isSupported(new UnsupportedShape())).isFalse();
+        assertThat(unmarshaller.isSupported(new RootShape())).isFalse();
+    }
+
+    private static XmlStreamingUnmarshaller stringOnlyUnmarshaller() {
+        return XmlStreamingUnmarshaller.builder()
+                                       .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+                                       .build();
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name) {
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .setter((pojo, value) -> { })
+                       .getter(pojo -> null)
+                       .traits(LocationTrait.builder()
+                                            .location(MarshallLocation.PAYLOAD)
+                                            .locationName(name)
+                                            .unmarshallLocationName(name)
+                                            .build())
+                       .build();
+    }
+
+    private static SdkField<SdkPojo> pojoField(String name, Supplier<SdkPojo> constructor) {
+        return SdkField.<SdkPojo>builder(MarshallingType.SDK_POJO)
+                       .memberName(name)
+                       .setter((pojo, value) -> { })
+                       .getter(pojo -> null)
+                       .constructor(constructor)
+                       .traits(LocationTrait.builder()
+                                            .location(MarshallLocation.PAYLOAD)
+                                            .locationName(name)
+                                            .unmarshallLocationName(name)
+                                            .build())
+                       .build();
+    }
+
+    private static final class RootShape implements SdkPojo {
+        private static final List<SdkField<?>> FIELDS = Arrays.asList(pojoField("Supported", SupportedShape::new),
+                                                                      pojoField("Unsupported", UnsupportedShape::new));
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+    }
+
+    private static final class SupportedShape implements SdkPojo {
+        private static final List<SdkField<?>> FIELDS = Collections.singletonList(field(MarshallingType.STRING, "Name"));
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+    }
+
+    /**
+     * Unsupported because the unmarshaller has no converter for integers.
+     */
+    private static final class UnsupportedShape implements SdkPojo {
+        private static final List<SdkField<?>> FIELDS = Collections.singletonList(field(MarshallingType.INTEGER, "Count"));
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+    }
+}
@@ -42,6 +42,7 @@ import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.OperationMetadataAttribute;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.query.unmarshall.AwsXmlErrorProtocolUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.SdkClientXmlProtocolAdvancedOption;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.xml.internal.marshall.XmlGenerator;
 import software.amazon.awssdk.protocols.xml.internal.marshall.XmlProtocolMarshaller;
@@ -80,11 +81,16 @@ public class AwsXmlProtocolFactory {
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final HttpResponseHandler<AwsServiceException> errorUnmarshaller;
     private final SdkClientConfiguration clientConfiguration;
+    private final boolean enableStreamingUnmarshalling;
+    private final XmlProtocolUnmarshaller responseUnmarshaller;
 
     AwsXmlProtocolFactory(Builder<?> builder) {
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.clientConfiguration = builder.clientConfiguration;
+        this.enableStreamingUnmarshalling = enableStreamingUnmarshalling(clientConfiguration);
+        this.responseUnmarshaller = enableStreamingUnmarshalling ? XmlProtocolUnmarshaller.create(true)
+                                                                 : XML_PROTOCOL_UNMARSHALLER;
 
         this.errorUnmarshaller = timeUnmarshalling(
             AwsXmlErrorProtocolUnmarshaller.builder()
@@ -128,7 +134,7 @@ public class AwsXmlProtocolFactory {
         return timeUnmarshalling(
             new AwsXmlResponseHandler<>(
                 new XmlResponseHandler<>(
-                    XML_PROTOCOL_UNMARSHALLER, pojoSupplier,
+                    responseUnmarshaller, pojoSupplier,
                     staxOperationMetadata.isHasStreamingSuccessResponse())));
     }
 
@@ -136,7 +142,23 @@ public class AwsXmlProtocolFactory {
         Supplier<SdkPojo> pojoSupplier) {
 
         return new AwsXmlResponseTransformer<>(
-            XML_PROTOCOL_UNMARSHALLER, r -> pojoSupplier.get());
+            responseUnmarshaller, r -> pojoSupplier.get());
+    }
+
+    /**
+     * @return The unmarshaller to use for unmarshalling successful responses directly from the response stream, or null
+     * if streaming unmarshalling is not enabled for this client.
+     */
+    XmlProtocolUnmarshaller streamingUnmarshaller() {
+        return enableStreamingUnmarshalling ? responseUnmarshaller : null;
+    }
+
+    private static boolean enableStreamingUnmarshalling(SdkClientConfiguration clientConfiguration) {
+        if (clientConfiguration == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(
+            clientConfiguration.option(SdkClientXmlProtocolAdvancedOption.ENABLE_STREAMING_UNMARSHALLER));
     }
 
     protected Function<AwsXmlUnmarshallingContext, AwsServiceException> createErrorTransformer() {
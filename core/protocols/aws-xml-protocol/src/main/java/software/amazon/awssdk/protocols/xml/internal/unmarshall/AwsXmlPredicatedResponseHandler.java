@@ -29,6 +29,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -48,6 +49,7 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
     private final Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError;
     private final boolean needsConnectionLeftOpen;
+    private final XmlProtocolUnmarshaller streamingUnmarshaller;
 
     /**
      * Standard constructor
@@ -63,12 +65,34 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
         Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
         Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
         boolean needsConnectionLeftOpen) {
+        this(pojoSupplier, successResponseTransformer, errorResponseTransformer, decorateContextWithError,
+             needsConnectionLeftOpen, null);
+    }
+
+    /**
+     * Constructor that additionally enables streaming unmarshalling of successful responses.
+     * @param pojoSupplier A method that supplies an empty builder of the correct type
+     * @param successResponseTransformer A function that can unmarshall a response object from parsed XML
+     * @param errorResponseTransformer A function that can unmarshall an exception object from parsed XML
+     * @param decorateContextWithError A function that determines if the response was an error or not
+     * @param needsConnectionLeftOpen true if the underlying connection should not be closed once parsed
+     * @param streamingUnmarshaller Unmarshaller used to unmarshall successful responses directly from the response
+     *                              stream, or null to always parse the response into an {@link XmlElement} first
+     */
+    public AwsXmlPredicatedResponseHandler(
+        Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
+        Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
+        boolean needsConnectionLeftOpen,
+        XmlProtocolUnmarshaller streamingUnmarshaller) {
 
         this.pojoSupplier = pojoSupplier;
         this.successResponseTransformer = successResponseTransformer;
         this.errorResponseTransformer = errorResponseTransformer;
         this.decorateContextWithError = decorateContextWithError;
         this.needsConnectionLeftOpen = needsConnectionLeftOpen;
+        this.streamingUnmarshaller = streamingUnmarshaller;
     }
 
     /**
@@ -112,13 +136,36 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+        AwsXmlUnmarshallingContext.Builder context = AwsXmlUnmarshallingContext.builder()
+                                                                               .executionAttributes(executionAttributes)
+                                                                               .sdkHttpFullResponse(httpFullResponse);
+
+        if (streamingUnmarshaller != null && streamingUnmarshaller.canStreamUnmarshall(sdkPojo, httpFullResponse)) {
+            return streamingUnmarshall(sdkPojo, httpFullResponse)
+                .map(response -> context.unmarshalledResponse(response).build(),
+                     document -> context.parsedXml(document).build());
+        }
 
-        return AwsXmlUnmarshallingContext.builder()
-                                         .parsedXml(document)
-                                         .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
-                                         .build();
+        XmlElement document = XmlResponseParserUtils.parse(sdkPojo, httpFullResponse);
+        return context.parsedXml(document).build();
+    }
+
+    /**
+     * Unmarshalls the response directly from the response stream. Failures are surfaced the same way as failures to
+     * unmarshall a parsed document in {@link #handleSuccessResponse(AwsXmlUnmarshallingContext)}.
+     */
+    private Either<SdkPojo, XmlElement> streamingUnmarshall(SdkPojo sdkPojo, SdkHttpFullResponse httpFullResponse) {
+        try {
+            return streamingUnmarshaller.streamingUnmarshall(sdkPojo, httpFullResponse);
+        } catch (RetryableException e) {
+            throw e;
+        } catch (Exception e) {
+            if (e instanceof SdkException && ((SdkException) e).retryable()) {
+                throw (SdkException) e;
+            }
+            throw unmarshallingFailure(e, httpFullResponse);
+        }
     }
 
     /**
@@ -137,14 +184,18 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
                 throw (SdkException) e;
             }
 
-            String errorMessage =
-                    "Unable to unmarshall response (" + e.getMessage() + "). Response Code: "
-                    + parsedResponse.sdkHttpFullResponse().statusCode() + ", Response Text: "
-                    + parsedResponse.sdkHttpFullResponse().statusText().orElse(null);
-            throw SdkClientException.builder().message(errorMessage).cause(e).build();
+            throw unmarshallingFailure(e, parsedResponse.sdkHttpFullResponse());
         }
     }
 
+    private static SdkClientException unmarshallingFailure(Exception e, SdkHttpFullResponse httpFullResponse) {
+        String errorMessage =
+                "Unable to unmarshall response (" + e.getMessage() + "). Response Code: "
+                + httpFullResponse.statusCode() + ", Response Text: "
+                + httpFullResponse.statusText().orElse(null);
+        return SdkClientException.builder().message(errorMessage).cause(e).build();
+    }
+
     /**
      * Responsible for handling an error response, including unmarshalling the error response
      * into the most specific exception type possible, and throwing the exception.
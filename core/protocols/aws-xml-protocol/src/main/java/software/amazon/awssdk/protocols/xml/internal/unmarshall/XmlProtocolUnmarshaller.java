@@ -40,7 +40,9 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 @SdkInternalApi
@@ -49,15 +51,32 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE
         = StringToInstant.create(getDefaultTimestampFormats());
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
+    private static final XmlStreamingUnmarshaller STREAMING_UNMARSHALLER = createStreamingUnmarshaller();
+    private static final String ERROR_ROOT_ELEMENT_NAME = "Error";
 
-    private XmlProtocolUnmarshaller() {
+    private final boolean enableStreamingUnmarshalling;
+
+    private XmlProtocolUnmarshaller(boolean enableStreamingUnmarshalling) {
+        this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return new XmlProtocolUnmarshaller(false);
+    }
+
+    /**
+     * @param enableStreamingUnmarshalling True if success responses should be unmarshalled directly from parser events
+     * when the response shape supports it, false to always build an intermediate {@link XmlElement} tree.
+     */
+    public static XmlProtocolUnmarshaller create(boolean enableStreamingUnmarshalling) {
+        return new XmlProtocolUnmarshaller(enableStreamingUnmarshalling);
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        if (canStreamUnmarshall(sdkPojo, response)) {
+            return (TypeT) streamingUnmarshall(sdkPojo, response)
+                .map(pojo -> pojo, document -> unmarshall(sdkPojo, document, response));
+        }
         XmlElement document = hasXmlPayload(sdkPojo, response) ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
         return unmarshall(sdkPojo, document, response);
     }
@@ -78,6 +97,42 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
     }
 
+    /**
+     * @return True if {@link #streamingUnmarshall(SdkPojo, SdkHttpFullResponse)} can be used for the given response.
+     */
+    public boolean canStreamUnmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        return enableStreamingUnmarshalling
+               && response.isSuccessful()
+               && STREAMING_UNMARSHALLER.isSupported(sdkPojo);
+    }
+
+    /**
+     * Unmarshalls a successful response in a single pass over the parser events, without building an {@link XmlElement}
+     * tree. S3 may return an error document with a success status code, so if the root element of the document turns out
+     * to be an {@code <Error/>} element it is materialized and returned instead, for the caller to handle as an error.
+     *
+     * @return Either the unmarshalled and built POJO, or the parsed error document.
+     */
+    public Either<SdkPojo, XmlElement> streamingUnmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        XmlUnmarshallerContext context = XmlUnmarshallerContext.builder()
+                                                               .response(response)
+                                                               .registry(REGISTRY)
+                                                               .protocolUnmarshaller(this)
+                                                               .build();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+
+        boolean hasPayloadMembers = sdkPojo.sdkFields().stream().anyMatch(f -> f.location() == MarshallLocation.PAYLOAD);
+        if (!hasPayloadMembers || !response.content().isPresent()) {
+            return Either.left(build(sdkPojo));
+        }
+        return STREAMING_UNMARSHALLER.unmarshall(response.content().get(), sdkPojo, ERROR_ROOT_ELEMENT_NAME);
+    }
+
     SdkPojo unmarshall(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
         for (SdkField<?> field : sdkPojo.sdkFields()) {
             XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
@@ -130,6 +185,10 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
             }
         }
 
+        return build(sdkPojo);
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
         if (!(sdkPojo instanceof Buildable)) {
             throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
                                        + "Buildable)");
@@ -213,6 +272,22 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
+    private static XmlStreamingUnmarshaller createStreamingUnmarshaller() {
+        return XmlStreamingUnmarshaller
+            .builder()
+            .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+            .converter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+            .converter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+            .converter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+            .converter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+            .converter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+            .converter(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL)
+            .converter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+            .converter(MarshallingType.INSTANT, INSTANT_STRING_TO_VALUE)
+            .converter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+            .build();
+    }
+
     private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
         return XmlUnmarshallerRegistry
             .builder()
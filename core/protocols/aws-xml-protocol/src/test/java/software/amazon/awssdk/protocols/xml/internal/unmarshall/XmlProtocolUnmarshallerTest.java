@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class XmlProtocolUnmarshallerTest {
+
+    private static final String RESPONSE =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+        + "<ListThingsResult xmlns=\"http://example.amazonaws.com/doc/2006-03-01/\""
+        + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"Listing\">"
+        + "  <Name>bucket</Name>"
+        + "  <KeyCount>2</KeyCount>"
+        + "  <Keys>"
+        + "    <Key>a</Key>"
+        + "    <NotAKey>ignored</NotAKey>"
+        + "    <Key>b</Key>"
+        + "  </Keys>"
+        + "</ListThingsResult>";
+
+    private final XmlProtocolUnmarshaller domUnmarshaller = XmlProtocolUnmarshaller.create();
+    private final XmlProtocolUnmarshaller streamingUnmarshaller = XmlProtocolUnmarshaller.create(true);
+
+    @Test
+    public void streaming_matchesDomUnmarshalling() {
+        TestShape dom = domUnmarshaller.unmarshall(new TestShape(), response(200, RESPONSE));
+        TestShape streaming = streamingUnmarshaller.unmarshall(new TestShape(), response(200, RESPONSE));
+
+        assertThat(streaming.values).isEqualTo(dom.values);
+        assertThat(streaming.values).containsEntry("Name", "bucket")
+                                    .containsEntry("KeyCount", 2)
+                                    .containsEntry("Type", "Listing")
+                                    .containsEntry("RequestId", "request-id")
+                                    .containsEntry("Keys", Arrays.asList("a", "b"));
+    }
+
+    @Test
+    public void streaming_errorRoot_returnsParsedErrorDocument() {
+        String error = "<Error><Code>InternalError</Code><Message>We encountered an internal error.</Message></Error>";
+
+        Either<SdkPojo, XmlElement> result = streamingUnmarshaller.streamingUnmarshall(new TestShape(), response(200, error));
+
+        assertThat(result.right()).hasValueSatisfying(e -> {
+            assertThat(e.elementName()).isEqualTo("Error");
+            assertThat(e.getElementByName("Code").textContent()).isEqualTo("InternalError");
+        });
+    }
+
+    @Test
+    public void canStreamUnmarshall_disabledOrErrorResponse_returnsFalse() {
+        assertThat(streamingUnmarshaller.canStreamUnmarshall(new TestShape(), response(200, RESPONSE))).isTrue();
+        assertThat(streamingUnmarshaller.canStreamUnmarshall(new TestShape(), response(500, RESPONSE))).isFalse();
+        assertThat(domUnmarshaller.canStreamUnmarshall(new TestShape(), response(200, RESPONSE))).isFalse();
+    }
+
+    private static SdkHttpFullResponse response(int statusCode, String xml) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(statusCode)
+                                  .putHeader("x-amz-request-id", "request-id")
+                                  .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                  .build();
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String memberName, Trait... traits) {
+        return SdkField.<T>builder(type)
+                       .memberName(memberName)
+                       .setter((pojo, value) -> ((TestShape) pojo).values.put(memberName, value))
+                       .getter(pojo -> null)
+                       .traits(traits)
+                       .build();
+    }
+
+    private static LocationTrait location(MarshallLocation location, String name) {
+        return LocationTrait.builder()
+                            .location(location)
+                            .locationName(name)
+                            .unmarshallLocationName(name)
+                            .build();
+    }
+
+    private static final class TestShape implements SdkPojo, Buildable {
+        private static final SdkField<String> NAME =
+            field(MarshallingType.STRING, "Name", location(MarshallLocation.PAYLOAD, "Name"));
+        private static final SdkField<Integer> KEY_COUNT =
+            field(MarshallingType.INTEGER, "KeyCount", location(MarshallLocation.PAYLOAD, "KeyCount"));
+        private static final SdkField<String> TYPE =
+            field(MarshallingType.STRING, "Type", location(MarshallLocation.PAYLOAD, "xsi:type"),
+                  XmlAttributeTrait.create());
+        private static final SdkField<String> REQUEST_ID =
+            field(MarshallingType.STRING, "RequestId", location(MarshallLocation.HEADER, "x-amz-request-id"));
+        private static final SdkField<List<String>> KEYS =
+            field(MarshallingType.LIST, "Keys", location(MarshallLocation.PAYLOAD, "Keys"),
+                  ListTrait.builder()
+                           .memberLocationName("Key")
+                           .memberFieldInfo(SdkField.<String>builder(MarshallingType.STRING)
+                                                    .traits(location(MarshallLocation.PAYLOAD, "Key"))
+                                                    .build())
+                           .build());
+
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return Arrays.asList(NAME, KEY_COUNT, TYPE, REQUEST_ID, KEYS);
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration options for hedging a request: when the first attempt of the request has not completed after a delay derived
+ * from the recent latencies of the same operation, a second, hedged attempt is sent, the first successful response is used and
+ * the other attempt is cancelled.
+ * <p>
+ * Hedging should only be enabled for idempotent operations, because both attempts may be processed by the service. It is only
+ * supported by asynchronous clients, for operations that do not have a streaming request or response body, and it is ignored
+ * otherwise. To avoid amplifying the load on the service, the number of hedged attempts is limited to a ratio of the number
+ * of hedged requests, see {@link Builder#maxHedgeRatio(Double)}.
+ *
+ * @see RequestOverrideConfiguration.Builder#hedgingConfiguration(HedgingConfiguration)
+ */
+@SdkPublicApi
+public final class HedgingConfiguration implements ToCopyableBuilder<HedgingConfiguration.Builder, HedgingConfiguration> {
+    private static final double DEFAULT_DELAY_PERCENTILE = 95.0;
+    private static final Duration DEFAULT_MINIMUM_DELAY = Duration.ofMillis(5);
+    private static final double DEFAULT_MAX_HEDGE_RATIO = 0.05;
+
+    private final Double delayPercentile;
+    private final Duration minimumDelay;
+    private final Double maxHedgeRatio;
+
+    private HedgingConfiguration(DefaultBuilder builder) {
+        this.delayPercentile = builder.delayPercentile;
+        this.minimumDelay = builder.minimumDelay;
+        this.maxHedgeRatio = builder.maxHedgeRatio;
+        if (delayPercentile != null) {
+            Validate.isTrue(delayPercentile > 0 && delayPercentile <= 100,
+                            "delayPercentile must be greater than 0 and at most 100, but was %s", delayPercentile);
+        }
+        if (minimumDelay != null) {
+            Validate.isNotNegative(minimumDelay, "minimumDelay");
+        }
+        if (maxHedgeRatio != null) {
+            Validate.isTrue(maxHedgeRatio >= 0 && maxHedgeRatio <= 1,
+                            "maxHedgeRatio must be between 0 and 1, but was %s", maxHedgeRatio);
+        }
+    }
+
+    /**
+     * The percentile of the recent attempt latencies of the operation after which a hedged attempt is sent. Defaults to 95.
+     */
+    public double delayPercentile() {
+        return delayPercentile != null ? delayPercentile : DEFAULT_DELAY_PERCENTILE;
+    }
+
+    /**
+     * The minimum delay before a hedged attempt is sent, regardless of the recent attempt latencies of the operation. Defaults
+     * to 5 milliseconds.
+     */
+    public Duration minimumDelay() {
+        return minimumDelay != null ? minimumDelay : DEFAULT_MINIMUM_DELAY;
+    }
+
+    /**
+     * The maximum ratio of hedged attempts to hedged requests of the operation. Defaults to 0.05.
+     */
+    public double maxHedgeRatio() {
+        return maxHedgeRatio != null ? maxHedgeRatio : DEFAULT_MAX_HEDGE_RATIO;
+    }
+
+    /**
+     * Create a {@link HedgingConfiguration.Builder}, used to create a {@link HedgingConfiguration}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingConfiguration")
+                       .add("delayPercentile", delayPercentile)
+                       .add("minimumDelay", minimumDelay)
+                       .add("maxHedgeRatio", maxHedgeRatio)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgingConfiguration that = (HedgingConfiguration) o;
+
+        if (!Objects.equals(delayPercentile, that.delayPercentile)) {
+            return false;
+        }
+        if (!Objects.equals(minimumDelay, that.minimumDelay)) {
+            return false;
+        }
+        return Objects.equals(maxHedgeRatio, that.maxHedgeRatio);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(delayPercentile);
+        result = 31 * result + Objects.hashCode(minimumDelay);
+        result = 31 * result + Objects.hashCode(maxHedgeRatio);
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, HedgingConfiguration> {
+
+        /**
+         * Configures the percentile of the recent attempt latencies of the operation after which a hedged attempt is sent. A
+         * request is not hedged until enough attempt latencies of its operation have been recorded by the client. The default
+         * value is 95. The value must be greater than 0 and at most 100.
+         *
+         * @param delayPercentile
+         * @return This object for method chaining.
+         */
+        Builder delayPercentile(Double delayPercentile);
+
+        /**
+         * Configures the minimum delay before a hedged attempt is sent, regardless of the recent attempt latencies of the
+         * operation. The default value is 5 milliseconds. The value must not be negative.
+         *
+         * @param minimumDelay
+         * @return This object for method chaining.
+         */
+        Builder minimumDelay(Duration minimumDelay);
+
+        /**
+         * Configures the maximum ratio of hedged attempts to hedged requests of the operation. Each hedged request adds this
+         * ratio to a budget of the client, and each hedged attempt takes one from it, so that hedging cannot amplify the load on
+         * the service by more than this ratio. The default value is 0.05. The value must be between 0 and 1.
+         *
+         * @param maxHedgeRatio
+         * @return This object for method chaining.
+         */
+        Builder maxHedgeRatio(Double maxHedgeRatio);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Double delayPercentile;
+        private Duration minimumDelay;
+        private Double maxHedgeRatio;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(HedgingConfiguration hedgingConfiguration) {
+            this.delayPercentile = hedgingConfiguration.delayPercentile;
+            this.minimumDelay = hedgingConfiguration.minimumDelay;
+            this.maxHedgeRatio = hedgingConfiguration.maxHedgeRatio;
+        }
+
+        @Override
+        public Builder delayPercentile(Double delayPercentile) {
+            this.delayPercentile = delayPercentile;
+            return this;
+        }
+
+        @Override
+        public Builder minimumDelay(Duration minimumDelay) {
+            this.minimumDelay = minimumDelay;
+            return this;
+        }
+
+        @Override
+        public Builder maxHedgeRatio(Double maxHedgeRatio) {
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        @Override
+        public HedgingConfiguration build() {
+            return new HedgingConfiguration(this);
+        }
+    }
+}
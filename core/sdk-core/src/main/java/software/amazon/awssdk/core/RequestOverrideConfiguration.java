@@ -54,6 +54,7 @@ public abstract class RequestOverrideConfiguration {
     private final ExecutionAttributes executionAttributes;
     private final EndpointProvider endpointProvider;
     private final CompressionConfiguration compressionConfiguration;
+    private final HedgingConfiguration hedgingConfiguration;
     private final List<SdkPlugin> plugins;
 
     protected RequestOverrideConfiguration(Builder<?> builder) {
@@ -67,6 +68,7 @@ public abstract class RequestOverrideConfiguration {
         this.executionAttributes = ExecutionAttributes.unmodifiableExecutionAttributes(builder.executionAttributes());
         this.endpointProvider = builder.endpointProvider();
         this.compressionConfiguration = builder.compressionConfiguration();
+        this.hedgingConfiguration = builder.hedgingConfiguration();
         this.plugins = Collections.unmodifiableList(new ArrayList<>(builder.plugins()));
     }
 
@@ -186,6 +188,14 @@ public abstract class RequestOverrideConfiguration {
         return Optional.ofNullable(compressionConfiguration);
     }
 
+    /**
+     * Returns the hedging configuration object, if present. If present, a hedged attempt of this request is sent when its first
+     * attempt is slow, see {@link HedgingConfiguration}.
+     */
+    public Optional<HedgingConfiguration> hedgingConfiguration() {
+        return Optional.ofNullable(hedgingConfiguration);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -205,6 +215,7 @@ public abstract class RequestOverrideConfiguration {
                Objects.equals(executionAttributes, that.executionAttributes) &&
                Objects.equals(endpointProvider, that.endpointProvider) &&
                Objects.equals(compressionConfiguration, that.compressionConfiguration) &&
+               Objects.equals(hedgingConfiguration, that.hedgingConfiguration) &&
                Objects.equals(plugins, that.plugins);
     }
 
@@ -221,6 +232,7 @@ public abstract class RequestOverrideConfiguration {
         hashCode = 31 * hashCode + Objects.hashCode(executionAttributes);
         hashCode = 31 * hashCode + Objects.hashCode(endpointProvider);
         hashCode = 31 * hashCode + Objects.hashCode(compressionConfiguration);
+        hashCode = 31 * hashCode + Objects.hashCode(hedgingConfiguration);
         hashCode = 31 * hashCode + Objects.hashCode(plugins);
         return hashCode;
     }
@@ -483,6 +495,28 @@ public abstract class RequestOverrideConfiguration {
 
         CompressionConfiguration compressionConfiguration();
 
+        /**
+         * Sets the {@link HedgingConfiguration} for this request. If set, a hedged attempt of this request is sent when its
+         * first attempt is slow. Hedging should only be enabled for idempotent operations, and is only supported by
+         * asynchronous clients.
+         *
+         * @param hedgingConfiguration Request hedging configuration object for this request.
+         */
+        B hedgingConfiguration(HedgingConfiguration hedgingConfiguration);
+
+        /**
+         * Sets the {@link HedgingConfiguration} for this request. If set, a hedged attempt of this request is sent when its
+         * first attempt is slow. Hedging should only be enabled for idempotent operations, and is only supported by
+         * asynchronous clients.
+         *
+         * @param hedgingConfigurationConsumer A {@link Consumer} that accepts a {@link HedgingConfiguration.Builder}
+         *
+         * @return This object for method chaining
+         */
+        B hedgingConfiguration(Consumer<HedgingConfiguration.Builder> hedgingConfigurationConsumer);
+
+        HedgingConfiguration hedgingConfiguration();
+
         /**
          * Sets the plugins used to update the configuration used by this request.
          *
@@ -547,6 +581,7 @@ public abstract class RequestOverrideConfiguration {
         private ExecutionAttributes.Builder executionAttributesBuilder = ExecutionAttributes.builder();
         private EndpointProvider endpointProvider;
         private CompressionConfiguration compressionConfiguration;
+        private HedgingConfiguration hedgingConfiguration;
         private List<SdkPlugin> plugins = new ArrayList<>();
 
 
@@ -564,6 +599,7 @@ public abstract class RequestOverrideConfiguration {
             executionAttributes(sdkRequestOverrideConfig.executionAttributes());
             endpointProvider(sdkRequestOverrideConfig.endpointProvider);
             compressionConfiguration(sdkRequestOverrideConfig.compressionConfiguration);
+            hedgingConfiguration(sdkRequestOverrideConfig.hedgingConfiguration);
             plugins(sdkRequestOverrideConfig.plugins);
         }
 
@@ -753,6 +789,25 @@ public abstract class RequestOverrideConfiguration {
             return compressionConfiguration;
         }
 
+        @Override
+        public B hedgingConfiguration(HedgingConfiguration hedgingConfiguration) {
+            this.hedgingConfiguration = hedgingConfiguration;
+            return (B) this;
+        }
+
+        @Override
+        public B hedgingConfiguration(Consumer<HedgingConfiguration.Builder> hedgingConfigurationConsumer) {
+            HedgingConfiguration.Builder b = HedgingConfiguration.builder();
+            hedgingConfigurationConsumer.accept(b);
+            hedgingConfiguration(b.build());
+            return (B) this;
+        }
+
+        @Override
+        public HedgingConfiguration hedgingConfiguration() {
+            return hedgingConfiguration;
+        }
+
         @Override
         public B plugins(List<SdkPlugin> plugins) {
             this.plugins = new ArrayList<>(plugins);
@@ -31,7 +31,8 @@ import software.amazon.awssdk.utils.Validate;
 @SdkProtectedApi
 public interface SubscriberListener<T> {
     /**
-     * Invoked before {@link Subscriber#onNext(Object)}
+     * Invoked before {@link Subscriber#onNext(Object)}. The element must not be used after this method returns, because a
+     * publisher may reclaim a buffer once the subscriber has processed it and requested the next one.
      */
     default void subscriberOnNext(T t) {
     }
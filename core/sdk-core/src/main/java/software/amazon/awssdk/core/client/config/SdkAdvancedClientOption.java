@@ -24,6 +24,7 @@ import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthScheme;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthSchemeProvider;
 import software.amazon.awssdk.http.auth.spi.signer.HttpSigner;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 
 /**
@@ -88,6 +89,23 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Set this value to True to collect the metrics of each API call with {@link MetricCollector#createLockFree(String)}
+     * instead of {@link MetricCollector#create(String)}. This reduces contention and allocation for clients that make a very
+     * high number of concurrent calls with a metric publisher configured.
+     */
+    public static final SdkAdvancedClientOption<Boolean> LOCK_FREE_METRIC_COLLECTOR =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Set this value to a positive number to cache up to that many endpoints resolved by the client, keyed by the endpoint
+     * parameters of each request. This avoids evaluating the endpoint rules of the service for each call when the parameters
+     * repeat. Only enable it if the endpoint provider of the client resolves the same endpoint for the same parameters, which
+     * is the case for the default endpoint provider.
+     */
+    public static final SdkAdvancedClientOption<Integer> ENDPOINT_RESOLUTION_CACHE_SIZE =
+        new SdkAdvancedClientOption<>(Integer.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
         OPTIONS.add(this);
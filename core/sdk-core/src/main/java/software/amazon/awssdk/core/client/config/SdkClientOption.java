@@ -30,6 +30,7 @@ import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.internal.useragent.SdkClientUserAgentProperties;
@@ -295,6 +296,13 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<EndpointProvider> ENDPOINT_PROVIDER = new SdkClientOption<>(EndpointProvider.class);
 
+    /**
+     * The cache of endpoints resolved by the client, created when
+     * {@link SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE} is set.
+     */
+    public static final SdkClientOption<EndpointResolutionCache> ENDPOINT_RESOLUTION_CACHE =
+        new SdkClientOption<>(EndpointResolutionCache.class);
+
     /**
      * The {@link AuthSchemeProvider} configured on the client.
      */
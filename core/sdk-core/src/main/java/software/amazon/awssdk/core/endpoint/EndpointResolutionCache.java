@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.endpoint;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of the endpoints resolved by a client, keyed by the endpoint parameters of the request. The endpoint
+ * parameters of the calls made by a client rarely change, so this avoids evaluating the endpoint rules again for each call.
+ * <p>
+ * A cached endpoint is only returned for the endpoint provider that resolved it, and failed resolutions are not cached. When
+ * the cache is full, a batch of unspecified entries is evicted, like {@code BoundedCache}.
+ *
+ * @see SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class EndpointResolutionCache {
+    private final ConcurrentHashMap<Object, CachedEndpoint> cache = new ConcurrentHashMap<>();
+    private final AtomicInteger cacheSize = new AtomicInteger();
+    private final Object cacheLock = new Object();
+    private final int maxCacheSize;
+    private final int evictionBatchSize;
+
+    private EndpointResolutionCache(int maxCacheSize) {
+        this.maxCacheSize = Validate.isPositive(maxCacheSize, "maxCacheSize");
+        this.evictionBatchSize = Math.max(1, maxCacheSize / 10);
+    }
+
+    public static EndpointResolutionCache create(int maxCacheSize) {
+        return new EndpointResolutionCache(maxCacheSize);
+    }
+
+    /**
+     * Resolve the endpoint of a request with the {@link SdkInternalExecutionAttribute#ENDPOINT_RESOLUTION_CACHE} of the client,
+     * or with the given resolver if the client doesn't have one.
+     *
+     * @param executionAttributes The execution attributes of the request.
+     * @param endpointProvider The endpoint provider of the request.
+     * @param endpointParams The endpoint parameters of the request. They must implement {@code equals} and {@code hashCode}.
+     * @param resolver The function resolving the endpoint with the endpoint provider.
+     */
+    public static <T> Endpoint resolveEndpoint(ExecutionAttributes executionAttributes,
+                                               EndpointProvider endpointProvider,
+                                               T endpointParams,
+                                               Function<T, CompletableFuture<Endpoint>> resolver) {
+        EndpointResolutionCache cache = executionAttributes.getAttribute(SdkInternalExecutionAttribute.ENDPOINT_RESOLUTION_CACHE);
+        if (cache == null) {
+            return resolver.apply(endpointParams).join();
+        }
+        MetricCollector metricCollector = executionAttributes.getAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+        return cache.resolve(endpointProvider, endpointParams, resolver, metricCollector);
+    }
+
+    /**
+     * Get the endpoint cached for the given parameters, or resolve it and add it to the cache.
+     *
+     * @param metricCollector The collector to report {@link CoreMetric#ENDPOINT_RESOLUTION_CACHE_HIT} to, may be null.
+     */
+    public <T> Endpoint resolve(EndpointProvider endpointProvider,
+                                T endpointParams,
+                                Function<T, CompletableFuture<Endpoint>> resolver,
+                                MetricCollector metricCollector) {
+        Validate.paramNotNull(endpointParams, "endpointParams");
+        CachedEndpoint cached = cache.get(endpointParams);
+        boolean hit = cached != null && cached.endpointProvider == endpointProvider;
+        if (metricCollector != null) {
+            metricCollector.reportMetric(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT, hit);
+        }
+        if (hit) {
+            return cached.endpoint;
+        }
+
+        Endpoint endpoint = resolver.apply(endpointParams).join();
+        if (endpoint != null) {
+            put(endpointParams, new CachedEndpoint(endpointProvider, endpoint));
+        }
+        return endpoint;
+    }
+
+    public int size() {
+        return cacheSize.get();
+    }
+
+    private void put(Object endpointParams, CachedEndpoint cachedEndpoint) {
+        synchronized (cacheLock) {
+            if (cache.replace(endpointParams, cachedEndpoint) != null) {
+                return;
+            }
+            if (cacheSize.get() >= maxCacheSize) {
+                evict();
+            }
+            cache.put(endpointParams, cachedEndpoint);
+            cacheSize.incrementAndGet();
+        }
+    }
+
+    private void evict() {
+        Iterator<Object> iterator = cache.keySet().iterator();
+        int count = 0;
+        while (iterator.hasNext() && count < evictionBatchSize) {
+            iterator.next();
+            iterator.remove();
+            count++;
+            cacheSize.decrementAndGet();
+        }
+    }
+
+    private static final class CachedEndpoint {
+        private final EndpointProvider endpointProvider;
+        private final Endpoint endpoint;
+
+        private CachedEndpoint(EndpointProvider endpointProvider, Endpoint endpoint) {
+            this.endpointProvider = endpointProvider;
+            this.endpoint = endpoint;
+        }
+    }
+}
@@ -15,7 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -50,9 +50,23 @@ import software.amazon.awssdk.utils.Validate;
 @SdkPublicApi
 public final class ExecutionAttribute<T> {
     private static final ConcurrentMap<String, ExecutionAttribute<?>> NAME_HISTORY = new ConcurrentHashMap<>();
-    
+    private static final Object REGISTRY_LOCK = new Object();
+
+    /**
+     * All attributes created so far, indexed by {@link #index()}. Guarded by {@link #REGISTRY_LOCK} for writes, and replaced
+     * (not modified) when it needs to grow, so it can be read without locking.
+     */
+    private static volatile ExecutionAttribute<?>[] registry = new ExecutionAttribute<?>[256];
+
+    /**
+     * The number of attributes in {@link #registry}. Written under {@link #REGISTRY_LOCK} after the attribute is stored, so
+     * a reader that sees a count also sees the attributes it counts.
+     */
+    private static volatile int registeredCount;
+
     private final String name;
     private final ValueStorage<T> storage;
+    private final int index;
 
     /**
      * Creates a new {@link ExecutionAttribute} bound to the provided type param.
@@ -69,6 +83,7 @@ public final class ExecutionAttribute<T> {
                        new DefaultValueStorage() :
                        storage;
         ensureUnique();
+        this.index = register(this);
     }
 
     /**
@@ -132,6 +147,34 @@ public final class ExecutionAttribute<T> {
         }
     }
 
+    private static int register(ExecutionAttribute<?> attribute) {
+        synchronized (REGISTRY_LOCK) {
+            int index = registeredCount;
+            ExecutionAttribute<?>[] current = registry;
+            if (index >= current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[index] = attribute;
+            registry = current;
+            registeredCount = index + 1;
+            return index;
+        }
+    }
+
+    /**
+     * The number of attributes created so far. Every attribute's {@link #index()} is lower than this value.
+     */
+    static int attributeCount() {
+        return registeredCount;
+    }
+
+    /**
+     * Retrieve the attribute with the provided {@link #index()}.
+     */
+    static ExecutionAttribute<?> attributeAt(int index) {
+        return registry[index];
+    }
+
     @Override
     public String toString() {
         return name;
@@ -173,6 +216,14 @@ public final class ExecutionAttribute<T> {
         return storage;
     }
 
+    /**
+     * The dense, process-wide unique index of this attribute, assigned at creation. {@link ExecutionAttributes} uses it as the
+     * slot of this attribute's value.
+     */
+    int index() {
+        return index;
+    }
+
     public static final class DerivedAttributeBuilder<T, U> {
         private final String name;
         private final Supplier<ExecutionAttribute<U>> realAttribute;
@@ -214,45 +265,48 @@ public final class ExecutionAttribute<T> {
      */
     interface ValueStorage<T> {
         /**
-         * Retrieve an attribute's value from the provided attribute map.
+         * Retrieve an attribute's value from the provided attributes.
          */
-        T get(Map<ExecutionAttribute<?>, Object> attributes);
+        T get(ExecutionAttributes attributes);
 
         /**
-         * Set an attribute's value to the provided attribute map.
+         * Set an attribute's value to the provided attributes.
          */
-        void set(Map<ExecutionAttribute<?>, Object> attributes, T value);
+        void set(ExecutionAttributes attributes, T value);
 
         /**
-         * Set an attribute's value to the provided attribute map, if the value is not already in the map.
+         * Set an attribute's value to the provided attributes, if the value is not already set.
          */
-        void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value);
+        void setIfAbsent(ExecutionAttributes attributes, T value);
     }
 
     /**
-     * An implementation of {@link ValueStorage} that stores the current execution attribute in the provided attributes map.
+     * An implementation of {@link ValueStorage} that stores the current execution attribute in its own slot of the provided
+     * attributes.
      */
     private final class DefaultValueStorage implements ValueStorage<T> {
         @SuppressWarnings("unchecked") // Safe because of the implementation of set()
         @Override
-        public T get(Map<ExecutionAttribute<?>, Object> attributes) {
-            return (T) attributes.get(ExecutionAttribute.this);
+        public T get(ExecutionAttributes attributes) {
+            return (T) attributes.getValue(ExecutionAttribute.this);
         }
 
         @Override
-        public void set(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.put(ExecutionAttribute.this, value);
+        public void set(ExecutionAttributes attributes, T value) {
+            attributes.setValue(ExecutionAttribute.this, value);
         }
 
         @Override
-        public void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.putIfAbsent(ExecutionAttribute.this, value);
+        public void setIfAbsent(ExecutionAttributes attributes, T value) {
+            if (attributes.getValue(ExecutionAttribute.this) == null) {
+                attributes.setValue(ExecutionAttribute.this, value);
+            }
         }
     }
 
     /**
      * An implementation of {@link ValueStorage} that derives its value from a different execution attribute in the provided
-     * attributes map.
+     * attributes.
      */
     private static final class DerivationValueStorage<T, U> implements ValueStorage<T> {
         private final Supplier<ExecutionAttribute<U>> realAttribute;
@@ -267,18 +321,19 @@ public final class ExecutionAttribute<T> {
 
         @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public T get(Map<ExecutionAttribute<?>, Object> attributes) {
-            return readMapping.apply((U) attributes.get(realAttribute.get()));
+        public T get(ExecutionAttributes attributes) {
+            return readMapping.apply((U) attributes.getValue(realAttribute.get()));
         }
 
         @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public void set(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.compute(realAttribute.get(), (k, real) -> writeMapping.apply((U) real, value));
+        public void set(ExecutionAttributes attributes, T value) {
+            ExecutionAttribute<U> real = realAttribute.get();
+            attributes.computeValue(real, writeMapping.apply((U) attributes.getValue(real), value));
         }
 
         @Override
-        public void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value) {
+        public void setIfAbsent(ExecutionAttributes attributes, T value) {
             T currentValue = get(attributes);
             if (currentValue == null) {
                 set(attributes, value);
@@ -288,7 +343,7 @@ public final class ExecutionAttribute<T> {
 
     /**
      * An implementation of {@link ValueStorage} that is backed by a different execution attribute in the provided
-     * attributes map (mirrors its value), and maps (updates) to another attribute.
+     * attributes (mirrors its value), and maps (updates) to another attribute.
      */
     private static final class MappedValueStorage<T, U> implements ValueStorage<T> {
         private final Supplier<ExecutionAttribute<T>> backingAttributeSupplier;
@@ -305,22 +360,23 @@ public final class ExecutionAttribute<T> {
 
         @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public T get(Map<ExecutionAttribute<?>, Object> attributes) {
+        public T get(ExecutionAttributes attributes) {
             return readMapping.apply(
-                (T) attributes.get(backingAttributeSupplier.get()),
-                (U) attributes.get(attributeSupplier.get())
+                (T) attributes.getValue(backingAttributeSupplier.get()),
+                (U) attributes.getValue(attributeSupplier.get())
             );
         }
 
         @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public void set(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.put(backingAttributeSupplier.get(), value);
-            attributes.compute(attributeSupplier.get(), (k, attr) -> writeMapping.apply((U) attr, value));
+        public void set(ExecutionAttributes attributes, T value) {
+            attributes.setValue(backingAttributeSupplier.get(), value);
+            ExecutionAttribute<U> attribute = attributeSupplier.get();
+            attributes.computeValue(attribute, writeMapping.apply((U) attributes.getValue(attribute), value));
         }
 
         @Override
-        public void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value) {
+        public void setIfAbsent(ExecutionAttributes attributes, T value) {
             T currentValue = get(attributes);
             if (currentValue == null) {
                 set(attributes, value);
@@ -15,10 +15,14 @@
 
 package software.amazon.awssdk.core.interceptor;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.utils.ToString;
@@ -31,33 +35,52 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * retrieve information specific to the current execution.
  *
  * This is useful for sharing data between {@link ExecutionInterceptor} method calls specific to a particular execution.
+ *
+ * <p>Values are stored in an array indexed by {@link ExecutionAttribute#index()}, rather than in a hash map. Copies (e.g.
+ * {@link #copy()}, {@link #merge(ExecutionAttributes)} and {@link #unmodifiableExecutionAttributes(ExecutionAttributes)})
+ * clone that array, which is cheaper than rehashing every entry, and never modify their source.
  */
 @SdkPublicApi
 @NotThreadSafe
 public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttributes.Builder, ExecutionAttributes> {
-    private final Map<ExecutionAttribute<?>, Object> attributes;
+    /**
+     * Stored in a slot in place of an explicitly-set null value, so that the attribute still shows up in
+     * {@link #getAttributes()}.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    private Object[] values;
 
     public ExecutionAttributes() {
-        this.attributes = new HashMap<>(32);
+        this.values = new Object[ExecutionAttribute.attributeCount()];
     }
 
     protected ExecutionAttributes(Map<? extends ExecutionAttribute<?>, ?> attributes) {
-        this.attributes = new HashMap<>(attributes);
+        this();
+        attributes.forEach(this::setValue);
     }
-    
+
+    /**
+     * Create a copy of the provided attributes.
+     */
+    private ExecutionAttributes(ExecutionAttributes source) {
+        this.values = source.values.clone();
+    }
+
     /**
      * Retrieve the current value of the provided attribute in this collection of attributes. This will return null if the value
      * is not set.
      */
     public <U> U getAttribute(ExecutionAttribute<U> attribute) {
-        return attribute.storage().get(attributes);
+        return attribute.storage().get(this);
     }
 
     /**
-     * Retrieve the collection of attributes.
+     * Retrieve the collection of attributes. The returned map is an unmodifiable view that reflects later changes to this
+     * collection, so it should be copied if a snapshot is needed.
      */
     public Map<ExecutionAttribute<?>, Object> getAttributes() {
-        return Collections.unmodifiableMap(attributes);
+        return new AttributesView();
     }
 
     /**
@@ -72,7 +95,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * Update or set the provided attribute in this collection of attributes.
      */
     public <U> ExecutionAttributes putAttribute(ExecutionAttribute<U> attribute, U value) {
-        attribute.storage().set(attributes, value);
+        attribute.storage().set(this, value);
         return this;
     }
 
@@ -80,7 +103,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * Set the provided attribute in this collection of attributes if it does not already exist in the collection.
      */
     public <U> ExecutionAttributes putAttributeIfAbsent(ExecutionAttribute<U> attribute, U value) {
-        attribute.storage().setIfAbsent(attributes, value);
+        attribute.storage().setIfAbsent(this, value);
         return this;
     }
 
@@ -88,9 +111,9 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * Merge attributes of a higher precedence into the current lower precedence collection.
      */
     public ExecutionAttributes merge(ExecutionAttributes lowerPrecedenceExecutionAttributes) {
-        Map<ExecutionAttribute<?>, Object> copiedAttributes = new HashMap<>(this.attributes);
-        lowerPrecedenceExecutionAttributes.getAttributes().forEach(copiedAttributes::putIfAbsent);
-        return new ExecutionAttributes(copiedAttributes);
+        ExecutionAttributes merged = new ExecutionAttributes(this);
+        merged.putAbsentValues(lowerPrecedenceExecutionAttributes);
+        return merged;
     }
 
     /**
@@ -98,8 +121,70 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      */
     public void putAbsentAttributes(ExecutionAttributes lowerPrecedenceExecutionAttributes) {
         if (lowerPrecedenceExecutionAttributes != null) {
-            lowerPrecedenceExecutionAttributes.getAttributes().forEach(attributes::putIfAbsent);
+            putAbsentValues(lowerPrecedenceExecutionAttributes);
+        }
+    }
+
+    /**
+     * Copy each value of the provided attributes into this collection, if this collection's value for that attribute is null.
+     */
+    private void putAbsentValues(ExecutionAttributes lowerPrecedence) {
+        Object[] lowerValues = lowerPrecedence.values;
+        for (int i = 0; i < lowerValues.length; i++) {
+            Object lowerValue = lowerValues[i];
+            if (lowerValue == null) {
+                continue;
+            }
+            Object currentValue = i < values.length ? values[i] : null;
+            if (currentValue == null || currentValue == NULL_VALUE) {
+                writableValues(i)[i] = lowerValue;
+            }
+        }
+    }
+
+    /**
+     * Retrieve the value stored in the slot of the provided attribute, without going through its
+     * {@link ExecutionAttribute.ValueStorage}. Visible for {@link ExecutionAttribute}.
+     */
+    Object getValue(ExecutionAttribute<?> attribute) {
+        int index = attribute.index();
+        if (index >= values.length) {
+            return null;
+        }
+        Object value = values[index];
+        return value == NULL_VALUE ? null : value;
+    }
+
+    /**
+     * Store a value in the slot of the provided attribute, without going through its {@link ExecutionAttribute.ValueStorage}.
+     * Like {@link Map#put}, a null value is stored as a present mapping. Visible for {@link ExecutionAttribute}.
+     */
+    void setValue(ExecutionAttribute<?> attribute, Object value) {
+        int index = attribute.index();
+        writableValues(index)[index] = value == null ? NULL_VALUE : value;
+    }
+
+    /**
+     * Store the result of a computation in the slot of the provided attribute. Like {@link Map#compute}, a null value removes
+     * the mapping. Visible for {@link ExecutionAttribute}.
+     */
+    void computeValue(ExecutionAttribute<?> attribute, Object value) {
+        int index = attribute.index();
+        if (value != null) {
+            writableValues(index)[index] = value;
+        } else if (index < values.length && values[index] != null) {
+            writableValues(index)[index] = null;
+        }
+    }
+
+    /**
+     * Retrieve the {@link #values} array, grown first if it is not large enough to hold the provided index.
+     */
+    private Object[] writableValues(int index) {
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, Math.max(index + 1, ExecutionAttribute.attributeCount()));
         }
+        return values;
     }
 
     public static Builder builder() {
@@ -127,18 +212,18 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
 
         ExecutionAttributes that = (ExecutionAttributes) o;
 
-        return attributes != null ? attributes.equals(that.attributes) : that.attributes == null;
+        return getAttributes().equals(that.getAttributes());
     }
 
     @Override
     public int hashCode() {
-        return attributes != null ? attributes.hashCode() : 0;
+        return getAttributes().hashCode();
     }
 
     @Override
     public String toString() {
         return ToString.builder("ExecutionAttributes")
-                       .add("attributes", attributes.keySet())
+                       .add("attributes", getAttributes().keySet())
                        .build();
     }
 
@@ -148,7 +233,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
 
     private static class UnmodifiableExecutionAttributes extends ExecutionAttributes {
         UnmodifiableExecutionAttributes(ExecutionAttributes executionAttributes) {
-            super(executionAttributes.attributes);
+            super(executionAttributes);
         }
 
         @Override
@@ -167,13 +252,14 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * copy() if it's because of {@link #unmodifiableExecutionAttributes(ExecutionAttributes)}.
      */
     public static final class Builder implements CopyableBuilder<ExecutionAttributes.Builder, ExecutionAttributes> {
-        private final Map<ExecutionAttribute<?>, Object> executionAttributes = new HashMap<>(32);
+        private final ExecutionAttributes executionAttributes;
 
         private Builder() {
+            this.executionAttributes = new ExecutionAttributes();
         }
 
         private Builder(ExecutionAttributes source) {
-            this.executionAttributes.putAll(source.attributes);
+            this.executionAttributes = new ExecutionAttributes(source);
         }
 
         /**
@@ -207,4 +293,79 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
             return new ExecutionAttributes(executionAttributes);
         }
     }
+
+    /**
+     * A read-only {@link Map} view of the non-null slots of this collection, in attribute creation order.
+     */
+    private final class AttributesView extends AbstractMap<ExecutionAttribute<?>, Object> {
+        @Override
+        public Object get(Object key) {
+            return key instanceof ExecutionAttribute ? getValue((ExecutionAttribute<?>) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            if (!(key instanceof ExecutionAttribute)) {
+                return false;
+            }
+            int index = ((ExecutionAttribute<?>) key).index();
+            return index < values.length && values[index] != null;
+        }
+
+        @Override
+        public Set<Entry<ExecutionAttribute<?>, Object>> entrySet() {
+            return new AbstractSet<Entry<ExecutionAttribute<?>, Object>>() {
+                @Override
+                public Iterator<Entry<ExecutionAttribute<?>, Object>> iterator() {
+                    return new AttributesIterator(values);
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (Object value : values) {
+                        if (value != null) {
+                            ++size;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+    }
+
+    private static final class AttributesIterator implements Iterator<Map.Entry<ExecutionAttribute<?>, Object>> {
+        private final Object[] values;
+        private int nextIndex;
+
+        private AttributesIterator(Object[] values) {
+            this.values = values;
+            advance();
+        }
+
+        private void advance() {
+            while (nextIndex < values.length && values[nextIndex] == null) {
+                ++nextIndex;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < values.length;
+        }
+
+        @Override
+        public Map.Entry<ExecutionAttribute<?>, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object value = values[nextIndex];
+            Map.Entry<ExecutionAttribute<?>, Object> entry =
+                new AbstractMap.SimpleImmutableEntry<>(ExecutionAttribute.attributeAt(nextIndex),
+                                                       value == NULL_VALUE ? null : value);
+            ++nextIndex;
+            advance();
+            return entry;
+        }
+    }
 }
\ No newline at end of file
@@ -16,10 +16,13 @@
 package software.amazon.awssdk.core.interceptor;
 
 import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
@@ -40,28 +43,53 @@ import software.amazon.awssdk.utils.Validate;
  * Interceptors are invoked in forward order up to {@link #beforeTransmission} and in reverse order after (and including)
  * {@link #afterTransmission}. This ensures the last interceptors to modify the request are the first interceptors to see the
  * response.
+ *
+ * <p>Each lifecycle method only invokes the interceptors that override it (or one of the methods it is invoked alongside, like
+ * {@link ExecutionInterceptor#modifyHttpContent} for {@link #modifyHttpRequestAndHttpContent}). Which methods an interceptor
+ * class overrides is detected once per class when a chain is created, because a client usually registers many interceptors
+ * that only implement one or two of the lifecycle methods. A chain holds no per-execution state, so it can be shared across
+ * executions.
  */
 @SdkProtectedApi
 public class ExecutionInterceptorChain {
     private static final Logger LOG = Logger.loggerFor(ExecutionInterceptorChain.class);
 
-    private final List<ExecutionInterceptor> interceptors;
+    private static final ClassValue<Set<Hook>> OVERRIDDEN_HOOKS = new ClassValue<Set<Hook>>() {
+        @Override
+        protected Set<Hook> computeValue(Class<?> type) {
+            return overriddenHooks(type);
+        }
+    };
+
+    /**
+     * The interceptors of this chain that override each {@link Hook}, indexed by {@link Hook#ordinal()}, in the order they
+     * were provided.
+     */
+    private final ExecutionInterceptor[][] hookInterceptors;
 
     /**
      * Create a chain that will execute the provided interceptors in the order they are provided.
      */
     public ExecutionInterceptorChain(List<ExecutionInterceptor> interceptors) {
-        this.interceptors = new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors"));
+        List<ExecutionInterceptor> interceptorsCopy = new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors"));
+        this.hookInterceptors = new ExecutionInterceptor[Hook.values().length][];
+        for (Hook hook : Hook.values()) {
+            hookInterceptors[hook.ordinal()] = interceptorsCopy.stream()
+                                                               .filter(i -> OVERRIDDEN_HOOKS.get(i.getClass()).contains(hook))
+                                                               .toArray(ExecutionInterceptor[]::new);
+        }
         LOG.debug(() -> "Creating an interceptor chain that will apply interceptors in the following order: " + interceptors);
     }
 
     public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeExecution(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.BEFORE_EXECUTION)) {
+            interceptor.beforeExecution(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyRequest(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : interceptors(Hook.MODIFY_REQUEST)) {
             SdkRequest interceptorResult = interceptor.modifyRequest(result, executionAttributes);
 
             if (interceptorResult != result.request()) {
@@ -73,17 +101,21 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.BEFORE_MARSHALLING)) {
+            interceptor.beforeMarshalling(context, executionAttributes);
+        }
     }
 
     public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.afterMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.AFTER_MARSHALLING)) {
+            interceptor.afterMarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpRequestAndHttpContent(InterceptorContext context,
                                                               ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : interceptors(Hook.MODIFY_HTTP_REQUEST)) {
             AsyncRequestBody asyncRequestBody = interceptor.modifyAsyncHttpContent(result, executionAttributes).orElse(null);
             RequestBody requestBody = interceptor.modifyHttpContent(result, executionAttributes).orElse(null);
             SdkHttpRequest interceptorResult = interceptor.modifyHttpRequest(result, executionAttributes);
@@ -102,24 +134,27 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeTransmission(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.BEFORE_TRANSMISSION)) {
+            interceptor.beforeTransmission(context, executionAttributes);
+        }
     }
 
     public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterTransmission(context, executionAttributes));
+        reverseForEach(Hook.AFTER_TRANSMISSION, i -> i.afterTransmission(context, executionAttributes));
     }
 
     public InterceptorContext modifyHttpResponse(InterceptorContext context,
                                                  ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
+        ExecutionInterceptor[] interceptors = interceptors(Hook.MODIFY_HTTP_RESPONSE);
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
+        for (int i = interceptors.length - 1; i >= 0; i--) {
             SdkHttpResponse interceptorResult =
-                interceptors.get(i).modifyHttpResponse(result, executionAttributes);
-            InputStream response = interceptors.get(i).modifyHttpResponseContent(result, executionAttributes).orElse(null);
+                interceptors[i].modifyHttpResponse(result, executionAttributes);
+            InputStream response = interceptors[i].modifyHttpResponseContent(result, executionAttributes).orElse(null);
 
             if (interceptorResult != result.httpResponse() || response != result.responseBody().orElse(null)) {
-                validateInterceptorResult(result.httpResponse(), interceptorResult, interceptors.get(i), "modifyHttpResponse");
+                validateInterceptorResult(result.httpResponse(), interceptorResult, interceptors[i], "modifyHttpResponse");
                 result = result.copy(r -> r.httpResponse(interceptorResult)
                                            .responseBody(response));
             }
@@ -133,9 +168,10 @@ public class ExecutionInterceptorChain {
     public InterceptorContext modifyAsyncHttpResponse(InterceptorContext context,
                                                       ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
+        ExecutionInterceptor[] interceptors = interceptors(Hook.MODIFY_ASYNC_HTTP_RESPONSE);
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            ExecutionInterceptor interceptor = interceptors.get(i);
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            ExecutionInterceptor interceptor = interceptors[i];
 
             Publisher<ByteBuffer> newResponsePublisher =
                 interceptor.modifyAsyncHttpResponseContent(result, executionAttributes).orElse(null);
@@ -149,20 +185,21 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeUnmarshalling(Context.BeforeUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.beforeUnmarshalling(context, executionAttributes));
+        reverseForEach(Hook.BEFORE_UNMARSHALLING, i -> i.beforeUnmarshalling(context, executionAttributes));
     }
 
     public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterUnmarshalling(context, executionAttributes));
+        reverseForEach(Hook.AFTER_UNMARSHALLING, i -> i.afterUnmarshalling(context, executionAttributes));
     }
 
     public InterceptorContext modifyResponse(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkResponse interceptorResult = interceptors.get(i).modifyResponse(result, executionAttributes);
+        ExecutionInterceptor[] interceptors = interceptors(Hook.MODIFY_RESPONSE);
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            SdkResponse interceptorResult = interceptors[i].modifyResponse(result, executionAttributes);
 
             if (interceptorResult != result.response()) {
-                validateInterceptorResult(result.response(), interceptorResult, interceptors.get(i), "modifyResponse");
+                validateInterceptorResult(result.response(), interceptorResult, interceptors[i], "modifyResponse");
                 result = result.copy(b -> b.response(interceptorResult));
             }
         }
@@ -171,18 +208,19 @@ public class ExecutionInterceptorChain {
     }
 
     public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterExecution(context, executionAttributes));
+        reverseForEach(Hook.AFTER_EXECUTION, i -> i.afterExecution(context, executionAttributes));
     }
 
     public DefaultFailedExecutionContext modifyException(DefaultFailedExecutionContext context,
                                                          ExecutionAttributes executionAttributes) {
         DefaultFailedExecutionContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            Throwable interceptorResult = interceptors.get(i).modifyException(result, executionAttributes);
+        ExecutionInterceptor[] interceptors = interceptors(Hook.MODIFY_EXCEPTION);
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            Throwable interceptorResult = interceptors[i].modifyException(result, executionAttributes);
 
             if (interceptorResult != result.exception()) {
                 validateInterceptorResult(result.exception(), interceptorResult,
-                                          interceptors.get(i), "modifyException");
+                                          interceptors[i], "modifyException");
                 result = result.copy(b -> b.exception(interceptorResult));
             }
         }
@@ -191,7 +229,9 @@ public class ExecutionInterceptorChain {
     }
 
     public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.onExecutionFailure(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.ON_EXECUTION_FAILURE)) {
+            interceptor.onExecutionFailure(context, executionAttributes);
+        }
     }
 
     /**
@@ -213,11 +253,86 @@ public class ExecutionInterceptorChain {
     }
 
     /**
-     * Execute the provided action against the interceptors in this chain in the reverse order they are configured.
+     * Execute the provided action against the interceptors in this chain that override the provided hook, in the reverse order
+     * they are configured.
+     */
+    private void reverseForEach(Hook hook, Consumer<ExecutionInterceptor> action) {
+        ExecutionInterceptor[] interceptors = interceptors(hook);
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            action.accept(interceptors[i]);
+        }
+    }
+
+    private ExecutionInterceptor[] interceptors(Hook hook) {
+        return hookInterceptors[hook.ordinal()];
+    }
+
+    /**
+     * Determine which hooks are overridden by the provided {@link ExecutionInterceptor} implementation. A hook is considered
+     * overridden if any of its methods are not inherited from {@link ExecutionInterceptor}'s default implementation. If that
+     * can't be determined, the hook is assumed to be overridden.
+     */
+    private static Set<Hook> overriddenHooks(Class<?> interceptorType) {
+        Set<Hook> result = EnumSet.noneOf(Hook.class);
+        for (Hook hook : Hook.values()) {
+            if (overridesAny(interceptorType, hook.methodNames)) {
+                result.add(hook);
+            }
+        }
+        return result;
+    }
+
+    private static boolean overridesAny(Class<?> interceptorType, String... methodNames) {
+        for (Method method : ExecutionInterceptor.class.getMethods()) {
+            if (!isOneOf(method.getName(), methodNames)) {
+                continue;
+            }
+            try {
+                Method resolved = interceptorType.getMethod(method.getName(), method.getParameterTypes());
+                if (resolved.getDeclaringClass() != ExecutionInterceptor.class) {
+                    return true;
+                }
+            } catch (NoSuchMethodException | SecurityException e) {
+                LOG.debug(() -> "Unable to determine whether " + interceptorType + " overrides " + method.getName(), e);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOneOf(String methodName, String... methodNames) {
+        for (String candidate : methodNames) {
+            if (candidate.equals(methodName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The lifecycle methods of this chain, and the {@link ExecutionInterceptor} methods each of them invokes.
      */
-    private void reverseForEach(Consumer<ExecutionInterceptor> action) {
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            action.accept(interceptors.get(i));
+    private enum Hook {
+        BEFORE_EXECUTION("beforeExecution"),
+        MODIFY_REQUEST("modifyRequest"),
+        BEFORE_MARSHALLING("beforeMarshalling"),
+        AFTER_MARSHALLING("afterMarshalling"),
+        MODIFY_HTTP_REQUEST("modifyHttpRequest", "modifyHttpContent", "modifyAsyncHttpContent"),
+        BEFORE_TRANSMISSION("beforeTransmission"),
+        AFTER_TRANSMISSION("afterTransmission"),
+        MODIFY_HTTP_RESPONSE("modifyHttpResponse", "modifyHttpResponseContent"),
+        MODIFY_ASYNC_HTTP_RESPONSE("modifyAsyncHttpResponseContent"),
+        BEFORE_UNMARSHALLING("beforeUnmarshalling"),
+        AFTER_UNMARSHALLING("afterUnmarshalling"),
+        MODIFY_RESPONSE("modifyResponse"),
+        AFTER_EXECUTION("afterExecution"),
+        MODIFY_EXCEPTION("modifyException"),
+        ON_EXECUTION_FAILURE("onExecutionFailure");
+
+        private final String[] methodNames;
+
+        Hook(String... methodNames) {
+            this.methodNames = methodNames;
         }
     }
 }
@@ -26,6 +26,8 @@ import software.amazon.awssdk.core.SelectedAuthScheme;
 import software.amazon.awssdk.core.checksums.ChecksumSpecs;
 import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksum;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
 import software.amazon.awssdk.core.internal.interceptor.trait.RequestCompression;
@@ -110,6 +112,13 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<EndpointProvider> ENDPOINT_PROVIDER =
         new ExecutionAttribute<>("EndpointProvider");
 
+    /**
+     * The cache of resolved endpoints of the client, if it was enabled with
+     * {@link SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE}.
+     */
+    public static final ExecutionAttribute<EndpointResolutionCache> ENDPOINT_RESOLUTION_CACHE =
+        new ExecutionAttribute<>("EndpointResolutionCache");
+
     /**
      * The resolved endpoint as computed by the client's configured {@link EndpointProvider}.
      */
@@ -43,6 +43,20 @@ public final class InternalCoreExecutionAttribute extends SdkExecutionAttribute
     public static final ExecutionAttribute<RequestBodyMetrics> REQUEST_BODY_METRICS =
         new ExecutionAttribute<>("RequestBodyMetrics");
 
+    /**
+     * Whether the response transformer stops accessing a response buffer once it signals further demand, allowing the
+     * HTTP client to lend it pooled buffers instead of copies.
+     */
+    public static final ExecutionAttribute<Boolean> RESPONSE_BUFFERS_RELEASED_ON_DEMAND =
+        new ExecutionAttribute<>("ResponseBuffersReleasedOnDemand");
+
+    /**
+     * Whether the attempt was cancelled because another attempt of a hedged request was used instead. The response of a
+     * cancelled attempt is no longer passed to interceptors.
+     */
+    public static final ExecutionAttribute<Boolean> HEDGED_ATTEMPT_CANCELLED =
+        new ExecutionAttribute<>("HedgedAttemptCancelled");
+
     private InternalCoreExecutionAttribute() {
     }
 }
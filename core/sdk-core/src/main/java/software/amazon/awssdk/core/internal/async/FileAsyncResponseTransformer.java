@@ -44,6 +44,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
 import software.amazon.awssdk.core.SplittingTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener.NotifyingAsyncResponseTransformer;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
@@ -89,6 +90,19 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         return position;
     }
 
+    /**
+     * Whether the given transformer writes the response body through a {@link FileSubscriber}, which stops using a buffer
+     * once it requests the next one.
+     */
+    public static boolean isFileTransformer(AsyncResponseTransformer<?, ?> transformer) {
+        if (transformer instanceof NotifyingAsyncResponseTransformer) {
+            // The listener is notified before each buffer is passed on, so it doesn't change when a buffer is released.
+            return isFileTransformer(((NotifyingAsyncResponseTransformer<?, ?>) transformer).getDelegate());
+        }
+        return transformer instanceof FileAsyncResponseTransformer
+               || FileAsyncResponseTransformerPublisher.isIndividualFileTransformer(transformer);
+    }
+
     private static long determineFilePositionToWrite(Path path, FileTransformerConfiguration fileConfiguration) {
         if (fileConfiguration.fileWriteOption() == CREATE_OR_APPEND_TO_EXISTING) {
             try {
@@ -246,9 +260,10 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                             writeInProgress = false;
                             if (closeOnLastWrite) {
                                 close();
-                            } else {
-                                subscription.request(1);
                             }
+                            // After the last write, this lets a publisher that lent us the buffer know that it can
+                            // reclaim it. Requests after completion are a no-op for any other publisher.
+                            subscription.request(1);
                         }
                     }
                 }
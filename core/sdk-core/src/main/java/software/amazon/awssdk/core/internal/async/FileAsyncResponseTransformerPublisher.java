@@ -73,6 +73,10 @@ public class FileAsyncResponseTransformerPublisher<T extends SdkResponse>
         subscriber = null;
     }
 
+    static boolean isIndividualFileTransformer(AsyncResponseTransformer<?, ?> transformer) {
+        return transformer instanceof FileAsyncResponseTransformerPublisher.IndividualFileTransformer;
+    }
+
     /**
      * This is the AsyncResponseTransformer that will be used for each individual requests.
      * <p>
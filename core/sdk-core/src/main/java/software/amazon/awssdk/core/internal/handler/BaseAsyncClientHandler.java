@@ -37,6 +37,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
 import software.amazon.awssdk.core.internal.http.AmazonAsyncHttpClient;
 import software.amazon.awssdk.core.internal.http.IdempotentAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
@@ -77,7 +78,9 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             TransformingAsyncResponseHandler<Response<OutputT>> combinedResponseHandler =
                 createCombinedResponseHandler(executionParams, executionContext);
 
-            return doExecute(executionParams, executionContext, combinedResponseHandler);
+            // A hedged attempt needs its own response handler, which is only possible for non-streaming responses.
+            return doExecute(executionParams, executionContext, combinedResponseHandler,
+                             hedgedContext -> createCombinedResponseHandler(executionParams, hedgedContext));
         });
     }
 
@@ -97,6 +100,10 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
 
             ExecutionAttributes executionAttributes = executionParams.executionAttributes();
             executionAttributes.putAttribute(InternalCoreExecutionAttribute.EXECUTION_ATTEMPT, 1);
+            if (FileAsyncResponseTransformer.isFileTransformer(asyncResponseTransformer)) {
+                // The file subscriber only asks for more data once the previous buffer has been written.
+                executionAttributes.putAttribute(InternalCoreExecutionAttribute.RESPONSE_BUFFERS_RELEASED_ON_DEMAND, true);
+            }
 
             AsyncStreamingResponseHandler<OutputT, ReturnT> asyncStreamingResponseHandler =
                 new AsyncStreamingResponseHandler<>(asyncResponseTransformer);
@@ -126,7 +133,7 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             TransformingAsyncResponseHandler<Response<ReturnT>> combinedResponseHandler =
                 new CombinedResponseAsyncHttpResponseHandler<>(wrappedAsyncStreamingResponseHandler, errorHandler);
 
-            return doExecute(executionParams, context, combinedResponseHandler);
+            return doExecute(executionParams, context, combinedResponseHandler, null);
         });
     }
 
@@ -188,7 +195,8 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
     private <InputT extends SdkRequest, OutputT extends SdkResponse, ReturnT> CompletableFuture<ReturnT> doExecute(
         ClientExecutionParams<InputT, OutputT> executionParams,
         ExecutionContext executionContext,
-        TransformingAsyncResponseHandler<Response<ReturnT>> asyncResponseHandler) {
+        TransformingAsyncResponseHandler<Response<ReturnT>> asyncResponseHandler,
+        Function<ExecutionContext, TransformingAsyncResponseHandler<Response<ReturnT>>> hedgedAttemptResponseHandlerFactory) {
 
         try {
 
@@ -222,6 +230,12 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
                                        .build();
             }
 
+            Function<ExecutionContext, TransformingAsyncResponseHandler<Response<ReturnT>>> hedgedResponseHandlerFactory = null;
+            if (hedgedAttemptResponseHandlerFactory != null) {
+                hedgedResponseHandlerFactory = c -> new AsyncAfterTransmissionInterceptorCallingResponseHandler<>(
+                    hedgedAttemptResponseHandlerFactory.apply(c), c);
+            }
+
             SdkClientConfiguration clientConfiguration = resolveRequestConfiguration(executionParams);
             CompletableFuture<ReturnT> invokeFuture =
                 invoke(clientConfiguration,
@@ -230,7 +244,8 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
                        inputT,
                        executionContext,
                        new AsyncAfterTransmissionInterceptorCallingResponseHandler<>(asyncResponseHandler,
-                                                                                     executionContext));
+                                                                                     executionContext),
+                       hedgedResponseHandlerFactory);
 
             CompletableFuture<ReturnT> exceptionTranslatedFuture = invokeFuture.handle((resp, err) -> {
                 if (err != null) {
@@ -278,14 +293,15 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         AsyncRequestBody requestProvider,
         InputT originalRequest,
         ExecutionContext executionContext,
-        TransformingAsyncResponseHandler<Response<OutputT>> responseHandler) {
+        TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
+        Function<ExecutionContext, TransformingAsyncResponseHandler<Response<OutputT>>> hedgedAttemptResponseHandlerFactory) {
         return client.requestExecutionBuilder()
                      .requestProvider(requestProvider)
                      .request(request)
                      .originalRequest(originalRequest)
                      .executionContext(executionContext)
                      .httpClientDependencies(c -> c.clientConfiguration(clientConfiguration))
-                     .execute(responseHandler);
+                     .execute(responseHandler, hedgedAttemptResponseHandlerFactory);
     }
 
     private <T> CompletableFuture<T> measureApiCallSuccess(ClientExecutionParams<?, ?> executionParams,
@@ -53,9 +53,11 @@ import software.amazon.awssdk.utils.io.LengthAwareInputStream;
 @SdkInternalApi
 public abstract class BaseClientHandler {
     private SdkClientConfiguration clientConfiguration;
+    private final ExecutionInterceptorChain clientInterceptorChain;
 
     protected BaseClientHandler(SdkClientConfiguration clientConfiguration) {
         this.clientConfiguration = clientConfiguration;
+        this.clientInterceptorChain = createInterceptorChain(clientConfiguration);
     }
 
     /**
@@ -208,8 +210,7 @@ public abstract class BaseClientHandler {
                           clientConfiguration.option(SdkClientOption.PROFILE_FILE_SUPPLIER))
             .putAttribute(SdkExecutionAttribute.PROFILE_NAME, clientConfiguration.option(SdkClientOption.PROFILE_NAME));
 
-        ExecutionInterceptorChain interceptorChain =
-            new ExecutionInterceptorChain(clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+        ExecutionInterceptorChain interceptorChain = resolveInterceptorChain(clientConfiguration);
 
         InterceptorContext interceptorContext = InterceptorContext.builder()
                                                                   .request(originalRequest)
@@ -218,7 +219,7 @@ public abstract class BaseClientHandler {
         interceptorChain.beforeExecution(interceptorContext, executionAttributes);
         interceptorContext = interceptorChain.modifyRequest(interceptorContext, executionAttributes);
 
-        MetricCollector metricCollector = resolveMetricCollector(params);
+        MetricCollector metricCollector = resolveMetricCollector(params, clientConfiguration);
 
         return ExecutionContext.builder()
                                .interceptorChain(interceptorChain)
@@ -256,6 +257,25 @@ public abstract class BaseClientHandler {
         return clientConfiguration;
     }
 
+    /**
+     * Retrieve the interceptor chain for the provided configuration, returned by
+     * {@link #resolveRequestConfiguration(ClientExecutionParams)}. The chain for the client's own configuration is created
+     * once, when the client is created, and only configurations modified for a specific request need a new chain.
+     */
+    protected ExecutionInterceptorChain resolveInterceptorChain(SdkClientConfiguration config) {
+        if (config == clientConfiguration && clientInterceptorChain != null) {
+            return clientInterceptorChain;
+        }
+        return new ExecutionInterceptorChain(config.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+    }
+
+    private static ExecutionInterceptorChain createInterceptorChain(SdkClientConfiguration config) {
+        if (config == null || config.option(SdkClientOption.EXECUTION_INTERCEPTORS) == null) {
+            return null;
+        }
+        return new ExecutionInterceptorChain(config.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+    }
+
     /**
      * Decorate response handlers by running after unmarshalling Interceptors and adding http response metadata.
      */
@@ -337,10 +357,11 @@ public abstract class BaseClientHandler {
         return (x, y) -> function2.apply(function1.apply(x, y), y);
     }
 
-    private MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params) {
+    private MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params,
+                                                   SdkClientConfiguration clientConfiguration) {
         MetricCollector metricCollector = params.getMetricCollector();
         if (metricCollector == null) {
-            metricCollector = MetricCollector.create("ApiCall");
+            metricCollector = MetricUtils.createApiCallMetricCollector(clientConfiguration);
         }
         return metricCollector;
     }
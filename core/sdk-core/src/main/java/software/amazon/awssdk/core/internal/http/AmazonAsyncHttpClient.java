@@ -19,15 +19,18 @@ import static software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline
 
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.HedgingConfiguration;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AfterExecutionInterceptorsStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyTransactionIdStage;
@@ -138,6 +141,21 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
          * @return Unmarshalled result type.
          */
         <OutputT> CompletableFuture<OutputT> execute(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler);
+
+        /**
+         * Executes the request with the given configuration, allowing its first attempt to be hedged if the request has a
+         * {@link HedgingConfiguration}.
+         *
+         * @param responseHandler Response handler that outputs the actual result type which is
+         *                        preferred going forward.
+         * @param hedgedAttemptResponseHandlerFactory Creates the response handler of a hedged attempt, given the execution
+         *                                            context of the attempt. If null, the request is never hedged.
+         * @param <OutputT>       Result type
+         * @return Unmarshalled result type.
+         */
+        <OutputT> CompletableFuture<OutputT> execute(
+            TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
+            Function<ExecutionContext, TransformingAsyncResponseHandler<Response<OutputT>>> hedgedAttemptResponseHandlerFactory);
     }
 
     private static class RequestExecutionBuilderImpl implements RequestExecutionBuilder {
@@ -187,6 +205,13 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
         @Override
         public <OutputT> CompletableFuture<OutputT> execute(
             TransformingAsyncResponseHandler<Response<OutputT>> responseHandler) {
+            return execute(responseHandler, null);
+        }
+
+        @Override
+        public <OutputT> CompletableFuture<OutputT> execute(
+            TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
+            Function<ExecutionContext, TransformingAsyncResponseHandler<Response<OutputT>>> hedgedAttemptResponseHandlerFactory) {
 
             try {
                 return RequestPipelineBuilder
@@ -200,13 +225,10 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
                                 .then(() -> new HttpChecksumStage(ClientType.ASYNC))
                                 .then(ApplyUserAgentStage::new)
                                 .then(MakeRequestImmutableStage::new)
-                                .then(RequestPipelineBuilder
-                                        .first(AsyncSigningStage::new)
-                                        .then(AsyncBeforeTransmissionExecutionInterceptorsStage::new)
-                                        .then(d -> new MakeAsyncHttpRequestStage<>(responseHandler, d))
-                                        .wrappedWith(AsyncApiCallAttemptMetricCollectionStage::new)
-                                        .wrappedWith((deps, wrapped) -> new AsyncRetryableStage<>(responseHandler, deps,
-                                                                                                  wrapped))
+                                .then(attemptPipeline(responseHandler)
+                                        .wrappedWith((deps, wrapped) -> new AsyncRetryableStage<>(
+                                            responseHandler, deps, wrapped,
+                                            hedgedAttemptPipelineFactory(hedgedAttemptResponseHandlerFactory, deps)))
                                         .then(async(() -> new UnwrapResponseContainer<>()))
                                         .then(async(() -> new AfterExecutionInterceptorsStage<>()))
                                         .wrappedWith(AsyncExecutionFailureExceptionReportingStage::new)
@@ -221,6 +243,25 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
             }
         }
 
+        private static <OutputT> RequestPipelineBuilder<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>>
+            attemptPipeline(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler) {
+            return RequestPipelineBuilder
+                .first(AsyncSigningStage::new)
+                .then(AsyncBeforeTransmissionExecutionInterceptorsStage::new)
+                .then(d -> new MakeAsyncHttpRequestStage<>(responseHandler, d))
+                .wrappedWith(AsyncApiCallAttemptMetricCollectionStage::new);
+        }
+
+        private static <OutputT> Function<ExecutionContext, RequestPipeline<SdkHttpFullRequest,
+            CompletableFuture<Response<OutputT>>>> hedgedAttemptPipelineFactory(
+            Function<ExecutionContext, TransformingAsyncResponseHandler<Response<OutputT>>> responseHandlerFactory,
+            HttpClientDependencies dependencies) {
+            if (responseHandlerFactory == null) {
+                return null;
+            }
+            return executionContext -> attemptPipeline(responseHandlerFactory.apply(executionContext)).build(dependencies);
+        }
+
         private RequestExecutionContext createRequestExecutionDependencies() {
             return RequestExecutionContext.builder()
                                           .requestProvider(requestProvider)
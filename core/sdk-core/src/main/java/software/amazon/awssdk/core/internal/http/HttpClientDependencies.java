@@ -23,6 +23,7 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.core.internal.retry.HedgingTracker;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -36,11 +37,13 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
      */
     private final SdkClientTime sdkClientTime;
     private final ClockSkewAdjuster clockSkewAdjuster;
+    private final HedgingTracker hedgingTracker;
     private final SdkClientConfiguration clientConfiguration;
 
     private HttpClientDependencies(Builder builder) {
         this.sdkClientTime = builder.sdkClientTime != null ? builder.sdkClientTime : new SdkClientTime();
         this.clockSkewAdjuster = builder.clockSkewAdjuster != null ? builder.clockSkewAdjuster : new ClockSkewAdjuster();
+        this.hedgingTracker = builder.hedgingTracker != null ? builder.hedgingTracker : new HedgingTracker();
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
     }
 
@@ -59,6 +62,13 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return clockSkewAdjuster;
     }
 
+    /**
+     * @return The tracker of the attempt latencies and hedging budget of the operations of this client.
+     */
+    public HedgingTracker hedgingTracker() {
+        return hedgingTracker;
+    }
+
     /**
      * @return Current time offset. This is mutable and should not be cached.
      */
@@ -88,6 +98,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     public static class Builder {
         private SdkClientTime sdkClientTime;
         private ClockSkewAdjuster clockSkewAdjuster;
+        private HedgingTracker hedgingTracker;
         private SdkClientConfiguration clientConfiguration;
 
         private Builder() {
@@ -97,6 +108,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             this.sdkClientTime = from.sdkClientTime;
             this.clientConfiguration = from.clientConfiguration;
             this.clockSkewAdjuster = from.clockSkewAdjuster;
+            this.hedgingTracker = from.hedgingTracker;
         }
 
         public Builder clockSkewAdjuster(ClockSkewAdjuster clockSkewAdjuster) {
@@ -104,6 +116,11 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             return this;
         }
 
+        public Builder hedgingTracker(HedgingTracker hedgingTracker) {
+            this.hedgingTracker = hedgingTracker;
+            return this;
+        }
+
         public Builder clientConfiguration(SdkClientConfiguration clientConfiguration) {
             this.clientConfiguration = clientConfiguration;
             return this;
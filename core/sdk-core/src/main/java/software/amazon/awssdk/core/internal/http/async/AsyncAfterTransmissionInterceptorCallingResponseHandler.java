@@ -22,6 +22,7 @@ import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
@@ -64,6 +65,10 @@ public final class AsyncAfterTransmissionInterceptorCallingResponseHandler<T> im
 
     @Override
     public void onHeaders(SdkHttpResponse response) {
+        if (isCancelledHedgedAttempt()) {
+            delegate.onHeaders(response);
+            return;
+        }
         delegate.onHeaders(beforeUnmarshalling((SdkHttpFullResponse) response, context)); // TODO: Ew
     }
 
@@ -74,6 +79,11 @@ public final class AsyncAfterTransmissionInterceptorCallingResponseHandler<T> im
 
     @Override
     public void onStream(Publisher<ByteBuffer> publisher) {
+        if (isCancelledHedgedAttempt()) {
+            delegate.onStream(publisher);
+            return;
+        }
+
         Optional<Publisher<ByteBuffer>> newPublisher = context.interceptorChain()
                                                               .modifyAsyncHttpResponse(context.interceptorContext()
                                                                                               .toBuilder()
@@ -93,4 +103,13 @@ public final class AsyncAfterTransmissionInterceptorCallingResponseHandler<T> im
     public CompletableFuture<T> prepare() {
         return delegate.prepare();
     }
+
+    /**
+     * The response of an attempt that lost a hedging race must not change the interceptor context or execution attributes of
+     * the attempt that is used.
+     */
+    private boolean isCancelledHedgedAttempt() {
+        return Boolean.TRUE.equals(context.executionAttributes()
+                                          .getAttribute(InternalCoreExecutionAttribute.HEDGED_ATTEMPT_CANCELLED));
+    }
 }
\ No newline at end of file
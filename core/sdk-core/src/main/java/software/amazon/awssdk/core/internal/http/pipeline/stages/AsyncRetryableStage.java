@@ -16,27 +16,45 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.HedgingConfiguration;
 import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.RetryableStageHelper;
+import software.amazon.awssdk.core.internal.retry.HedgingTracker;
+import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 /**
  * Wrapper around the pipeline for a single request to provide retry, clockskew and request throttling functionality.
+ * <p>
+ * If the request has a {@link HedgingConfiguration} and a pipeline for hedged attempts is available, a hedged attempt is sent
+ * when the first attempt has not completed after a delay derived from the recent latencies of the operation, and the first
+ * successful response of either attempt is used. If both attempts fail, the request is retried as usual.
  */
 @SdkInternalApi
 public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHttpFullRequest,
@@ -44,16 +62,32 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
     private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
     private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline;
+    private final Function<ExecutionContext, RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>>>
+        hedgedAttemptPipelineFactory;
     private final ScheduledExecutorService scheduledExecutor;
     private final HttpClientDependencies dependencies;
 
     public AsyncRetryableStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
                                HttpClientDependencies dependencies,
                                RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline) {
+        this(responseHandler, dependencies, requestPipeline, null);
+    }
+
+    /**
+     * @param hedgedAttemptPipelineFactory Creates the pipeline of an attempt that runs with its own copy of the execution
+     *                                     context, given that copy. Both attempts of a request that may be hedged use it. If
+     *                                     null, requests are never hedged.
+     */
+    public AsyncRetryableStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
+                               HttpClientDependencies dependencies,
+                               RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline,
+                               Function<ExecutionContext, RequestPipeline<SdkHttpFullRequest,
+                                   CompletableFuture<Response<OutputT>>>> hedgedAttemptPipelineFactory) {
         this.responseHandler = responseHandler;
         this.dependencies = dependencies;
         this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
         this.requestPipeline = requestPipeline;
+        this.hedgedAttemptPipelineFactory = hedgedAttemptPipelineFactory;
     }
 
     @Override
@@ -66,6 +100,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         private final AsyncRequestBody originalRequestBody;
         private final RequestExecutionContext context;
         private final RetryableStageHelper retryableStageHelper;
+        private boolean initialAttempt = true;
 
         private RetryingExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.originalRequestBody = context.requestProvider();
@@ -99,7 +134,13 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
             try {
                 retryableStageHelper.startingAttempt();
                 retryableStageHelper.logSendingRequest();
-                responseFuture = requestPipeline.execute(retryableStageHelper.requestToSend(), context);
+                HedgingConfiguration hedgingConfiguration = resolveHedgingConfiguration();
+                if (hedgingConfiguration != null) {
+                    responseFuture = new HedgedAttempt(retryableStageHelper.requestToSend(), context, hedgingConfiguration)
+                        .execute();
+                } else {
+                    responseFuture = requestPipeline.execute(retryableStageHelper.requestToSend(), context);
+                }
 
                 // If the result future fails, go ahead and fail the response future.
                 CompletableFutureUtils.forwardExceptionTo(future, responseFuture);
@@ -159,5 +200,217 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
                 future.completeExceptionally(t);
             }
         }
+
+        /**
+         * Only the initial attempt of requests without a streaming request body is hedged, because the body of a hedged
+         * attempt must be read independently of the body of the initial attempt.
+         */
+        private HedgingConfiguration resolveHedgingConfiguration() {
+            boolean initial = initialAttempt;
+            initialAttempt = false;
+            if (!initial
+                || hedgedAttemptPipelineFactory == null
+                || context.requestProvider() != null
+                || context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME) == null) {
+                return null;
+            }
+            return context.requestConfig().hedgingConfiguration().orElse(null);
+        }
+    }
+
+    /**
+     * The initial attempt of a request, and the hedged attempt that is sent if it is slow. The future returned by
+     * {@link #execute()} completes with the first successful response, or with the outcome of the attempt that completed last
+     * if neither succeeded. The other attempt is cancelled, and its response is no longer passed to interceptors.
+     * <p>
+     * If a hedged attempt may be sent, both attempts run with their own copy of the execution context, so that neither writes
+     * to the attributes or interceptor context of the request while the other may still be using them. The copy of the
+     * attempt that decides the outcome is merged into the request's execution context when the outcome is decided.
+     */
+    private final class HedgedAttempt {
+        private final SdkHttpFullRequest request;
+        private final RequestExecutionContext context;
+        private final HedgingConfiguration configuration;
+        private final HedgingTracker tracker;
+        private final String operationName;
+        private final CompletableFuture<Response<OutputT>> result = new CompletableFuture<>();
+
+        private CompletableFuture<Response<OutputT>> initialFuture;
+        private ExecutionAttributes initialExecutionAttributes;
+        private CompletableFuture<Response<OutputT>> hedgedFuture;
+        private ExecutionAttributes hedgedExecutionAttributes;
+        private ScheduledFuture<?> hedgeTimer;
+        private int pendingAttempts;
+        private boolean hedgeSent;
+        private boolean resolved;
+
+        private HedgedAttempt(SdkHttpFullRequest request, RequestExecutionContext context, HedgingConfiguration configuration) {
+            this.request = request;
+            this.context = context;
+            this.configuration = configuration;
+            this.tracker = dependencies.hedgingTracker();
+            this.operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        }
+
+        private CompletableFuture<Response<OutputT>> execute() throws Exception {
+            Optional<Duration> hedgeDelay = tracker.startRequest(operationName, configuration);
+
+            // Without a hedged attempt there is nothing to race, so the initial attempt can use the context of the request.
+            // Otherwise both copies are taken before the initial attempt starts, so that the hedged attempt doesn't see the
+            // changes the initial attempt makes either.
+            RequestExecutionContext initialContext = hedgeDelay.isPresent() ? attemptContext(copyExecutionContext()) : null;
+            ExecutionContext hedgedExecutionContext = hedgeDelay.isPresent() ? copyExecutionContext() : null;
+
+            long startTime = System.nanoTime();
+            CompletableFuture<Response<OutputT>> initial = initialContext == null ? requestPipeline.execute(request, context)
+                                                                                  : executeAttempt(initialContext);
+            synchronized (this) {
+                initialFuture = initial;
+                initialExecutionAttributes = initialContext == null ? null : initialContext.executionAttributes();
+                pendingAttempts++;
+            }
+            result.whenComplete((r, t) -> cancelPendingAttempts());
+            initial.whenComplete((r, t) -> attemptCompleted(r, t, startTime, initialContext, false));
+
+            if (hedgeDelay.isPresent() && !result.isDone()) {
+                ScheduledFuture<?> timer = scheduledExecutor.schedule(() -> sendHedgedAttempt(hedgedExecutionContext),
+                                                                      hedgeDelay.get().toNanos(), NANOSECONDS);
+                synchronized (this) {
+                    hedgeTimer = timer;
+                }
+                if (result.isDone()) {
+                    timer.cancel(false);
+                }
+            }
+            return result;
+        }
+
+        private ExecutionContext copyExecutionContext() {
+            return context.executionContext().toBuilder()
+                          .executionAttributes(context.executionAttributes().copy())
+                          .build();
+        }
+
+        private RequestExecutionContext attemptContext(ExecutionContext executionContext) {
+            return RequestExecutionContext.builder()
+                                          .originalRequest(context.originalRequest())
+                                          .executionContext(executionContext)
+                                          .build();
+        }
+
+        private CompletableFuture<Response<OutputT>> executeAttempt(RequestExecutionContext attemptContext) {
+            try {
+                return hedgedAttemptPipelineFactory.apply(attemptContext.executionContext()).execute(request, attemptContext);
+            } catch (Throwable t) {
+                return CompletableFutureUtils.failedFuture(t);
+            }
+        }
+
+        private void sendHedgedAttempt(ExecutionContext hedgedExecutionContext) {
+            synchronized (this) {
+                if (resolved || !tracker.tryAcquireHedge(operationName)) {
+                    return;
+                }
+                hedgeSent = true;
+                pendingAttempts++;
+            }
+
+            RequestExecutionContext hedgedContext = attemptContext(hedgedExecutionContext);
+            SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Sending hedged request: " + request);
+            long startTime = System.nanoTime();
+            CompletableFuture<Response<OutputT>> hedged = executeAttempt(hedgedContext);
+            boolean alreadyResolved;
+            synchronized (this) {
+                hedgedFuture = hedged;
+                hedgedExecutionAttributes = hedgedExecutionContext.executionAttributes();
+                alreadyResolved = resolved;
+            }
+            if (alreadyResolved) {
+                cancelAttempt(hedged, hedgedExecutionContext.executionAttributes());
+            }
+            hedged.whenComplete((r, t) -> attemptCompleted(r, t, startTime, hedgedContext, true));
+        }
+
+        /**
+         * @param attemptContext The context of the attempt, or null if the attempt used the context of the request.
+         * @param hedged Whether the attempt is the hedged attempt.
+         */
+        private void attemptCompleted(Response<OutputT> response, Throwable exception, long startTime,
+                                      RequestExecutionContext attemptContext, boolean hedged) {
+            // An attempt that was cancelled because the other attempt was used did not run to completion, so its latency
+            // says nothing about the latency of the operation.
+            if (!(exception instanceof CancellationException)) {
+                tracker.recordLatency(operationName, Duration.ofNanos(System.nanoTime() - startTime));
+            }
+
+            boolean succeeded = exception == null && response.isSuccess();
+
+            boolean sent;
+            synchronized (this) {
+                pendingAttempts--;
+                if (resolved || !succeeded && pendingAttempts > 0) {
+                    return;
+                }
+                resolved = true;
+                sent = hedgeSent;
+            }
+
+            if (attemptContext != null) {
+                // Later stages and interceptors should see the request, response and attributes of the attempt that is used.
+                ExecutionContext attemptExecutionContext = attemptContext.executionContext();
+                copyAttributes(attemptExecutionContext.executionAttributes(), context.executionAttributes());
+                context.executionContext().interceptorContext(attemptExecutionContext.interceptorContext());
+            }
+            MetricCollector metricCollector = context.executionContext().metricCollector();
+            metricCollector.reportMetric(CoreMetric.HEDGED_ATTEMPT_COUNT, sent ? 1 : 0);
+            metricCollector.reportMetric(CoreMetric.HEDGED_ATTEMPT_WON, succeeded && hedged);
+
+            cancelPendingAttempts();
+            if (exception != null) {
+                result.completeExceptionally(exception);
+            } else {
+                result.complete(response);
+            }
+        }
+
+        private void cancelPendingAttempts() {
+            CompletableFuture<Response<OutputT>> initial;
+            ExecutionAttributes initialAttributes;
+            CompletableFuture<Response<OutputT>> hedged;
+            ExecutionAttributes hedgedAttributes;
+            ScheduledFuture<?> timer;
+            synchronized (this) {
+                resolved = true;
+                initial = initialFuture;
+                initialAttributes = initialExecutionAttributes;
+                hedged = hedgedFuture;
+                hedgedAttributes = hedgedExecutionAttributes;
+                timer = hedgeTimer;
+            }
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            cancelAttempt(initial, initialAttributes);
+            cancelAttempt(hedged, hedgedAttributes);
+        }
+
+        /**
+         * @param attributes The attributes of the attempt's own copy of the execution context, or null if it used the context
+         *                   of the request and there is no other attempt whose response could be mistaken for its response.
+         */
+        private void cancelAttempt(CompletableFuture<Response<OutputT>> attempt, ExecutionAttributes attributes) {
+            if (attempt == null || attempt.isDone()) {
+                return;
+            }
+            if (attributes != null) {
+                attributes.putAttribute(InternalCoreExecutionAttribute.HEDGED_ATTEMPT_CANCELLED, true);
+            }
+            attempt.cancel(true);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void copyAttributes(ExecutionAttributes from, ExecutionAttributes to) {
+            from.getAttributes().forEach((attribute, value) -> to.putAttribute((ExecutionAttribute<Object>) attribute, value));
+        }
     }
 }
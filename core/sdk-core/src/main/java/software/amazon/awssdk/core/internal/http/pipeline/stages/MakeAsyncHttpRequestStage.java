@@ -52,10 +52,12 @@ import software.amazon.awssdk.core.internal.metrics.BytesWrittenTrackingPublishe
 import software.amazon.awssdk.core.internal.metrics.RequestBodyMetrics;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.SdkHttpExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.AsyncResponseHttpExecutionAttribute;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -146,10 +148,9 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                                                                 .requestContentPublisher(requestProvider)
                                                                 .fullDuplex(isFullDuplex(context.executionAttributes()))
                                                                 .metricCollector(httpMetricCollector);
-        if (context.executionAttributes().getAttribute(SDK_HTTP_EXECUTION_ATTRIBUTES) != null) {
-            executeRequestBuilder.httpExecutionAttributes(
-                context.executionAttributes()
-                       .getAttribute(SDK_HTTP_EXECUTION_ATTRIBUTES));
+        SdkHttpExecutionAttributes httpExecutionAttributes = resolveHttpExecutionAttributes(context.executionAttributes());
+        if (httpExecutionAttributes != null) {
+            executeRequestBuilder.httpExecutionAttributes(httpExecutionAttributes);
         }
 
         CompletableFuture<Void> httpClientFuture = doExecuteHttpRequest(context, executeRequestBuilder, responseHandler);
@@ -218,6 +219,20 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         return result;
     }
 
+    private static SdkHttpExecutionAttributes resolveHttpExecutionAttributes(ExecutionAttributes executionAttributes) {
+        SdkHttpExecutionAttributes httpExecutionAttributes = executionAttributes.getAttribute(SDK_HTTP_EXECUTION_ATTRIBUTES);
+        if (!Boolean.TRUE.equals(
+            executionAttributes.getAttribute(InternalCoreExecutionAttribute.RESPONSE_BUFFERS_RELEASED_ON_DEMAND))) {
+            return httpExecutionAttributes;
+        }
+
+        SdkHttpExecutionAttributes.Builder builder = httpExecutionAttributes != null ?
+                                                     httpExecutionAttributes.toBuilder() :
+                                                     SdkHttpExecutionAttributes.builder();
+        return builder.put(AsyncResponseHttpExecutionAttribute.RESPONSE_BUFFERS_RELEASED_ON_DEMAND, true)
+                      .build();
+    }
+
     private boolean isFullDuplex(ExecutionAttributes executionAttributes) {
         return executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX) != null &&
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
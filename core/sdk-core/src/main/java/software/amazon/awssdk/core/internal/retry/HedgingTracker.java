@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.HedgingConfiguration;
+
+/**
+ * Tracks the recent attempt latencies and the hedging budget of each operation of a client, to decide when a hedged attempt
+ * should be sent for a request with a {@link HedgingConfiguration}.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class HedgingTracker {
+    /**
+     * The number of latencies of an operation that must be recorded before its requests are hedged.
+     */
+    static final int MIN_SAMPLES = 20;
+
+    /**
+     * The number of latencies after which the recorded latencies of an operation are halved, so that the delay adapts to changes
+     * in latency.
+     */
+    static final int DECAY_SAMPLES = 1024;
+
+    /**
+     * The maximum number of hedged attempts that may be saved up in the budget of an operation.
+     */
+    static final int MAX_BUDGET = 10;
+
+    private static final long MILLI_TOKENS_PER_HEDGE = 1000;
+
+    /**
+     * Latencies are recorded in microseconds, in buckets of four per power of two, so that the delay is within 25% of the
+     * actual percentile.
+     */
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = 40 * SUB_BUCKETS;
+
+    private final ConcurrentHashMap<String, OperationState> operations = new ConcurrentHashMap<>();
+
+    /**
+     * Record that a request of the given operation is being executed with hedging enabled, adding to the hedging budget of the
+     * operation, and return the delay after which it should be hedged. The delay is not present if not enough latencies have
+     * been recorded for the operation yet.
+     */
+    public Optional<Duration> startRequest(String operationName, HedgingConfiguration configuration) {
+        OperationState state = state(operationName);
+        state.deposit(configuration.maxHedgeRatio());
+        long percentileMicros = state.percentileMicros(configuration.delayPercentile());
+        if (percentileMicros < 0) {
+            return Optional.empty();
+        }
+        Duration delay = Duration.ofNanos(percentileMicros * 1000);
+        return Optional.of(delay.compareTo(configuration.minimumDelay()) > 0 ? delay : configuration.minimumDelay());
+    }
+
+    /**
+     * Take a hedged attempt of the given operation from its budget. Returns false if the budget is exhausted, and the request
+     * should not be hedged.
+     */
+    public boolean tryAcquireHedge(String operationName) {
+        return state(operationName).tryWithdraw();
+    }
+
+    /**
+     * Record the latency of a successful attempt of the given operation.
+     */
+    public void recordLatency(String operationName, Duration latency) {
+        state(operationName).record(latency.toNanos() / 1000);
+    }
+
+    private OperationState state(String operationName) {
+        return operations.computeIfAbsent(operationName, n -> new OperationState());
+    }
+
+    @SdkTestInternalApi
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(micros, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket, BUCKET_COUNT - 1);
+    }
+
+    /**
+     * The exclusive upper bound of the latencies, in microseconds, recorded in the bucket with the given index.
+     */
+    @SdkTestInternalApi
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index + 1L;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static final class OperationState {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong sampleCount = new AtomicLong();
+        private final AtomicLong budgetMilliTokens = new AtomicLong();
+
+        private void record(long micros) {
+            buckets.incrementAndGet(bucketIndex(micros));
+            if (sampleCount.incrementAndGet() == DECAY_SAMPLES) {
+                decay();
+            }
+        }
+
+        /**
+         * Halve the recorded latencies. Concurrently recorded latencies may or may not be halved, which only makes the
+         * percentile slightly less accurate.
+         */
+        private void decay() {
+            long removed = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long previous = buckets.getAndUpdate(i, count -> count - count / 2);
+                removed += previous / 2;
+            }
+            sampleCount.addAndGet(-removed);
+        }
+
+        private long percentileMicros(double percentile) {
+            long total = 0;
+            long[] counts = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            if (total < MIN_SAMPLES) {
+                return -1;
+            }
+            long target = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return bucketUpperBound(BUCKET_COUNT - 1);
+        }
+
+        private void deposit(double maxHedgeRatio) {
+            long milliTokens = (long) (maxHedgeRatio * MILLI_TOKENS_PER_HEDGE);
+            long max = MAX_BUDGET * MILLI_TOKENS_PER_HEDGE;
+            budgetMilliTokens.getAndUpdate(current -> Math.min(current + milliTokens, max));
+        }
+
+        private boolean tryWithdraw() {
+            long current;
+            do {
+                current = budgetMilliTokens.get();
+                if (current < MILLI_TOKENS_PER_HEDGE) {
+                    return false;
+                }
+            } while (!budgetMilliTokens.compareAndSet(current, current - MILLI_TOKENS_PER_HEDGE));
+            return true;
+        }
+    }
+}
@@ -60,7 +60,6 @@ import software.amazon.awssdk.utils.StringUtils;
 @SdkInternalApi
 public final class HttpChecksumUtils {
     private static final Logger log = Logger.loggerFor(HttpChecksumUtils.class);
-    private static final String CRT_CRC64NVME_PATH = "software.amazon.awssdk.crt.checksums.CRC64NVME";
     private static final String CRT_XXHASH_PATH = "software.amazon.awssdk.crt.checksums.XXHash";
 
     private static final int CHECKSUM_BUFFER_SIZE = 16 * 1024;
@@ -87,8 +86,6 @@ public final class HttpChecksumUtils {
         Algorithm.CRC64NVME, CRC64NVME
     );
 
-    private static Lazy<Boolean> isCrc64NvmeAvailable = checkCrtAvailability(CRT_CRC64NVME_PATH);
-
     private static Lazy<Boolean> isXxHashAvailable = checkCrtAvailability(CRT_XXHASH_PATH);
 
     private HttpChecksumUtils() {
@@ -358,10 +355,6 @@ public final class HttpChecksumUtils {
     }
 
     private static boolean shouldSkipAlgorithm(ChecksumAlgorithm checksumAlgorithm) {
-        if (checksumAlgorithm.equals(CRC64NVME) && !isCrc64NvmeAvailable.getValue()) {
-            log.debug(() -> "Skip CRC64NVME checksum validation because CRT is not available");
-            return true;
-        }
         if ((checksumAlgorithm.equals(XXHASH64) || checksumAlgorithm.equals(XXHASH3) || 
              checksumAlgorithm.equals(XXHASH128)) && !isXxHashAvailable.getValue()) {
             log.debug(() -> "Skip XXHASH checksum validation because CRT is not available");
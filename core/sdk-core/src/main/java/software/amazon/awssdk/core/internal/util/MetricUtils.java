@@ -27,6 +27,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -134,6 +136,16 @@ public final class MetricUtils {
         }
     }
 
+    /**
+     * Create the root collector of an API call's metrics, honoring {@link SdkAdvancedClientOption#LOCK_FREE_METRIC_COLLECTOR}.
+     */
+    public static MetricCollector createApiCallMetricCollector(SdkClientConfiguration clientConfiguration) {
+        if (Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.LOCK_FREE_METRIC_COLLECTOR))) {
+            return MetricCollector.createLockFree("ApiCall");
+        }
+        return MetricCollector.create("ApiCall");
+    }
+
     public static MetricCollector createAttemptMetricsCollector(RequestExecutionContext context) {
         MetricCollector parentCollector = context.executionContext().metricCollector();
         if (parentCollector != null) {
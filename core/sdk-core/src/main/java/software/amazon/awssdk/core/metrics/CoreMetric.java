@@ -18,7 +18,9 @@ package software.amazon.awssdk.core.metrics;
 import java.net.URI;
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.HedgingConfiguration;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.metrics.MetricCategory;
@@ -53,6 +55,20 @@ public final class CoreMetric {
     public static final SdkMetric<Integer> RETRY_COUNT =
         metric("RetryCount", Integer.class, MetricLevel.ERROR);
 
+    /**
+     * The number of hedged attempts that the SDK sent in the execution of the request, in addition to its first attempt. This
+     * is only reported for requests with a {@link HedgingConfiguration}.
+     */
+    public static final SdkMetric<Integer> HEDGED_ATTEMPT_COUNT =
+        metric("HedgedAttemptCount", Integer.class, MetricLevel.INFO);
+
+    /**
+     * True if the response of the first attempt of the request came from a hedged attempt, false otherwise. This is only
+     * reported for requests with a {@link HedgingConfiguration}.
+     */
+    public static final SdkMetric<Boolean> HEDGED_ATTEMPT_WON =
+        metric("HedgedAttemptWon", Boolean.class, MetricLevel.INFO);
+
     /**
      * The endpoint for the service.
      */
@@ -183,6 +199,13 @@ public final class CoreMetric {
     public static final SdkMetric<Duration> ENDPOINT_RESOLVE_DURATION =
         metric("EndpointResolveDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * Whether the endpoint used for the API call was found in the endpoint resolution cache of the client. This is only
+     * reported for clients with {@link SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE} set.
+     */
+    public static final SdkMetric<Boolean> ENDPOINT_RESOLUTION_CACHE_HIT =
+        metric("EndpointResolutionCacheHit", Boolean.class, MetricLevel.INFO);
+
 
     /**
      * The type of error that occurred for a call attempt.
@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+public class EndpointResolutionCacheTest {
+    private static final EndpointProvider PROVIDER = new EndpointProvider() {
+    };
+
+    private AtomicInteger resolutions;
+    private Function<String, CompletableFuture<Endpoint>> resolver;
+
+    @BeforeEach
+    public void setup() {
+        resolutions = new AtomicInteger();
+        resolver = params -> {
+            resolutions.incrementAndGet();
+            return CompletableFuture.completedFuture(endpoint(params));
+        };
+    }
+
+    @Test
+    public void resolve_sameParams_resolvesOnce() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+
+        Endpoint first = cache.resolve(PROVIDER, "a", resolver, null);
+        Endpoint second = cache.resolve(PROVIDER, new String("a"), resolver, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(resolutions).hasValue(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolve_differentParams_resolvesEach() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+
+        assertThat(cache.resolve(PROVIDER, "a", resolver, null).url()).isEqualTo(URI.create("https://a"));
+        assertThat(cache.resolve(PROVIDER, "b", resolver, null).url()).isEqualTo(URI.create("https://b"));
+
+        assertThat(resolutions).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void resolve_differentProvider_doesNotUseCachedEndpoint() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        EndpointProvider otherProvider = new EndpointProvider() {
+        };
+
+        cache.resolve(PROVIDER, "a", resolver, null);
+        cache.resolve(otherProvider, "a", resolver, null);
+        cache.resolve(otherProvider, "a", resolver, null);
+
+        assertThat(resolutions).hasValue(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolve_failedResolution_isNotCached() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        RuntimeException failure = new RuntimeException("boom");
+        Function<String, CompletableFuture<Endpoint>> failing = params -> {
+            resolutions.incrementAndGet();
+            return CompletableFutureUtils.failedFuture(failure);
+        };
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.resolve(PROVIDER, "a", failing, null))
+                .isInstanceOf(CompletionException.class)
+                .hasCause(failure);
+        }
+
+        assertThat(resolutions).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void resolve_cacheFull_evictsEntries() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(5);
+
+        for (int i = 0; i < 100; i++) {
+            cache.resolve(PROVIDER, "host" + i, resolver, null);
+            assertThat(cache.size()).isLessThanOrEqualTo(5);
+        }
+
+        assertThat(resolutions).hasValue(100);
+    }
+
+    @Test
+    public void resolve_reportsCacheHitMetric() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        MetricCollector collector = MetricCollector.create("test");
+
+        cache.resolve(PROVIDER, "a", resolver, collector);
+        cache.resolve(PROVIDER, "a", resolver, collector);
+
+        MetricCollection metrics = collector.collect();
+        assertThat(metrics.metricValues(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT)).containsExactly(false, true);
+    }
+
+    @Test
+    public void create_nonPositiveSize_throws() {
+        assertThatThrownBy(() -> EndpointResolutionCache.create(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void resolveEndpoint_noCacheConfigured_usesResolver() {
+        ExecutionAttributes attributes = new ExecutionAttributes();
+
+        EndpointResolutionCache.resolveEndpoint(attributes, PROVIDER, "a", resolver);
+        EndpointResolutionCache.resolveEndpoint(attributes, PROVIDER, "a", resolver);
+
+        assertThat(resolutions).hasValue(2);
+    }
+
+    @Test
+    public void resolveEndpoint_cacheConfigured_usesCache() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        MetricCollector collector = MetricCollector.create("test");
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        attributes.putAttribute(SdkInternalExecutionAttribute.ENDPOINT_RESOLUTION_CACHE, cache);
+        attributes.putAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR, collector);
+
+        EndpointResolutionCache.resolveEndpoint(attributes, PROVIDER, "a", resolver);
+        EndpointResolutionCache.resolveEndpoint(attributes, PROVIDER, "a", resolver);
+
+        assertThat(resolutions).hasValue(1);
+        assertThat(collector.collect().metricValues(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT)).containsExactly(false, true);
+    }
+
+    private static Endpoint endpoint(String host) {
+        return Endpoint.builder().url(URI.create("https://" + host)).build();
+    }
+}
@@ -17,6 +17,8 @@ package software.amazon.awssdk.core.interceptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 public class ExecutionAttributesTest {
@@ -80,4 +82,78 @@ public class ExecutionAttributesTest {
 
         assertThat(executionAttributes1.hashCode()).isEqualTo(executionAttributes2.hashCode());
     }
+
+    @Test
+    public void copy_modifiedAfterCopy_doesNotAffectOther() {
+        ExecutionAttributes original = new ExecutionAttributes().putAttribute(ATTR_1, "hello");
+        ExecutionAttributes copy = original.copy();
+
+        copy.putAttribute(ATTR_2, "world");
+        original.putAttribute(ATTR_1, "HELLO");
+
+        assertThat(original.getAttribute(ATTR_1)).isEqualTo("HELLO");
+        assertThat(original.getAttribute(ATTR_2)).isNull();
+        assertThat(copy.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThat(copy.getAttribute(ATTR_2)).isEqualTo("world");
+    }
+
+    @Test
+    public void unmodifiableExecutionAttributes_sourceModified_doesNotChange() {
+        ExecutionAttributes original = new ExecutionAttributes().putAttribute(ATTR_1, "hello");
+        ExecutionAttributes unmodifiable = ExecutionAttributes.unmodifiableExecutionAttributes(original);
+
+        original.putAttribute(ATTR_1, "HELLO");
+
+        assertThat(unmodifiable.getAttribute(ATTR_1)).isEqualTo("hello");
+    }
+
+    @Test
+    public void merge_keepsHigherPrecedenceValues_andDoesNotModifyEither() {
+        ExecutionAttributes higher = new ExecutionAttributes().putAttribute(ATTR_1, "hello");
+        ExecutionAttributes lower = new ExecutionAttributes().putAttribute(ATTR_1, "HELLO")
+                                                             .putAttribute(ATTR_2, "world");
+
+        ExecutionAttributes merged = higher.merge(lower);
+
+        assertThat(merged.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThat(merged.getAttribute(ATTR_2)).isEqualTo("world");
+        assertThat(higher.getAttribute(ATTR_2)).isNull();
+        assertThat(lower.getAttribute(ATTR_1)).isEqualTo("HELLO");
+    }
+
+    @Test
+    public void putAbsentAttributes_replacesOnlyNullValues() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(ATTR_1, null);
+        ExecutionAttributes lower = new ExecutionAttributes().putAttribute(ATTR_1, "hello")
+                                                             .putAttribute(ATTR_2, "world");
+
+        attributes.putAbsentAttributes(lower);
+
+        assertThat(attributes.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThat(attributes.getAttribute(ATTR_2)).isEqualTo("world");
+    }
+
+    @Test
+    public void getAttributes_includesExplicitNullValues_andEqualsEquivalentMap() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(ATTR_1, "hello")
+                                                                  .putAttribute(ATTR_2, null);
+
+        Map<ExecutionAttribute<?>, Object> expected = new HashMap<>();
+        expected.put(ATTR_1, "hello");
+        expected.put(ATTR_2, null);
+
+        assertThat(attributes.getAttributes()).isEqualTo(expected);
+        assertThat(attributes.getAttributes().hashCode()).isEqualTo(expected.hashCode());
+        assertThat(attributes.getAttributes()).containsKey(ATTR_2);
+    }
+
+    @Test
+    public void getAttributes_reflectsLaterModifications() {
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        Map<ExecutionAttribute<?>, Object> view = attributes.getAttributes();
+
+        attributes.putAttribute(ATTR_1, "hello");
+
+        assertThat(view).containsEntry(ATTR_1, "hello");
+    }
 }
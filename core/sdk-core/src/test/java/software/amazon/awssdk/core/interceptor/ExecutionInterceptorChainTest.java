@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import utils.ValidSdkObjects;
+
+public class ExecutionInterceptorChainTest {
+    private final List<String> invocations = new ArrayList<>();
+
+    @Test
+    public void lifecycleMethods_invokeOnlyInterceptorsOverridingThem_inConfiguredOrder() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new BeforeExecutionInterceptor("first"),
+                                                                                      new AfterExecutionInterceptor("second"),
+                                                                                      new BeforeExecutionInterceptor("third"),
+                                                                                      new AfterExecutionInterceptor("fourth")));
+        InterceptorContext context = context();
+
+        chain.beforeExecution(context, new ExecutionAttributes());
+        chain.afterExecution(context, new ExecutionAttributes());
+
+        assertThat(invocations).containsExactly("first.beforeExecution", "third.beforeExecution",
+                                                "fourth.afterExecution", "second.afterExecution");
+    }
+
+    @Test
+    public void modifyHttpRequestAndHttpContent_interceptorOverridingOnlyHttpContent_isInvoked() {
+        RequestBody newBody = RequestBody.fromString("new");
+        ExecutionInterceptor interceptor = new ExecutionInterceptor() {
+            @Override
+            public Optional<RequestBody> modifyHttpContent(Context.ModifyHttpRequest context,
+                                                           ExecutionAttributes executionAttributes) {
+                return Optional.of(newBody);
+            }
+        };
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new BeforeExecutionInterceptor("first"),
+                                                                                      interceptor));
+
+        InterceptorContext result = chain.modifyHttpRequestAndHttpContent(context(), new ExecutionAttributes());
+
+        assertThat(result.requestBody()).contains(newBody);
+    }
+
+    @Test
+    public void modifyRequest_interceptorNotOverridingIt_returnsSameContext() {
+        ExecutionInterceptorChain chain =
+            new ExecutionInterceptorChain(Arrays.asList(new BeforeExecutionInterceptor("first")));
+        InterceptorContext context = context();
+
+        assertThat(chain.modifyRequest(context, new ExecutionAttributes())).isSameAs(context);
+        assertThat(invocations).isEmpty();
+    }
+
+    @Test
+    public void lifecycleMethods_mockedInterceptor_isInvoked() {
+        ExecutionInterceptor interceptor = mock(ExecutionInterceptor.class);
+        InterceptorContext context = context();
+        when(interceptor.modifyRequest(any(), any())).thenReturn(context.request());
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(interceptor));
+
+        chain.beforeExecution(context, new ExecutionAttributes());
+        chain.modifyRequest(context, new ExecutionAttributes());
+
+        verify(interceptor, times(1)).beforeExecution(any(), any());
+        verify(interceptor, times(1)).modifyRequest(any(), any());
+    }
+
+    private static InterceptorContext context() {
+        SdkRequest request = ValidSdkObjects.sdkRequest();
+        SdkHttpRequest httpRequest = ValidSdkObjects.sdkHttpFullRequest().build();
+        return InterceptorContext.builder()
+                                 .request(request)
+                                 .httpRequest(httpRequest)
+                                 .build();
+    }
+
+    private class BeforeExecutionInterceptor implements ExecutionInterceptor {
+        private final String name;
+
+        private BeforeExecutionInterceptor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            invocations.add(name + ".beforeExecution");
+        }
+    }
+
+    private class AfterExecutionInterceptor implements ExecutionInterceptor {
+        private final String name;
+
+        private AfterExecutionInterceptor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            invocations.add(name + ".afterExecution");
+        }
+    }
+}
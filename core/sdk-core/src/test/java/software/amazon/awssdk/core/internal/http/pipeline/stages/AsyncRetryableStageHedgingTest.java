@@ -0,0 +1,336 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.HedgingConfiguration;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.retry.HedgingTracker;
+import software.amazon.awssdk.core.internal.retry.SdkDefaultRetryStrategy;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.metrics.MetricCollection;
+import utils.ValidSdkObjects;
+
+public class AsyncRetryableStageHedgingTest {
+    private static final String OPERATION = "GetItem";
+    private static final ExecutionAttribute<String> ATTEMPT = new ExecutionAttribute<>("HedgingTestAttempt");
+
+    private ScheduledExecutorService scheduledExecutor;
+    private HedgingTracker tracker;
+    private HttpClientDependencies dependencies;
+    private SdkHttpFullRequest httpRequest;
+
+    @BeforeEach
+    public void setup() {
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        tracker = new HedgingTracker();
+        SdkClientConfiguration configuration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE, scheduledExecutor)
+                                  .option(SdkClientOption.RETRY_STRATEGY, SdkDefaultRetryStrategy.defaultRetryStrategy())
+                                  .build();
+        dependencies = HttpClientDependencies.builder()
+                                             .clientConfiguration(configuration)
+                                             .hedgingTracker(tracker)
+                                             .build();
+        httpRequest = ValidSdkObjects.sdkHttpFullRequest().build();
+
+        for (int i = 0; i < 100; i++) {
+            tracker.recordLatency(OPERATION, Duration.ofMillis(1));
+        }
+    }
+
+    @AfterEach
+    public void teardown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    public void slowInitialAttempt_hedgedAttemptWinsAndInitialAttemptIsCancelled() throws Exception {
+        CompletableFuture<Response<String>> initialAttempt = new CompletableFuture<>();
+        AtomicInteger hedgedAttempts = new AtomicInteger();
+        RequestExecutionContext context = context(hedging(1.0));
+
+        CompletableFuture<Response<String>> result =
+            stage((r, c) -> initialAttempt,
+                  c -> (r, hc) -> {
+                      hedgedAttempts.incrementAndGet();
+                      return CompletableFuture.completedFuture(success("hedged"));
+                  })
+                .execute(httpRequest, context);
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("hedged");
+        assertThat(hedgedAttempts).hasValue(1);
+        assertThat(initialAttempt).isCancelled();
+        assertHedgingMetrics(context, 1, true);
+    }
+
+    @Test
+    public void hedgedAttemptWins_itsExecutionAttributesAreUsed() throws Exception {
+        CompletableFuture<Response<String>> initialAttempt = new CompletableFuture<>();
+        CompletableFuture<RequestExecutionContext> initialContext = new CompletableFuture<>();
+        RequestExecutionContext context = context(hedging(1.0));
+        context.executionAttributes().putAttribute(ATTEMPT, "request");
+
+        CompletableFuture<Response<String>> result =
+            stage((r, c) -> {
+                      c.executionAttributes().putAttribute(ATTEMPT, "initial");
+                      initialContext.complete(c);
+                      return initialAttempt;
+                  },
+                  c -> (r, hc) -> {
+                      hc.executionAttributes().putAttribute(ATTEMPT, "hedged");
+                      return CompletableFuture.completedFuture(success("hedged"));
+                  })
+                .execute(httpRequest, context);
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("hedged");
+        assertThat(context.executionAttributes().getAttribute(ATTEMPT)).isEqualTo("hedged");
+        assertThat(context.executionAttributes().getAttribute(InternalCoreExecutionAttribute.HEDGED_ATTEMPT_CANCELLED))
+            .isNull();
+
+        ExecutionAttributes initialAttributes = initialContext.get(5, TimeUnit.SECONDS).executionAttributes();
+        assertThat(initialAttributes).isNotSameAs(context.executionAttributes());
+        assertThat(initialAttributes.getAttribute(ATTEMPT)).isEqualTo("initial");
+        assertThat(initialAttributes.getAttribute(InternalCoreExecutionAttribute.HEDGED_ATTEMPT_CANCELLED)).isTrue();
+    }
+
+    @Test
+    public void initialAttemptWins_hedgedAttemptIsMarkedCancelled() throws Exception {
+        CompletableFuture<Response<String>> initialAttempt = new CompletableFuture<>();
+        CompletableFuture<Response<String>> hedgedAttempt = new CompletableFuture<>();
+        CompletableFuture<ExecutionContext> hedgedContext = new CompletableFuture<>();
+        RequestExecutionContext context = context(hedging(1.0));
+
+        CompletableFuture<Response<String>> result =
+            stage((r, c) -> initialAttempt,
+                  c -> {
+                      hedgedContext.complete(c);
+                      return (r, hc) -> hedgedAttempt;
+                  })
+                .execute(httpRequest, context);
+
+        ExecutionContext hedgedExecutionContext = hedgedContext.get(5, TimeUnit.SECONDS);
+        initialAttempt.complete(success("initial"));
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("initial");
+        assertThatThrownBy(() -> hedgedAttempt.get(5, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+        assertThat(hedgedExecutionContext.executionAttributes()
+                                         .getAttribute(InternalCoreExecutionAttribute.HEDGED_ATTEMPT_CANCELLED)).isTrue();
+        assertThat(context.executionAttributes().getAttribute(InternalCoreExecutionAttribute.HEDGED_ATTEMPT_CANCELLED))
+            .isNull();
+    }
+
+    @Test
+    public void fastInitialAttempt_noHedgedAttemptSent() throws Exception {
+        AtomicInteger hedgedAttempts = new AtomicInteger();
+        RequestExecutionContext context = context(hedging(1.0));
+
+        CompletableFuture<Response<String>> result =
+            stage((r, c) -> CompletableFuture.completedFuture(success("initial")),
+                  c -> {
+                      hedgedAttempts.incrementAndGet();
+                      return (r, hc) -> CompletableFuture.completedFuture(success("hedged"));
+                  })
+                .execute(httpRequest, context);
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("initial");
+        Thread.sleep(100);
+        assertThat(hedgedAttempts).hasValue(0);
+        assertHedgingMetrics(context, 0, false);
+    }
+
+    @Test
+    public void exhaustedBudget_noHedgedAttemptSent() throws Exception {
+        AtomicInteger hedgedAttempts = new AtomicInteger();
+        RequestExecutionContext context = context(hedging(0.0));
+
+        CompletableFuture<Response<String>> result =
+            stage((r, c) -> delayedSuccess("initial"),
+                  c -> {
+                      hedgedAttempts.incrementAndGet();
+                      return (r, hc) -> CompletableFuture.completedFuture(success("hedged"));
+                  })
+                .execute(httpRequest, context);
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("initial");
+        assertThat(hedgedAttempts).hasValue(0);
+        assertHedgingMetrics(context, 0, false);
+    }
+
+    @Test
+    public void hedgedAttemptFails_initialAttemptIsUsed() throws Exception {
+        RequestExecutionContext context = context(hedging(1.0));
+
+        CompletableFuture<Response<String>> result =
+            stage((r, c) -> delayedSuccess("initial"),
+                  c -> (r, hc) -> CompletableFuture.completedFuture(failure()))
+                .execute(httpRequest, context);
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("initial");
+        assertHedgingMetrics(context, 1, false);
+    }
+
+    @Test
+    public void bothAttemptsFail_requestIsRetriedWithoutHedging() throws Exception {
+        AtomicInteger initialAttempts = new AtomicInteger();
+        AtomicInteger hedgedAttempts = new AtomicInteger();
+        RequestExecutionContext context = context(hedging(1.0));
+
+        CompletableFuture<Response<String>> result =
+            stage((r, c) -> initialAttempts.incrementAndGet() == 1 ? delayedFailure()
+                                                                   : CompletableFuture.completedFuture(success("retried")),
+                  c -> (r, hc) -> {
+                      hedgedAttempts.incrementAndGet();
+                      return CompletableFuture.completedFuture(failure());
+                  })
+                .execute(httpRequest, context);
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("retried");
+        assertThat(initialAttempts).hasValue(2);
+        assertThat(hedgedAttempts).hasValue(1);
+        assertHedgingMetrics(context, 1, false);
+    }
+
+    @Test
+    public void noHedgingConfiguration_noHedgedAttemptSent() throws Exception {
+        AtomicInteger hedgedAttempts = new AtomicInteger();
+        RequestExecutionContext context = context(null);
+
+        CompletableFuture<Response<String>> result =
+            stage((r, c) -> delayedSuccess("initial"),
+                  c -> {
+                      hedgedAttempts.incrementAndGet();
+                      return (r, hc) -> CompletableFuture.completedFuture(success("hedged"));
+                  })
+                .execute(httpRequest, context);
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("initial");
+        assertThat(hedgedAttempts).hasValue(0);
+        assertThat(collect(context).metricValues(CoreMetric.HEDGED_ATTEMPT_COUNT)).isEmpty();
+    }
+
+    private AsyncRetryableStage<String> stage(
+        RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<String>>> initialPipeline,
+        Function<ExecutionContext, RequestPipeline<SdkHttpFullRequest,
+            CompletableFuture<Response<String>>>> hedgedPipelineFactory) {
+        @SuppressWarnings("unchecked")
+        TransformingAsyncResponseHandler<Response<String>> responseHandler = mock(TransformingAsyncResponseHandler.class);
+
+        // When a request may be hedged, its initial attempt also runs with its own copy of the execution context, through
+        // the pipeline factory.
+        AtomicBoolean initialAttemptStarted = new AtomicBoolean();
+        Function<ExecutionContext, RequestPipeline<SdkHttpFullRequest,
+            CompletableFuture<Response<String>>>> attemptPipelineFactory =
+            c -> initialAttemptStarted.getAndSet(true) ? hedgedPipelineFactory.apply(c) : initialPipeline;
+        return new AsyncRetryableStage<>(responseHandler, dependencies, initialPipeline, attemptPipelineFactory);
+    }
+
+    private static HedgingConfiguration hedging(double maxHedgeRatio) {
+        return HedgingConfiguration.builder()
+                                   .minimumDelay(Duration.ofMillis(10))
+                                   .maxHedgeRatio(maxHedgeRatio)
+                                   .build();
+    }
+
+    private static RequestExecutionContext context(HedgingConfiguration hedgingConfiguration) {
+        NoopTestRequest request =
+            NoopTestRequest.builder()
+                           .overrideConfiguration(SdkRequestOverrideConfiguration.builder()
+                                                                                 .hedgingConfiguration(hedgingConfiguration)
+                                                                                 .build())
+                           .build();
+        ExecutionContext executionContext =
+            ClientExecutionAndRequestTimerTestUtils.executionContext(ValidSdkObjects.sdkHttpFullRequest().build());
+        executionContext.executionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, OPERATION);
+        return RequestExecutionContext.builder()
+                                      .originalRequest(request)
+                                      .executionContext(executionContext)
+                                      .build();
+    }
+
+    private CompletableFuture<Response<String>> delayedSuccess(String body) {
+        CompletableFuture<Response<String>> future = new CompletableFuture<>();
+        scheduledExecutor.schedule(() -> future.complete(success(body)), 200, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private CompletableFuture<Response<String>> delayedFailure() {
+        CompletableFuture<Response<String>> future = new CompletableFuture<>();
+        scheduledExecutor.schedule(() -> future.complete(failure()), 200, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private static Response<String> success(String body) {
+        return Response.<String>builder()
+                       .response(body)
+                       .httpResponse(SdkHttpFullResponse.builder().statusCode(200).build())
+                       .isSuccess(true)
+                       .build();
+    }
+
+    private static Response<String> failure() {
+        return Response.<String>builder()
+                       .httpResponse(SdkHttpFullResponse.builder().statusCode(500).build())
+                       .exception(SdkServiceException.builder().statusCode(500).message("Internal error").build())
+                       .isSuccess(false)
+                       .build();
+    }
+
+    private static void assertHedgingMetrics(RequestExecutionContext context, int count, boolean won) {
+        MetricCollection metrics = collect(context);
+        assertThat(metrics.metricValues(CoreMetric.HEDGED_ATTEMPT_COUNT)).isEqualTo(Collections.singletonList(count));
+        assertThat(metrics.metricValues(CoreMetric.HEDGED_ATTEMPT_WON)).isEqualTo(Collections.singletonList(won));
+    }
+
+    private static MetricCollection collect(RequestExecutionContext context) {
+        return context.executionContext().metricCollector().collect();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.HedgingConfiguration;
+
+public class HedgingTrackerTest {
+    private static final String OPERATION = "GetItem";
+
+    private final HedgingTracker tracker = new HedgingTracker();
+
+    @Test
+    public void bucketUpperBound_containsEveryLatencyOfBucket() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int index = HedgingTracker.bucketIndex(micros);
+            assertThat(micros).isLessThan(HedgingTracker.bucketUpperBound(index));
+            if (index > 0) {
+                assertThat(micros).isGreaterThanOrEqualTo(HedgingTracker.bucketUpperBound(index - 1));
+            }
+        }
+    }
+
+    @Test
+    public void startRequest_notEnoughSamples_noDelay() {
+        recordLatencies(HedgingTracker.MIN_SAMPLES - 1, Duration.ofMillis(10));
+
+        assertThat(tracker.startRequest(OPERATION, HedgingConfiguration.builder().build())).isEmpty();
+    }
+
+    @Test
+    public void startRequest_enoughSamples_delayIsPercentileOfLatencies() {
+        for (int i = 1; i <= 100; i++) {
+            tracker.recordLatency(OPERATION, Duration.ofMillis(i));
+        }
+
+        Optional<Duration> delay = tracker.startRequest(OPERATION, HedgingConfiguration.builder().delayPercentile(95.0).build());
+
+        assertThat(delay).hasValueSatisfying(d -> assertThat(d).isBetween(Duration.ofMillis(95), Duration.ofMillis(120)));
+    }
+
+    @Test
+    public void startRequest_percentileBelowMinimumDelay_usesMinimumDelay() {
+        recordLatencies(100, Duration.ofMillis(1));
+
+        HedgingConfiguration configuration = HedgingConfiguration.builder().minimumDelay(Duration.ofMillis(50)).build();
+
+        assertThat(tracker.startRequest(OPERATION, configuration)).hasValue(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void startRequest_latenciesOfOtherOperation_noDelay() {
+        recordLatencies(100, Duration.ofMillis(1));
+
+        assertThat(tracker.startRequest("Query", HedgingConfiguration.builder().build())).isEmpty();
+    }
+
+    @Test
+    public void recordLatency_manySamples_delayAdaptsToRecentLatencies() {
+        recordLatencies(1000, Duration.ofMillis(100));
+        recordLatencies(10 * HedgingTracker.DECAY_SAMPLES, Duration.ofMillis(10));
+
+        HedgingConfiguration configuration = HedgingConfiguration.builder().delayPercentile(50.0).build();
+
+        assertThat(tracker.startRequest(OPERATION, configuration))
+            .hasValueSatisfying(d -> assertThat(d).isBetween(Duration.ofMillis(10), Duration.ofMillis(13)));
+    }
+
+    @Test
+    public void tryAcquireHedge_limitedToRatioOfRequests() {
+        HedgingConfiguration configuration = HedgingConfiguration.builder().maxHedgeRatio(0.1).build();
+
+        assertThat(tracker.tryAcquireHedge(OPERATION)).isFalse();
+        for (int i = 0; i < 10; i++) {
+            tracker.startRequest(OPERATION, configuration);
+        }
+        assertThat(tracker.tryAcquireHedge(OPERATION)).isTrue();
+        assertThat(tracker.tryAcquireHedge(OPERATION)).isFalse();
+    }
+
+    @Test
+    public void tryAcquireHedge_budgetIsCapped() {
+        HedgingConfiguration configuration = HedgingConfiguration.builder().maxHedgeRatio(1.0).build();
+        for (int i = 0; i < 1000; i++) {
+            tracker.startRequest(OPERATION, configuration);
+        }
+
+        int acquired = 0;
+        while (tracker.tryAcquireHedge(OPERATION)) {
+            acquired++;
+        }
+        assertThat(acquired).isEqualTo(HedgingTracker.MAX_BUDGET);
+    }
+
+    @Test
+    public void tryAcquireHedge_zeroRatio_neverHedges() {
+        HedgingConfiguration configuration = HedgingConfiguration.builder().maxHedgeRatio(0.0).build();
+        for (int i = 0; i < 1000; i++) {
+            tracker.startRequest(OPERATION, configuration);
+        }
+
+        assertThat(tracker.tryAcquireHedge(OPERATION)).isFalse();
+    }
+
+    private void recordLatencies(int count, Duration latency) {
+        for (int i = 0; i < count; i++) {
+            tracker.recordLatency(OPERATION, latency);
+        }
+    }
+}
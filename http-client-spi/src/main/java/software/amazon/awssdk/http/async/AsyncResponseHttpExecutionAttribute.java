@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.SdkHttpExecutionAttribute;
+
+/**
+ * {@link SdkHttpExecutionAttribute}s that describe how the SDK will consume the response body published to
+ * {@link SdkAsyncHttpResponseHandler#onStream}.
+ *
+ * @param <T> The type of data associated with this attribute.
+ */
+@SdkProtectedApi
+public final class AsyncResponseHttpExecutionAttribute<T> extends SdkHttpExecutionAttribute<T> {
+
+    /**
+     * Set to {@code true} when the subscriber of a successful response body stops accessing a {@link java.nio.ByteBuffer} it
+     * received once it next calls {@code request} or {@code cancel} on its subscription, including the last buffer, for which
+     * it signals after the publisher has completed. HTTP clients may use this to lend pooled buffers to the subscriber and
+     * reclaim them on the next signal instead of copying the data into a new buffer.
+     */
+    public static final AsyncResponseHttpExecutionAttribute<Boolean> RESPONSE_BUFFERS_RELEASED_ON_DEMAND =
+        new AsyncResponseHttpExecutionAttribute<>(Boolean.class);
+
+    private AsyncResponseHttpExecutionAttribute(Class<T> valueClass) {
+        super(valueClass);
+    }
+}
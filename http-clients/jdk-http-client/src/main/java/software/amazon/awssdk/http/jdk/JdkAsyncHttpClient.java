@@ -0,0 +1,422 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.jdk.internal.ConcurrencyLimiter;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.http.jdk.internal.JdkRequestAdapter;
+import software.amazon.awssdk.http.jdk.internal.JdkResponseAdapter;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.EventListeningSubscriber;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the JDK's {@link HttpClient} (Java 11+) to communicate with the
+ * service. It supports HTTP/1.1 and HTTP/2 without any dependency beyond the JDK, which makes it a lightweight alternative
+ * to the Netty and CRT based clients.
+ *
+ * <p>Request and response bodies are bridged between the SDK's Reactive Streams publishers and the JDK's
+ * {@link java.util.concurrent.Flow} publishers without copying the buffers.
+ *
+ * <p>Connections are pooled by the JDK client. Its pool is configured through JVM-wide system properties, e.g.
+ * {@code jdk.httpclient.keepalive.timeout} for the idle timeout and {@code jdk.httpclient.connectionPoolSize}, rather
+ * than per client. The number of concurrent requests is bounded by {@link Builder#maxConcurrency(Integer)}.
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final Logger log = Logger.loggerFor(JdkAsyncHttpClient.class);
+    private static final String CLIENT_NAME = "JdkHttpAsync";
+
+    private final HttpClient httpClient;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Duration readTimeout;
+
+    private JdkAsyncHttpClient(DefaultBuilder builder, AttributeMap options) {
+        this.httpClient = JdkHttpClientFactory.create(options, builder.executor);
+        this.concurrencyLimiter = new ConcurrencyLimiter(options.get(SdkHttpConfigurationOption.MAX_CONNECTIONS),
+                                                         options.get(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES),
+                                                         options.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT));
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkAsyncHttpClient} with the default properties
+     *
+     * @return a {@link JdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+        CompletableFuture<Void> acquireFuture = concurrencyLimiter.acquire(metricCollector);
+
+        // Cancelling the execution before a permit is acquired gives up the place in the queue
+        executeFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                acquireFuture.cancel(false);
+            }
+        });
+
+        acquireFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                failRequest(request.responseHandler(), executeFuture, t);
+                return;
+            }
+            sendRequest(request, executeFuture);
+        });
+
+        return executeFuture;
+    }
+
+    private void sendRequest(AsyncExecuteRequest request, CompletableFuture<Void> executeFuture) {
+        Runnable releasePermit = releaseOnce();
+
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture;
+        try {
+            HttpRequest.BodyPublisher bodyPublisher = JdkRequestAdapter.bodyPublisher(request.request(),
+                                                                                      request.requestContentPublisher());
+            HttpRequest httpRequest = JdkRequestAdapter.adapt(request.request(), bodyPublisher, readTimeout);
+            responseFuture = httpClient.sendAsync(httpRequest, BodyHandlers.ofPublisher());
+        } catch (RuntimeException e) {
+            releasePermit.run();
+            failRequest(request.responseHandler(), executeFuture, e);
+            return;
+        }
+
+        executeFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                responseFuture.cancel(true);
+            }
+        });
+
+        responseFuture.whenComplete((response, t) -> {
+            if (t != null) {
+                releasePermit.run();
+                failRequest(request.responseHandler(), executeFuture, JdkResponseAdapter.unwrap(t));
+                return;
+            }
+
+            try {
+                request.responseHandler().onHeaders(JdkResponseAdapter.adapt(response));
+                request.responseHandler().onStream(responsePublisher(request.responseHandler(), response.body(),
+                                                                     executeFuture, releasePermit));
+            } catch (RuntimeException e) {
+                releasePermit.run();
+                failRequest(request.responseHandler(), executeFuture, e);
+            }
+        });
+    }
+
+    /**
+     * Flattens the lists of buffers the JDK client publishes into a publisher of individual buffers, and completes the
+     * execution once the body has been fully consumed.
+     */
+    private Publisher<ByteBuffer> responsePublisher(SdkAsyncHttpResponseHandler responseHandler,
+                                                    Flow.Publisher<List<ByteBuffer>> body,
+                                                    CompletableFuture<Void> executeFuture,
+                                                    Runnable releasePermit) {
+        Publisher<List<ByteBuffer>> bodyPublisher = FlowAdapters.toPublisher(body);
+        return subscriber -> {
+            EventListeningSubscriber<? super ByteBuffer> listeningSubscriber =
+                new EventListeningSubscriber<>(subscriber,
+                                               () -> {
+                                                   releasePermit.run();
+                                                   executeFuture.complete(null);
+                                               },
+                                               e -> {
+                                                   releasePermit.run();
+                                                   failRequest(responseHandler, executeFuture, e);
+                                               },
+                                               () -> {
+                                                   releasePermit.run();
+                                                   executeFuture.complete(null);
+                                               });
+            bodyPublisher.subscribe(new FlatteningSubscriber<>(listeningSubscriber));
+        };
+    }
+
+    private Runnable releaseOnce() {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.release();
+            }
+        };
+    }
+
+    private static void failRequest(SdkAsyncHttpResponseHandler responseHandler, CompletableFuture<Void> executeFuture,
+                                    Throwable t) {
+        try {
+            responseHandler.onError(t);
+        } catch (RuntimeException e) {
+            log.warn(() -> "Response handler failed to handle an error.", e);
+        } finally {
+            executeFuture.completeExceptionally(t);
+        }
+    }
+
+    @Override
+    public void close() {
+        // HttpClient implements AutoCloseable from Java 21, before that its resources are released once it is unreachable.
+        if (httpClient instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) httpClient).close();
+            } catch (Exception e) {
+                log.warn(() -> "Unable to close the JDK HTTP client.", e);
+            }
+        }
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    /**
+     * Builder that allows configuration of the JDK HTTP implementation. Use {@link #builder()} to configure and construct
+     * a JDK HTTP client.
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JdkAsyncHttpClient.Builder> {
+
+        /**
+         * Maximum number of allowed concurrent requests. For HTTP/1.1 this is the same as max connections. For HTTP/2
+         * requests are multiplexed over a connection, so the JDK client may use fewer connections than this.
+         *
+         * <p>If the maximum number of concurrent requests is exceeded they are queued in the HTTP client (see
+         * {@link #maxPendingConnectionAcquires(Integer)}) and can cause increased latencies. If the pending queue fills up,
+         * subsequent requests are rejected, and queued requests time out after
+         * {@link #connectionAcquisitionTimeout(Duration)}.</p>
+         *
+         * @param maxConcurrency New value for max concurrency.
+         * @return This builder for method chaining.
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
+        /**
+         * The maximum number of pending requests allowed to wait for one of the {@link #maxConcurrency(Integer)} permits.
+         *
+         * @param maxPendingAcquires New value for max pending acquires.
+         * @return This builder for method chaining.
+         */
+        Builder maxPendingConnectionAcquires(Integer maxPendingAcquires);
+
+        /**
+         * The amount of time to wait for the response headers after the request has been sent before the request is timed
+         * out. A duration of 0 means infinity, and is not recommended.
+         *
+         * @param readTimeout Timeout duration.
+         * @return This builder for method chaining.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration
+         * of 0 means infinity, and is not recommended.
+         *
+         * @param connectionTimeout Timeout duration.
+         * @return This builder for method chaining.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait for a request to be allowed to execute when {@link #maxConcurrency(Integer)} has been
+         * reached, before giving up and timing out.
+         *
+         * @param connectionAcquisitionTimeout Timeout duration.
+         * @return This builder for method chaining.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2. When HTTP/2 is
+         * selected, the JDK client negotiates it with ALPN over TLS and falls back to HTTP/1.1 if the server does not
+         * support it.
+         *
+         * @param protocol Protocol to use.
+         * @return This builder for method chaining.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * The executor the JDK client uses for its asynchronous tasks, such as delivering response data. It is not shut
+         * down when the HTTP client is closed. On runtimes with virtual threads, a virtual-thread-per-task executor avoids
+         * dedicating platform threads to the client. When not set, the JDK client creates its own cached thread pool.
+         *
+         * @param executor The executor.
+         * @return This builder for method chaining.
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConcurrency);
+            return this;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        @Override
+        public Builder maxPendingConnectionAcquires(Integer maxPendingAcquires) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES, maxPendingAcquires);
+            return this;
+        }
+
+        public void setMaxPendingConnectionAcquires(Integer maxPendingAcquires) {
+            maxPendingConnectionAcquires(maxPendingAcquires);
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            Validate.isNotNegative(readTimeout, "readTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            Validate.isNotNegative(connectionTimeout, "connectionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            Validate.isNotNegative(connectionAcquisitionTimeout, "connectionAcquisitionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkAsyncHttpClient(this, standardOptions.build()
+                                                               .merge(serviceDefaults)
+                                                               .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
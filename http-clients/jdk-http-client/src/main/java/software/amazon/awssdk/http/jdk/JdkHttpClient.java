@@ -0,0 +1,399 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.jdk.internal.ConcurrencyLimiter;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.http.jdk.internal.JdkRequestAdapter;
+import software.amazon.awssdk.http.jdk.internal.JdkResponseAdapter;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the JDK's {@link HttpClient} (Java 11+) to communicate with the
+ * service. Unlike the {@link java.net.HttpURLConnection} based client it supports HTTP/2 and parks the calling thread
+ * without pinning it, which makes it a good fit for applications running on virtual threads.
+ *
+ * <p>Connections are pooled by the JDK client. Its pool is configured through JVM-wide system properties, e.g.
+ * {@code jdk.httpclient.keepalive.timeout} for the idle timeout and {@code jdk.httpclient.connectionPoolSize}, rather
+ * than per client. The number of concurrent requests is bounded by {@link Builder#maxConnections(Integer)}.
+ *
+ * <p>See software.amazon.awssdk.http.apache.ApacheHttpClient for an alternative implementation.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkHttpClient implements SdkHttpClient {
+    private static final Logger log = Logger.loggerFor(JdkHttpClient.class);
+    private static final String CLIENT_NAME = "JdkHttp";
+
+    private final HttpClient httpClient;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Duration readTimeout;
+
+    private JdkHttpClient(DefaultBuilder builder, AttributeMap options) {
+        this.httpClient = JdkHttpClientFactory.create(options, builder.executor);
+        this.concurrencyLimiter = new ConcurrencyLimiter(options.get(SdkHttpConfigurationOption.MAX_CONNECTIONS),
+                                                         options.get(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES),
+                                                         options.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT));
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkHttpClient} with the default properties
+     *
+     * @return a {@link JdkHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        return new JdkExecutableRequest(request);
+    }
+
+    @Override
+    public void close() {
+        // HttpClient implements AutoCloseable from Java 21, before that its resources are released once it is unreachable.
+        if (httpClient instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) httpClient).close();
+            } catch (Exception e) {
+                log.warn(() -> "Unable to close the JDK HTTP client.", e);
+            }
+        }
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private final class JdkExecutableRequest implements ExecutableHttpRequest {
+        private final HttpExecuteRequest request;
+        private volatile CompletableFuture<?> pendingFuture;
+        private volatile boolean aborted;
+
+        private JdkExecutableRequest(HttpExecuteRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+            metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+
+            await(concurrencyLimiter.acquire(metricCollector));
+            Runnable releasePermit = releaseOnce();
+
+            try {
+                HttpRequest.BodyPublisher bodyPublisher =
+                    JdkRequestAdapter.bodyPublisher(request.httpRequest(), request.contentStreamProvider().orElse(null));
+                HttpRequest httpRequest = JdkRequestAdapter.adapt(request.httpRequest(), bodyPublisher, readTimeout);
+                HttpResponse<InputStream> response = await(httpClient.sendAsync(httpRequest, BodyHandlers.ofInputStream()));
+
+                return HttpExecuteResponse.builder()
+                                          .response(JdkResponseAdapter.adapt(response))
+                                          .responseBody(responseBody(response, releasePermit))
+                                          .build();
+            } catch (IOException | RuntimeException | Error e) {
+                releasePermit.run();
+                throw e;
+            }
+        }
+
+        private AbortableInputStream responseBody(HttpResponse<InputStream> response, Runnable releasePermit) {
+            if (JdkResponseAdapter.hasNoContent(request.httpRequest().method(), response.statusCode())) {
+                IoUtils.closeQuietly(response.body(), log.logger());
+                releasePermit.run();
+                return null;
+            }
+
+            InputStream body = new PermitReleasingInputStream(response.body(), releasePermit);
+            return AbortableInputStream.create(body, () -> IoUtils.closeQuietly(body, log.logger()));
+        }
+
+        /**
+         * Wait for the future on the calling thread, so that a concurrent {@link #abort()} can cancel it.
+         */
+        private <T> T await(CompletableFuture<T> future) throws IOException {
+            pendingFuture = future;
+            if (aborted) {
+                future.cancel(true);
+            }
+
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                InterruptedIOException interrupted = new InterruptedIOException("Request was interrupted.");
+                interrupted.initCause(e);
+                throw interrupted;
+            } catch (ExecutionException | CancellationException e) {
+                Throwable cause = JdkResponseAdapter.unwrap(e);
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            } finally {
+                pendingFuture = null;
+            }
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+            CompletableFuture<?> future = pendingFuture;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private Runnable releaseOnce() {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.release();
+            }
+        };
+    }
+
+    /**
+     * Returns the concurrency permit once the response body is closed, which also returns the connection to the JDK pool.
+     */
+    private static final class PermitReleasingInputStream extends FilterInputStream {
+        private final Runnable releasePermit;
+
+        private PermitReleasingInputStream(InputStream in, Runnable releasePermit) {
+            super(in);
+            this.releasePermit = releasePermit;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                releasePermit.run();
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the JDK's {@link HttpClient}. A builder can be created
+     * via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = JdkHttpClient.builder()
+     * .socketTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkHttpClient.Builder<JdkHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for the response headers after the request has been sent before the request is timed
+         * out. A duration of 0 means infinity, and is not recommended.
+         */
+        Builder socketTimeout(Duration socketTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration
+         * of 0 means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The maximum number of requests allowed to execute concurrently. For HTTP/1.1 this is the same as the maximum
+         * number of connections. For HTTP/2 requests are multiplexed over a connection, so the JDK client may use fewer
+         * connections than this.
+         */
+        Builder maxConnections(Integer maxConnections);
+
+        /**
+         * The amount of time to wait for a request to be allowed to execute when {@link #maxConnections(Integer)} has been
+         * reached, before giving up and timing out.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2. When HTTP/2 is
+         * selected, the JDK client negotiates it with ALPN over TLS and falls back to HTTP/1.1 if the server does not
+         * support it.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * The executor the JDK client uses for its asynchronous tasks. It is not shut down when the HTTP client is closed.
+         * When not set, the JDK client creates its own cached thread pool.
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder socketTimeout(Duration socketTimeout) {
+            Validate.isNotNegative(socketTimeout, "socketTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, socketTimeout);
+            return this;
+        }
+
+        public void setSocketTimeout(Duration socketTimeout) {
+            socketTimeout(socketTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            Validate.isNotNegative(connectionTimeout, "connectionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder maxConnections(Integer maxConnections) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConnections);
+            return this;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            maxConnections(maxConnections);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            Validate.isNotNegative(connectionAcquisitionTimeout, "connectionAcquisitionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkHttpClient(this, standardOptions.build()
+                                                          .merge(serviceDefaults)
+                                                          .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
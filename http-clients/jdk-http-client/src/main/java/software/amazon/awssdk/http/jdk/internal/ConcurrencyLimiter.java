@@ -0,0 +1,164 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static software.amazon.awssdk.http.HttpMetric.AVAILABLE_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.PENDING_CONCURRENCY_ACQUIRES;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Bounds the number of requests a JDK HTTP client has in flight. The JDK client pools connections internally without a
+ * configurable limit, so this takes the place of the connection pool's maximum size: requests beyond the limit wait, in
+ * order, for a permit to be released, and fail once the acquisition timeout elapses or the pending queue is full.
+ *
+ * <p>Permits are handed directly from a releasing request to the next waiter, so a waiter can never be starved by a new
+ * request acquiring a permit ahead of it.
+ */
+@SdkInternalApi
+public final class ConcurrencyLimiter {
+    private final int maxConcurrency;
+    private final int maxPendingAcquires;
+    private final Duration acquireTimeout;
+    private final Queue<CompletableFuture<Void>> pendingAcquires = new ArrayDeque<>();
+    private int leased;
+
+    public ConcurrencyLimiter(int maxConcurrency, int maxPendingAcquires, Duration acquireTimeout) {
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+        this.maxPendingAcquires = Validate.isPositive(maxPendingAcquires, "maxPendingAcquires");
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Acquire a permit, reporting the concurrency metrics to the provided collector. The returned future completes when
+     * the permit is granted, after which the caller must call {@link #release()} exactly once. Cancelling the returned
+     * future before that gives up the place in the queue.
+     */
+    public CompletableFuture<Void> acquire(MetricCollector metricCollector) {
+        long start = System.nanoTime();
+        CompletableFuture<Void> acquire = acquire();
+        if (!(metricCollector instanceof NoOpMetricCollector)) {
+            acquire.thenRun(() -> {
+                metricCollector.reportMetric(CONCURRENCY_ACQUIRE_DURATION, Duration.ofNanos(System.nanoTime() - start));
+                reportMetrics(metricCollector);
+            });
+        }
+        return acquire;
+    }
+
+    private CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> waiter;
+        synchronized (this) {
+            if (leased < maxConcurrency) {
+                leased++;
+                return CompletableFuture.completedFuture(null);
+            }
+
+            if (pendingAcquires.size() >= maxPendingAcquires) {
+                return CompletableFutureUtils.failedFuture(
+                    new IOException("Too many pending requests. The number of requests waiting for one of the "
+                                    + maxConcurrency + " available permits exceeded " + maxPendingAcquires + ". Consider "
+                                    + "increasing the max concurrency or reducing the request rate."));
+            }
+
+            waiter = new CompletableFuture<>();
+            pendingAcquires.add(waiter);
+        }
+
+        if (JdkHttpClientFactory.isPositive(acquireTimeout)) {
+            waiter.orTimeout(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        waiter.whenComplete((r, t) -> {
+            if (t == null) {
+                // The permit was handed over by release(), but the caller may have given up in the meantime.
+                if (!result.complete(null)) {
+                    release();
+                }
+                return;
+            }
+
+            synchronized (this) {
+                pendingAcquires.remove(waiter);
+            }
+            result.completeExceptionally(t instanceof TimeoutException ? acquireTimeoutException(t) : t);
+        });
+        result.whenComplete((r, t) -> {
+            if (t != null) {
+                waiter.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private IOException acquireTimeoutException(Throwable cause) {
+        return new IOException("Acquire operation took longer than the configured maximum time. This indicates that a "
+                               + "request cannot get a permit because the max concurrency (" + maxConcurrency + ") has "
+                               + "been reached. Consider increasing the max concurrency or the connection acquisition "
+                               + "timeout.", cause);
+    }
+
+    /**
+     * Release a permit, handing it to the oldest pending acquire if there is one.
+     */
+    public void release() {
+        while (true) {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = pendingAcquires.poll();
+                if (next == null) {
+                    leased--;
+                    return;
+                }
+            }
+
+            // The permit stays leased and moves to the waiter, unless the waiter has timed out or been cancelled in the
+            // meantime, in which case we try the next one.
+            if (next.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    private void reportMetrics(MetricCollector metricCollector) {
+        int currentLeased;
+        int pending;
+        synchronized (this) {
+            currentLeased = leased;
+            pending = pendingAcquires.size();
+        }
+
+        metricCollector.reportMetric(MAX_CONCURRENCY, maxConcurrency);
+        metricCollector.reportMetric(LEASED_CONCURRENCY, currentLeased);
+        metricCollector.reportMetric(AVAILABLE_CONCURRENCY, Math.max(maxConcurrency - currentLeased, 0));
+        metricCollector.reportMetric(PENDING_CONCURRENCY_ACQUIRES, pending);
+    }
+}
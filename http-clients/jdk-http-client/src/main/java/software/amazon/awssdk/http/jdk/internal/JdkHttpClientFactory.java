@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Creates the {@link HttpClient} shared by the sync and async JDK HTTP client implementations from the resolved
+ * {@link SdkHttpConfigurationOption}s.
+ */
+@SdkInternalApi
+public final class JdkHttpClientFactory {
+    private static final Logger log = Logger.loggerFor(JdkHttpClientFactory.class);
+
+    private JdkHttpClientFactory() {
+    }
+
+    public static HttpClient create(AttributeMap options, Executor executor) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                                               .version(version(options.get(SdkHttpConfigurationOption.PROTOCOL)))
+                                               .followRedirects(HttpClient.Redirect.NEVER)
+                                               .sslContext(sslContext(options));
+
+        Duration connectionTimeout = options.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT);
+        if (isPositive(connectionTimeout)) {
+            builder.connectTimeout(connectionTimeout);
+        }
+
+        if (executor != null) {
+            builder.executor(executor);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * The JDK client treats a zero or negative duration as invalid, where the SDK options use zero to mean "no timeout".
+     */
+    public static boolean isPositive(Duration duration) {
+        return duration != null && !duration.isZero() && !duration.isNegative();
+    }
+
+    private static HttpClient.Version version(Protocol protocol) {
+        return protocol == Protocol.HTTP2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+    }
+
+    private static SSLContext sslContext(AttributeMap options) {
+        boolean trustAllCertificates = Boolean.TRUE.equals(options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES));
+        TlsTrustManagersProvider trustManagersProvider = options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER);
+
+        Validate.isTrue(trustManagersProvider == null || !trustAllCertificates,
+                        "A TlsTrustManagerProvider can't be provided if TrustAllCertificates is also set");
+
+        TrustManager[] trustManagers = null;
+        if (trustManagersProvider != null) {
+            trustManagers = trustManagersProvider.trustManagers();
+        }
+
+        if (trustAllCertificates) {
+            log.warn(() -> "SSL Certificate verification is disabled. This is not a safe setting and should only be "
+                           + "used for testing.");
+            trustManagers = new TrustManager[] { TrustAllManager.INSTANCE };
+        }
+
+        TlsKeyManagersProvider keyManagersProvider = options.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
+        KeyManager[] keyManagers = keyManagersProvider == null ? null : keyManagersProvider.keyManagers();
+
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagers, trustManagers, null);
+            return context;
+        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+            throw new RuntimeException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Insecure trust manager to trust all certs. Should only be used for testing. This extends
+     * {@link X509ExtendedTrustManager} so that JSSE does not wrap it with endpoint identification, which the JDK HTTP client
+     * would otherwise enforce regardless of the trusted certificates.
+     */
+    private static final class TrustAllManager extends X509ExtendedTrustManager {
+
+        private static final TrustAllManager INSTANCE = new TrustAllManager();
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            log.debug(() -> "Accepting a client certificate: " + chain[0].getSubjectX500Principal());
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            log.debug(() -> "Accepting a server certificate: " + chain[0].getSubjectX500Principal());
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+            checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+            checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+            checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+            checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
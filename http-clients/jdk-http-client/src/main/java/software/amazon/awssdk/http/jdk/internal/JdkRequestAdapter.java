@@ -0,0 +1,164 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.reactivestreams.FlowAdapters;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Adapts an {@link SdkHttpRequest} to a {@link HttpRequest}.
+ */
+@SdkInternalApi
+public final class JdkRequestAdapter {
+    private static final Logger log = Logger.loggerFor(JdkRequestAdapter.class);
+
+    /**
+     * Headers the JDK client computes itself and rejects when set on a request. {@code Expect} is translated to
+     * {@link HttpRequest.Builder#expectContinue(boolean)} and the content length is passed to the body publisher.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "date", "expect", "from",
+                                                                 "host", "transfer-encoding", "upgrade", "via", "warning");
+
+    /**
+     * Restricted headers the JDK client never sends, unlike {@code Host} or {@code Content-Length} which it recomputes with the
+     * same value. A request that signed one of them would be rejected by the service with a signature mismatch.
+     */
+    private static final Set<String> DROPPED_HEADERS = Set.of("date", "from", "via", "warning");
+
+    private static final String SIGNED_HEADERS = "SignedHeaders=";
+    private static final String SIGNED_HEADERS_QUERY_PARAMETER = "X-Amz-SignedHeaders";
+
+    private JdkRequestAdapter() {
+    }
+
+    public static HttpRequest adapt(SdkHttpRequest request, BodyPublisher bodyPublisher, Duration readTimeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                                                 .method(request.method().name(), bodyPublisher)
+                                                 .expectContinue(isExpect100Continue(request));
+
+        if (JdkHttpClientFactory.isPositive(readTimeout)) {
+            builder.timeout(readTimeout);
+        }
+
+        request.forEachHeader((name, values) -> {
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            if (!RESTRICTED_HEADERS.contains(lowerCaseName)) {
+                values.forEach(value -> builder.header(name, value));
+            } else if (DROPPED_HEADERS.contains(lowerCaseName)) {
+                dropHeader(request, lowerCaseName);
+            }
+        });
+
+        return builder.build();
+    }
+
+    private static void dropHeader(SdkHttpRequest request, String name) {
+        if (signedHeaders(request).contains(name)) {
+            throw new IllegalStateException("The " + name + " header is signed, but the JDK HTTP client does not allow it to be "
+                                            + "sent. Remove it from the request before signing, or use another HTTP client.");
+        }
+        log.debug(() -> "Not sending the " + name + " header, because the JDK HTTP client does not allow it to be sent.");
+    }
+
+    /**
+     * The lower-case names of the headers covered by the SigV4 signature of the request, read from either the
+     * {@code Authorization} header or the {@code X-Amz-SignedHeaders} query parameter of a presigned request.
+     */
+    private static Set<String> signedHeaders(SdkHttpRequest request) {
+        Optional<String> signedHeaders =
+            request.firstMatchingHeader("Authorization")
+                   .map(authorization -> {
+                       int start = authorization.indexOf(SIGNED_HEADERS);
+                       if (start < 0) {
+                           return null;
+                       }
+                       start += SIGNED_HEADERS.length();
+                       int end = authorization.indexOf(',', start);
+                       return authorization.substring(start, end < 0 ? authorization.length() : end).trim();
+                   });
+        if (!signedHeaders.isPresent()) {
+            signedHeaders = request.firstMatchingRawQueryParameter(SIGNED_HEADERS_QUERY_PARAMETER);
+        }
+
+        return signedHeaders.map(headers -> Arrays.stream(headers.split(";"))
+                                                  .map(header -> header.toLowerCase(Locale.ROOT))
+                                                  .collect(Collectors.toSet()))
+                            .orElseGet(Set::of);
+    }
+
+    /**
+     * Creates a body publisher that reads the request content from the provided stream.
+     */
+    public static BodyPublisher bodyPublisher(SdkHttpRequest request, ContentStreamProvider contentStreamProvider) {
+        if (contentStreamProvider == null) {
+            return BodyPublishers.noBody();
+        }
+
+        BodyPublisher publisher = BodyPublishers.ofInputStream(contentStreamProvider::newStream);
+        return withContentLength(publisher, contentLength(request));
+    }
+
+    /**
+     * Creates a body publisher that hands the buffers emitted by the content publisher directly to the JDK client, without
+     * copying them.
+     */
+    public static BodyPublisher bodyPublisher(SdkHttpRequest request, SdkHttpContentPublisher contentPublisher) {
+        if (contentPublisher == null) {
+            return BodyPublishers.noBody();
+        }
+
+        Optional<Long> contentLength = contentLength(request);
+        if (!contentLength.isPresent()) {
+            contentLength = contentPublisher.contentLength();
+        }
+
+        return withContentLength(BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(contentPublisher)), contentLength);
+    }
+
+    private static BodyPublisher withContentLength(BodyPublisher publisher, Optional<Long> contentLength) {
+        if (!contentLength.isPresent()) {
+            return publisher;
+        }
+
+        long length = contentLength.get();
+        return length == 0 ? BodyPublishers.noBody() : BodyPublishers.fromPublisher(publisher, length);
+    }
+
+    private static Optional<Long> contentLength(SdkHttpRequest request) {
+        return request.firstMatchingHeader(CONTENT_LENGTH).map(Long::parseLong);
+    }
+
+    private static boolean isExpect100Continue(SdkHttpRequest request) {
+        return request.firstMatchingHeader("Expect")
+                      .map(expect -> expect.equalsIgnoreCase("100-continue"))
+                      .orElse(false);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Adapts a {@link HttpResponse} to a {@link SdkHttpResponse}.
+ */
+@SdkInternalApi
+public final class JdkResponseAdapter {
+
+    private JdkResponseAdapter() {
+    }
+
+    public static SdkHttpResponse adapt(HttpResponse<?> response) {
+        SdkHttpResponse.Builder builder = SdkHttpResponse.builder().statusCode(response.statusCode());
+        response.headers().map().forEach((name, values) -> {
+            // HTTP/2 pseudo-headers, such as :status, are not response headers
+            if (!name.startsWith(":")) {
+                builder.putHeader(name, values);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Whether a response to the given request can never carry a payload, regardless of what its headers say.
+     */
+    public static boolean hasNoContent(SdkHttpMethod method, int statusCode) {
+        return method == SdkHttpMethod.HEAD
+               || statusCode == 204
+               || statusCode == 304
+               || (statusCode >= 100 && statusCode < 200);
+    }
+
+    /**
+     * Unwrap the exception the JDK client completed a response future with, and translate cancellation into an
+     * {@link IOException} so that an aborted request surfaces like any other I/O failure.
+     */
+    public static Throwable unwrap(Throwable t) {
+        Throwable cause = t;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof CancellationException) {
+            return new IOException("Request was aborted.", cause);
+        }
+        return cause;
+    }
+}
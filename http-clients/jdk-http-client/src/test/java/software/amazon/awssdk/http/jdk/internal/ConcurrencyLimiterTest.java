@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+
+public class ConcurrencyLimiterTest {
+    private static final MetricCollector NO_OP = NoOpMetricCollector.create();
+
+    @Test
+    public void acquire_belowLimit_completesImmediately() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 10, Duration.ofSeconds(10));
+
+        assertThat(limiter.acquire(NO_OP)).isCompleted();
+        assertThat(limiter.acquire(NO_OP)).isCompleted();
+        assertThat(limiter.acquire(NO_OP)).isNotDone();
+    }
+
+    @Test
+    public void release_handsPermitToOldestWaiter() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ofSeconds(10));
+        limiter.acquire(NO_OP).join();
+
+        CompletableFuture<Void> first = limiter.acquire(NO_OP);
+        CompletableFuture<Void> second = limiter.acquire(NO_OP);
+
+        limiter.release();
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+
+        limiter.release();
+        assertThat(second).isCompleted();
+
+        limiter.release();
+        assertThat(limiter.acquire(NO_OP)).isCompleted();
+    }
+
+    @Test
+    public void release_skipsCancelledWaiters() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ofSeconds(10));
+        limiter.acquire(NO_OP).join();
+
+        CompletableFuture<Void> cancelled = limiter.acquire(NO_OP);
+        CompletableFuture<Void> waiting = limiter.acquire(NO_OP);
+        cancelled.cancel(false);
+
+        limiter.release();
+        assertThat(waiting).isCompleted();
+    }
+
+    @Test
+    public void acquire_pendingQueueFull_fails() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, Duration.ofSeconds(10));
+        limiter.acquire(NO_OP).join();
+        limiter.acquire(NO_OP);
+
+        assertThatThrownBy(() -> limiter.acquire(NO_OP).join()).hasCauseInstanceOf(IOException.class)
+                                                               .hasMessageContaining("Too many pending requests");
+    }
+
+    @Test
+    public void acquire_timesOut_failsAndDoesNotLeakPermit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ofMillis(10));
+        limiter.acquire(NO_OP).join();
+
+        assertThatThrownBy(() -> limiter.acquire(NO_OP).join()).isInstanceOf(CompletionException.class)
+                                                               .hasCauseInstanceOf(IOException.class)
+                                                               .hasMessageContaining("Acquire operation took longer");
+
+        limiter.release();
+        assertThat(limiter.acquire(NO_OP)).isCompleted();
+    }
+
+    @Test
+    public void acquire_reportsConcurrencyMetrics() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(3, 10, Duration.ofSeconds(10));
+        limiter.acquire(NO_OP).join();
+
+        MetricCollector collector = MetricCollector.create("test");
+        limiter.acquire(collector).join();
+        MetricCollection metrics = collector.collect();
+
+        assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(3);
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(2);
+        assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(1);
+        assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)).hasSize(1);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+public class JdkRequestAdapterTest {
+    private static final String AUTHORIZATION = "AWS4-HMAC-SHA256 Credential=akid/20240101/us-east-1/s3/aws4_request, "
+                                                + "SignedHeaders=%s, Signature=abcdef";
+
+    @Test
+    public void adapt_restrictedHeaders_areNotSent() {
+        SdkHttpRequest request = request().putHeader("Date", "Mon, 01 Jan 2024 00:00:00 GMT")
+                                          .putHeader("Connection", "close")
+                                          .putHeader("x-amz-date", "20240101T000000Z")
+                                          .putHeader("Authorization", String.format(AUTHORIZATION, "host;x-amz-date"))
+                                          .build();
+
+        HttpRequest adapted = adapt(request);
+
+        assertThat(adapted.headers().firstValue("x-amz-date")).hasValue("20240101T000000Z");
+        assertThat(adapted.headers().firstValue("Date")).isEmpty();
+        assertThat(adapted.headers().firstValue("Connection")).isEmpty();
+    }
+
+    @Test
+    public void adapt_signedDroppedHeader_throws() {
+        SdkHttpRequest request = request().putHeader("Date", "Mon, 01 Jan 2024 00:00:00 GMT")
+                                          .putHeader("Authorization", String.format(AUTHORIZATION, "date;host"))
+                                          .build();
+
+        assertThatThrownBy(() -> adapt(request)).isInstanceOf(IllegalStateException.class)
+                                                .hasMessageContaining("date header is signed");
+    }
+
+    @Test
+    public void adapt_presignedDroppedHeader_throws() {
+        SdkHttpRequest request = request().putHeader("Via", "proxy")
+                                          .putRawQueryParameter("X-Amz-SignedHeaders", "host;via")
+                                          .build();
+
+        assertThatThrownBy(() -> adapt(request)).isInstanceOf(IllegalStateException.class)
+                                                .hasMessageContaining("via header is signed");
+    }
+
+    @Test
+    public void adapt_signedRecomputedHeader_isAllowed() {
+        SdkHttpRequest request = request().putHeader("Host", "bucket.s3.amazonaws.com")
+                                          .putHeader("Authorization", String.format(AUTHORIZATION, "host"))
+                                          .build();
+
+        assertThat(adapt(request).headers().firstValue("Authorization")).isPresent();
+    }
+
+    private static SdkHttpRequest.Builder request() {
+        return SdkHttpRequest.builder()
+                             .uri(URI.create("https://bucket.s3.amazonaws.com/key"))
+                             .method(SdkHttpMethod.GET);
+    }
+
+    private static HttpRequest adapt(SdkHttpRequest request) {
+        return JdkRequestAdapter.adapt(request, BodyPublishers.noBody(), Duration.ZERO);
+    }
+}
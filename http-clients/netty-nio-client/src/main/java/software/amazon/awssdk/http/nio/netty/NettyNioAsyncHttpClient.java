@@ -53,6 +53,7 @@ import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestMetrics;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.RequestContext;
+import software.amazon.awssdk.http.nio.netty.internal.ResponseBufferHandoffTracker;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelOptions;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
@@ -88,6 +89,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final SdkChannelPoolMap<URI, ? extends SdkChannelPool> pools;
     private final NettyConfiguration configuration;
     private final ProtocolNegotiation protocolNegotiation;
+    private final ResponseBufferHandoffTracker responseBufferHandoffTracker;
     private boolean isAlpnUserConfigured;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
@@ -97,6 +99,9 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         this.protocolNegotiation = resolveProtocolNegotiation(builder.protocolNegotiation, serviceDefaultsMap,
                                                               protocol, sslProvider);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
+        this.responseBufferHandoffTracker = builder.responseBufferHandoffLimitInBytes == null
+                                            ? null
+                                            : new ResponseBufferHandoffTracker(builder.responseBufferHandoffLimitInBytes);
 
         Http2Configuration http2Configuration = builder.http2Configuration;
 
@@ -127,6 +132,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         this.pools = pools;
         this.configuration = configuration;
         this.protocolNegotiation = protocolNegotiation;
+        this.responseBufferHandoffTracker = null;
     }
 
     @Override
@@ -161,7 +167,8 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
 
     private RequestContext createRequestContext(AsyncExecuteRequest request) {
         SdkChannelPool pool = pools.get(poolKey(request.request()));
-        return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration);
+        return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration,
+                                  responseBufferHandoffTracker);
     }
 
     private SdkEventLoopGroup eventLoopGroup(DefaultBuilder builder) {
@@ -558,6 +565,20 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure the client to hand its pooled direct response buffers to response consumers that can release them
+         * explicitly, such as {@code AsyncResponseTransformer.toFile}, instead of copying each chunk of the response body into
+         * a new heap buffer. Disabled by default.
+         * <p>
+         * The value limits the number of bytes that may be lent out across all requests made with this client at any one
+         * time. When the limit is reached, response content is copied as usual until some of it is returned. Other response
+         * consumers are not affected by this setting.
+         *
+         * @param responseBufferHandoffLimitInBytes The maximum number of response bytes lent out at any one time.
+         * @return the builder for method chaining.
+         */
+        Builder responseBufferHandoffLimitInBytes(Long responseBufferHandoffLimitInBytes);
     }
 
     /**
@@ -577,6 +598,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private ProxyConfiguration proxyConfiguration = ProxyConfiguration.builder().build();
         private Boolean useNonBlockingDnsResolver;
         private ProtocolNegotiation protocolNegotiation;
+        private Long responseBufferHandoffLimitInBytes;
 
         private DefaultBuilder() {
         }
@@ -817,6 +839,17 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder responseBufferHandoffLimitInBytes(Long responseBufferHandoffLimitInBytes) {
+            this.responseBufferHandoffLimitInBytes = Validate.isPositiveOrNull(responseBufferHandoffLimitInBytes,
+                                                                               "responseBufferHandoffLimitInBytes");
+            return this;
+        }
+
+        public void setResponseBufferHandoffLimitInBytes(Long responseBufferHandoffLimitInBytes) {
+            responseBufferHandoffLimitInBytes(responseBufferHandoffLimitInBytes);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.async.AsyncResponseHttpExecutionAttribute.RESPONSE_BUFFERS_RELEASED_ON_DEMAND;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_STATUS_CODE;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpContent;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpStatusFamily;
+import software.amazon.awssdk.http.SdkHttpExecutionAttributes;
+
+/**
+ * The response content of a single response that has been lent to the subscriber without copying. Content is released
+ * back to Netty's allocator the next time the subscriber signals demand or cancels, which the subscriber has agreed to
+ * via {@code RESPONSE_BUFFERS_RELEASED_ON_DEMAND}.
+ */
+@SdkInternalApi
+final class LentResponseBuffers {
+    private final ResponseBufferHandoffTracker tracker;
+    private final Queue<HttpContent> lent = new ConcurrentLinkedQueue<>();
+
+    private LentResponseBuffers(ResponseBufferHandoffTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    /**
+     * Create the lent buffers for the response currently being read on the channel, or return null if the response content
+     * must be copied. Only successful responses are lent, because error responses are consumed by the error response
+     * handler rather than the subscriber that opted in.
+     */
+    static LentResponseBuffers forResponse(RequestContext requestContext, ChannelHandlerContext channelContext) {
+        ResponseBufferHandoffTracker tracker = requestContext.responseBufferHandoffTracker();
+        if (tracker == null) {
+            return null;
+        }
+
+        SdkHttpExecutionAttributes attributes = requestContext.executeRequest().httpExecutionAttributes();
+        if (attributes == null || !Boolean.TRUE.equals(attributes.getAttribute(RESPONSE_BUFFERS_RELEASED_ON_DEMAND))) {
+            return null;
+        }
+
+        Integer statusCode = channelContext.channel().attr(RESPONSE_STATUS_CODE).get();
+        if (statusCode == null || HttpStatusFamily.of(statusCode) != HttpStatusFamily.SUCCESSFUL) {
+            return null;
+        }
+
+        return new LentResponseBuffers(tracker);
+    }
+
+    /**
+     * Return a view of the given content's memory if it can be lent, or null if it has to be copied. Content can be lent
+     * if it's backed by a single direct buffer and lending it stays within the client's limit.
+     */
+    ByteBuffer tryLend(HttpContent httpContent) {
+        ByteBuf content = httpContent.content();
+        int readableBytes = content.readableBytes();
+        if (readableBytes == 0 || !content.isDirect() || content.nioBufferCount() != 1) {
+            return null;
+        }
+
+        if (!tracker.tryReserve(readableBytes)) {
+            return null;
+        }
+
+        return content.nioBuffer();
+    }
+
+    /**
+     * Record that the content returned by {@link #tryLend(HttpContent)} has been delivered and must be released on the
+     * next demand signal.
+     */
+    void lent(HttpContent httpContent) {
+        lent.add(httpContent);
+    }
+
+    /**
+     * Release all content delivered before this call.
+     */
+    void releaseAll() {
+        HttpContent httpContent;
+        while ((httpContent = lent.poll()) != null) {
+            tracker.release(httpContent.content().readableBytes());
+            httpContent.release();
+        }
+    }
+}
@@ -29,6 +29,7 @@ public final class RequestContext {
     private final EventLoopGroup eventLoopGroup;
     private final AsyncExecuteRequest executeRequest;
     private final NettyConfiguration configuration;
+    private final ResponseBufferHandoffTracker responseBufferHandoffTracker;
 
     private final MetricCollector metricCollector;
 
@@ -36,10 +37,19 @@ public final class RequestContext {
                           EventLoopGroup eventLoopGroup,
                           AsyncExecuteRequest executeRequest,
                           NettyConfiguration configuration) {
+        this(channelPool, eventLoopGroup, executeRequest, configuration, null);
+    }
+
+    public RequestContext(SdkChannelPool channelPool,
+                          EventLoopGroup eventLoopGroup,
+                          AsyncExecuteRequest executeRequest,
+                          NettyConfiguration configuration,
+                          ResponseBufferHandoffTracker responseBufferHandoffTracker) {
         this.channelPool = channelPool;
         this.eventLoopGroup = eventLoopGroup;
         this.executeRequest = executeRequest;
         this.configuration = configuration;
+        this.responseBufferHandoffTracker = responseBufferHandoffTracker;
         this.metricCollector = executeRequest.metricCollector().orElseGet(NoOpMetricCollector::create);
     }
 
@@ -69,6 +79,13 @@ public final class RequestContext {
         return configuration;
     }
 
+    /**
+     * The tracker for response buffers lent to subscribers, or null if the client does not lend response buffers.
+     */
+    public ResponseBufferHandoffTracker responseBufferHandoffTracker() {
+        return responseBufferHandoffTracker;
+    }
+
     public MetricCollector metricCollector() {
         return metricCollector;
     }
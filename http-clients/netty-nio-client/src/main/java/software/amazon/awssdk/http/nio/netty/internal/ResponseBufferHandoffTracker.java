@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Accounts for the pooled response buffers that a client has lent to response subscribers and not yet reclaimed. Once
+ * the limit is reached, further response content is copied as usual until some of the lent memory is returned.
+ */
+@SdkInternalApi
+public final class ResponseBufferHandoffTracker {
+    private final long limitInBytes;
+    private final AtomicLong outstandingBytes = new AtomicLong();
+
+    public ResponseBufferHandoffTracker(long limitInBytes) {
+        this.limitInBytes = Validate.isPositive(limitInBytes, "limitInBytes");
+    }
+
+    /**
+     * Reserve {@code bytes} of the limit for a buffer about to be lent.
+     *
+     * @return true if the reservation was made, false if it would exceed the limit.
+     */
+    public boolean tryReserve(long bytes) {
+        long current;
+        do {
+            current = outstandingBytes.get();
+            if (current + bytes > limitInBytes) {
+                return false;
+            }
+        } while (!outstandingBytes.compareAndSet(current, current + bytes));
+        return true;
+    }
+
+    /**
+     * Return {@code bytes} previously reserved with {@link #tryReserve(long)}.
+     */
+    public void release(long bytes) {
+        outstandingBytes.addAndGet(-bytes);
+    }
+
+    public long outstandingBytes() {
+        return outstandingBytes.get();
+    }
+
+    public long limitInBytes() {
+        return limitInBytes;
+    }
+}
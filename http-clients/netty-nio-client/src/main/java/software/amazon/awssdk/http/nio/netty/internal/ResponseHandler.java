@@ -271,6 +271,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         private final ChannelHandlerContext channelContext;
         private final RequestContext requestContext;
         private final CompletableFuture<Void> executeFuture;
+        private final LentResponseBuffers lentBuffers;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
 
         PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
@@ -279,6 +280,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             this.channelContext = channelContext;
             this.requestContext = requestContext;
             this.executeFuture = executeFuture;
+            this.lentBuffers = LentResponseBuffers.forResponse(requestContext, channelContext);
         }
 
         @Override
@@ -286,8 +288,12 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             response.subscribe(new Subscriber<HttpContent>() {
                 @Override
                 public void onSubscribe(Subscription subscription) {
-                    subscriber.onSubscribe(new OnCancelSubscription(resolveSubscription(subscription),
-                                                                    this::onCancel));
+                    Subscription resolvedSubscription = new OnCancelSubscription(resolveSubscription(subscription),
+                                                                                 this::onCancel);
+                    if (lentBuffers != null) {
+                        resolvedSubscription = new LentBufferReleasingSubscription(resolvedSubscription, lentBuffers, isDone);
+                    }
+                    subscriber.onSubscribe(resolvedSubscription);
                 }
 
                 private Subscription resolveSubscription(Subscription subscription) {
@@ -322,6 +328,10 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (lentBuffers != null && lendContent(httpContent)) {
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -337,6 +347,29 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Deliver the content without copying it if it can be lent, in which case it is released on the
+                 * subscriber's next demand signal instead of here.
+                 */
+                private boolean lendContent(HttpContent httpContent) {
+                    ByteBuffer byteBuffer = lentBuffers.tryLend(httpContent);
+                    if (byteBuffer == null) {
+                        return false;
+                    }
+
+                    try {
+                        tryCatch(() -> subscriber.onNext(byteBuffer),
+                                 this::notifyError);
+                    } finally {
+                        lentBuffers.lent(httpContent);
+                        // The subscription may have been cancelled while the content was being delivered
+                        if (isDone.get()) {
+                            lentBuffers.releaseAll();
+                        }
+                    }
+                    return true;
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
@@ -389,6 +422,40 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         }
     }
 
+    /**
+     * Decorator around a {@link Subscription} that releases the content lent to the subscriber whenever it signals demand or
+     * cancels. Signals after the response has finished are not forwarded, as the subscriber uses them to return the last
+     * buffer it was lent.
+     */
+    private static class LentBufferReleasingSubscription extends DelegatingSubscription {
+
+        private final LentResponseBuffers lentBuffers;
+        private final AtomicBoolean isDone;
+
+        private LentBufferReleasingSubscription(Subscription subscription, LentResponseBuffers lentBuffers,
+                                                AtomicBoolean isDone) {
+            super(subscription);
+            this.lentBuffers = lentBuffers;
+            this.isDone = isDone;
+        }
+
+        @Override
+        public void request(long l) {
+            lentBuffers.releaseAll();
+            if (!isDone.get()) {
+                super.request(l);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            lentBuffers.releaseAll();
+            if (!isDone.get()) {
+                super.cancel();
+            }
+        }
+    }
+
     /**
      * Decorator around a {@link Subscription} to notify if a cancellation occurs.
      */
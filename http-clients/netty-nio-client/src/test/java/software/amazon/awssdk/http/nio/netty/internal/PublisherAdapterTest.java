@@ -50,9 +50,11 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.AsyncResponseHttpExecutionAttribute;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
@@ -285,6 +287,99 @@ public class PublisherAdapterTest {
         verify(channelPool).release(channel);
     }
 
+    @Test
+    public void responseBuffersReleasedOnDemand_directContentLentAndReleasedOnNextRequest() {
+        ResponseBufferHandoffTracker tracker = new ResponseBufferHandoffTracker(1024);
+        RequestContext lendingContext = lendingRequestContext(tracker);
+        channel.attr(REQUEST_CONTEXT_KEY).set(lendingContext);
+
+        HttpContent content = new DefaultHttpContent(Unpooled.directBuffer(4).writeInt(42));
+        StreamedHttpResponse streamedHttpResponse = new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                                                                    HttpResponseStatus.OK,
+                                                                                    Flowable.just(content));
+        LendingSubscriber subscriber = new LendingSubscriber();
+
+        new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, lendingContext, executeFuture).subscribe(subscriber);
+
+        assertThat(subscriber.received).isNotNull();
+        assertThat(subscriber.received.isDirect()).isTrue();
+        assertThat(subscriber.received.getInt(0)).isEqualTo(42);
+        assertThat(subscriber.isCompleted).isTrue();
+        assertThat(content.refCnt()).isEqualTo(1);
+        assertThat(tracker.outstandingBytes()).isEqualTo(4);
+
+        subscriber.subscription.request(1);
+
+        assertThat(content.refCnt()).isEqualTo(0);
+        assertThat(tracker.outstandingBytes()).isEqualTo(0);
+    }
+
+    @Test
+    public void responseBuffersReleasedOnDemand_handoffLimitExceeded_contentCopied() {
+        ResponseBufferHandoffTracker tracker = new ResponseBufferHandoffTracker(2);
+        RequestContext lendingContext = lendingRequestContext(tracker);
+        channel.attr(REQUEST_CONTEXT_KEY).set(lendingContext);
+
+        HttpContent content = new DefaultHttpContent(Unpooled.directBuffer(4).writeInt(42));
+        StreamedHttpResponse streamedHttpResponse = new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                                                                    HttpResponseStatus.OK,
+                                                                                    Flowable.just(content));
+        LendingSubscriber subscriber = new LendingSubscriber();
+
+        new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, lendingContext, executeFuture).subscribe(subscriber);
+
+        assertThat(subscriber.received.isDirect()).isFalse();
+        assertThat(subscriber.received.getInt(0)).isEqualTo(42);
+        assertThat(content.refCnt()).isEqualTo(0);
+        assertThat(tracker.outstandingBytes()).isEqualTo(0);
+    }
+
+    private RequestContext lendingRequestContext(ResponseBufferHandoffTracker tracker) {
+        SdkHttpExecutionAttributes attributes =
+            SdkHttpExecutionAttributes.builder()
+                                      .put(AsyncResponseHttpExecutionAttribute.RESPONSE_BUFFERS_RELEASED_ON_DEMAND, true)
+                                      .build();
+        return new RequestContext(channelPool,
+                                  eventLoopGroup,
+                                  AsyncExecuteRequest.builder()
+                                                     .request(SdkHttpRequest.builder()
+                                                                            .uri(URI.create("https://localhost"))
+                                                                            .method(SdkHttpMethod.GET)
+                                                                            .build())
+                                                     .responseHandler(responseHandler)
+                                                     .httpExecutionAttributes(attributes)
+                                                     .build(),
+                                  null,
+                                  tracker);
+    }
+
+    static final class LendingSubscriber implements Subscriber<ByteBuffer> {
+
+        private Subscription subscription;
+        private ByteBuffer received;
+        private boolean isCompleted = false;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            received = byteBuffer;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+    }
+
     static final class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
@@ -15,20 +15,20 @@
 
 package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.services.cloudwatch.model.Dimension;
 import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
+import software.amazon.awssdk.utils.NumericUtils;
 
 /**
- * An implementation of {@link MetricAggregator} that stores all values and counts for a given metric/dimension pair
- * until they can be added to a {@link MetricDatum}.
+ * An implementation of {@link MetricAggregator} that stores the values and counts for a given metric/dimension pair in a
+ * {@link LogLinearHistogram} until they can be added to a {@link MetricDatum}. Values that are close to each other may be
+ * reported as one value, so that high-precision metrics like latencies don't need an entry per distinct value.
  */
 @SdkInternalApi
 class DetailedMetricAggregator implements MetricAggregator {
@@ -36,7 +36,7 @@ class DetailedMetricAggregator implements MetricAggregator {
     private final List<Dimension> dimensions;
     private final StandardUnit unit;
 
-    private final Map<Double, DetailedMetrics> metricDetails = new HashMap<>();
+    private final LogLinearHistogram histogram = new LogLinearHistogram();
 
     DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
         this.metric = key.metric();
@@ -56,7 +56,7 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
-        metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value)).metricCount++;
+        histogram.add(value);
     }
 
     @Override
@@ -64,16 +64,22 @@ class DetailedMetricAggregator implements MetricAggregator {
         return unit;
     }
 
-    public Collection<DetailedMetrics> detailedMetrics() {
-        return Collections.unmodifiableCollection(metricDetails.values());
+    /**
+     * The values and counts aggregated so far, in ascending order of value.
+     */
+    public List<DetailedMetrics> detailedMetrics() {
+        List<DetailedMetrics> result = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> result.add(new DetailedMetrics(value, NumericUtils.saturatedCast(count))));
+        return Collections.unmodifiableList(result);
     }
 
     public static class DetailedMetrics {
         private final double metricValue;
-        private int metricCount = 0;
+        private final int metricCount;
 
-        private DetailedMetrics(double metricValue) {
+        private DetailedMetrics(double metricValue, int metricCount) {
             this.metricValue = metricValue;
+            this.metricCount = metricCount;
         }
 
         public double metricValue() {
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.MetricValueNormalizer;
+
+/**
+ * A histogram of metric values with bounded memory and a bounded relative error, used by {@link DetailedMetricAggregator}.
+ *
+ * <p>Values are counted in log-linear buckets, the way HdrHistogram counts integers: every power of two is split into
+ * {@value #SUB_BUCKETS} equally sized sub-buckets. The sub-buckets of a power of two are allocated the first time one of its
+ * values is added, so memory depends on the range of the values rather than on how many distinct values there are.
+ *
+ * <p>A bucket reports its value exactly when all of its values were equal, and reports its midpoint otherwise. The relative
+ * error of a reported value is at most 1/512, and integers up to 512 are always reported exactly.
+ *
+ * <p><b>Warning:</b> This class is *not* thread-safe.
+ */
+@SdkInternalApi
+final class LogLinearHistogram {
+    private static final int SUB_BUCKETS = 256;
+
+    /**
+     * The smallest power of two with its own buckets. Smaller magnitudes are floored to zero by {@link MetricValueNormalizer}
+     * before they are added.
+     */
+    private static final int MIN_EXPONENT = -14;
+
+    /**
+     * The largest power of two with its own buckets. Larger magnitudes are counted in its last bucket.
+     */
+    private static final int MAX_EXPONENT = 63;
+
+    private final Buckets positiveBuckets = new Buckets();
+    private final Buckets negativeBuckets = new Buckets();
+    private long zeroCount;
+
+    /**
+     * Add the provided value to this histogram.
+     */
+    void add(double value) {
+        if (value > 0) {
+            positiveBuckets.add(value, value);
+        } else if (value < 0) {
+            negativeBuckets.add(-value, value);
+        } else {
+            zeroCount++;
+        }
+    }
+
+    /**
+     * Invoke the provided consumer with the value and count of every non-empty bucket, in ascending order of value.
+     */
+    void forEachBucket(BucketConsumer consumer) {
+        negativeBuckets.forEachBucket(consumer, -1);
+        if (zeroCount > 0) {
+            consumer.accept(0.0, zeroCount);
+        }
+        positiveBuckets.forEachBucket(consumer, 1);
+    }
+
+    @FunctionalInterface
+    interface BucketConsumer {
+        void accept(double value, long count);
+    }
+
+    /**
+     * The buckets for the magnitudes of values of one sign.
+     */
+    private static final class Buckets {
+        private final long[][] counts = new long[MAX_EXPONENT - MIN_EXPONENT + 1][];
+
+        /**
+         * The value of every value added to a bucket, or NaN once the bucket holds different values.
+         */
+        private final double[][] values = new double[MAX_EXPONENT - MIN_EXPONENT + 1][];
+
+        private void add(double magnitude, double value) {
+            int exponent = Math.max(MIN_EXPONENT, Math.min(MAX_EXPONENT, Math.getExponent(magnitude)));
+            int octave = exponent - MIN_EXPONENT;
+            int subBucket = subBucket(magnitude, exponent);
+
+            if (counts[octave] == null) {
+                counts[octave] = new long[SUB_BUCKETS];
+                values[octave] = new double[SUB_BUCKETS];
+            }
+
+            if (counts[octave][subBucket]++ == 0) {
+                values[octave][subBucket] = value;
+            } else if (values[octave][subBucket] != value) {
+                values[octave][subBucket] = Double.NaN;
+            }
+        }
+
+        private void forEachBucket(BucketConsumer consumer, int sign) {
+            int octaves = counts.length;
+            for (int i = 0; i < octaves; i++) {
+                // Negative values are ascending when their magnitudes are descending
+                int octave = sign > 0 ? i : octaves - 1 - i;
+                if (counts[octave] == null) {
+                    continue;
+                }
+                for (int j = 0; j < SUB_BUCKETS; j++) {
+                    int subBucket = sign > 0 ? j : SUB_BUCKETS - 1 - j;
+                    long count = counts[octave][subBucket];
+                    if (count > 0) {
+                        consumer.accept(bucketValue(octave, subBucket, sign), count);
+                    }
+                }
+            }
+        }
+
+        private double bucketValue(int octave, int subBucket, int sign) {
+            double value = values[octave][subBucket];
+            if (!Double.isNaN(value)) {
+                return value;
+            }
+            double midpoint = 1 + (subBucket + 0.5) / SUB_BUCKETS;
+            return sign * Math.scalb(midpoint, octave + MIN_EXPONENT);
+        }
+
+        private static int subBucket(double magnitude, int exponent) {
+            // Magnitudes outside the range of powers of two fall into the first or last sub-bucket of their clamped exponent
+            double fraction = Math.scalb(magnitude, -exponent) - 1;
+            return (int) Math.max(0, Math.min(SUB_BUCKETS - 1, fraction * SUB_BUCKETS));
+        }
+    }
+}
@@ -21,7 +21,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ApiName;
@@ -117,7 +116,7 @@ public class MetricCollectionAggregator {
 
                 metric.ifDetailed(detailedAggregator -> {
                     int startIndex = 0;
-                    Collection<DetailedMetrics> detailedMetrics = detailedAggregator.detailedMetrics();
+                    List<DetailedMetrics> detailedMetrics = detailedAggregator.detailedMetrics();
 
                     while (startIndex < detailedMetrics.size()) {
                         if (valuesInRequestCounter.get() >= MAX_VALUES_PER_REQUEST) {
@@ -126,7 +125,7 @@ public class MetricCollectionAggregator {
                             valuesInRequestCounter.reset();
                         }
 
-                        MetricDatum data = detailedMetricDatum(timeBucket, detailedAggregator,
+                        MetricDatum data = detailedMetricDatum(timeBucket, detailedAggregator, detailedMetrics,
                                                                startIndex, MAX_VALUES_PER_REQUEST - valuesInRequestCounter.get());
                         int valuesAdded = data.values().size();
                         startIndex += valuesAdded;
@@ -148,19 +147,18 @@ public class MetricCollectionAggregator {
 
     private MetricDatum detailedMetricDatum(Instant timeBucket,
                                             DetailedMetricAggregator metric,
+                                            List<DetailedMetrics> detailedMetrics,
                                             int metricStartIndex,
                                             int maxElements) {
         List<Double> values = new ArrayList<>();
         List<Double> counts = new ArrayList<>();
 
-        Stream<DetailedMetrics> boundedMetrics = metric.detailedMetrics()
-                                                       .stream()
-                                                       .skip(metricStartIndex)
-                                                       .limit(maxElements);
+        List<DetailedMetrics> boundedMetrics =
+            detailedMetrics.subList(metricStartIndex, Math.min(detailedMetrics.size(), metricStartIndex + maxElements));
 
-        boundedMetrics.forEach(detailedMetrics -> {
-            values.add(MetricValueNormalizer.normalize(detailedMetrics.metricValue()));
-            counts.add((double) detailedMetrics.metricCount());
+        boundedMetrics.forEach(detailedMetric -> {
+            values.add(MetricValueNormalizer.normalize(detailedMetric.metricValue()));
+            counts.add((double) detailedMetric.metricCount());
         });
 
         return MetricDatum.builder()
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class LogLinearHistogramTest {
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 512;
+
+    @Test
+    public void distinctValuesAreReportedExactlyInAscendingOrder() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.add(3);
+        histogram.add(-5.25);
+        histogram.add(0);
+        histogram.add(1000.5);
+        histogram.add(3);
+
+        List<Double> values = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> {
+            values.add(value);
+            counts.add(count);
+        });
+
+        assertThat(values).containsExactly(-5.25, 0.0, 3.0, 1000.5);
+        assertThat(counts).containsExactly(1L, 1L, 2L, 1L);
+    }
+
+    @Test
+    public void integersUpTo512AreReportedExactly() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int i = 0; i <= 512; i++) {
+            histogram.add(i);
+            histogram.add(-i);
+        }
+
+        List<Double> values = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> values.add(value));
+
+        assertThat(values).hasSize(1025);
+        for (int i = 0; i < values.size(); i++) {
+            assertThat(values.get(i)).isEqualTo(i - 512.0);
+        }
+    }
+
+    @Test
+    public void differentValuesInOneBucketAreReportedWithinRelativeError() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.add(1234.5678);
+        histogram.add(1234.5679);
+
+        histogram.forEachBucket((value, count) -> {
+            assertThat(value).isCloseTo(1234.5678, within(1234.5678 * MAX_RELATIVE_ERROR));
+            assertThat(count).isEqualTo(2);
+        });
+    }
+
+    @Test
+    public void bucketCountIsBoundedByValueRange() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        Random random = new Random(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            // Latencies between 1ms and ~16s, so 14 powers of two
+            histogram.add(1 + random.nextDouble() * 16_383);
+        }
+
+        long[] buckets = new long[1];
+        long[] total = new long[1];
+        histogram.forEachBucket((value, count) -> {
+            buckets[0]++;
+            total[0] += count;
+        });
+
+        assertThat(buckets[0]).isLessThanOrEqualTo(14 * 256);
+        assertThat(total[0]).isEqualTo(1_000_000);
+    }
+
+    @Test
+    public void valuesOutsideBucketRangeAreCounted() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.add(Double.MAX_VALUE);
+        histogram.add(Double.MAX_VALUE / 2);
+        histogram.add(-1e-6);
+
+        List<Double> values = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> {
+            values.add(value);
+            counts.add(count);
+        });
+
+        assertThat(values).hasSize(2);
+        assertThat(values.get(0)).isEqualTo(-1e-6);
+        assertThat(counts).containsExactly(1L, 2L);
+    }
+}
@@ -336,6 +336,25 @@ public class MetricCollectionAggregatorTest {
         });
     }
 
+    @Test
+    public void detailedMetricsWithManyDistinctValuesAreBucketed() {
+        SdkMetric<Double> metric = someMetric(Double.class);
+        MetricCollectionAggregator aggregator = aggregatorWithCustomDetailedMetrics(metric);
+        for (int i = 0; i < 10_000; i++) {
+            MetricCollector collector = collector();
+            collector.reportMetric(metric, 1000 + i / 10_000.0);
+            aggregator.addCollection(collectToFixedTime(collector));
+        }
+
+        assertThat(aggregator.getRequests()).hasOnlyOneElementSatisfying(request -> {
+            assertThat(request.metricData()).hasOnlyOneElementSatisfying(metricData -> {
+                assertThat(metricData.values()).hasSizeLessThanOrEqualTo(2);
+                assertThat(metricData.values()).allSatisfy(value -> assertThat(value).isBetween(1000.0, 1001.0));
+                assertThat(metricData.counts().stream().mapToDouble(Double::doubleValue).sum()).isEqualTo(10_000.0);
+            });
+        });
+    }
+
     @Test
     public void metricsFromOtherCategoriesAreIgnored() {
         MetricCollectionAggregator aggregator = defaultAggregator();
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jfr;
+
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.publishers.jfr.internal.JfrEventEmitter;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A metric publisher implementation that emits Java Flight Recorder (JFR) events for each API call and each API call attempt.
+ *
+ * <p>
+ * Events are only populated and committed while a recording has them enabled, so the publisher can be left installed in
+ * production: when no recording is running, {@link #publish(MetricCollection)} returns after a single enabled check per event
+ * type. The following events are emitted:
+ * <ul>
+ *     <li>{@code software.amazon.awssdk.ApiCall}: service, operation, success, retry count and the total API call
+ *     duration.</li>
+ *     <li>{@code software.amazon.awssdk.ApiCallAttempt}: service, operation, attempt number, HTTP status code, request ID,
+ *     error type, backoff delay, signing and service call durations, time to first byte, HTTP concurrency acquire duration
+ *     and read/write throughput.</li>
+ * </ul>
+ * Both events are in the {@code AWS SDK} category and are disabled by default. Enable them in a JFR settings file, or with
+ * {@code Recording.enable("software.amazon.awssdk.ApiCall")} when starting a recording programmatically. Because events are
+ * committed when the metrics are published, their start time is the time the API call completed; the measured durations are
+ * carried in the event fields.
+ *
+ * <p>
+ * JFR is available on Java 11 and later, and on Java 8 from update 262. On runtimes without JFR, this publisher does nothing.
+ *
+ * @snippet
+ * // Create a JfrMetricPublisher and register it on a client.
+ * MetricPublisher jfrMetricPublisher = JfrMetricPublisher.create();
+ * DynamoDbClient client = DynamoDbClient.builder()
+ *                                       .overrideConfiguration(c -> c.addMetricPublisher(jfrMetricPublisher))
+ *                                       .build();
+ *
+ * @see MetricPublisher The base interface for metric publishers
+ */
+@ThreadSafe
+@Immutable
+@SdkPublicApi
+public final class JfrMetricPublisher implements MetricPublisher {
+    private static final Logger logger = Logger.loggerFor(JfrMetricPublisher.class);
+
+    private final JfrEventEmitter emitter;
+
+    private JfrMetricPublisher() {
+        this.emitter = isFlightRecorderAvailable() ? new JfrEventEmitter() : null;
+    }
+
+    /**
+     * Create a {@link JfrMetricPublisher}.
+     */
+    public static JfrMetricPublisher create() {
+        return new JfrMetricPublisher();
+    }
+
+    /**
+     * Whether Java Flight Recorder is available in the current runtime. When this is {@code false}, the publisher does not
+     * emit any events.
+     */
+    public static boolean isFlightRecorderAvailable() {
+        try {
+            return JfrEventEmitter.isFlightRecorderAvailable();
+        } catch (LinkageError e) {
+            logger.debug(() -> "Java Flight Recorder is not available in this runtime, JFR metric events are disabled.", e);
+            return false;
+        }
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        if (emitter == null) {
+            return;
+        }
+        if (metricCollection == null) {
+            logger.warn(() -> "Null metric collection passed to the publisher");
+            return;
+        }
+        try {
+            emitter.emit(metricCollection);
+        } catch (Exception e) {
+            logger.error(() -> "Failed to emit metrics as JFR events", e);
+        }
+    }
+
+    /**
+     * Closes this metric publisher. This implementation is empty as the JFR metric publisher does not maintain any resources
+     * that require explicit cleanup.
+     */
+    @Override
+    public void close() {
+    }
+}
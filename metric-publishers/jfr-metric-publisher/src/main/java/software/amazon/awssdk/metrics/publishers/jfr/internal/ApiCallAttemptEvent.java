@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Frequency;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * JFR event emitted once per attempt of an API call. Durations are in nanoseconds, or {@link Long#MIN_VALUE} when they were
+ * not reported. Throughput is in bytes per second, or {@link Double#NaN} when it was not reported.
+ */
+@SdkInternalApi
+@Name(ApiCallAttemptEvent.NAME)
+@Label("AWS SDK API Call Attempt")
+@Description("A single attempt of an API call made by the AWS SDK for Java")
+@Category({"AWS SDK", "API Call"})
+@Enabled(false)
+@StackTrace(false)
+final class ApiCallAttemptEvent extends Event {
+    static final String NAME = "software.amazon.awssdk.ApiCallAttempt";
+
+    @Label("Service ID")
+    String serviceId;
+
+    @Label("Operation Name")
+    String operationName;
+
+    @Label("Attempt")
+    @Description("The 1-based number of this attempt within the API call")
+    int attempt;
+
+    @Label("HTTP Status Code")
+    int httpStatusCode;
+
+    @Label("AWS Request ID")
+    String awsRequestId;
+
+    @Label("Error Type")
+    String errorType;
+
+    @Label("HTTP Client Name")
+    String httpClientName;
+
+    @Label("Backoff Delay Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long backoffDelayDuration;
+
+    @Label("Signing Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long signingDuration;
+
+    @Label("Service Call Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long serviceCallDuration;
+
+    @Label("Time To First Byte")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeToFirstByte;
+
+    @Label("Concurrency Acquire Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long concurrencyAcquireDuration;
+
+    @Label("Read Throughput")
+    @DataAmount(DataAmount.BYTES)
+    @Frequency
+    double readThroughput;
+
+    @Label("Write Throughput")
+    @DataAmount(DataAmount.BYTES)
+    @Frequency
+    double writeThroughput;
+}
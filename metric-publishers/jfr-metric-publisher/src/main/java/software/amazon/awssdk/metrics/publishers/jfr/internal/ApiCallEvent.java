@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * JFR event emitted once per API call. Durations are in nanoseconds, or {@link Long#MIN_VALUE} when they were not reported.
+ */
+@SdkInternalApi
+@Name(ApiCallEvent.NAME)
+@Label("AWS SDK API Call")
+@Description("An API call made by the AWS SDK for Java, including all of its attempts")
+@Category({"AWS SDK", "API Call"})
+@Enabled(false)
+@StackTrace(false)
+final class ApiCallEvent extends Event {
+    static final String NAME = "software.amazon.awssdk.ApiCall";
+
+    @Label("Service ID")
+    String serviceId;
+
+    @Label("Operation Name")
+    String operationName;
+
+    @Label("Successful")
+    boolean successful;
+
+    @Label("Retry Count")
+    int retryCount;
+
+    @Label("API Call Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long apiCallDuration;
+
+    @Label("Credentials Fetch Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long credentialsFetchDuration;
+
+    @Label("Marshalling Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long marshallingDuration;
+
+    @Label("Endpoint Resolve Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long endpointResolveDuration;
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jfr.internal;
+
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.FlightRecorder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Converts an {@code ApiCall} {@link MetricCollection} into {@link ApiCallEvent} and {@link ApiCallAttemptEvent}s.
+ *
+ * <p>This class links against {@code jdk.jfr} and must only be loaded after {@link #isFlightRecorderAvailable()} returned
+ * {@code true}. Each event type is checked with {@code isEnabled()} before any metric is looked up, so publishing costs only
+ * a short-lived event allocation (usually removed by escape analysis) when no recording has the events enabled.
+ */
+@SdkInternalApi
+public final class JfrEventEmitter {
+    private static final String API_CALL_ATTEMPT = "ApiCallAttempt";
+    private static final String HTTP_CLIENT = "HttpClient";
+    private static final long MISSING_DURATION = Long.MIN_VALUE;
+
+    public static boolean isFlightRecorderAvailable() {
+        return FlightRecorder.isAvailable();
+    }
+
+    public void emit(MetricCollection apiCall) {
+        ApiCallEvent apiCallEvent = new ApiCallEvent();
+        if (apiCallEvent.isEnabled()) {
+            emitApiCall(apiCallEvent, apiCall);
+        }
+
+        if (new ApiCallAttemptEvent().isEnabled()) {
+            emitAttempts(apiCall);
+        }
+    }
+
+    private static void emitApiCall(ApiCallEvent event, MetricCollection apiCall) {
+        event.serviceId = first(apiCall, CoreMetric.SERVICE_ID);
+        event.operationName = first(apiCall, CoreMetric.OPERATION_NAME);
+        event.successful = Boolean.TRUE.equals(first(apiCall, CoreMetric.API_CALL_SUCCESSFUL));
+        Integer retryCount = first(apiCall, CoreMetric.RETRY_COUNT);
+        event.retryCount = retryCount == null ? 0 : retryCount;
+        event.apiCallDuration = nanos(apiCall, CoreMetric.API_CALL_DURATION);
+        event.credentialsFetchDuration = nanos(apiCall, CoreMetric.CREDENTIALS_FETCH_DURATION);
+        event.marshallingDuration = nanos(apiCall, CoreMetric.MARSHALLING_DURATION);
+        event.endpointResolveDuration = nanos(apiCall, CoreMetric.ENDPOINT_RESOLVE_DURATION);
+        event.commit();
+    }
+
+    private static void emitAttempts(MetricCollection apiCall) {
+        String serviceId = first(apiCall, CoreMetric.SERVICE_ID);
+        String operationName = first(apiCall, CoreMetric.OPERATION_NAME);
+        int attemptNumber = 0;
+        for (MetricCollection attempt : apiCall.children()) {
+            if (!API_CALL_ATTEMPT.equals(attempt.name())) {
+                continue;
+            }
+            ++attemptNumber;
+            ApiCallAttemptEvent event = new ApiCallAttemptEvent();
+            event.serviceId = serviceId;
+            event.operationName = operationName;
+            event.attempt = attemptNumber;
+            Integer statusCode = first(attempt, HttpMetric.HTTP_STATUS_CODE);
+            event.httpStatusCode = statusCode == null ? 0 : statusCode;
+            event.awsRequestId = first(attempt, CoreMetric.AWS_REQUEST_ID);
+            event.errorType = first(attempt, CoreMetric.ERROR_TYPE);
+            event.backoffDelayDuration = nanos(attempt, CoreMetric.BACKOFF_DELAY_DURATION);
+            event.signingDuration = nanos(attempt, CoreMetric.SIGNING_DURATION);
+            event.serviceCallDuration = nanos(attempt, CoreMetric.SERVICE_CALL_DURATION);
+            event.timeToFirstByte = nanos(attempt, CoreMetric.TIME_TO_FIRST_BYTE);
+            event.readThroughput = throughput(attempt, CoreMetric.READ_THROUGHPUT);
+            event.writeThroughput = throughput(attempt, CoreMetric.WRITE_THROUGHPUT);
+            event.concurrencyAcquireDuration = MISSING_DURATION;
+            for (MetricCollection httpClient : attempt.children()) {
+                if (HTTP_CLIENT.equals(httpClient.name())) {
+                    event.httpClientName = first(httpClient, HttpMetric.HTTP_CLIENT_NAME);
+                    event.concurrencyAcquireDuration = nanos(httpClient, HttpMetric.CONCURRENCY_ACQUIRE_DURATION);
+                    break;
+                }
+            }
+            event.commit();
+        }
+    }
+
+    private static <T> T first(MetricCollection collection, SdkMetric<T> metric) {
+        List<T> values = collection.metricValues(metric);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static long nanos(MetricCollection collection, SdkMetric<Duration> metric) {
+        Duration duration = first(collection, metric);
+        return duration == null ? MISSING_DURATION : duration.toNanos();
+    }
+
+    private static double throughput(MetricCollection collection, SdkMetric<Double> metric) {
+        Double value = first(collection, metric);
+        return value == null ? Double.NaN : value;
+    }
+}
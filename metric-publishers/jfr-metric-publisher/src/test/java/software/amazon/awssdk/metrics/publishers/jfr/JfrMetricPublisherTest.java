@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class JfrMetricPublisherTest {
+    private static final String API_CALL_EVENT = "software.amazon.awssdk.ApiCall";
+    private static final String API_CALL_ATTEMPT_EVENT = "software.amazon.awssdk.ApiCallAttempt";
+
+    private static JfrMetricPublisher publisher;
+
+    @BeforeAll
+    static void setUp() {
+        assertThat(JfrMetricPublisher.isFlightRecorderAvailable()).isTrue();
+        publisher = JfrMetricPublisher.create();
+    }
+
+    @Test
+    void publish_eventsEnabled_emitsApiCallEvent() throws IOException {
+        List<RecordedEvent> events = record(true, sampleApiCall());
+
+        List<RecordedEvent> apiCalls = eventsNamed(events, API_CALL_EVENT);
+        assertThat(apiCalls).hasSize(1);
+        RecordedEvent apiCall = apiCalls.get(0);
+        assertThat(apiCall.getString("serviceId")).isEqualTo("DynamoDB");
+        assertThat(apiCall.getString("operationName")).isEqualTo("GetItem");
+        assertThat(apiCall.getBoolean("successful")).isTrue();
+        assertThat(apiCall.getInt("retryCount")).isEqualTo(1);
+        assertThat(apiCall.getDuration("apiCallDuration")).isEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    void publish_eventsEnabled_emitsOneEventPerAttempt() throws IOException {
+        List<RecordedEvent> events = record(true, sampleApiCall());
+
+        List<RecordedEvent> attempts = eventsNamed(events, API_CALL_ATTEMPT_EVENT);
+        assertThat(attempts).hasSize(2);
+        assertThat(attempts).extracting(e -> e.getInt("attempt")).containsExactlyInAnyOrder(1, 2);
+
+        RecordedEvent second = attempts.stream().filter(e -> e.getInt("attempt") == 2).findFirst().get();
+        assertThat(second.getString("serviceId")).isEqualTo("DynamoDB");
+        assertThat(second.getString("operationName")).isEqualTo("GetItem");
+        assertThat(second.getInt("httpStatusCode")).isEqualTo(200);
+        assertThat(second.getString("awsRequestId")).isEqualTo("request-2");
+        assertThat(second.getString("httpClientName")).isEqualTo("Apache");
+        assertThat(second.getDuration("backoffDelayDuration")).isEqualTo(Duration.ofMillis(40));
+        assertThat(second.getDuration("serviceCallDuration")).isEqualTo(Duration.ofMillis(90));
+        assertThat(second.getDuration("concurrencyAcquireDuration")).isEqualTo(Duration.ofMillis(3));
+        assertThat(second.getDouble("readThroughput")).isEqualTo(1024.0);
+        assertThat(Double.isNaN(second.getDouble("writeThroughput"))).isTrue();
+    }
+
+    @Test
+    void publish_eventsDisabled_emitsNothing() throws IOException {
+        List<RecordedEvent> events = record(false, sampleApiCall());
+
+        assertThat(eventsNamed(events, API_CALL_EVENT)).isEmpty();
+        assertThat(eventsNamed(events, API_CALL_ATTEMPT_EVENT)).isEmpty();
+    }
+
+    @Test
+    void publish_nullCollection_doesNotThrow() {
+        assertThatCode(() -> publisher.publish(null)).doesNotThrowAnyException();
+    }
+
+    private static List<RecordedEvent> record(boolean enabled, MetricCollection apiCall) throws IOException {
+        Path file = Files.createTempFile("jfr-metric-publisher", ".jfr");
+        try (Recording recording = new Recording()) {
+            if (enabled) {
+                recording.enable(API_CALL_EVENT);
+                recording.enable(API_CALL_ATTEMPT_EVENT);
+            }
+            recording.start();
+            publisher.publish(apiCall);
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    private static MetricCollection sampleApiCall() {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, "GetItem");
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+        apiCall.reportMetric(CoreMetric.RETRY_COUNT, 1);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(250));
+
+        MetricCollector firstAttempt = apiCall.createChild("ApiCallAttempt");
+        firstAttempt.reportMetric(HttpMetric.HTTP_STATUS_CODE, 500);
+        firstAttempt.reportMetric(CoreMetric.AWS_REQUEST_ID, "request-1");
+        firstAttempt.reportMetric(CoreMetric.BACKOFF_DELAY_DURATION, Duration.ZERO);
+        firstAttempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(80));
+
+        MetricCollector secondAttempt = apiCall.createChild("ApiCallAttempt");
+        secondAttempt.reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+        secondAttempt.reportMetric(CoreMetric.AWS_REQUEST_ID, "request-2");
+        secondAttempt.reportMetric(CoreMetric.BACKOFF_DELAY_DURATION, Duration.ofMillis(40));
+        secondAttempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(90));
+        secondAttempt.reportMetric(CoreMetric.READ_THROUGHPUT, 1024.0);
+        MetricCollector httpClient = secondAttempt.createChild("HttpClient");
+        httpClient.reportMetric(HttpMetric.HTTP_CLIENT_NAME, "Apache");
+        httpClient.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(3));
+
+        return apiCall.collect();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.AnnotationMirrors;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.BeanItemIntrospector;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ImmutableItemIntrospector;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemModel;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.TableSchemaWriter;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.UnsupportedItemException;
+
+/**
+ * An annotation processor that generates the table schemas of classes annotated with {@link DynamoDbBean} or
+ * {@link DynamoDbImmutable} at compile time. {@link TableSchema#fromClass(Class)} returns the generated table schema
+ * instead of introspecting the class with reflection, which makes creating table schemas much cheaper at startup and
+ * removes the need for reflection configuration in native images.
+ * <p>
+ * The generated table schemas call the getters and setters of the class directly. Classes that use features which are
+ * only supported by introspection at runtime, such as {@code @DynamoDbFlatten}, attributes whose types are themselves
+ * annotated classes, or attribute tags provided by extensions, are reported with a note and keep using the runtime
+ * table schemas.
+ * <p>
+ * To use it, add {@code software.amazon.awssdk:dynamodb-enhanced-processor} to the annotation processor path of the
+ * compiler.
+ */
+@SdkPublicApi
+public final class TableSchemaProcessor extends AbstractProcessor {
+    private static final Set<String> SUPPORTED_ANNOTATION_TYPES =
+        new LinkedHashSet<>(Arrays.asList(DynamoDbBean.class.getCanonicalName(),
+                                          DynamoDbImmutable.class.getCanonicalName()));
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return SUPPORTED_ANNOTATION_TYPES;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> annotatedClasses = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    annotatedClasses.add((TypeElement) element);
+                }
+            }
+        }
+
+        annotatedClasses.forEach(this::generateTableSchema);
+        return false;
+    }
+
+    private void generateTableSchema(TypeElement annotatedClass) {
+        try {
+            ItemModel model = introspect(annotatedClass);
+            new TableSchemaWriter(model).javaFile().writeTo(processingEnv.getFiler());
+        } catch (UnsupportedItemException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                "Not generating a table schema for " + annotatedClass.getQualifiedName() + " because " + e.getMessage()
+                + ". TableSchema.fromClass will introspect it at runtime.",
+                annotatedClass);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "Failed to write the table schema for " + annotatedClass.getQualifiedName() + ": " + e.getMessage(),
+                annotatedClass);
+        }
+    }
+
+    private ItemModel introspect(TypeElement annotatedClass) {
+        // Like TableSchema.fromClass, @DynamoDbImmutable takes precedence over @DynamoDbBean
+        if (AnnotationMirrors.find(annotatedClass, DynamoDbImmutable.class).isPresent()) {
+            return new ImmutableItemIntrospector(processingEnv).introspect(annotatedClass);
+        }
+        return new BeanItemIntrospector(processingEnv).introspect(annotatedClass);
+    }
+}
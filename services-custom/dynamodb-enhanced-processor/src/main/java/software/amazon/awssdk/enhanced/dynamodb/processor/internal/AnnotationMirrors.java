@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Reads annotations of the annotated classes from their {@link AnnotationMirror}s, because their values may reference
+ * classes that are being compiled in the same compilation.
+ */
+@SdkInternalApi
+public final class AnnotationMirrors {
+    private AnnotationMirrors() {
+    }
+
+    public static Optional<AnnotationMirror> find(Element element, Class<? extends Annotation> annotationType) {
+        return find(element, annotationType.getCanonicalName());
+    }
+
+    public static Optional<AnnotationMirror> find(Element element, String annotationTypeName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotationTypeName.equals(qualifiedName(annotation))) {
+                return Optional.of(annotation);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds an annotation on the getter of a property, or on its setter if the getter is not annotated.
+     */
+    public static Optional<AnnotationMirror> findOnProperty(ExecutableElement getter, ExecutableElement setter,
+                                                            Class<? extends Annotation> annotationType) {
+        Optional<AnnotationMirror> getterAnnotation = find(getter, annotationType);
+        return getterAnnotation.isPresent() ? getterAnnotation : find(setter, annotationType);
+    }
+
+    /**
+     * All annotations of the getter and the setter of a property, with repeated annotations extracted from their containers.
+     */
+    public static List<AnnotationMirror> propertyAnnotations(ExecutableElement getter, ExecutableElement setter) {
+        List<AnnotationMirror> annotations = new ArrayList<>();
+        getter.getAnnotationMirrors().forEach(a -> addExpanded(annotations, a));
+        setter.getAnnotationMirrors().forEach(a -> addExpanded(annotations, a));
+        return annotations;
+    }
+
+    public static String qualifiedName(AnnotationMirror annotation) {
+        return annotationElement(annotation).getQualifiedName().toString();
+    }
+
+    public static TypeElement annotationElement(AnnotationMirror annotation) {
+        return (TypeElement) annotation.getAnnotationType().asElement();
+    }
+
+    /**
+     * The value of an annotation member, falling back to the member's default value.
+     */
+    public static AnnotationValue value(Elements elements, AnnotationMirror annotation, String memberName) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+            elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(memberName)) {
+                return entry.getValue();
+            }
+        }
+        throw new IllegalArgumentException(qualifiedName(annotation) + " has no member named " + memberName);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<? extends AnnotationValue> arrayValue(Elements elements, AnnotationMirror annotation,
+                                                             String memberName) {
+        return (List<? extends AnnotationValue>) value(elements, annotation, memberName).getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addExpanded(List<AnnotationMirror> annotations, AnnotationMirror annotation) {
+        Optional<ExecutableElement> containerValue = containerValue(annotation);
+        if (!containerValue.isPresent()) {
+            annotations.add(annotation);
+            return;
+        }
+
+        AnnotationValue value = annotation.getElementValues().get(containerValue.get());
+        if (value != null) {
+            for (AnnotationValue containedValue : (List<? extends AnnotationValue>) value.getValue()) {
+                annotations.add((AnnotationMirror) containedValue.getValue());
+            }
+        }
+    }
+
+    /**
+     * The {@code value()} member of an annotation that contains repeated annotations.
+     */
+    private static Optional<ExecutableElement> containerValue(AnnotationMirror annotation) {
+        for (ExecutableElement member : ElementFilter.methodsIn(annotationElement(annotation).getEnclosedElements())) {
+            if (!member.getSimpleName().contentEquals("value") || member.getReturnType().getKind() != TypeKind.ARRAY) {
+                continue;
+            }
+
+            TypeMirror componentType = ((ArrayType) member.getReturnType()).getComponentType();
+            if (componentType.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) componentType).asElement().getKind() == ElementKind.ANNOTATION_TYPE) {
+                return Optional.of(member);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+
+/**
+ * Reads the properties of a {@code @DynamoDbBean} class the way {@code BeanTableSchema} does, using the JavaBeans naming
+ * conventions for getters and setters, and setters that return the bean for chaining.
+ */
+@SdkInternalApi
+public final class BeanItemIntrospector extends ItemIntrospector {
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+
+    public BeanItemIntrospector(ProcessingEnvironment processingEnv) {
+        super(processingEnv);
+    }
+
+    @Override
+    public ItemModel introspect(TypeElement beanType) {
+        validateItemType(beanType);
+        if (!hasPublicNoArgConstructor(beanType)) {
+            throw new UnsupportedItemException("the class has no public no-argument constructor");
+        }
+
+        // Properties are mapped in the order of their names, like the property descriptors of java.beans.Introspector
+        Map<String, ExecutableElement> getters = new TreeMap<>();
+        Map<String, List<ExecutableElement>> setters = new HashMap<>();
+
+        for (ExecutableElement method : publicInstanceMethods(beanType)) {
+            if (!method.getTypeParameters().isEmpty()) {
+                continue;
+            }
+
+            String name = method.getSimpleName().toString();
+            TypeMirror returnType = memberType(beanType, method).getReturnType();
+
+            if (method.getParameters().isEmpty() && returnType.getKind() != TypeKind.VOID) {
+                if (name.length() > IS_PREFIX.length() && name.startsWith(IS_PREFIX)
+                    && returnType.getKind() == TypeKind.BOOLEAN) {
+                    getters.put(decapitalize(name.substring(IS_PREFIX.length())), method);
+                } else if (name.length() > GET_PREFIX.length() && name.startsWith(GET_PREFIX)) {
+                    getters.putIfAbsent(decapitalize(name.substring(GET_PREFIX.length())), method);
+                }
+            } else if (method.getParameters().size() == 1 && name.length() > SET_PREFIX.length()
+                       && name.startsWith(SET_PREFIX)) {
+                setters.computeIfAbsent(decapitalize(name.substring(SET_PREFIX.length())), n -> new ArrayList<>())
+                       .add(method);
+            }
+        }
+
+        List<PropertyModel> properties = new ArrayList<>();
+        getters.forEach((propertyName, getter) -> {
+            TypeMirror type = memberType(beanType, getter).getReturnType();
+            Optional<ExecutableElement> setter =
+                setter(beanType, propertyName, type, setters.getOrDefault(propertyName, Collections.emptyList()));
+
+            if (setter.isPresent() && !isIgnored(getter) && !isIgnored(setter.get())) {
+                properties.add(property(beanType, propertyName, getter, setter.get(), type));
+            }
+        });
+
+        AnnotationMirror dynamoDbBean = AnnotationMirrors.find(beanType, DynamoDbBean.class)
+                                                         .orElseThrow(IllegalStateException::new);
+
+        return ItemModel.builder()
+                        .itemType(beanType)
+                        .converterProviders(converterProviders(beanType, dynamoDbBean))
+                        .properties(properties)
+                        .build();
+    }
+
+    private Optional<ExecutableElement> setter(TypeElement beanType, String propertyName, TypeMirror type,
+                                               List<ExecutableElement> candidates) {
+        boolean hasVoidSetter = false;
+        for (ExecutableElement candidate : candidates) {
+            ExecutableType candidateType = memberType(beanType, candidate);
+            if (candidateType.getReturnType().getKind() == TypeKind.VOID) {
+                hasVoidSetter = true;
+                if (types.isSameType(candidateType.getParameterTypes().get(0), type)) {
+                    return Optional.of(candidate);
+                }
+            }
+        }
+
+        if (hasVoidSetter) {
+            throw new UnsupportedItemException("the setters of property '" + propertyName + "' do not take the type "
+                                               + "returned by its getter");
+        }
+
+        for (ExecutableElement candidate : candidates) {
+            ExecutableType candidateType = memberType(beanType, candidate);
+            if (types.isSameType(candidateType.getReturnType(), beanType.asType())) {
+                if (!types.isSameType(candidateType.getParameterTypes().get(0), type)) {
+                    throw new UnsupportedItemException("the fluent setter of property '" + propertyName + "' does not "
+                                                       + "take the type returned by its getter");
+                }
+                return Optional.of(candidate);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Derives a property name from the name of an accessor, like {@code java.beans.Introspector#decapitalize}.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+
+/**
+ * Reads the properties of a {@code @DynamoDbImmutable} class the way {@code ImmutableTableSchema} does: every public
+ * method of the class is a getter that must have a matching setter on the builder, and vice versa.
+ */
+@SdkInternalApi
+public final class ImmutableItemIntrospector extends ItemIntrospector {
+    private static final String BUILD_METHOD = "build";
+    private static final String BUILDER_METHOD = "builder";
+    private static final String TO_BUILDER_METHOD = "toBuilder";
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+
+    private final Set<String> namesToExclude;
+
+    public ImmutableItemIntrospector(ProcessingEnvironment processingEnv) {
+        super(processingEnv);
+        this.namesToExclude = new HashSet<>(Arrays.asList(TO_BUILDER_METHOD));
+        Arrays.stream(Object.class.getMethods()).forEach(m -> namesToExclude.add(m.getName()));
+    }
+
+    @Override
+    public ItemModel introspect(TypeElement immutableType) {
+        validateItemType(immutableType);
+
+        AnnotationMirror dynamoDbImmutable = AnnotationMirrors.find(immutableType, DynamoDbImmutable.class)
+                                                              .orElseThrow(IllegalStateException::new);
+        TypeElement builderType = builderType(immutableType, dynamoDbImmutable);
+        Optional<ExecutableElement> staticBuilderMethod = staticBuilderMethod(immutableType, builderType);
+
+        if (!staticBuilderMethod.isPresent()
+            && (builderType.getKind() != ElementKind.CLASS
+                || builderType.getModifiers().contains(Modifier.ABSTRACT)
+                || (builderType.getNestingKind().isNested() && !builderType.getModifiers().contains(Modifier.STATIC))
+                || !hasPublicNoArgConstructor(builderType))) {
+            throw new UnsupportedItemException("the class has no static builder() method and its builder has no public "
+                                               + "no-argument constructor");
+        }
+
+        Map<String, ExecutableElement> builderMethods = new LinkedHashMap<>();
+        for (ExecutableElement method : mappableMethods(builderType)) {
+            if (builderMethods.put(normalizeSetterName(method), method) != null) {
+                throw new UnsupportedItemException("the builder has more than one setter for property '"
+                                                   + normalizeSetterName(method) + "'");
+            }
+        }
+
+        ExecutableElement buildMethod = builderMethods.remove(BUILD_METHOD);
+        if (buildMethod == null
+            || !buildMethod.getParameters().isEmpty()
+            || !types.isSameType(memberType(builderType, buildMethod).getReturnType(), immutableType.asType())) {
+            throw new UnsupportedItemException("the builder has no build() method that returns the class");
+        }
+
+        List<PropertyModel> properties = new ArrayList<>();
+        for (ExecutableElement getter : mappableMethods(immutableType)) {
+            TypeMirror type = memberType(immutableType, getter).getReturnType();
+            if (type.getKind() == TypeKind.VOID || !getter.getParameters().isEmpty()
+                || !getter.getTypeParameters().isEmpty()) {
+                throw new UnsupportedItemException("method " + getter + " is not a valid getter");
+            }
+
+            String propertyName = normalizeGetterName(getter, type);
+            ExecutableElement setter = builderMethods.remove(propertyName);
+            if (setter == null || !isValidSetter(builderType, setter, type)) {
+                throw new UnsupportedItemException("the builder has no setter that matches method " + getter);
+            }
+
+            properties.add(property(immutableType, propertyName, getter, setter, type));
+        }
+
+        if (!builderMethods.isEmpty()) {
+            throw new UnsupportedItemException("the class has no getter that matches builder method "
+                                               + builderMethods.values().iterator().next());
+        }
+
+        return ItemModel.builder()
+                        .itemType(immutableType)
+                        .builderType(builderType)
+                        .hasStaticBuilderMethod(staticBuilderMethod.isPresent())
+                        .staticBuilderMethodReturnsBuilder(
+                            staticBuilderMethod.map(m -> types.isSameType(m.getReturnType(), builderType.asType()))
+                                               .orElse(false))
+                        .converterProviders(converterProviders(immutableType, dynamoDbImmutable))
+                        .properties(properties)
+                        .build();
+    }
+
+    private TypeElement builderType(TypeElement immutableType, AnnotationMirror dynamoDbImmutable) {
+        TypeMirror builder = (TypeMirror) AnnotationMirrors.value(elements, dynamoDbImmutable, BUILDER_METHOD).getValue();
+        if (builder.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedItemException("the builder " + builder + " is not a class");
+        }
+
+        TypeElement builderType = (TypeElement) ((DeclaredType) builder).asElement();
+        if (!builderType.getTypeParameters().isEmpty()) {
+            throw new UnsupportedItemException("the builder has type parameters");
+        }
+        if (!isAccessible(builderType, immutableType)) {
+            throw new UnsupportedItemException("the builder is not accessible from the package of the class");
+        }
+        return builderType;
+    }
+
+    private Optional<ExecutableElement> staticBuilderMethod(TypeElement immutableType, TypeElement builderType) {
+        return ElementFilter.methodsIn(elements.getAllMembers(immutableType))
+                            .stream()
+                            .filter(m -> m.getSimpleName().contentEquals(BUILDER_METHOD))
+                            .filter(m -> m.getParameters().isEmpty() && m.getTypeParameters().isEmpty())
+                            .filter(m -> m.getModifiers().contains(Modifier.PUBLIC))
+                            .filter(m -> m.getModifiers().contains(Modifier.STATIC))
+                            .filter(m -> types.isAssignable(builderType.asType(), m.getReturnType()))
+                            .findFirst();
+    }
+
+    private List<ExecutableElement> mappableMethods(TypeElement type) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : publicInstanceMethods(type)) {
+            if (!isIgnored(method) && !namesToExclude.contains(method.getSimpleName().toString())) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private boolean isValidSetter(TypeElement builderType, ExecutableElement setter, TypeMirror type) {
+        ExecutableType setterType = memberType(builderType, setter);
+        if (setterType.getParameterTypes().size() != 1
+            || !setter.getTypeParameters().isEmpty()
+            || !types.isSameType(setterType.getParameterTypes().get(0), type)) {
+            return false;
+        }
+
+        TypeMirror returnType = setterType.getReturnType();
+        return returnType.getKind() == TypeKind.VOID || types.isAssignable(builderType.asType(), returnType);
+    }
+
+    private static String normalizeSetterName(ExecutableElement setter) {
+        String setterName = setter.getSimpleName().toString();
+        if (setterName.length() > SET_PREFIX.length()
+            && Character.isUpperCase(setterName.charAt(SET_PREFIX.length()))
+            && setterName.startsWith(SET_PREFIX)) {
+            return lowerCaseFirst(setterName.substring(SET_PREFIX.length()));
+        }
+        return setterName;
+    }
+
+    private static String normalizeGetterName(ExecutableElement getter, TypeMirror type) {
+        String getterName = getter.getSimpleName().toString();
+        boolean isBoolean = type.getKind() == TypeKind.BOOLEAN || type.toString().equals(Boolean.class.getName());
+
+        if (getterName.length() > IS_PREFIX.length()
+            && Character.isUpperCase(getterName.charAt(IS_PREFIX.length()))
+            && getterName.startsWith(IS_PREFIX)
+            && isBoolean) {
+            return lowerCaseFirst(getterName.substring(IS_PREFIX.length()));
+        }
+
+        if (getterName.length() > GET_PREFIX.length()
+            && Character.isUpperCase(getterName.charAt(GET_PREFIX.length()))
+            && getterName.startsWith(GET_PREFIX)) {
+            return lowerCaseFirst(getterName.substring(GET_PREFIX.length()));
+        }
+
+        return getterName;
+    }
+
+    private static String lowerCaseFirst(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
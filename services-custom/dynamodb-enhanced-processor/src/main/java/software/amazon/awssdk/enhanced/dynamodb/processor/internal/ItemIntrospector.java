@@ -0,0 +1,329 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.AnnotationMirrors.arrayValue;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.AnnotationMirrors.value;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbAtomicCounter;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.Order;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.UpdateBehavior;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbFlatten;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnoreNulls;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPreserveEmptyObject;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbUpdateBehavior;
+
+/**
+ * Reads the properties of an annotated class following the same rules as the table schemas that introspect the class at
+ * runtime. Anything that cannot be expressed as a static table schema, or that would fail when the class is introspected
+ * at runtime, throws an {@link UnsupportedItemException} so that the runtime behavior is kept for that class.
+ */
+@SdkInternalApi
+public abstract class ItemIntrospector {
+    private static final String TRANSIENT = "java.beans.Transient";
+    private static final ClassName STATIC_ATTRIBUTE_TAGS = ClassName.get(StaticAttributeTags.class);
+
+    private static final List<String> UNSUPPORTED_PROPERTY_ANNOTATIONS =
+        Arrays.asList(DynamoDbFlatten.class.getCanonicalName(),
+                      DynamoDbIgnoreNulls.class.getCanonicalName(),
+                      DynamoDbPreserveEmptyObject.class.getCanonicalName());
+
+    protected final Elements elements;
+    protected final Types types;
+
+    protected ItemIntrospector(ProcessingEnvironment processingEnv) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    public abstract ItemModel introspect(TypeElement itemType);
+
+    /**
+     * Check that the annotated class can be instantiated and referenced from the generated class, which is in the same
+     * package.
+     */
+    protected void validateItemType(TypeElement itemType) {
+        if (itemType.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedItemException("the class is abstract");
+        }
+        if (!itemType.getTypeParameters().isEmpty()) {
+            throw new UnsupportedItemException("the class has type parameters");
+        }
+        if (itemType.getNestingKind().isNested() && !itemType.getModifiers().contains(Modifier.STATIC)) {
+            throw new UnsupportedItemException("the class is an inner class");
+        }
+        if (!isAccessible(itemType, itemType)) {
+            throw new UnsupportedItemException("the class is not accessible from its package");
+        }
+    }
+
+    protected List<ExecutableElement> publicInstanceMethods(TypeElement type) {
+        return ElementFilter.methodsIn(elements.getAllMembers(type))
+                            .stream()
+                            .filter(m -> m.getModifiers().contains(Modifier.PUBLIC))
+                            .filter(m -> !m.getModifiers().contains(Modifier.STATIC))
+                            .filter(m -> !isDeclaredByObject(m))
+                            .collect(Collectors.toList());
+    }
+
+    protected boolean hasPublicNoArgConstructor(TypeElement type) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements())
+                            .stream()
+                            .anyMatch(c -> c.getModifiers().contains(Modifier.PUBLIC) && c.getParameters().isEmpty());
+    }
+
+    /**
+     * The signature of a method as a member of the given class, with the type arguments of its superclasses applied.
+     */
+    protected ExecutableType memberType(TypeElement owner, ExecutableElement method) {
+        return (ExecutableType) types.asMemberOf((DeclaredType) owner.asType(), method);
+    }
+
+    protected boolean isIgnored(ExecutableElement method) {
+        return AnnotationMirrors.find(method, DynamoDbIgnore.class).isPresent()
+               || AnnotationMirrors.find(method, TRANSIENT).isPresent();
+    }
+
+    protected boolean isDeclaredByObject(ExecutableElement method) {
+        TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+        return declaringType.getQualifiedName().contentEquals(Object.class.getName());
+    }
+
+    /**
+     * The attribute converter providers named by the {@code converterProviders} member of {@code @DynamoDbBean} or
+     * {@code @DynamoDbImmutable}.
+     */
+    protected List<TypeMirror> converterProviders(TypeElement itemType, AnnotationMirror itemAnnotation) {
+        List<TypeMirror> converterProviders = new ArrayList<>();
+        for (AnnotationValue value : arrayValue(elements, itemAnnotation, "converterProviders")) {
+            TypeMirror converterProvider = (TypeMirror) value.getValue();
+            validateInstantiable(converterProvider, itemType, "attribute converter provider");
+            converterProviders.add(converterProvider);
+        }
+        return converterProviders;
+    }
+
+    protected PropertyModel property(TypeElement itemType, String propertyName, ExecutableElement getter,
+                                     ExecutableElement setter, TypeMirror type) {
+        for (String annotation : UNSUPPORTED_PROPERTY_ANNOTATIONS) {
+            if (AnnotationMirrors.find(getter, annotation).isPresent()
+                || AnnotationMirrors.find(setter, annotation).isPresent()) {
+                throw new UnsupportedItemException("property '" + propertyName + "' is annotated with @"
+                                                   + simpleName(annotation));
+            }
+        }
+
+        validateAttributeType(type, itemType, propertyName);
+
+        String attributeName = AnnotationMirrors.findOnProperty(getter, setter, DynamoDbAttribute.class)
+                                                .map(a -> (String) value(elements, a, "value").getValue())
+                                                .orElse(propertyName);
+
+        TypeMirror attributeConverter =
+            AnnotationMirrors.findOnProperty(getter, setter, DynamoDbConvertedBy.class)
+                             .map(a -> (TypeMirror) value(elements, a, "value").getValue())
+                             .orElse(null);
+        if (attributeConverter != null) {
+            validateInstantiable(attributeConverter, itemType, "attribute converter");
+        }
+
+        List<CodeBlock> tags = new ArrayList<>();
+        for (AnnotationMirror annotation : AnnotationMirrors.propertyAnnotations(getter, setter)) {
+            tag(annotation, propertyName).ifPresent(tags::add);
+        }
+
+        return PropertyModel.builder()
+                            .attributeName(attributeName)
+                            .type(type)
+                            .getter(getter)
+                            .setter(setter)
+                            .attributeConverter(attributeConverter)
+                            .tags(tags)
+                            .build();
+    }
+
+    /**
+     * Attribute types must be expressible in source, and must not be annotated classes themselves: the schemas of nested
+     * annotated classes are resolved at runtime, where recursive references between them can be handled.
+     */
+    private void validateAttributeType(TypeMirror type, TypeElement itemType, String propertyName) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return;
+            case ARRAY:
+                TypeMirror componentType = ((ArrayType) type).getComponentType();
+                if (componentType.getKind() == TypeKind.DECLARED
+                    && !((DeclaredType) componentType).getTypeArguments().isEmpty()) {
+                    throw new UnsupportedItemException("property '" + propertyName + "' is a generic array");
+                }
+                validateAttributeType(componentType, itemType, propertyName);
+                return;
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                TypeElement typeElement = (TypeElement) declaredType.asElement();
+                if (AnnotationMirrors.find(typeElement, DynamoDbBean.class).isPresent()
+                    || AnnotationMirrors.find(typeElement, DynamoDbImmutable.class).isPresent()) {
+                    throw new UnsupportedItemException("property '" + propertyName + "' contains the annotated class "
+                                                       + typeElement.getQualifiedName());
+                }
+                if (!isAccessible(typeElement, itemType)) {
+                    throw new UnsupportedItemException("the type of property '" + propertyName + "' is not accessible");
+                }
+                for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+                    validateAttributeType(typeArgument, itemType, propertyName);
+                }
+                return;
+            default:
+                throw new UnsupportedItemException("property '" + propertyName + "' has type " + type
+                                                   + ", which is not a concrete type");
+        }
+    }
+
+    private void validateInstantiable(TypeMirror type, TypeElement itemType, String description) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedItemException("the " + description + " " + type + " is not a class");
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (typeElement.getKind() != ElementKind.CLASS
+            || typeElement.getModifiers().contains(Modifier.ABSTRACT)
+            || !typeElement.getTypeParameters().isEmpty()
+            || (typeElement.getNestingKind().isNested() && !typeElement.getModifiers().contains(Modifier.STATIC))
+            || !isAccessible(typeElement, itemType)
+            || !hasPublicNoArgConstructor(typeElement)) {
+            throw new UnsupportedItemException("the " + description + " " + type
+                                               + " cannot be created with a public no-argument constructor");
+        }
+    }
+
+    /**
+     * The expression that creates the attribute tag for an annotation that is meta-annotated with
+     * {@link BeanTableSchemaAttributeTag}, matching {@code BeanTableSchemaAttributeTags}.
+     */
+    private Optional<CodeBlock> tag(AnnotationMirror annotation, String propertyName) {
+        String annotationName = AnnotationMirrors.qualifiedName(annotation);
+
+        if (annotationName.equals(DynamoDbPartitionKey.class.getCanonicalName())) {
+            return Optional.of(CodeBlock.of("$T.primaryPartitionKey()", STATIC_ATTRIBUTE_TAGS));
+        }
+        if (annotationName.equals(DynamoDbSortKey.class.getCanonicalName())) {
+            return Optional.of(CodeBlock.of("$T.primarySortKey()", STATIC_ATTRIBUTE_TAGS));
+        }
+        if (annotationName.equals(DynamoDbSecondaryPartitionKey.class.getCanonicalName())) {
+            return Optional.of(secondaryKeyTag("secondaryPartitionKey", annotation));
+        }
+        if (annotationName.equals(DynamoDbSecondarySortKey.class.getCanonicalName())) {
+            return Optional.of(secondaryKeyTag("secondarySortKey", annotation));
+        }
+        if (annotationName.equals(DynamoDbUpdateBehavior.class.getCanonicalName())) {
+            return Optional.of(CodeBlock.of("$T.updateBehavior($T.$L)", STATIC_ATTRIBUTE_TAGS, UpdateBehavior.class,
+                                            enumConstant(annotation, "value")));
+        }
+        if (annotationName.equals(DynamoDbAtomicCounter.class.getCanonicalName())) {
+            return Optional.of(CodeBlock.of("$T.atomicCounter($LL, $LL)", STATIC_ATTRIBUTE_TAGS,
+                                            value(elements, annotation, "delta").getValue(),
+                                            value(elements, annotation, "startValue").getValue()));
+        }
+
+        if (AnnotationMirrors.find(AnnotationMirrors.annotationElement(annotation), BeanTableSchemaAttributeTag.class)
+                             .isPresent()) {
+            throw new UnsupportedItemException("property '" + propertyName + "' is annotated with @"
+                                               + simpleName(annotationName) + ", whose attribute tag is created at runtime");
+        }
+        return Optional.empty();
+    }
+
+    private CodeBlock secondaryKeyTag(String tagMethod, AnnotationMirror annotation) {
+        CodeBlock indexNames = arrayValue(elements, annotation, "indexNames")
+            .stream()
+            .map(v -> CodeBlock.of("$S", v.getValue()))
+            .collect(CodeBlock.joining(", "));
+
+        return CodeBlock.of("$T.$L($T.asList($L), $T.$L)", STATIC_ATTRIBUTE_TAGS, tagMethod, Arrays.class, indexNames,
+                            Order.class, enumConstant(annotation, "order"));
+    }
+
+    private String enumConstant(AnnotationMirror annotation, String memberName) {
+        return ((VariableElement) value(elements, annotation, memberName).getValue()).getSimpleName().toString();
+    }
+
+    /**
+     * Whether a type can be referenced from the package of the annotated class, where the table schema is generated.
+     */
+    protected boolean isAccessible(TypeElement type, TypeElement itemType) {
+        PackageElement fromPackage = packageOf(itemType);
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!element.getModifiers().contains(Modifier.PUBLIC) && !packageOf(element).equals(fromPackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private PackageElement packageOf(Element element) {
+        return elements.getPackageOf(element);
+    }
+
+    private static String simpleName(String qualifiedName) {
+        return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.List;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An annotated class for which a table schema is generated.
+ */
+@SdkInternalApi
+public final class ItemModel {
+    private final TypeElement itemType;
+    private final TypeElement builderType;
+    private final boolean hasStaticBuilderMethod;
+    private final boolean staticBuilderMethodReturnsBuilder;
+    private final List<TypeMirror> converterProviders;
+    private final List<PropertyModel> properties;
+
+    private ItemModel(Builder builder) {
+        this.itemType = Validate.paramNotNull(builder.itemType, "itemType");
+        this.builderType = builder.builderType;
+        this.hasStaticBuilderMethod = builder.hasStaticBuilderMethod;
+        this.staticBuilderMethodReturnsBuilder = builder.staticBuilderMethodReturnsBuilder;
+        this.converterProviders = Validate.paramNotNull(builder.converterProviders, "converterProviders");
+        this.properties = Validate.paramNotNull(builder.properties, "properties");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public TypeElement itemType() {
+        return itemType;
+    }
+
+    /**
+     * Whether the class is a {@code @DynamoDbImmutable} class, which is built with {@link #builderType()}.
+     */
+    public boolean isImmutable() {
+        return builderType != null;
+    }
+
+    public TypeElement builderType() {
+        return builderType;
+    }
+
+    /**
+     * Whether the immutable class has a static {@code builder()} method that is used to create its builder, instead of the
+     * no-argument constructor of the builder.
+     */
+    public boolean hasStaticBuilderMethod() {
+        return hasStaticBuilderMethod;
+    }
+
+    /**
+     * Whether the static {@code builder()} method returns exactly {@link #builderType()}, rather than one of its supertypes.
+     */
+    public boolean staticBuilderMethodReturnsBuilder() {
+        return staticBuilderMethodReturnsBuilder;
+    }
+
+    public List<TypeMirror> converterProviders() {
+        return converterProviders;
+    }
+
+    public List<PropertyModel> properties() {
+        return properties;
+    }
+
+    public static final class Builder {
+        private TypeElement itemType;
+        private TypeElement builderType;
+        private boolean hasStaticBuilderMethod;
+        private boolean staticBuilderMethodReturnsBuilder;
+        private List<TypeMirror> converterProviders;
+        private List<PropertyModel> properties;
+
+        private Builder() {
+        }
+
+        public Builder itemType(TypeElement itemType) {
+            this.itemType = itemType;
+            return this;
+        }
+
+        public Builder builderType(TypeElement builderType) {
+            this.builderType = builderType;
+            return this;
+        }
+
+        public Builder hasStaticBuilderMethod(boolean hasStaticBuilderMethod) {
+            this.hasStaticBuilderMethod = hasStaticBuilderMethod;
+            return this;
+        }
+
+        public Builder staticBuilderMethodReturnsBuilder(boolean staticBuilderMethodReturnsBuilder) {
+            this.staticBuilderMethodReturnsBuilder = staticBuilderMethodReturnsBuilder;
+            return this;
+        }
+
+        public Builder converterProviders(List<TypeMirror> converterProviders) {
+            this.converterProviders = converterProviders;
+            return this;
+        }
+
+        public Builder properties(List<PropertyModel> properties) {
+            this.properties = properties;
+            return this;
+        }
+
+        public ItemModel build() {
+            return new ItemModel(this);
+        }
+    }
+}
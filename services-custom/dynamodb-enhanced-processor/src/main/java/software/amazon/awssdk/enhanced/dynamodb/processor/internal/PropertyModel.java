@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import com.squareup.javapoet.CodeBlock;
+import java.util.List;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A property of an annotated class that is mapped to an attribute, together with the accessors used to read and write it.
+ */
+@SdkInternalApi
+public final class PropertyModel {
+    private final String attributeName;
+    private final TypeMirror type;
+    private final ExecutableElement getter;
+    private final ExecutableElement setter;
+    private final TypeMirror attributeConverter;
+    private final List<CodeBlock> tags;
+
+    private PropertyModel(Builder builder) {
+        this.attributeName = Validate.paramNotNull(builder.attributeName, "attributeName");
+        this.type = Validate.paramNotNull(builder.type, "type");
+        this.getter = Validate.paramNotNull(builder.getter, "getter");
+        this.setter = Validate.paramNotNull(builder.setter, "setter");
+        this.attributeConverter = builder.attributeConverter;
+        this.tags = Validate.paramNotNull(builder.tags, "tags");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String attributeName() {
+        return attributeName;
+    }
+
+    public TypeMirror type() {
+        return type;
+    }
+
+    public ExecutableElement getter() {
+        return getter;
+    }
+
+    public ExecutableElement setter() {
+        return setter;
+    }
+
+    /**
+     * The attribute converter named by {@code @DynamoDbConvertedBy}, or null if the attribute uses the converter providers
+     * of the class.
+     */
+    public TypeMirror attributeConverter() {
+        return attributeConverter;
+    }
+
+    /**
+     * The expressions that create the tags of the attribute.
+     */
+    public List<CodeBlock> tags() {
+        return tags;
+    }
+
+    public static final class Builder {
+        private String attributeName;
+        private TypeMirror type;
+        private ExecutableElement getter;
+        private ExecutableElement setter;
+        private TypeMirror attributeConverter;
+        private List<CodeBlock> tags;
+
+        private Builder() {
+        }
+
+        public Builder attributeName(String attributeName) {
+            this.attributeName = attributeName;
+            return this;
+        }
+
+        public Builder type(TypeMirror type) {
+            this.type = type;
+            return this;
+        }
+
+        public Builder getter(ExecutableElement getter) {
+            this.getter = getter;
+            return this;
+        }
+
+        public Builder setter(ExecutableElement setter) {
+            this.setter = setter;
+            return this;
+        }
+
+        public Builder attributeConverter(TypeMirror attributeConverter) {
+            this.attributeConverter = attributeConverter;
+            return this;
+        }
+
+        public Builder tags(List<CodeBlock> tags) {
+            this.tags = tags;
+            return this;
+        }
+
+        public PropertyModel build() {
+            return new PropertyModel(this);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.function.Supplier;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.DefaultAttributeConverterProvider;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Writes the class that supplies the static table schema of an annotated class.
+ * <p>
+ * The class generated for {@code com.example.Outer.Customer} is {@code com.example.DynamoDbTableSchema_Outer__Customer},
+ * which is where {@code TableSchema.fromClass} looks for it at runtime. The binary name of the class is mangled the same way
+ * as at runtime: the {@code $} that separates nested class names is written as {@code __}, and an {@code _} as {@code _1},
+ * so that distinct classes never map to the same generated class.
+ */
+@SdkInternalApi
+public final class TableSchemaWriter {
+    private static final String CLASS_NAME_PREFIX = "DynamoDbTableSchema_";
+
+    private static final AnnotationSpec GENERATED =
+        AnnotationSpec.builder(Generated.class)
+                      .addMember("value", "$S", "software.amazon.awssdk:dynamodb-enhanced-processor")
+                      .build();
+
+    private static final ClassName DEFAULT_ATTRIBUTE_CONVERTER_PROVIDER = ClassName.get(DefaultAttributeConverterProvider.class);
+
+    private final ItemModel model;
+    private final ClassName itemClassName;
+
+    public TableSchemaWriter(ItemModel model) {
+        this.model = model;
+        this.itemClassName = ClassName.get(model.itemType());
+    }
+
+    public static ClassName generatedClassName(TypeElement itemType) {
+        ClassName itemClassName = ClassName.get(itemType);
+        return ClassName.get(itemClassName.packageName(),
+                             CLASS_NAME_PREFIX + mangle(String.join("$", itemClassName.simpleNames())));
+    }
+
+    private static String mangle(String binarySimpleName) {
+        StringBuilder mangled = new StringBuilder(binarySimpleName.length() + 8);
+        for (int i = 0; i < binarySimpleName.length(); i++) {
+            char c = binarySimpleName.charAt(i);
+            if (c == '$') {
+                mangled.append("__");
+            } else if (c == '_') {
+                mangled.append("_1");
+            } else {
+                mangled.append(c);
+            }
+        }
+        return mangled.toString();
+    }
+
+    public JavaFile javaFile() {
+        TypeName tableSchemaType = ParameterizedTypeName.get(ClassName.get(TableSchema.class), itemClassName);
+
+        MethodSpec get = MethodSpec.methodBuilder("get")
+                                   .addAnnotation(Override.class)
+                                   .addModifiers(Modifier.PUBLIC)
+                                   .returns(tableSchemaType)
+                                   .addCode(tableSchema())
+                                   .build();
+
+        TypeSpec type = TypeSpec.classBuilder(generatedClassName(model.itemType()))
+                                .addAnnotation(GENERATED)
+                                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(Supplier.class), tableSchemaType))
+                                .addOriginatingElement(model.itemType())
+                                .addMethod(get)
+                                .build();
+
+        return JavaFile.builder(itemClassName.packageName(), type)
+                       .skipJavaLangImports(true)
+                       .build();
+    }
+
+    private CodeBlock tableSchema() {
+        CodeBlock.Builder code = CodeBlock.builder();
+
+        if (model.isImmutable()) {
+            ClassName builderClassName = ClassName.get(model.builderType());
+            code.add("return $T.builder($T.class, $T.class)\n", StaticImmutableTableSchema.class, itemClassName,
+                     builderClassName)
+                .indent()
+                .add(".newItemBuilder($L, $T::build)\n", newBuilder(builderClassName), builderClassName);
+        } else {
+            code.add("return $T.builder($T.class)\n", StaticTableSchema.class, itemClassName)
+                .indent()
+                .add(".newItemSupplier($T::new)\n", itemClassName);
+        }
+
+        code.add(".attributeConverterProviders($L)\n",
+                 model.converterProviders().stream().map(this::newInstance).collect(CodeBlock.joining(", ")));
+
+        ClassName setterOwner = model.isImmutable() ? ClassName.get(model.builderType()) : itemClassName;
+        for (PropertyModel property : model.properties()) {
+            code.add(".addAttribute($L, a -> a.name($S)\n", attributeType(property.type()), property.attributeName())
+                .indent()
+                .indent()
+                .add(".getter($T::$N)\n", itemClassName, property.getter().getSimpleName().toString())
+                .add(".setter($T::$N)", setterOwner, property.setter().getSimpleName().toString());
+
+            if (property.attributeConverter() != null) {
+                code.add("\n.attributeConverter($L)", newInstance(property.attributeConverter()));
+            }
+            if (!property.tags().isEmpty()) {
+                code.add("\n.tags($L)", CodeBlock.join(property.tags(), ", "));
+            }
+
+            code.add(")\n")
+                .unindent()
+                .unindent();
+        }
+
+        return code.add(".build();\n")
+                   .unindent()
+                   .build();
+    }
+
+    private CodeBlock newBuilder(ClassName builderClassName) {
+        if (!model.hasStaticBuilderMethod()) {
+            return CodeBlock.of("$T::new", builderClassName);
+        }
+        if (model.staticBuilderMethodReturnsBuilder()) {
+            return CodeBlock.of("$T::builder", itemClassName);
+        }
+        return CodeBlock.of("() -> ($T) $T.builder()", builderClassName, itemClassName);
+    }
+
+    private CodeBlock newInstance(TypeMirror type) {
+        TypeName typeName = TypeName.get(type);
+        if (typeName.equals(DEFAULT_ATTRIBUTE_CONVERTER_PROVIDER)) {
+            return CodeBlock.of("$T.create()", DEFAULT_ATTRIBUTE_CONVERTER_PROVIDER);
+        }
+        return CodeBlock.of("new $T()", typeName);
+    }
+
+    /**
+     * Class literals describe primitive, array and non-parameterized attribute types, like the {@link EnhancedType}s the
+     * runtime table schemas derive from the getters. Parameterized types are captured by an {@link EnhancedType} subclass.
+     */
+    private CodeBlock attributeType(TypeMirror type) {
+        boolean isParameterized = type.getKind() == TypeKind.DECLARED
+                                  && !((DeclaredType) type).getTypeArguments().isEmpty();
+        if (!isParameterized) {
+            return CodeBlock.of("$T.class", TypeName.get(type));
+        }
+
+        TypeSpec enhancedType = TypeSpec.anonymousClassBuilder("")
+                                        .superclass(ParameterizedTypeName.get(ClassName.get(EnhancedType.class),
+                                                                              TypeName.get(type)))
+                                        .build();
+        return CodeBlock.of("$L", enhancedType);
+    }
+}
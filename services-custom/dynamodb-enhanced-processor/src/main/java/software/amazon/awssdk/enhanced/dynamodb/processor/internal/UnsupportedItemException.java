@@ -0,0 +1,31 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Thrown when an annotated class uses a feature that is only supported by introspecting the class at runtime. No table
+ * schema is generated for such classes.
+ */
+@SdkInternalApi
+public final class UnsupportedItemException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public UnsupportedItemException(String message) {
+        super(message);
+    }
+}
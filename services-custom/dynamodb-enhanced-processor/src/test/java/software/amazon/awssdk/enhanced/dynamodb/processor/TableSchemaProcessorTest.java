@@ -0,0 +1,206 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchemaParams;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchemaParams;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+public class TableSchemaProcessorTest {
+    private static final List<String> FIXTURES =
+        Arrays.asList("BeanItem", "ImmutableItem", "FlattenedItem", "DocumentItem", "NestedItem", "LookupFactory");
+
+    @TempDir
+    static Path tempDir;
+
+    private static List<Diagnostic<? extends JavaFileObject>> diagnostics;
+    private static boolean compiled;
+    private static Path generatedSources;
+    private static ClassLoader classLoader;
+    private static MethodHandles.Lookup fixturesLookup;
+
+    @BeforeAll
+    public static void compileFixtures() throws Exception {
+        Path sources = Files.createDirectories(tempDir.resolve("sources/fixtures"));
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        generatedSources = Files.createDirectories(tempDir.resolve("generated-sources"));
+
+        List<File> sourceFiles = new ArrayList<>();
+        for (String fixture : FIXTURES) {
+            Path sourceFile = sources.resolve(fixture + ".java");
+            try (InputStream source = TableSchemaProcessorTest.class.getResourceAsStream("fixtures/" + fixture + ".java")) {
+                Files.copy(source, sourceFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            sourceFiles.add(sourceFile.toFile());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnosticCollector = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnosticCollector, null, UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(classes.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(generatedSources.toFile()));
+
+            List<String> options =
+                Arrays.asList("-classpath", System.getProperty("java.class.path"), "-Xlint:unchecked,rawtypes");
+            JavaCompiler.CompilationTask task =
+                compiler.getTask(null, fileManager, diagnosticCollector, options, null,
+                                 fileManager.getJavaFileObjectsFromFiles(sourceFiles));
+            task.setProcessors(Collections.singletonList(new TableSchemaProcessor()));
+            compiled = task.call();
+        }
+
+        diagnostics = diagnosticCollector.getDiagnostics();
+        classLoader = new URLClassLoader(new URL[] {classes.toUri().toURL()}, TableSchemaProcessorTest.class.getClassLoader());
+
+        // The table schemas that introspect the fixtures need a lookup from the class loader of the fixtures
+        Class<Object> lookupFactory = fixtureClass("LookupFactory");
+        fixturesLookup = (MethodHandles.Lookup) lookupFactory.getMethod("getLookup")
+                                                             .invoke(lookupFactory.getConstructor().newInstance());
+    }
+
+    @Test
+    public void fixtures_compileWithoutWarnings() {
+        assertThat(compiled).isTrue();
+        assertThat(diagnostics).filteredOn(d -> d.getKind() != Diagnostic.Kind.NOTE).isEmpty();
+    }
+
+    @Test
+    public void beanClass_generatesStaticTableSchema() throws Exception {
+        assertThat(generatedSources.resolve("fixtures/DynamoDbTableSchema_BeanItem.java")).exists();
+
+        Class<Object> beanClass = fixtureClass("BeanItem");
+        assertThat(TableSchema.fromClass(beanClass)).isInstanceOf(StaticTableSchema.class);
+    }
+
+    @Test
+    public void beanClass_generatedSchemaMatchesIntrospectedSchema() throws Exception {
+        Class<Object> beanClass = fixtureClass("BeanItem");
+        TableSchema<Object> generated = TableSchema.fromClass(beanClass);
+        TableSchema<Object> introspected =
+            TableSchema.fromBean(BeanTableSchemaParams.builder(beanClass).lookup(fixturesLookup).build());
+
+        assertThat(generated.attributeNames())
+            .containsExactlyInAnyOrder("id", "version", "active", "customer_name", "region", "tags", "counts")
+            .containsExactlyInAnyOrderElementsOf(introspected.attributeNames());
+        assertThat(generated.tableMetadata().primaryKeys())
+            .containsExactlyInAnyOrderElementsOf(introspected.tableMetadata().primaryKeys());
+        assertThat(generated.tableMetadata().indexKeys("by-region"))
+            .containsExactlyInAnyOrderElementsOf(introspected.tableMetadata().indexKeys("by-region"));
+        assertThat(generated.tableMetadata().indexKeys("by-region-and-name"))
+            .containsExactlyInAnyOrderElementsOf(introspected.tableMetadata().indexKeys("by-region-and-name"));
+        assertThat(generated.tableMetadata().customMetadata())
+            .isEqualTo(introspected.tableMetadata().customMetadata());
+
+        Object item = beanClass.getConstructor().newInstance();
+        invoke(item, "setId", String.class, "id-1");
+        invoke(item, "setVersion", int.class, 3);
+        invoke(item, "setActive", boolean.class, true);
+        invoke(item, "setCustomerName", String.class, "name");
+        invoke(item, "setTags", List.class, Arrays.asList("a", "b"));
+        invoke(item, "setCounts", Map.class, Collections.singletonMap("a", 1));
+
+        assertThat(generated.itemToMap(item, false)).isEqualTo(introspected.itemToMap(item, false));
+        assertThat(generated.itemToMap(generated.mapToItem(introspected.itemToMap(item, false)), false))
+            .isEqualTo(introspected.itemToMap(item, false));
+    }
+
+    @Test
+    public void immutableClass_generatedSchemaMatchesIntrospectedSchema() throws Exception {
+        Class<Object> immutableClass = fixtureClass("ImmutableItem");
+        TableSchema<Object> generated = TableSchema.fromClass(immutableClass);
+        TableSchema<Object> introspected =
+            TableSchema.fromImmutableClass(ImmutableTableSchemaParams.builder(immutableClass).lookup(fixturesLookup).build());
+
+        assertThat(generated).isInstanceOf(StaticImmutableTableSchema.class);
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrder("id", "count");
+        assertThat(generated.tableMetadata().primaryPartitionKey()).isEqualTo("id");
+
+        Object builder = immutableClass.getMethod("builder").invoke(null);
+        invoke(builder, "id", String.class, "id-1");
+        invoke(builder, "setCount", long.class, 5L);
+        Object item = builder.getClass().getMethod("build").invoke(builder);
+
+        assertThat(generated.itemToMap(item, false)).isEqualTo(introspected.itemToMap(item, false));
+        assertThat(generated.itemToMap(generated.mapToItem(introspected.itemToMap(item, false)), false))
+            .isEqualTo(introspected.itemToMap(item, false));
+    }
+
+    @Test
+    public void flattenedProperty_introspectedAtRuntime() throws Exception {
+        assertThat(generatedSources.resolve("fixtures/DynamoDbTableSchema_FlattenedItem.java")).doesNotExist();
+        assertThat(notes()).anyMatch(n -> n.contains("fixtures.FlattenedItem") && n.contains("@DynamoDbFlatten"));
+        assertThatThrownBy(() -> fixtureClass("DynamoDbTableSchema_FlattenedItem"))
+            .isInstanceOf(ClassNotFoundException.class);
+    }
+
+    @Test
+    public void annotatedAttributeType_introspectedAtRuntime() throws Exception {
+        assertThat(generatedSources.resolve("fixtures/DynamoDbTableSchema_DocumentItem.java")).doesNotExist();
+        assertThat(notes()).anyMatch(n -> n.contains("fixtures.DocumentItem") && n.contains("fixtures.NestedItem"));
+        assertThatThrownBy(() -> fixtureClass("DynamoDbTableSchema_DocumentItem"))
+            .isInstanceOf(ClassNotFoundException.class);
+
+        assertThat(TableSchema.fromClass(fixtureClass("NestedItem"))).isInstanceOf(StaticTableSchema.class);
+    }
+
+    private static List<String> notes() {
+        return diagnostics.stream()
+                          .filter(d -> d.getKind() == Diagnostic.Kind.NOTE)
+                          .map(d -> d.getMessage(null))
+                          .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Object> fixtureClass(String name) throws ClassNotFoundException {
+        return (Class<Object>) Class.forName("fixtures." + name, true, classLoader);
+    }
+
+    private static void invoke(Object target, String methodName, Class<?> parameterType, Object argument) throws Exception {
+        Method method = target.getClass().getMethod(methodName, parameterType);
+        method.invoke(target, argument);
+    }
+}
@@ -0,0 +1,28 @@
+package fixtures;
+
+import java.util.List;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+@DynamoDbBean
+public class DocumentItem {
+    private String id;
+    private List<NestedItem> nested;
+
+    @DynamoDbPartitionKey
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public List<NestedItem> getNested() {
+        return nested;
+    }
+
+    public void setNested(List<NestedItem> nested) {
+        this.nested = nested;
+    }
+}
@@ -0,0 +1,29 @@
+package fixtures;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbFlatten;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+@DynamoDbBean
+public class FlattenedItem {
+    private String id;
+    private NestedItem nested;
+
+    @DynamoDbPartitionKey
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @DynamoDbFlatten
+    public NestedItem getNested() {
+        return nested;
+    }
+
+    public void setNested(NestedItem nested) {
+        this.nested = nested;
+    }
+}
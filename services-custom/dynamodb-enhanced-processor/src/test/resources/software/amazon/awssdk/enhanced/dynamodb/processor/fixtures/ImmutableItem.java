@@ -0,0 +1,50 @@
+package fixtures;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+@DynamoDbImmutable(builder = ImmutableItem.Builder.class)
+public final class ImmutableItem {
+    private final String id;
+    private final long count;
+
+    private ImmutableItem(Builder builder) {
+        this.id = builder.id;
+        this.count = builder.count;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @DynamoDbPartitionKey
+    public String id() {
+        return id;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public static final class Builder {
+        private String id;
+        private long count;
+
+        private Builder() {
+        }
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder setCount(long count) {
+            this.count = count;
+            return this;
+        }
+
+        public ImmutableItem build() {
+            return new ImmutableItem(this);
+        }
+    }
+}
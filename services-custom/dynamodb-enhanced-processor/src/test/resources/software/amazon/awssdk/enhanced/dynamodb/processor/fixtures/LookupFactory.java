@@ -0,0 +1,9 @@
+package fixtures;
+
+import java.lang.invoke.MethodHandles;
+
+public class LookupFactory {
+    public MethodHandles.Lookup getLookup() {
+        return MethodHandles.lookup();
+    }
+}
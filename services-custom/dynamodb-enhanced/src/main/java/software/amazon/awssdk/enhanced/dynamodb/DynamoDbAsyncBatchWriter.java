@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterMetrics;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A long-lived writer that puts and deletes items through the low-level DynamoDB API BatchWriteItem operation, created by
+ * {@link DynamoDbEnhancedAsyncClient#batchWriter(BatchWriterConfiguration)}.
+ * <p>
+ * Writes are grouped per table into requests of up to 25 items and 16 MB, several requests are kept in flight and items that
+ * DynamoDB returns as unprocessed are re-submitted with an exponential backoff, see {@link BatchWriterConfiguration}. The
+ * writer never blocks: requests that cannot be sent yet wait in memory, so a producer that writes faster than DynamoDB
+ * accepts should limit the number of incomplete futures it holds.
+ * <p>
+ * Writes to the same primary key are not guaranteed to be applied in the order they were submitted. As with
+ * {@link DynamoDbEnhancedAsyncClient#batchWriteItem(java.util.function.Consumer)}, items cannot be written conditionally.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * DynamoDbAsyncBatchWriter writer = enhancedAsyncClient.batchWriter();
+ * customers.forEach(customer -> writer.putItem(customerTable, customer));
+ * writer.flush().thenRun(writer::close).join();
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface DynamoDbAsyncBatchWriter extends SdkAutoCloseable {
+
+    /**
+     * Submit a put of the given item to the given table.
+     *
+     * @param mappedTable the table to put the item in
+     * @param item the item to put
+     * @param <T> the type of the modelled item
+     * @return a future that completes when DynamoDB has processed the put, or completes exceptionally if the put failed or
+     * the writer has been closed
+     */
+    <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item);
+
+    /**
+     * Submit a delete of the item with the given primary key from the given table.
+     *
+     * @param mappedTable the table to delete the item from
+     * @param key the primary key of the item to delete
+     * @return a future that completes when DynamoDB has processed the delete, or completes exceptionally if the delete failed
+     * or the writer has been closed
+     */
+    CompletableFuture<Void> deleteItem(MappedTableResource<?> mappedTable, Key key);
+
+    /**
+     * Send all buffered writes.
+     *
+     * @return a future that completes when every write submitted so far has either been processed or failed. The failures
+     * are reported through the futures of the individual writes.
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * A snapshot of the progress of this writer.
+     */
+    BatchWriterMetrics metrics();
+
+    /**
+     * Stop accepting writes and send all buffered writes. This method does not wait for the writes to be processed; call
+     * {@link #flush()} first to do so. The resources of the writer are released once all writes are processed.
+     */
+    @Override
+    void close();
+}
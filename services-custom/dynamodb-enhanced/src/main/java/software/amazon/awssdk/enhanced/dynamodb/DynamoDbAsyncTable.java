@@ -27,6 +27,8 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -785,6 +787,56 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table in parallel segments and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and up to
+     * {@link ParallelScanEnhancedRequest#parallelism()} of them are scanned at the same time. The pages of all segments are
+     * merged into the returned publisher in the order they are retrieved. Pages of the same segment are published in order,
+     * and each page reports its segment in {@link Page#segment()}. The next page of a segment is only retrieved once its
+     * previous page has been delivered to the subscriber.
+     * <p>
+     * The scan can be throttled with {@link ParallelScanEnhancedRequest#maxConsumedCapacityPerSecond()}, and it can be resumed
+     * from a {@link ParallelScanCheckpoint} that has been advanced with each processed page.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(16).parallelism(4));
+     * publisher.items().subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan them.
+     * @return a publisher {@link PagePublisher} of the pages of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table in parallel segments and retrieves all items.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(16));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and how
+     * to scan them.
+     * @return a publisher {@link PagePublisher} of the pages of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
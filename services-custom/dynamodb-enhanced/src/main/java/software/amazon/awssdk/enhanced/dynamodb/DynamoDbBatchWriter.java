@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterMetrics;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A long-lived writer that puts and deletes items through the low-level DynamoDB API BatchWriteItem operation, created by
+ * {@link DynamoDbEnhancedClient#batchWriter(BatchWriterConfiguration)}.
+ * <p>
+ * Writes are grouped per table into requests of up to 25 items and 16 MB, several requests are kept in flight and items that
+ * DynamoDB returns as unprocessed are re-submitted with an exponential backoff, see {@link BatchWriterConfiguration}. When as
+ * many requests are waiting to be sent as may be in flight, {@link #putItem} and {@link #deleteItem} block until one of them
+ * is sent.
+ * <p>
+ * Writes to the same primary key are not guaranteed to be applied in the order they were submitted. As with
+ * {@link DynamoDbEnhancedClient#batchWriteItem(java.util.function.Consumer)}, items cannot be written conditionally.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * try (DynamoDbBatchWriter writer = enhancedClient.batchWriter()) {
+ *     customers.forEach(customer -> writer.putItem(customerTable, customer));
+ *     writer.deleteItem(orderTable, Key.builder().partitionValue("order-1").build());
+ * }
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface DynamoDbBatchWriter extends SdkAutoCloseable {
+
+    /**
+     * Submit a put of the given item to the given table.
+     *
+     * @param mappedTable the table to put the item in
+     * @param item the item to put
+     * @param <T> the type of the modelled item
+     * @throws IllegalStateException if the writer has been closed
+     */
+    <T> void putItem(MappedTableResource<T> mappedTable, T item);
+
+    /**
+     * Submit a delete of the item with the given primary key from the given table.
+     *
+     * @param mappedTable the table to delete the item from
+     * @param key the primary key of the item to delete
+     * @throws IllegalStateException if the writer has been closed
+     */
+    void deleteItem(MappedTableResource<?> mappedTable, Key key);
+
+    /**
+     * Send all buffered writes and wait until every write submitted so far has been processed.
+     *
+     * @throws software.amazon.awssdk.core.exception.SdkClientException if any write submitted since the previous flush failed,
+     * with the first failure as its cause
+     */
+    void flush();
+
+    /**
+     * A snapshot of the progress of this writer.
+     */
+    BatchWriterMetrics metrics();
+
+    /**
+     * Flush this writer and release its resources. Writes cannot be submitted after the writer is closed.
+     *
+     * @throws software.amazon.awssdk.core.exception.SdkClientException if any write submitted since the previous flush failed
+     */
+    @Override
+    void close();
+}
@@ -28,6 +28,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
@@ -269,6 +270,47 @@ public interface DynamoDbEnhancedClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Creates a long-lived writer that groups individual puts and deletes into BatchWriteItem requests, keeps several of them
+     * in flight and re-submits any unprocessed items with an exponential backoff. Unlike
+     * {@link #batchWriteItem(BatchWriteItemEnhancedRequest)}, the writer accepts any number of writes to any number of
+     * tables; see {@link DynamoDbBatchWriter} for its flush and close semantics.
+     * <p>
+     * The writer must be closed when it is no longer needed.
+     *
+     * @param configuration a {@link BatchWriterConfiguration} that controls batching, concurrency and retries.
+     * @return a new {@link DynamoDbBatchWriter}.
+     */
+    default DynamoDbBatchWriter batchWriter(BatchWriterConfiguration configuration) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a long-lived batch writer.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the configuration builder avoiding the need to
+     * create one manually via {@link BatchWriterConfiguration#builder()}.
+     *
+     * @param configuration a {@link Consumer} of {@link BatchWriterConfiguration.Builder}.
+     * @return a new {@link DynamoDbBatchWriter}.
+     * @see #batchWriter(BatchWriterConfiguration)
+     */
+    default DynamoDbBatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configuration) {
+        BatchWriterConfiguration.Builder builder = BatchWriterConfiguration.builder();
+        configuration.accept(builder);
+        return batchWriter(builder.build());
+    }
+
+    /**
+     * Creates a long-lived batch writer with the default {@link BatchWriterConfiguration}.
+     *
+     * @return a new {@link DynamoDbBatchWriter}.
+     * @see #batchWriter(BatchWriterConfiguration)
+     */
+    default DynamoDbBatchWriter batchWriter() {
+        return batchWriter(BatchWriterConfiguration.create());
+    }
+
     /**
      * Retrieves multiple items from one or more tables in a single atomic transaction. TransactGetItem is a composite operation
      * where the request contains a set of get requests, each containing a table reference and a {@link GetItemEnhancedRequest}.
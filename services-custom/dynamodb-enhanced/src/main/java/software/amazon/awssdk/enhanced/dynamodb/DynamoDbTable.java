@@ -16,6 +16,7 @@
 package software.amazon.awssdk.enhanced.dynamodb;
 
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
@@ -27,6 +28,8 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -766,6 +769,64 @@ public interface DynamoDbTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table in parallel segments and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and up to
+     * {@link ParallelScanEnhancedRequest#parallelism()} of them are scanned at the same time by a pool of worker threads.
+     * The pages of all segments are merged into the returned stream in the order they are retrieved. Pages of the same
+     * segment are returned in order, and each page reports its segment in {@link Page#segment()}. A worker only retrieves the
+     * next page of its segment once the stream has taken its previous page, so at most
+     * {@link ParallelScanEnhancedRequest#parallelism()} pages are retrieved ahead of the stream.
+     * <p>
+     * The scan can be throttled with {@link ParallelScanEnhancedRequest#maxConsumedCapacityPerSecond()}, and it can be resumed
+     * from a {@link ParallelScanCheckpoint} that has been advanced with each processed page.
+     * <p>
+     * The returned stream must be closed to stop the worker threads if it is not consumed entirely.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * try (Stream<Page<MyItem>> pages = mappedTable.parallelScan(r -> r.totalSegments(16).parallelism(4))) {
+     *     pages.forEach(page -> page.items().forEach(item -> System.out.println(item)));
+     * }
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan them.
+     * @return a sequential {@link Stream} of the pages of all segments (see {@link Page}).
+     */
+    default Stream<Page<T>> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link ParallelScanEnhancedRequest#builder()}.
+     *
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * try (Stream<Page<MyItem>> pages = mappedTable.parallelScan(r -> r.totalSegments(16))) {
+     *     pages.forEach(page -> page.items().forEach(item -> System.out.println(item)));
+     * }
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and how
+     * to scan them.
+     * @return a sequential {@link Stream} of the pages of all segments (see {@link Page}).
+     */
+    default Stream<Page<T>> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
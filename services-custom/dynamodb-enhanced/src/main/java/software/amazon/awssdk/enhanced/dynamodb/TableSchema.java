@@ -193,6 +193,11 @@ public interface TableSchema<T> {
      * because it's a moderately expensive operation.
      *
      * <p>
+     * If the class was compiled with the {@code dynamodb-enhanced-processor} annotation processor on the annotation
+     * processor path, the {@link TableSchema} that was generated for it at compile time is returned instead, which avoids
+     * introspecting the class at runtime.
+     *
+     * <p>
      * If this table schema is not behaving as you expect, enable debug logging for
      * {@code software.amazon.awssdk.enhanced.dynamodb.beans}.
      *
@@ -0,0 +1,432 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batch;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterMetrics;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Groups individual puts and deletes into BatchWriteItem requests and sends them, shared by the synchronous and asynchronous
+ * batch writers.
+ * <p>
+ * Writes are buffered per table. A buffer is handed out as a batch when it reaches the configured number of writes or size,
+ * when a write for a primary key that is already in the buffer arrives, when {@link #flush()} is called and periodically on
+ * the configured flush interval. Batches are sent in the order they were handed out, with at most
+ * {@link BatchWriterConfiguration#maxInFlightBatches()} requests in flight. Writes that DynamoDB returns as unprocessed are
+ * re-submitted as a batch of their own after an exponential backoff with full jitter.
+ * <p>
+ * Because several batches can be in flight and unprocessed writes are re-submitted later, two writes to the same primary key
+ * are not guaranteed to be applied in the order they were submitted.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class BatchWriteCoordinator implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(BatchWriteCoordinator.class);
+
+    private final Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem;
+    private final BatchWriterConfiguration configuration;
+    private final Consumer<Throwable> failureListener;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final ScheduledFuture<?> scheduledFlush;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+
+    private final Object lock = new Object();
+    private final Map<String, TableBuffer> buffers = new HashMap<>();
+    private final Deque<List<PendingWrite>> readyBatches = new ArrayDeque<>();
+    private final Set<CompletableFuture<Void>> pendingWrites = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder submittedWrites = new LongAdder();
+    private final LongAdder completedWrites = new LongAdder();
+    private final LongAdder failedWrites = new LongAdder();
+    private final LongAdder batchRequests = new LongAdder();
+    private final LongAdder retriedWrites = new LongAdder();
+    private final DoubleAdder consumedCapacityUnits = new DoubleAdder();
+
+    private int inFlightBatches;
+    private CompletableFuture<Void> closeFuture;
+
+    BatchWriteCoordinator(Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem,
+                          BatchWriterConfiguration configuration,
+                          LongSupplier nanoClock) {
+        this(batchWriteItem, configuration, t -> { }, nanoClock);
+    }
+
+    BatchWriteCoordinator(Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem,
+                          BatchWriterConfiguration configuration,
+                          Consumer<Throwable> failureListener,
+                          LongSupplier nanoClock) {
+        this.batchWriteItem = batchWriteItem;
+        this.configuration = configuration;
+        this.failureListener = failureListener;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+        this.ownsScheduler = !configuration.scheduledExecutor().isPresent();
+        this.scheduler = configuration.scheduledExecutor().orElseGet(BatchWriteCoordinator::createScheduler);
+        long flushIntervalNanos = configuration.flushInterval().toNanos();
+        this.scheduledFlush = scheduler.scheduleWithFixedDelay(this::periodicFlush, flushIntervalNanos, flushIntervalNanos,
+                                                               TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates a coordinator that sends each batch through the given function, which is usually a call to the low-level
+     * BatchWriteItem operation.
+     */
+    public static BatchWriteCoordinator create(
+        Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem,
+        BatchWriterConfiguration configuration) {
+        return new BatchWriteCoordinator(batchWriteItem, configuration, System::nanoTime);
+    }
+
+    /**
+     * Creates a coordinator that sends each batch through the given function, and passes the cause of every failed write to
+     * the given listener. The listener is called before the future of the write is completed, so a caller that waited for
+     * {@link #flush()} has seen every failure of the writes that were flushed.
+     */
+    public static BatchWriteCoordinator create(
+        Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem,
+        BatchWriterConfiguration configuration,
+        Consumer<Throwable> failureListener) {
+        return new BatchWriteCoordinator(batchWriteItem, configuration, failureListener, System::nanoTime);
+    }
+
+    /**
+     * Submit a put of the given item. The returned future completes when DynamoDB has processed the put.
+     */
+    public <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item) {
+        PutItemEnhancedRequest<T> request =
+            PutItemEnhancedRequest.builder(mappedTable.tableSchema().itemType().rawClass()).item(item).build();
+        WriteRequest writeRequest = PutItemOperation.create(request)
+                                                    .generateWriteRequest(mappedTable.tableSchema(),
+                                                                          DefaultOperationContext.create(mappedTable.tableName()),
+                                                                          mappedTable.mapperExtension());
+        Map<String, AttributeValue> primaryKey =
+            primaryKey(writeRequest.putRequest().item(), mappedTable.tableSchema().tableMetadata().primaryKeys());
+        return submit(new PendingWrite(mappedTable.tableName(), primaryKey, writeRequest, new CompletableFuture<>()));
+    }
+
+    /**
+     * Submit a delete of the item with the given key. The returned future completes when DynamoDB has processed the delete.
+     */
+    public <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTable, Key key) {
+        DeleteItemOperation<T> operation = DeleteItemOperation.create(DeleteItemEnhancedRequest.builder().key(key).build());
+        WriteRequest writeRequest = operation.generateWriteRequest(mappedTable.tableSchema(),
+                                                                   DefaultOperationContext.create(mappedTable.tableName()),
+                                                                   mappedTable.mapperExtension());
+        Map<String, AttributeValue> primaryKey = writeRequest.deleteRequest().key();
+        return submit(new PendingWrite(mappedTable.tableName(), primaryKey, writeRequest, new CompletableFuture<>()));
+    }
+
+    /**
+     * Block until fewer batches are waiting for an in-flight slot than there are slots, so that a synchronous producer cannot
+     * buffer an unbounded number of writes.
+     */
+    public void awaitCapacity() {
+        synchronized (lock) {
+            while (closeFuture == null && readyBatches.size() >= configuration.maxInFlightBatches()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw AbortedException.create("Interrupted while waiting to submit a write to the batch writer.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Send all buffered writes. The returned future completes, always normally, when every write that was submitted before
+     * this call has either completed or failed.
+     */
+    public CompletableFuture<Void> flush() {
+        synchronized (lock) {
+            buffers.values().forEach(this::handOut);
+        }
+        dispatch();
+        return CompletableFuture.allOf(pendingWrites.toArray(new CompletableFuture[0]))
+                                .handle((r, t) -> null);
+    }
+
+    public BatchWriterMetrics metrics() {
+        return BatchWriterMetrics.builder()
+                                 .submittedWrites(submittedWrites.sum())
+                                 .completedWrites(completedWrites.sum())
+                                 .failedWrites(failedWrites.sum())
+                                 .batchRequests(batchRequests.sum())
+                                 .retriedWrites(retriedWrites.sum())
+                                 .consumedCapacityUnits(consumedCapacityUnits.sum())
+                                 .elapsed(Duration.ofNanos(nanoClock.getAsLong() - startNanos))
+                                 .build();
+    }
+
+    /**
+     * Stop accepting writes and send all buffered writes. The returned future completes when every submitted write has either
+     * completed or failed, after which the resources of the coordinator are released.
+     */
+    public CompletableFuture<Void> closeAsync() {
+        CompletableFuture<Void> result;
+        synchronized (lock) {
+            if (closeFuture != null) {
+                return closeFuture;
+            }
+            closeFuture = new CompletableFuture<>();
+            result = closeFuture;
+            lock.notifyAll();
+        }
+
+        flush().whenComplete((r, t) -> {
+            scheduledFlush.cancel(false);
+            if (ownsScheduler) {
+                scheduler.shutdown();
+            }
+            result.complete(null);
+        });
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closeAsync().join();
+    }
+
+    private CompletableFuture<Void> submit(PendingWrite write) {
+        CompletableFuture<Void> future = write.future();
+        synchronized (lock) {
+            if (closeFuture != null) {
+                IllegalStateException cause = new IllegalStateException("The batch writer has been closed.");
+                failureListener.accept(cause);
+                future.completeExceptionally(cause);
+                return future;
+            }
+            submittedWrites.increment();
+            pendingWrites.add(future);
+
+            TableBuffer buffer = buffers.computeIfAbsent(write.tableName(), t -> new TableBuffer(
+                configuration.maxBatchSize(), configuration.maxBatchSizeInBytes()));
+            if (!buffer.accepts(write)) {
+                handOut(buffer);
+            }
+            buffer.add(write);
+            if (buffer.isFull()) {
+                handOut(buffer);
+            }
+        }
+        future.whenComplete((r, t) -> pendingWrites.remove(future));
+        dispatch();
+        return future;
+    }
+
+    private void periodicFlush() {
+        try {
+            synchronized (lock) {
+                // Partially filled batches would only queue up behind the ones that are already waiting for a slot
+                if (readyBatches.isEmpty()) {
+                    buffers.values().forEach(this::handOut);
+                }
+            }
+            dispatch();
+        } catch (Throwable t) {
+            log.warn(() -> "Failed to flush the batch writer.", t);
+        }
+    }
+
+    private void handOut(TableBuffer buffer) {
+        if (!buffer.isEmpty()) {
+            readyBatches.add(buffer.drain());
+        }
+    }
+
+    private void dispatch() {
+        List<List<PendingWrite>> batches = new ArrayList<>();
+        synchronized (lock) {
+            while (inFlightBatches < configuration.maxInFlightBatches() && !readyBatches.isEmpty()) {
+                batches.add(readyBatches.poll());
+                inFlightBatches++;
+            }
+            if (!batches.isEmpty()) {
+                lock.notifyAll();
+            }
+        }
+        batches.forEach(this::send);
+    }
+
+    private void send(List<PendingWrite> batch) {
+        String tableName = batch.get(0).tableName();
+        List<WriteRequest> writeRequests = new ArrayList<>(batch.size());
+        batch.forEach(w -> writeRequests.add(w.writeRequest()));
+        BatchWriteItemRequest request = BatchWriteItemRequest.builder()
+                                                             .requestItems(Collections.singletonMap(tableName, writeRequests))
+                                                             .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                                                             .build();
+        batchRequests.increment();
+
+        CompletableFuture<BatchWriteItemResponse> response;
+        try {
+            response = batchWriteItem.apply(request);
+        } catch (Throwable t) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(t);
+        }
+
+        response.whenComplete((r, t) -> {
+            try {
+                if (t != null) {
+                    Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                    batch.forEach(w -> fail(w, cause));
+                } else {
+                    handleResponse(tableName, batch, r);
+                }
+            } finally {
+                synchronized (lock) {
+                    inFlightBatches--;
+                }
+                dispatch();
+            }
+        });
+    }
+
+    private void handleResponse(String tableName, List<PendingWrite> batch, BatchWriteItemResponse response) {
+        for (ConsumedCapacity consumedCapacity : response.consumedCapacity()) {
+            if (consumedCapacity.capacityUnits() != null) {
+                consumedCapacityUnits.add(consumedCapacity.capacityUnits());
+            }
+        }
+
+        List<WriteRequest> unprocessed = response.unprocessedItems().get(tableName);
+        if (unprocessed == null || unprocessed.isEmpty()) {
+            batch.forEach(this::complete);
+            return;
+        }
+
+        Set<WriteRequest> unprocessedWrites = new HashSet<>(unprocessed);
+        List<PendingWrite> retries = new ArrayList<>();
+        for (PendingWrite write : batch) {
+            if (!unprocessedWrites.contains(write.writeRequest())) {
+                complete(write);
+            } else if (write.retries() >= configuration.maxUnprocessedItemRetries()) {
+                fail(write, SdkClientException.create("The write to table " + tableName + " was still unprocessed after "
+                                                      + write.retries() + " retries."));
+            } else {
+                retries.add(write);
+            }
+        }
+
+        if (!retries.isEmpty()) {
+            scheduleRetry(retries);
+        }
+    }
+
+    private void scheduleRetry(List<PendingWrite> batch) {
+        int retry = 0;
+        for (PendingWrite write : batch) {
+            retry = Math.max(retry, write.incrementRetries());
+        }
+        retriedWrites.add(batch.size());
+
+        long delayNanos = backoffDelayNanos(retry);
+        log.debug(() -> String.format("Re-submitting %d unprocessed writes in %d ms", batch.size(),
+                                      TimeUnit.NANOSECONDS.toMillis(delayNanos)));
+        try {
+            scheduler.schedule(() -> {
+                synchronized (lock) {
+                    readyBatches.add(batch);
+                }
+                dispatch();
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            batch.forEach(w -> fail(w, e));
+        }
+    }
+
+    private long backoffDelayNanos(int retry) {
+        long baseNanos = configuration.retryBaseDelay().toNanos();
+        long maxNanos = configuration.retryMaxDelay().toNanos();
+        long ceiling = maxNanos;
+        if (retry - 1 < Long.numberOfLeadingZeros(baseNanos) - 1) {
+            ceiling = Math.min(maxNanos, baseNanos << (retry - 1));
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void complete(PendingWrite write) {
+        completedWrites.increment();
+        write.future().complete(null);
+    }
+
+    private void fail(PendingWrite write, Throwable cause) {
+        failedWrites.increment();
+        failureListener.accept(cause);
+        write.future().completeExceptionally(cause);
+    }
+
+    private static Map<String, AttributeValue> primaryKey(Map<String, AttributeValue> item, Collection<String> keyAttributes) {
+        Map<String, AttributeValue> primaryKey = new HashMap<>();
+        keyAttributes.forEach(k -> primaryKey.put(k, item.get(k)));
+        return primaryKey;
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().threadNamePrefix("sdk-ddb-batch-writer")
+                                                                                   .daemonThreads(true)
+                                                                                   .build());
+    }
+}
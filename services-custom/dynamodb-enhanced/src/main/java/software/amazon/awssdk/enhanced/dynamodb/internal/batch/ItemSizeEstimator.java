@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Estimates the size of a write the way DynamoDB sizes items: the UTF-8 length of the attribute names plus the size of the
+ * attribute values. The estimate is used to keep a BatchWriteItem request under its size limit, so it errs on the large side
+ * for nested values.
+ */
+@SdkInternalApi
+final class ItemSizeEstimator {
+    private static final int NESTED_VALUE_OVERHEAD = 3;
+    private static final int NESTED_ELEMENT_OVERHEAD = 1;
+
+    private ItemSizeEstimator() {
+    }
+
+    static long estimate(WriteRequest writeRequest) {
+        if (writeRequest.putRequest() != null) {
+            return estimate(writeRequest.putRequest().item());
+        }
+        return estimate(writeRequest.deleteRequest().key());
+    }
+
+    private static long estimate(Map<String, AttributeValue> attributes) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> attribute : attributes.entrySet()) {
+            size += utf8Length(attribute.getKey()) + estimate(attribute.getValue());
+        }
+        return size;
+    }
+
+    private static long estimate(AttributeValue value) {
+        switch (value.type()) {
+            case S:
+                return utf8Length(value.s());
+            case N:
+                return value.n().length();
+            case B:
+                return value.b().asByteArrayUnsafe().length;
+            case SS:
+                return value.ss().stream().mapToLong(ItemSizeEstimator::utf8Length).sum();
+            case NS:
+                return value.ns().stream().mapToLong(String::length).sum();
+            case BS:
+                return value.bs().stream().map(SdkBytes::asByteArrayUnsafe).mapToLong(b -> b.length).sum();
+            case M:
+                return NESTED_VALUE_OVERHEAD + value.m().size() * NESTED_ELEMENT_OVERHEAD + estimate(value.m());
+            case L:
+                return NESTED_VALUE_OVERHEAD + value.l().stream()
+                                                    .mapToLong(v -> NESTED_ELEMENT_OVERHEAD + estimate(v))
+                                                    .sum();
+            default:
+                // BOOL, NUL and any type added after this was written
+                return 1;
+        }
+    }
+
+    private static long utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batch;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * A put or delete that was submitted to a {@link BatchWriteCoordinator} and has not yet completed.
+ */
+@SdkInternalApi
+final class PendingWrite {
+    private final String tableName;
+    private final Map<String, AttributeValue> primaryKey;
+    private final WriteRequest writeRequest;
+    private final long sizeInBytes;
+    private final CompletableFuture<Void> future;
+    private int retries;
+
+    PendingWrite(String tableName, Map<String, AttributeValue> primaryKey, WriteRequest writeRequest,
+                 CompletableFuture<Void> future) {
+        this.tableName = tableName;
+        this.primaryKey = primaryKey;
+        this.writeRequest = writeRequest;
+        this.sizeInBytes = ItemSizeEstimator.estimate(writeRequest);
+        this.future = future;
+    }
+
+    String tableName() {
+        return tableName;
+    }
+
+    Map<String, AttributeValue> primaryKey() {
+        return primaryKey;
+    }
+
+    WriteRequest writeRequest() {
+        return writeRequest;
+    }
+
+    long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    CompletableFuture<Void> future() {
+        return future;
+    }
+
+    /**
+     * The number of times this write was re-submitted. Only accessed by the thread that handles the response of the batch
+     * that contains the write.
+     */
+    int retries() {
+        return retries;
+    }
+
+    int incrementRetries() {
+        return ++retries;
+    }
+}
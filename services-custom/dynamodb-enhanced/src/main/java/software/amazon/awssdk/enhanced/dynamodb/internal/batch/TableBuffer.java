@@ -0,0 +1,78 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batch;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * The writes to one table that have not yet been handed out as a batch. A batch never holds two writes to the same primary
+ * key, because BatchWriteItem rejects such a request as a whole.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class TableBuffer {
+    private final int maxBatchSize;
+    private final long maxBatchSizeInBytes;
+    private final Set<Map<String, AttributeValue>> primaryKeys = new HashSet<>();
+
+    private List<PendingWrite> writes = new ArrayList<>();
+    private long sizeInBytes;
+
+    TableBuffer(int maxBatchSize, long maxBatchSizeInBytes) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+    }
+
+    /**
+     * Whether the write can join the writes already in the buffer. An empty buffer accepts any write, so that a write that
+     * exceeds the size limit on its own is sent, and rejected, by itself.
+     */
+    boolean accepts(PendingWrite write) {
+        return writes.isEmpty()
+               || writes.size() < maxBatchSize
+                  && sizeInBytes + write.sizeInBytes() <= maxBatchSizeInBytes
+                  && !primaryKeys.contains(write.primaryKey());
+    }
+
+    void add(PendingWrite write) {
+        writes.add(write);
+        primaryKeys.add(write.primaryKey());
+        sizeInBytes += write.sizeInBytes();
+    }
+
+    boolean isFull() {
+        return writes.size() >= maxBatchSize;
+    }
+
+    boolean isEmpty() {
+        return writes.isEmpty();
+    }
+
+    List<PendingWrite> drain() {
+        List<PendingWrite> batch = writes;
+        writes = new ArrayList<>();
+        primaryKeys.clear();
+        sizeInBytes = 0;
+        return batch;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.batch.BatchWriteCoordinator;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterMetrics;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultDynamoDbAsyncBatchWriter implements DynamoDbAsyncBatchWriter {
+    private final BatchWriteCoordinator coordinator;
+
+    public DefaultDynamoDbAsyncBatchWriter(DynamoDbAsyncClient dynamoDbClient, BatchWriterConfiguration configuration) {
+        this.coordinator = BatchWriteCoordinator.create(dynamoDbClient::batchWriteItem, configuration);
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item) {
+        try {
+            return coordinator.putItem(mappedTable, item);
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteItem(MappedTableResource<?> mappedTable, Key key) {
+        try {
+            return coordinator.deleteItem(mappedTable, key);
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        return coordinator.flush();
+    }
+
+    @Override
+    public BatchWriterMetrics metrics() {
+        return coordinator.metrics();
+    }
+
+    @Override
+    public void close() {
+        coordinator.closeAsync();
+    }
+}
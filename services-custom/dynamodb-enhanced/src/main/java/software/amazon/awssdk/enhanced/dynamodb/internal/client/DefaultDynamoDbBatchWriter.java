@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.batch.BatchWriteCoordinator;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterMetrics;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * The synchronous batch writer. Batches are sent from a pool with one thread per in-flight batch, and the calling thread only
+ * blocks when as many batches are waiting to be sent as may be in flight.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultDynamoDbBatchWriter implements DynamoDbBatchWriter {
+    private final ExecutorService executor;
+    private final BatchWriteCoordinator coordinator;
+    private final LongAdder failures = new LongAdder();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+    private volatile boolean closed;
+
+    public DefaultDynamoDbBatchWriter(DynamoDbClient dynamoDbClient, BatchWriterConfiguration configuration) {
+        this.executor = Executors.newFixedThreadPool(configuration.maxInFlightBatches(),
+                                                     new ThreadFactoryBuilder().threadNamePrefix("sdk-ddb-batch-writer-send")
+                                                                               .daemonThreads(true)
+                                                                               .build());
+        this.coordinator = BatchWriteCoordinator.create(
+            request -> CompletableFuture.supplyAsync(() -> dynamoDbClient.batchWriteItem(request), executor),
+            configuration,
+            this::recordFailure);
+    }
+
+    @Override
+    public <T> void putItem(MappedTableResource<T> mappedTable, T item) {
+        checkNotClosed();
+        coordinator.awaitCapacity();
+        coordinator.putItem(mappedTable, item);
+    }
+
+    @Override
+    public void deleteItem(MappedTableResource<?> mappedTable, Key key) {
+        checkNotClosed();
+        coordinator.awaitCapacity();
+        coordinator.deleteItem(mappedTable, key);
+    }
+
+    @Override
+    public void flush() {
+        coordinator.flush().join();
+        throwFailures();
+    }
+
+    @Override
+    public BatchWriterMetrics metrics() {
+        return coordinator.metrics();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            coordinator.close();
+        } finally {
+            executor.shutdown();
+        }
+        throwFailures();
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The batch writer has been closed.");
+        }
+    }
+
+    /**
+     * Called by the coordinator before it fails the future of a write, so the failure is recorded by the time the
+     * {@link BatchWriteCoordinator#flush()} that waited for the write completes.
+     */
+    private void recordFailure(Throwable cause) {
+        firstFailure.compareAndSet(null, cause);
+        failures.increment();
+    }
+
+    private void throwFailures() {
+        long failed = failures.sumThenReset();
+        Throwable cause = firstFailure.getAndSet(null);
+        if (failed > 0) {
+            throw SdkClientException.create(failed + " writes of the batch writer failed.", cause);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Finds the table schemas that the {@code dynamodb-enhanced-processor} annotation processor generated at compile time for
+ * annotated classes, so that they can be used instead of introspecting the classes at runtime.
+ * <p>
+ * The schema for a class {@code com.example.Outer.Customer} is generated as {@code
+ * com.example.DynamoDbTableSchema_Outer__Customer}, a class with a public no-argument constructor that implements
+ * {@code Supplier<TableSchema<Customer>>}. See {@link #mangle(String)} for how the binary name of the class is turned into
+ * the name of the generated class.
+ * <p>
+ * The result of the lookup is cached in a {@link ClassValue}, so that it neither keeps the annotated class from being
+ * unloaded nor needs a lock to be read.
+ */
+@SdkInternalApi
+@SuppressWarnings("unchecked")
+public final class GeneratedTableSchemas {
+    private static final Logger log = Logger.loggerFor(GeneratedTableSchemas.class);
+
+    private static final String CLASS_NAME_PREFIX = "DynamoDbTableSchema_";
+
+    private static final ClassValue<Optional<TableSchema<?>>> GENERATED_TABLE_SCHEMA_CACHE =
+        new ClassValue<Optional<TableSchema<?>>>() {
+            @Override
+            protected Optional<TableSchema<?>> computeValue(Class<?> annotatedClass) {
+                return load(annotatedClass);
+            }
+        };
+
+    private GeneratedTableSchemas() {
+    }
+
+    /**
+     * Returns the table schema generated for the given annotated class, or an empty optional if none was generated.
+     */
+    public static <T> Optional<TableSchema<T>> find(Class<T> annotatedClass) {
+        return GENERATED_TABLE_SCHEMA_CACHE.get(annotatedClass).map(t -> (TableSchema<T>) t);
+    }
+
+    /**
+     * The binary name of the class generated for the given annotated class.
+     */
+    public static String generatedClassName(Class<?> annotatedClass) {
+        String className = annotatedClass.getName();
+        int packageEnd = className.lastIndexOf('.');
+        String packagePrefix = className.substring(0, packageEnd + 1);
+        return packagePrefix + CLASS_NAME_PREFIX + mangle(className.substring(packageEnd + 1));
+    }
+
+    /**
+     * Turns the binary name of a class, without its package, into an identifier. The {@code $} that separates nested class
+     * names is written as {@code __}, and an {@code _} as {@code _1}, so that distinct classes such as {@code Outer$Customer}
+     * and {@code Outer_Customer} never map to the same name. The annotation processor must use the same scheme.
+     */
+    static String mangle(String binarySimpleName) {
+        StringBuilder mangled = new StringBuilder(binarySimpleName.length() + 8);
+        for (int i = 0; i < binarySimpleName.length(); i++) {
+            char c = binarySimpleName.charAt(i);
+            if (c == '$') {
+                mangled.append("__");
+            } else if (c == '_') {
+                mangled.append("_1");
+            } else {
+                mangled.append(c);
+            }
+        }
+        return mangled.toString();
+    }
+
+    private static Optional<TableSchema<?>> load(Class<?> annotatedClass) {
+        ClassLoader classLoader = annotatedClass.getClassLoader();
+        if (classLoader == null) {
+            return Optional.empty();
+        }
+
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedClassName(annotatedClass), true, classLoader);
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+
+        try {
+            Supplier<TableSchema<?>> supplier = (Supplier<TableSchema<?>>) generatedClass.getConstructor().newInstance();
+            log.debug(() -> "Using generated table schema " + generatedClass.getName() + " for " + annotatedClass.getName());
+            return Optional.of(supplier.get());
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Unable to create the generated table schema " + generatedClass.getName()
+                                            + " for " + annotatedClass.getName(), e);
+        }
+    }
+
+    @SdkTestInternalApi
+    static void clearCache(Class<?> annotatedClass) {
+        GENERATED_TABLE_SCHEMA_CACHE.remove(annotatedClass);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+
+/**
+ * Limits the rate at which the segments of a parallel scan consume capacity. The throttle allows a burst of up to one
+ * second worth of capacity, and the pages that consume more than that put the throttle in debt. While the throttle is in
+ * debt, each segment waits until the debt has been repaid at the configured rate before it requests its next page.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ConsumedCapacityThrottle {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double capacityPerSecond;
+    private final LongSupplier nanoClock;
+
+    private double availableCapacity;
+    private long lastRefillNanos;
+
+    ConsumedCapacityThrottle(double capacityPerSecond, LongSupplier nanoClock) {
+        this.capacityPerSecond = capacityPerSecond;
+        this.nanoClock = nanoClock;
+        this.availableCapacity = capacityPerSecond;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    static ConsumedCapacityThrottle create(double capacityPerSecond) {
+        return new ConsumedCapacityThrottle(capacityPerSecond, System::nanoTime);
+    }
+
+    /**
+     * Record the capacity consumed by a page, and return the number of nanoseconds that the segment of the page should wait
+     * before requesting its next page.
+     */
+    synchronized long onPage(Page<?> page) {
+        long now = nanoClock.getAsLong();
+        double refill = (now - lastRefillNanos) * capacityPerSecond / NANOS_PER_SECOND;
+        availableCapacity = Math.min(capacityPerSecond, availableCapacity + refill);
+        lastRefillNanos = now;
+
+        if (page.consumedCapacity() != null && page.consumedCapacity().capacityUnits() != null) {
+            availableCapacity -= page.consumedCapacity().capacityUnits();
+        }
+
+        if (availableCapacity >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-availableCapacity * NANOS_PER_SECOND / capacityPerSecond);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Iterates over the pages of the segments of a parallel scan, which are scanned by a fixed pool of worker threads. Each worker
+ * scans one segment at a time and hands each page directly to the consumer, blocking until the consumer takes it before
+ * retrieving the next one. At most one page per worker, so {@code parallelism} pages in total, is retrieved ahead of the
+ * consumer.
+ * <p>
+ * The workers are started by the first call to {@link #hasNext()}, and are stopped once all pages have been consumed, when a
+ * segment fails, or when the iterator is closed.
+ */
+@SdkInternalApi
+final class ParallelScanIterator<T> implements Iterator<Page<T>>, AutoCloseable {
+    private static final Object END_OF_SCAN = new Object();
+
+    private final List<Integer> segments;
+    private final int parallelism;
+    private final Optional<ConsumedCapacityThrottle> throttle;
+    private final Function<Integer, Iterator<Page<T>>> segmentScanner;
+    private final BlockingQueue<Object> pages;
+    private final AtomicInteger remainingSegments;
+
+    private ExecutorService workers;
+    private Object next;
+    private boolean done;
+
+    ParallelScanIterator(List<Integer> segments,
+                         int parallelism,
+                         Optional<ConsumedCapacityThrottle> throttle,
+                         Function<Integer, Iterator<Page<T>>> segmentScanner) {
+        this.segments = segments;
+        this.parallelism = Math.min(parallelism, Math.max(1, segments.size()));
+        this.throttle = throttle;
+        this.segmentScanner = segmentScanner;
+        this.pages = new SynchronousQueue<>();
+        this.remainingSegments = new AtomicInteger(segments.size());
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = takeNext();
+        }
+
+        if (next == END_OF_SCAN) {
+            close();
+            return false;
+        }
+        if (next instanceof Throwable) {
+            Throwable failure = (Throwable) next;
+            next = END_OF_SCAN;
+            close();
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw SdkClientException.create("Failed to scan a segment of the table", failure);
+        }
+        return next != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Page<T> page = (Page<T>) next;
+        next = null;
+        return page;
+    }
+
+    /**
+     * Stop the workers. Pages that have not been consumed yet are discarded.
+     */
+    @Override
+    public synchronized void close() {
+        done = true;
+        if (next == null) {
+            next = END_OF_SCAN;
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    private Object takeNext() {
+        if (segments.isEmpty()) {
+            return END_OF_SCAN;
+        }
+        startWorkers();
+        try {
+            return pages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw SdkClientException.create("Interrupted while waiting for the next page of the parallel scan", e);
+        }
+    }
+
+    private synchronized void startWorkers() {
+        if (workers != null || done) {
+            return;
+        }
+
+        ThreadFactory threadFactory = new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-parallel-scan")
+                                                                .daemonThreads(true)
+                                                                .build();
+        workers = Executors.newFixedThreadPool(parallelism, threadFactory);
+        segments.forEach(segment -> workers.execute(() -> scanSegment(segment)));
+        workers.shutdown();
+    }
+
+    private void scanSegment(int segment) {
+        try {
+            Iterator<Page<T>> segmentPages = segmentScanner.apply(segment);
+            while (segmentPages.hasNext()) {
+                Page<T> page = segmentPages.next();
+                pages.put(page);
+                long delayNanos = throttle.map(t -> t.onPage(page)).orElse(0L);
+                if (delayNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(delayNanos);
+                }
+            }
+            if (remainingSegments.decrementAndGet() == 0) {
+                pages.put(END_OF_SCAN);
+            }
+        } catch (InterruptedException e) {
+            // The iterator was closed
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            try {
+                pages.put(t);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+/**
+ * Scans the segments of a table in parallel, with a {@link ScanOperation} for each segment, and merges the pages of all
+ * segments into a single result. Each page is tagged with its segment, so that callers can track the progress of each segment
+ * in a {@link ParallelScanCheckpoint}.
+ * <p>
+ * At most {@link ParallelScanEnhancedRequest#parallelism()} segments are scanned at the same time, and each of them only
+ * requests its next page once its previous page has been handed to the consumer. The scan therefore reads at most one page per
+ * active segment ahead of the consumer.
+ *
+ * @param <T> The modelled object that the table maps records to.
+ */
+@SdkInternalApi
+public final class ParallelScanOperation<T> {
+    private final ParallelScanEnhancedRequest request;
+
+    private ParallelScanOperation(ParallelScanEnhancedRequest request) {
+        this.request = request;
+    }
+
+    public static <T> ParallelScanOperation<T> create(ParallelScanEnhancedRequest request) {
+        return new ParallelScanOperation<>(request);
+    }
+
+    /**
+     * Scan the table with a bounded pool of worker threads. The returned stream must be closed to release the worker threads
+     * if it is not consumed entirely.
+     */
+    public Stream<Page<T>> execute(TableSchema<T> tableSchema,
+                                   String tableName,
+                                   DynamoDbEnhancedClientExtension extension,
+                                   DynamoDbClient dynamoDbClient) {
+        ParallelScanIterator<T> iterator =
+            new ParallelScanIterator<>(remainingSegments(), request.parallelism(), throttle(), segment -> {
+                PageIterable<T> pages = ScanOperation.<T>create(segmentRequest(segment))
+                                                     .executeOnPrimaryIndex(tableSchema, tableName, extension, dynamoDbClient);
+                return pages.stream().map(page -> withSegment(page, segment, tableSchema)).iterator();
+            });
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                                    false)
+                            .onClose(iterator::close);
+    }
+
+    /**
+     * Scan the table asynchronously, merging the pages of the segments into a single publisher.
+     */
+    public PagePublisher<T> executeAsync(TableSchema<T> tableSchema,
+                                         String tableName,
+                                         DynamoDbEnhancedClientExtension extension,
+                                         DynamoDbAsyncClient dynamoDbAsyncClient) {
+        ParallelScanPublisher<T> publisher =
+            new ParallelScanPublisher<>(remainingSegments(), request.parallelism(), throttle(), segment -> {
+                SdkPublisher<Page<T>> pages =
+                    ScanOperation.<T>create(segmentRequest(segment))
+                                 .executeOnPrimaryIndexAsync(tableSchema, tableName, extension, dynamoDbAsyncClient);
+                return pages.map(page -> withSegment(page, segment, tableSchema));
+            });
+        return PagePublisher.create(publisher);
+    }
+
+    private List<Integer> remainingSegments() {
+        ParallelScanCheckpoint checkpoint = request.checkpoint();
+        return IntStream.range(0, request.totalSegments())
+                        .filter(segment -> !checkpoint.completedSegments().contains(segment))
+                        .boxed()
+                        .collect(Collectors.toList());
+    }
+
+    private Optional<ConsumedCapacityThrottle> throttle() {
+        return Optional.ofNullable(request.maxConsumedCapacityPerSecond()).map(ConsumedCapacityThrottle::create);
+    }
+
+    ScanEnhancedRequest segmentRequest(int segment) {
+        ScanEnhancedRequest scanRequest = request.scanRequest();
+        ScanEnhancedRequest.Builder segmentRequest =
+            scanRequest.toBuilder()
+                       .segment(segment)
+                       .totalSegments(request.totalSegments())
+                       .exclusiveStartKey(request.checkpoint().exclusiveStartKeys().get(segment));
+
+        // The throttle can only account for the capacity that DynamoDb reports
+        if (request.maxConsumedCapacityPerSecond() != null
+            && (scanRequest.returnConsumedCapacity() == null
+                || scanRequest.returnConsumedCapacity() == ReturnConsumedCapacity.NONE)) {
+            segmentRequest.returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+        }
+        return segmentRequest.build();
+    }
+
+    private static <T> Page<T> withSegment(Page<T> page, int segment, TableSchema<T> tableSchema) {
+        Page.Builder<T> builder = Page.builder(tableSchema.itemType().rawClass())
+                                      .items(page.items())
+                                      .count(page.count())
+                                      .scannedCount(page.scannedCount())
+                                      .consumedCapacity(page.consumedCapacity())
+                                      .segment(segment);
+        if (page.lastEvaluatedKey() != null) {
+            builder.lastEvaluatedKey(page.lastEvaluatedKey());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Merges the pages of the segments of a parallel scan into a single publisher. Up to {@code parallelism} segments are
+ * subscribed to at the same time, and each of them is only asked for its next page once its previous page has been delivered
+ * to the downstream subscriber. A segment is started whenever another one completes.
+ * <p>
+ * The scan fails as soon as any segment fails, and the other segments are cancelled.
+ */
+@SdkInternalApi
+final class ParallelScanPublisher<T> implements SdkPublisher<Page<T>> {
+    private final List<Integer> segments;
+    private final int parallelism;
+    private final Optional<ConsumedCapacityThrottle> throttle;
+    private final Function<Integer, SdkPublisher<Page<T>>> segmentScanner;
+
+    ParallelScanPublisher(List<Integer> segments,
+                          int parallelism,
+                          Optional<ConsumedCapacityThrottle> throttle,
+                          Function<Integer, SdkPublisher<Page<T>>> segmentScanner) {
+        this.segments = segments;
+        this.parallelism = parallelism;
+        this.throttle = throttle;
+        this.segmentScanner = segmentScanner;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        new ParallelScan(subscriber).start();
+    }
+
+    private final class ParallelScan {
+        private final SimplePublisher<Page<T>> output = new SimplePublisher<>();
+        private final Deque<Integer> pendingSegments = new ArrayDeque<>(segments);
+        private final Set<SegmentSubscriber> activeSegments = ConcurrentHashMap.newKeySet();
+        private volatile boolean stopped;
+
+        private ParallelScan(Subscriber<? super Page<T>> subscriber) {
+            output.subscribe(subscriber);
+        }
+
+        private void start() {
+            if (segments.isEmpty()) {
+                output.complete();
+                return;
+            }
+            for (int i = 0; i < parallelism; i++) {
+                startNextSegment();
+            }
+        }
+
+        private void startNextSegment() {
+            SegmentSubscriber segmentSubscriber;
+            synchronized (this) {
+                if (stopped) {
+                    return;
+                }
+                Integer segment = pendingSegments.poll();
+                if (segment == null) {
+                    if (activeSegments.isEmpty()) {
+                        stopped = true;
+                        output.complete();
+                    }
+                    return;
+                }
+                segmentSubscriber = new SegmentSubscriber(segment);
+                activeSegments.add(segmentSubscriber);
+            }
+            segmentScanner.apply(segmentSubscriber.segment).subscribe(segmentSubscriber);
+        }
+
+        private void onSegmentComplete(SegmentSubscriber segmentSubscriber) {
+            synchronized (this) {
+                activeSegments.remove(segmentSubscriber);
+            }
+            startNextSegment();
+        }
+
+        private void stop(Throwable failure) {
+            synchronized (this) {
+                if (stopped) {
+                    return;
+                }
+                stopped = true;
+            }
+            activeSegments.forEach(SegmentSubscriber::cancel);
+            if (failure != null) {
+                output.error(failure);
+            }
+        }
+
+        private final class SegmentSubscriber implements Subscriber<Page<T>> {
+            private final int segment;
+            private volatile Subscription subscription;
+
+            private SegmentSubscriber(int segment) {
+                this.segment = segment;
+            }
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                if (stopped) {
+                    subscription.cancel();
+                    return;
+                }
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Page<T> page) {
+                output.send(page).whenComplete((r, t) -> {
+                    if (t != null) {
+                        // The downstream subscriber cancelled its subscription
+                        stop(null);
+                        return;
+                    }
+                    requestNextPage(page);
+                });
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                stop(t);
+            }
+
+            @Override
+            public void onComplete() {
+                onSegmentComplete(this);
+            }
+
+            private void requestNextPage(Page<T> page) {
+                long delayNanos = throttle.map(t -> t.onPage(page)).orElse(0L);
+                if (delayNanos > 0) {
+                    ThrottleScheduler.SCHEDULER.schedule(() -> subscription.request(1), delayNanos, TimeUnit.NANOSECONDS);
+                } else {
+                    subscription.request(1);
+                }
+            }
+
+            private void cancel() {
+                Subscription s = subscription;
+                if (s != null) {
+                    s.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * Delays the page requests of throttled segments. Created on first use, so that scans without a throttle don't start a
+     * thread.
+     */
+    private static final class ThrottleScheduler {
+        private static final ScheduledExecutorService SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-scan-throttle")
+                                                                                 .daemonThreads(true)
+                                                                                 .build());
+    }
+}
@@ -15,9 +15,11 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.mapper;
 
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.enhanced.dynamodb.ExecutionContext;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemas;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
 
@@ -28,6 +30,14 @@ public class TableSchemaFactory {
     }
 
     public static <T> TableSchema<T> fromClass(Class<T> annotatedClass, ExecutionContext context) {
+        // Schemas generated at compile time are validated as root schemas, so flattened classes are always introspected
+        if (context == ExecutionContext.ROOT) {
+            Optional<TableSchema<T>> generatedTableSchema = GeneratedTableSchemas.find(annotatedClass);
+            if (generatedTableSchema.isPresent()) {
+                return generatedTableSchema.get();
+            }
+        }
+
         if (annotatedClass.getAnnotation(DynamoDbImmutable.class) != null) {
             return ImmutableTableSchema.create(annotatedClass, context);
         }
@@ -0,0 +1,308 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbBatchWriter;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Configures how a {@link DynamoDbBatchWriter} or {@link DynamoDbAsyncBatchWriter} groups writes into BatchWriteItem requests,
+ * how many of those requests it keeps in flight and how it re-submits unprocessed items.
+ * <p>
+ * All values are optional. The defaults match the limits of the low-level DynamoDB API BatchWriteItem operation.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BatchWriterConfiguration {
+    private static final int MAX_BATCH_SIZE = 25;
+    private static final long MAX_BATCH_SIZE_IN_BYTES = 16L * 1024 * 1024;
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(200);
+    private static final int DEFAULT_MAX_UNPROCESSED_ITEM_RETRIES = 10;
+    private static final Duration DEFAULT_RETRY_BASE_DELAY = Duration.ofMillis(50);
+    private static final Duration DEFAULT_RETRY_MAX_DELAY = Duration.ofSeconds(5);
+
+    private final int maxBatchSize;
+    private final long maxBatchSizeInBytes;
+    private final int maxInFlightBatches;
+    private final Duration flushInterval;
+    private final int maxUnprocessedItemRetries;
+    private final Duration retryBaseDelay;
+    private final Duration retryMaxDelay;
+    private final ScheduledExecutorService scheduledExecutor;
+
+    private BatchWriterConfiguration(Builder builder) {
+        this.maxBatchSize = builder.maxBatchSize == null ? MAX_BATCH_SIZE : builder.maxBatchSize;
+        this.maxBatchSizeInBytes = builder.maxBatchSizeInBytes == null ? MAX_BATCH_SIZE_IN_BYTES : builder.maxBatchSizeInBytes;
+        this.maxInFlightBatches = builder.maxInFlightBatches == null ? DEFAULT_MAX_IN_FLIGHT_BATCHES : builder.maxInFlightBatches;
+        this.flushInterval = builder.flushInterval == null ? DEFAULT_FLUSH_INTERVAL : builder.flushInterval;
+        this.maxUnprocessedItemRetries = builder.maxUnprocessedItemRetries == null ? DEFAULT_MAX_UNPROCESSED_ITEM_RETRIES
+                                                                                    : builder.maxUnprocessedItemRetries;
+        this.retryBaseDelay = builder.retryBaseDelay == null ? DEFAULT_RETRY_BASE_DELAY : builder.retryBaseDelay;
+        this.retryMaxDelay = builder.retryMaxDelay == null ? DEFAULT_RETRY_MAX_DELAY : builder.retryMaxDelay;
+        this.scheduledExecutor = builder.scheduledExecutor;
+
+        Validate.isTrue(maxBatchSize > 0 && maxBatchSize <= MAX_BATCH_SIZE,
+                        "maxBatchSize must be between 1 and %s, but was %s.", MAX_BATCH_SIZE, maxBatchSize);
+        Validate.isTrue(maxBatchSizeInBytes > 0 && maxBatchSizeInBytes <= MAX_BATCH_SIZE_IN_BYTES,
+                        "maxBatchSizeInBytes must be between 1 and %s, but was %s.", MAX_BATCH_SIZE_IN_BYTES,
+                        maxBatchSizeInBytes);
+        Validate.isPositive(maxInFlightBatches, "maxInFlightBatches");
+        Validate.isPositive(flushInterval, "flushInterval");
+        Validate.isNotNegative(maxUnprocessedItemRetries, "maxUnprocessedItemRetries");
+        Validate.isPositive(retryBaseDelay, "retryBaseDelay");
+        Validate.isTrue(retryMaxDelay.compareTo(retryBaseDelay) >= 0,
+                        "retryMaxDelay must not be shorter than retryBaseDelay.");
+    }
+
+    /**
+     * Creates a newly initialized builder for a configuration object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a configuration that uses the default value for every setting.
+     */
+    public static BatchWriterConfiguration create() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the configuration object.
+     */
+    public Builder toBuilder() {
+        return new Builder().maxBatchSize(maxBatchSize)
+                            .maxBatchSizeInBytes(maxBatchSizeInBytes)
+                            .maxInFlightBatches(maxInFlightBatches)
+                            .flushInterval(flushInterval)
+                            .maxUnprocessedItemRetries(maxUnprocessedItemRetries)
+                            .retryBaseDelay(retryBaseDelay)
+                            .retryMaxDelay(retryMaxDelay)
+                            .scheduledExecutor(scheduledExecutor);
+    }
+
+    /**
+     * The maximum number of writes to the same table that are sent in one BatchWriteItem request.
+     */
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The maximum estimated size, in bytes, of the writes sent in one BatchWriteItem request.
+     */
+    public long maxBatchSizeInBytes() {
+        return maxBatchSizeInBytes;
+    }
+
+    /**
+     * The maximum number of BatchWriteItem requests that are in flight at the same time.
+     */
+    public int maxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    /**
+     * How often writes that have not yet filled a batch are sent anyway.
+     */
+    public Duration flushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * How many times a write that DynamoDB returned as unprocessed is re-submitted before it fails.
+     */
+    public int maxUnprocessedItemRetries() {
+        return maxUnprocessedItemRetries;
+    }
+
+    /**
+     * The base delay of the exponential backoff before unprocessed writes are re-submitted.
+     */
+    public Duration retryBaseDelay() {
+        return retryBaseDelay;
+    }
+
+    /**
+     * The maximum delay before unprocessed writes are re-submitted.
+     */
+    public Duration retryMaxDelay() {
+        return retryMaxDelay;
+    }
+
+    /**
+     * The executor that schedules periodic flushes and delayed re-submissions, if one was configured. If not, the writer
+     * creates and owns a single-threaded executor.
+     */
+    public Optional<ScheduledExecutorService> scheduledExecutor() {
+        return Optional.ofNullable(scheduledExecutor);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchWriterConfiguration that = (BatchWriterConfiguration) o;
+
+        return maxBatchSize == that.maxBatchSize
+               && maxBatchSizeInBytes == that.maxBatchSizeInBytes
+               && maxInFlightBatches == that.maxInFlightBatches
+               && maxUnprocessedItemRetries == that.maxUnprocessedItemRetries
+               && flushInterval.equals(that.flushInterval)
+               && retryBaseDelay.equals(that.retryBaseDelay)
+               && retryMaxDelay.equals(that.retryMaxDelay)
+               && Objects.equals(scheduledExecutor, that.scheduledExecutor);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxBatchSize;
+        result = 31 * result + Long.hashCode(maxBatchSizeInBytes);
+        result = 31 * result + maxInFlightBatches;
+        result = 31 * result + flushInterval.hashCode();
+        result = 31 * result + maxUnprocessedItemRetries;
+        result = 31 * result + retryBaseDelay.hashCode();
+        result = 31 * result + retryMaxDelay.hashCode();
+        result = 31 * result + Objects.hashCode(scheduledExecutor);
+        return result;
+    }
+
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer maxBatchSize;
+        private Long maxBatchSizeInBytes;
+        private Integer maxInFlightBatches;
+        private Duration flushInterval;
+        private Integer maxUnprocessedItemRetries;
+        private Duration retryBaseDelay;
+        private Duration retryMaxDelay;
+        private ScheduledExecutorService scheduledExecutor;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of writes to the same table that are sent in one BatchWriteItem request. It must be between
+         * 1 and 25, and defaults to 25.
+         *
+         * @param maxBatchSize the maximum number of writes per request
+         * @return a builder of this type
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum estimated size, in bytes, of the writes sent in one BatchWriteItem request. It must not exceed 16 MB,
+         * which is also the default.
+         *
+         * @param maxBatchSizeInBytes the maximum size of a request
+         * @return a builder of this type
+         */
+        public Builder maxBatchSizeInBytes(Long maxBatchSizeInBytes) {
+            this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of BatchWriteItem requests that are in flight at the same time. Defaults to 4.
+         *
+         * @param maxInFlightBatches the maximum number of concurrent requests
+         * @return a builder of this type
+         */
+        public Builder maxInFlightBatches(Integer maxInFlightBatches) {
+            this.maxInFlightBatches = maxInFlightBatches;
+            return this;
+        }
+
+        /**
+         * Sets how often writes that have not yet filled a batch are sent anyway. Defaults to 200 milliseconds.
+         *
+         * @param flushInterval the interval between periodic flushes
+         * @return a builder of this type
+         */
+        public Builder flushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Sets how many times a write that DynamoDB returned as unprocessed is re-submitted before it fails. Defaults to 10.
+         *
+         * @param maxUnprocessedItemRetries the maximum number of re-submissions of a write
+         * @return a builder of this type
+         */
+        public Builder maxUnprocessedItemRetries(Integer maxUnprocessedItemRetries) {
+            this.maxUnprocessedItemRetries = maxUnprocessedItemRetries;
+            return this;
+        }
+
+        /**
+         * Sets the base delay of the exponential backoff before unprocessed writes are re-submitted. Defaults to 50
+         * milliseconds.
+         *
+         * @param retryBaseDelay the base delay
+         * @return a builder of this type
+         */
+        public Builder retryBaseDelay(Duration retryBaseDelay) {
+            this.retryBaseDelay = retryBaseDelay;
+            return this;
+        }
+
+        /**
+         * Sets the maximum delay before unprocessed writes are re-submitted. Defaults to 5 seconds.
+         *
+         * @param retryMaxDelay the maximum delay
+         * @return a builder of this type
+         */
+        public Builder retryMaxDelay(Duration retryMaxDelay) {
+            this.retryMaxDelay = retryMaxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the executor that schedules periodic flushes and delayed re-submissions. The writer does not shut down an
+         * executor that is configured here.
+         *
+         * @param scheduledExecutor the executor to use
+         * @return a builder of this type
+         */
+        public Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        public BatchWriterConfiguration build() {
+            return new BatchWriterConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbBatchWriter;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A snapshot of the progress of a {@link DynamoDbBatchWriter} or {@link DynamoDbAsyncBatchWriter} since it was created.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BatchWriterMetrics {
+    private final long submittedWrites;
+    private final long completedWrites;
+    private final long failedWrites;
+    private final long batchRequests;
+    private final long retriedWrites;
+    private final double consumedCapacityUnits;
+    private final Duration elapsed;
+
+    private BatchWriterMetrics(Builder builder) {
+        this.submittedWrites = builder.submittedWrites;
+        this.completedWrites = builder.completedWrites;
+        this.failedWrites = builder.failedWrites;
+        this.batchRequests = builder.batchRequests;
+        this.retriedWrites = builder.retriedWrites;
+        this.consumedCapacityUnits = builder.consumedCapacityUnits;
+        this.elapsed = builder.elapsed == null ? Duration.ZERO : builder.elapsed;
+    }
+
+    /**
+     * Creates a newly initialized builder for a metrics snapshot.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The number of puts and deletes that were submitted to the writer.
+     */
+    public long submittedWrites() {
+        return submittedWrites;
+    }
+
+    /**
+     * The number of puts and deletes that DynamoDB processed.
+     */
+    public long completedWrites() {
+        return completedWrites;
+    }
+
+    /**
+     * The number of puts and deletes that failed, either because their request failed or because they were still unprocessed
+     * after the configured number of re-submissions.
+     */
+    public long failedWrites() {
+        return failedWrites;
+    }
+
+    /**
+     * The number of puts and deletes that were submitted but have neither completed nor failed yet.
+     */
+    public long pendingWrites() {
+        return submittedWrites - completedWrites - failedWrites;
+    }
+
+    /**
+     * The number of BatchWriteItem requests that were sent, including re-submissions of unprocessed items.
+     */
+    public long batchRequests() {
+        return batchRequests;
+    }
+
+    /**
+     * The number of times a put or delete was re-submitted because DynamoDB returned it as unprocessed.
+     */
+    public long retriedWrites() {
+        return retriedWrites;
+    }
+
+    /**
+     * The total write capacity units that DynamoDB reported as consumed by the sent requests.
+     */
+    public double consumedCapacityUnits() {
+        return consumedCapacityUnits;
+    }
+
+    /**
+     * The time between the creation of the writer and this snapshot.
+     */
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    /**
+     * The average number of completed puts and deletes per second since the writer was created.
+     */
+    public double writesPerSecond() {
+        long elapsedNanos = elapsed.toNanos();
+        return elapsedNanos == 0 ? 0 : completedWrites * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchWriterMetrics that = (BatchWriterMetrics) o;
+
+        return submittedWrites == that.submittedWrites
+               && completedWrites == that.completedWrites
+               && failedWrites == that.failedWrites
+               && batchRequests == that.batchRequests
+               && retriedWrites == that.retriedWrites
+               && Double.compare(consumedCapacityUnits, that.consumedCapacityUnits) == 0
+               && elapsed.equals(that.elapsed);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(submittedWrites);
+        result = 31 * result + Long.hashCode(completedWrites);
+        result = 31 * result + Long.hashCode(failedWrites);
+        result = 31 * result + Long.hashCode(batchRequests);
+        result = 31 * result + Long.hashCode(retriedWrites);
+        result = 31 * result + Double.hashCode(consumedCapacityUnits);
+        result = 31 * result + elapsed.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchWriterMetrics")
+                       .add("submittedWrites", submittedWrites)
+                       .add("completedWrites", completedWrites)
+                       .add("failedWrites", failedWrites)
+                       .add("batchRequests", batchRequests)
+                       .add("retriedWrites", retriedWrites)
+                       .add("consumedCapacityUnits", consumedCapacityUnits)
+                       .add("elapsed", elapsed)
+                       .build();
+    }
+
+    @NotThreadSafe
+    public static final class Builder {
+        private long submittedWrites;
+        private long completedWrites;
+        private long failedWrites;
+        private long batchRequests;
+        private long retriedWrites;
+        private double consumedCapacityUnits;
+        private Duration elapsed;
+
+        private Builder() {
+        }
+
+        public Builder submittedWrites(long submittedWrites) {
+            this.submittedWrites = submittedWrites;
+            return this;
+        }
+
+        public Builder completedWrites(long completedWrites) {
+            this.completedWrites = completedWrites;
+            return this;
+        }
+
+        public Builder failedWrites(long failedWrites) {
+            this.failedWrites = failedWrites;
+            return this;
+        }
+
+        public Builder batchRequests(long batchRequests) {
+            this.batchRequests = batchRequests;
+            return this;
+        }
+
+        public Builder retriedWrites(long retriedWrites) {
+            this.retriedWrites = retriedWrites;
+            return this;
+        }
+
+        public Builder consumedCapacityUnits(double consumedCapacityUnits) {
+            this.consumedCapacityUnits = consumedCapacityUnits;
+            return this;
+        }
+
+        public Builder elapsed(Duration elapsed) {
+            this.elapsed = elapsed;
+            return this;
+        }
+
+        public BatchWriterMetrics build() {
+            return new BatchWriterMetrics(this);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The progress of a parallel scan (such as {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)}), which can be
+ * used to resume the scan where it stopped.
+ * <p>
+ * A checkpoint records, for each segment of the table, whether the segment has been completely scanned, or the key of the
+ * last item that was scanned in the segment. Segments that are neither completed nor in progress are scanned from the start.
+ * <p>
+ * Checkpoints are immutable. Advance a checkpoint with each page returned by the parallel scan once the page has been
+ * processed, and pass the latest checkpoint to {@link ParallelScanEnhancedRequest.Builder#checkpoint(ParallelScanCheckpoint)}
+ * to resume the scan:
+ * <pre>
+ * {@code
+ *
+ * ParallelScanCheckpoint checkpoint = loadCheckpoint(); // Initially ParallelScanCheckpoint.create(16)
+ * ParallelScanEnhancedRequest request = ParallelScanEnhancedRequest.builder()
+ *                                                                  .totalSegments(16)
+ *                                                                  .checkpoint(checkpoint)
+ *                                                                  .build();
+ * try (Stream<Page<MyItem>> pages = mappedTable.parallelScan(request)) {
+ *     Iterator<Page<MyItem>> iterator = pages.iterator();
+ *     while (iterator.hasNext()) {
+ *         Page<MyItem> page = iterator.next();
+ *         export(page.items());
+ *         checkpoint = checkpoint.advance(page);
+ *         saveCheckpoint(checkpoint);
+ *     }
+ * }
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanCheckpoint {
+    private final int totalSegments;
+    private final Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys;
+    private final Set<Integer> completedSegments;
+
+    private ParallelScanCheckpoint(Builder builder) {
+        this.totalSegments = Validate.isPositive(builder.totalSegments, "totalSegments");
+        builder.exclusiveStartKeys.keySet().forEach(this::validateSegment);
+        builder.completedSegments.forEach(this::validateSegment);
+        builder.completedSegments.forEach(s -> Validate.isTrue(!builder.exclusiveStartKeys.containsKey(s),
+                                                               "Segment %s cannot be both completed and in progress.", s));
+        this.exclusiveStartKeys = Collections.unmodifiableMap(new HashMap<>(builder.exclusiveStartKeys));
+        this.completedSegments = Collections.unmodifiableSet(new TreeSet<>(builder.completedSegments));
+    }
+
+    /**
+     * Creates a checkpoint for a parallel scan of the given number of segments that has not started yet.
+     */
+    public static ParallelScanCheckpoint create(int totalSegments) {
+        return builder().totalSegments(totalSegments).build();
+    }
+
+    /**
+     * Creates a newly initialized builder for a checkpoint.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the checkpoint.
+     */
+    public Builder toBuilder() {
+        return builder().totalSegments(totalSegments)
+                        .exclusiveStartKeys(exclusiveStartKeys)
+                        .completedSegments(completedSegments);
+    }
+
+    /**
+     * Returns a checkpoint that records the given page of a parallel scan as processed. A page without a
+     * {@link Page#lastEvaluatedKey()} completes its segment.
+     *
+     * @param page A page returned by a parallel scan of the same number of segments as this checkpoint.
+     * @return A new checkpoint that includes the progress of the page.
+     */
+    public ParallelScanCheckpoint advance(Page<?> page) {
+        Integer segment = Validate.paramNotNull(page.segment(), "segment");
+        validateSegment(segment);
+
+        Builder builder = toBuilder();
+        if (page.lastEvaluatedKey() == null) {
+            builder.exclusiveStartKeys.remove(segment);
+            builder.completedSegments.add(segment);
+        } else {
+            builder.exclusiveStartKeys.put(segment, page.lastEvaluatedKey());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of segments that the table is divided into.
+     */
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the key of the last item that was scanned in each segment that is in progress.
+     */
+    public Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys() {
+        return exclusiveStartKeys;
+    }
+
+    /**
+     * Returns the segments that have been completely scanned.
+     */
+    public Set<Integer> completedSegments() {
+        return completedSegments;
+    }
+
+    /**
+     * Returns true if all segments have been completely scanned.
+     */
+    public boolean isComplete() {
+        return completedSegments.size() == totalSegments;
+    }
+
+    private void validateSegment(Integer segment) {
+        Validate.isTrue(segment >= 0 && segment < totalSegments,
+                        "Segment %s is not between 0 and totalSegments (%s).", segment, totalSegments);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanCheckpoint that = (ParallelScanCheckpoint) o;
+
+        if (totalSegments != that.totalSegments) {
+            return false;
+        }
+        if (!exclusiveStartKeys.equals(that.exclusiveStartKeys)) {
+            return false;
+        }
+        return completedSegments.equals(that.completedSegments);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = totalSegments;
+        result = 31 * result + exclusiveStartKeys.hashCode();
+        result = 31 * result + completedSegments.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ParallelScanCheckpoint")
+                       .add("totalSegments", totalSegments)
+                       .add("exclusiveStartKeys", exclusiveStartKeys)
+                       .add("completedSegments", completedSegments)
+                       .build();
+    }
+
+    /**
+     * A builder that is used to create a checkpoint with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private int totalSegments;
+        private final Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys = new HashMap<>();
+        private final Set<Integer> completedSegments = new TreeSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * The total number of segments that the table is divided into.
+         *
+         * @param totalSegments the total number of segments of the parallel scan
+         * @return a builder of this type
+         */
+        public Builder totalSegments(int totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * The key of the last item that was scanned in each segment that is in progress. Replaces any keys set previously.
+         *
+         * @param exclusiveStartKeys the {@link Page#lastEvaluatedKey()} of the last processed page of each segment
+         * @return a builder of this type
+         */
+        public Builder exclusiveStartKeys(Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys) {
+            this.exclusiveStartKeys.clear();
+            if (exclusiveStartKeys != null) {
+                exclusiveStartKeys.forEach(this::putExclusiveStartKey);
+            }
+            return this;
+        }
+
+        /**
+         * The key of the last item that was scanned in a segment that is in progress.
+         *
+         * @param segment the segment that is in progress
+         * @param exclusiveStartKey the {@link Page#lastEvaluatedKey()} of the last processed page of the segment
+         * @return a builder of this type
+         */
+        public Builder putExclusiveStartKey(int segment, Map<String, AttributeValue> exclusiveStartKey) {
+            this.exclusiveStartKeys.put(segment, Collections.unmodifiableMap(
+                new HashMap<>(Validate.paramNotNull(exclusiveStartKey, "exclusiveStartKey"))));
+            return this;
+        }
+
+        /**
+         * The segments that have been completely scanned. Replaces any segments set previously.
+         *
+         * @param completedSegments the completed segments
+         * @return a builder of this type
+         */
+        public Builder completedSegments(Set<Integer> completedSegments) {
+            this.completedSegments.clear();
+            if (completedSegments != null) {
+                this.completedSegments.addAll(completedSegments);
+            }
+            return this;
+        }
+
+        public ParallelScanCheckpoint build() {
+            return new ParallelScanCheckpoint(this);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used when scanning a DynamoDb table in parallel segments using the parallelScan() operation (such as
+ * {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)} or
+ * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}).
+ * <p>
+ * The number of segments is required. All other parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+    private static final int MAX_TOTAL_SEGMENTS = 1_000_000;
+    private static final int DEFAULT_MAX_PARALLELISM = 8;
+
+    private final ScanEnhancedRequest scanRequest;
+    private final int totalSegments;
+    private final int parallelism;
+    private final Double maxConsumedCapacityPerSecond;
+    private final ParallelScanCheckpoint checkpoint;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.totalSegments = Validate.isPositive(Validate.paramNotNull(builder.totalSegments, "totalSegments"),
+                                                 "totalSegments");
+        Validate.isTrue(totalSegments <= MAX_TOTAL_SEGMENTS,
+                        "totalSegments (%s) must not be greater than %s.", totalSegments, MAX_TOTAL_SEGMENTS);
+        this.scanRequest = builder.scanRequest != null ? builder.scanRequest : ScanEnhancedRequest.builder().build();
+        Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null
+                        && scanRequest.exclusiveStartKey() == null,
+                        "The scan request of a parallel scan must not set segment, totalSegments or exclusiveStartKey. "
+                        + "Use totalSegments and checkpoint instead.");
+        this.parallelism = builder.parallelism != null ? Validate.isPositive(builder.parallelism, "parallelism")
+                                                       : Math.min(totalSegments, DEFAULT_MAX_PARALLELISM);
+        this.maxConsumedCapacityPerSecond = Validate.isPositiveOrNull(builder.maxConsumedCapacityPerSecond,
+                                                                      "maxConsumedCapacityPerSecond");
+        this.checkpoint = builder.checkpoint != null ? builder.checkpoint : ParallelScanCheckpoint.create(totalSegments);
+        Validate.isTrue(checkpoint.totalSegments() == totalSegments,
+                        "The checkpoint is for %s segments, but totalSegments is %s.", checkpoint.totalSegments(),
+                        totalSegments);
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().scanRequest(scanRequest)
+                        .totalSegments(totalSegments)
+                        .parallelism(parallelism)
+                        .maxConsumedCapacityPerSecond(maxConsumedCapacityPerSecond)
+                        .checkpoint(checkpoint);
+    }
+
+    /**
+     * Returns the scan request that is used for each segment, or an empty request if it has not been set.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the number of segments that the table is divided into.
+     */
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of segments that are scanned at the same time.
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the maximum number of capacity units that the scan consumes per second across all segments, or null if the
+     * scan is not throttled.
+     */
+    public Double maxConsumedCapacityPerSecond() {
+        return maxConsumedCapacityPerSecond;
+    }
+
+    /**
+     * Returns the checkpoint that the scan resumes from, or a checkpoint in which no segment has started if it has not been
+     * set.
+     */
+    public ParallelScanCheckpoint checkpoint() {
+        return checkpoint;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        if (totalSegments != that.totalSegments) {
+            return false;
+        }
+        if (parallelism != that.parallelism) {
+            return false;
+        }
+        if (!scanRequest.equals(that.scanRequest)) {
+            return false;
+        }
+        if (maxConsumedCapacityPerSecond != null ? !maxConsumedCapacityPerSecond.equals(that.maxConsumedCapacityPerSecond)
+                                                 : that.maxConsumedCapacityPerSecond != null) {
+            return false;
+        }
+        return checkpoint.equals(that.checkpoint);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scanRequest.hashCode();
+        result = 31 * result + totalSegments;
+        result = 31 * result + parallelism;
+        result = 31 * result + (maxConsumedCapacityPerSecond != null ? maxConsumedCapacityPerSecond.hashCode() : 0);
+        result = 31 * result + checkpoint.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ParallelScanEnhancedRequest")
+                       .add("totalSegments", totalSegments)
+                       .add("parallelism", parallelism)
+                       .add("maxConsumedCapacityPerSecond", maxConsumedCapacityPerSecond)
+                       .add("checkpoint", checkpoint)
+                       .build();
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer parallelism;
+        private Double maxConsumedCapacityPerSecond;
+        private ParallelScanCheckpoint checkpoint;
+
+        private Builder() {
+        }
+
+        /**
+         * The scan request that is used for each segment, for example to set a filter expression, a projection or
+         * consistent reads. The request must not set {@link ScanEnhancedRequest#segment()},
+         * {@link ScanEnhancedRequest#totalSegments()} or {@link ScanEnhancedRequest#exclusiveStartKey()}, which are set for
+         * each segment by the parallel scan.
+         *
+         * @param scanRequest the scan request that is used for each segment
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * The scan request that is used for each segment.
+         *
+         * @see #scanRequest(ScanEnhancedRequest)
+         * @param scanRequest a {@link Consumer} of {@link ScanEnhancedRequest.Builder} defining the scan of each segment
+         * @return a builder of this type
+         */
+        public Builder scanRequest(Consumer<ScanEnhancedRequest.Builder> scanRequest) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanRequest.accept(builder);
+            return scanRequest(builder.build());
+        }
+
+        /**
+         * The total number of segments into which the table is divided. Each segment is scanned sequentially, and up to
+         * {@link #parallelism(Integer)} segments are scanned at the same time. This value is required.
+         *
+         * @param totalSegments the total number of segments to divide the table into
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments that are scanned at the same time. Defaults to the number of segments, up to 8.
+         * <p>
+         * Each segment that is being scanned holds at most one page that has not been consumed yet, so the parallelism also
+         * bounds the number of pages that are held in memory.
+         *
+         * @param parallelism the maximum number of segments to scan at the same time
+         * @return a builder of this type
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * The maximum number of read capacity units that the scan consumes per second, across all segments. When set, the
+         * scan requests the consumed capacity from DynamoDb and delays the next page of each segment while the scan exceeds
+         * this rate. By default, the scan is not throttled.
+         *
+         * @param maxConsumedCapacityPerSecond the maximum number of read capacity units to consume per second
+         * @return a builder of this type
+         */
+        public Builder maxConsumedCapacityPerSecond(Double maxConsumedCapacityPerSecond) {
+            this.maxConsumedCapacityPerSecond = maxConsumedCapacityPerSecond;
+            return this;
+        }
+
+        /**
+         * The checkpoint of a previous parallel scan to resume from. Completed segments are not scanned again, and the
+         * segments that were in progress continue after the last item that was scanned. By default, all segments are
+         * scanned from the start.
+         *
+         * @param checkpoint the checkpoint to resume from, with the same number of segments as this request
+         * @return a builder of this type
+         */
+        public Builder checkpoint(ParallelScanCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
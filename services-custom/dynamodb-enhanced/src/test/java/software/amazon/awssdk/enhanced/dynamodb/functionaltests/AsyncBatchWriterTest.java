@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+public class AsyncBatchWriterTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private String id;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 60)
+                 .mapToObj(i -> new Record().setId("id-value-" + i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient = DynamoDbEnhancedAsyncClient.builder()
+                                                                                         .dynamoDbClient(getDynamoDbAsyncClient())
+                                                                                         .build();
+
+    private DynamoDbAsyncTable<Record> mappedTable = enhancedAsyncClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("table-name"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void putAndDeleteItems() {
+        DynamoDbAsyncBatchWriter writer = enhancedAsyncClient.batchWriter();
+        List<CompletableFuture<Void>> puts = RECORDS.stream()
+                                                    .map(record -> writer.putItem(mappedTable, record))
+                                                    .collect(Collectors.toList());
+        writer.flush().join();
+        CompletableFuture<Void> delete = writer.deleteItem(mappedTable,
+                                                           Key.builder().partitionValue(RECORDS.get(0).getId()).build());
+        writer.flush().join();
+        writer.close();
+
+        CompletableFuture.allOf(puts.toArray(new CompletableFuture[0])).join();
+        delete.join();
+        assertThat(drainPublisher(mappedTable.scan().items(), RECORDS.size() - 1),
+                   containsInAnyOrder(RECORDS.subList(1, RECORDS.size()).toArray()));
+        assertThat(writer.metrics().completedWrites(), is(61L));
+    }
+
+    @Test
+    public void failedWrite_completesFutureExceptionally() {
+        DynamoDbAsyncTable<Record> missingTable =
+            enhancedAsyncClient.table(getConcreteTableName("missing-table"), TABLE_SCHEMA);
+        DynamoDbAsyncBatchWriter writer = enhancedAsyncClient.batchWriter();
+
+        CompletableFuture<Void> put = writer.putItem(missingTable, RECORDS.get(0));
+        writer.flush().join();
+        writer.close();
+
+        assertThatThrownBy(put::join).isInstanceOf(CompletionException.class)
+                                     .hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void closedWriter_rejectsWrites() {
+        DynamoDbAsyncBatchWriter writer = enhancedAsyncClient.batchWriter();
+        writer.close();
+
+        assertThatThrownBy(() -> writer.putItem(mappedTable, RECORDS.get(0)).join())
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
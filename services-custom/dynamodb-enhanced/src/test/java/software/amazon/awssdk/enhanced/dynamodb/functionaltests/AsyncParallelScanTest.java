@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class AsyncParallelScanTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private String id;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 50)
+                 .mapToObj(i -> new Record().setId("id-value-" + i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient = DynamoDbEnhancedAsyncClient.builder()
+                                                                                         .dynamoDbClient(getDynamoDbAsyncClient())
+                                                                                         .build();
+
+    private DynamoDbAsyncTable<Record> mappedTable = enhancedAsyncClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+        RECORDS.forEach(record -> mappedTable.putItem(r -> r.item(record)).join());
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("table-name"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void parallelScan_returnsAllRecords() {
+        SdkPublisher<Record> publisher = mappedTable.parallelScan(r -> r.totalSegments(4)
+                                                                        .parallelism(2)
+                                                                        .scanRequest(s -> s.limit(5)))
+                                                    .items();
+
+        List<Record> results = drainPublisher(publisher, RECORDS.size());
+
+        assertThat(results, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScan_pagesReportTheirSegment() {
+        // Each segment returns its records in a single page
+        List<Page<Record>> pages = drainPublisher(mappedTable.parallelScan(r -> r.totalSegments(4)), 4);
+
+        assertThat(pages.stream().map(Page::segment).collect(Collectors.toList()), containsInAnyOrder(0, 1, 2, 3));
+    }
+
+    @Test
+    public void parallelScan_resumesFromCheckpoint() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.create(4);
+        List<Page<Record>> firstSegment = drainPublisher(mappedTable.parallelScan(r -> r.totalSegments(4).parallelism(1)), 4);
+        checkpoint = checkpoint.advance(firstSegment.get(0)).advance(firstSegment.get(1));
+
+        ParallelScanCheckpoint resumeFrom = checkpoint;
+        List<Page<Record>> remainingPages = drainPublisher(mappedTable.parallelScan(r -> r.totalSegments(4)
+                                                                                          .checkpoint(resumeFrom)),
+                                                           2);
+
+        assertThat(remainingPages.stream().map(Page::segment).collect(Collectors.toList()),
+                   containsInAnyOrder(firstSegment.get(2).segment(), firstSegment.get(3).segment()));
+    }
+
+    @Test
+    public void parallelScan_throttled_requestsConsumedCapacity() {
+        List<Page<Record>> pages = drainPublisher(mappedTable.parallelScan(r -> r.totalSegments(4)
+                                                                                 .maxConsumedCapacityPerSecond(1000.0)),
+                                                  4);
+
+        assertThat(pages.stream().map(Page::consumedCapacity).collect(Collectors.toList()), everyItem(notNullValue()));
+        assertThat(pages.stream().map(Page::segment).collect(Collectors.toList()),
+                   everyItem(allOf(greaterThanOrEqualTo(0), lessThan(4))));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterMetrics;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class BatchWriterTest extends LocalDynamoDbSyncTestBase {
+    private static class Record {
+        private String id;
+        private Integer value;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) &&
+                   Objects.equals(value, record.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 60)
+                 .mapToObj(i -> new Record().setId("id-value-" + i).setValue(i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                                                                          .dynamoDbClient(getDynamoDbClient())
+                                                                          .build();
+
+    private DynamoDbTable<Record> mappedTable1 = enhancedClient.table(getConcreteTableName("table-name-1"), TABLE_SCHEMA);
+    private DynamoDbTable<Record> mappedTable2 = enhancedClient.table(getConcreteTableName("table-name-2"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable1.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput()));
+        mappedTable2.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput()));
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbClient().deleteTable(DeleteTableRequest.builder()
+                                                          .tableName(getConcreteTableName("table-name-1"))
+                                                          .build());
+        getDynamoDbClient().deleteTable(DeleteTableRequest.builder()
+                                                          .tableName(getConcreteTableName("table-name-2"))
+                                                          .build());
+    }
+
+    @Test
+    public void putItems_toSeveralTables() {
+        BatchWriterMetrics metrics;
+        try (DynamoDbBatchWriter writer = enhancedClient.batchWriter(c -> c.maxInFlightBatches(2))) {
+            RECORDS.forEach(record -> writer.putItem(mappedTable1, record));
+            RECORDS.forEach(record -> writer.putItem(mappedTable2, record));
+            writer.flush();
+            metrics = writer.metrics();
+        }
+
+        assertThat(mappedTable1.scan().items().stream().collect(Collectors.toList()), containsInAnyOrder(RECORDS.toArray()));
+        assertThat(mappedTable2.scan().items().stream().collect(Collectors.toList()), containsInAnyOrder(RECORDS.toArray()));
+        assertThat(metrics.submittedWrites(), is(120L));
+        assertThat(metrics.completedWrites(), is(120L));
+        assertThat(metrics.pendingWrites(), is(0L));
+        assertThat(metrics.batchRequests(), greaterThanOrEqualTo(6L));
+    }
+
+    @Test
+    public void putAndDeleteItems_withRepeatedKeys() {
+        // With a single batch in flight, the writes to a repeated key are applied in order
+        try (DynamoDbBatchWriter writer = enhancedClient.batchWriter(c -> c.maxInFlightBatches(1))) {
+            RECORDS.forEach(record -> writer.putItem(mappedTable1, record));
+            writer.flush();
+            RECORDS.subList(0, 10).forEach(record -> writer.deleteItem(mappedTable1,
+                                                                        Key.builder().partitionValue(record.getId()).build()));
+            // A put and a delete of the same key cannot share a request, so the delete starts a new one
+            writer.putItem(mappedTable1, new Record().setId("id-value-repeated").setValue(1));
+            writer.deleteItem(mappedTable1, Key.builder().partitionValue("id-value-repeated").build());
+        }
+
+        assertThat(mappedTable1.scan().items().stream().collect(Collectors.toList()),
+                   containsInAnyOrder(RECORDS.subList(10, RECORDS.size()).toArray()));
+    }
+
+    @Test
+    public void flush_throwsWhenWritesFail() {
+        DynamoDbTable<Record> missingTable = enhancedClient.table(getConcreteTableName("missing-table"), TABLE_SCHEMA);
+
+        try (DynamoDbBatchWriter writer = enhancedClient.batchWriter()) {
+            writer.putItem(missingTable, RECORDS.get(0));
+            assertThatThrownBy(writer::flush).isInstanceOf(SdkClientException.class)
+                                             .hasMessageContaining("1 writes");
+            assertThat(writer.metrics().failedWrites(), is(1L));
+        }
+    }
+
+    @Test
+    public void closedWriter_rejectsWrites() {
+        DynamoDbBatchWriter writer = enhancedClient.batchWriter();
+        writer.close();
+
+        assertThatThrownBy(() -> writer.putItem(mappedTable1, RECORDS.get(0))).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class ParallelScanTest extends LocalDynamoDbSyncTestBase {
+    private static class Record {
+        private String id;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 50)
+                 .mapToObj(i -> new Record().setId("id-value-" + i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                                                                          .dynamoDbClient(getDynamoDbClient())
+                                                                          .build();
+
+    private DynamoDbTable<Record> mappedTable = enhancedClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput()));
+        RECORDS.forEach(record -> mappedTable.putItem(r -> r.item(record)));
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbClient().deleteTable(DeleteTableRequest.builder()
+                                                          .tableName(getConcreteTableName("table-name"))
+                                                          .build());
+    }
+
+    @Test
+    public void parallelScan_returnsAllRecords() {
+        List<Page<Record>> pages;
+        try (Stream<Page<Record>> results = mappedTable.parallelScan(r -> r.totalSegments(4)
+                                                                           .parallelism(2)
+                                                                           .scanRequest(s -> s.limit(5)))) {
+            pages = results.collect(Collectors.toList());
+        }
+
+        assertThat(items(pages), containsInAnyOrder(RECORDS.toArray()));
+        assertThat(pages.stream().map(Page::segment).collect(Collectors.toList()),
+                   everyItem(allOf(greaterThanOrEqualTo(0), lessThan(4))));
+    }
+
+    @Test
+    public void parallelScan_resumesFromCheckpoint() {
+        ParallelScanEnhancedRequest request = ParallelScanEnhancedRequest.builder()
+                                                                         .totalSegments(4)
+                                                                         .scanRequest(s -> s.limit(5))
+                                                                         .build();
+        ParallelScanCheckpoint checkpoint = request.checkpoint();
+        List<Record> processedRecords = new ArrayList<>();
+
+        try (Stream<Page<Record>> results = mappedTable.parallelScan(request)) {
+            Iterator<Page<Record>> pages = results.iterator();
+            for (int i = 0; i < 3 && pages.hasNext(); i++) {
+                Page<Record> page = pages.next();
+                processedRecords.addAll(page.items());
+                checkpoint = checkpoint.advance(page);
+            }
+        }
+
+        List<Page<Record>> remainingPages;
+        try (Stream<Page<Record>> results = mappedTable.parallelScan(request.toBuilder().checkpoint(checkpoint).build())) {
+            remainingPages = results.collect(Collectors.toList());
+        }
+        processedRecords.addAll(items(remainingPages));
+
+        assertThat(processedRecords, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScan_completedCheckpoint_returnsNoPages() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder()
+                                                                  .totalSegments(2)
+                                                                  .completedSegments(IntStream.range(0, 2)
+                                                                                              .boxed()
+                                                                                              .collect(Collectors.toSet()))
+                                                                  .build();
+
+        try (Stream<Page<Record>> results = mappedTable.parallelScan(r -> r.totalSegments(2).checkpoint(checkpoint))) {
+            assertThat(results.collect(Collectors.toList()), is(empty()));
+        }
+    }
+
+    @Test
+    public void parallelScan_throttled_requestsConsumedCapacity() {
+        List<Page<Record>> pages;
+        try (Stream<Page<Record>> results = mappedTable.parallelScan(r -> r.totalSegments(4)
+                                                                           .maxConsumedCapacityPerSecond(1000.0))) {
+            pages = results.collect(Collectors.toList());
+        }
+
+        assertThat(items(pages), containsInAnyOrder(RECORDS.toArray()));
+        assertThat(pages.stream().map(Page::consumedCapacity).collect(Collectors.toList()), everyItem(notNullValue()));
+    }
+
+    @Test
+    public void parallelScan_closedEarly_stopsScanning() {
+        try (Stream<Page<Record>> results = mappedTable.parallelScan(r -> r.totalSegments(4).scanRequest(s -> s.limit(1)))) {
+            assertThat(results.findFirst().isPresent(), is(true));
+        }
+    }
+
+    private static List<Record> items(List<Page<Record>> pages) {
+        return pages.stream().flatMap(p -> p.items().stream()).collect(Collectors.toList());
+    }
+}
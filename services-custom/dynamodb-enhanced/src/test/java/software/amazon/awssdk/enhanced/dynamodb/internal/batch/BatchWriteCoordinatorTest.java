@@ -0,0 +1,237 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batch;
+
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem.createUniqueFakeItem;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterMetrics;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+public class BatchWriteCoordinatorTest {
+    private static final String TABLE_NAME = "table-name";
+
+    private static final BatchWriterConfiguration CONFIGURATION =
+        BatchWriterConfiguration.builder()
+                                .flushInterval(Duration.ofHours(1))
+                                .retryBaseDelay(Duration.ofMillis(1))
+                                .retryMaxDelay(Duration.ofMillis(10))
+                                .build();
+
+    private final DynamoDbTable<FakeItem> fakeItemTable =
+        DynamoDbEnhancedClient.builder()
+                              .dynamoDbClient(mock(DynamoDbClient.class))
+                              .extensions()
+                              .build()
+                              .table(TABLE_NAME, FakeItem.getTableSchema());
+
+    private final List<BatchWriteItemRequest> requests = Collections.synchronizedList(new ArrayList<>());
+
+    private BatchWriteCoordinator coordinator;
+
+    @After
+    public void closeCoordinator() {
+        if (coordinator != null) {
+            coordinator.closeAsync();
+        }
+    }
+
+    @Test
+    public void writes_areGroupedIntoBatchesOfMaxSize() throws Exception {
+        coordinator = coordinator(CONFIGURATION, respondWith(r -> BatchWriteItemResponse.builder().build()));
+
+        List<CompletableFuture<Void>> writes = IntStream.range(0, 30)
+                                                        .mapToObj(i -> coordinator.putItem(fakeItemTable,
+                                                                                           createUniqueFakeItem()))
+                                                        .collect(toList());
+        coordinator.flush().get(5, TimeUnit.SECONDS);
+
+        assertThat(requests.stream().map(r -> r.requestItems().get(TABLE_NAME).size()).collect(toList()), contains(25, 5));
+        assertThat(requests.get(0).returnConsumedCapacity(), is(ReturnConsumedCapacity.TOTAL));
+        assertThat(writes.stream().allMatch(w -> w.isDone() && !w.isCompletedExceptionally()), is(true));
+        assertThat(coordinator.metrics().completedWrites(), is(30L));
+    }
+
+    @Test
+    public void writeToBufferedKey_startsNewBatch() throws Exception {
+        coordinator = coordinator(CONFIGURATION, respondWith(r -> BatchWriteItemResponse.builder().build()));
+        FakeItem item = createUniqueFakeItem();
+
+        coordinator.putItem(fakeItemTable, item);
+        coordinator.deleteItem(fakeItemTable, Key.builder().partitionValue(item.getId()).build());
+        coordinator.flush().get(5, TimeUnit.SECONDS);
+
+        assertThat(requests.size(), is(2));
+        assertThat(requests.get(0).requestItems().get(TABLE_NAME).get(0).putRequest() != null, is(true));
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME).get(0).deleteRequest() != null, is(true));
+    }
+
+    @Test
+    public void unprocessedWrites_areResubmitted() throws Exception {
+        coordinator = coordinator(CONFIGURATION, respondWith(r -> {
+            List<WriteRequest> writeRequests = r.requestItems().get(TABLE_NAME);
+            List<WriteRequest> unprocessed = requests.size() == 1 ? writeRequests.subList(0, 2) : Collections.emptyList();
+            return BatchWriteItemResponse.builder()
+                                         .unprocessedItems(singletonMap(TABLE_NAME, unprocessed))
+                                         .consumedCapacity(ConsumedCapacity.builder().capacityUnits(1.0).build())
+                                         .build();
+        }));
+
+        List<CompletableFuture<Void>> writes = IntStream.range(0, 5)
+                                                        .mapToObj(i -> coordinator.putItem(fakeItemTable,
+                                                                                           createUniqueFakeItem()))
+                                                        .collect(toList());
+        coordinator.flush().get(5, TimeUnit.SECONDS);
+
+        assertThat(requests.size(), is(2));
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME), is(requests.get(0).requestItems().get(TABLE_NAME)
+                                                                                        .subList(0, 2)));
+        assertThat(writes.stream().allMatch(w -> w.isDone() && !w.isCompletedExceptionally()), is(true));
+
+        BatchWriterMetrics metrics = coordinator.metrics();
+        assertThat(metrics.submittedWrites(), is(5L));
+        assertThat(metrics.completedWrites(), is(5L));
+        assertThat(metrics.retriedWrites(), is(2L));
+        assertThat(metrics.batchRequests(), is(2L));
+        assertThat(metrics.consumedCapacityUnits(), is(2.0));
+    }
+
+    @Test
+    public void unprocessedWrites_failAfterMaxRetries() throws Exception {
+        BatchWriterConfiguration configuration = CONFIGURATION.toBuilder().maxUnprocessedItemRetries(2).build();
+        coordinator = coordinator(configuration, respondWith(
+            r -> BatchWriteItemResponse.builder().unprocessedItems(r.requestItems()).build()));
+
+        CompletableFuture<Void> write = coordinator.putItem(fakeItemTable, createUniqueFakeItem());
+        coordinator.flush().get(5, TimeUnit.SECONDS);
+
+        assertThat(requests.size(), is(3));
+        assertThatThrownBy(write::get).isInstanceOf(ExecutionException.class)
+                                      .hasCauseInstanceOf(SdkClientException.class);
+        assertThat(coordinator.metrics().failedWrites(), is(1L));
+        assertThat(coordinator.metrics().retriedWrites(), is(2L));
+    }
+
+    @Test
+    public void failedRequest_failsItsWrites() throws Exception {
+        RuntimeException exception = new RuntimeException("boom");
+        coordinator = coordinator(CONFIGURATION, r -> {
+            requests.add(r);
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            response.completeExceptionally(exception);
+            return response;
+        });
+
+        CompletableFuture<Void> write = coordinator.putItem(fakeItemTable, createUniqueFakeItem());
+        coordinator.flush().get(5, TimeUnit.SECONDS);
+
+        assertThatThrownBy(write::get).hasCause(exception);
+        assertThat(coordinator.metrics().failedWrites(), is(1L));
+    }
+
+    @Test
+    public void failedWrite_isPassedToFailureListenerBeforeFlushCompletes() throws Exception {
+        RuntimeException exception = new RuntimeException("boom");
+        CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        coordinator = new BatchWriteCoordinator(r -> response, CONFIGURATION, failures::add, System::nanoTime);
+
+        coordinator.putItem(fakeItemTable, createUniqueFakeItem());
+        CompletableFuture<Void> flush = coordinator.flush();
+        response.completeExceptionally(exception);
+        flush.get(5, TimeUnit.SECONDS);
+
+        assertThat(failures, contains(exception));
+    }
+
+    @Test
+    public void inFlightBatches_areLimited() throws Exception {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = Collections.synchronizedList(new ArrayList<>());
+        BatchWriterConfiguration configuration = CONFIGURATION.toBuilder().maxBatchSize(1).maxInFlightBatches(2).build();
+        coordinator = coordinator(configuration, r -> {
+            requests.add(r);
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+
+        IntStream.range(0, 5).forEach(i -> coordinator.putItem(fakeItemTable, createUniqueFakeItem()));
+        assertThat(requests.size(), is(2));
+
+        responses.get(0).complete(BatchWriteItemResponse.builder().build());
+        assertThat(requests.size(), is(3));
+
+        CompletableFuture<Void> flush = coordinator.flush();
+        while (!flush.isDone()) {
+            new ArrayList<>(responses).forEach(r -> r.complete(BatchWriteItemResponse.builder().build()));
+        }
+        assertThat(requests.size(), is(5));
+    }
+
+    @Test
+    public void closedCoordinator_rejectsWrites() throws Exception {
+        coordinator = coordinator(CONFIGURATION, respondWith(r -> BatchWriteItemResponse.builder().build()));
+        CompletableFuture<Void> write = coordinator.putItem(fakeItemTable, createUniqueFakeItem());
+
+        coordinator.closeAsync().get(5, TimeUnit.SECONDS);
+
+        assertThat(write.isDone() && !write.isCompletedExceptionally(), is(true));
+        assertThatThrownBy(() -> coordinator.putItem(fakeItemTable, createUniqueFakeItem()).get())
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private BatchWriteCoordinator coordinator(
+        BatchWriterConfiguration configuration,
+        Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem) {
+        return new BatchWriteCoordinator(batchWriteItem, configuration, System::nanoTime);
+    }
+
+    private Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> respondWith(
+        Function<BatchWriteItemRequest, BatchWriteItemResponse> response) {
+        return r -> {
+            requests.add(r);
+            return CompletableFuture.completedFuture(response.apply(r));
+        };
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.function.Supplier;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemasTest.PrecompiledBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Stands in for the class that the annotation processor generates for {@link PrecompiledBean}.
+ */
+public class DynamoDbTableSchema_GeneratedTableSchemasTest__PrecompiledBean implements Supplier<TableSchema<PrecompiledBean>> {
+    @Override
+    public TableSchema<PrecompiledBean> get() {
+        return StaticTableSchema.builder(PrecompiledBean.class)
+                                .newItemSupplier(PrecompiledBean::new)
+                                .addAttribute(String.class, a -> a.name("id")
+                                                                  .getter(PrecompiledBean::getId)
+                                                                  .setter(PrecompiledBean::setId)
+                                                                  .tags(primaryPartitionKey()))
+                                .build();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+public class GeneratedTableSchemasTest {
+    @AfterEach
+    public void clearCache() {
+        GeneratedTableSchemas.clearCache(PrecompiledBean.class);
+        GeneratedTableSchemas.clearCache(IntrospectedBean.class);
+    }
+
+    @Test
+    public void generatedClassName_nestedClass_joinsEnclosingClassNames() {
+        assertThat(GeneratedTableSchemas.generatedClassName(PrecompiledBean.class))
+            .isEqualTo("software.amazon.awssdk.enhanced.dynamodb.internal.mapper."
+                       + "DynamoDbTableSchema_GeneratedTableSchemasTest__PrecompiledBean");
+    }
+
+    @Test
+    public void mangle_nestedAndUnderscoredNames_doNotCollide() {
+        assertThat(GeneratedTableSchemas.mangle("Outer$Customer")).isEqualTo("Outer__Customer");
+        assertThat(GeneratedTableSchemas.mangle("Outer_Customer")).isEqualTo("Outer_1Customer");
+        assertThat(GeneratedTableSchemas.mangle("Outer_$Customer")).isNotEqualTo(GeneratedTableSchemas.mangle("Outer$_Customer"));
+    }
+
+    @Test
+    public void find_generatedClassExists_returnsGeneratedSchema() {
+        assertThat(GeneratedTableSchemas.find(PrecompiledBean.class))
+            .hasValueSatisfying(tableSchema -> assertThat(tableSchema).isInstanceOf(StaticTableSchema.class));
+    }
+
+    @Test
+    public void find_noGeneratedClass_returnsEmpty() {
+        assertThat(GeneratedTableSchemas.find(IntrospectedBean.class)).isEmpty();
+    }
+
+    @Test
+    public void find_calledTwice_returnsSameSchema() {
+        assertThat(GeneratedTableSchemas.find(PrecompiledBean.class).get())
+            .isSameAs(GeneratedTableSchemas.find(PrecompiledBean.class).get());
+    }
+
+    @Test
+    public void fromClass_generatedClassExists_usesGeneratedSchema() {
+        TableSchema<PrecompiledBean> tableSchema = TableSchema.fromClass(PrecompiledBean.class);
+
+        assertThat(tableSchema).isInstanceOf(StaticTableSchema.class);
+        assertThat(tableSchema.attributeNames()).containsExactly("id");
+        assertThat(tableSchema.tableMetadata().primaryPartitionKey()).isEqualTo("id");
+    }
+
+    @Test
+    public void fromClass_noGeneratedClass_introspectsClass() {
+        assertThat(TableSchema.fromClass(IntrospectedBean.class)).isInstanceOf(BeanTableSchema.class);
+    }
+
+    @DynamoDbBean
+    public static class PrecompiledBean {
+        private String id;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+    }
+
+    @DynamoDbBean
+    public static class IntrospectedBean {
+        private String id;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+    }
+}
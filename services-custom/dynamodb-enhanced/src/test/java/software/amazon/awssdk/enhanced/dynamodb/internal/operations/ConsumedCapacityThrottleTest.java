@@ -0,0 +1,70 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+
+public class ConsumedCapacityThrottleTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final ConsumedCapacityThrottle throttle = new ConsumedCapacityThrottle(10, nanoTime::get);
+
+    @Test
+    public void withinRate_doesNotDelay() {
+        assertThat(throttle.onPage(page(4.0)), is(0L));
+        assertThat(throttle.onPage(page(6.0)), is(0L));
+    }
+
+    @Test
+    public void aboveRate_delaysUntilDebtIsRepaid() {
+        assertThat(throttle.onPage(page(15.0)), is(TimeUnit.MILLISECONDS.toNanos(500)));
+    }
+
+    @Test
+    public void capacityIsRefilledOverTime() {
+        throttle.onPage(page(10.0));
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertThat(throttle.onPage(page(5.0)), is(0L));
+        assertThat(throttle.onPage(page(1.0)), is(TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    public void refillIsCappedAtOneSecond() {
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(throttle.onPage(page(20.0)), is(TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    public void pageWithoutConsumedCapacity_doesNotDelay() {
+        assertThat(throttle.onPage(Page.builder(String.class).items(emptyList()).build()), is(0L));
+    }
+
+    private static Page<String> page(double capacityUnits) {
+        return Page.builder(String.class)
+                   .items(emptyList())
+                   .consumedCapacity(ConsumedCapacity.builder().capacityUnits(capacityUnits).build())
+                   .build();
+    }
+}
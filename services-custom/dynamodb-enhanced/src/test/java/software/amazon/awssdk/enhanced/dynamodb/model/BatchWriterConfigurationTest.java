@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.Test;
+
+public class BatchWriterConfigurationTest {
+
+    @Test
+    public void builder_minimal() {
+        BatchWriterConfiguration builtObject = BatchWriterConfiguration.builder().build();
+
+        assertThat(builtObject.maxBatchSize(), is(25));
+        assertThat(builtObject.maxBatchSizeInBytes(), is(16L * 1024 * 1024));
+        assertThat(builtObject.maxInFlightBatches(), is(4));
+        assertThat(builtObject.flushInterval(), is(Duration.ofMillis(200)));
+        assertThat(builtObject.maxUnprocessedItemRetries(), is(10));
+        assertThat(builtObject.retryBaseDelay(), is(Duration.ofMillis(50)));
+        assertThat(builtObject.retryMaxDelay(), is(Duration.ofSeconds(5)));
+        assertThat(builtObject.scheduledExecutor(), is(Optional.empty()));
+        assertThat(builtObject, is(BatchWriterConfiguration.create()));
+    }
+
+    @Test
+    public void builder_maximal() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            BatchWriterConfiguration builtObject = BatchWriterConfiguration.builder()
+                                                                           .maxBatchSize(10)
+                                                                           .maxBatchSizeInBytes(1024L)
+                                                                           .maxInFlightBatches(8)
+                                                                           .flushInterval(Duration.ofSeconds(1))
+                                                                           .maxUnprocessedItemRetries(0)
+                                                                           .retryBaseDelay(Duration.ofMillis(10))
+                                                                           .retryMaxDelay(Duration.ofMillis(100))
+                                                                           .scheduledExecutor(executor)
+                                                                           .build();
+
+            assertThat(builtObject.maxBatchSize(), is(10));
+            assertThat(builtObject.maxBatchSizeInBytes(), is(1024L));
+            assertThat(builtObject.maxInFlightBatches(), is(8));
+            assertThat(builtObject.flushInterval(), is(Duration.ofSeconds(1)));
+            assertThat(builtObject.maxUnprocessedItemRetries(), is(0));
+            assertThat(builtObject.retryBaseDelay(), is(Duration.ofMillis(10)));
+            assertThat(builtObject.retryMaxDelay(), is(Duration.ofMillis(100)));
+            assertThat(builtObject.scheduledExecutor(), is(Optional.of(executor)));
+            assertThat(builtObject.toBuilder().build(), is(builtObject));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void maxBatchSize_cannotExceedServiceLimit() {
+        assertThatThrownBy(() -> BatchWriterConfiguration.builder().maxBatchSize(26).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxBatchSize");
+        assertThatThrownBy(() -> BatchWriterConfiguration.builder().maxBatchSize(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxBatchSize");
+    }
+
+    @Test
+    public void maxBatchSizeInBytes_cannotExceedServiceLimit() {
+        assertThatThrownBy(() -> BatchWriterConfiguration.builder().maxBatchSizeInBytes(16L * 1024 * 1024 + 1).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxBatchSizeInBytes");
+    }
+
+    @Test
+    public void retryMaxDelay_cannotBeShorterThanBaseDelay() {
+        assertThatThrownBy(() -> BatchWriterConfiguration.builder()
+                                                         .retryBaseDelay(Duration.ofSeconds(1))
+                                                         .retryMaxDelay(Duration.ofMillis(1))
+                                                         .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("retryMaxDelay");
+    }
+}
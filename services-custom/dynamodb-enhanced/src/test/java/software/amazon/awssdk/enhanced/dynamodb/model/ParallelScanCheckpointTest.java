@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class ParallelScanCheckpointTest {
+    private static final Map<String, AttributeValue> KEY = singletonMap("id", stringValue("id-value"));
+
+    @Test
+    public void create_noSegmentStarted() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.create(4);
+
+        assertThat(checkpoint.totalSegments(), is(4));
+        assertThat(checkpoint.exclusiveStartKeys(), is(emptyMap()));
+        assertThat(checkpoint.completedSegments(), is(emptySet()));
+        assertThat(checkpoint.isComplete(), is(false));
+    }
+
+    @Test
+    public void advance_pageWithLastEvaluatedKey_recordsKey() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.create(4).advance(page(2, KEY));
+
+        assertThat(checkpoint.exclusiveStartKeys(), is(singletonMap(2, KEY)));
+        assertThat(checkpoint.completedSegments(), is(emptySet()));
+    }
+
+    @Test
+    public void advance_lastPage_completesSegment() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.create(4)
+                                                                  .advance(page(2, KEY))
+                                                                  .advance(page(2, null));
+
+        assertThat(checkpoint.exclusiveStartKeys(), is(emptyMap()));
+        assertThat(checkpoint.completedSegments(), is(singleton(2)));
+    }
+
+    @Test
+    public void advance_allSegments_isComplete() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.create(2)
+                                                                  .advance(page(0, null))
+                                                                  .advance(page(1, null));
+
+        assertThat(checkpoint.isComplete(), is(true));
+    }
+
+    @Test
+    public void advance_pageWithoutSegment_isRejected() {
+        Page<String> page = Page.builder(String.class).items(singletonList("item")).build();
+
+        assertThatThrownBy(() -> ParallelScanCheckpoint.create(2).advance(page))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void segmentOutOfRange_isRejected() {
+        assertThatThrownBy(() -> ParallelScanCheckpoint.create(2).advance(page(2, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanCheckpoint.builder().totalSegments(2).putExclusiveStartKey(-1, KEY).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void segmentCompletedAndInProgress_isRejected() {
+        assertThatThrownBy(() -> ParallelScanCheckpoint.builder()
+                                                       .totalSegments(2)
+                                                       .putExclusiveStartKey(1, KEY)
+                                                       .completedSegments(singleton(1))
+                                                       .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void toBuilder() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.create(4)
+                                                                  .advance(page(0, null))
+                                                                  .advance(page(1, KEY));
+
+        assertThat(checkpoint.toBuilder().build(), is(checkpoint));
+    }
+
+    private static Page<String> page(int segment, Map<String, AttributeValue> lastEvaluatedKey) {
+        Page.Builder<String> page = Page.builder(String.class).items(singletonList("item")).segment(segment);
+        if (lastEvaluatedKey != null) {
+            page.lastEvaluatedKey(lastEvaluatedKey);
+        }
+        return page.build();
+    }
+}
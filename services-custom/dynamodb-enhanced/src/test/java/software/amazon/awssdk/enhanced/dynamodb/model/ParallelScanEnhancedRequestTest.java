@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import org.junit.Test;
+
+public class ParallelScanEnhancedRequestTest {
+
+    @Test
+    public void builder_minimal() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder().totalSegments(4).build();
+
+        assertThat(builtObject.totalSegments(), is(4));
+        assertThat(builtObject.parallelism(), is(4));
+        assertThat(builtObject.scanRequest(), is(ScanEnhancedRequest.builder().build()));
+        assertThat(builtObject.maxConsumedCapacityPerSecond(), is(nullValue()));
+        assertThat(builtObject.checkpoint(), is(ParallelScanCheckpoint.create(4)));
+    }
+
+    @Test
+    public void builder_maximal() {
+        ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().consistentRead(true).build();
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder()
+                                                                  .totalSegments(16)
+                                                                  .putExclusiveStartKey(3, singletonMap("id", stringValue("a")))
+                                                                  .build();
+
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .scanRequest(scanRequest)
+                                                                             .totalSegments(16)
+                                                                             .parallelism(2)
+                                                                             .maxConsumedCapacityPerSecond(100.0)
+                                                                             .checkpoint(checkpoint)
+                                                                             .build();
+
+        assertThat(builtObject.scanRequest(), is(scanRequest));
+        assertThat(builtObject.totalSegments(), is(16));
+        assertThat(builtObject.parallelism(), is(2));
+        assertThat(builtObject.maxConsumedCapacityPerSecond(), is(100.0));
+        assertThat(builtObject.checkpoint(), is(checkpoint));
+    }
+
+    @Test
+    public void defaultParallelism_isCapped() {
+        assertThat(ParallelScanEnhancedRequest.builder().totalSegments(100).build().parallelism(), is(8));
+    }
+
+    @Test
+    public void totalSegments_isRequired() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("totalSegments");
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("totalSegments");
+    }
+
+    @Test
+    public void scanRequestWithSegment_isRejected() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(4)
+                                                            .scanRequest(r -> r.segment(1).totalSegments(4))
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("segment");
+    }
+
+    @Test
+    public void checkpointWithOtherTotalSegments_isRejected() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(4)
+                                                            .checkpoint(ParallelScanCheckpoint.create(8))
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("checkpoint");
+    }
+
+    @Test
+    public void toBuilder() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .totalSegments(4)
+                                                                             .maxConsumedCapacityPerSecond(10.0)
+                                                                             .build();
+
+        ParallelScanEnhancedRequest copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+    }
+}
@@ -792,6 +792,22 @@ public interface S3TransferManager extends SdkAutoCloseable {
          */
         Builder transferDirectoryMaxConcurrency(Integer transferDirectoryMaxConcurrency);
 
+        /**
+         * Specifies the maximum number of {@code ListObjectsV2} listings that will run concurrently to discover the objects
+         * to download in a {@link S3TransferManager#downloadDirectory} operation.
+         * <p>
+         * When greater than 1, the keyspace is split by common prefixes (using the delimiter of the list request, or
+         * {@code "/"} if none is configured) and up to this many prefixes are listed in parallel, so that discovery keeps up
+         * with downloads for directories containing a large number of small objects. Objects are then no longer downloaded
+         * in key order.
+         * <p>
+         * Default to 1, which lists the directory with a single sequential listing.
+         *
+         * @param downloadDirectoryListingMaxConcurrency the maximum number of concurrent listings
+         * @return This builder for method chaining.
+         */
+        Builder downloadDirectoryListingMaxConcurrency(Integer downloadDirectoryListingMaxConcurrency);
+
         /**
          * Builds an instance of {@link S3TransferManager} based on the settings supplied to this builder
          *
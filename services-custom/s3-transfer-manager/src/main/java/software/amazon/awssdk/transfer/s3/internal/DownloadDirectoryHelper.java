@@ -17,6 +17,7 @@ package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
@@ -29,6 +30,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -112,9 +114,8 @@ public class DownloadDirectoryHelper {
                                            transferConfiguration.option(
                                                TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY
                                            ));
-        listObjectsHelper.listS3ObjectsRecursively(request)
-                         .filter(downloadDirectoryRequest.filter())
-                         .subscribe(asyncBufferingSubscriber);
+        listObjects(request).filter(downloadDirectoryRequest.filter())
+                            .subscribe(asyncBufferingSubscriber);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
 
         allOfFutures.whenComplete((r, t) -> {
@@ -128,6 +129,14 @@ public class DownloadDirectoryHelper {
         });
     }
 
+    private SdkPublisher<S3Object> listObjects(ListObjectsV2Request request) {
+        int listingConcurrency = transferConfiguration.option(DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY);
+        if (listingConcurrency > 1) {
+            return listObjectsHelper.listS3ObjectsRecursively(request, listingConcurrency);
+        }
+        return listObjectsHelper.listS3ObjectsRecursively(request);
+    }
+
     private Function<S3Object, CompletableFuture<?>> downloadSingleFile(
         DownloadDirectoryRequest downloadDirectoryRequest,
         ListObjectsV2Request listRequest,
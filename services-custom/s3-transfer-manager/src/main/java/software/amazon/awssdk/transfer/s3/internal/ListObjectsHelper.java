@@ -15,6 +15,10 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
@@ -22,6 +26,8 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
@@ -34,9 +40,13 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.SimplePublisher;
 
 /**
  * A helper class that returns all objects within a bucket given a {@link ListObjectsV2Request} recursively.
+ *
+ * <p>Objects are emitted one at a time as the subscriber requests them, and the next page is fetched while the current one is
+ * being consumed.
  */
 @SdkInternalApi
 public class ListObjectsHelper {
@@ -55,13 +65,55 @@ public class ListObjectsHelper {
                                       .iteratorFunction(objectsIteratorFunction).isLastPage(false).build();
     }
 
+    /**
+     * Returns all objects within a bucket given a {@link ListObjectsV2Request} recursively, listing up to
+     * {@code maxConcurrentListings} common prefixes in parallel.
+     *
+     * <p>The keyspace is split by the common prefixes returned for the request's delimiter ({@code "/"} if none is set). Each
+     * prefix is listed by its own page sequence, and new prefixes are picked up by whichever listing frees up first. Objects
+     * are emitted in no particular order. Each listing waits for its previous page to be delivered to the subscriber before
+     * queueing the next one, so at most two pages per concurrent listing are held in memory.
+     *
+     * <p>The same objects are emitted as by {@link #listS3ObjectsRecursively(ListObjectsV2Request)}. In particular, if the
+     * request has no delimiter, objects whose key ends with {@code "/"} (directory markers) are emitted like any other object,
+     * as they are by a flat listing; only the object whose key is the request's prefix is skipped.
+     */
+    public SdkPublisher<S3Object> listS3ObjectsRecursively(ListObjectsV2Request firstRequest, int maxConcurrentListings) {
+        if (maxConcurrentListings <= 1) {
+            return listS3ObjectsRecursively(firstRequest);
+        }
+
+        if (firstRequest.delimiter() != null) {
+            return SdkPublisher.adapt(new PrefixShardedListing(firstRequest, maxConcurrentListings, objectsIteratorFunction));
+        }
+
+        // The listing is flat, and is only split by "/" to list in parallel. Skip only the object marking the requested prefix,
+        // so that the directory markers below it are emitted as they are by the flat listing
+        ListObjectsV2Request request = firstRequest.toBuilder().delimiter(DEFAULT_DELIMITER).build();
+        S3ObjectsIteratorFunction flatListingObjects = new S3ObjectsIteratorFunction(response -> firstRequest.prefix());
+        return SdkPublisher.adapt(new PrefixShardedListing(request, maxConcurrentListings, flatListingObjects));
+    }
+
     private static final class S3ObjectsIteratorFunction implements Function<ListObjectsV2Response, Iterator<S3Object>> {
+        private final Function<ListObjectsV2Response, String> virtualDirectory;
+
+        private S3ObjectsIteratorFunction() {
+            this(ListObjectsV2Response::prefix);
+        }
+
+        /**
+         * @param virtualDirectory the key of the object that marks the directory a page was listed for, which is skipped
+         */
+        private S3ObjectsIteratorFunction(Function<ListObjectsV2Response, String> virtualDirectory) {
+            this.virtualDirectory = virtualDirectory;
+        }
 
         @Override
         public Iterator<S3Object> apply(ListObjectsV2Response response) {
             if (response != null && !CollectionUtils.isNullOrEmpty(response.contents())) {
+                String directoryKey = virtualDirectory.apply(response);
                 return response.contents().stream().filter(r -> {
-                    if (response.prefix() != null && response.prefix().equals(r.key())) {
+                    if (directoryKey != null && directoryKey.equals(r.key())) {
                         logger.debug(() -> "Skipping download for object (" + r.key() + ") since it is a virtual directory");
                         return false;
                     }
@@ -74,9 +126,18 @@ public class ListObjectsHelper {
         }
     }
 
+    /**
+     * Fetches pages depth-first across common prefixes, keeping one page request in flight ahead of the page being consumed.
+     *
+     * <p>As soon as a page arrives, the request for the page after it (the next continuation of the same prefix, or the first
+     * page of the next common prefix) is known and is sent immediately, so the service call and response unmarshalling overlap
+     * with the subscriber consuming the current page. The request after that is only sent once the subscriber moves on to the
+     * prefetched page, which bounds memory to two pages regardless of the size of the bucket.
+     */
     private final class ListObjectsV2ResponseFetcher implements AsyncPageFetcher<ListObjectsV2Response> {
         private final Deque<String> commonPrefixes = new ConcurrentLinkedDeque<>();
-        private volatile ListObjectsV2Request firstRequest;
+        private final ListObjectsV2Request firstRequest;
+        private volatile CompletableFuture<FetchedPage> prefetchedPage;
 
         private ListObjectsV2ResponseFetcher(ListObjectsV2Request firstRequest) {
             this.firstRequest = firstRequest;
@@ -84,37 +145,176 @@ public class ListObjectsHelper {
 
         @Override
         public boolean hasNextPage(ListObjectsV2Response previousPage) {
-            return PaginatorUtils.isOutputTokenAvailable(previousPage.nextContinuationToken()) ||
-                   !commonPrefixes.isEmpty();
+            return prefetchedPage != null;
         }
 
         @Override
         public CompletableFuture<ListObjectsV2Response> nextPage(ListObjectsV2Response previousPage) {
-            CompletableFuture<ListObjectsV2Response> future;
+            // The first page is fetched on demand, every later page was requested when the page before it arrived
+            CompletableFuture<FetchedPage> future = previousPage == null ? fetch(firstRequest) : prefetchedPage;
 
-            if (previousPage == null) {
-                // If this is the first request
-                future = listObjectsFunction.apply(firstRequest);
-            } else if (PaginatorUtils.isOutputTokenAvailable(previousPage.nextContinuationToken())) {
-                // If there is a next page with the same prefix
-                future =
-                    listObjectsFunction.apply(firstRequest.toBuilder()
-                                                          .continuationToken(previousPage.nextContinuationToken())
-                                                          .build());
-            } else {
-                // If there is no next page, we should start with the next common prefix
-                String nextPrefix = commonPrefixes.pop();
-                firstRequest = firstRequest.toBuilder().prefix(nextPrefix).build();
-                future = listObjectsFunction.apply(firstRequest);
-            }
+            return future.thenApply(page -> {
+                ListObjectsV2Request nextRequest = nextRequest(page);
+                prefetchedPage = nextRequest == null ? null : fetch(nextRequest);
+                return page.response;
+            });
+        }
 
-            return future.thenApply(t -> {
+        private CompletableFuture<FetchedPage> fetch(ListObjectsV2Request request) {
+            return listObjectsFunction.apply(request).thenApply(t -> {
                 List<CommonPrefix> newCommonPrefixes = t.commonPrefixes();
                 for (int i = newCommonPrefixes.size() - 1; i >= 0; i--) {
                     commonPrefixes.push(newCommonPrefixes.get(i).prefix());
                 }
-                return t;
+                return new FetchedPage(request, t);
+            });
+        }
+
+        private ListObjectsV2Request nextRequest(FetchedPage page) {
+            if (PaginatorUtils.isOutputTokenAvailable(page.response.nextContinuationToken())) {
+                // If there is a next page with the same prefix
+                return page.request.toBuilder()
+                                   .continuationToken(page.response.nextContinuationToken())
+                                   .build();
+            }
+
+            // If there is no next page, we should start with the next common prefix
+            String nextPrefix = commonPrefixes.poll();
+            if (nextPrefix == null) {
+                return null;
+            }
+            return firstRequest.toBuilder().prefix(nextPrefix).build();
+        }
+    }
+
+    private final class PrefixShardedListing implements Publisher<S3Object> {
+        private final SimplePublisher<S3Object> publisher = new SimplePublisher<>();
+        private final Deque<String> pendingPrefixes = new ArrayDeque<>();
+        private final ListObjectsV2Request firstRequest;
+        private final int maxConcurrentListings;
+        private final S3ObjectsIteratorFunction pageObjects;
+        private int activeListings;
+        private boolean terminated;
+
+        private PrefixShardedListing(ListObjectsV2Request firstRequest, int maxConcurrentListings,
+                                     S3ObjectsIteratorFunction pageObjects) {
+            this.firstRequest = firstRequest;
+            this.maxConcurrentListings = maxConcurrentListings;
+            this.pageObjects = pageObjects;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super S3Object> subscriber) {
+            publisher.subscribe(subscriber);
+            synchronized (this) {
+                activeListings = 1;
+            }
+            list(firstRequest, CompletableFuture.completedFuture(null));
+        }
+
+        private void list(ListObjectsV2Request request, CompletableFuture<Void> previousPageDelivered) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+            }
+
+            CompletableFuture<ListObjectsV2Response> future;
+            try {
+                future = listObjectsFunction.apply(request);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+
+            // The page is requested right away, but only queued once the previous page of this listing has been delivered
+            future.thenCombine(previousPageDelivered, (page, ignored) -> page).whenComplete((page, t) -> {
+                if (t != null) {
+                    fail(t);
+                    return;
+                }
+
+                addCommonPrefixes(page);
+                CompletableFuture<Void> delivered = send(page);
+                ListObjectsV2Request nextRequest = nextRequest(request, page);
+                if (nextRequest != null) {
+                    list(nextRequest, delivered);
+                } else {
+                    finishListing();
+                }
             });
         }
+
+        private CompletableFuture<Void> send(ListObjectsV2Response page) {
+            CompletableFuture<Void> delivered = CompletableFuture.completedFuture(null);
+            Iterator<S3Object> objects = pageObjects.apply(page);
+            while (objects.hasNext()) {
+                delivered = publisher.send(objects.next());
+            }
+            return delivered;
+        }
+
+        private void addCommonPrefixes(ListObjectsV2Response page) {
+            List<ListObjectsV2Request> newListings = new ArrayList<>();
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                for (CommonPrefix commonPrefix : page.commonPrefixes()) {
+                    pendingPrefixes.add(commonPrefix.prefix());
+                }
+                while (activeListings < maxConcurrentListings && !pendingPrefixes.isEmpty()) {
+                    activeListings++;
+                    newListings.add(prefixRequest(pendingPrefixes.poll()));
+                }
+            }
+            newListings.forEach(r -> list(r, CompletableFuture.completedFuture(null)));
+        }
+
+        private ListObjectsV2Request nextRequest(ListObjectsV2Request request, ListObjectsV2Response page) {
+            if (PaginatorUtils.isOutputTokenAvailable(page.nextContinuationToken())) {
+                return request.toBuilder().continuationToken(page.nextContinuationToken()).build();
+            }
+
+            synchronized (this) {
+                String nextPrefix = terminated ? null : pendingPrefixes.poll();
+                return nextPrefix == null ? null : prefixRequest(nextPrefix);
+            }
+        }
+
+        private ListObjectsV2Request prefixRequest(String prefix) {
+            return firstRequest.toBuilder().prefix(prefix).build();
+        }
+
+        private void finishListing() {
+            synchronized (this) {
+                activeListings--;
+                if (terminated || activeListings > 0) {
+                    return;
+                }
+                terminated = true;
+            }
+            publisher.complete();
+        }
+
+        private void fail(Throwable t) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                terminated = true;
+            }
+            publisher.error(t);
+        }
+    }
+
+    private static final class FetchedPage {
+        private final ListObjectsV2Request request;
+        private final ListObjectsV2Response response;
+
+        private FetchedPage(ListObjectsV2Request request, ListObjectsV2Response response) {
+            this.request = request;
+            this.response = response;
+        }
     }
 }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.TRANSFER_MANAGER_DEFAULTS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
@@ -44,6 +45,7 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         standardOptions.put(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS, builder.uploadDirectoryFollowSymbolicLinks);
         standardOptions.put(UPLOAD_DIRECTORY_MAX_DEPTH, builder.uploadDirectoryMaxDepth);
         standardOptions.put(DIRECTORY_TRANSFER_MAX_CONCURRENCY, builder.transferDirectoryMaxConcurrency);
+        standardOptions.put(DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY, builder.downloadDirectoryListingMaxConcurrency);
         finalizeExecutor(builder, standardOptions);
         options = standardOptions.build().merge(TRANSFER_MANAGER_DEFAULTS);
     }
@@ -100,6 +102,7 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
         private Integer transferDirectoryMaxConcurrency;
+        private Integer downloadDirectoryListingMaxConcurrency;
         private Executor executor;
 
 
@@ -118,6 +121,11 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
             return this;
         }
 
+        public Builder downloadDirectoryListingMaxConcurrency(Integer downloadDirectoryListingMaxConcurrency) {
+            this.downloadDirectoryListingMaxConcurrency = downloadDirectoryListingMaxConcurrency;
+            return this;
+        }
+
         public Builder executor(Executor executor) {
             this.executor = executor;
             return this;
@@ -87,6 +87,7 @@ public final class TransferManagerFactory {
         transferConfigBuilder.uploadDirectoryFollowSymbolicLinks(tmBuilder.uploadDirectoryFollowSymbolicLinks);
         transferConfigBuilder.uploadDirectoryMaxDepth(tmBuilder.uploadDirectoryMaxDepth);
         transferConfigBuilder.transferDirectoryMaxConcurrency(tmBuilder.transferDirectoryMaxConcurrency);
+        transferConfigBuilder.downloadDirectoryListingMaxConcurrency(tmBuilder.downloadDirectoryListingMaxConcurrency);
         transferConfigBuilder.executor(tmBuilder.executor);
         return transferConfigBuilder.build();
     }
@@ -97,6 +98,7 @@ public final class TransferManagerFactory {
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
         private Integer transferDirectoryMaxConcurrency;
+        private Integer downloadDirectoryListingMaxConcurrency;
 
         @Override
         public DefaultBuilder s3Client(S3AsyncClient s3AsyncClient) {
@@ -152,6 +154,20 @@ public final class TransferManagerFactory {
             return transferDirectoryMaxConcurrency;
         }
 
+        @Override
+        public DefaultBuilder downloadDirectoryListingMaxConcurrency(Integer downloadDirectoryListingMaxConcurrency) {
+            this.downloadDirectoryListingMaxConcurrency = downloadDirectoryListingMaxConcurrency;
+            return this;
+        }
+
+        public void setDownloadDirectoryListingMaxConcurrency(Integer downloadDirectoryListingMaxConcurrency) {
+            downloadDirectoryListingMaxConcurrency(downloadDirectoryListingMaxConcurrency);
+        }
+
+        public Integer getDownloadDirectoryListingMaxConcurrency() {
+            return downloadDirectoryListingMaxConcurrency;
+        }
+
         @Override
         public S3TransferManager build() {
             return createTransferManager(this);
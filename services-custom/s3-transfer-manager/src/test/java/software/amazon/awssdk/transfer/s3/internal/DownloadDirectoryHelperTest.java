@@ -18,7 +18,9 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +28,7 @@ import static software.amazon.awssdk.transfer.s3.util.S3ApiCallMockUtils.stubSuc
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
@@ -55,6 +58,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.EncodingType;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -330,6 +334,31 @@ public class DownloadDirectoryHelperTest {
     }
 
 
+    @Test
+    void downloadDirectory_listingConcurrencyConfigured_shouldListInParallel() throws Exception {
+        downloadDirectoryHelper = new DownloadDirectoryHelper(TransferManagerConfiguration.builder()
+                                                                                          .downloadDirectoryListingMaxConcurrency(8)
+                                                                                          .build(),
+                                                              listObjectsHelper,
+                                                              singleDownloadFunction);
+        List<S3Object> s3Objects = Arrays.asList(S3Object.builder().key("key1").build(), S3Object.builder().key("key2").build());
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class), eq(8)))
+            .thenReturn(SdkPublisher.adapt(Flowable.fromIterable(s3Objects)));
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(newSuccessfulDownload(),
+                                                                                      newSuccessfulDownload());
+
+        DirectoryDownload downloadDirectory =
+            downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                              .destination(directory)
+                                                                              .bucket("bucket")
+                                                                              .build());
+        CompletedDirectoryDownload completedDirectoryDownload = downloadDirectory.completionFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryDownload.failedTransfers()).isEmpty();
+        verify(singleDownloadFunction, times(2)).apply(any(DownloadFileRequest.class));
+        verify(listObjectsHelper, never()).listS3ObjectsRecursively(any(ListObjectsV2Request.class));
+    }
+
     @ParameterizedTest
     @MethodSource("fileSystems")
     void downloadDirectory_shouldRecursivelyDownload(FileSystem jimfs) {
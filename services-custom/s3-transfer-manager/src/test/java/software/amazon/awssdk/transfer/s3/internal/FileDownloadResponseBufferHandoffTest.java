@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.AsyncResponseHttpExecutionAttribute;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.testutils.service.http.MockAsyncHttpClient;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.DownloadRequest;
+import software.amazon.awssdk.transfer.s3.progress.LoggingTransferListener;
+
+/**
+ * Verifies that file downloads through the transfer manager still tell the HTTP client that response buffers can be lent to
+ * the file writer, even though the transfer manager wraps the file transformer to track progress.
+ */
+class FileDownloadResponseBufferHandoffTest {
+    private static final String CONTENT = "Hello, world!";
+
+    @TempDir
+    Path tempDir;
+
+    private CapturingAsyncHttpClient httpClient;
+    private S3AsyncClient s3;
+    private S3TransferManager tm;
+
+    @BeforeEach
+    void setUp() {
+        httpClient = new CapturingAsyncHttpClient();
+        httpClient.stubNextResponse(
+            HttpExecuteResponse.builder()
+                               .response(SdkHttpResponse.builder()
+                                                        .statusCode(200)
+                                                        .putHeader("Content-Length", String.valueOf(CONTENT.length()))
+                                                        .build())
+                               .responseBody(AbortableInputStream.create(
+                                   new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))))
+                               .build());
+        s3 = S3AsyncClient.builder()
+                          .region(Region.US_EAST_1)
+                          .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+                          .httpClient(httpClient)
+                          .build();
+        tm = new GenericS3TransferManager(s3, mock(UploadDirectoryHelper.class), mock(TransferManagerConfiguration.class),
+                                          mock(DownloadDirectoryHelper.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3.close();
+        httpClient.close();
+    }
+
+    @Test
+    void downloadFile_withProgressListener_requestsResponseBufferHandoff() throws Exception {
+        Path destination = tempDir.resolve("download.txt");
+
+        tm.downloadFile(d -> d.getObjectRequest(g -> g.bucket("bucket").key("key"))
+                              .destination(destination)
+                              .addTransferListener(LoggingTransferListener.create()))
+          .completionFuture()
+          .get(10, TimeUnit.SECONDS);
+
+        assertThat(new String(Files.readAllBytes(destination), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        assertThat(httpClient.executionAttributes).hasSize(1);
+        assertThat(httpClient.executionAttributes.get(0)
+                                                 .getAttribute(AsyncResponseHttpExecutionAttribute
+                                                                   .RESPONSE_BUFFERS_RELEASED_ON_DEMAND))
+            .isTrue();
+    }
+
+    @Test
+    void download_toBytes_doesNotRequestResponseBufferHandoff() throws Exception {
+        DownloadRequest<ResponseBytes<GetObjectResponse>> request =
+            DownloadRequest.builder()
+                           .getObjectRequest(g -> g.bucket("bucket").key("key"))
+                           .responseTransformer(AsyncResponseTransformer.toBytes())
+                           .build();
+
+        tm.download(request).completionFuture().get(10, TimeUnit.SECONDS);
+
+        assertThat(httpClient.executionAttributes).hasSize(1);
+        assertThat(httpClient.executionAttributes.get(0)
+                                                 .getAttribute(AsyncResponseHttpExecutionAttribute
+                                                                   .RESPONSE_BUFFERS_RELEASED_ON_DEMAND))
+            .isNull();
+    }
+
+    private static final class CapturingAsyncHttpClient implements SdkAsyncHttpClient {
+        private final MockAsyncHttpClient delegate = new MockAsyncHttpClient();
+        private final List<SdkHttpExecutionAttributes> executionAttributes = new CopyOnWriteArrayList<>();
+
+        void stubNextResponse(HttpExecuteResponse response) {
+            delegate.stubNextResponse(response);
+        }
+
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            executionAttributes.add(request.httpExecutionAttributes());
+            return delegate.execute(request);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -24,18 +25,24 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import software.amazon.awssdk.services.s3.model.CommonPrefix;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 class ListObjectsHelperTest {
     private Function<ListObjectsV2Request,
@@ -127,6 +134,169 @@ class ListObjectsHelperTest {
         assertThat(actualObjects).hasSize(10);
     }
 
+    @Test
+    void listS3Objects_hasNextPage_shouldPrefetchOnlyOnePageAhead() {
+        ListObjectsV2Response responsePage1 = listObjectsV2Response("page2", Collections.emptyList(), "1", "2");
+        ListObjectsV2Response responsePage2 = listObjectsV2Response("page3", Collections.emptyList(), "3", "4");
+        ListObjectsV2Response responsePage3 = listObjectsV2Response(null, Collections.emptyList(), "5", "6");
+
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class)))
+            .thenReturn(CompletableFuture.completedFuture(responsePage1))
+            .thenReturn(CompletableFuture.completedFuture(responsePage2))
+            .thenReturn(CompletableFuture.completedFuture(responsePage3));
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        listObjectsHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder().bucket("bucket").build())
+                         .subscribe(new Subscriber<S3Object>() {
+                             @Override
+                             public void onSubscribe(Subscription s) {
+                                 subscription.set(s);
+                             }
+
+                             @Override
+                             public void onNext(S3Object s3Object) {
+                                 actualObjects.add(s3Object);
+                             }
+
+                             @Override
+                             public void onError(Throwable t) {
+                             }
+
+                             @Override
+                             public void onComplete() {
+                             }
+                         });
+
+        subscription.get().request(1);
+        assertThat(actualObjects).extracting(S3Object::key).containsExactly("1");
+        verify(listObjectsFunction, times(2)).apply(any(ListObjectsV2Request.class));
+
+        subscription.get().request(2);
+        assertThat(actualObjects).extracting(S3Object::key).containsExactly("1", "2", "3");
+        verify(listObjectsFunction, times(3)).apply(any(ListObjectsV2Request.class));
+
+        subscription.get().request(Long.MAX_VALUE);
+        assertThat(actualObjects).extracting(S3Object::key).containsExactly("1", "2", "3", "4", "5", "6");
+        verify(listObjectsFunction, times(3)).apply(any(ListObjectsV2Request.class));
+    }
+
+    @Test
+    void listS3ObjectsInParallel_hasNextPageAndCommonPrefixes_shouldReturnAll() {
+        mockPrefixedListing();
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        ListObjectsV2Request firstRequest = ListObjectsV2Request.builder()
+                                                                .bucket("bucket")
+                                                                .prefix("")
+                                                                .build();
+        listObjectsHelper.listS3ObjectsRecursively(firstRequest, 4)
+                         .subscribe(actualObjects::add).join();
+
+        // Without a delimiter, the "jan/" directory marker is emitted, as it is by a flat listing
+        assertThat(actualObjects).extracting(S3Object::key)
+                                 .containsExactlyInAnyOrder("1", "2", "3", "4", "jan/", "jan/1", "jan/2", "jan/01/1",
+                                                            "jan/01/2", "feb/1", "feb/2");
+
+        ArgumentCaptor<ListObjectsV2Request> argumentCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(listObjectsFunction, times(6)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getAllValues()).allSatisfy(r -> assertThat(r.delimiter()).isEqualTo("/"));
+    }
+
+    @Test
+    void listS3ObjectsInParallel_withDelimiter_shouldSkipDirectoryMarkersLikeSequentialListing() {
+        mockPrefixedListing();
+
+        ListObjectsV2Request firstRequest = ListObjectsV2Request.builder()
+                                                                .bucket("bucket")
+                                                                .prefix("")
+                                                                .delimiter("/")
+                                                                .build();
+        List<S3Object> parallelObjects = new ArrayList<>();
+        listObjectsHelper.listS3ObjectsRecursively(firstRequest, 4)
+                         .subscribe(parallelObjects::add).join();
+        List<S3Object> sequentialObjects = new ArrayList<>();
+        listObjectsHelper.listS3ObjectsRecursively(firstRequest)
+                         .subscribe(sequentialObjects::add).join();
+
+        assertThat(parallelObjects).extracting(S3Object::key)
+                                   .containsExactlyInAnyOrder("1", "2", "3", "4", "jan/1", "jan/2", "jan/01/1", "jan/01/2",
+                                                              "feb/1", "feb/2");
+        assertThat(parallelObjects).hasSameElementsAs(sequentialObjects);
+    }
+
+    @Test
+    void listS3ObjectsInParallel_markerOfRequestedPrefix_shouldBeSkipped() {
+        List<CommonPrefix> janPrefixes = Collections.singletonList(CommonPrefix.builder().prefix("jan/01/").build());
+
+        Map<String, ListObjectsV2Response> responses = new HashMap<>();
+        responses.put("jan/", listObjectsV2Response(null, janPrefixes, "jan/", "jan/1"));
+        responses.put("jan/01/", listObjectsV2Response(null, Collections.emptyList(), "jan/01/", "jan/01/1"));
+        mockPrefixedListing(responses);
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        listObjectsHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder().bucket("bucket").prefix("jan/").build(), 4)
+                         .subscribe(actualObjects::add).join();
+
+        assertThat(actualObjects).extracting(S3Object::key)
+                                 .containsExactlyInAnyOrder("jan/1", "jan/01/", "jan/01/1");
+    }
+
+    @Test
+    void listS3ObjectsInParallel_listingFails_shouldFailPublisher() {
+        List<CommonPrefix> rootPrefixes = Collections.singletonList(CommonPrefix.builder().prefix("jan/").build());
+        RuntimeException exception = new RuntimeException("boom");
+
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class)))
+            .thenReturn(CompletableFuture.completedFuture(listObjectsV2Response(null, rootPrefixes, "1")))
+            .thenReturn(CompletableFutureUtils.failedFuture(exception));
+
+        CompletableFuture<Void> future = listObjectsHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder()
+                                                                                                        .bucket("bucket")
+                                                                                                        .build(), 4)
+                                                          .subscribe(o -> { });
+
+        assertThatThrownBy(future::join).hasCause(exception);
+    }
+
+    /**
+     *              source
+     *    /    /   | |      \        \
+     *   1    2   3  4      jan       feb
+     *                 /  /  |  \     /  \
+     *              jan/ 1   2   01  1    2
+     *                          /  \
+     *                         1    2
+     *  "jan/" is the directory marker object of the "jan/" prefix.
+     */
+    private void mockPrefixedListing() {
+        List<CommonPrefix> rootPrefixes = Arrays.asList(CommonPrefix.builder().prefix("jan/").build(),
+                                                        CommonPrefix.builder().prefix("feb/").build());
+        List<CommonPrefix> janPrefixes = Collections.singletonList(CommonPrefix.builder().prefix("jan/01/").build());
+
+        Map<String, ListObjectsV2Response> responses = new HashMap<>();
+        responses.put("", listObjectsV2Response("root-2", rootPrefixes, "1", "2"));
+        responses.put("root-2", listObjectsV2Response(null, Collections.emptyList(), "3", "4"));
+        responses.put("jan/", listObjectsV2Response(null, janPrefixes, "jan/", "jan/1", "jan/2"));
+        responses.put("jan/01/", listObjectsV2Response("jan/01-2", Collections.emptyList(), "jan/01/1"));
+        responses.put("jan/01-2", listObjectsV2Response(null, Collections.emptyList(), "jan/01/2"));
+        responses.put("feb/", listObjectsV2Response(null, Collections.emptyList(), "feb/1", "feb/2"));
+        mockPrefixedListing(responses);
+    }
+
+    /**
+     * Serves the page of the given responses keyed by the request's continuation token, or by its prefix for the first page of
+     * a prefix.
+     */
+    private void mockPrefixedListing(Map<String, ListObjectsV2Response> responses) {
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class))).thenAnswer(i -> {
+            ListObjectsV2Request request = i.getArgument(0);
+            String page = request.continuationToken() != null ? request.continuationToken() : request.prefix();
+            ListObjectsV2Response response = responses.get(page);
+            return CompletableFuture.completedFuture(response.toBuilder().prefix(request.prefix()).build());
+        });
+    }
+
     private ListObjectsV2Response listObjectsV2Response(String... keys) {
         return listObjectsV2Response(null, null, keys);
     }
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.EXECUTOR;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
@@ -67,6 +68,7 @@ public class TransferManagerConfigurationTest {
         assertDefaultTransferManagerConfiguration(
             TransferManagerConfiguration.builder()
                 .transferDirectoryMaxConcurrency(null)
+                .downloadDirectoryListingMaxConcurrency(null)
                 .executor(null)
                 .uploadDirectoryFollowSymbolicLinks(null)
                 .uploadDirectoryMaxDepth(null)
@@ -78,6 +80,7 @@ public class TransferManagerConfigurationTest {
         assertThat(config.option(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS)).isFalse();
         assertThat(config.option(UPLOAD_DIRECTORY_MAX_DEPTH)).isEqualTo(Integer.MAX_VALUE);
         assertThat(config.option(DIRECTORY_TRANSFER_MAX_CONCURRENCY)).isEqualTo(100);
+        assertThat(config.option(DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY)).isEqualTo(1);
         assertThat(config.option(EXECUTOR)).isNotNull();
     }
 
@@ -89,6 +92,14 @@ public class TransferManagerConfigurationTest {
         assertThat(transferManagerConfiguration.option(DIRECTORY_TRANSFER_MAX_CONCURRENCY)).isEqualTo(50);
     }
 
+    @Test
+    public void downloadDirectoryListingMaxConcurrency_customValue_shouldBeStored() {
+        transferManagerConfiguration = TransferManagerConfiguration.builder()
+                                                                   .downloadDirectoryListingMaxConcurrency(8)
+                                                                   .build();
+        assertThat(transferManagerConfiguration.option(DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY)).isEqualTo(8);
+    }
+
     @Test
     public void close_noCustomExecutor_shouldCloseDefaultOne() {
         transferManagerConfiguration = TransferManagerConfiguration.builder().build();
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.eventbridge.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchOverrideConfiguration;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.internal.batchmanager.DefaultEventBridgeAsyncBatchManager;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Batch manager for implementing automatic batching with an EventBridge async client. Create an instance using
+ * {@link #builder()}.
+ * <p>
+ * This manager buffers individual events and sends them to the service in
+ * {@link software.amazon.awssdk.services.eventbridge.model.PutEventsRequest}s, reducing the number of API requests. Events are
+ * buffered until they reach a specified limit or a timeout occurs. An event that fails to be ingested completes its future
+ * exceptionally, without affecting the other events of the batch.
+ */
+@SdkPublicApi
+public interface EventBridgeAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Creates a builder for configuring and creating an {@link EventBridgeAsyncBatchManager}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultEventBridgeAsyncBatchManager.builder();
+    }
+
+    /**
+     * Buffers and batches a {@link PutEventsRequestEntry}, sending it as part of a
+     * {@link software.amazon.awssdk.services.eventbridge.model.PutEventsRequest}. Events are sent when the batch size, the
+     * batch payload size or timeout is reached.
+     *
+     * @param entry The event to be buffered.
+     * @return CompletableFuture of the {@link PutEventsResultEntry} of the event, completed exceptionally with an
+     * {@link software.amazon.awssdk.services.eventbridge.model.EventBridgeException} if the event was not ingested.
+     */
+    default CompletableFuture<PutEventsResultEntry> putEvent(PutEventsRequestEntry entry) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches a {@link PutEventsRequestEntry} using a {@link Consumer} to configure the event, sending it as part
+     * of a {@link software.amazon.awssdk.services.eventbridge.model.PutEventsRequest}.
+     *
+     * @param entry A {@link Consumer} to configure the event to be buffered.
+     * @return CompletableFuture of the {@link PutEventsResultEntry} of the event.
+     */
+    default CompletableFuture<PutEventsResultEntry> putEvent(Consumer<PutEventsRequestEntry.Builder> entry) {
+        return putEvent(PutEventsRequestEntry.builder().applyMutation(entry).build());
+    }
+
+    interface Builder {
+
+        /**
+         * Sets custom overrides for the BatchManager configuration. The maxBatchSize must be less than or equal to 10.
+         *
+         * @param overrideConfiguration The configuration overrides.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(RequestBatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Sets custom overrides for the BatchManager configuration using a {@link Consumer} to configure the overrides.
+         *
+         * @param overrideConfiguration A {@link Consumer} to configure the {@link RequestBatchOverrideConfiguration}.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<RequestBatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(RequestBatchOverrideConfiguration.builder()
+                                                                          .applyMutation(overrideConfiguration)
+                                                                          .build());
+        }
+
+        /**
+         * Sets the {@link EventBridgeAsyncClient} used to send the batch requests. This client must be closed by the caller.
+         *
+         * @param client The EventBridgeAsyncClient to use.
+         * @return This builder for method chaining.
+         * @throws NullPointerException If client is null.
+         */
+        Builder client(EventBridgeAsyncClient client);
+
+        /**
+         * Sets a custom {@link ScheduledExecutorService} for periodic buffer flushes. This executor must be closed by the
+         * caller.
+         *
+         * @param scheduledExecutor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link EventBridgeAsyncBatchManager} based on the supplied configurations.
+         *
+         * @return An initialized EventBridgeAsyncBatchManager.
+         */
+        EventBridgeAsyncBatchManager build();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.eventbridge.internal.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchOverrideConfiguration;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.batchmanager.EventBridgeAsyncBatchManager;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultEventBridgeAsyncBatchManager implements EventBridgeAsyncBatchManager {
+
+    private final PutEventsBatchManager putEventsBatchManager;
+
+    private DefaultEventBridgeAsyncBatchManager(DefaultBuilder builder) {
+        EventBridgeAsyncClient client = Validate.notNull(builder.client, "client cannot be null");
+        ScheduledExecutorService scheduledExecutor = Validate.notNull(builder.scheduledExecutor,
+                                                                      "scheduledExecutor cannot be null");
+        RequestBatchOverrideConfiguration overrideConfiguration = builder.overrideConfiguration;
+        Validate.isTrue(overrideConfiguration == null || overrideConfiguration.maxBatchSize() == null ||
+                        overrideConfiguration.maxBatchSize() <= PutEventsBatchManager.MAX_BATCH_ENTRIES,
+                        "The maxBatchSize must be less than or equal to %d. A batch can contain up to %d events.",
+                        PutEventsBatchManager.MAX_BATCH_ENTRIES, PutEventsBatchManager.MAX_BATCH_ENTRIES);
+
+        this.putEventsBatchManager =
+            new PutEventsBatchManager(
+                RequestBatchConfiguration.builder(overrideConfiguration)
+                                         .maxBatchBytesSize(PutEventsBatchManager.MAX_BATCH_PAYLOAD_SIZE_BYTES)
+                                         .build(),
+                scheduledExecutor,
+                client
+            );
+    }
+
+    @Override
+    public CompletableFuture<PutEventsResultEntry> putEvent(PutEventsRequestEntry entry) {
+        return putEventsBatchManager.batchRequest(entry);
+    }
+
+    public static EventBridgeAsyncBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public void close() {
+        putEventsBatchManager.close();
+    }
+
+    public static final class DefaultBuilder implements EventBridgeAsyncBatchManager.Builder {
+        private EventBridgeAsyncClient client;
+        private RequestBatchOverrideConfiguration overrideConfiguration;
+        private ScheduledExecutorService scheduledExecutor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public EventBridgeAsyncBatchManager.Builder overrideConfiguration(
+            RequestBatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public EventBridgeAsyncBatchManager.Builder client(EventBridgeAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public EventBridgeAsyncBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public EventBridgeAsyncBatchManager build() {
+            return new DefaultEventBridgeAsyncBatchManager(this);
+        }
+    }
+}
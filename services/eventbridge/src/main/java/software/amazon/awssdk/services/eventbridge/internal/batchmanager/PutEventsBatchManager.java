@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.eventbridge.internal.batchmanager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.internal.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchManager;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.model.EventBridgeException;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+import software.amazon.awssdk.utils.Either;
+
+/**
+ * Batches {@link PutEventsRequestEntry}s into {@link PutEventsRequest}s. The entries of a {@link PutEventsResponse} are in the
+ * same order as the entries of the request, and an entry that failed to be ingested has an error code.
+ */
+@SdkInternalApi
+public class PutEventsBatchManager extends RequestBatchManager<PutEventsRequestEntry, PutEventsResultEntry, PutEventsResponse> {
+
+    public static final int MAX_BATCH_ENTRIES = 10;
+
+    /**
+     * The total size of all entries of a PutEventsRequest can't exceed 256 KB.
+     */
+    public static final int MAX_BATCH_PAYLOAD_SIZE_BYTES = 262_144;
+
+    /**
+     * A PutEventsRequest can contain events for any event bus, so all events share a single batch.
+     */
+    private static final String BATCH_KEY = "PutEvents";
+
+    private static final int TIME_SIZE_BYTES = 14;
+
+    private final EventBridgeAsyncClient asyncClient;
+
+    protected PutEventsBatchManager(RequestBatchConfiguration overrideConfiguration,
+                                    ScheduledExecutorService scheduledExecutor,
+                                    EventBridgeAsyncClient asyncClient) {
+        super(overrideConfiguration, scheduledExecutor, PutEventsBatchManager::calculateEntrySize);
+        this.asyncClient = asyncClient;
+    }
+
+    /**
+     * Evaluates the size of an event the way EventBridge does when applying the PutEvents size limit: the UTF-8 length of its
+     * source, detail type, detail and resources, plus 14 bytes if the event has a time.
+     */
+    static Optional<Integer> calculateEntrySize(PutEventsRequestEntry entry) {
+        int size = entry.time() != null ? TIME_SIZE_BYTES : 0;
+        size += utf8Length(entry.source()) + utf8Length(entry.detailType()) + utf8Length(entry.detail());
+        if (entry.hasResources()) {
+            for (String resource : entry.resources()) {
+                size += utf8Length(resource);
+            }
+        }
+        return Optional.of(size);
+    }
+
+    private static int utf8Length(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
+    private static Throwable createThrowable(PutEventsResultEntry failedEntry) {
+        AwsErrorDetails errorDetails = AwsErrorDetails.builder()
+                                                      .errorCode(failedEntry.errorCode())
+                                                      .errorMessage(failedEntry.errorMessage())
+                                                      .build();
+        return EventBridgeException.builder()
+                                   .awsErrorDetails(errorDetails)
+                                   .message(failedEntry.errorMessage())
+                                   .build();
+    }
+
+    @Override
+    protected CompletableFuture<PutEventsResponse> batchAndSend(List<IdentifiableMessage<PutEventsRequestEntry>>
+                                                                    identifiedRequests, String batchKey) {
+        List<PutEventsRequestEntry> entries = identifiedRequests.stream()
+                                                                .map(IdentifiableMessage::message)
+                                                                .collect(Collectors.toList());
+        PutEventsRequest batchRequest = PutEventsRequest.builder()
+                                                        .entries(entries)
+                                                        .overrideConfiguration(o -> o.applyMutation(USER_AGENT_APPLIER))
+                                                        .build();
+        return asyncClient.putEvents(batchRequest);
+    }
+
+    @Override
+    protected String getBatchKey(PutEventsRequestEntry request) {
+        return BATCH_KEY;
+    }
+
+    @Override
+    protected List<Either<IdentifiableMessage<PutEventsResultEntry>,
+        IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<PutEventsRequestEntry>> identifiedRequests,
+                                                          PutEventsResponse batchResponse) {
+        List<Either<IdentifiableMessage<PutEventsResultEntry>, IdentifiableMessage<Throwable>>> mappedResponses =
+            new ArrayList<>();
+        List<PutEventsResultEntry> resultEntries = batchResponse.entries();
+        for (int i = 0; i < identifiedRequests.size(); i++) {
+            String key = identifiedRequests.get(i).id();
+            if (i >= resultEntries.size()) {
+                mappedResponses.add(Either.right(new IdentifiableMessage<>(
+                    key, SdkClientException.create("PutEvents response is missing the result of entry " + i))));
+                continue;
+            }
+            PutEventsResultEntry resultEntry = resultEntries.get(i);
+            if (resultEntry.errorCode() != null) {
+                mappedResponses.add(Either.right(new IdentifiableMessage<>(key, createThrowable(resultEntry))));
+            } else {
+                mappedResponses.add(Either.left(new IdentifiableMessage<>(key, resultEntry)));
+            }
+        }
+        return mappedResponses;
+    }
+}
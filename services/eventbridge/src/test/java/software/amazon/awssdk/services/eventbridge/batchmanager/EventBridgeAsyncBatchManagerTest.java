@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.eventbridge.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.model.EventBridgeException;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+class EventBridgeAsyncBatchManagerTest {
+
+    private EventBridgeAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+    private EventBridgeAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(EventBridgeAsyncClient.class);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        batchManager = EventBridgeAsyncBatchManager.builder()
+                                                   .client(client)
+                                                   .scheduledExecutor(scheduledExecutor)
+                                                   .overrideConfiguration(o -> o.maxBatchSize(2)
+                                                                                .sendRequestFrequency(Duration.ofHours(1)))
+                                                   .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchManager.close();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void putEvent_whenBatchIsFull_mapsResultEntriesByPosition() {
+        PutEventsResponse batchResponse =
+            PutEventsResponse.builder()
+                             .failedEntryCount(1)
+                             .entries(PutEventsResultEntry.builder().errorCode("InternalFailure").errorMessage("boom").build(),
+                                      PutEventsResultEntry.builder().eventId("event-1").build())
+                             .build();
+        when(client.putEvents(any(PutEventsRequest.class))).thenReturn(CompletableFuture.completedFuture(batchResponse));
+
+        CompletableFuture<PutEventsResultEntry> first = batchManager.putEvent(e -> e.source("test").detail("{}"));
+        CompletableFuture<PutEventsResultEntry> second = batchManager.putEvent(e -> e.source("test").detail("{}"));
+
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class)
+                                       .hasCauseInstanceOf(EventBridgeException.class);
+        assertThat(second.join().eventId()).isEqualTo("event-1");
+        verify(client, times(1)).putEvents(any(PutEventsRequest.class));
+    }
+
+    @Test
+    void putEvent_whenBatchRequestFails_failsAllEvents() {
+        CompletableFuture<PutEventsResponse> failure = new CompletableFuture<>();
+        failure.completeExceptionally(EventBridgeException.builder().message("throttled").build());
+        when(client.putEvents(any(PutEventsRequest.class))).thenReturn(failure);
+
+        CompletableFuture<PutEventsResultEntry> first = batchManager.putEvent(e -> e.source("test"));
+        CompletableFuture<PutEventsResultEntry> second = batchManager.putEvent(e -> e.source("test"));
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(EventBridgeException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(EventBridgeException.class);
+    }
+}
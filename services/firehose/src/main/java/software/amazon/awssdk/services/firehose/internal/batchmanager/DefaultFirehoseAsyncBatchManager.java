@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.firehose.internal.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchOverrideConfiguration;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.services.firehose.FirehoseAsyncClient;
+import software.amazon.awssdk.services.firehose.batchmanager.FirehoseAsyncBatchManager;
+import software.amazon.awssdk.services.firehose.model.PutRecordRequest;
+import software.amazon.awssdk.services.firehose.model.PutRecordResponse;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultFirehoseAsyncBatchManager implements FirehoseAsyncBatchManager {
+    private final FirehoseAsyncClient client;
+
+    private final PutRecordBatchManager putRecordBatchManager;
+
+    private DefaultFirehoseAsyncBatchManager(DefaultBuilder builder) {
+        this.client = Validate.notNull(builder.client, "client cannot be null");
+        ScheduledExecutorService scheduledExecutor = Validate.notNull(builder.scheduledExecutor,
+                                                                      "scheduledExecutor cannot be null");
+        RequestBatchOverrideConfiguration overrideConfiguration = builder.overrideConfiguration;
+        Validate.isTrue(overrideConfiguration == null || overrideConfiguration.maxBatchSize() == null ||
+                        overrideConfiguration.maxBatchSize() <= PutRecordBatchManager.MAX_BATCH_ENTRIES,
+                        "The maxBatchSize must be less than or equal to %d. A batch can contain up to %d records.",
+                        PutRecordBatchManager.MAX_BATCH_ENTRIES, PutRecordBatchManager.MAX_BATCH_ENTRIES);
+        Integer maxBatchSize = overrideConfiguration != null && overrideConfiguration.maxBatchSize() != null
+                               ? overrideConfiguration.maxBatchSize()
+                               : PutRecordBatchManager.MAX_BATCH_ENTRIES;
+
+        this.putRecordBatchManager =
+            new PutRecordBatchManager(
+                RequestBatchConfiguration.builder(overrideConfiguration)
+                                         .maxBatchItems(maxBatchSize)
+                                         .maxBatchBytesSize(PutRecordBatchManager.MAX_BATCH_PAYLOAD_SIZE_BYTES)
+                                         .build(),
+                scheduledExecutor,
+                client
+            );
+    }
+
+    @Override
+    public CompletableFuture<PutRecordResponse> putRecord(PutRecordRequest request) {
+        return putRecordBatchManager.batchRequest(request);
+    }
+
+    public static FirehoseAsyncBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public void close() {
+        putRecordBatchManager.close();
+    }
+
+    public static final class DefaultBuilder implements FirehoseAsyncBatchManager.Builder {
+        private FirehoseAsyncClient client;
+        private RequestBatchOverrideConfiguration overrideConfiguration;
+        private ScheduledExecutorService scheduledExecutor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public FirehoseAsyncBatchManager.Builder overrideConfiguration(RequestBatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public FirehoseAsyncBatchManager.Builder client(FirehoseAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public FirehoseAsyncBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public FirehoseAsyncBatchManager build() {
+            return new DefaultFirehoseAsyncBatchManager(this);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.firehose.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.internal.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchManager;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.firehose.FirehoseAsyncClient;
+import software.amazon.awssdk.services.firehose.model.FirehoseException;
+import software.amazon.awssdk.services.firehose.model.PutRecordBatchRequest;
+import software.amazon.awssdk.services.firehose.model.PutRecordBatchResponse;
+import software.amazon.awssdk.services.firehose.model.PutRecordBatchResponseEntry;
+import software.amazon.awssdk.services.firehose.model.PutRecordRequest;
+import software.amazon.awssdk.services.firehose.model.PutRecordResponse;
+import software.amazon.awssdk.services.firehose.model.Record;
+import software.amazon.awssdk.utils.Either;
+
+/**
+ * Batches {@link PutRecordRequest}s into {@link PutRecordBatchRequest}s. The entries of a {@link PutRecordBatchResponse} are in
+ * the same order as the records of the request, and an entry whose record failed to be ingested has an error code.
+ */
+@SdkInternalApi
+public class PutRecordBatchManager extends RequestBatchManager<PutRecordRequest, PutRecordResponse, PutRecordBatchResponse> {
+
+    public static final int MAX_BATCH_ENTRIES = 500;
+
+    /**
+     * The total size of all records of a PutRecordBatchRequest can't exceed 4 MiB.
+     */
+    public static final int MAX_BATCH_PAYLOAD_SIZE_BYTES = 4 * 1024 * 1024;
+
+    private final FirehoseAsyncClient asyncClient;
+
+    protected PutRecordBatchManager(RequestBatchConfiguration overrideConfiguration,
+                                    ScheduledExecutorService scheduledExecutor,
+                                    FirehoseAsyncClient asyncClient) {
+        super(overrideConfiguration, scheduledExecutor, PutRecordBatchManager::calculateRecordSize);
+        this.asyncClient = asyncClient;
+    }
+
+    static Optional<Integer> calculateRecordSize(PutRecordRequest request) {
+        Record record = request.record();
+        return Optional.of(record != null && record.data() != null ? record.data().asByteArrayUnsafe().length : 0);
+    }
+
+    private static Throwable createThrowable(PutRecordBatchResponseEntry failedEntry) {
+        AwsErrorDetails errorDetails = AwsErrorDetails.builder()
+                                                      .errorCode(failedEntry.errorCode())
+                                                      .errorMessage(failedEntry.errorMessage())
+                                                      .build();
+        return FirehoseException.builder()
+                                .awsErrorDetails(errorDetails)
+                                .message(failedEntry.errorMessage())
+                                .build();
+    }
+
+    private static PutRecordResponse createPutRecordResponse(PutRecordBatchResponseEntry successfulEntry,
+                                                             PutRecordBatchResponse batchResponse) {
+        PutRecordResponse.Builder builder = PutRecordResponse.builder()
+                                                             .recordId(successfulEntry.recordId())
+                                                             .encrypted(batchResponse.encrypted());
+        if (batchResponse.responseMetadata() != null) {
+            builder.responseMetadata(batchResponse.responseMetadata());
+        }
+        if (batchResponse.sdkHttpResponse() != null) {
+            builder.sdkHttpResponse(batchResponse.sdkHttpResponse());
+        }
+        return builder.build();
+    }
+
+    private static PutRecordBatchRequest createPutRecordBatchRequest(
+        List<IdentifiableMessage<PutRecordRequest>> identifiedRequests) {
+
+        List<Record> records = identifiedRequests.stream()
+                                                 .map(identifiedRequest -> identifiedRequest.message().record())
+                                                 .collect(Collectors.toList());
+
+        // All requests must have the same delivery stream and overrideConfiguration, so retrieve them from the first request.
+        PutRecordRequest firstRequest = identifiedRequests.get(0).message();
+        Optional<AwsRequestOverrideConfiguration> overrideConfiguration = firstRequest.overrideConfiguration();
+
+        return overrideConfiguration
+            .map(overrideConfig -> PutRecordBatchRequest.builder()
+                                                        .deliveryStreamName(firstRequest.deliveryStreamName())
+                                                        .overrideConfiguration(overrideConfig.toBuilder()
+                                                                                             .applyMutation(USER_AGENT_APPLIER)
+                                                                                             .build())
+                                                        .records(records)
+                                                        .build())
+            .orElseGet(() -> PutRecordBatchRequest.builder()
+                                                  .deliveryStreamName(firstRequest.deliveryStreamName())
+                                                  .overrideConfiguration(o -> o.applyMutation(USER_AGENT_APPLIER))
+                                                  .records(records)
+                                                  .build());
+    }
+
+    @Override
+    protected CompletableFuture<PutRecordBatchResponse> batchAndSend(List<IdentifiableMessage<PutRecordRequest>>
+                                                                         identifiedRequests, String batchKey) {
+        return asyncClient.putRecordBatch(createPutRecordBatchRequest(identifiedRequests));
+    }
+
+    @Override
+    protected String getBatchKey(PutRecordRequest request) {
+        return request.overrideConfiguration().map(overrideConfig -> request.deliveryStreamName() + overrideConfig.hashCode())
+                      .orElseGet(request::deliveryStreamName);
+    }
+
+    @Override
+    protected List<Either<IdentifiableMessage<PutRecordResponse>,
+        IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<PutRecordRequest>> identifiedRequests,
+                                                          PutRecordBatchResponse batchResponse) {
+        List<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> mappedResponses =
+            new ArrayList<>();
+        List<PutRecordBatchResponseEntry> responseEntries = batchResponse.requestResponses();
+        for (int i = 0; i < identifiedRequests.size(); i++) {
+            String key = identifiedRequests.get(i).id();
+            if (i >= responseEntries.size()) {
+                mappedResponses.add(Either.right(new IdentifiableMessage<>(
+                    key, SdkClientException.create("PutRecordBatch response is missing the result of record " + i))));
+                continue;
+            }
+            PutRecordBatchResponseEntry responseEntry = responseEntries.get(i);
+            if (responseEntry.errorCode() != null) {
+                mappedResponses.add(Either.right(new IdentifiableMessage<>(key, createThrowable(responseEntry))));
+            } else {
+                mappedResponses.add(Either.left(new IdentifiableMessage<>(key, createPutRecordResponse(responseEntry,
+                                                                                                       batchResponse))));
+            }
+        }
+        return mappedResponses;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.firehose.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.firehose.FirehoseAsyncClient;
+import software.amazon.awssdk.services.firehose.model.FirehoseException;
+import software.amazon.awssdk.services.firehose.model.PutRecordBatchRequest;
+import software.amazon.awssdk.services.firehose.model.PutRecordBatchResponse;
+import software.amazon.awssdk.services.firehose.model.PutRecordBatchResponseEntry;
+import software.amazon.awssdk.services.firehose.model.PutRecordResponse;
+
+class FirehoseAsyncBatchManagerTest {
+    private static final String STREAM = "delivery-stream";
+
+    private FirehoseAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+    private FirehoseAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(FirehoseAsyncClient.class);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        batchManager = FirehoseAsyncBatchManager.builder()
+                                                .client(client)
+                                                .scheduledExecutor(scheduledExecutor)
+                                                .overrideConfiguration(o -> o.maxBatchSize(2)
+                                                                             .sendRequestFrequency(Duration.ofHours(1)))
+                                                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchManager.close();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void putRecord_whenBatchIsFull_mapsResponseEntriesByPosition() {
+        PutRecordBatchResponse batchResponse =
+            PutRecordBatchResponse.builder()
+                                  .failedPutCount(1)
+                                  .requestResponses(PutRecordBatchResponseEntry.builder().recordId("record-0").build(),
+                                                    PutRecordBatchResponseEntry.builder()
+                                                                               .errorCode("ServiceUnavailableException")
+                                                                               .errorMessage("slow down")
+                                                                               .build())
+                                  .build();
+        when(client.putRecordBatch(any(PutRecordBatchRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(batchResponse));
+
+        CompletableFuture<PutRecordResponse> first =
+            batchManager.putRecord(r -> r.deliveryStreamName(STREAM).record(b -> b.data(SdkBytes.fromUtf8String("a"))));
+        CompletableFuture<PutRecordResponse> second =
+            batchManager.putRecord(r -> r.deliveryStreamName(STREAM).record(b -> b.data(SdkBytes.fromUtf8String("b"))));
+
+        assertThat(first.join().recordId()).isEqualTo("record-0");
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class)
+                                        .hasCauseInstanceOf(FirehoseException.class);
+        verify(client, times(1)).putRecordBatch(any(PutRecordBatchRequest.class));
+    }
+
+    @Test
+    void build_whenMaxBatchSizeExceedsServiceLimit_throws() {
+        assertThatThrownBy(() -> FirehoseAsyncBatchManager.builder()
+                                                          .client(client)
+                                                          .scheduledExecutor(scheduledExecutor)
+                                                          .overrideConfiguration(o -> o.maxBatchSize(501))
+                                                          .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.aggregation;
+
+import java.time.Instant;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.model.EncryptionType;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A user record extracted from a Kinesis record by the {@link RecordDeaggregator}. A Kinesis record that was not aggregated
+ * produces a single user record with the same partition key and data.
+ */
+@SdkPublicApi
+public final class DeaggregatedRecord {
+    private final String partitionKey;
+    private final String explicitHashKey;
+    private final SdkBytes data;
+    private final String sequenceNumber;
+    private final long subSequenceNumber;
+    private final Instant approximateArrivalTimestamp;
+    private final EncryptionType encryptionType;
+    private final boolean aggregated;
+
+    private DeaggregatedRecord(Builder builder) {
+        this.partitionKey = builder.partitionKey;
+        this.explicitHashKey = builder.explicitHashKey;
+        this.data = builder.data;
+        this.sequenceNumber = builder.sequenceNumber;
+        this.subSequenceNumber = builder.subSequenceNumber;
+        this.approximateArrivalTimestamp = builder.approximateArrivalTimestamp;
+        this.encryptionType = builder.encryptionType;
+        this.aggregated = builder.aggregated;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the partition key of the user record.
+     */
+    public String partitionKey() {
+        return partitionKey;
+    }
+
+    /**
+     * @return the explicit hash key of the user record, or null if it was not written with one.
+     */
+    public String explicitHashKey() {
+        return explicitHashKey;
+    }
+
+    /**
+     * @return the data of the user record.
+     */
+    public SdkBytes data() {
+        return data;
+    }
+
+    /**
+     * @return the sequence number of the Kinesis record that contained the user record.
+     */
+    public String sequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * @return the position of the user record in its aggregated Kinesis record, or 0 if it was not aggregated.
+     */
+    public long subSequenceNumber() {
+        return subSequenceNumber;
+    }
+
+    /**
+     * @return the approximate time that the Kinesis record that contained the user record was inserted into the stream.
+     */
+    public Instant approximateArrivalTimestamp() {
+        return approximateArrivalTimestamp;
+    }
+
+    /**
+     * @return the encryption type of the Kinesis record that contained the user record.
+     */
+    public EncryptionType encryptionType() {
+        return encryptionType;
+    }
+
+    /**
+     * @return true if the user record was extracted from an aggregated Kinesis record.
+     */
+    public boolean aggregated() {
+        return aggregated;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DeaggregatedRecord that = (DeaggregatedRecord) o;
+        return subSequenceNumber == that.subSequenceNumber
+               && aggregated == that.aggregated
+               && Objects.equals(partitionKey, that.partitionKey)
+               && Objects.equals(explicitHashKey, that.explicitHashKey)
+               && Objects.equals(data, that.data)
+               && Objects.equals(sequenceNumber, that.sequenceNumber)
+               && Objects.equals(approximateArrivalTimestamp, that.approximateArrivalTimestamp)
+               && encryptionType == that.encryptionType;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(partitionKey);
+        result = 31 * result + Objects.hashCode(explicitHashKey);
+        result = 31 * result + Objects.hashCode(data);
+        result = 31 * result + Objects.hashCode(sequenceNumber);
+        result = 31 * result + Long.hashCode(subSequenceNumber);
+        result = 31 * result + Objects.hashCode(approximateArrivalTimestamp);
+        result = 31 * result + Objects.hashCode(encryptionType);
+        result = 31 * result + Boolean.hashCode(aggregated);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DeaggregatedRecord")
+                       .add("partitionKey", partitionKey)
+                       .add("explicitHashKey", explicitHashKey)
+                       .add("sequenceNumber", sequenceNumber)
+                       .add("subSequenceNumber", subSequenceNumber)
+                       .add("approximateArrivalTimestamp", approximateArrivalTimestamp)
+                       .add("aggregated", aggregated)
+                       .build();
+    }
+
+    static final class Builder {
+        private String partitionKey;
+        private String explicitHashKey;
+        private SdkBytes data;
+        private String sequenceNumber;
+        private long subSequenceNumber;
+        private Instant approximateArrivalTimestamp;
+        private EncryptionType encryptionType;
+        private boolean aggregated;
+
+        private Builder() {
+        }
+
+        Builder partitionKey(String partitionKey) {
+            this.partitionKey = partitionKey;
+            return this;
+        }
+
+        Builder explicitHashKey(String explicitHashKey) {
+            this.explicitHashKey = explicitHashKey;
+            return this;
+        }
+
+        Builder data(SdkBytes data) {
+            this.data = data;
+            return this;
+        }
+
+        Builder sequenceNumber(String sequenceNumber) {
+            this.sequenceNumber = sequenceNumber;
+            return this;
+        }
+
+        Builder subSequenceNumber(long subSequenceNumber) {
+            this.subSequenceNumber = subSequenceNumber;
+            return this;
+        }
+
+        Builder approximateArrivalTimestamp(Instant approximateArrivalTimestamp) {
+            this.approximateArrivalTimestamp = approximateArrivalTimestamp;
+            return this;
+        }
+
+        Builder encryptionType(EncryptionType encryptionType) {
+            this.encryptionType = encryptionType;
+            return this;
+        }
+
+        Builder aggregated(boolean aggregated) {
+            this.aggregated = aggregated;
+            return this;
+        }
+
+        DeaggregatedRecord build() {
+            return new DeaggregatedRecord(this);
+        }
+    }
+}
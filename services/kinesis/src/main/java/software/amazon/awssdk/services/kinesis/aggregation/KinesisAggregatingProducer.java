@@ -0,0 +1,170 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.aggregation;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.internal.aggregation.DefaultKinesisAggregatingProducer;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A producer that packs many small user records into aggregated Kinesis records, in the format used by the Kinesis Producer
+ * Library (KPL), and writes them with {@code PutRecords}. Create an instance using {@link #builder()}.
+ * <p>
+ * Writing one Kinesis record per event is limited by the number of records per second a shard accepts long before its byte
+ * rate is reached. The producer predicts the shard of each user record from the hash key ranges returned by
+ * {@code ListShards}, aggregates user records of the same shard until the aggregated record reaches the configured size,
+ * and sends the aggregated records in batches when a batch is full or the configured buffering time elapses. Failed
+ * aggregated records are retried up to the configured number of times.
+ * <p>
+ * Consumers extract the user records with {@link RecordDeaggregator}, or with any KPL-compatible de-aggregation library.
+ */
+@SdkPublicApi
+public interface KinesisAggregatingProducer extends SdkAutoCloseable {
+
+    /**
+     * Creates a builder for configuring and creating a {@link KinesisAggregatingProducer}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultKinesisAggregatingProducer.builder();
+    }
+
+    /**
+     * Buffers a user record to be written to the stream.
+     *
+     * @param partitionKey The partition key of the user record, which determines its shard.
+     * @param data The data of the user record.
+     * @return CompletableFuture of the {@link UserRecordResult} of the user record, completed when the Kinesis record that
+     * contains it has been written.
+     */
+    default CompletableFuture<UserRecordResult> putRecord(String partitionKey, SdkBytes data) {
+        return putRecord(partitionKey, null, data);
+    }
+
+    /**
+     * Buffers a user record to be written to the stream, using an explicit hash key instead of the hash of the partition key
+     * to determine its shard.
+     *
+     * @param partitionKey The partition key of the user record.
+     * @param explicitHashKey The hash key of the user record, as a decimal number, or null to use the hash of the partition
+     * key.
+     * @param data The data of the user record.
+     * @return CompletableFuture of the {@link UserRecordResult} of the user record, completed when the Kinesis record that
+     * contains it has been written.
+     */
+    CompletableFuture<UserRecordResult> putRecord(String partitionKey, String explicitHashKey, SdkBytes data);
+
+    /**
+     * Sends all buffered user records without waiting for their aggregated records or batches to fill up.
+     *
+     * @return CompletableFuture that is completed when the resulting {@code PutRecords} calls have completed. User records of
+     * failed aggregated records that will be retried are not complete yet.
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * Sends all buffered user records, waits for them to be written or to exhaust their retries, and stops the producer.
+     */
+    @Override
+    void close();
+
+    interface Builder {
+
+        /**
+         * Sets the {@link KinesisAsyncClient} used to list the shards of the stream and write records. This client must be
+         * closed by the caller.
+         *
+         * @param client The KinesisAsyncClient to use.
+         * @return This builder for method chaining.
+         */
+        Builder client(KinesisAsyncClient client);
+
+        /**
+         * Sets the name of the stream to write to. Either the stream name or the stream ARN must be set.
+         *
+         * @param streamName The stream name.
+         * @return This builder for method chaining.
+         */
+        Builder streamName(String streamName);
+
+        /**
+         * Sets the ARN of the stream to write to. Either the stream name or the stream ARN must be set.
+         *
+         * @param streamArn The stream ARN.
+         * @return This builder for method chaining.
+         */
+        Builder streamArn(String streamArn);
+
+        /**
+         * Sets a custom {@link ScheduledExecutorService} for periodic buffer flushes. This executor must be closed by the
+         * caller. If not set, the producer creates a single-threaded executor and shuts it down when closed.
+         *
+         * @param scheduledExecutor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Sets the maximum size in bytes of an aggregated record, including the aggregation header and digest. Larger
+         * aggregated records mean fewer Kinesis records, but more data lost to a single failed record. A user record larger than
+         * this size is sent in a Kinesis record of its own. The default value is 51200 bytes, and the maximum value is 1 MiB.
+         *
+         * @param maxAggregatedRecordSize The maximum size of an aggregated record.
+         * @return This builder for method chaining.
+         */
+        Builder maxAggregatedRecordSize(Integer maxAggregatedRecordSize);
+
+        /**
+         * Sets the maximum time a user record is buffered before it is sent. The default value is 100 milliseconds.
+         *
+         * @param maxBufferedTime The maximum buffering time.
+         * @return This builder for method chaining.
+         */
+        Builder maxBufferedTime(Duration maxBufferedTime);
+
+        /**
+         * Sets the number of times a failed aggregated record is sent again before its user records fail. Retries are sent
+         * with the next batch. The default value is 3.
+         *
+         * @param maxRetries The maximum number of retries.
+         * @return This builder for method chaining.
+         */
+        Builder maxRetries(Integer maxRetries);
+
+        /**
+         * Sets how often the hash key ranges of the shards of the stream are listed again. The shards are also listed again
+         * when a record is written to a shard other than the predicted one. The default value is one minute.
+         *
+         * @param shardMapRefreshInterval The shard map refresh interval.
+         * @return This builder for method chaining.
+         */
+        Builder shardMapRefreshInterval(Duration shardMapRefreshInterval);
+
+        /**
+         * Builds an instance of {@link KinesisAggregatingProducer} based on the supplied configurations.
+         *
+         * @return An initialized KinesisAggregatingProducer.
+         */
+        KinesisAggregatingProducer build();
+    }
+}
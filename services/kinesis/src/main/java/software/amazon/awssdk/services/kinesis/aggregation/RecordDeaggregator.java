@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.aggregation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.internal.aggregation.AggregatedRecordCodec;
+import software.amazon.awssdk.services.kinesis.model.Record;
+
+/**
+ * Extracts the user records from Kinesis records written by a {@link KinesisAggregatingProducer} or by the Kinesis Producer
+ * Library. Use it on the records returned by {@code GetRecords} or delivered in {@code SubscribeToShard} events.
+ * <p>
+ * Records that are not aggregated, including records whose aggregation digest does not match their content, are returned as
+ * a single user record.
+ */
+@SdkPublicApi
+public final class RecordDeaggregator {
+
+    private RecordDeaggregator() {
+    }
+
+    /**
+     * Extract the user records of a Kinesis record, in the order in which they were written.
+     *
+     * @param record The Kinesis record.
+     * @return The user records contained in the Kinesis record.
+     */
+    public static List<DeaggregatedRecord> deaggregate(Record record) {
+        Optional<AggregatedRecordCodec.Decoded> decoded = AggregatedRecordCodec.decode(record.data().asByteArrayUnsafe());
+        if (!decoded.isPresent()) {
+            return Collections.singletonList(DeaggregatedRecord.builder()
+                                                               .partitionKey(record.partitionKey())
+                                                               .data(record.data())
+                                                               .sequenceNumber(record.sequenceNumber())
+                                                               .approximateArrivalTimestamp(record.approximateArrivalTimestamp())
+                                                               .encryptionType(record.encryptionType())
+                                                               .build());
+        }
+
+        AggregatedRecordCodec.Decoded aggregatedRecord = decoded.get();
+        List<DeaggregatedRecord> userRecords = new ArrayList<>(aggregatedRecord.entries().size());
+        long subSequenceNumber = 0;
+        for (AggregatedRecordCodec.Entry entry : aggregatedRecord.entries()) {
+            String explicitHashKey = entry.explicitHashKeyIndex() != null
+                                     ? aggregatedRecord.explicitHashKeyTable().get(entry.explicitHashKeyIndex().intValue())
+                                     : null;
+            userRecords.add(DeaggregatedRecord.builder()
+                                              .partitionKey(aggregatedRecord.partitionKeyTable()
+                                                                            .get((int) entry.partitionKeyIndex()))
+                                              .explicitHashKey(explicitHashKey)
+                                              .data(SdkBytes.fromByteArrayUnsafe(entry.data()))
+                                              .sequenceNumber(record.sequenceNumber())
+                                              .subSequenceNumber(subSequenceNumber++)
+                                              .approximateArrivalTimestamp(record.approximateArrivalTimestamp())
+                                              .encryptionType(record.encryptionType())
+                                              .aggregated(true)
+                                              .build());
+        }
+        return userRecords;
+    }
+
+    /**
+     * Extract the user records of a list of Kinesis records, in the order in which they were written.
+     *
+     * @param records The Kinesis records.
+     * @return The user records contained in the Kinesis records.
+     */
+    public static List<DeaggregatedRecord> deaggregate(Collection<Record> records) {
+        List<DeaggregatedRecord> userRecords = new ArrayList<>();
+        for (Record record : records) {
+            userRecords.addAll(deaggregate(record));
+        }
+        return userRecords;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.aggregation;
+
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The result of a user record written by a {@link KinesisAggregatingProducer}. User records that were packed into the same
+ * aggregated Kinesis record share its shard ID and sequence number, and are told apart by their sub-sequence number.
+ */
+@SdkPublicApi
+public final class UserRecordResult {
+    private final String shardId;
+    private final String sequenceNumber;
+    private final long subSequenceNumber;
+
+    private UserRecordResult(String shardId, String sequenceNumber, long subSequenceNumber) {
+        this.shardId = shardId;
+        this.sequenceNumber = sequenceNumber;
+        this.subSequenceNumber = subSequenceNumber;
+    }
+
+    public static UserRecordResult create(String shardId, String sequenceNumber, long subSequenceNumber) {
+        return new UserRecordResult(shardId, sequenceNumber, subSequenceNumber);
+    }
+
+    /**
+     * @return the ID of the shard the record was written to.
+     */
+    public String shardId() {
+        return shardId;
+    }
+
+    /**
+     * @return the sequence number of the Kinesis record that contains the user record.
+     */
+    public String sequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * @return the position of the user record in its aggregated Kinesis record, or 0 if it was not aggregated.
+     */
+    public long subSequenceNumber() {
+        return subSequenceNumber;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UserRecordResult that = (UserRecordResult) o;
+        return subSequenceNumber == that.subSequenceNumber
+               && Objects.equals(shardId, that.shardId)
+               && Objects.equals(sequenceNumber, that.sequenceNumber);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(shardId);
+        result = 31 * result + Objects.hashCode(sequenceNumber);
+        result = 31 * result + Long.hashCode(subSequenceNumber);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("UserRecordResult")
+                       .add("shardId", shardId)
+                       .add("sequenceNumber", sequenceNumber)
+                       .add("subSequenceNumber", subSequenceNumber)
+                       .build();
+    }
+}
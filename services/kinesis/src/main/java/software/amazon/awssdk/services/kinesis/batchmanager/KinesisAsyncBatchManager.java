@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchOverrideConfiguration;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.internal.batchmanager.DefaultKinesisAsyncBatchManager;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Batch manager for implementing automatic batching with a Kinesis async client. Create an instance using {@link #builder()}.
+ * <p>
+ * This manager buffers {@link PutRecordRequest}s and sends them to the service as
+ * {@link software.amazon.awssdk.services.kinesis.model.PutRecordsRequest}s, reducing the number of API requests. Requests are
+ * buffered until they reach a specified limit or a timeout occurs. A failed entry of a batch completes the future of its
+ * request exceptionally, without affecting the other requests of the batch.
+ */
+@SdkPublicApi
+public interface KinesisAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Creates a builder for configuring and creating a {@link KinesisAsyncBatchManager}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultKinesisAsyncBatchManager.builder();
+    }
+
+    /**
+     * Buffers and batches {@link PutRecordRequest}s, sending them as a
+     * {@link software.amazon.awssdk.services.kinesis.model.PutRecordsRequest}. Requests are grouped by stream and override
+     * configuration, and sent when the batch size, the batch payload size or timeout is reached.
+     * Requests with a sequence number for ordering cannot be batched, and are sent directly to Kinesis.
+     *
+     * @param request The PutRecordRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutRecordResponse}.
+     */
+    default CompletableFuture<PutRecordResponse> putRecord(PutRecordRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches {@link PutRecordRequest}s using a {@link Consumer} to configure the request, sending them as a
+     * {@link software.amazon.awssdk.services.kinesis.model.PutRecordsRequest}.
+     *
+     * @param request A {@link Consumer} to configure the PutRecordRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutRecordResponse}.
+     */
+    default CompletableFuture<PutRecordResponse> putRecord(Consumer<PutRecordRequest.Builder> request) {
+        return putRecord(PutRecordRequest.builder().applyMutation(request).build());
+    }
+
+    interface Builder {
+
+        /**
+         * Sets custom overrides for the BatchManager configuration. The maxBatchSize must be less than or equal to 500,
+         * which is also its default value.
+         *
+         * @param overrideConfiguration The configuration overrides.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(RequestBatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Sets custom overrides for the BatchManager configuration using a {@link Consumer} to configure the overrides.
+         *
+         * @param overrideConfiguration A {@link Consumer} to configure the {@link RequestBatchOverrideConfiguration}.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<RequestBatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(RequestBatchOverrideConfiguration.builder()
+                                                                          .applyMutation(overrideConfiguration)
+                                                                          .build());
+        }
+
+        /**
+         * Sets the {@link KinesisAsyncClient} used to send the batch requests. This client must be closed by the caller.
+         *
+         * @param client The KinesisAsyncClient to use.
+         * @return This builder for method chaining.
+         * @throws NullPointerException If client is null.
+         */
+        Builder client(KinesisAsyncClient client);
+
+        /**
+         * Sets a custom {@link ScheduledExecutorService} for periodic buffer flushes. This executor must be closed by the
+         * caller.
+         *
+         * @param scheduledExecutor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link KinesisAsyncBatchManager} based on the supplied configurations.
+         *
+         * @return An initialized KinesisAsyncBatchManager.
+         */
+        KinesisAsyncBatchManager build();
+    }
+}
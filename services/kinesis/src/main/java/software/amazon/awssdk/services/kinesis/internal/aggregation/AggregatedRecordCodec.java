@@ -0,0 +1,375 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.internal.aggregation;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * Encodes and decodes aggregated records in the format used by the Kinesis Producer Library (KPL): a four byte magic number,
+ * followed by an {@code AggregatedRecord} protobuf message, followed by the MD5 digest of that message.
+ *
+ * <pre>
+ * message AggregatedRecord {
+ *     repeated string partition_key_table     = 1;
+ *     repeated string explicit_hash_key_table = 2;
+ *     repeated Record records                 = 3;
+ * }
+ * message Record {
+ *     required uint64 partition_key_index     = 1;
+ *     optional uint64 explicit_hash_key_index = 2;
+ *     required bytes  data                    = 3;
+ *     repeated Tag    tags                    = 4;
+ * }
+ * </pre>
+ *
+ * The protobuf wire format is written directly, so this module does not depend on a protobuf runtime.
+ */
+@SdkInternalApi
+public final class AggregatedRecordCodec {
+
+    public static final byte[] MAGIC = {(byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2};
+    public static final int DIGEST_LENGTH = 16;
+
+    /**
+     * The bytes added around the protobuf message: the magic number and the MD5 digest.
+     */
+    public static final int OVERHEAD_BYTES = MAGIC.length + DIGEST_LENGTH;
+
+    private static final int WIRE_TYPE_VARINT = 0;
+    private static final int WIRE_TYPE_FIXED64 = 1;
+    private static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_TYPE_FIXED32 = 5;
+
+    private static final int PARTITION_KEY_TABLE_FIELD = 1;
+    private static final int EXPLICIT_HASH_KEY_TABLE_FIELD = 2;
+    private static final int RECORDS_FIELD = 3;
+
+    private static final int PARTITION_KEY_INDEX_FIELD = 1;
+    private static final int EXPLICIT_HASH_KEY_INDEX_FIELD = 2;
+    private static final int DATA_FIELD = 3;
+
+    private AggregatedRecordCodec() {
+    }
+
+    public static byte[] encode(List<String> partitionKeyTable, List<String> explicitHashKeyTable, List<Entry> entries) {
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        for (String partitionKey : partitionKeyTable) {
+            writeBytesField(message, PARTITION_KEY_TABLE_FIELD, partitionKey.getBytes(StandardCharsets.UTF_8));
+        }
+        for (String explicitHashKey : explicitHashKeyTable) {
+            writeBytesField(message, EXPLICIT_HASH_KEY_TABLE_FIELD, explicitHashKey.getBytes(StandardCharsets.UTF_8));
+        }
+        for (Entry entry : entries) {
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            writeTag(record, PARTITION_KEY_INDEX_FIELD, WIRE_TYPE_VARINT);
+            writeVarint(record, entry.partitionKeyIndex());
+            if (entry.explicitHashKeyIndex() != null) {
+                writeTag(record, EXPLICIT_HASH_KEY_INDEX_FIELD, WIRE_TYPE_VARINT);
+                writeVarint(record, entry.explicitHashKeyIndex());
+            }
+            writeBytesField(record, DATA_FIELD, entry.data());
+            writeBytesField(message, RECORDS_FIELD, record.toByteArray());
+        }
+
+        byte[] messageBytes = message.toByteArray();
+        byte[] result = new byte[OVERHEAD_BYTES + messageBytes.length];
+        System.arraycopy(MAGIC, 0, result, 0, MAGIC.length);
+        System.arraycopy(messageBytes, 0, result, MAGIC.length, messageBytes.length);
+        System.arraycopy(Md5Utils.computeMD5Hash(messageBytes), 0, result, MAGIC.length + messageBytes.length, DIGEST_LENGTH);
+        return result;
+    }
+
+    /**
+     * Decode an aggregated record. Returns empty if the data does not start with the magic number, if the digest does not
+     * match, or if the message cannot be parsed, in which case the data should be treated as a single user record.
+     */
+    public static Optional<Decoded> decode(byte[] data) {
+        if (data.length <= OVERHEAD_BYTES || !hasMagic(data)) {
+            return Optional.empty();
+        }
+        int messageEnd = data.length - DIGEST_LENGTH;
+        byte[] message = Arrays.copyOfRange(data, MAGIC.length, messageEnd);
+        byte[] digest = Arrays.copyOfRange(data, messageEnd, data.length);
+        if (!Arrays.equals(Md5Utils.computeMD5Hash(message), digest)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(decodeMessage(message));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The number of bytes that a length-delimited field with the given payload length takes in a protobuf message.
+     */
+    public static int bytesFieldSize(int fieldNumber, int length) {
+        return varintSize(tag(fieldNumber, WIRE_TYPE_LENGTH_DELIMITED)) + varintSize(length) + length;
+    }
+
+    /**
+     * The number of bytes that a varint field with the given value takes in a protobuf message.
+     */
+    public static int varintFieldSize(int fieldNumber, long value) {
+        return varintSize(tag(fieldNumber, WIRE_TYPE_VARINT)) + varintSize(value);
+    }
+
+    /**
+     * The number of bytes that an entry of the records field takes in an AggregatedRecord message.
+     */
+    public static int entrySize(long partitionKeyIndex, Long explicitHashKeyIndex, int dataLength) {
+        int recordSize = varintFieldSize(PARTITION_KEY_INDEX_FIELD, partitionKeyIndex) + bytesFieldSize(DATA_FIELD, dataLength);
+        if (explicitHashKeyIndex != null) {
+            recordSize += varintFieldSize(EXPLICIT_HASH_KEY_INDEX_FIELD, explicitHashKeyIndex);
+        }
+        return bytesFieldSize(RECORDS_FIELD, recordSize);
+    }
+
+    public static int partitionKeyTableEntrySize(String partitionKey) {
+        return bytesFieldSize(PARTITION_KEY_TABLE_FIELD, partitionKey.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    public static int explicitHashKeyTableEntrySize(String explicitHashKey) {
+        return bytesFieldSize(EXPLICIT_HASH_KEY_TABLE_FIELD, explicitHashKey.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static boolean hasMagic(byte[] data) {
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Decoded decodeMessage(byte[] message) {
+        List<String> partitionKeyTable = new ArrayList<>();
+        List<String> explicitHashKeyTable = new ArrayList<>();
+        List<Entry> entries = new ArrayList<>();
+        Reader reader = new Reader(message, 0, message.length);
+        while (reader.hasRemaining()) {
+            long tag = reader.readVarint();
+            int fieldNumber = (int) (tag >>> 3);
+            int wireType = (int) (tag & 0x7);
+            if (wireType == WIRE_TYPE_LENGTH_DELIMITED && fieldNumber == PARTITION_KEY_TABLE_FIELD) {
+                partitionKeyTable.add(new String(reader.readBytes(), StandardCharsets.UTF_8));
+            } else if (wireType == WIRE_TYPE_LENGTH_DELIMITED && fieldNumber == EXPLICIT_HASH_KEY_TABLE_FIELD) {
+                explicitHashKeyTable.add(new String(reader.readBytes(), StandardCharsets.UTF_8));
+            } else if (wireType == WIRE_TYPE_LENGTH_DELIMITED && fieldNumber == RECORDS_FIELD) {
+                entries.add(decodeEntry(reader.readBytes()));
+            } else {
+                reader.skip(wireType);
+            }
+        }
+        for (Entry entry : entries) {
+            if (entry.partitionKeyIndex() >= partitionKeyTable.size()
+                || entry.explicitHashKeyIndex() != null && entry.explicitHashKeyIndex() >= explicitHashKeyTable.size()) {
+                throw new IllegalArgumentException("Aggregated record refers to a missing key table entry.");
+            }
+        }
+        return new Decoded(partitionKeyTable, explicitHashKeyTable, entries);
+    }
+
+    private static Entry decodeEntry(byte[] record) {
+        Long partitionKeyIndex = null;
+        Long explicitHashKeyIndex = null;
+        byte[] data = null;
+        Reader reader = new Reader(record, 0, record.length);
+        while (reader.hasRemaining()) {
+            long tag = reader.readVarint();
+            int fieldNumber = (int) (tag >>> 3);
+            int wireType = (int) (tag & 0x7);
+            if (wireType == WIRE_TYPE_VARINT && fieldNumber == PARTITION_KEY_INDEX_FIELD) {
+                partitionKeyIndex = reader.readVarint();
+            } else if (wireType == WIRE_TYPE_VARINT && fieldNumber == EXPLICIT_HASH_KEY_INDEX_FIELD) {
+                explicitHashKeyIndex = reader.readVarint();
+            } else if (wireType == WIRE_TYPE_LENGTH_DELIMITED && fieldNumber == DATA_FIELD) {
+                data = reader.readBytes();
+            } else {
+                reader.skip(wireType);
+            }
+        }
+        if (partitionKeyIndex == null || data == null) {
+            throw new IllegalArgumentException("Aggregated record entry is missing a required field.");
+        }
+        return new Entry(partitionKeyIndex, explicitHashKeyIndex, data);
+    }
+
+    private static long tag(int fieldNumber, int wireType) {
+        return ((long) fieldNumber << 3) | wireType;
+    }
+
+    private static void writeTag(ByteArrayOutputStream out, int fieldNumber, int wireType) {
+        writeVarint(out, tag(fieldNumber, wireType));
+    }
+
+    private static void writeBytesField(ByteArrayOutputStream out, int fieldNumber, byte[] value) {
+        writeTag(out, fieldNumber, WIRE_TYPE_LENGTH_DELIMITED);
+        writeVarint(out, value.length);
+        out.write(value, 0, value.length);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private final int limit;
+        private int position;
+
+        private Reader(byte[] buffer, int offset, int limit) {
+            this.buffer = buffer;
+            this.position = offset;
+            this.limit = limit;
+        }
+
+        private boolean hasRemaining() {
+            return position < limit;
+        }
+
+        private long readVarint() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint.");
+        }
+
+        private byte[] readBytes() {
+            long length = readVarint();
+            if (length < 0 || length > limit - position) {
+                throw new IllegalArgumentException("Length-delimited field exceeds the message.");
+            }
+            byte[] result = Arrays.copyOfRange(buffer, position, position + (int) length);
+            position += (int) length;
+            return result;
+        }
+
+        private void skip(int wireType) {
+            switch (wireType) {
+                case WIRE_TYPE_VARINT:
+                    readVarint();
+                    break;
+                case WIRE_TYPE_FIXED64:
+                    advance(8);
+                    break;
+                case WIRE_TYPE_LENGTH_DELIMITED:
+                    readBytes();
+                    break;
+                case WIRE_TYPE_FIXED32:
+                    advance(4);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported wire type: " + wireType);
+            }
+        }
+
+        private byte readByte() {
+            if (position >= limit) {
+                throw new IllegalArgumentException("Unexpected end of message.");
+            }
+            return buffer[position++];
+        }
+
+        private void advance(int bytes) {
+            if (bytes > limit - position) {
+                throw new IllegalArgumentException("Unexpected end of message.");
+            }
+            position += bytes;
+        }
+    }
+
+    /**
+     * A user record in an aggregated record.
+     */
+    public static final class Entry {
+        private final long partitionKeyIndex;
+        private final Long explicitHashKeyIndex;
+        private final byte[] data;
+
+        public Entry(long partitionKeyIndex, Long explicitHashKeyIndex, byte[] data) {
+            this.partitionKeyIndex = partitionKeyIndex;
+            this.explicitHashKeyIndex = explicitHashKeyIndex;
+            this.data = data;
+        }
+
+        public long partitionKeyIndex() {
+            return partitionKeyIndex;
+        }
+
+        public Long explicitHashKeyIndex() {
+            return explicitHashKeyIndex;
+        }
+
+        public byte[] data() {
+            return data;
+        }
+    }
+
+    /**
+     * The key tables and user records of a decoded aggregated record.
+     */
+    public static final class Decoded {
+        private final List<String> partitionKeyTable;
+        private final List<String> explicitHashKeyTable;
+        private final List<Entry> entries;
+
+        private Decoded(List<String> partitionKeyTable, List<String> explicitHashKeyTable, List<Entry> entries) {
+            this.partitionKeyTable = Collections.unmodifiableList(partitionKeyTable);
+            this.explicitHashKeyTable = Collections.unmodifiableList(explicitHashKeyTable);
+            this.entries = Collections.unmodifiableList(entries);
+        }
+
+        public List<String> partitionKeyTable() {
+            return partitionKeyTable;
+        }
+
+        public List<String> explicitHashKeyTable() {
+            return explicitHashKeyTable;
+        }
+
+        public List<Entry> entries() {
+            return entries;
+        }
+    }
+}
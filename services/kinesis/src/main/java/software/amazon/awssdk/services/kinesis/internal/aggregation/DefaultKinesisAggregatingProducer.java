@@ -0,0 +1,387 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.internal.aggregation;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.aggregation.KinesisAggregatingProducer;
+import software.amazon.awssdk.services.kinesis.aggregation.UserRecordResult;
+import software.amazon.awssdk.services.kinesis.internal.batchmanager.PutRecordsBatchManager;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Md5Utils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultKinesisAggregatingProducer implements KinesisAggregatingProducer {
+    public static final int DEFAULT_MAX_AGGREGATED_RECORD_SIZE = 51_200;
+    public static final Duration DEFAULT_MAX_BUFFERED_TIME = Duration.ofMillis(100);
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final Duration DEFAULT_SHARD_MAP_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private static final Logger log = Logger.loggerFor(DefaultKinesisAggregatingProducer.class);
+
+    private static final int MAX_RECORD_SIZE_BYTES = 1024 * 1024;
+    private static final int MAX_PARTITION_KEY_LENGTH = 256;
+    private static final BigInteger MAX_HASH_KEY = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+    private final KinesisAsyncClient client;
+    private final String streamName;
+    private final String streamArn;
+    private final int maxAggregatedRecordSize;
+    private final int maxRetries;
+    private final ShardMap shardMap;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final boolean ownsScheduledExecutor;
+    private final ScheduledFuture<?> scheduledFlush;
+
+    private final Object bufferLock = new Object();
+    private final Map<String, RecordAggregator> openAggregators = new HashMap<>();
+    private final List<RecordAggregator> readyRecords = new ArrayList<>();
+    private final Set<CompletableFuture<Void>> inFlightRequests = ConcurrentHashMap.newKeySet();
+    private int readyRecordBytes;
+    private volatile boolean closed;
+
+    private DefaultKinesisAggregatingProducer(DefaultBuilder builder) {
+        this.client = Validate.notNull(builder.client, "client cannot be null");
+        Validate.isTrue(builder.streamName != null || builder.streamArn != null, "streamName or streamArn must be set");
+        this.streamName = builder.streamName;
+        this.streamArn = builder.streamArn;
+        this.maxAggregatedRecordSize = builder.maxAggregatedRecordSize != null ? builder.maxAggregatedRecordSize
+                                                                               : DEFAULT_MAX_AGGREGATED_RECORD_SIZE;
+        Validate.isTrue(maxAggregatedRecordSize > AggregatedRecordCodec.OVERHEAD_BYTES
+                        && maxAggregatedRecordSize <= MAX_RECORD_SIZE_BYTES,
+                        "maxAggregatedRecordSize must be greater than %d and less than or equal to %d",
+                        AggregatedRecordCodec.OVERHEAD_BYTES, MAX_RECORD_SIZE_BYTES);
+        this.maxRetries = Validate.isNotNegative(builder.maxRetries != null ? builder.maxRetries : DEFAULT_MAX_RETRIES,
+                                                 "maxRetries");
+        Duration maxBufferedTime = Validate.isPositive(builder.maxBufferedTime != null ? builder.maxBufferedTime
+                                                                                      : DEFAULT_MAX_BUFFERED_TIME,
+                                                       "maxBufferedTime");
+        Duration refreshInterval = Validate.isPositive(builder.shardMapRefreshInterval != null
+                                                       ? builder.shardMapRefreshInterval
+                                                       : DEFAULT_SHARD_MAP_REFRESH_INTERVAL,
+                                                       "shardMapRefreshInterval");
+        this.shardMap = new ShardMap(client, streamName, streamArn, refreshInterval);
+
+        this.ownsScheduledExecutor = builder.scheduledExecutor == null;
+        this.scheduledExecutor = ownsScheduledExecutor
+                                 ? Executors.newSingleThreadScheduledExecutor(
+                                     new ThreadFactoryBuilder().threadNamePrefix("sdk-kinesis-aggregation")
+                                                               .daemonThreads(true)
+                                                               .build())
+                                 : builder.scheduledExecutor;
+        this.scheduledFlush = scheduledExecutor.scheduleWithFixedDelay(this::scheduledFlush,
+                                                                       maxBufferedTime.toMillis(),
+                                                                       maxBufferedTime.toMillis(),
+                                                                       TimeUnit.MILLISECONDS);
+    }
+
+    public static KinesisAggregatingProducer.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public CompletableFuture<UserRecordResult> putRecord(String partitionKey, String explicitHashKey, SdkBytes data) {
+        if (closed) {
+            return CompletableFutureUtils.failedFuture(new IllegalStateException("The producer has been closed."));
+        }
+        BigInteger hashKey;
+        byte[] bytes;
+        try {
+            Validate.paramNotNull(data, "data");
+            Validate.paramNotBlank(partitionKey, "partitionKey");
+            Validate.isTrue(partitionKey.length() <= MAX_PARTITION_KEY_LENGTH,
+                            "partitionKey must be at most %d characters", MAX_PARTITION_KEY_LENGTH);
+            hashKey = explicitHashKey != null ? parseExplicitHashKey(explicitHashKey) : hashPartitionKey(partitionKey);
+            bytes = data.asByteArrayUnsafe();
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+
+        Optional<String> predictedShardId = shardMap.shardId(hashKey);
+        // Without a shard map, only user records with the same hash key are known to belong to the same shard.
+        String bucket = predictedShardId.orElseGet(hashKey::toString);
+
+        CompletableFuture<UserRecordResult> future = new CompletableFuture<>();
+        List<List<RecordAggregator>> batches;
+        synchronized (bufferLock) {
+            RecordAggregator aggregator = openAggregators.get(bucket);
+            if (aggregator == null || !aggregator.tryAdd(partitionKey, explicitHashKey, bytes, future)) {
+                if (aggregator != null) {
+                    markReady(aggregator);
+                }
+                aggregator = new RecordAggregator(hashKey, predictedShardId.orElse(null), maxAggregatedRecordSize);
+                aggregator.tryAdd(partitionKey, explicitHashKey, bytes, future);
+                openAggregators.put(bucket, aggregator);
+            }
+            batches = drainBatches(false);
+        }
+        batches.forEach(this::send);
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        List<List<RecordAggregator>> batches;
+        synchronized (bufferLock) {
+            new ArrayList<>(openAggregators.values()).forEach(this::markReady);
+            batches = drainBatches(true);
+        }
+        return CompletableFuture.allOf(batches.stream().map(this::send).toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduledFlush.cancel(false);
+        // Every round sends the records that failed in the previous one, so maxRetries + 1 rounds drain the buffer.
+        for (int round = 0; round <= maxRetries + 1 && (hasBufferedRecords() || !inFlightRequests.isEmpty()); round++) {
+            CompletableFuture.allOf(inFlightRequests.toArray(new CompletableFuture[0])).join();
+            flush().join();
+        }
+        if (ownsScheduledExecutor) {
+            scheduledExecutor.shutdown();
+        }
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn(() -> "Failed to flush buffered Kinesis records.", e);
+        }
+    }
+
+    private boolean hasBufferedRecords() {
+        synchronized (bufferLock) {
+            return !openAggregators.isEmpty() || !readyRecords.isEmpty();
+        }
+    }
+
+    /**
+     * Must be called while holding the buffer lock.
+     */
+    private void markReady(RecordAggregator aggregator) {
+        openAggregators.values().remove(aggregator);
+        readyRecords.add(aggregator);
+        readyRecordBytes += aggregator.requestSize();
+    }
+
+    /**
+     * Take the ready records that fill a PutRecords request, or all ready records if {@code all} is true. Must be called while
+     * holding the buffer lock.
+     */
+    private List<List<RecordAggregator>> drainBatches(boolean all) {
+        List<List<RecordAggregator>> batches = new ArrayList<>();
+        while (!readyRecords.isEmpty()
+               && (all || readyRecords.size() >= PutRecordsBatchManager.MAX_BATCH_ENTRIES
+                   || readyRecordBytes >= PutRecordsBatchManager.MAX_BATCH_PAYLOAD_SIZE_BYTES)) {
+            List<RecordAggregator> batch = new ArrayList<>();
+            int batchBytes = 0;
+            while (!readyRecords.isEmpty() && batch.size() < PutRecordsBatchManager.MAX_BATCH_ENTRIES) {
+                RecordAggregator next = readyRecords.get(0);
+                if (!batch.isEmpty() && batchBytes + next.requestSize() > PutRecordsBatchManager.MAX_BATCH_PAYLOAD_SIZE_BYTES) {
+                    break;
+                }
+                readyRecords.remove(0);
+                readyRecordBytes -= next.requestSize();
+                batchBytes += next.requestSize();
+                batch.add(next);
+            }
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private CompletableFuture<Void> send(List<RecordAggregator> batch) {
+        batch.forEach(RecordAggregator::incrementAttempts);
+        PutRecordsRequest request = PutRecordsRequest.builder()
+                                                     .streamName(streamName)
+                                                     .streamARN(streamArn)
+                                                     .records(batch.stream()
+                                                                   .map(RecordAggregator::requestEntry)
+                                                                   .collect(Collectors.toList()))
+                                                     .build();
+        CompletableFuture<PutRecordsResponse> responseFuture;
+        try {
+            responseFuture = client.putRecords(request);
+        } catch (RuntimeException e) {
+            responseFuture = CompletableFutureUtils.failedFuture(e);
+        }
+        CompletableFuture<Void> handled = responseFuture.handle((response, throwable) -> {
+            handleResponse(batch, response, throwable);
+            return null;
+        });
+        inFlightRequests.add(handled);
+        handled.whenComplete((r, t) -> inFlightRequests.remove(handled));
+        return handled;
+    }
+
+    private void handleResponse(List<RecordAggregator> batch, PutRecordsResponse response, Throwable throwable) {
+        if (throwable != null) {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                              ? throwable.getCause() : throwable;
+            batch.forEach(record -> retryOrFail(record, cause));
+            return;
+        }
+        List<PutRecordsResultEntry> results = response.records();
+        for (int i = 0; i < batch.size(); i++) {
+            RecordAggregator record = batch.get(i);
+            if (i >= results.size()) {
+                retryOrFail(record, SdkClientException.create("PutRecords response is missing the result of record " + i));
+                continue;
+            }
+            PutRecordsResultEntry result = results.get(i);
+            if (result.errorCode() != null) {
+                retryOrFail(record, KinesisException.builder()
+                                                    .awsErrorDetails(AwsErrorDetails.builder()
+                                                                                    .errorCode(result.errorCode())
+                                                                                    .errorMessage(result.errorMessage())
+                                                                                    .build())
+                                                    .message(result.errorMessage())
+                                                    .build());
+                continue;
+            }
+            if (record.predictedShardId() != null && !record.predictedShardId().equals(result.shardId())) {
+                shardMap.invalidate();
+            }
+            record.complete(result.shardId(), result.sequenceNumber());
+        }
+    }
+
+    private void retryOrFail(RecordAggregator record, Throwable cause) {
+        // The number of attempts includes the first one.
+        if (record.attempts() > maxRetries) {
+            record.fail(cause);
+            return;
+        }
+        synchronized (bufferLock) {
+            readyRecords.add(record);
+            readyRecordBytes += record.requestSize();
+        }
+    }
+
+    private static BigInteger hashPartitionKey(String partitionKey) {
+        return new BigInteger(1, Md5Utils.computeMD5Hash(partitionKey.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static BigInteger parseExplicitHashKey(String explicitHashKey) {
+        BigInteger hashKey;
+        try {
+            hashKey = new BigInteger(explicitHashKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("explicitHashKey must be a decimal number", e);
+        }
+        Validate.isTrue(hashKey.signum() >= 0 && hashKey.compareTo(MAX_HASH_KEY) <= 0,
+                        "explicitHashKey must be between 0 and 2^128 - 1");
+        return hashKey;
+    }
+
+    public static final class DefaultBuilder implements KinesisAggregatingProducer.Builder {
+        private KinesisAsyncClient client;
+        private String streamName;
+        private String streamArn;
+        private ScheduledExecutorService scheduledExecutor;
+        private Integer maxAggregatedRecordSize;
+        private Duration maxBufferedTime;
+        private Integer maxRetries;
+        private Duration shardMapRefreshInterval;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public KinesisAggregatingProducer.Builder client(KinesisAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public KinesisAggregatingProducer.Builder streamName(String streamName) {
+            this.streamName = streamName;
+            return this;
+        }
+
+        @Override
+        public KinesisAggregatingProducer.Builder streamArn(String streamArn) {
+            this.streamArn = streamArn;
+            return this;
+        }
+
+        @Override
+        public KinesisAggregatingProducer.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public KinesisAggregatingProducer.Builder maxAggregatedRecordSize(Integer maxAggregatedRecordSize) {
+            this.maxAggregatedRecordSize = maxAggregatedRecordSize;
+            return this;
+        }
+
+        @Override
+        public KinesisAggregatingProducer.Builder maxBufferedTime(Duration maxBufferedTime) {
+            this.maxBufferedTime = maxBufferedTime;
+            return this;
+        }
+
+        @Override
+        public KinesisAggregatingProducer.Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        @Override
+        public KinesisAggregatingProducer.Builder shardMapRefreshInterval(Duration shardMapRefreshInterval) {
+            this.shardMapRefreshInterval = shardMapRefreshInterval;
+            return this;
+        }
+
+        @Override
+        public KinesisAggregatingProducer build() {
+            return new DefaultKinesisAggregatingProducer(this);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.internal.aggregation;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.aggregation.UserRecordResult;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+
+/**
+ * Collects the user records of one aggregated Kinesis record. All user records are expected to belong to the same shard; the
+ * aggregated record is written with the hash key of the first user record as its explicit hash key, so that it is routed to
+ * that shard.
+ * <p>
+ * This class is not thread safe.
+ */
+@SdkInternalApi
+public final class RecordAggregator {
+    private final BigInteger hashKey;
+    private final String predictedShardId;
+    private final int maxSizeInBytes;
+
+    private final Map<String, Integer> partitionKeyIndexes = new HashMap<>();
+    private final List<String> partitionKeyTable = new ArrayList<>();
+    private final Map<String, Integer> explicitHashKeyIndexes = new HashMap<>();
+    private final List<String> explicitHashKeyTable = new ArrayList<>();
+    private final List<AggregatedRecordCodec.Entry> entries = new ArrayList<>();
+    private final List<CompletableFuture<UserRecordResult>> futures = new ArrayList<>();
+
+    private int sizeInBytes = AggregatedRecordCodec.OVERHEAD_BYTES;
+    private int attempts;
+    private PutRecordsRequestEntry requestEntry;
+
+    /**
+     * @param hashKey the hash key of the first user record
+     * @param predictedShardId the shard the user records are expected to be written to, or null if it is unknown
+     * @param maxSizeInBytes the maximum size of the aggregated record
+     */
+    public RecordAggregator(BigInteger hashKey, String predictedShardId, int maxSizeInBytes) {
+        this.hashKey = hashKey;
+        this.predictedShardId = predictedShardId;
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Add a user record if it fits in the aggregated record. The first user record is always added, even if it is larger
+     * than the maximum size.
+     *
+     * @return true if the user record was added.
+     */
+    public boolean tryAdd(String partitionKey, String explicitHashKey, byte[] data, CompletableFuture<UserRecordResult> future) {
+        Integer partitionKeyIndex = partitionKeyIndexes.get(partitionKey);
+        Integer explicitHashKeyIndex = explicitHashKey != null ? explicitHashKeyIndexes.get(explicitHashKey) : null;
+
+        long newPartitionKeyIndex = partitionKeyIndex != null ? partitionKeyIndex : partitionKeyTable.size();
+        Long newExplicitHashKeyIndex = null;
+        if (explicitHashKey != null) {
+            newExplicitHashKeyIndex = (long) (explicitHashKeyIndex != null ? explicitHashKeyIndex : explicitHashKeyTable.size());
+        }
+
+        int addedBytes = AggregatedRecordCodec.entrySize(newPartitionKeyIndex, newExplicitHashKeyIndex, data.length);
+        if (partitionKeyIndex == null) {
+            addedBytes += AggregatedRecordCodec.partitionKeyTableEntrySize(partitionKey);
+        }
+        if (explicitHashKey != null && explicitHashKeyIndex == null) {
+            addedBytes += AggregatedRecordCodec.explicitHashKeyTableEntrySize(explicitHashKey);
+        }
+        if (!entries.isEmpty() && sizeInBytes + addedBytes > maxSizeInBytes) {
+            return false;
+        }
+
+        if (partitionKeyIndex == null) {
+            partitionKeyIndexes.put(partitionKey, partitionKeyTable.size());
+            partitionKeyTable.add(partitionKey);
+        }
+        if (explicitHashKey != null && explicitHashKeyIndex == null) {
+            explicitHashKeyIndexes.put(explicitHashKey, explicitHashKeyTable.size());
+            explicitHashKeyTable.add(explicitHashKey);
+        }
+        entries.add(new AggregatedRecordCodec.Entry(newPartitionKeyIndex, newExplicitHashKeyIndex, data));
+        futures.add(future);
+        sizeInBytes += addedBytes;
+        requestEntry = null;
+        return true;
+    }
+
+    /**
+     * @return the PutRecords entry for the user records. A single user record is written as a plain Kinesis record.
+     */
+    public PutRecordsRequestEntry requestEntry() {
+        if (requestEntry == null) {
+            requestEntry = entries.size() == 1 ? singleRecordEntry() : aggregatedRecordEntry();
+        }
+        return requestEntry;
+    }
+
+    /**
+     * @return the number of bytes the PutRecords entry counts towards the payload limit of a PutRecords request.
+     */
+    public int requestSize() {
+        PutRecordsRequestEntry entry = requestEntry();
+        return entry.data().asByteArrayUnsafe().length + entry.partitionKey().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    public String predictedShardId() {
+        return predictedShardId;
+    }
+
+    /**
+     * Record that the aggregated record is being sent.
+     */
+    public void incrementAttempts() {
+        attempts++;
+    }
+
+    /**
+     * @return the number of times the aggregated record has been sent.
+     */
+    public int attempts() {
+        return attempts;
+    }
+
+    public void complete(String shardId, String sequenceNumber) {
+        for (int i = 0; i < futures.size(); i++) {
+            futures.get(i).complete(UserRecordResult.create(shardId, sequenceNumber, i));
+        }
+    }
+
+    public void fail(Throwable cause) {
+        futures.forEach(future -> future.completeExceptionally(cause));
+    }
+
+    private PutRecordsRequestEntry singleRecordEntry() {
+        AggregatedRecordCodec.Entry entry = entries.get(0);
+        PutRecordsRequestEntry.Builder builder = PutRecordsRequestEntry.builder()
+                                                                       .partitionKey(partitionKeyTable.get(0))
+                                                                       .data(SdkBytes.fromByteArrayUnsafe(entry.data()));
+        if (!explicitHashKeyTable.isEmpty()) {
+            builder.explicitHashKey(explicitHashKeyTable.get(0));
+        }
+        return builder.build();
+    }
+
+    private PutRecordsRequestEntry aggregatedRecordEntry() {
+        byte[] data = AggregatedRecordCodec.encode(partitionKeyTable, explicitHashKeyTable, entries);
+        return PutRecordsRequestEntry.builder()
+                                     .partitionKey(partitionKeyTable.get(0))
+                                     .explicitHashKey(hashKey.toString())
+                                     .data(SdkBytes.fromByteArrayUnsafe(data))
+                                     .build();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.internal.aggregation;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.ListShardsResponse;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+import software.amazon.awssdk.services.kinesis.model.ShardFilterType;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Caches the hash key ranges of the open shards of a stream, as returned by {@code ListShards}, to predict the shard a record
+ * will be written to. The cache is refreshed in the background when it is older than the refresh interval or when it is
+ * invalidated; lookups never wait for a refresh.
+ */
+@SdkInternalApi
+public final class ShardMap {
+    private static final Logger log = Logger.loggerFor(ShardMap.class);
+
+    private final KinesisAsyncClient client;
+    private final String streamName;
+    private final String streamArn;
+    private final long refreshIntervalNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile NavigableMap<BigInteger, ShardRange> shardsByStartingHashKey = Collections.emptyNavigableMap();
+    private volatile long lastRefreshAttemptNanos;
+    private volatile boolean stale = true;
+
+    public ShardMap(KinesisAsyncClient client, String streamName, String streamArn, Duration refreshInterval) {
+        this.client = client;
+        this.streamName = streamName;
+        this.streamArn = streamArn;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    /**
+     * @return the ID of the open shard whose hash key range contains the hash key, or empty if the shards are not known yet.
+     */
+    public Optional<String> shardId(BigInteger hashKey) {
+        refreshIfNeeded();
+        Map.Entry<BigInteger, ShardRange> candidate = shardsByStartingHashKey.floorEntry(hashKey);
+        if (candidate == null || candidate.getValue().endingHashKey.compareTo(hashKey) < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(candidate.getValue().shardId);
+    }
+
+    /**
+     * Mark the cached shards as outdated, for example because a record was written to a shard other than the predicted one.
+     */
+    public void invalidate() {
+        stale = true;
+    }
+
+    private void refreshIfNeeded() {
+        long now = System.nanoTime();
+        boolean due = stale || now - lastRefreshAttemptNanos >= refreshIntervalNanos;
+        if (!due || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        lastRefreshAttemptNanos = now;
+        stale = false;
+
+        ListShardsRequest request = ListShardsRequest.builder()
+                                                     .streamName(streamName)
+                                                     .streamARN(streamArn)
+                                                     .shardFilter(f -> f.type(ShardFilterType.AT_LATEST))
+                                                     .build();
+        listShards(request, new ArrayList<>()).whenComplete((shards, throwable) -> {
+            try {
+                if (throwable != null) {
+                    log.warn(() -> "Unable to list the shards of the stream. Records will not be aggregated across partition "
+                                   + "keys until the shards are known.", throwable);
+                } else {
+                    shardsByStartingHashKey = toShardRanges(shards);
+                }
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private CompletableFuture<List<Shard>> listShards(ListShardsRequest request, List<Shard> shards) {
+        CompletableFuture<ListShardsResponse> responseFuture;
+        try {
+            responseFuture = client.listShards(request);
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+        return responseFuture.thenCompose(response -> {
+            shards.addAll(response.shards());
+            if (response.nextToken() == null) {
+                return CompletableFuture.completedFuture(shards);
+            }
+            return listShards(ListShardsRequest.builder().nextToken(response.nextToken()).build(), shards);
+        });
+    }
+
+    private static NavigableMap<BigInteger, ShardRange> toShardRanges(List<Shard> shards) {
+        NavigableMap<BigInteger, ShardRange> ranges = new TreeMap<>();
+        for (Shard shard : shards) {
+            if (shard.hashKeyRange() == null) {
+                continue;
+            }
+            BigInteger startingHashKey = new BigInteger(shard.hashKeyRange().startingHashKey());
+            BigInteger endingHashKey = new BigInteger(shard.hashKeyRange().endingHashKey());
+            ranges.put(startingHashKey, new ShardRange(shard.shardId(), endingHashKey));
+        }
+        return Collections.unmodifiableNavigableMap(ranges);
+    }
+
+    private static final class ShardRange {
+        private final String shardId;
+        private final BigInteger endingHashKey;
+
+        private ShardRange(String shardId, BigInteger endingHashKey) {
+            this.shardId = shardId;
+            this.endingHashKey = endingHashKey;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.internal.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchOverrideConfiguration;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.batchmanager.KinesisAsyncBatchManager;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultKinesisAsyncBatchManager implements KinesisAsyncBatchManager {
+    private final KinesisAsyncClient client;
+
+    private final PutRecordsBatchManager putRecordsBatchManager;
+
+    private DefaultKinesisAsyncBatchManager(DefaultBuilder builder) {
+        this.client = Validate.notNull(builder.client, "client cannot be null");
+        ScheduledExecutorService scheduledExecutor = Validate.notNull(builder.scheduledExecutor,
+                                                                      "scheduledExecutor cannot be null");
+        RequestBatchOverrideConfiguration overrideConfiguration = builder.overrideConfiguration;
+        Validate.isTrue(overrideConfiguration == null || overrideConfiguration.maxBatchSize() == null ||
+                        overrideConfiguration.maxBatchSize() <= PutRecordsBatchManager.MAX_BATCH_ENTRIES,
+                        "The maxBatchSize must be less than or equal to %d. A batch can contain up to %d records.",
+                        PutRecordsBatchManager.MAX_BATCH_ENTRIES, PutRecordsBatchManager.MAX_BATCH_ENTRIES);
+        Integer maxBatchSize = overrideConfiguration != null && overrideConfiguration.maxBatchSize() != null
+                               ? overrideConfiguration.maxBatchSize()
+                               : PutRecordsBatchManager.MAX_BATCH_ENTRIES;
+
+        this.putRecordsBatchManager =
+            new PutRecordsBatchManager(
+                RequestBatchConfiguration.builder(overrideConfiguration)
+                                         .maxBatchItems(maxBatchSize)
+                                         .maxBatchBytesSize(PutRecordsBatchManager.MAX_BATCH_PAYLOAD_SIZE_BYTES)
+                                         .build(),
+                scheduledExecutor,
+                client
+            );
+    }
+
+    @Override
+    public CompletableFuture<PutRecordResponse> putRecord(PutRecordRequest request) {
+        if (!PutRecordsBatchManager.isBatchable(request)) {
+            return client.putRecord(request);
+        }
+        return putRecordsBatchManager.batchRequest(request);
+    }
+
+    public static KinesisAsyncBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public void close() {
+        putRecordsBatchManager.close();
+    }
+
+    public static final class DefaultBuilder implements KinesisAsyncBatchManager.Builder {
+        private KinesisAsyncClient client;
+        private RequestBatchOverrideConfiguration overrideConfiguration;
+        private ScheduledExecutorService scheduledExecutor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public KinesisAsyncBatchManager.Builder overrideConfiguration(RequestBatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public KinesisAsyncBatchManager.Builder client(KinesisAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public KinesisAsyncBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public KinesisAsyncBatchManager build() {
+            return new DefaultKinesisAsyncBatchManager(this);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.internal.batchmanager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.internal.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchManager;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+import software.amazon.awssdk.utils.Either;
+
+/**
+ * Batches {@link PutRecordRequest}s into {@link PutRecordsRequest}s. The records of a {@link PutRecordsResponse} are in the
+ * same order as the records of the request, and a record that failed to be ingested has an error code.
+ */
+@SdkInternalApi
+public class PutRecordsBatchManager extends RequestBatchManager<PutRecordRequest, PutRecordResponse, PutRecordsResponse> {
+
+    public static final int MAX_BATCH_ENTRIES = 500;
+
+    /**
+     * The total size of the data and partition keys of all records of a PutRecordsRequest can't exceed 5 MiB.
+     */
+    public static final int MAX_BATCH_PAYLOAD_SIZE_BYTES = 5 * 1024 * 1024;
+
+    private final KinesisAsyncClient asyncClient;
+
+    protected PutRecordsBatchManager(RequestBatchConfiguration overrideConfiguration,
+                                     ScheduledExecutorService scheduledExecutor,
+                                     KinesisAsyncClient asyncClient) {
+        super(overrideConfiguration, scheduledExecutor, PutRecordsBatchManager::calculateRecordSize);
+        this.asyncClient = asyncClient;
+    }
+
+    /**
+     * A PutRecordsRequest has no equivalent of the sequence number for ordering, so requests that set one must be sent
+     * individually.
+     */
+    public static boolean isBatchable(PutRecordRequest request) {
+        return request.sequenceNumberForOrdering() == null;
+    }
+
+    static Optional<Integer> calculateRecordSize(PutRecordRequest request) {
+        int size = request.data() != null ? request.data().asByteArrayUnsafe().length : 0;
+        if (request.partitionKey() != null) {
+            size += request.partitionKey().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return Optional.of(size);
+    }
+
+    private static Throwable createThrowable(PutRecordsResultEntry failedEntry) {
+        AwsErrorDetails errorDetails = AwsErrorDetails.builder()
+                                                      .errorCode(failedEntry.errorCode())
+                                                      .errorMessage(failedEntry.errorMessage())
+                                                      .build();
+        return KinesisException.builder()
+                               .awsErrorDetails(errorDetails)
+                               .message(failedEntry.errorMessage())
+                               .build();
+    }
+
+    private static PutRecordResponse createPutRecordResponse(PutRecordsResultEntry successfulEntry,
+                                                             PutRecordsResponse batchResponse) {
+        PutRecordResponse.Builder builder = PutRecordResponse.builder()
+                                                             .shardId(successfulEntry.shardId())
+                                                             .sequenceNumber(successfulEntry.sequenceNumber())
+                                                             .encryptionType(batchResponse.encryptionType());
+        if (batchResponse.responseMetadata() != null) {
+            builder.responseMetadata(batchResponse.responseMetadata());
+        }
+        if (batchResponse.sdkHttpResponse() != null) {
+            builder.sdkHttpResponse(batchResponse.sdkHttpResponse());
+        }
+        return builder.build();
+    }
+
+    private static PutRecordsRequest createPutRecordsRequest(List<IdentifiableMessage<PutRecordRequest>> identifiedRequests) {
+        List<PutRecordsRequestEntry> records =
+            identifiedRequests.stream()
+                              .map(identifiedRequest -> createPutRecordsRequestEntry(identifiedRequest.message()))
+                              .collect(Collectors.toList());
+
+        // All requests must have the same stream and overrideConfiguration, so retrieve them from the first request.
+        PutRecordRequest firstRequest = identifiedRequests.get(0).message();
+        Optional<AwsRequestOverrideConfiguration> overrideConfiguration = firstRequest.overrideConfiguration();
+
+        PutRecordsRequest.Builder builder = PutRecordsRequest.builder()
+                                                             .streamName(firstRequest.streamName())
+                                                             .streamARN(firstRequest.streamARN())
+                                                             .streamId(firstRequest.streamId())
+                                                             .records(records);
+        return overrideConfiguration
+            .map(overrideConfig -> builder.overrideConfiguration(overrideConfig.toBuilder()
+                                                                               .applyMutation(USER_AGENT_APPLIER)
+                                                                               .build()))
+            .orElseGet(() -> builder.overrideConfiguration(o -> o.applyMutation(USER_AGENT_APPLIER)))
+            .build();
+    }
+
+    private static PutRecordsRequestEntry createPutRecordsRequestEntry(PutRecordRequest request) {
+        return PutRecordsRequestEntry.builder()
+                                     .data(request.data())
+                                     .partitionKey(request.partitionKey())
+                                     .explicitHashKey(request.explicitHashKey())
+                                     .build();
+    }
+
+    @Override
+    protected CompletableFuture<PutRecordsResponse> batchAndSend(List<IdentifiableMessage<PutRecordRequest>> identifiedRequests,
+                                                                 String batchKey) {
+        return asyncClient.putRecords(createPutRecordsRequest(identifiedRequests));
+    }
+
+    @Override
+    protected String getBatchKey(PutRecordRequest request) {
+        String streamKey = request.streamARN() + ":" + request.streamName() + ":" + request.streamId();
+        return request.overrideConfiguration().map(overrideConfig -> streamKey + overrideConfig.hashCode())
+                      .orElse(streamKey);
+    }
+
+    @Override
+    protected List<Either<IdentifiableMessage<PutRecordResponse>,
+        IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<PutRecordRequest>> identifiedRequests,
+                                                          PutRecordsResponse batchResponse) {
+        List<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> mappedResponses =
+            new ArrayList<>();
+        List<PutRecordsResultEntry> resultEntries = batchResponse.records();
+        for (int i = 0; i < identifiedRequests.size(); i++) {
+            String key = identifiedRequests.get(i).id();
+            if (i >= resultEntries.size()) {
+                mappedResponses.add(Either.right(new IdentifiableMessage<>(
+                    key, SdkClientException.create("PutRecords response is missing the result of record " + i))));
+                continue;
+            }
+            PutRecordsResultEntry resultEntry = resultEntries.get(i);
+            if (resultEntry.errorCode() != null) {
+                mappedResponses.add(Either.right(new IdentifiableMessage<>(key, createThrowable(resultEntry))));
+            } else {
+                mappedResponses.add(Either.left(new IdentifiableMessage<>(key, createPutRecordResponse(resultEntry,
+                                                                                                       batchResponse))));
+            }
+        }
+        return mappedResponses;
+    }
+}
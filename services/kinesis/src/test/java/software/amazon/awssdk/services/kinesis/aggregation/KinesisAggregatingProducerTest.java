@@ -0,0 +1,251 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.ListShardsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+import software.amazon.awssdk.services.kinesis.model.Record;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+import software.amazon.awssdk.utils.Md5Utils;
+
+class KinesisAggregatingProducerTest {
+    private static final String STREAM = "stream";
+    private static final BigInteger HALF = BigInteger.ONE.shiftLeft(127);
+    private static final BigInteger MAX_HASH_KEY = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+    private KinesisAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(KinesisAsyncClient.class);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        ListShardsResponse shards =
+            ListShardsResponse.builder()
+                              .shards(shard("shard-0", BigInteger.ZERO, HALF.subtract(BigInteger.ONE)),
+                                      shard("shard-1", HALF, MAX_HASH_KEY))
+                              .build();
+        when(client.listShards(any(ListShardsRequest.class))).thenReturn(CompletableFuture.completedFuture(shards));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void putRecord_aggregatesUserRecordsByPredictedShard() {
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> succeed(i.getArgument(0)));
+        KinesisAggregatingProducer producer = producer(3);
+
+        List<String> partitionKeys = new ArrayList<>();
+        List<CompletableFuture<UserRecordResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String partitionKey = "key-" + i;
+            partitionKeys.add(partitionKey);
+            futures.add(producer.putRecord(partitionKey, SdkBytes.fromUtf8String("record-" + i)));
+        }
+        producer.flush().join();
+
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client).putRecords(captor.capture());
+        assertThat(captor.getValue().streamName()).isEqualTo(STREAM);
+        assertThat(captor.getValue().records()).hasSize(2);
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).join().shardId()).isEqualTo(shardOf(hash(partitionKeys.get(i))));
+        }
+
+        List<DeaggregatedRecord> userRecords =
+            RecordDeaggregator.deaggregate(captor.getValue().records().stream()
+                                                 .map(e -> Record.builder()
+                                                                 .partitionKey(e.partitionKey())
+                                                                 .data(e.data())
+                                                                 .sequenceNumber("1")
+                                                                 .build())
+                                                 .collect(Collectors.toList()));
+        assertThat(userRecords).hasSize(50).allMatch(DeaggregatedRecord::aggregated);
+        assertThat(userRecords.stream().map(DeaggregatedRecord::partitionKey))
+            .containsExactlyInAnyOrderElementsOf(partitionKeys);
+        for (DeaggregatedRecord userRecord : userRecords) {
+            String index = userRecord.partitionKey().substring("key-".length());
+            assertThat(userRecord.data().asUtf8String()).isEqualTo("record-" + index);
+        }
+        producer.close();
+    }
+
+    @Test
+    void putRecord_whenAggregatedRecordIsFull_startsAnotherOne() {
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> succeed(i.getArgument(0)));
+        KinesisAggregatingProducer producer = KinesisAggregatingProducer.builder()
+                                                                        .client(client)
+                                                                        .streamName(STREAM)
+                                                                        .scheduledExecutor(scheduledExecutor)
+                                                                        .maxBufferedTime(Duration.ofHours(1))
+                                                                        .maxAggregatedRecordSize(1000)
+                                                                        .build();
+
+        for (int i = 0; i < 10; i++) {
+            producer.putRecord("same-key", SdkBytes.fromByteArray(new byte[300]));
+        }
+        producer.flush().join();
+
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client).putRecords(captor.capture());
+        assertThat(captor.getValue().records()).hasSize(4)
+                                               .allMatch(e -> e.data().asByteArrayUnsafe().length <= 1000);
+        producer.close();
+    }
+
+    @Test
+    void putRecord_singleUserRecord_isNotAggregated() {
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> succeed(i.getArgument(0)));
+        KinesisAggregatingProducer producer = producer(3);
+
+        CompletableFuture<UserRecordResult> future = producer.putRecord("key", SdkBytes.fromUtf8String("data"));
+        producer.flush().join();
+
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client).putRecords(captor.capture());
+        PutRecordsRequestEntry entry = captor.getValue().records().get(0);
+        assertThat(entry.data().asUtf8String()).isEqualTo("data");
+        assertThat(entry.partitionKey()).isEqualTo("key");
+        assertThat(future.join().subSequenceNumber()).isZero();
+        producer.close();
+    }
+
+    @Test
+    void putRecord_whenRecordFails_retriesWithNextBatch() {
+        AtomicInteger calls = new AtomicInteger();
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> {
+            if (calls.getAndIncrement() == 0) {
+                return fail(i.getArgument(0));
+            }
+            return succeed(i.getArgument(0));
+        });
+        KinesisAggregatingProducer producer = producer(1);
+
+        CompletableFuture<UserRecordResult> future = producer.putRecord("key", SdkBytes.fromUtf8String("data"));
+        producer.flush().join();
+        assertThat(future).isNotDone();
+
+        producer.flush().join();
+        assertThat(future.join().shardId()).isEqualTo(shardOf(hash("key")));
+        verify(client, times(2)).putRecords(any(PutRecordsRequest.class));
+        producer.close();
+    }
+
+    @Test
+    void close_whenRetriesAreExhausted_failsUserRecords() {
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> fail(i.getArgument(0)));
+        KinesisAggregatingProducer producer = producer(2);
+
+        CompletableFuture<UserRecordResult> future = producer.putRecord("key", SdkBytes.fromUtf8String("data"));
+        producer.close();
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class)
+                                        .hasCauseInstanceOf(KinesisException.class);
+        verify(client, times(3)).putRecords(any(PutRecordsRequest.class));
+    }
+
+    @Test
+    void putRecord_afterClose_fails() {
+        KinesisAggregatingProducer producer = producer(0);
+        producer.close();
+
+        assertThat(producer.putRecord("key", SdkBytes.fromUtf8String("data"))).isCompletedExceptionally();
+    }
+
+    private KinesisAggregatingProducer producer(int maxRetries) {
+        return KinesisAggregatingProducer.builder()
+                                         .client(client)
+                                         .streamName(STREAM)
+                                         .scheduledExecutor(scheduledExecutor)
+                                         .maxBufferedTime(Duration.ofHours(1))
+                                         .maxRetries(maxRetries)
+                                         .build();
+    }
+
+    private static CompletableFuture<PutRecordsResponse> succeed(PutRecordsRequest request) {
+        List<PutRecordsResultEntry> results = new ArrayList<>();
+        for (PutRecordsRequestEntry entry : request.records()) {
+            BigInteger hashKey = entry.explicitHashKey() != null ? new BigInteger(entry.explicitHashKey())
+                                                                 : hash(entry.partitionKey());
+            results.add(PutRecordsResultEntry.builder()
+                                             .shardId(shardOf(hashKey))
+                                             .sequenceNumber(String.valueOf(results.size()))
+                                             .build());
+        }
+        return CompletableFuture.completedFuture(PutRecordsResponse.builder().records(results).build());
+    }
+
+    private static CompletableFuture<PutRecordsResponse> fail(PutRecordsRequest request) {
+        List<PutRecordsResultEntry> results = request.records().stream()
+                                                     .map(e -> PutRecordsResultEntry.builder()
+                                                                                    .errorCode("InternalFailure")
+                                                                                    .errorMessage("boom")
+                                                                                    .build())
+                                                     .collect(Collectors.toList());
+        return CompletableFuture.completedFuture(PutRecordsResponse.builder().failedRecordCount(results.size())
+                                                                   .records(results).build());
+    }
+
+    private static BigInteger hash(String partitionKey) {
+        return new BigInteger(1, Md5Utils.computeMD5Hash(partitionKey.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String shardOf(BigInteger hashKey) {
+        return hashKey.compareTo(HALF) < 0 ? "shard-0" : "shard-1";
+    }
+
+    private static Shard shard(String shardId, BigInteger start, BigInteger end) {
+        return Shard.builder()
+                    .shardId(shardId)
+                    .hashKeyRange(r -> r.startingHashKey(start.toString()).endingHashKey(end.toString()))
+                    .build();
+    }
+}
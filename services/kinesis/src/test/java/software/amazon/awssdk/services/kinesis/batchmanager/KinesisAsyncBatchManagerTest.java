@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+
+class KinesisAsyncBatchManagerTest {
+    private static final String STREAM = "stream";
+
+    private KinesisAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+    private KinesisAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(KinesisAsyncClient.class);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        batchManager = KinesisAsyncBatchManager.builder()
+                                               .client(client)
+                                               .scheduledExecutor(scheduledExecutor)
+                                               .overrideConfiguration(o -> o.maxBatchSize(2)
+                                                                            .sendRequestFrequency(Duration.ofHours(1)))
+                                               .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchManager.close();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void putRecord_whenBatchIsFull_sendsOnePutRecordsAndMapsResultsByPosition() {
+        PutRecordsResponse batchResponse =
+            PutRecordsResponse.builder()
+                              .failedRecordCount(1)
+                              .records(PutRecordsResultEntry.builder()
+                                                            .errorCode("ProvisionedThroughputExceededException")
+                                                            .errorMessage("slow down")
+                                                            .build(),
+                                       PutRecordsResultEntry.builder().shardId("shard-1").sequenceNumber("42").build())
+                              .build();
+        when(client.putRecords(any(PutRecordsRequest.class))).thenReturn(CompletableFuture.completedFuture(batchResponse));
+
+        CompletableFuture<PutRecordResponse> first =
+            batchManager.putRecord(r -> r.streamName(STREAM).partitionKey("a").data(SdkBytes.fromUtf8String("a")));
+        CompletableFuture<PutRecordResponse> second =
+            batchManager.putRecord(r -> r.streamName(STREAM).partitionKey("b").data(SdkBytes.fromUtf8String("b")));
+
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class)
+                                       .hasCauseInstanceOf(KinesisException.class);
+        assertThat(second.join().sequenceNumber()).isEqualTo("42");
+
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client).putRecords(captor.capture());
+        assertThat(captor.getValue().streamName()).isEqualTo(STREAM);
+        assertThat(captor.getValue().records()).extracting(e -> e.partitionKey()).containsExactly("a", "b");
+    }
+
+    @Test
+    void putRecord_withSequenceNumberForOrdering_isSentDirectly() {
+        PutRecordResponse response = PutRecordResponse.builder().sequenceNumber("7").build();
+        when(client.putRecord(any(PutRecordRequest.class))).thenReturn(CompletableFuture.completedFuture(response));
+
+        PutRecordResponse actual = batchManager.putRecord(r -> r.streamName(STREAM)
+                                                                .partitionKey("a")
+                                                                .data(SdkBytes.fromUtf8String("a"))
+                                                                .sequenceNumberForOrdering("6"))
+                                               .join();
+
+        assertThat(actual.sequenceNumber()).isEqualTo("7");
+        verify(client, never()).putRecords(any(PutRecordsRequest.class));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.kinesis.internal.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AggregatedRecordCodecTest {
+
+    @Test
+    void encode_thenDecode_returnsKeyTablesAndEntries() {
+        List<String> partitionKeys = Arrays.asList("a", "bb");
+        List<String> explicitHashKeys = Collections.singletonList("123");
+        List<AggregatedRecordCodec.Entry> entries =
+            Arrays.asList(new AggregatedRecordCodec.Entry(0, null, "hello".getBytes(StandardCharsets.UTF_8)),
+                          new AggregatedRecordCodec.Entry(1, 0L, new byte[300]));
+
+        byte[] encoded = AggregatedRecordCodec.encode(partitionKeys, explicitHashKeys, entries);
+        AggregatedRecordCodec.Decoded decoded = AggregatedRecordCodec.decode(encoded).get();
+
+        assertThat(decoded.partitionKeyTable()).containsExactly("a", "bb");
+        assertThat(decoded.explicitHashKeyTable()).containsExactly("123");
+        assertThat(decoded.entries()).hasSize(2);
+        assertThat(decoded.entries().get(0).data()).isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+        assertThat(decoded.entries().get(0).explicitHashKeyIndex()).isNull();
+        assertThat(decoded.entries().get(1).partitionKeyIndex()).isEqualTo(1);
+        assertThat(decoded.entries().get(1).explicitHashKeyIndex()).isEqualTo(0L);
+        assertThat(decoded.entries().get(1).data()).hasSize(300);
+    }
+
+    @Test
+    void encode_matchesKplWireFormat() {
+        byte[] encoded = AggregatedRecordCodec.encode(Collections.singletonList("a"),
+                                                      Collections.emptyList(),
+                                                      Collections.singletonList(
+                                                          new AggregatedRecordCodec.Entry(0, null, new byte[] {0x2A})));
+
+        byte[] expectedPrefix = {(byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2,
+                                 0x0A, 0x01, 'a',
+                                 0x1A, 0x05, 0x08, 0x00, 0x1A, 0x01, 0x2A};
+        assertThat(Arrays.copyOf(encoded, expectedPrefix.length)).isEqualTo(expectedPrefix);
+        assertThat(encoded).hasSize(expectedPrefix.length + AggregatedRecordCodec.DIGEST_LENGTH);
+    }
+
+    @Test
+    void sizeHelpers_matchEncodedSize() {
+        int expectedSize = AggregatedRecordCodec.OVERHEAD_BYTES
+                           + AggregatedRecordCodec.partitionKeyTableEntrySize("a")
+                           + AggregatedRecordCodec.explicitHashKeyTableEntrySize("123")
+                           + AggregatedRecordCodec.entrySize(0, 0L, 200);
+
+        byte[] encoded = AggregatedRecordCodec.encode(Collections.singletonList("a"),
+                                                      Collections.singletonList("123"),
+                                                      Collections.singletonList(
+                                                          new AggregatedRecordCodec.Entry(0, 0L, new byte[200])));
+
+        assertThat(encoded).hasSize(expectedSize);
+    }
+
+    @Test
+    void decode_whenDigestDoesNotMatch_returnsEmpty() {
+        byte[] encoded = AggregatedRecordCodec.encode(Collections.singletonList("a"),
+                                                      Collections.emptyList(),
+                                                      Collections.singletonList(
+                                                          new AggregatedRecordCodec.Entry(0, null, new byte[10])));
+        encoded[encoded.length - 1] ^= 1;
+
+        assertThat(AggregatedRecordCodec.decode(encoded)).isEmpty();
+    }
+
+    @Test
+    void decode_whenDataIsNotAggregated_returnsEmpty() {
+        assertThat(AggregatedRecordCodec.decode("plain record data".getBytes(StandardCharsets.UTF_8))).isEmpty();
+        assertThat(AggregatedRecordCodec.decode(new byte[0])).isEmpty();
+    }
+}
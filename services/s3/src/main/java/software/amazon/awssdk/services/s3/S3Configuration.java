@@ -27,6 +27,7 @@ import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
+import software.amazon.awssdk.services.s3.crossregion.BucketRegionCacheConfiguration;
 import software.amazon.awssdk.services.s3.internal.FieldWithDefault;
 import software.amazon.awssdk.services.s3.internal.settingproviders.DisableMultiRegionProviderChain;
 import software.amazon.awssdk.services.s3.internal.settingproviders.UseArnRegionProviderChain;
@@ -79,6 +80,7 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
     private final Boolean multiRegionEnabled;
     private final FieldWithDefault<Supplier<ProfileFile>> profileFile;
     private final FieldWithDefault<String> profileName;
+    private final FieldWithDefault<BucketRegionCacheConfiguration> bucketRegionCacheConfiguration;
 
     private S3Configuration(DefaultS3ServiceConfigurationBuilder builder) {
         this.dualstackEnabled = FieldWithDefault.create(builder.dualstackEnabled, DEFAULT_DUALSTACK_ENABLED);
@@ -92,6 +94,8 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
                                                    ProfileFileSystemSetting.AWS_PROFILE.getStringValueOrThrow());
         this.useArnRegionEnabled = builder.useArnRegionEnabled;
         this.multiRegionEnabled = builder.multiRegionEnabled;
+        this.bucketRegionCacheConfiguration = FieldWithDefault.create(builder.bucketRegionCacheConfiguration,
+                                                                      BucketRegionCacheConfiguration.builder().build());
 
         if (accelerateModeEnabled() && pathStyleAccessEnabled()) {
             throw new IllegalArgumentException("Accelerate mode cannot be used with path style addressing");
@@ -237,6 +241,16 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
                        .orElseGet(this::resolveMultiRegionEnabled);
     }
 
+    /**
+     * Returns the configuration of the cache a cross-region enabled client uses to remember the region of each bucket.
+     *
+     * @return The bucket region cache configuration.
+     * @see Builder#bucketRegionCacheConfiguration(BucketRegionCacheConfiguration)
+     */
+    public BucketRegionCacheConfiguration bucketRegionCacheConfiguration() {
+        return bucketRegionCacheConfiguration.value();
+    }
+
     @Override
     public Builder toBuilder() {
         return builder()
@@ -248,7 +262,8 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
                 .chunkedEncodingEnabled(chunkedEncodingEnabled.valueOrNullIfDefault())
                 .useArnRegionEnabled(useArnRegionEnabled)
                 .profileFile(profileFile.valueOrNullIfDefault())
-                .profileName(profileName.valueOrNullIfDefault());
+                .profileName(profileName.valueOrNullIfDefault())
+                .bucketRegionCacheConfiguration(bucketRegionCacheConfiguration.valueOrNullIfDefault());
     }
 
     @NotThreadSafe
@@ -415,6 +430,21 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
          * </p>
          */
         Builder profileName(String profileName);
+
+        BucketRegionCacheConfiguration bucketRegionCacheConfiguration();
+
+        /**
+         * Option to configure the cache that a client with cross-region access enabled uses to remember which region each
+         * bucket lives in, so that requests after the first one are sent to the right region without being redirected.
+         * This has no effect unless cross-region access is enabled on the client builder.
+         *
+         * <p>
+         * By default, the regions of up to 10,000 buckets are cached, without expiry, for the lifetime of the client.
+         * </p>
+         *
+         * @see BucketRegionCacheConfiguration
+         */
+        Builder bucketRegionCacheConfiguration(BucketRegionCacheConfiguration bucketRegionCacheConfiguration);
     }
 
     static final class DefaultS3ServiceConfigurationBuilder implements Builder {
@@ -427,6 +457,7 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
         private Boolean multiRegionEnabled;
         private Supplier<ProfileFile> profileFile;
         private String profileName;
+        private BucketRegionCacheConfiguration bucketRegionCacheConfiguration;
 
         @Override
         public Boolean dualstackEnabled() {
@@ -561,6 +592,17 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
             return this;
         }
 
+        @Override
+        public BucketRegionCacheConfiguration bucketRegionCacheConfiguration() {
+            return bucketRegionCacheConfiguration;
+        }
+
+        @Override
+        public Builder bucketRegionCacheConfiguration(BucketRegionCacheConfiguration bucketRegionCacheConfiguration) {
+            this.bucketRegionCacheConfiguration = bucketRegionCacheConfiguration;
+            return this;
+        }
+
         public void setUseArnRegionEnabled(Boolean useArnRegionEnabled) {
             useArnRegionEnabled(useArnRegionEnabled);
         }
@@ -0,0 +1,224 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.crossregion;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration of the cache a cross-region enabled S3 client uses to remember which region each bucket lives in. Once a
+ * bucket's region is cached, requests to that bucket are sent to the right region directly, instead of first being redirected
+ * by S3.
+ * <p>
+ * The cache is only used when cross-region access is enabled through
+ * {@code crossRegionAccessEnabled(true)} on the client builder, and is configured through
+ * {@link S3Configuration.Builder#bucketRegionCacheConfiguration(BucketRegionCacheConfiguration)}.
+ */
+@SdkPublicApi
+public final class BucketRegionCacheConfiguration
+    implements ToCopyableBuilder<BucketRegionCacheConfiguration.Builder, BucketRegionCacheConfiguration> {
+
+    private final Integer maxEntries;
+    private final Duration timeToLive;
+    private final Path snapshotFile;
+
+    private BucketRegionCacheConfiguration(DefaultBuilder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.timeToLive = builder.timeToLive;
+        this.snapshotFile = builder.snapshotFile;
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * The maximum number of buckets whose region is cached.
+     * @return the configured maximum number of entries.
+     */
+    public Integer maxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * How long a cached bucket region is trusted for after it was learned.
+     * @return the configured time to live.
+     */
+    public Duration timeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * The file the cache is loaded from when the client is created, and saved to when the client is closed.
+     * @return the configured snapshot file.
+     */
+    public Path snapshotFile() {
+        return snapshotFile;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().maxEntries(maxEntries)
+                        .timeToLive(timeToLive)
+                        .snapshotFile(snapshotFile);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BucketRegionCacheConfiguration that = (BucketRegionCacheConfiguration) o;
+        return Objects.equals(maxEntries, that.maxEntries)
+               && Objects.equals(timeToLive, that.timeToLive)
+               && Objects.equals(snapshotFile, that.snapshotFile);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(maxEntries);
+        result = 31 * result + Objects.hashCode(timeToLive);
+        result = 31 * result + Objects.hashCode(snapshotFile);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BucketRegionCacheConfiguration")
+                       .add("maxEntries", maxEntries)
+                       .add("timeToLive", timeToLive)
+                       .add("snapshotFile", snapshotFile)
+                       .build();
+    }
+
+    /**
+     * Builder for a {@link BucketRegionCacheConfiguration}.
+     */
+    public interface Builder extends CopyableBuilder<Builder, BucketRegionCacheConfiguration> {
+
+        /**
+         * Configures the maximum number of buckets whose region is cached. When the cache is full, the least recently used
+         * bucket is evicted, and the next request to it may be redirected by S3 again.
+         * <p>
+         * Default value: 10,000
+         *
+         * @param maxEntries the maximum number of entries, which must be positive.
+         * @return an instance of this builder.
+         */
+        Builder maxEntries(Integer maxEntries);
+
+        /**
+         * Indicates the configured maximum number of entries.
+         * @return the maximum number of entries.
+         */
+        Integer maxEntries();
+
+        /**
+         * Configures how long a cached bucket region is trusted for after it was learned. Expired entries are treated as
+         * missing, so the region is learned again from the next redirect.
+         * <p>
+         * Regardless of this setting, an entry is replaced as soon as S3 redirects a request for the bucket to another region.
+         * <p>
+         * Default value: entries do not expire
+         *
+         * @param timeToLive the time to live of an entry, which must be positive.
+         * @return an instance of this builder.
+         */
+        Builder timeToLive(Duration timeToLive);
+
+        /**
+         * Indicates the configured time to live of an entry.
+         * @return the time to live.
+         */
+        Duration timeToLive();
+
+        /**
+         * Configures a file used to keep the cache across restarts. The cache is loaded from this file, if it exists, when the
+         * client is created, and written to it when the client is closed. A file that can't be read or written is logged and
+         * otherwise ignored, since the cache can always be rebuilt from redirects.
+         * <p>
+         * The file may be shared by several clients. Each save merges the cache of the closing client into the entries already
+         * in the file, but saves that happen at the same time are not coordinated, so one of them may drop the entries only
+         * the other knew about.
+         * <p>
+         * Default value: the cache is not persisted
+         *
+         * @param snapshotFile the file to load the cache from and save it to.
+         * @return an instance of this builder.
+         */
+        Builder snapshotFile(Path snapshotFile);
+
+        /**
+         * Indicates the configured snapshot file.
+         * @return the snapshot file.
+         */
+        Path snapshotFile();
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer maxEntries;
+        private Duration timeToLive;
+        private Path snapshotFile;
+
+        @Override
+        public Builder maxEntries(Integer maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        @Override
+        public Integer maxEntries() {
+            return maxEntries;
+        }
+
+        @Override
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        @Override
+        public Duration timeToLive() {
+            return timeToLive;
+        }
+
+        @Override
+        public Builder snapshotFile(Path snapshotFile) {
+            this.snapshotFile = snapshotFile;
+            return this;
+        }
+
+        @Override
+        public Path snapshotFile() {
+            return snapshotFile;
+        }
+
+        @Override
+        public BucketRegionCacheConfiguration build() {
+            return new BucketRegionCacheConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.crossregion;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics collected by a cross-region enabled S3 client about its bucket region cache.
+ *
+ * @see BucketRegionCacheConfiguration
+ */
+@SdkPublicApi
+public final class BucketRegionCacheMetric {
+    /**
+     * True if the region of the request's bucket was found in the cache, false otherwise. This is present for all API call
+     * metrics of requests that target a bucket, when cross-region access is enabled.
+     */
+    public static final SdkMetric<Boolean> BUCKET_REGION_CACHE_HIT =
+        SdkMetric.create("BucketRegionCacheHit", Boolean.class, MetricLevel.INFO, MetricCategory.CORE);
+
+    private BucketRegionCacheMetric() {
+    }
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.services.s3.internal.client;
 
+import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.createBucketRegionCache;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
@@ -46,7 +48,7 @@ public class S3AsyncClientDecorator {
         List<ConditionalDecorator<S3AsyncClient>> decorators = new ArrayList<>();
         decorators.add(ConditionalDecorator.create(
             isCrossRegionEnabledAsync(clientContextParams),
-            S3CrossRegionAsyncClient::new));
+            client -> new S3CrossRegionAsyncClient(client, createBucketRegionCache(clientConfiguration))));
 
         decorators.add(ConditionalDecorator.create(
             isMultipartEnable(clientContextParams),
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.services.s3.internal.client;
 
+import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.createBucketRegionCache;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
@@ -24,11 +26,17 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
 import software.amazon.awssdk.services.s3.internal.crossregion.S3CrossRegionSyncClient;
+import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.ConditionalDecorator;
 
 @SdkInternalApi
 public class S3SyncClientDecorator {
+    public static final AttributeMap.Key<MultipartConfiguration> MULTIPART_CONFIGURATION_KEY =
+        S3AsyncClientDecorator.MULTIPART_CONFIGURATION_KEY;
+    public static final AttributeMap.Key<Boolean> MULTIPART_ENABLED_KEY =
+        S3AsyncClientDecorator.MULTIPART_ENABLED_KEY;
 
     public S3SyncClientDecorator() {
     }
@@ -38,8 +46,12 @@ public class S3SyncClientDecorator {
         AttributeMap clientContextParams = clientConfiguration.option(SdkClientOption.CLIENT_CONTEXT_PARAMS);
         List<ConditionalDecorator<S3Client>> decorators = new ArrayList<>();
         decorators.add(ConditionalDecorator.create(isCrossRegionEnabledSync(clientContextParams),
-                                                   S3CrossRegionSyncClient::new));
+                                                   client -> new S3CrossRegionSyncClient(
+                                                       client, createBucketRegionCache(clientConfiguration))));
 
+        decorators.add(ConditionalDecorator.create(
+            isMultipartEnabled(clientContextParams),
+            client -> MultipartS3Client.create(client, clientContextParams.get(MULTIPART_CONFIGURATION_KEY))));
         return ConditionalDecorator.decorate(base, decorators);
     }
 
@@ -47,4 +59,9 @@ public class S3SyncClientDecorator {
         Boolean crossRegionEnabled = clientContextParams.get(S3ClientContextParams.CROSS_REGION_ACCESS_ENABLED);
         return  client ->  crossRegionEnabled != null && crossRegionEnabled.booleanValue();
     }
+
+    private Predicate<S3Client> isMultipartEnabled(AttributeMap clientContextParams) {
+        Boolean multipartEnabled = clientContextParams.get(MULTIPART_ENABLED_KEY);
+        return client -> multipartEnabled != null && multipartEnabled.booleanValue();
+    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.crossregion.BucketRegionCacheConfiguration;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A size-bounded, least-recently-used cache of the region each bucket lives in, with an optional time to live and an optional
+ * snapshot file that lets the cache survive restarts.
+ * <p>
+ * Entries are guarded by a single lock. Lookups are cheap compared to the requests they route, and the lock is never held while
+ * a region is fetched from S3.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class BucketRegionCache {
+    static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private static final Logger log = Logger.loggerFor(BucketRegionCache.class);
+    private static final String SNAPSHOT_SEPARATOR = " ";
+
+    private final int maxEntries;
+    private final Duration timeToLive;
+    private final Path snapshotFile;
+    private final Clock clock;
+    private final Map<String, CachedRegion> entries;
+
+    private BucketRegionCache(BucketRegionCacheConfiguration configuration, Clock clock) {
+        Integer configuredMaxEntries = Validate.isPositiveOrNull(configuration.maxEntries(), "maxEntries");
+        this.maxEntries = configuredMaxEntries != null ? configuredMaxEntries : DEFAULT_MAX_ENTRIES;
+        this.timeToLive = Validate.isPositiveOrNull(configuration.timeToLive(), "timeToLive");
+        this.snapshotFile = configuration.snapshotFile();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, CachedRegion>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRegion> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        loadSnapshot();
+    }
+
+    public static BucketRegionCache create(BucketRegionCacheConfiguration configuration) {
+        return new BucketRegionCache(configuration, Clock.systemUTC());
+    }
+
+    @SdkTestInternalApi
+    static BucketRegionCache create(BucketRegionCacheConfiguration configuration, Clock clock) {
+        return new BucketRegionCache(configuration, clock);
+    }
+
+    /**
+     * Returns the cached region of the bucket, or null if it is not cached or has expired.
+     */
+    public Region get(String bucket) {
+        synchronized (entries) {
+            CachedRegion entry = entries.get(bucket);
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry)) {
+                entries.remove(bucket);
+                return null;
+            }
+            return entry.region;
+        }
+    }
+
+    public void put(String bucket, Region region) {
+        synchronized (entries) {
+            entries.put(bucket, new CachedRegion(region, clock.instant()));
+        }
+    }
+
+    public void remove(String bucket) {
+        synchronized (entries) {
+            entries.remove(bucket);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Write the unexpired entries to the configured snapshot file, least recently used first, so that recency survives a
+     * reload. Does nothing if no snapshot file is configured.
+     * <p>
+     * Several clients may share a snapshot file, so the entries already in the file are merged with the entries of this cache
+     * rather than replaced by them. Entries of this cache are written as the most recently used, and when both have an entry
+     * for a bucket, the one learned last wins. The file is replaced atomically, but saves that race each other are not
+     * serialized, so the entries only the losing save learned may be missing until they are learned again.
+     */
+    public void saveSnapshot() {
+        if (snapshotFile == null) {
+            return;
+        }
+
+        Map<String, CachedRegion> merged = readSnapshot();
+        synchronized (entries) {
+            entries.forEach((bucket, entry) -> {
+                CachedRegion saved = merged.remove(bucket);
+                merged.put(bucket, saved != null && saved.createdAt.isAfter(entry.createdAt) ? saved : entry);
+            });
+        }
+
+        merged.values().removeIf(this::isExpired);
+
+        List<String> lines = new ArrayList<>();
+        int skipped = merged.size() - maxEntries;
+        for (Map.Entry<String, CachedRegion> e : merged.entrySet()) {
+            if (skipped-- > 0) {
+                continue;
+            }
+            lines.add(e.getKey() + SNAPSHOT_SEPARATOR + e.getValue().region.id() + SNAPSHOT_SEPARATOR
+                      + e.getValue().createdAt.toEpochMilli());
+        }
+
+        try {
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, snapshotFile.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            log.warn(() -> "Unable to save the bucket region cache to " + snapshotFile, e);
+        }
+    }
+
+    private void loadSnapshot() {
+        if (snapshotFile == null) {
+            return;
+        }
+
+        Map<String, CachedRegion> snapshot = readSnapshot();
+        synchronized (entries) {
+            entries.putAll(snapshot);
+        }
+        if (!snapshot.isEmpty()) {
+            log.debug(() -> "Loaded " + size() + " bucket regions from " + snapshotFile);
+        }
+    }
+
+    /**
+     * Read the unexpired entries of the snapshot file, least recently used first. A missing or unreadable file reads as empty.
+     */
+    private Map<String, CachedRegion> readSnapshot() {
+        Map<String, CachedRegion> snapshot = new LinkedHashMap<>();
+        if (!Files.isRegularFile(snapshotFile)) {
+            return snapshot;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(snapshotFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                readSnapshotLine(line, snapshot);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn(() -> "Unable to load the bucket region cache from " + snapshotFile, e);
+        }
+        return snapshot;
+    }
+
+    private void readSnapshotLine(String line, Map<String, CachedRegion> snapshot) {
+        String[] fields = line.trim().split(SNAPSHOT_SEPARATOR);
+        if (fields.length != 3) {
+            return;
+        }
+
+        CachedRegion entry = new CachedRegion(Region.of(fields[1]), Instant.ofEpochMilli(Long.parseLong(fields[2])));
+        if (!isExpired(entry)) {
+            snapshot.remove(fields[0]);
+            snapshot.put(fields[0], entry);
+        }
+    }
+
+    private boolean isExpired(CachedRegion entry) {
+        return timeToLive != null && !clock.instant().isBefore(entry.createdAt.plus(timeToLive));
+    }
+
+    private static final class CachedRegion {
+        private final Region region;
+        private final Instant createdAt;
+
+        private CachedRegion(Region region, Instant createdAt) {
+            this.region = region;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -17,13 +17,12 @@ package software.amazon.awssdk.services.s3.internal.crossregion;
 
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.getBucketRegionFromException;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.isS3RedirectException;
+import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithCachedRegion;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithDecoratedEndpointProvider;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.updateUserAgentInConfig;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -31,6 +30,7 @@ import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.DelegatingS3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.crossregion.BucketRegionCacheConfiguration;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Request;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -38,10 +38,15 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
 @SdkInternalApi
 public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
 
-    private final Map<String, Region> bucketToRegionCache = new ConcurrentHashMap<>();
+    private final BucketRegionCache bucketToRegionCache;
 
     public S3CrossRegionAsyncClient(S3AsyncClient s3Client) {
+        this(s3Client, BucketRegionCache.create(BucketRegionCacheConfiguration.builder().build()));
+    }
+
+    public S3CrossRegionAsyncClient(S3AsyncClient s3Client, BucketRegionCache bucketToRegionCache) {
         super(s3Client);
+        this.bucketToRegionCache = bucketToRegionCache;
     }
 
     @Override
@@ -56,12 +61,12 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
             return operation.apply(userAgentUpdatedRequest);
         }
         String bucketName = bucket.get();
+        Region cachedRegion = bucketToRegionCache.get(bucketName);
 
         CompletableFuture<ReturnT> returnFuture = new CompletableFuture<>();
         CompletableFuture<ReturnT> apiOperationFuture = operation.apply(
-            requestWithDecoratedEndpointProvider(userAgentUpdatedRequest,
-                                                 () -> bucketToRegionCache.get(bucketName),
-                                                 serviceClientConfiguration().endpointProvider().get())
+            requestWithCachedRegion(userAgentUpdatedRequest, cachedRegion,
+                                    serviceClientConfiguration().endpointProvider().get())
         );
         apiOperationFuture.whenComplete(redirectToCrossRegionIfRedirectException(operation,
                                                                                  userAgentUpdatedRequest,
@@ -139,4 +144,10 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
         CompletableFutureUtils.forwardResultTo(newFuture, returnFuture);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, newFuture);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void close() {
+        bucketToRegionCache.saveSnapshot();
+        super.close();
+    }
+}
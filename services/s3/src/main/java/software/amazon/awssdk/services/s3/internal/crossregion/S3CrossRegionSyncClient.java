@@ -17,18 +17,18 @@ package software.amazon.awssdk.services.s3.internal.crossregion;
 
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.getBucketRegionFromException;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.isS3RedirectException;
+import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithCachedRegion;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithDecoratedEndpointProvider;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.updateUserAgentInConfig;
 
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.DelegatingS3Client;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.crossregion.BucketRegionCacheConfiguration;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Request;
@@ -40,10 +40,15 @@ import software.amazon.awssdk.services.s3.model.S3Request;
 @SdkInternalApi
 public final class S3CrossRegionSyncClient extends DelegatingS3Client {
 
-    private final Map<String, Region> bucketToRegionCache = new ConcurrentHashMap<>();
+    private final BucketRegionCache bucketToRegionCache;
 
     public S3CrossRegionSyncClient(S3Client s3Client) {
+        this(s3Client, BucketRegionCache.create(BucketRegionCacheConfiguration.builder().build()));
+    }
+
+    public S3CrossRegionSyncClient(S3Client s3Client, BucketRegionCache bucketToRegionCache) {
         super(s3Client);
+        this.bucketToRegionCache = bucketToRegionCache;
     }
 
     private static <T extends S3Request> Optional<String> bucketNameFromRequest(T request) {
@@ -63,18 +68,18 @@ public final class S3CrossRegionSyncClient extends DelegatingS3Client {
             return operation.apply(userAgentUpdatedRequest);
         }
         String bucketName = bucketRequest.get();
+        Region cachedRegion = bucketToRegionCache.get(bucketName);
         try {
             return operation.apply(
-                requestWithDecoratedEndpointProvider(userAgentUpdatedRequest,
-                                                     () -> bucketToRegionCache.get(bucketName),
-                                                     serviceClientConfiguration().endpointProvider().get()));
+                requestWithCachedRegion(userAgentUpdatedRequest, cachedRegion,
+                                        serviceClientConfiguration().endpointProvider().get()));
         } catch (S3Exception exception) {
             if (isS3RedirectException(exception)) {
                 updateCacheFromRedirectException(exception, bucketName);
                 return operation.apply(
                     requestWithDecoratedEndpointProvider(
                         userAgentUpdatedRequest,
-                        () -> bucketToRegionCache.computeIfAbsent(bucketName, this::fetchBucketRegion),
+                        () -> regionFromCacheOrFetch(bucketName),
                         serviceClientConfiguration().endpointProvider().get()));
             }
             throw exception;
@@ -88,6 +93,17 @@ public final class S3CrossRegionSyncClient extends DelegatingS3Client {
         regionStr.ifPresent(region -> bucketToRegionCache.put(bucketName, Region.of(region)));
     }
 
+    private Region regionFromCacheOrFetch(String bucketName) {
+        Region region = bucketToRegionCache.get(bucketName);
+        if (region == null) {
+            region = fetchBucketRegion(bucketName);
+            if (region != null) {
+                bucketToRegionCache.put(bucketName, region);
+            }
+        }
+        return region;
+    }
+
     private Region fetchBucketRegion(String bucketName) {
         try {
             ((S3Client) delegate()).headBucket(HeadBucketRequest.builder().bucket(bucketName).build());
@@ -100,5 +116,9 @@ public final class S3CrossRegionSyncClient extends DelegatingS3Client {
         return null;
     }
 
-
+    @Override
+    public void close() {
+        bucketToRegionCache.saveSnapshot();
+        super.close();
+    }
 }
@@ -25,10 +25,16 @@ import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.endpoints.EndpointProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.crossregion.BucketRegionCacheConfiguration;
 import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+import software.amazon.awssdk.services.s3.internal.crossregion.BucketRegionCache;
 import software.amazon.awssdk.services.s3.internal.crossregion.endpointprovider.BucketEndpointProvider;
+import software.amazon.awssdk.services.s3.internal.handlers.BucketRegionCacheMetricInterceptor;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Request;
 
@@ -75,9 +81,27 @@ public final class CrossRegionUtils {
         return getBucketRegionFromException(exceptionToBeChecked).isPresent();
     }
 
-    @SuppressWarnings("unchecked")
     public static <T extends S3Request> T requestWithDecoratedEndpointProvider(T request, Supplier<Region> regionSupplier,
                                                                                EndpointProvider clientEndpointProvider) {
+        return requestWithDecoratedEndpointProvider(request, regionSupplier, clientEndpointProvider, b -> { });
+    }
+
+    /**
+     * Decorate the endpoint provider of the request with the region of its bucket from the bucket region cache, if there is
+     * one. In the same rebuild of the request, record whether the bucket was found, so that
+     * {@link BucketRegionCacheMetricInterceptor} can report it once the API call's metric collector exists.
+     */
+    public static <T extends S3Request> T requestWithCachedRegion(T request, Region cachedRegion,
+                                                                  EndpointProvider clientEndpointProvider) {
+        return requestWithDecoratedEndpointProvider(
+            request, () -> cachedRegion, clientEndpointProvider,
+            b -> b.putExecutionAttribute(BucketRegionCacheMetricInterceptor.BUCKET_REGION_CACHE_HIT, cachedRegion != null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends S3Request> T requestWithDecoratedEndpointProvider(
+        T request, Supplier<Region> regionSupplier, EndpointProvider clientEndpointProvider,
+        Consumer<AwsRequestOverrideConfiguration.Builder> overrideConfigMutation) {
         AwsRequestOverrideConfiguration requestOverrideConfig =
             request.overrideConfiguration().orElseGet(() -> AwsRequestOverrideConfiguration.builder().build());
 
@@ -88,10 +112,23 @@ public final class CrossRegionUtils {
                               requestOverrideConfig.toBuilder()
                                                    .endpointProvider(
                                                        BucketEndpointProvider.create(delegateEndpointProvider, regionSupplier))
+                                                   .applyMutation(overrideConfigMutation)
                                                    .build())
                           .build();
     }
 
+    /**
+     * Create the bucket region cache of a cross-region client, as configured by its {@link S3Configuration}.
+     */
+    public static BucketRegionCache createBucketRegionCache(SdkClientConfiguration clientConfiguration) {
+        Object serviceConfiguration = clientConfiguration.option(SdkClientOption.SERVICE_CONFIGURATION);
+        BucketRegionCacheConfiguration cacheConfiguration =
+            serviceConfiguration instanceof S3Configuration
+            ? ((S3Configuration) serviceConfiguration).bucketRegionCacheConfiguration()
+            : BucketRegionCacheConfiguration.builder().build();
+        return BucketRegionCache.create(cacheConfiguration);
+    }
+
     public static <T extends S3Request> AwsRequestOverrideConfiguration updateUserAgentInConfig(T request) {
         return
             request.overrideConfiguration().map(c -> c.toBuilder()
@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.handlers;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.HttpStatusCode;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.s3.internal.multipart.AdaptiveInFlightPartsLimiter;
+import software.amazon.awssdk.services.s3.multipart.MultipartMetric;
+
+/**
+ * Connects the part requests of a multipart upload or download that adapts its in-flight parts to the operation's
+ * {@link AdaptiveInFlightPartsLimiter}. It reports the limit the part was sent under, and lets the limiter know about every
+ * throttled attempt, including the ones that are retried successfully.
+ */
+@SdkInternalApi
+public final class AdaptiveInFlightPartsInterceptor implements ExecutionInterceptor {
+
+    public static final ExecutionAttribute<AdaptiveInFlightPartsLimiter> IN_FLIGHT_PARTS_LIMITER =
+        new ExecutionAttribute<>("InFlightPartsLimiter");
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        AdaptiveInFlightPartsLimiter limiter = executionAttributes.getAttribute(IN_FLIGHT_PARTS_LIMITER);
+        MetricCollector metricCollector = executionAttributes.getAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+        if (limiter != null && metricCollector != null) {
+            metricCollector.reportMetric(MultipartMetric.IN_FLIGHT_PARTS_LIMIT, limiter.limit());
+        }
+    }
+
+    @Override
+    public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
+        AdaptiveInFlightPartsLimiter limiter = executionAttributes.getAttribute(IN_FLIGHT_PARTS_LIMITER);
+        if (limiter != null && context.httpResponse().statusCode() == HttpStatusCode.SERVICE_UNAVAILABLE) {
+            limiter.onThrottled();
+        }
+    }
+}
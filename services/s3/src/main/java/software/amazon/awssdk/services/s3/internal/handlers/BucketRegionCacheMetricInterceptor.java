@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.handlers;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.s3.crossregion.BucketRegionCacheMetric;
+
+/**
+ * Reports whether the cross-region client found the request's bucket in its bucket region cache. The cross-region client
+ * records the outcome as an execution attribute on the request, because it runs before the API call's metric collector exists.
+ */
+@SdkInternalApi
+public final class BucketRegionCacheMetricInterceptor implements ExecutionInterceptor {
+
+    public static final ExecutionAttribute<Boolean> BUCKET_REGION_CACHE_HIT =
+        new ExecutionAttribute<>("BucketRegionCacheHit");
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        Boolean cacheHit = executionAttributes.getAttribute(BUCKET_REGION_CACHE_HIT);
+        MetricCollector metricCollector = executionAttributes.getAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+        if (cacheHit != null && metricCollector != null) {
+            metricCollector.reportMetric(BucketRegionCacheMetric.BUCKET_REGION_CACHE_HIT, cacheHit);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.lang.ref.WeakReference;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.s3.internal.handlers.AdaptiveInFlightPartsInterceptor;
+import software.amazon.awssdk.services.s3.model.S3Request;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Limits the number of parts of a single multipart upload or download that are in flight at the same time, adapting the limit
+ * to what S3 and the JVM can currently sustain. The configured {@code maxInFlightParts} is the upper bound of the limit.
+ * <p>
+ * The limit is re-evaluated each time a window of as many parts as the current limit completes:
+ * <ul>
+ *     <li>If the throughput of the window improved on the previous window, the limit grows. It doubles until the first
+ *     decrease, and grows by one part afterwards.</li>
+ *     <li>If the throughput of the window dropped, the limit shrinks by one part.</li>
+ * </ul>
+ * The limit is halved when a part attempt is throttled with a 503 (SlowDown) response, or when a part completes while the
+ * heap is nearly full. It is halved at most once per window, because the parts in flight when S3 starts throttling are
+ * likely to be throttled as well.
+ * <p>
+ * Heap usage is estimated as it was shortly after the most recent garbage collection, so that garbage which has not been
+ * collected yet doesn't count as pressure. Otherwise a healthy heap that is simply waiting for its next collection would
+ * throttle every transfer.
+ */
+@SdkInternalApi
+public final class AdaptiveInFlightPartsLimiter {
+    private static final Logger log = Logger.loggerFor(AdaptiveInFlightPartsLimiter.class);
+
+    private static final int INITIAL_LIMIT = 4;
+    private static final double THROUGHPUT_TOLERANCE = 0.1;
+    private static final double MAX_HEAP_USAGE = 0.9;
+
+    /**
+     * Weakly reachable, so it is cleared by the first garbage collection after it was created.
+     */
+    private static WeakReference<Object> collectionSentinel = new WeakReference<>(new Object());
+    private static double heapUsageSinceCollection;
+
+    private final int maxLimit;
+    private final LongSupplier nanoClock;
+    private final DoubleSupplier heapUsage;
+
+    private int limit;
+    private boolean slowStart = true;
+    private boolean decreasedInWindow;
+    private int completedPartsInWindow;
+    private long bytesInWindow;
+    private long windowStartNanos;
+    private double previousThroughput = -1;
+
+    AdaptiveInFlightPartsLimiter(int maxLimit, LongSupplier nanoClock, DoubleSupplier heapUsage) {
+        this.maxLimit = Validate.isPositive(maxLimit, "maxInFlightParts");
+        this.nanoClock = nanoClock;
+        this.heapUsage = heapUsage;
+        this.limit = Math.min(INITIAL_LIMIT, maxLimit);
+        this.windowStartNanos = nanoClock.getAsLong();
+    }
+
+    public static AdaptiveInFlightPartsLimiter create(int maxInFlightParts) {
+        return new AdaptiveInFlightPartsLimiter(maxInFlightParts, System::nanoTime, AdaptiveInFlightPartsLimiter::heapUsage);
+    }
+
+    /**
+     * The number of parts that are currently allowed to be in flight.
+     */
+    public synchronized int limit() {
+        return limit;
+    }
+
+    /**
+     * Record that a part of {@code bytes} bytes completed successfully.
+     */
+    public synchronized void onPartCompleted(long bytes) {
+        completedPartsInWindow++;
+        bytesInWindow += bytes;
+        if (heapUsage.getAsDouble() > MAX_HEAP_USAGE) {
+            decrease("heap usage is above " + MAX_HEAP_USAGE);
+        }
+        if (completedPartsInWindow < limit) {
+            return;
+        }
+
+        if (decreasedInWindow) {
+            // The throughput of a window that was cut short says nothing about the new limit
+            previousThroughput = -1;
+        } else {
+            long elapsedNanos = Math.max(1, nanoClock.getAsLong() - windowStartNanos);
+            double throughput = (double) bytesInWindow / elapsedNanos;
+            adjustToThroughput(throughput);
+            previousThroughput = throughput;
+        }
+        startWindow();
+    }
+
+    /**
+     * Record that an attempt to send a part was throttled by S3.
+     */
+    public synchronized void onThrottled() {
+        decrease("a part was throttled");
+    }
+
+    /**
+     * Attach this limiter to a part request, so that {@link AdaptiveInFlightPartsInterceptor} can report its limit and the
+     * part's throttled attempts.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends S3Request> T attachTo(T request) {
+        AwsRequestOverrideConfiguration requestOverrideConfig =
+            request.overrideConfiguration().orElseGet(() -> AwsRequestOverrideConfiguration.builder().build());
+
+        return (T) request.toBuilder()
+                          .overrideConfiguration(
+                              requestOverrideConfig.toBuilder()
+                                                   .putExecutionAttribute(
+                                                       AdaptiveInFlightPartsInterceptor.IN_FLIGHT_PARTS_LIMITER, this)
+                                                   .build())
+                          .build();
+    }
+
+    private void adjustToThroughput(double throughput) {
+        if (previousThroughput < 0 || throughput > previousThroughput * (1 + THROUGHPUT_TOLERANCE)) {
+            limit = slowStart ? Math.min(maxLimit, limit * 2) : Math.min(maxLimit, limit + 1);
+        } else if (throughput < previousThroughput * (1 - THROUGHPUT_TOLERANCE)) {
+            slowStart = false;
+            limit = Math.max(1, limit - 1);
+        }
+        log.trace(() -> String.format("In-flight parts limit is %d after a window of %.2f bytes/ns", limit, throughput));
+    }
+
+    private void decrease(String reason) {
+        slowStart = false;
+        if (decreasedInWindow) {
+            return;
+        }
+        decreasedInWindow = true;
+        limit = Math.max(1, limit / 2);
+        log.debug(() -> String.format("Reduced in-flight parts limit to %d because %s", limit, reason));
+    }
+
+    private void startWindow() {
+        completedPartsInWindow = 0;
+        bytesInWindow = 0;
+        windowStartNanos = nanoClock.getAsLong();
+        decreasedInWindow = false;
+    }
+
+    /**
+     * The lowest fraction of the maximum heap size that was in use in any sample since the most recent garbage collection. The
+     * heap only fills up between collections, so this is the usage of the first sample after the collection, which is the
+     * closest estimate of what the collection left behind that can be taken without the java.management module.
+     * <p>
+     * A collection is detected when {@link #collectionSentinel} has been cleared. That may be a young collection which leaves
+     * garbage in the old generation, so the estimate errs on the high side. Until the first collection is detected the heap
+     * is assumed not to be under pressure, because a heap under pressure collects frequently.
+     */
+    private static synchronized double heapUsage() {
+        Runtime runtime = Runtime.getRuntime();
+        double usage = (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+        if (collectionSentinel.get() == null) {
+            collectionSentinel = new WeakReference<>(new Object());
+            heapUsageSinceCollection = usage;
+        } else {
+            heapUsageSinceCollection = Math.min(heapUsageSinceCollection, usage);
+        }
+        return heapUsageSinceCollection;
+    }
+}
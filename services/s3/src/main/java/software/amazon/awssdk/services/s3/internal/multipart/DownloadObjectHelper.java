@@ -33,11 +33,14 @@ public class DownloadObjectHelper {
     private final S3AsyncClient s3AsyncClient;
     private final long bufferSizeInBytes;
     private final int maxInFlightParts;
+    private final boolean adaptiveInFlightParts;
 
-    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes, int maxInFlightParts) {
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes, int maxInFlightParts,
+                                boolean adaptiveInFlightParts) {
         this.s3AsyncClient = s3AsyncClient;
         this.bufferSizeInBytes = bufferSizeInBytes;
         this.maxInFlightParts = maxInFlightParts;
+        this.adaptiveInFlightParts = adaptiveInFlightParts;
     }
 
     public <T> CompletableFuture<T> downloadObject(
@@ -62,8 +65,11 @@ public class DownloadObjectHelper {
         GetObjectRequest getObjectRequest,
         AsyncResponseTransformer.SplitResult<GetObjectResponse, T> split,
         int maxInFlight) {
+        AdaptiveInFlightPartsLimiter inFlightPartsLimiter =
+            adaptiveInFlightParts ? AdaptiveInFlightPartsLimiter.create(maxInFlight) : null;
         ParallelMultipartDownloaderSubscriber subscriber = new ParallelMultipartDownloaderSubscriber(
-            s3AsyncClient, getObjectRequest, (CompletableFuture<GetObjectResponse>) split.resultFuture(), maxInFlight);
+            s3AsyncClient, getObjectRequest, (CompletableFuture<GetObjectResponse>) split.resultFuture(), maxInFlight,
+            inFlightPartsLimiter);
         split.publisher().subscribe(subscriber);
         return split.resultFuture();
     }
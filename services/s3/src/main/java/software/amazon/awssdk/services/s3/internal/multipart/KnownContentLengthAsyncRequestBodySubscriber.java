@@ -70,6 +70,15 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     private final AtomicReferenceArray<CompletedPart> completedParts;
     private final Map<Integer, CompletedPart> existingParts;
     private final PublisherListener<Long> progressListener;
+    /**
+     * Adapts the number of parts in flight, or null if the next part is requested as soon as the previous one is sent.
+     */
+    private final AdaptiveInFlightPartsLimiter inFlightPartsLimiter;
+    private final Object demandLock = new Object();
+    /**
+     * Whether the next part has been requested from the subscription but not received yet.
+     */
+    private boolean demandOutstanding;
     private Subscription subscription;
     private volatile boolean isDone;
     private volatile boolean isPaused;
@@ -82,6 +91,13 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     KnownContentLengthAsyncRequestBodySubscriber(MpuRequestContext mpuRequestContext,
                                                  CompletableFuture<PutObjectResponse> returnFuture,
                                                  MultipartUploadHelper multipartUploadHelper) {
+        this(mpuRequestContext, returnFuture, multipartUploadHelper, null);
+    }
+
+    KnownContentLengthAsyncRequestBodySubscriber(MpuRequestContext mpuRequestContext,
+                                                 CompletableFuture<PutObjectResponse> returnFuture,
+                                                 MultipartUploadHelper multipartUploadHelper,
+                                                 AdaptiveInFlightPartsLimiter inFlightPartsLimiter) {
         this.totalSize = mpuRequestContext.contentLength();
         this.partSize = mpuRequestContext.partSize();
         this.expectedNumParts = mpuRequestContext.expectedNumParts();
@@ -95,6 +111,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
         this.progressListener = putObjectRequest.overrideConfiguration().map(c -> c.executionAttributes()
                                                                                    .getAttribute(JAVA_PROGRESS_LISTENER))
                                                 .orElseGet(PublisherListener::noOp);
+        this.inFlightPartsLimiter = inFlightPartsLimiter;
     }
 
     public S3ResumeToken pause() {
@@ -133,6 +150,9 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
             return;
         }
         this.subscription = s;
+        synchronized (demandLock) {
+            demandOutstanding = true;
+        }
         s.request(1);
         returnFuture.whenComplete((r, t) -> {
             if (t != null) {
@@ -146,6 +166,9 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
 
     @Override
     public void onNext(CloseableAsyncRequestBody asyncRequestBody) {
+        synchronized (demandLock) {
+            demandOutstanding = false;
+        }
         if (isPaused || isDone) {
             return;
         }
@@ -159,7 +182,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
             asyncRequestBody.subscribe(new CancelledSubscriber<>());
             asyncRequestBody.contentLength().ifPresent(progressListener::subscriberOnNext);
             asyncRequestBody.close();
-            subscription.request(1);
+            requestNextPart();
             return;
         }
 
@@ -178,6 +201,9 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
         UploadPartRequest uploadRequest = SdkPojoConversionUtils.toUploadPartRequest(putObjectRequest,
                                                                                      currentPartNum,
                                                                                      uploadId);
+        if (inFlightPartsLimiter != null) {
+            uploadRequest = inFlightPartsLimiter.attachTo(uploadRequest);
+        }
 
         Consumer<CompletedPart> completedPartConsumer = completedPart -> completedParts.set(completedPart.partNumber() - 1,
                                                                                             completedPart);
@@ -193,8 +219,36 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                                      }
                                  } else {
                                      completeMultipartUploadIfFinished(asyncRequestBodyInFlight.decrementAndGet());
+                                     onPartCompleted(asyncRequestBody);
                                  }
                              });
+        requestNextPart();
+    }
+
+    private void onPartCompleted(AsyncRequestBody asyncRequestBody) {
+        if (inFlightPartsLimiter == null) {
+            return;
+        }
+        asyncRequestBody.contentLength().ifPresent(inFlightPartsLimiter::onPartCompleted);
+        requestNextPart();
+    }
+
+    /**
+     * Request the next part, unless the adaptive limit of parts in flight has been reached. In that case, the next part is
+     * requested once enough parts complete.
+     */
+    private void requestNextPart() {
+        if (inFlightPartsLimiter == null) {
+            subscription.request(1);
+            return;
+        }
+        synchronized (demandLock) {
+            if (demandOutstanding || isPaused || isDone
+                || asyncRequestBodyInFlight.get() >= inFlightPartsLimiter.limit()) {
+                return;
+            }
+            demandOutstanding = true;
+        }
         subscription.request(1);
     }
 
@@ -35,6 +35,7 @@ public final class MultipartConfigurationResolver {
     private final long apiCallBufferSize;
     private final long thresholdInBytes;
     private final int maxInFlightParts;
+    private final boolean adaptiveInFlightParts;
 
     public MultipartConfigurationResolver(MultipartConfiguration multipartConfiguration) {
         Validate.notNull(multipartConfiguration, "multipartConfiguration");
@@ -46,9 +47,11 @@ public final class MultipartConfigurationResolver {
         ParallelConfiguration parallelConfiguration = multipartConfiguration.parallelConfiguration();
         if (parallelConfiguration == null) {
             this.maxInFlightParts = DEFAULT_MAX_IN_FLIGHT_PARTS;
+            this.adaptiveInFlightParts = false;
         } else {
             this.maxInFlightParts = Validate.getOrDefault(multipartConfiguration.parallelConfiguration().maxInFlightParts(),
                                                           () -> DEFAULT_MAX_IN_FLIGHT_PARTS);
+            this.adaptiveInFlightParts = Boolean.TRUE.equals(parallelConfiguration.adaptiveInFlightParts());
         }
     }
 
@@ -67,4 +70,8 @@ public final class MultipartConfigurationResolver {
     public int maxInFlightParts() {
         return maxInFlightParts;
     }
+
+    public boolean adaptiveInFlightParts() {
+        return adaptiveInFlightParts;
+    }
 }
@@ -65,7 +65,8 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
         int maxInFlightParts = resolver.maxInFlightParts();
         mpuHelper = new UploadObjectHelper(delegate, resolver);
         copyObjectHelper = new CopyObjectHelper(delegate, minPartSizeInBytes, threshold);
-        downloadObjectHelper = new DownloadObjectHelper(delegate, apiCallBufferSize, maxInFlightParts);
+        downloadObjectHelper = new DownloadObjectHelper(delegate, apiCallBufferSize, maxInFlightParts,
+                                                        resolver.adaptiveInFlightParts());
         this.checksumEnabled = checksumEnabled;
     }
 
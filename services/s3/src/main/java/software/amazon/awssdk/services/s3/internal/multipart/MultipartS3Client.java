@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.internal.sync.FileResponseTransformer;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.DelegatingS3Client;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.internal.UserAgentUtils;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Request;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link S3Client} that automatically converts GET requests downloading to a file, using
+ * {@link ResponseTransformer#toFile(java.nio.file.Path)}, into parallel ranged GET requests. Each part is written directly at
+ * its offset in the file by a bounded pool of threads owned by this client.
+ * <p>
+ * Other requests, and GET requests that already specify a range or a part number, are passed to the delegate unchanged.
+ *
+ * @see MultipartConfiguration
+ */
+@SdkInternalApi
+public final class MultipartS3Client extends DelegatingS3Client {
+
+    private static final ApiName USER_AGENT_API_NAME = ApiName.builder().name("hll").version("s3Multipart").build();
+
+    private final S3Client delegate;
+    private final ExecutorService downloadExecutor;
+    private final ParallelFileDownloadHelper fileDownloadHelper;
+
+    private MultipartS3Client(S3Client delegate, MultipartConfiguration multipartConfiguration) {
+        super(delegate);
+        this.delegate = delegate;
+        MultipartConfiguration validConfiguration = Validate.getOrDefault(multipartConfiguration,
+                                                                          MultipartConfiguration.builder()::build);
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(validConfiguration);
+        int maxInFlightParts = resolver.maxInFlightParts();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxInFlightParts, maxInFlightParts,
+                                                             60, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             new ThreadFactoryBuilder()
+                                                                 .threadNamePrefix("sdk-s3-multipart-download")
+                                                                 .daemonThreads(true)
+                                                                 .build());
+        executor.allowCoreThreadTimeOut(true);
+        this.downloadExecutor = executor;
+        this.fileDownloadHelper = new ParallelFileDownloadHelper(delegate, resolver.minimalPartSizeInBytes(), executor);
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest getObjectRequest,
+                                       ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        if (!(responseTransformer instanceof FileResponseTransformer)
+            || getObjectRequest.range() != null
+            || getObjectRequest.partNumber() != null) {
+            return delegate.getObject(getObjectRequest, responseTransformer);
+        }
+
+        ResponseTransformer<?, ?> fileTransformer = responseTransformer;
+        Path destination = ((FileResponseTransformer<?>) fileTransformer).path();
+
+        // FileResponseTransformer always returns the response it was given
+        @SuppressWarnings("unchecked")
+        ReturnT response = (ReturnT) fileDownloadHelper.downloadToFile(getObjectRequest, destination);
+        return response;
+    }
+
+    @Override
+    public void close() {
+        downloadExecutor.shutdown();
+        delegate.close();
+    }
+
+    public static MultipartS3Client create(S3Client client, MultipartConfiguration multipartConfiguration) {
+        S3Client clientWithUserAgent = new DelegatingS3Client(client) {
+            @Override
+            protected <T extends S3Request, ReturnT> ReturnT invokeOperation(T request, Function<T, ReturnT> operation) {
+                T requestWithUserAgent = UserAgentUtils.applyUserAgentInfo(request, c -> c.addApiName(USER_AGENT_API_NAME));
+                return operation.apply(requestWithUserAgent);
+            }
+        };
+        return new MultipartS3Client(clientWithUserAgent, multipartConfiguration);
+    }
+}
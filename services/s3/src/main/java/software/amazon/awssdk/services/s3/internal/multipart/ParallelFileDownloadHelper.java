@@ -0,0 +1,239 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Downloads an object to a file with parallel ranged GET requests.
+ * <p>
+ * The first part is requested on the calling thread, and its {@code Content-Range} tells the total size of the object. The
+ * remaining parts are then requested on the provided executor, each writing directly at its offset in the file. Every part
+ * after the first is conditional on the ETag of the first, so that the parts can't come from different versions of the object.
+ * <p>
+ * Each part is checked to have exactly the length that was requested. A part whose body can't be read in full, for example
+ * because the connection dropped, fails with a {@link RetryableException}, so that the retry policy of the client requests
+ * that part again without restarting the whole download. If the download fails, the partially written file is deleted.
+ */
+@SdkInternalApi
+public final class ParallelFileDownloadHelper {
+    private static final Logger log = Logger.loggerFor(ParallelFileDownloadHelper.class);
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private final S3Client s3Client;
+    private final long partSizeInBytes;
+    private final Executor executor;
+
+    public ParallelFileDownloadHelper(S3Client s3Client, long partSizeInBytes, Executor executor) {
+        this.s3Client = Validate.paramNotNull(s3Client, "s3Client");
+        this.partSizeInBytes = Validate.isPositive(partSizeInBytes, "partSizeInBytes");
+        this.executor = Validate.paramNotNull(executor, "executor");
+    }
+
+    public GetObjectResponse downloadToFile(GetObjectRequest getObjectRequest, Path destination) {
+        FileChannel channel = openChannel(destination);
+        boolean succeeded = false;
+        try {
+            GetObjectResponse response = download(getObjectRequest, channel);
+            succeeded = true;
+            return response;
+        } finally {
+            close(channel, destination);
+            if (!succeeded) {
+                deleteQuietly(destination);
+            }
+        }
+    }
+
+    private GetObjectResponse download(GetObjectRequest getObjectRequest, FileChannel channel) {
+        GetObjectResponse firstPart;
+        try {
+            firstPart = downloadPart(getObjectRequest, channel, 0, partSizeInBytes - 1);
+        } catch (S3Exception e) {
+            if (e.statusCode() != RANGE_NOT_SATISFIABLE) {
+                throw e;
+            }
+            // Empty objects can't be requested by range
+            log.debug(() -> "Object is empty, downloading without a range", e);
+            return downloadWholeObject(getObjectRequest, channel);
+        }
+
+        Long totalSize = totalSize(firstPart);
+        if (totalSize == null) {
+            return firstPart;
+        }
+
+        if (totalSize > partSizeInBytes) {
+            GetObjectRequest remainingPartsRequest = getObjectRequest.ifMatch() == null && firstPart.eTag() != null
+                                                     ? getObjectRequest.toBuilder().ifMatch(firstPart.eTag()).build()
+                                                     : getObjectRequest;
+
+            downloadRemainingParts(remainingPartsRequest, channel, totalSize);
+        }
+
+        // Describe the whole object, as an unranged GET would have
+        return firstPart.toBuilder()
+                        .contentLength(totalSize)
+                        .contentRange(null)
+                        .build();
+    }
+
+    private void downloadRemainingParts(GetObjectRequest request, FileChannel channel, long totalSize) {
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<?>> parts = new ArrayList<>();
+        for (long start = partSizeInBytes; start < totalSize; start += partSizeInBytes) {
+            long partStart = start;
+            long partEnd = Math.min(start + partSizeInBytes, totalSize) - 1;
+            parts.add(CompletableFuture.runAsync(() -> {
+                if (failed.get()) {
+                    return;
+                }
+                try {
+                    downloadPart(request, channel, partStart, partEnd);
+                } catch (RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                }
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(parts.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private GetObjectResponse downloadPart(GetObjectRequest request, FileChannel channel, long start, long end) {
+        GetObjectRequest partRequest = request.toBuilder()
+                                              .range("bytes=" + start + "-" + end)
+                                              .build();
+        return s3Client.getObject(partRequest, writeAt(channel, start));
+    }
+
+    private GetObjectResponse downloadWholeObject(GetObjectRequest request, FileChannel channel) {
+        return s3Client.getObject(request, writeAt(channel, 0));
+    }
+
+    /**
+     * Writes the body at its offset in the file. Rewriting the same range is harmless, so a body that is cut short is reported
+     * as retryable and left to the retry policy of the client.
+     */
+    private static ResponseTransformer<GetObjectResponse, GetObjectResponse> writeAt(FileChannel channel, long offset) {
+        return (response, inputStream) -> {
+            long written = copy(inputStream, channel, offset);
+            Long expected = response.contentLength();
+            if (expected != null && written != expected) {
+                throw RetryableException.create(String.format("Expected %d bytes at offset %d but received %d",
+                                                              expected, offset, written));
+            }
+            return response;
+        };
+    }
+
+    private static long copy(InputStream inputStream, FileChannel channel, long offset) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long position = offset;
+        int read;
+        while (true) {
+            try {
+                read = inputStream.read(buffer);
+            } catch (IOException e) {
+                throw RetryableException.create("Failed to read the body of the range at offset " + offset, e);
+            }
+            if (read == -1) {
+                return position - offset;
+            }
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+            while (byteBuffer.hasRemaining()) {
+                position += channel.write(byteBuffer, position);
+            }
+        }
+    }
+
+    /**
+     * Parses the total size of the object from a {@code Content-Range} such as {@code bytes 0-8388607/104857600}.
+     */
+    private static Long totalSize(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange == null) {
+            return null;
+        }
+        int separator = contentRange.lastIndexOf('/');
+        if (separator < 0 || "*".equals(contentRange.substring(separator + 1))) {
+            return null;
+        }
+        try {
+            return Long.parseLong(contentRange.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw SdkClientException.create("Invalid Content-Range in response: " + contentRange, e);
+        }
+    }
+
+    private static FileChannel openChannel(Path destination) {
+        try {
+            return FileChannel.open(destination, CREATE_NEW, WRITE);
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to create file: " + destination, e);
+        }
+    }
+
+    private static void close(FileChannel channel, Path destination) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close file: " + destination, e);
+        }
+    }
+
+    private static void deleteQuietly(Path destination) {
+        try {
+            Files.deleteIfExists(destination);
+        } catch (IOException e) {
+            log.warn(() -> "Failed to delete partially downloaded file: " + destination, e);
+        }
+    }
+}
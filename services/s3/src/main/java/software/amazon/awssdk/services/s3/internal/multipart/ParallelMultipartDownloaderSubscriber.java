@@ -40,8 +40,9 @@ import software.amazon.awssdk.utils.Pair;
 
 /**
  * A subscriber implementation that will download all individual parts for a multipart get-object request in parallel,
- * concurrently. The amount of concurrent get-object is limited by the {@code maxInFlightParts} configuration. It receives the
- * individual {@link AsyncResponseTransformer} which will be used to perform the individual part requests. These
+ * concurrently. The amount of concurrent get-object is limited by the {@code maxInFlightParts} configuration, or adapted below it
+ * by an {@link AdaptiveInFlightPartsLimiter}. It receives the individual {@link AsyncResponseTransformer} which will be used to
+ * perform the individual part requests. These
  * AsyncResponseTransformer should be able to handle receiving data in parts potentially out of order, For example, the
  * AsyncResponseTransformer for part 4 might may have any of its callback called before part 1, 2 or 3 if it finishes before. This
  * is a 'one-shot' class, it should <em>NOT</em> be reused for more than one multipart download.
@@ -56,6 +57,17 @@ public class ParallelMultipartDownloaderSubscriber
      */
     private final int maxInFlightParts;
 
+    /**
+     * Adapts the number of concurrent GetObject requests below {@code maxInFlightParts}, or null if it is fixed.
+     */
+    private final AdaptiveInFlightPartsLimiter inFlightPartsLimiter;
+
+    /**
+     * The highest in-flight parts limit demand was requested for. When the adaptive limit grows beyond it, the extra demand is
+     * requested from the subscription.
+     */
+    private final AtomicInteger requestedLimit = new AtomicInteger(0);
+
     /**
      * The s3 client used to make the individual part requests
      */
@@ -155,10 +167,19 @@ public class ParallelMultipartDownloaderSubscriber
                                                  GetObjectRequest getObjectRequest,
                                                  CompletableFuture<GetObjectResponse> resultFuture,
                                                  int maxInFlightParts) {
+        this(s3, getObjectRequest, resultFuture, maxInFlightParts, null);
+    }
+
+    public ParallelMultipartDownloaderSubscriber(S3AsyncClient s3,
+                                                 GetObjectRequest getObjectRequest,
+                                                 CompletableFuture<GetObjectResponse> resultFuture,
+                                                 int maxInFlightParts,
+                                                 AdaptiveInFlightPartsLimiter inFlightPartsLimiter) {
         this.s3 = s3;
         this.getObjectRequest = getObjectRequest;
         this.resultFuture = resultFuture;
         this.maxInFlightParts = maxInFlightParts;
+        this.inFlightPartsLimiter = inFlightPartsLimiter;
         this.initialCompletedParts = initialCompletedParts(getObjectRequest);
         this.completedParts = new AtomicInteger(initialCompletedParts.size());
 
@@ -198,7 +219,9 @@ public class ParallelMultipartDownloaderSubscriber
             return;
         }
         this.subscription = s;
-        subscription.request(maxInFlightParts);
+        int limit = currentMaxInFlightParts();
+        requestedLimit.set(limit);
+        subscription.request(limit);
     }
 
     @Override
@@ -241,7 +264,7 @@ public class ParallelMultipartDownloaderSubscriber
             return;
         }
 
-        if (inFlightRequests.size() >= maxInFlightParts) {
+        if (inFlightRequests.size() >= currentMaxInFlightParts()) {
             pendingTransformers.offer(Pair.of(currentPartNum, asyncResponseTransformer));
             return;
         }
@@ -275,6 +298,7 @@ public class ParallelMultipartDownloaderSubscriber
 
             inFlightRequests.remove(currentPartNumber);
             completedParts.incrementAndGet();
+            recordCompletedPart(res);
             MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
                                   .ifPresent(ctx -> ctx.addCompletedPart(currentPartNumber));
 
@@ -293,7 +317,7 @@ public class ParallelMultipartDownloaderSubscriber
             } else {
                 processPendingTransformers(res.partsCount());
                 synchronized (subscriptionLock) {
-                    subscription.request(1);
+                    subscription.request(demandForCompletedPart());
                 }
             }
         });
@@ -325,6 +349,7 @@ public class ParallelMultipartDownloaderSubscriber
 
             log.debug(() -> "Completed part: 1");
             completedParts.incrementAndGet();
+            recordCompletedPart(res);
             setInitialPartCountAndEtag(res);
 
             if (!isMultipartObject(res)) {
@@ -343,7 +368,7 @@ public class ParallelMultipartDownloaderSubscriber
                                   });
 
             synchronized (subscriptionLock) {
-                subscription.request(1);
+                subscription.request(demandForCompletedPart());
             }
         });
     }
@@ -407,7 +432,30 @@ public class ParallelMultipartDownloaderSubscriber
         if (pendingTransformers.isEmpty()) {
             return false;
         }
-        return maxInFlightParts - inFlightRequestsNum.get() > 0;
+        return currentMaxInFlightParts() - inFlightRequests.size() > 0;
+    }
+
+    private int currentMaxInFlightParts() {
+        return inFlightPartsLimiter == null ? maxInFlightParts : inFlightPartsLimiter.limit();
+    }
+
+    private void recordCompletedPart(GetObjectResponse response) {
+        if (inFlightPartsLimiter != null && response.contentLength() != null) {
+            inFlightPartsLimiter.onPartCompleted(response.contentLength());
+        }
+    }
+
+    /**
+     * The demand to request once a part completes: one transformer to replace the completed part, plus as many as the adaptive
+     * limit grew by since demand was last requested.
+     */
+    private int demandForCompletedPart() {
+        if (inFlightPartsLimiter == null) {
+            return 1;
+        }
+        int limit = inFlightPartsLimiter.limit();
+        int previousLimit = requestedLimit.getAndAccumulate(limit, Math::max);
+        return 1 + Math.max(0, limit - previousLimit);
     }
 
     @Override
@@ -427,12 +475,13 @@ public class ParallelMultipartDownloaderSubscriber
     }
 
     private GetObjectRequest nextRequest(int nextPartToGet) {
-        return getObjectRequest.copy(req -> {
+        GetObjectRequest request = getObjectRequest.copy(req -> {
             req.partNumber(nextPartToGet);
             if (eTag != null) {
                 req.ifMatch(eTag);
             }
         });
+        return inFlightPartsLimiter == null ? request : inFlightPartsLimiter.attachTo(request);
     }
 
     private int nextPart() {
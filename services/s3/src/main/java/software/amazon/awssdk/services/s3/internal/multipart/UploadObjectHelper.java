@@ -51,7 +51,9 @@ public final class UploadObjectHelper {
         this.uploadWithKnownContentLength = new UploadWithKnownContentLengthHelper(s3AsyncClient,
                                                                                    partSizeInBytes,
                                                                                    multipartUploadThresholdInBytes,
-                                                                                   apiCallBufferSize);
+                                                                                   apiCallBufferSize,
+                                                                                   resolver.maxInFlightParts(),
+                                                                                   resolver.adaptiveInFlightParts());
         this.uploadWithUnknownContentLength = new UploadWithUnknownContentLengthHelper(s3AsyncClient,
                                                                                        partSizeInBytes,
                                                                                        multipartUploadThresholdInBytes,
@@ -50,11 +50,15 @@ public final class UploadWithKnownContentLengthHelper {
     private final long maxMemoryUsageInBytes;
     private final long multipartUploadThresholdInBytes;
     private final MultipartUploadHelper multipartUploadHelper;
+    private final int maxInFlightParts;
+    private final boolean adaptiveInFlightParts;
 
     public UploadWithKnownContentLengthHelper(S3AsyncClient s3AsyncClient,
                                               long partSizeInBytes,
                                               long multipartUploadThresholdInBytes,
-                                              long maxMemoryUsageInBytes) {
+                                              long maxMemoryUsageInBytes,
+                                              int maxInFlightParts,
+                                              boolean adaptiveInFlightParts) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = partSizeInBytes;
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -64,6 +68,8 @@ public final class UploadWithKnownContentLengthHelper {
         this.multipartUploadThresholdInBytes = multipartUploadThresholdInBytes;
         this.multipartUploadHelper = new MultipartUploadHelper(s3AsyncClient, multipartUploadThresholdInBytes,
                                                                maxMemoryUsageInBytes);
+        this.maxInFlightParts = maxInFlightParts;
+        this.adaptiveInFlightParts = adaptiveInFlightParts;
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
@@ -180,8 +186,11 @@ public final class UploadWithKnownContentLengthHelper {
     }
 
     private void splitAndSubscribe(MpuRequestContext mpuRequestContext, CompletableFuture<PutObjectResponse> returnFuture) {
+        AdaptiveInFlightPartsLimiter inFlightPartsLimiter =
+            adaptiveInFlightParts ? AdaptiveInFlightPartsLimiter.create(maxInFlightParts) : null;
         KnownContentLengthAsyncRequestBodySubscriber subscriber =
-            new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext, returnFuture, multipartUploadHelper);
+            new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext, returnFuture, multipartUploadHelper,
+                                                             inFlightPartsLimiter);
 
         attachSubscriberToObservable(subscriber, mpuRequestContext.request().left());
 
@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.plugins;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkPlugin;
+import software.amazon.awssdk.core.SdkServiceClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
+import software.amazon.awssdk.services.s3.internal.handlers.BucketRegionCacheMetricInterceptor;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Internal plugin that installs {@link BucketRegionCacheMetricInterceptor} when cross-region access is enabled, which is the
+ * only case in which requests carry the bucket region cache result it reports.
+ */
+@SdkInternalApi
+public final class S3CrossRegionMetricPlugin implements SdkPlugin {
+
+    private final boolean crossRegionAccessEnabled;
+
+    public S3CrossRegionMetricPlugin(SdkClientConfiguration config) {
+        AttributeMap clientContextParams = config.option(SdkClientOption.CLIENT_CONTEXT_PARAMS);
+        this.crossRegionAccessEnabled = clientContextParams != null
+                                        && Boolean.TRUE.equals(
+                                            clientContextParams.get(S3ClientContextParams.CROSS_REGION_ACCESS_ENABLED));
+    }
+
+    @Override
+    public void configureClient(SdkServiceClientConfiguration.Builder config) {
+        if (!crossRegionAccessEnabled) {
+            return;
+        }
+        S3ServiceClientConfiguration.Builder s3Config = (S3ServiceClientConfiguration.Builder) config;
+        s3Config.overrideConfiguration(s3Config.overrideConfiguration()
+                                               .toBuilder()
+                                               .addExecutionInterceptor(new BucketRegionCacheMetricInterceptor())
+                                               .build());
+    }
+}
@@ -19,8 +19,11 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -44,6 +47,12 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * <p>
  * When performing multipart download, retry is only supported when using an {@link AsyncResponseTransformer} implementation
  * that downloads the object into memory such, as {@link AsyncResponseTransformer#toBytes()}
+ * <p>
+ * This class can also be passed to {@link S3ClientBuilder#multipartConfiguration(MultipartConfiguration)}, in which case
+ * {@link S3Client#getObject(GetObjectRequest, ResponseTransformer)} with {@link ResponseTransformer#toFile(java.nio.file.Path)}
+ * downloads the object with parallel ranged GET requests of {@link #minimumPartSizeInBytes()} bytes, up to
+ * {@link ParallelConfiguration#maxInFlightParts()} at a time. Unlike the asynchronous client, this works for every object,
+ * whether or not it was uploaded as a multipart object.
  */
 @SdkPublicApi
 public final class MultipartConfiguration implements ToCopyableBuilder<MultipartConfiguration.Builder, MultipartConfiguration> {
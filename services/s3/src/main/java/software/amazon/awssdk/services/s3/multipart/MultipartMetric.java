@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics collected by a multipart enabled S3 client about the parts it sends.
+ *
+ * @see ParallelConfiguration#adaptiveInFlightParts()
+ */
+@SdkPublicApi
+public final class MultipartMetric {
+    /**
+     * The number of parts the multipart upload or download was allowed to have in flight when the part was sent. This is
+     * present for the API call metrics of every part request, when adaptive in-flight parts are enabled.
+     */
+    public static final SdkMetric<Integer> IN_FLIGHT_PARTS_LIMIT =
+        SdkMetric.create("MultipartInFlightPartsLimit", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+
+    private MultipartMetric() {
+    }
+}
@@ -29,9 +29,11 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 public class ParallelConfiguration implements ToCopyableBuilder<ParallelConfiguration.Builder, ParallelConfiguration> {
 
     private final Integer maxInFlightParts;
+    private final Boolean adaptiveInFlightParts;
 
     public ParallelConfiguration(Builder builder) {
         this.maxInFlightParts = builder.maxInFlightParts;
+        this.adaptiveInFlightParts = builder.adaptiveInFlightParts;
     }
 
     public static Builder builder() {
@@ -46,13 +48,25 @@ public class ParallelConfiguration implements ToCopyableBuilder<ParallelConfigur
         return maxInFlightParts;
     }
 
+    /**
+     * Whether the number of parts in flight adapts to the observed throughput, 503 (SlowDown) responses and heap usage, with
+     * {@link #maxInFlightParts()} as its upper bound. This applies to multipart downloads and to multipart uploads of a known
+     * content length. The current limit is reported through {@link MultipartMetric#IN_FLIGHT_PARTS_LIMIT}.
+     * @return Whether the number of parts in flight adapts, or null if not set, in which case it does not.
+     */
+    public Boolean adaptiveInFlightParts() {
+        return adaptiveInFlightParts;
+    }
+
     @Override
     public Builder toBuilder() {
-        return builder().maxInFlightParts(maxInFlightParts);
+        return builder().maxInFlightParts(maxInFlightParts)
+                        .adaptiveInFlightParts(adaptiveInFlightParts);
     }
 
     public static class Builder implements CopyableBuilder<Builder, ParallelConfiguration> {
         private int maxInFlightParts;
+        private Boolean adaptiveInFlightParts;
 
         public Builder maxInFlightParts(int maxInFlightParts) {
             this.maxInFlightParts = maxInFlightParts;
@@ -63,6 +77,25 @@ public class ParallelConfiguration implements ToCopyableBuilder<ParallelConfigur
             return maxInFlightParts;
         }
 
+        /**
+         * Configure whether the number of parts in flight adapts to the observed throughput, 503 (SlowDown) responses and heap
+         * usage, instead of always being {@link #maxInFlightParts(int)}. When enabled, a multipart upload or download starts
+         * with a few parts in flight, grows that number while throughput improves, and halves it when S3 throttles a part or
+         * the heap is still nearly full after garbage collection, never exceeding {@link #maxInFlightParts(int)}. Disabled by
+         * default.
+         *
+         * @param adaptiveInFlightParts whether the number of parts in flight adapts
+         * @return an instance of this builder.
+         */
+        public Builder adaptiveInFlightParts(Boolean adaptiveInFlightParts) {
+            this.adaptiveInFlightParts = adaptiveInFlightParts;
+            return this;
+        }
+
+        public Boolean adaptiveInFlightParts() {
+            return adaptiveInFlightParts;
+        }
+
         @Override
         public ParallelConfiguration build() {
             return new ParallelConfiguration(this);
@@ -0,0 +1,213 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.crossregion.BucketRegionCacheConfiguration;
+
+class BucketRegionCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void get_absentBucket_returnsNull() {
+        BucketRegionCache cache = BucketRegionCache.create(BucketRegionCacheConfiguration.builder().build(), clock);
+
+        assertThat(cache.get("bucket")).isNull();
+    }
+
+    @Test
+    void put_thenGet_returnsRegion() {
+        BucketRegionCache cache = BucketRegionCache.create(BucketRegionCacheConfiguration.builder().build(), clock);
+
+        cache.put("bucket", Region.US_WEST_2);
+
+        assertThat(cache.get("bucket")).isEqualTo(Region.US_WEST_2);
+    }
+
+    @Test
+    void remove_removesEntry() {
+        BucketRegionCache cache = BucketRegionCache.create(BucketRegionCacheConfiguration.builder().build(), clock);
+        cache.put("bucket", Region.US_WEST_2);
+
+        cache.remove("bucket");
+
+        assertThat(cache.get("bucket")).isNull();
+    }
+
+    @Test
+    void put_overMaxEntries_evictsLeastRecentlyUsed() {
+        BucketRegionCache cache = BucketRegionCache.create(BucketRegionCacheConfiguration.builder().maxEntries(2).build(),
+                                                           clock);
+        cache.put("bucket-1", Region.US_WEST_2);
+        cache.put("bucket-2", Region.EU_WEST_1);
+        cache.get("bucket-1");
+
+        cache.put("bucket-3", Region.AP_SOUTH_1);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("bucket-1")).isEqualTo(Region.US_WEST_2);
+        assertThat(cache.get("bucket-2")).isNull();
+        assertThat(cache.get("bucket-3")).isEqualTo(Region.AP_SOUTH_1);
+    }
+
+    @Test
+    void get_afterTimeToLive_returnsNullAndRemovesEntry() {
+        BucketRegionCache cache = BucketRegionCache.create(
+            BucketRegionCacheConfiguration.builder().timeToLive(Duration.ofMinutes(5)).build(), clock);
+        cache.put("bucket", Region.US_WEST_2);
+
+        clock.advance(Duration.ofMinutes(4));
+        assertThat(cache.get("bucket")).isEqualTo(Region.US_WEST_2);
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(cache.get("bucket")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void create_invalidMaxEntries_throws() {
+        assertThatThrownBy(() -> BucketRegionCache.create(BucketRegionCacheConfiguration.builder().maxEntries(0).build()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxEntries");
+    }
+
+    @Test
+    void saveSnapshot_thenCreate_restoresEntries() {
+        Path snapshot = tempDir.resolve("regions");
+        BucketRegionCacheConfiguration configuration = BucketRegionCacheConfiguration.builder()
+                                                                                     .maxEntries(2)
+                                                                                     .snapshotFile(snapshot)
+                                                                                     .build();
+        BucketRegionCache cache = BucketRegionCache.create(configuration, clock);
+        cache.put("bucket-1", Region.US_WEST_2);
+        cache.put("bucket-2", Region.EU_WEST_1);
+        cache.get("bucket-1");
+        cache.saveSnapshot();
+
+        BucketRegionCache restored = BucketRegionCache.create(configuration, clock);
+        assertThat(restored.size()).isEqualTo(2);
+
+        // Recency is restored too, so bucket-2 is the least recently used entry
+        restored.put("bucket-3", Region.AP_SOUTH_1);
+        assertThat(restored.get("bucket-1")).isEqualTo(Region.US_WEST_2);
+        assertThat(restored.get("bucket-2")).isNull();
+    }
+
+    @Test
+    void saveSnapshot_sharedFile_mergesEntriesOfBothCaches() {
+        Path snapshot = tempDir.resolve("regions");
+        BucketRegionCacheConfiguration configuration = BucketRegionCacheConfiguration.builder()
+                                                                                     .snapshotFile(snapshot)
+                                                                                     .build();
+        BucketRegionCache first = BucketRegionCache.create(configuration, clock);
+        BucketRegionCache second = BucketRegionCache.create(configuration, clock);
+        first.put("bucket-1", Region.US_WEST_2);
+        first.put("shared-bucket", Region.US_EAST_1);
+        clock.advance(Duration.ofMinutes(1));
+        second.put("bucket-2", Region.EU_WEST_1);
+        second.put("shared-bucket", Region.AP_SOUTH_1);
+
+        second.saveSnapshot();
+        first.saveSnapshot();
+
+        BucketRegionCache restored = BucketRegionCache.create(configuration, clock);
+        assertThat(restored.get("bucket-1")).isEqualTo(Region.US_WEST_2);
+        assertThat(restored.get("bucket-2")).isEqualTo(Region.EU_WEST_1);
+        assertThat(restored.get("shared-bucket")).isEqualTo(Region.AP_SOUTH_1);
+    }
+
+    @Test
+    void create_snapshotWithExpiredEntries_skipsThem() {
+        Path snapshot = tempDir.resolve("regions");
+        BucketRegionCacheConfiguration configuration = BucketRegionCacheConfiguration.builder()
+                                                                                     .timeToLive(Duration.ofMinutes(5))
+                                                                                     .snapshotFile(snapshot)
+                                                                                     .build();
+        BucketRegionCache cache = BucketRegionCache.create(configuration, clock);
+        cache.put("old-bucket", Region.US_WEST_2);
+        clock.advance(Duration.ofMinutes(3));
+        cache.put("new-bucket", Region.EU_WEST_1);
+        cache.saveSnapshot();
+
+        clock.advance(Duration.ofMinutes(3));
+        BucketRegionCache restored = BucketRegionCache.create(configuration, clock);
+
+        assertThat(restored.get("old-bucket")).isNull();
+        assertThat(restored.get("new-bucket")).isEqualTo(Region.EU_WEST_1);
+    }
+
+    @Test
+    void create_corruptSnapshot_startsEmpty() throws IOException {
+        Path snapshot = tempDir.resolve("regions");
+        Files.write(snapshot, "bucket us-west-2 not-a-timestamp\n".getBytes(StandardCharsets.UTF_8));
+
+        BucketRegionCache cache = BucketRegionCache.create(BucketRegionCacheConfiguration.builder()
+                                                                                         .snapshotFile(snapshot)
+                                                                                         .build(), clock);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void create_missingSnapshot_startsEmpty() {
+        BucketRegionCache cache = BucketRegionCache.create(BucketRegionCacheConfiguration.builder()
+                                                                                         .snapshotFile(tempDir.resolve("none"))
+                                                                                         .build(), clock);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.s3.internal.handlers.AdaptiveInFlightPartsInterceptor;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+class AdaptiveInFlightPartsLimiterTest {
+    private static final long PART_SIZE = 1024;
+
+    private AtomicLong nanoTime;
+    private double heapUsage;
+    private AdaptiveInFlightPartsLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime = new AtomicLong();
+        heapUsage = 0.5;
+        limiter = new AdaptiveInFlightPartsLimiter(50, nanoTime::get, () -> heapUsage);
+    }
+
+    @Test
+    void limit_startsBelowMax() {
+        assertThat(limiter.limit()).isEqualTo(4);
+        assertThat(new AdaptiveInFlightPartsLimiter(2, nanoTime::get, () -> heapUsage).limit()).isEqualTo(2);
+    }
+
+    @Test
+    void throughputImproving_doublesLimitUpToMax() {
+        completeWindow(1000);
+        assertThat(limiter.limit()).isEqualTo(8);
+        completeWindow(1000);
+        assertThat(limiter.limit()).isEqualTo(16);
+        completeWindow(1000);
+        completeWindow(1000);
+        assertThat(limiter.limit()).isEqualTo(50);
+        completeWindow(1000);
+        assertThat(limiter.limit()).isEqualTo(50);
+    }
+
+    @Test
+    void throughputDropping_decreasesLimitByOne() {
+        completeWindow(1000);
+        completeWindow(4000);
+
+        assertThat(limiter.limit()).isEqualTo(7);
+    }
+
+    @Test
+    void throughputSteady_keepsLimit() {
+        completeWindow(1000);
+        completeWindow(2000);
+
+        assertThat(limiter.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void afterDecrease_skipsCutShortWindowThenGrowsByOnePart() {
+        completeWindow(1000);
+        limiter.onThrottled();
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        completeWindow(1000);
+        assertThat(limiter.limit()).isEqualTo(4);
+        completeWindow(1000);
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void throttled_halvesLimitOncePerWindow() {
+        completeWindow(1000);
+        completeWindow(1000);
+        assertThat(limiter.limit()).isEqualTo(16);
+
+        limiter.onThrottled();
+        limiter.onThrottled();
+        limiter.onThrottled();
+
+        assertThat(limiter.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void throttled_neverGoesBelowOne() {
+        AdaptiveInFlightPartsLimiter single = new AdaptiveInFlightPartsLimiter(1, nanoTime::get, () -> heapUsage);
+        single.onThrottled();
+
+        assertThat(single.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void heapNearlyFull_halvesLimit() {
+        completeWindow(1000);
+        heapUsage = 0.95;
+
+        limiter.onPartCompleted(PART_SIZE);
+
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void attachTo_setsExecutionAttribute() {
+        GetObjectRequest request = GetObjectRequest.builder().bucket("bucket").key("key").build();
+
+        GetObjectRequest attached = limiter.attachTo(request);
+
+        assertThat(attached.overrideConfiguration()
+                           .map(AwsRequestOverrideConfiguration::executionAttributes)
+                           .map(attributes -> attributes.getAttribute(AdaptiveInFlightPartsInterceptor.IN_FLIGHT_PARTS_LIMITER)))
+            .hasValue(limiter);
+    }
+
+    private void completeWindow(long elapsedNanos) {
+        int parts = limiter.limit();
+        nanoTime.addAndGet(elapsedNanos);
+        for (int i = 0; i < parts; i++) {
+            limiter.onPartCompleted(PART_SIZE);
+        }
+    }
+}
@@ -70,6 +70,17 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.maxInFlightParts()).isEqualTo(1);
     }
 
+    @Test
+    void resolveAdaptiveInFlightParts_valueProvidedWithBuilder_shouldHonor() {
+        MultipartConfiguration configuration =
+            MultipartConfiguration.builder()
+                                  .parallelConfiguration(p -> p.maxInFlightParts(10).adaptiveInFlightParts(true))
+                                  .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.adaptiveInFlightParts()).isTrue();
+        assertThat(resolver.maxInFlightParts()).isEqualTo(10);
+    }
+
     @Test
     void valueProvidedForAllFields_shouldHonor() {
         MultipartConfiguration configuration =
@@ -96,6 +107,7 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(8L * 1024 * 1024 * 4);
         assertThat(resolver.maxInFlightParts()).isEqualTo(50);
+        assertThat(resolver.adaptiveInFlightParts()).isFalse();
     }
 
 }
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
 class S3MultipartClientBuilderTest {
@@ -60,4 +61,41 @@ class S3MultipartClientBuilderTest {
                                             .build();
         assertThat(client).isNotInstanceOf(MultipartS3AsyncClient.class);
     }
+
+    @Test
+    void syncMultipartEnabledWithConfig_shouldBuildMultipartClient() {
+        S3Client client = S3Client.builder()
+                                  .multipartEnabled(true)
+                                  .multipartConfiguration(MultipartConfiguration.builder().build())
+                                  .region(Region.US_EAST_1)
+                                  .build();
+        assertThat(client).isInstanceOf(MultipartS3Client.class);
+    }
+
+    @Test
+    void syncMultipartEnabledWithoutConfig_shouldBuildMultipartClient() {
+        S3Client client = S3Client.builder()
+                                  .multipartEnabled(true)
+                                  .region(Region.US_EAST_1)
+                                  .build();
+        assertThat(client).isInstanceOf(MultipartS3Client.class);
+    }
+
+    @Test
+    void syncMultipartDisabledWithConfig_shouldNotBuildMultipartClient() {
+        S3Client client = S3Client.builder()
+                                  .multipartEnabled(false)
+                                  .multipartConfiguration(b -> b.minimumPartSizeInBytes(1024L))
+                                  .region(Region.US_EAST_1)
+                                  .build();
+        assertThat(client).isNotInstanceOf(MultipartS3Client.class);
+    }
+
+    @Test
+    void syncNoMultipart_shouldNotBeMultipartClient() {
+        S3Client client = S3Client.builder()
+                                  .region(Region.US_EAST_1)
+                                  .build();
+        assertThat(client).isNotInstanceOf(MultipartS3Client.class);
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+@WireMockTest
+class S3MultipartSyncFileDownloadWiremockTest {
+    private static final String BUCKET = "test-bucket";
+    private static final String KEY = "test-key";
+    private static final String PATH = String.format("/%s/%s", BUCKET, KEY);
+    private static final String ETAG = "\"test-etag\"";
+    private static final int PART_SIZE = 1024;
+
+    private S3Client s3Client;
+    private FileSystem fileSystem;
+    private Path testFile;
+
+    @BeforeEach
+    void init(WireMockRuntimeInfo wiremock) {
+        s3Client = S3Client.builder()
+                           .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+                           .region(Region.US_WEST_2)
+                           .endpointOverride(URI.create("http://localhost:" + wiremock.getHttpPort()))
+                           .forcePathStyle(true)
+                           .multipartEnabled(true)
+                           .multipartConfiguration(c -> c.minimumPartSizeInBytes((long) PART_SIZE)
+                                                         .parallelConfiguration(p -> p.maxInFlightParts(3)))
+                           .build();
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        testFile = fileSystem.getPath("test-file.txt");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        s3Client.close();
+        fileSystem.close();
+    }
+
+    @Test
+    void getObject_objectSmallerThanPart_downloadsWithSingleRequest() throws Exception {
+        byte[] body = stubRanges(PART_SIZE / 2);
+
+        GetObjectResponse response = s3Client.getObject(r -> r.bucket(BUCKET).key(KEY), ResponseTransformer.toFile(testFile));
+
+        assertThat(Files.readAllBytes(testFile)).isEqualTo(body);
+        assertThat(response.contentLength()).isEqualTo(body.length);
+        verify(1, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void getObject_objectSpanningSeveralParts_downloadsEachRangePinnedToFirstETag() throws Exception {
+        int size = PART_SIZE * 4 + 100;
+        byte[] body = stubRanges(size);
+
+        GetObjectResponse response = s3Client.getObject(r -> r.bucket(BUCKET).key(KEY), ResponseTransformer.toFile(testFile));
+
+        assertThat(Files.readAllBytes(testFile)).isEqualTo(body);
+        assertThat(response.contentLength()).isEqualTo(size);
+        assertThat(response.contentRange()).isNull();
+        verify(5, getRequestedFor(urlEqualTo(PATH)));
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("If-Match", absent()));
+        verify(4, getRequestedFor(urlEqualTo(PATH)).withHeader("If-Match", equalTo(ETAG)));
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=4096-4195")));
+    }
+
+    @Test
+    void getObject_emptyObject_fallsBackToUnrangedRequest() throws Exception {
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-" + (PART_SIZE - 1)))
+                                     .willReturn(aResponse().withStatus(416)));
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", absent())
+                                     .willReturn(aResponse().withStatus(200)
+                                                            .withHeader("ETag", ETAG)
+                                                            .withBody(new byte[0])));
+
+        s3Client.getObject(r -> r.bucket(BUCKET).key(KEY), ResponseTransformer.toFile(testFile));
+
+        assertThat(Files.size(testFile)).isZero();
+    }
+
+    @Test
+    void getObject_partBodyCutShort_retriesOnlyThatPart() throws Exception {
+        int size = PART_SIZE * 3;
+        byte[] body = stubRanges(size);
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=1024-2047"))
+                                     .inScenario("part-retry")
+                                     .whenScenarioStateIs(Scenario.STARTED)
+                                     .willReturn(aResponse().withFault(Fault.MALFORMED_RESPONSE_CHUNK))
+                                     .willSetStateTo("failed-once"));
+
+        s3Client.getObject(r -> r.bucket(BUCKET).key(KEY), ResponseTransformer.toFile(testFile));
+
+        assertThat(Files.readAllBytes(testFile)).isEqualTo(body);
+        verify(2, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=1024-2047")));
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=2048-3071")));
+    }
+
+    @Test
+    void getObject_partFails_deletesFile() {
+        int size = PART_SIZE * 3;
+        stubRanges(size);
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=1024-2047"))
+                                     .willReturn(aResponse().withStatus(412)));
+
+        assertThatThrownBy(() -> s3Client.getObject(r -> r.bucket(BUCKET).key(KEY), ResponseTransformer.toFile(testFile)))
+            .isInstanceOf(S3Exception.class);
+        assertThat(Files.exists(testFile)).isFalse();
+    }
+
+    @Test
+    void getObject_fileExists_failsWithoutRequest() throws Exception {
+        Files.write(testFile, new byte[] {1});
+
+        assertThatThrownBy(() -> s3Client.getObject(r -> r.bucket(BUCKET).key(KEY), ResponseTransformer.toFile(testFile)))
+            .hasMessageContaining("Failed to create file");
+        verify(0, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void getObject_toBytes_notConvertedToRangedRequests() {
+        byte[] body = new byte[PART_SIZE * 2];
+        new Random().nextBytes(body);
+        stubFor(get(urlEqualTo(PATH)).willReturn(aResponse().withStatus(200).withHeader("ETag", ETAG).withBody(body)));
+
+        byte[] result = s3Client.getObject(r -> r.bucket(BUCKET).key(KEY), ResponseTransformer.toBytes()).asByteArray();
+
+        assertThat(result).isEqualTo(body);
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", absent()));
+    }
+
+    private byte[] stubRanges(int size) {
+        byte[] body = new byte[size];
+        new Random().nextBytes(body);
+        for (int start = 0; start < size; start += PART_SIZE) {
+            int end = Math.min(start + PART_SIZE, size) - 1;
+            // The size of the object is unknown until the first part is received
+            int requestedEnd = start == 0 ? PART_SIZE - 1 : end;
+            stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=" + start + "-" + requestedEnd))
+                                         .willReturn(aResponse().withStatus(206)
+                                                                .withHeader("ETag", ETAG)
+                                                                .withHeader("Content-Range",
+                                                                            String.format("bytes %d-%d/%d", start, end, size))
+                                                                .withBody(Arrays.copyOfRange(body, start, end + 1))));
+        }
+        return body;
+    }
+}
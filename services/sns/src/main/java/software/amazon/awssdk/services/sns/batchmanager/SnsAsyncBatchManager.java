@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.sns.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchOverrideConfiguration;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.internal.batchmanager.DefaultSnsAsyncBatchManager;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Batch manager for implementing automatic batching with an SNS async client. Create an instance using {@link #builder()}.
+ * <p>
+ * This manager buffers {@link PublishRequest}s and sends them to the service as
+ * {@link software.amazon.awssdk.services.sns.model.PublishBatchRequest}s, reducing the number of API requests. Requests are
+ * buffered until they reach a specified limit or a timeout occurs. A failed entry of a batch completes the future of its
+ * request exceptionally, without affecting the other requests of the batch.
+ */
+@SdkPublicApi
+public interface SnsAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Creates a builder for configuring and creating an {@link SnsAsyncBatchManager}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultSnsAsyncBatchManager.builder();
+    }
+
+    /**
+     * Buffers and batches {@link PublishRequest}s, sending them as a
+     * {@link software.amazon.awssdk.services.sns.model.PublishBatchRequest}. Requests are grouped by topic ARN and override
+     * configuration, and sent when the batch size, the batch payload size or timeout is reached. Requests that publish to a
+     * target ARN or a phone number cannot be batched, and are sent directly to SNS.
+     *
+     * @param request The PublishRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PublishResponse}.
+     */
+    default CompletableFuture<PublishResponse> publish(PublishRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches {@link PublishRequest}s using a {@link Consumer} to configure the request, sending them as a
+     * {@link software.amazon.awssdk.services.sns.model.PublishBatchRequest}. Requests are grouped by topic ARN and override
+     * configuration, and sent when the batch size, the batch payload size or timeout is reached.
+     *
+     * @param request A {@link Consumer} to configure the PublishRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PublishResponse}.
+     */
+    default CompletableFuture<PublishResponse> publish(Consumer<PublishRequest.Builder> request) {
+        return publish(PublishRequest.builder().applyMutation(request).build());
+    }
+
+    interface Builder {
+
+        /**
+         * Sets custom overrides for the BatchManager configuration. The maxBatchSize must be less than or equal to 10.
+         *
+         * @param overrideConfiguration The configuration overrides.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(RequestBatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Sets custom overrides for the BatchManager configuration using a {@link Consumer} to configure the overrides.
+         *
+         * @param overrideConfiguration A {@link Consumer} to configure the {@link RequestBatchOverrideConfiguration}.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<RequestBatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(RequestBatchOverrideConfiguration.builder()
+                                                                          .applyMutation(overrideConfiguration)
+                                                                          .build());
+        }
+
+        /**
+         * Sets the {@link SnsAsyncClient} used to send the batch requests. This client must be closed by the caller.
+         *
+         * @param client The SnsAsyncClient to use.
+         * @return This builder for method chaining.
+         * @throws NullPointerException If client is null.
+         */
+        Builder client(SnsAsyncClient client);
+
+        /**
+         * Sets a custom {@link ScheduledExecutorService} for periodic buffer flushes. This executor must be closed by the
+         * caller.
+         *
+         * @param scheduledExecutor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link SnsAsyncBatchManager} based on the supplied configurations.
+         *
+         * @return An initialized SnsAsyncBatchManager.
+         */
+        SnsAsyncBatchManager build();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.sns.internal.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchOverrideConfiguration;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.batchmanager.SnsAsyncBatchManager;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultSnsAsyncBatchManager implements SnsAsyncBatchManager {
+    private final SnsAsyncClient client;
+
+    private final PublishBatchManager publishBatchManager;
+
+    private DefaultSnsAsyncBatchManager(DefaultBuilder builder) {
+        this.client = Validate.notNull(builder.client, "client cannot be null");
+        ScheduledExecutorService scheduledExecutor = Validate.notNull(builder.scheduledExecutor,
+                                                                      "scheduledExecutor cannot be null");
+        RequestBatchOverrideConfiguration overrideConfiguration = builder.overrideConfiguration;
+        Validate.isTrue(overrideConfiguration == null || overrideConfiguration.maxBatchSize() == null ||
+                        overrideConfiguration.maxBatchSize() <= PublishBatchManager.MAX_BATCH_ENTRIES,
+                        "The maxBatchSize must be less than or equal to %d. A batch can contain up to %d messages.",
+                        PublishBatchManager.MAX_BATCH_ENTRIES, PublishBatchManager.MAX_BATCH_ENTRIES);
+
+        this.publishBatchManager =
+            new PublishBatchManager(
+                RequestBatchConfiguration.builder(overrideConfiguration)
+                                         .maxBatchBytesSize(PublishBatchManager.MAX_BATCH_PAYLOAD_SIZE_BYTES)
+                                         .build(),
+                scheduledExecutor,
+                client
+            );
+    }
+
+    @Override
+    public CompletableFuture<PublishResponse> publish(PublishRequest request) {
+        if (!PublishBatchManager.isBatchable(request)) {
+            return client.publish(request);
+        }
+        return publishBatchManager.batchRequest(request);
+    }
+
+    public static SnsAsyncBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public void close() {
+        publishBatchManager.close();
+    }
+
+    public static final class DefaultBuilder implements SnsAsyncBatchManager.Builder {
+        private SnsAsyncClient client;
+        private RequestBatchOverrideConfiguration overrideConfiguration;
+        private ScheduledExecutorService scheduledExecutor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public SnsAsyncBatchManager.Builder overrideConfiguration(RequestBatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public SnsAsyncBatchManager.Builder client(SnsAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public SnsAsyncBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public SnsAsyncBatchManager build() {
+            return new DefaultSnsAsyncBatchManager(this);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.sns.internal.batchmanager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.internal.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchManager;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishBatchResultEntry;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+import software.amazon.awssdk.services.sns.model.SnsException;
+import software.amazon.awssdk.utils.Either;
+
+@SdkInternalApi
+public class PublishBatchManager extends RequestBatchManager<PublishRequest, PublishResponse, PublishBatchResponse> {
+
+    public static final int MAX_BATCH_ENTRIES = 10;
+
+    /**
+     * The total payload of all messages of a PublishBatchRequest can't exceed 256 KiB.
+     */
+    public static final int MAX_BATCH_PAYLOAD_SIZE_BYTES = 262_144;
+
+    private final SnsAsyncClient asyncClient;
+
+    protected PublishBatchManager(RequestBatchConfiguration overrideConfiguration,
+                                  ScheduledExecutorService scheduledExecutor,
+                                  SnsAsyncClient asyncClient) {
+        super(overrideConfiguration, scheduledExecutor, PublishBatchManager::calculateMessageSize);
+        this.asyncClient = asyncClient;
+    }
+
+    /**
+     * Only messages published to a topic can be sent in a PublishBatchRequest. Messages sent to a target ARN or to a phone
+     * number must be published individually.
+     */
+    public static boolean isBatchable(PublishRequest request) {
+        return request.topicArn() != null && request.targetArn() == null && request.phoneNumber() == null;
+    }
+
+    /**
+     * Evaluates the size of the message, subject and message attributes of a PublishRequest, which all count towards the
+     * payload size limit of a PublishBatchRequest.
+     */
+    static Optional<Integer> calculateMessageSize(PublishRequest request) {
+        int size = utf8Length(request.message()) + utf8Length(request.subject());
+        if (request.hasMessageAttributes()) {
+            for (Map.Entry<String, MessageAttributeValue> attribute : request.messageAttributes().entrySet()) {
+                MessageAttributeValue value = attribute.getValue();
+                size += utf8Length(attribute.getKey()) + utf8Length(value.dataType()) + utf8Length(value.stringValue());
+                if (value.binaryValue() != null) {
+                    size += value.binaryValue().asByteArrayUnsafe().length;
+                }
+            }
+        }
+        return Optional.of(size);
+    }
+
+    private static int utf8Length(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
+    private static IdentifiableMessage<Throwable> createThrowable(BatchResultErrorEntry failedEntry) {
+        String key = failedEntry.id();
+        AwsErrorDetails errorDetailsBuilder = AwsErrorDetails.builder()
+                                                             .errorCode(failedEntry.code())
+                                                             .errorMessage(failedEntry.message())
+                                                             .build();
+        Throwable response = SnsException.builder()
+                                         .awsErrorDetails(errorDetailsBuilder)
+                                         .build();
+        return new IdentifiableMessage<>(key, response);
+    }
+
+    private static IdentifiableMessage<PublishResponse> createPublishResponse(PublishBatchResultEntry successfulEntry,
+                                                                              PublishBatchResponse batchResponse) {
+        String key = successfulEntry.id();
+        PublishResponse.Builder builder = PublishResponse.builder()
+                                                         .messageId(successfulEntry.messageId())
+                                                         .sequenceNumber(successfulEntry.sequenceNumber());
+        if (batchResponse.responseMetadata() != null) {
+            builder.responseMetadata(batchResponse.responseMetadata());
+        }
+        if (batchResponse.sdkHttpResponse() != null) {
+            builder.sdkHttpResponse(batchResponse.sdkHttpResponse());
+        }
+        return new IdentifiableMessage<>(key, builder.build());
+    }
+
+    private static PublishBatchRequest createPublishBatchRequest(List<IdentifiableMessage<PublishRequest>> identifiedRequests) {
+        List<PublishBatchRequestEntry> entries =
+            identifiedRequests.stream()
+                              .map(identifiedRequest -> createPublishBatchRequestEntry(identifiedRequest.id(),
+                                                                                       identifiedRequest.message()))
+                              .collect(Collectors.toList());
+
+        // All requests must have the same topic ARN and overrideConfiguration, so retrieve them from the first request.
+        PublishRequest firstRequest = identifiedRequests.get(0).message();
+        Optional<AwsRequestOverrideConfiguration> overrideConfiguration = firstRequest.overrideConfiguration();
+
+        return overrideConfiguration
+            .map(overrideConfig -> PublishBatchRequest.builder()
+                                                      .topicArn(firstRequest.topicArn())
+                                                      .overrideConfiguration(overrideConfig.toBuilder()
+                                                                                           .applyMutation(USER_AGENT_APPLIER)
+                                                                                           .build())
+                                                      .publishBatchRequestEntries(entries)
+                                                      .build())
+            .orElseGet(() -> PublishBatchRequest.builder()
+                                                .topicArn(firstRequest.topicArn())
+                                                .overrideConfiguration(o -> o.applyMutation(USER_AGENT_APPLIER))
+                                                .publishBatchRequestEntries(entries)
+                                                .build());
+    }
+
+    private static PublishBatchRequestEntry createPublishBatchRequestEntry(String id, PublishRequest request) {
+        return PublishBatchRequestEntry.builder()
+                                       .id(id)
+                                       .message(request.message())
+                                       .subject(request.subject())
+                                       .messageStructure(request.messageStructure())
+                                       .messageAttributes(request.messageAttributes())
+                                       .messageDeduplicationId(request.messageDeduplicationId())
+                                       .messageGroupId(request.messageGroupId())
+                                       .build();
+    }
+
+    @Override
+    protected CompletableFuture<PublishBatchResponse> batchAndSend(List<IdentifiableMessage<PublishRequest>> identifiedRequests,
+                                                                   String batchKey) {
+        return asyncClient.publishBatch(createPublishBatchRequest(identifiedRequests));
+    }
+
+    @Override
+    protected String getBatchKey(PublishRequest request) {
+        return request.overrideConfiguration().map(overrideConfig -> request.topicArn() + overrideConfig.hashCode())
+                      .orElseGet(request::topicArn);
+    }
+
+    @Override
+    protected List<Either<IdentifiableMessage<PublishResponse>,
+        IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<PublishRequest>> identifiedRequests,
+                                                          PublishBatchResponse batchResponse) {
+        List<Either<IdentifiableMessage<PublishResponse>, IdentifiableMessage<Throwable>>> mappedResponses = new ArrayList<>();
+        batchResponse.successful().forEach(batchResponseEntry -> {
+            IdentifiableMessage<PublishResponse> response = createPublishResponse(batchResponseEntry, batchResponse);
+            mappedResponses.add(Either.left(response));
+        });
+        batchResponse.failed().forEach(batchResponseEntry -> {
+            IdentifiableMessage<Throwable> response = createThrowable(batchResponseEntry);
+            mappedResponses.add(Either.right(response));
+        });
+        return mappedResponses;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsAsyncBatchManager;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsBatchManager;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Buffers requests with a {@link DefaultSqsAsyncBatchManager} that makes its calls through a {@link SqsClientAsyncAdapter}.
+ */
+@SdkInternalApi
+public final class DefaultSqsBatchManager implements SqsBatchManager {
+    private final SqsAsyncBatchManager batchManager;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final boolean ownsScheduledExecutor;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    private DefaultSqsBatchManager(DefaultBuilder builder) {
+        SqsClient client = Validate.notNull(builder.client, "client cannot be null");
+        this.ownsScheduledExecutor = builder.scheduledExecutor == null;
+        this.scheduledExecutor = ownsScheduledExecutor
+                                 ? Executors.newSingleThreadScheduledExecutor(threadFactory("sdk-sqs-batch-manager-scheduler"))
+                                 : builder.scheduledExecutor;
+        this.ownsExecutor = builder.executor == null;
+        this.executor = ownsExecutor
+                        ? Executors.newCachedThreadPool(threadFactory("sdk-sqs-batch-manager"))
+                        : builder.executor;
+        this.batchManager = DefaultSqsAsyncBatchManager.builder()
+                                                       .client(new SqsClientAsyncAdapter(client, executor))
+                                                       .scheduledExecutor(scheduledExecutor)
+                                                       .overrideConfiguration(builder.overrideConfiguration)
+                                                       .build();
+    }
+
+    @Override
+    public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        return batchManager.sendMessage(request);
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request) {
+        return batchManager.deleteMessage(request);
+    }
+
+    @Override
+    public CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        return batchManager.changeMessageVisibility(request);
+    }
+
+    @Override
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        return batchManager.receiveMessage(request);
+    }
+
+    public static SqsBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public void close() {
+        batchManager.close();
+        // Let the batches flushed by close() finish sending
+        if (ownsScheduledExecutor) {
+            scheduledExecutor.shutdown();
+        }
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private static ThreadFactory threadFactory(String threadNamePrefix) {
+        return new ThreadFactoryBuilder().threadNamePrefix(threadNamePrefix).daemonThreads(true).build();
+    }
+
+    public static final class DefaultBuilder implements SqsBatchManager.Builder {
+        private SqsClient client;
+        private BatchOverrideConfiguration overrideConfiguration;
+        private ScheduledExecutorService scheduledExecutor;
+        private ExecutorService executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public SqsBatchManager.Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public SqsBatchManager.Builder client(SqsClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public SqsBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public SqsBatchManager.Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Override
+        public SqsBatchManager build() {
+            return new DefaultSqsBatchManager(this);
+        }
+    }
+}
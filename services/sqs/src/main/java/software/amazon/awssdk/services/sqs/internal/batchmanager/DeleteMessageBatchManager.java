@@ -24,6 +24,9 @@ import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.internal.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchManager;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
@@ -126,7 +129,8 @@ public class DeleteMessageBatchManager extends RequestBatchManager<DeleteMessage
 
     @Override
     protected List<Either<IdentifiableMessage<DeleteMessageResponse>,
-        IdentifiableMessage<Throwable>>> mapBatchResponse(DeleteMessageBatchResponse batchResponse) {
+        IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<DeleteMessageRequest>> identifiedRequests,
+                                                          DeleteMessageBatchResponse batchResponse) {
 
         List<Either<IdentifiableMessage<DeleteMessageResponse>, IdentifiableMessage<Throwable>>> mappedResponses =
             new ArrayList<>();
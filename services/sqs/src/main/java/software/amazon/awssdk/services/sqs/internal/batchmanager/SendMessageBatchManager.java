@@ -24,6 +24,9 @@ import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.internal.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchManager;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
@@ -45,7 +48,7 @@ public class SendMessageBatchManager extends RequestBatchManager<SendMessageRequ
     protected SendMessageBatchManager(RequestBatchConfiguration overrideConfiguration,
                                       ScheduledExecutorService scheduledExecutor,
                                       SqsAsyncClient asyncClient) {
-        super(overrideConfiguration, scheduledExecutor);
+        super(overrideConfiguration, scheduledExecutor, RequestPayloadCalculator::calculateMessageSize);
         this.asyncClient = asyncClient;
     }
 
@@ -137,7 +140,8 @@ public class SendMessageBatchManager extends RequestBatchManager<SendMessageRequ
 
     @Override
     protected List<Either<IdentifiableMessage<SendMessageResponse>,
-        IdentifiableMessage<Throwable>>> mapBatchResponse(SendMessageBatchResponse batchResponse) {
+        IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<SendMessageRequest>> identifiedRequests,
+                                                          SendMessageBatchResponse batchResponse) {
         List<Either<IdentifiableMessage<SendMessageResponse>, IdentifiableMessage<Throwable>>> mappedResponses =
             new ArrayList<>();
         batchResponse.successful().forEach(batchResponseEntry -> {
@@ -18,7 +18,7 @@ package software.amazon.awssdk.services.sqs.batchmanager;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import software.amazon.awssdk.services.sqs.internal.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.internal.batchmanager.IdentifiableMessage;
 
 public class CustomClient {
     public CompletableFuture<BatchResponse> sendBatchAsync(List<IdentifiableMessage<String>> requests, String batchKey) {
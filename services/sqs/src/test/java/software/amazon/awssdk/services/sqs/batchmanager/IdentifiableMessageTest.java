@@ -20,7 +20,7 @@ package software.amazon.awssdk.services.sqs.batchmanager;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
-import software.amazon.awssdk.services.sqs.internal.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.internal.batchmanager.IdentifiableMessage;
 
 public class IdentifiableMessageTest {
 
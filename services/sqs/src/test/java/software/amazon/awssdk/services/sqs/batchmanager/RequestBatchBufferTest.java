@@ -22,8 +22,9 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
-import software.amazon.awssdk.services.sqs.internal.batchmanager.RequestBatchBuffer;
-import software.amazon.awssdk.services.sqs.internal.batchmanager.BatchingExecutionContext;
+import software.amazon.awssdk.awscore.internal.batchmanager.RequestBatchBuffer;
+import software.amazon.awssdk.awscore.internal.batchmanager.BatchingExecutionContext;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.RequestPayloadCalculator;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
@@ -45,7 +46,8 @@ class RequestBatchBufferTest {
 
     @Test
     void whenPutRequestThenBufferContainsRequest() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         CompletableFuture<String> response = new CompletableFuture<>();
         batchBuffer.put("request1", response);
         assertEquals(1, batchBuffer.responses().size());
@@ -53,7 +55,8 @@ class RequestBatchBufferTest {
 
     @Test
     void whenExtractBatchIfReadyThenReturnRequestsUpToMaxBatchItems() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 1, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 1, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         CompletableFuture<String> response = new CompletableFuture<>();
         batchBuffer.put("request1", response);
         Map<String, BatchingExecutionContext<String, String>> extractedEntries = batchBuffer.extractBatchIfReady();
@@ -63,7 +66,8 @@ class RequestBatchBufferTest {
 
     @Test
     void whenExtractEntriesForScheduledFlushThenReturnAllRequests() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         CompletableFuture<String> response = new CompletableFuture<>();
         batchBuffer.put("request1", response);
         Map<String, BatchingExecutionContext<String, String>> extractedEntries = batchBuffer.extractEntriesForScheduledFlush(1);
@@ -73,7 +77,8 @@ class RequestBatchBufferTest {
 
     @Test
     void whenMaxBufferSizeReachedThenThrowException() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 3, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, 10);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 3, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, 10,
+                                             RequestPayloadCalculator::calculateMessageSize);
         for (int i = 0; i < 10; i++) {
             batchBuffer.put("request" + i, new CompletableFuture<>());
         }
@@ -82,7 +87,8 @@ class RequestBatchBufferTest {
 
     @Test
     void whenCancelAndReplaceScheduledFlushThenFlushIsSetAndOldFlushIsCanceled() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         ScheduledFuture<?> newScheduledFlush = mock(ScheduledFuture.class);
         batchBuffer.cancelAndReplaceScheduledFlush(newScheduledFlush);
         assertNotNull(newScheduledFlush);
@@ -91,14 +97,16 @@ class RequestBatchBufferTest {
 
     @Test
     void whenCancelScheduledFlushThenFlushIsCancelled() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         batchBuffer.cancelScheduledFlush();
         verify(scheduledFlush).cancel(false);
     }
 
     @Test
     void whenGetResponsesThenReturnAllResponses() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         CompletableFuture<String> response1 = new CompletableFuture<>();
         CompletableFuture<String> response2 = new CompletableFuture<>();
         batchBuffer.put("request1", response1);
@@ -111,7 +119,8 @@ class RequestBatchBufferTest {
 
     @Test
     void whenClearBufferThenBufferIsEmpty() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         CompletableFuture<String> response = new CompletableFuture<>();
         batchBuffer.put("request1", response);
         batchBuffer.clear();
@@ -120,7 +129,8 @@ class RequestBatchBufferTest {
 
     @Test
     void whenExtractEntriesThenReturnCorrectEntries() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         for (int i = 0; i < 5; i++) {
             batchBuffer.put("request" + i, new CompletableFuture<>());
         }
@@ -130,7 +140,8 @@ class RequestBatchBufferTest {
 
     @Test
     void whenHasNextBatchEntryThenReturnTrue() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 1, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 1, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         batchBuffer.put("request1", new CompletableFuture<>());
         assertTrue(batchBuffer.extractBatchIfReady().containsKey("0"));
     }
@@ -138,7 +149,8 @@ class RequestBatchBufferTest {
 
     @Test
     void whenNextBatchEntryThenReturnNextEntryId() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 1, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 1, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         batchBuffer.put("request1", new CompletableFuture<>());
         assertEquals("0", batchBuffer.extractBatchIfReady().keySet().iterator().next());
     }
@@ -146,7 +158,8 @@ class RequestBatchBufferTest {
     @Test
     void whenRequestPassedWithLessBytesinArgs_thenCheckForSizeOnly_andDonotFlush() {
         RequestBatchBuffer<SendMessageRequest, SendMessageResponse> batchBuffer
-            = new RequestBatchBuffer<>(scheduledFlush, 5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+            = new RequestBatchBuffer<>(scheduledFlush, 5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         for (int i = 0; i < 5; i++) {
             batchBuffer.put(SendMessageRequest.builder().build(),
                             new CompletableFuture<>());
@@ -161,7 +174,8 @@ class RequestBatchBufferTest {
     @Test
     void testFlushWhenPayloadExceedsMaxSize() {
         RequestBatchBuffer<SendMessageRequest, SendMessageResponse> batchBuffer
-            = new RequestBatchBuffer<>(scheduledFlush, 5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+            = new RequestBatchBuffer<>(scheduledFlush, 5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
 
         String largeMessageBody = createLargeString('a',245_760);
         batchBuffer.put(SendMessageRequest.builder().messageBody(largeMessageBody).build(),
@@ -174,7 +188,8 @@ class RequestBatchBufferTest {
     @Test
     void testFlushWhenCumulativePayloadExceedsMaxSize() {
         RequestBatchBuffer<SendMessageRequest, SendMessageResponse> batchBuffer
-            = new RequestBatchBuffer<>(scheduledFlush, 5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+            = new RequestBatchBuffer<>(scheduledFlush, 5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
 
         String largeMessageBody = createLargeString('a',130_000);
         batchBuffer.put(SendMessageRequest.builder().messageBody(largeMessageBody).build(),
@@ -191,7 +206,8 @@ class RequestBatchBufferTest {
 
     @Test
     void whenSequentialCancelAndReplaceScheduledFlushThenEachPreviousFlushIsCanceled() {
-        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(scheduledFlush, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         
         // Create a sequence of mock scheduled futures
         ScheduledFuture<?> flush1 = mock(ScheduledFuture.class);
@@ -218,7 +234,8 @@ class RequestBatchBufferTest {
     @Test
     void whenCancelAndReplaceScheduledFlushWithNullInitialFlushThenNoExceptionThrown() {
         // Create buffer with null initial flush
-        batchBuffer = new RequestBatchBuffer<>(null, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize);
+        batchBuffer = new RequestBatchBuffer<>(null, 10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES, maxBufferSize,
+                                             RequestPayloadCalculator::calculateMessageSize);
         
         ScheduledFuture<?> newFlush = mock(ScheduledFuture.class);
         
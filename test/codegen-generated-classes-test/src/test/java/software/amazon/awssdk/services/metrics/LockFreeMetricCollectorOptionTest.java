@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.internal.ArrayMetricCollection;
+import software.amazon.awssdk.metrics.internal.DefaultMetricCollection;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+import software.amazon.awssdk.services.testutil.MockIdentityProviderUtil;
+import software.amazon.awssdk.testutils.service.http.MockAsyncHttpClient;
+import software.amazon.awssdk.testutils.service.http.MockSyncHttpClient;
+
+/**
+ * Verifies that generated clients create the API call metric collector selected by
+ * {@link SdkAdvancedClientOption#LOCK_FREE_METRIC_COLLECTOR}.
+ */
+public class LockFreeMetricCollectorOptionTest {
+
+    @Test
+    public void syncClient_lockFreeEnabled_publishesLockFreeCollection() {
+        assertThat(publishedBySyncClient(true)).isInstanceOf(ArrayMetricCollection.class);
+    }
+
+    @Test
+    public void syncClient_lockFreeNotEnabled_publishesDefaultCollection() {
+        assertThat(publishedBySyncClient(null)).isInstanceOf(DefaultMetricCollection.class);
+    }
+
+    @Test
+    public void asyncClient_lockFreeEnabled_publishesLockFreeCollection() {
+        assertThat(publishedByAsyncClient(true)).isInstanceOf(ArrayMetricCollection.class);
+    }
+
+    @Test
+    public void asyncClient_lockFreeNotEnabled_publishesDefaultCollection() {
+        assertThat(publishedByAsyncClient(null)).isInstanceOf(DefaultMetricCollection.class);
+    }
+
+    private static MetricCollection publishedBySyncClient(Boolean lockFree) {
+        MetricPublisher publisher = mock(MetricPublisher.class);
+        MockSyncHttpClient httpClient = new MockSyncHttpClient();
+        httpClient.stubNextResponse(successResponse());
+
+        try (ProtocolRestJsonClient client =
+                 ProtocolRestJsonClient.builder()
+                                       .httpClient(httpClient)
+                                       .region(Region.US_WEST_2)
+                                       .credentialsProvider(MockIdentityProviderUtil.mockIdentityProvider())
+                                       .overrideConfiguration(overrideConfiguration(publisher, lockFree))
+                                       .build()) {
+            client.allTypes();
+        }
+
+        return captureCollection(publisher);
+    }
+
+    private static MetricCollection publishedByAsyncClient(Boolean lockFree) {
+        MetricPublisher publisher = mock(MetricPublisher.class);
+        MockAsyncHttpClient httpClient = new MockAsyncHttpClient();
+        httpClient.stubNextResponse(successResponse());
+
+        try (ProtocolRestJsonAsyncClient client =
+                 ProtocolRestJsonAsyncClient.builder()
+                                            .httpClient(httpClient)
+                                            .region(Region.US_WEST_2)
+                                            .credentialsProvider(MockIdentityProviderUtil.mockIdentityProvider())
+                                            .overrideConfiguration(overrideConfiguration(publisher, lockFree))
+                                            .build()) {
+            client.allTypes().join();
+        }
+
+        return captureCollection(publisher);
+    }
+
+    private static ClientOverrideConfiguration overrideConfiguration(MetricPublisher publisher, Boolean lockFree) {
+        ClientOverrideConfiguration.Builder builder = ClientOverrideConfiguration.builder().addMetricPublisher(publisher);
+        if (lockFree != null) {
+            builder.putAdvancedOption(SdkAdvancedClientOption.LOCK_FREE_METRIC_COLLECTOR, lockFree);
+        }
+        return builder.build();
+    }
+
+    private static MetricCollection captureCollection(MetricPublisher publisher) {
+        ArgumentCaptor<MetricCollection> collection = ArgumentCaptor.forClass(MetricCollection.class);
+        verify(publisher).publish(collection.capture());
+        return collection.getValue();
+    }
+
+    private static HttpExecuteResponse successResponse() {
+        return HttpExecuteResponse.builder()
+                                  .response(SdkHttpResponse.builder().statusCode(200).build())
+                                  .responseBody(AbortableInputStream.create(
+                                      new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))))
+                                  .build();
+    }
+}
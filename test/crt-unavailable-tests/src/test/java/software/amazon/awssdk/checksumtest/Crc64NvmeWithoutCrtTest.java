@@ -15,7 +15,7 @@
 
 package software.amazon.awssdk.checksumtest;
 
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static software.amazon.awssdk.auth.signer.S3SignerExecutionAttribute.ENABLE_CHUNKED_ENCODING;
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.checksums.ChecksumValidation;
@@ -51,7 +52,12 @@ import software.amazon.awssdk.services.protocolrestjson.model.ChecksumMode;
 import software.amazon.awssdk.services.protocolrestjson.model.OperationWithCustomRequestChecksumRequest;
 import software.amazon.awssdk.services.protocolrestjson.model.PutOperationWithChecksumRequest;
 
-public class Crc64NvmeNotAvailableTest {
+public class Crc64NvmeWithoutCrtTest {
+    /**
+     * The CRC64NVME of an empty body.
+     */
+    private static final String EMPTY_BODY_CRC64NVME = "AAAAAAAAAAA=";
+
     private SdkHttpClient httpClient;
     private SdkAsyncHttpClient httpAsyncClient;
     private ProtocolRestJsonAsyncClient asyncClient;
@@ -102,51 +108,45 @@ public class Crc64NvmeNotAvailableTest {
     }
 
     @Test
-    public void asyncChecksumCalculation_crc64NvmeNotAvailable_shouldThrowException() throws IOException {
+    public void asyncChecksumCalculation_crtNotAvailable_shouldUseSdkImplementation() throws IOException {
         stubResponse(SdkHttpFullResponse.builder());
-        assertThatThrownBy(() -> asyncClient.operationWithCustomRequestChecksum(
+        assertThatCode(() -> asyncClient.operationWithCustomRequestChecksum(
             OperationWithCustomRequestChecksumRequest.builder()
                                                      .checksumAlgorithm(ChecksumAlgorithm.CRC64_NVME)
-                                                     .build()).join()).hasMessageContaining("Add dependency on "
-                                                                                            + "'software.amazon.awssdk"
-                                                                                            + ".crt:aws-crt' module to "
-                                                                                            + "enable CRC64NVME feature");
+                                                     .build()).join()).doesNotThrowAnyException();
     }
 
     @Test
-    public void syncChecksumCalculation_crc64NvmeNotAvailable_shouldThrowException() throws IOException {
+    public void syncChecksumCalculation_crtNotAvailable_shouldUseSdkImplementation() throws IOException {
         stubResponse(SdkHttpFullResponse.builder());
-        assertThatThrownBy(() -> client.operationWithCustomRequestChecksum(
+        assertThatCode(() -> client.operationWithCustomRequestChecksum(
             OperationWithCustomRequestChecksumRequest.builder()
                                                      .checksumAlgorithm(ChecksumAlgorithm.CRC64_NVME)
-                                                     .build())).hasMessageContaining("Add dependency on "
-                                                                                     + "'software.amazon.awssdk"
-                                                                                     + ".crt:aws-crt' module to "
-                                                                                     + "enable CRC64NVME feature");
+                                                     .build())).doesNotThrowAnyException();
     }
 
     @Test
-    public void syncChecksumValidation_onlyHasCrc64Nvme_shouldSkipValidation() throws IOException {
-        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", "foobar"));
+    public void syncChecksumValidation_onlyHasCrc64Nvme_shouldValidate() throws IOException {
+        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", EMPTY_BODY_CRC64NVME));
 
         client.getOperationWithChecksum(
             r -> r.checksumMode(ChecksumMode.ENABLED),
             ResponseTransformer.toBytes());
 
-        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.CHECKSUM_ALGORITHM_NOT_FOUND);
-        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isNull();
+        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.VALIDATED);
+        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isEqualTo(DefaultChecksumAlgorithm.CRC64NVME);
     }
 
     @Test
-    public void asyncChecksumValidation_onlyHasCrc64Nvme_shouldSkipValidation() throws IOException {
-        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", "foobar"));
+    public void asyncChecksumValidation_onlyHasCrc64Nvme_shouldValidate() throws IOException {
+        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", EMPTY_BODY_CRC64NVME));
 
         asyncClient.getOperationWithChecksum(
             r -> r.checksumMode(ChecksumMode.ENABLED),
             AsyncResponseTransformer.toBytes()).join();
 
-        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.CHECKSUM_ALGORITHM_NOT_FOUND);
-        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isNull();
+        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.VALIDATED);
+        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isEqualTo(DefaultChecksumAlgorithm.CRC64NVME);
     }
 
 
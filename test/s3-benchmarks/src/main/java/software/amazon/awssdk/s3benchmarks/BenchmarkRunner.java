@@ -51,6 +51,8 @@ public final class BenchmarkRunner {
 
     private static final String FORCE_CRT_HTTP_CLIENT = "crtHttp";
     private static final String MAX_CONCURRENCY = "maxConcurrency";
+    private static final String RESPONSE_BUFFER_HANDOFF_IN_MB = "responseBufferHandoffInMB";
+    private static final String LISTING_CONCURRENCY = "listingConcurrency";
 
     private static final Map<TransferManagerOperation, Function<TransferManagerBenchmarkConfig, TransferManagerBenchmark>>
         OPERATION_TO_BENCHMARK_V1 = new EnumMap<>(TransferManagerOperation.class);
@@ -110,6 +112,12 @@ public final class BenchmarkRunner {
                           "Force the CRT http client to be used in JavaBased benchmarks");
         options.addOption(null, MAX_CONCURRENCY, true,
                           "The Maximum number of allowed concurrent requests. For HTTP/1.1 this is the same as max connections.");
+        options.addOption(null, RESPONSE_BUFFER_HANDOFF_IN_MB, true,
+                          "Let the Netty client hand pooled response buffers to file downloads without copying them, "
+                          + "lending at most this many MB at a time. Used only in JavaBased download benchmarks.");
+        options.addOption(null, LISTING_CONCURRENCY, true,
+                          "The number of prefixes to list concurrently in download_directory. When set, the benchmark also runs "
+                          + "with this listing concurrency and reports both results.");
 
         CommandLine cmd = parser.parse(options, args);
         TransferManagerBenchmarkConfig config = parseConfig(cmd);
@@ -204,6 +212,12 @@ public final class BenchmarkRunner {
         Integer maxConcurrency = cmd.getOptionValue(MAX_CONCURRENCY) == null ? null :
                                  Integer.parseInt(cmd.getOptionValue(MAX_CONCURRENCY));
 
+        Long responseBufferHandoffInMb = cmd.getOptionValue(RESPONSE_BUFFER_HANDOFF_IN_MB) == null ? null :
+                                         Long.parseLong(cmd.getOptionValue(RESPONSE_BUFFER_HANDOFF_IN_MB));
+
+        Integer listingConcurrency = cmd.getOptionValue(LISTING_CONCURRENCY) == null ? null :
+                                     Integer.parseInt(cmd.getOptionValue(LISTING_CONCURRENCY));
+
         return TransferManagerBenchmarkConfig.builder()
                                              .key(key)
                                              .bucket(bucket)
@@ -220,6 +234,8 @@ public final class BenchmarkRunner {
                                              .connectionAcquisitionTimeoutInSec(connAcqTimeoutInSec)
                                              .forceCrtHttpClient(forceCrtHttpClient)
                                              .maxConcurrency(maxConcurrency)
+                                             .responseBufferHandoffInMb(responseBufferHandoffInMb)
+                                             .listingConcurrency(listingConcurrency)
                                              .s3Client(s3Client)
                                              .build();
     }
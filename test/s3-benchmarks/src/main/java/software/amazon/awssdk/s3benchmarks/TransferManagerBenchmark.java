@@ -57,6 +57,10 @@ public interface TransferManagerBenchmark {
         if (config.maxConcurrency() != null) {
             builder.maxConcurrency(config.maxConcurrency());
         }
+        if (config.responseBufferHandoffInMb() != null) {
+            logger.info(() -> "Lending up to " + config.responseBufferHandoffInMb() + " MB of response buffers");
+            builder.responseBufferHandoffLimitInBytes(config.responseBufferHandoffInMb() * MB);
+        }
         return (T) builder;
     }
 
@@ -33,6 +33,8 @@ public final class TransferManagerBenchmarkConfig {
     private final Long connectionAcquisitionTimeoutInSec;
     private final Boolean forceCrtHttpClient;
     private final Integer maxConcurrency;
+    private final Long responseBufferHandoffInMb;
+    private final Integer listingConcurrency;
     private final BenchmarkRunner.TransferManagerBaseS3Client s3Client;
 
     private final Long readBufferSizeInMb;
@@ -56,6 +58,8 @@ public final class TransferManagerBenchmarkConfig {
         this.connectionAcquisitionTimeoutInSec = builder.connectionAcquisitionTimeoutInSec;
         this.forceCrtHttpClient = builder.forceCrtHttpClient;
         this.maxConcurrency = builder.maxConcurrency;
+        this.responseBufferHandoffInMb = builder.responseBufferHandoffInMb;
+        this.listingConcurrency = builder.listingConcurrency;
         this.s3Client = builder.s3Client;
     }
 
@@ -123,6 +127,14 @@ public final class TransferManagerBenchmarkConfig {
         return this.maxConcurrency;
     }
 
+    public Long responseBufferHandoffInMb() {
+        return this.responseBufferHandoffInMb;
+    }
+
+    public Integer listingConcurrency() {
+        return this.listingConcurrency;
+    }
+
     public BenchmarkRunner.TransferManagerBaseS3Client s3Client() {
         return this.s3Client;
     }
@@ -147,6 +159,8 @@ public final class TransferManagerBenchmarkConfig {
                        .add("connectionAcquisitionTimeoutInSec", connectionAcquisitionTimeoutInSec)
                        .add("forceCrtHttpClient", forceCrtHttpClient)
                        .add("maxConcurrency", maxConcurrency)
+                       .add("responseBufferHandoffInMb", responseBufferHandoffInMb)
+                       .add("listingConcurrency", listingConcurrency)
                        .add("readBufferSizeInMb", readBufferSizeInMb)
                        .add("operation", operation)
                        .add("prefix", prefix)
@@ -166,6 +180,8 @@ public final class TransferManagerBenchmarkConfig {
         private Long connectionAcquisitionTimeoutInSec;
         private Boolean forceCrtHttpClient;
         private Integer maxConcurrency;
+        private Long responseBufferHandoffInMb;
+        private Integer listingConcurrency;
         private BenchmarkRunner.TransferManagerBaseS3Client s3Client;
 
         private Integer iteration;
@@ -254,6 +270,16 @@ public final class TransferManagerBenchmarkConfig {
             return this;
         }
 
+        public Builder responseBufferHandoffInMb(Long responseBufferHandoffInMb) {
+            this.responseBufferHandoffInMb = responseBufferHandoffInMb;
+            return this;
+        }
+
+        public Builder listingConcurrency(Integer listingConcurrency) {
+            this.listingConcurrency = listingConcurrency;
+            return this;
+        }
+
         public Builder s3Client(BenchmarkRunner.TransferManagerBaseS3Client s3Client) {
             this.s3Client = s3Client;
             return this;
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.testutils.FileUtils;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryDownload;
 import software.amazon.awssdk.utils.Logger;
@@ -43,30 +44,43 @@ public class TransferManagerDownloadDirectoryBenchmark extends BaseTransferManag
     protected void doRunBenchmark() {
 
         try {
-            downloadDirectory(iteration, true);
+            downloadDirectory(transferManager, iteration, "TM v2 Download Directory");
+        } catch (Exception exception) {
+            logger.error(() -> "Request failed: ", exception);
+        }
+
+        if (config.listingConcurrency() == null) {
+            return;
+        }
+
+        try (S3TransferManager parallelListingTransferManager =
+                 S3TransferManager.builder()
+                                  .s3Client(s3)
+                                  .downloadDirectoryListingMaxConcurrency(config.listingConcurrency())
+                                  .build()) {
+            downloadDirectory(parallelListingTransferManager, iteration,
+                              "TM v2 Download Directory (listing concurrency " + config.listingConcurrency() + ")");
         } catch (Exception exception) {
             logger.error(() -> "Request failed: ", exception);
         }
     }
 
-    private void downloadDirectory(int count, boolean printoutResult) throws Exception {
+    private void downloadDirectory(S3TransferManager tm, int count, String name) throws Exception {
         List<Double> metrics = new ArrayList<>();
-        logger.info(() -> "Starting to download to file");
+        logger.info(() -> "Starting to download to file: " + name);
         for (int i = 0; i < count; i++) {
-            downloadOnce(metrics);
-        }
-        if (printoutResult) {
-            printOutResult(metrics, "TM v2 Download Directory");
+            downloadOnce(tm, metrics);
         }
+        printOutResult(metrics, name);
     }
 
-    private void downloadOnce(List<Double> latencies) throws Exception {
+    private void downloadOnce(S3TransferManager tm, List<Double> latencies) throws Exception {
         Path downloadPath = new File(this.path).toPath();
         long start = System.currentTimeMillis();
         DirectoryDownload download =
-            transferManager.downloadDirectory(b -> b.bucket(bucket)
-                                                    .destination(downloadPath)
-                                                    .listObjectsV2RequestTransformer(l -> l.prefix(config.prefix())));
+            tm.downloadDirectory(b -> b.bucket(bucket)
+                                       .destination(downloadPath)
+                                       .listObjectsV2RequestTransformer(l -> l.prefix(config.prefix())));
         CompletedDirectoryDownload completedDirectoryDownload = download.completionFuture().get(timeout.getSeconds(),
                                                                                                 TimeUnit.SECONDS);
         if (completedDirectoryDownload.failedTransfers().isEmpty()) {
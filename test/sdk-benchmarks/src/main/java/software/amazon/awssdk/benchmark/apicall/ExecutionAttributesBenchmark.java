@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * Measures the time and allocation of the {@link ExecutionAttributes} operations performed for every API call: copying the
+ * client's attributes, adding the per-request attributes, merging the request override attributes, taking an unmodifiable
+ * copy for the interceptors, and reading attributes back.
+ *
+ * <p>Run with the {@link GCProfiler} (as {@link #main} does) to see the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class ExecutionAttributesBenchmark {
+    private static final ExecutionAttribute<String> CUSTOM_ATTRIBUTE =
+        new ExecutionAttribute<>("ExecutionAttributesBenchmark.Custom");
+
+    private ExecutionAttributes clientAttributes;
+    private ExecutionAttributes requestOverrideAttributes;
+
+    @Setup
+    public void setup() {
+        clientAttributes = ExecutionAttributes.unmodifiableExecutionAttributes(
+            new ExecutionAttributes().putAttribute(SdkExecutionAttribute.SERVICE_NAME, "benchmark")
+                                     .putAttribute(SdkExecutionAttribute.CLIENT_TYPE, ClientType.SYNC)
+                                     .putAttribute(SdkExecutionAttribute.CLIENT_ENDPOINT, URI.create("https://localhost"))
+                                     .putAttribute(SdkExecutionAttribute.ENDPOINT_OVERRIDDEN, true)
+                                     .putAttribute(SdkExecutionAttribute.PROFILE_NAME, "default")
+                                     .putAttribute(SdkExecutionAttribute.TIME_OFFSET, 0));
+        requestOverrideAttributes = ExecutionAttributes.builder()
+                                                       .put(CUSTOM_ATTRIBUTE, "custom")
+                                                       .build();
+    }
+
+    @Benchmark
+    public void requestLifecycle(Blackhole blackhole) {
+        ExecutionAttributes attributes = clientAttributes.copy()
+                                                         .putAttribute(SdkExecutionAttribute.OPERATION_NAME, "Operation")
+                                                         .putAttribute(SdkExecutionAttribute.SIGNER_OVERRIDDEN, false);
+        attributes.putAbsentAttributes(requestOverrideAttributes);
+
+        ExecutionAttributes interceptorView = ExecutionAttributes.unmodifiableExecutionAttributes(attributes);
+        blackhole.consume(interceptorView.getAttribute(SdkExecutionAttribute.SERVICE_NAME));
+        blackhole.consume(interceptorView.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+        blackhole.consume(interceptorView.getAttribute(CUSTOM_ATTRIBUTE));
+
+        attributes.putAttribute(SdkExecutionAttribute.TIME_OFFSET, 1);
+        blackhole.consume(attributes.getAttribute(SdkExecutionAttribute.TIME_OFFSET));
+    }
+
+    @Benchmark
+    public void copy(Blackhole blackhole) {
+        blackhole.consume(clientAttributes.copy());
+    }
+
+    @Benchmark
+    public void merge(Blackhole blackhole) {
+        blackhole.consume(requestOverrideAttributes.merge(clientAttributes));
+    }
+
+    @Benchmark
+    public void getAttribute(Blackhole blackhole) {
+        blackhole.consume(clientAttributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME));
+        blackhole.consume(clientAttributes.getAttribute(CUSTOM_ATTRIBUTE));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ExecutionAttributesBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+
+/**
+ * The same calls as {@link MetricsEnabledBenchmark}, with metrics collected by the lock-free metric collector, to compare the
+ * overhead of the two collectors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class LockFreeMetricsEnabledBenchmark extends MetricsEnabledBenchmark {
+
+    @Override
+    protected <T extends SdkClientBuilder<T, ?>> T enableMetrics(T clientBuilder) {
+        T metricsEnabledBuilder = super.enableMetrics(clientBuilder);
+        return metricsEnabledBuilder.overrideConfiguration(
+            metricsEnabledBuilder.overrideConfiguration()
+                                 .toBuilder()
+                                 .putAdvancedOption(SdkAdvancedClientOption.LOCK_FREE_METRIC_COLLECTOR, true)
+                                 .build());
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(LockFreeMetricsEnabledBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.StackProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Measures the client-side overhead of S3 PutObject and GetObject calls against a mock HTTP client, with the full set of
+ * interceptors registered by the S3 client. Most of those interceptors implement only one or two lifecycle methods, so this
+ * is dominated by the per-call cost of the execution pipeline, including the interceptor chain.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class S3InterceptorChainBenchmark {
+    private static final String BUCKET = "benchmark-bucket";
+    private static final String KEY = "benchmark-key";
+    private static final String CONTENT = "Hello world";
+
+    private S3Client client;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = S3Client.builder()
+                         .region(Region.US_EAST_1)
+                         .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                         .httpClient(new MockHttpClient(CONTENT, "<Error><Code>InternalError</Code></Error>"))
+                         .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public void putObject(Blackhole blackhole) {
+        blackhole.consume(client.putObject(r -> r.bucket(BUCKET).key(KEY), RequestBody.fromString(CONTENT)));
+    }
+
+    @Benchmark
+    public void getObject(Blackhole blackhole) {
+        blackhole.consume(client.getObject(r -> r.bucket(BUCKET).key(KEY), ResponseTransformer.toBytes()));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(S3InterceptorChainBenchmark.class.getSimpleName())
+            .addProfiler(StackProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -38,6 +38,8 @@ import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolFactory;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
 import software.amazon.awssdk.protocols.json.BaseAwsJsonProtocolFactory;
+import software.amazon.awssdk.protocols.json.JsonPojoMarshaller;
+import software.amazon.awssdk.protocols.json.JsonPojoUnmarshaller;
 import software.amazon.awssdk.protocols.json.StructuredJsonFactory;
 import software.amazon.awssdk.protocols.json.internal.marshall.JsonProtocolMarshallerBuilder;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.JsonProtocolUnmarshaller;
@@ -62,6 +64,13 @@ public final class JsonCodec {
      * Returns the bytes as a SdkPojo instance.
      */
     public SdkPojo unmarshall(AwsJsonProtocol protocol, SdkPojo pojo, byte[] bytes) {
+        return unmarshall(protocol, pojo, bytes, null);
+    }
+
+    /**
+     * Returns the bytes as a SdkPojo instance, read with the given generated unmarshaller if it's not null.
+     */
+    public SdkPojo unmarshall(AwsJsonProtocol protocol, SdkPojo pojo, byte[] bytes, JsonPojoUnmarshaller<?> pojoUnmarshaller) {
         try {
             ProtocolBehavior behavior = ProtocolBehavior.from(protocol);
             JsonProtocolUnmarshaller unmarshaller =
@@ -76,6 +85,9 @@ public final class JsonCodec {
                 .putHeader("Content-Type", behavior.contentType())
                 .content(AbortableInputStream.create(new ByteArrayInputStream(bytes)))
                 .build();
+            if (pojoUnmarshaller != null) {
+                return unmarshaller.unmarshall(pojo, response, pojoUnmarshaller);
+            }
             return unmarshaller.unmarshall(pojo, response);
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -86,6 +98,13 @@ public final class JsonCodec {
      * Returns the SdkPojo instance bytes marshalling.
      */
     public byte[] marshall(AwsJsonProtocol protocol, SdkPojo pojo) {
+        return marshall(protocol, pojo, null);
+    }
+
+    /**
+     * Returns the SdkPojo instance bytes marshalling, written with the given generated marshaller if it's not null.
+     */
+    public byte[] marshall(AwsJsonProtocol protocol, SdkPojo pojo, JsonPojoMarshaller<?> pojoMarshaller) {
         try {
             ProtocolBehavior behavior = ProtocolBehavior.from(protocol);
             ProtocolMarshaller<SdkHttpFullRequest> marshaller =
@@ -96,6 +115,7 @@ public final class JsonCodec {
                                              .operationInfo(behavior.operationInfo())
                                              .sendExplicitNullForPayload(false)
                                              .protocolMetadata(behavior.protocolMetadata())
+                                             .pojoMarshaller(pojoMarshaller)
                                              .build();
             SdkHttpFullRequest req = marshaller.marshall(pojo);
             if (req.contentStreamProvider().isPresent()) {
@@ -37,6 +37,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.BenchmarkConstantGetMetricData;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.services.protocolsmithyrpcv2.model.GetMetricDataResponse;
+import software.amazon.awssdk.services.protocolsmithyrpcv2.transform.GetMetricDataResponseJsonUnmarshaller;
 
 /**
  * Benchmarking for running with different protocols.
@@ -114,6 +115,15 @@ public class JsonMarshallerBenchmark {
         blackhole.consume(state.codec.unmarshall(state.jsonProtocol, GetMetricDataResponse.builder(), state.rawBytes));
     }
 
+    /**
+     * Same as {@link #unmarshall}, with the unmarshaller generated by the {@code enableGeneratedJsonMarshallers} customization.
+     */
+    @Benchmark
+    public void unmarshallGenerated(MarshallingState state, Blackhole blackhole) {
+        blackhole.consume(state.codec.unmarshall(state.jsonProtocol, GetMetricDataResponse.builder(), state.rawBytes,
+                                                 GetMetricDataResponseJsonUnmarshaller.INSTANCE));
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(JsonMarshallerBenchmark.class.getSimpleName())
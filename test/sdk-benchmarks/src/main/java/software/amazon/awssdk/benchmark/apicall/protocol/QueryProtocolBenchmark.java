@@ -16,9 +16,12 @@
 package software.amazon.awssdk.benchmark.apicall.protocol;
 
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.ERROR_XML_BODY;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.LARGE_XML_LIST_BODY;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.QUERY_ALL_TYPES_REQUEST;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.XML_BODY;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -26,6 +29,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -36,7 +40,11 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.internal.unmarshall.QueryProtocolUnmarshaller;
 import software.amazon.awssdk.services.protocolquery.ProtocolQueryClient;
+import software.amazon.awssdk.services.protocolquery.model.AllTypesResponse;
 
 /**
  * Benchmarking for running with different protocols.
@@ -63,6 +71,41 @@ public class QueryProtocolBenchmark implements SdkProtocolBenchmark {
         blackhole.consume(client.allTypes(QUERY_ALL_TYPES_REQUEST));
     }
 
+    /**
+     * Unmarshalls a response with a large list directly through the protocol unmarshaller, comparing the DOM based and
+     * the streaming unmarshaller.
+     */
+    @Benchmark
+    public void unmarshallLargeResponse(UnmarshallerState state, Blackhole blackhole) {
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(
+                                                              new ByteArrayInputStream(state.largeResponse)))
+                                                          .build();
+        blackhole.consume(state.protocolUnmarshaller.unmarshall(AllTypesResponse.builder(), response));
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnmarshallerState {
+
+        @Param({"dom", "streaming"})
+        private String unmarshaller;
+
+        private QueryProtocolUnmarshaller protocolUnmarshaller;
+        private byte[] largeResponse;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            protocolUnmarshaller = QueryProtocolUnmarshaller.builder()
+                                                            .hasResultWrapper(true)
+                                                            .enableStreamingUnmarshalling("streaming".equals(unmarshaller))
+                                                            .build();
+            String body = "<AllTypesResponse><AllTypesResult>" + LARGE_XML_LIST_BODY + "</AllTypesResult>"
+                          + "<ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata></AllTypesResponse>";
+            largeResponse = body.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(QueryProtocolBenchmark.class.getSimpleName())
@@ -36,7 +36,9 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.services.protocolsmithyrpcv2.ProtocolSmithyrpcv2Client;
+import software.amazon.awssdk.services.protocolsmithyrpcv2.transform.AllTypesRequestJsonMarshaller;
 
 /**
  * Benchmarking for running with different protocols.
@@ -48,6 +50,7 @@ import software.amazon.awssdk.services.protocolsmithyrpcv2.ProtocolSmithyrpcv2Cl
 @BenchmarkMode(Mode.Throughput)
 public class SmithyRpcV2ProtocolBenchmark implements SdkProtocolBenchmark {
 
+    private final JsonCodec codec = new JsonCodec();
     private ProtocolSmithyrpcv2Client client;
 
     @Setup(Level.Trial)
@@ -64,6 +67,21 @@ public class SmithyRpcV2ProtocolBenchmark implements SdkProtocolBenchmark {
         blackhole.consume(client.allTypes(RPCV2_ALL_TYPES_REQUEST));
     }
 
+    @Benchmark
+    public void marshallAllTypes(Blackhole blackhole) {
+        blackhole.consume(codec.marshall(AwsJsonProtocol.SMITHY_RPC_V2_CBOR, RPCV2_ALL_TYPES_REQUEST));
+    }
+
+    /**
+     * Same as {@link #marshallAllTypes}, with the marshaller generated by the {@code enableGeneratedJsonMarshallers}
+     * customization, which the client uses as well.
+     */
+    @Benchmark
+    public void marshallAllTypesGenerated(Blackhole blackhole) {
+        blackhole.consume(codec.marshall(AwsJsonProtocol.SMITHY_RPC_V2_CBOR, RPCV2_ALL_TYPES_REQUEST,
+                                         AllTypesRequestJsonMarshaller.INSTANCE));
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(SmithyRpcV2ProtocolBenchmark.class.getSimpleName())
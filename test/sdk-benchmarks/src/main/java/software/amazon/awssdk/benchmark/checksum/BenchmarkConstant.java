@@ -18,6 +18,7 @@ package software.amazon.awssdk.benchmark.checksum;
 public final class BenchmarkConstant {
     public static final int KB = 1024;
     public static final int MB = 1024 * KB;
+    public static final long GB = 1024L * MB;
 
     private BenchmarkConstant() {
     }
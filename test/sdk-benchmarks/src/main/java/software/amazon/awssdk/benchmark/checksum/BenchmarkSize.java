@@ -19,6 +19,8 @@ import static software.amazon.awssdk.benchmark.checksum.BenchmarkConstant.KB;
 import static software.amazon.awssdk.benchmark.checksum.BenchmarkConstant.MB;
 
 public enum BenchmarkSize {
+    SZ_1_KB(1 * KB),
+    SZ_16_KB(16 * KB),
     SZ_128_KB(128 * KB),
     SZ_512_KB(512 * KB),
     SZ_1_MB(1 * MB),
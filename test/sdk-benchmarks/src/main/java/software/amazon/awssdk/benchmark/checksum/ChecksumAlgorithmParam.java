@@ -18,8 +18,11 @@ package software.amazon.awssdk.benchmark.checksum;
 import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.checksums.internal.CrcCloneOnMarkChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc32CChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc64NvmeChecksum;
 import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
 import software.amazon.awssdk.crt.checksums.CRC32C;
+import software.amazon.awssdk.crt.checksums.CRC64NVME;
 
 public enum ChecksumAlgorithmParam {
     CRC32(DefaultChecksumAlgorithm.CRC32),
@@ -30,7 +33,25 @@ public enum ChecksumAlgorithmParam {
             return new CrcCloneOnMarkChecksum(new CRC32C());
         }
     },
+    CRC32C_SDK(DefaultChecksumAlgorithm.CRC32C) {
+        @Override
+        public SdkChecksum createChecksum() {
+            return new CrcCloneOnMarkChecksum(SdkCrc32CChecksum.create());
+        }
+    },
     CRC64NVME(DefaultChecksumAlgorithm.CRC64NVME),
+    CRC64NVME_CRT(DefaultChecksumAlgorithm.CRC64NVME) {
+        @Override
+        public SdkChecksum createChecksum() {
+            return new CrcCloneOnMarkChecksum(new CRC64NVME());
+        }
+    },
+    CRC64NVME_SDK(DefaultChecksumAlgorithm.CRC64NVME) {
+        @Override
+        public SdkChecksum createChecksum() {
+            return new CrcCloneOnMarkChecksum(SdkCrc64NvmeChecksum.create());
+        }
+    },
     SHA1(DefaultChecksumAlgorithm.SHA1),
     SHA256(DefaultChecksumAlgorithm.SHA256),
     SHA512(DefaultChecksumAlgorithm.SHA512),
@@ -15,10 +15,13 @@
 
 package software.amazon.awssdk.benchmark.checksum;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
@@ -58,7 +61,8 @@ public class SdkChecksumBenchmark {
         @Param({"SZ_8_MB", "SZ_32_MB"})
         private BenchmarkSize payloadSize;
 
-        @Param({"XXHASH64", "XXHASH3", "XXHASH128", "SHA512", "CRC32C", "CRC32", "CRC64NVME", "SHA1", "SHA256"})
+        @Param({"XXHASH64", "XXHASH3", "XXHASH128", "SHA512", "CRC32C", "CRC32C_SDK", "CRC32", "CRC64NVME", "CRC64NVME_SDK",
+                "SHA1", "SHA256"})
         private ChecksumAlgorithmParam checksumAlgorithmParam;
 
         @Setup
@@ -68,6 +72,48 @@ public class SdkChecksumBenchmark {
         }
     }
 
+    /**
+     * Checksums a single buffer per operation, comparing the pure Java CRC implementations against the CRT ones. The
+     * {@code gigabytes} counter reports the throughput in GB/s.
+     */
+    @State(Scope.Benchmark)
+    public static class SingleBufferState {
+        @Param({"SZ_1_KB", "SZ_16_KB", "SZ_128_KB", "SZ_1_MB", "SZ_8_MB", "SZ_64_MB"})
+        private BenchmarkSize bufferSize;
+
+        @Param({"CRC32C", "CRC32C_SDK", "CRC32C_CRT", "CRC64NVME_SDK", "CRC64NVME_CRT"})
+        private ChecksumAlgorithmParam checksumAlgorithmParam;
+
+        private byte[] buffer;
+
+        @Setup
+        public void setup() {
+            buffer = new byte[bufferSize.getBytes()];
+            ThreadLocalRandom.current().nextBytes(buffer);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ProcessedBytes {
+        public double gigabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            gigabytes = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void singleBuffer(SingleBufferState s, ProcessedBytes processed, Blackhole bh) {
+        SdkChecksum checksum = s.checksumAlgorithmParam.createChecksum();
+        checksum.update(s.buffer, 0, s.buffer.length);
+        bh.consume(checksum.getValue());
+        processed.gigabytes += (double) s.buffer.length / BenchmarkConstant.GB;
+    }
+
     @Benchmark
     public void chunked(ChunkedState s, Blackhole bh) {
         int chunkSize = s.chunkSize.getBytes();
@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.endpoint;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointParams;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointProvider;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+
+/**
+ * Compares resolving the endpoint of a call with the rules of the default endpoint providers against looking it up in an
+ * {@link EndpointResolutionCache}. The endpoint parameters are built for each call, like the endpoint resolution interceptors
+ * do.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EndpointResolutionBenchmark {
+    private S3EndpointProvider s3Provider;
+    private DynamoDbEndpointProvider dynamoDbProvider;
+    private EndpointResolutionCache cache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        s3Provider = S3EndpointProvider.defaultProvider();
+        dynamoDbProvider = DynamoDbEndpointProvider.defaultProvider();
+        cache = EndpointResolutionCache.create(100);
+    }
+
+    @Benchmark
+    public void s3Uncached(Blackhole blackhole) {
+        blackhole.consume(s3Provider.resolveEndpoint(s3Params()).join());
+    }
+
+    @Benchmark
+    public void s3Cached(Blackhole blackhole) {
+        blackhole.consume(cache.resolve(s3Provider, s3Params(), s3Provider::resolveEndpoint, null));
+    }
+
+    @Benchmark
+    public void dynamoDbUncached(Blackhole blackhole) {
+        blackhole.consume(dynamoDbProvider.resolveEndpoint(dynamoDbParams()).join());
+    }
+
+    @Benchmark
+    public void dynamoDbCached(Blackhole blackhole) {
+        blackhole.consume(cache.resolve(dynamoDbProvider, dynamoDbParams(), dynamoDbProvider::resolveEndpoint, null));
+    }
+
+    private static S3EndpointParams s3Params() {
+        return S3EndpointParams.builder()
+                               .region(Region.US_WEST_2)
+                               .bucket("my-bucket")
+                               .useFips(false)
+                               .useDualStack(false)
+                               .build();
+    }
+
+    private static DynamoDbEndpointParams dynamoDbParams() {
+        return DynamoDbEndpointParams.builder()
+                                     .region(Region.US_WEST_2)
+                                     .useFips(false)
+                                     .useDualStack(false)
+                                     .build();
+    }
+}
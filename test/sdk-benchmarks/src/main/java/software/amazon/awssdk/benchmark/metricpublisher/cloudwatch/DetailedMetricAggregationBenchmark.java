@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.metricpublisher.cloudwatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform.MetricCollectionAggregator;
+
+/**
+ * Measures how fast the CloudWatch metric publisher aggregates API call durations in detailed mode, and how many values it
+ * uploads for them, when most durations are distinct.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DetailedMetricAggregationBenchmark {
+    /**
+     * The number of API calls aggregated before their metrics are turned into requests, as if they happened within a minute.
+     */
+    @Param({"1000", "100000"})
+    private int callsPerFlush;
+
+    private List<MetricCollection> metricCollections;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0);
+        metricCollections = new ArrayList<>(callsPerFlush);
+        for (int i = 0; i < callsPerFlush; i++) {
+            MetricCollector collector = MetricCollector.create("ApiCall");
+            collector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+            collector.reportMetric(CoreMetric.OPERATION_NAME, "GetItem");
+            // Between 1ms and 10s, skewed towards short calls
+            long durationMicros = 1000 + (long) (Math.pow(random.nextDouble(), 4) * 10_000_000);
+            collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofNanos(durationMicros * 1000));
+            metricCollections.add(collector.collect());
+        }
+    }
+
+    @Benchmark
+    public void aggregateAndFlush(Blackhole blackhole) {
+        MetricCollectionAggregator aggregator =
+            new MetricCollectionAggregator("DetailedMetricAggregationBenchmark",
+                                           Stream.of(CoreMetric.SERVICE_ID, CoreMetric.OPERATION_NAME)
+                                                 .collect(Collectors.toSet()),
+                                           Collections.singleton(MetricCategory.ALL),
+                                           MetricLevel.INFO,
+                                           Collections.singleton(CoreMetric.API_CALL_DURATION));
+        for (MetricCollection metricCollection : metricCollections) {
+            aggregator.addCollection(metricCollection);
+        }
+        blackhole.consume(aggregator.getRequests());
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(DetailedMetricAggregationBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
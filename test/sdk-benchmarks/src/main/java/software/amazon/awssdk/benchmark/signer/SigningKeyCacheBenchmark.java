@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerKey;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SigningKeyCache;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.utils.cache.FifoCache;
+
+/**
+ * Derives signing keys from 64 threads for requests signed with 5,000 distinct credentials, comparing the
+ * {@link SigningKeyCache} with the string-keyed {@link FifoCache} it replaced, at the previous default size and at a size
+ * that fits every credential. The hit and miss counts are reported as secondary results.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(64)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SigningKeyCacheBenchmark {
+    private static final int CREDENTIAL_COUNT = 5_000;
+    private static final String REGION = "us-east-1";
+    private static final String SERVICE = "demo";
+
+    @Param({"fifo", "concurrent"})
+    private String cacheType;
+
+    @Param({"300", "8192"})
+    private int maxSize;
+
+    private AwsCredentialsIdentity[] credentials;
+    private CredentialScope credentialScope;
+    private FifoCache<SignerKey> fifoCache;
+    private SigningKeyCache signingKeyCache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        credentials = new AwsCredentialsIdentity[CREDENTIAL_COUNT];
+        for (int i = 0; i < CREDENTIAL_COUNT; i++) {
+            credentials[i] = AwsCredentialsIdentity.create("access" + i, "secret" + i);
+        }
+        credentialScope = new CredentialScope(REGION, SERVICE, Instant.now());
+        fifoCache = new FifoCache<>(maxSize);
+        signingKeyCache = SigningKeyCache.create(maxSize);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CacheCounters {
+        public long hits;
+        public long misses;
+    }
+
+    @Benchmark
+    public byte[] deriveSigningKey(CacheCounters counters) {
+        AwsCredentialsIdentity credential = credentials[ThreadLocalRandom.current().nextInt(CREDENTIAL_COUNT)];
+        return "fifo".equals(cacheType) ? deriveWithFifoCache(credential, counters)
+                                        : deriveWithSigningKeyCache(credential, counters);
+    }
+
+    private byte[] deriveWithFifoCache(AwsCredentialsIdentity credential, CacheCounters counters) {
+        String cacheKey = credential.secretAccessKey() + "-" + REGION + "-" + SERVICE;
+        SignerKey signerKey = fifoCache.get(cacheKey);
+        if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
+            counters.hits++;
+            return signerKey.getSigningKey();
+        }
+        counters.misses++;
+        byte[] signingKey = newSigningKey(credential);
+        fifoCache.add(cacheKey, new SignerKey(credentialScope.getInstant(), signingKey));
+        return signingKey;
+    }
+
+    private byte[] deriveWithSigningKeyCache(AwsCredentialsIdentity credential, CacheCounters counters) {
+        Instant instant = credentialScope.getInstant();
+        byte[] cached = signingKeyCache.get(credential.secretAccessKey(), REGION, SERVICE, instant);
+        if (cached != null) {
+            counters.hits++;
+            return cached;
+        }
+        counters.misses++;
+        byte[] signingKey = newSigningKey(credential);
+        signingKeyCache.put(credential.secretAccessKey(), REGION, SERVICE, instant, signingKey);
+        return signingKey;
+    }
+
+    private byte[] newSigningKey(AwsCredentialsIdentity credential) {
+        byte[] kDate = SignerUtils.sign(credentialScope.getDate(), ("AWS4" + credential.secretAccessKey()).getBytes());
+        byte[] kRegion = SignerUtils.sign(REGION, kDate);
+        byte[] kService = SignerUtils.sign(SERVICE, kRegion);
+        return SignerUtils.sign("aws4_request", kService);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(SigningKeyCacheBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
+import software.amazon.awssdk.http.auth.aws.internal.signer.V4Properties;
+import software.amazon.awssdk.http.auth.aws.internal.signer.V4RequestSigner;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Signs a batch of requests, one per task, on either a fixed pool of platform threads or on a new virtual thread per task.
+ * Run with the {@link GCProfiler} (as {@link #main} does) to compare the allocation of the {@code Mac} and
+ * {@code MessageDigest} instances used for signing between the two thread models.
+ *
+ * <p>The {@code virtual} thread model requires Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Sigv4SignerThreadModelBenchmark {
+    private static final int REQUESTS_PER_BATCH = 100;
+
+    @Param({"platform", "virtual"})
+    private String threadModel;
+
+    private ExecutorService executor;
+    private V4RequestSigner signer;
+    private SdkHttpRequest.Builder request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        executor = "virtual".equals(threadModel) ? newVirtualThreadPerTaskExecutor()
+                                                 : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+        URI target = URI.create("https://test.com/");
+        request = SdkHttpRequest.builder()
+                                .method(SdkHttpMethod.GET)
+                                .uri(target)
+                                .encodedPath(target.getPath())
+                                .putHeader("x-amz-content-sha256", "checksum")
+                                .putHeader("x-amz-archive-description", "test  test");
+        Clock clock = Clock.systemUTC();
+        V4Properties properties = V4Properties.builder()
+                                              .credentials(AwsCredentialsIdentity.create("access", "secret"))
+                                              .credentialScope(new CredentialScope("us-east-1", "demo", clock.instant()))
+                                              .signingClock(clock)
+                                              .doubleUrlEncode(true)
+                                              .normalizePath(true)
+                                              .build();
+        signer = V4RequestSigner.create(properties, "abc123");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void signBatch(Blackhole blackhole) throws Exception {
+        List<Future<?>> results = new ArrayList<>(REQUESTS_PER_BATCH);
+        for (int i = 0; i < REQUESTS_PER_BATCH; i++) {
+            results.add(executor.submit(() -> signer.sign(request.copy())));
+        }
+        for (Future<?> result : results) {
+            blackhole.consume(result.get());
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later.", e);
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(Sigv4SignerThreadModelBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -76,6 +76,16 @@ public final class BenchmarkConstant {
                                           + "-10-31T10:51:12.311305Z</NestedTimestamp></structWithNestedTimestampMember"
                                           + "><blobArg>aGVsbG8gd29ybGQ=</blobArg></AllTypesResponse>";
 
+    /**
+     * Number of elements in {@link #LARGE_XML_LIST_BODY}, similar to a full ListObjectsV2 or DescribeInstances page.
+     */
+    public static final int LARGE_XML_LIST_SIZE = 1000;
+
+    /**
+     * AllTypes members of a large XML response, the listOfStructs member holds {@link #LARGE_XML_LIST_SIZE} entries.
+     */
+    public static final String LARGE_XML_LIST_BODY = largeXmlListBody();
+
     public static final String ERROR_XML_BODY = "<ErrorResponse>"
                                                 + "   <Error>"
                                                 + "      <Code>ImplicitPayloadException</Code>"
@@ -218,4 +228,15 @@ public final class BenchmarkConstant {
 
     private BenchmarkConstant() {
     }
+
+    private static String largeXmlListBody() {
+        StringBuilder body = new StringBuilder("<stringMember>foo</stringMember>"
+                                               + "<integerMember>123</integerMember>"
+                                               + "<timestampMember>2018-10-31T10:51:12.302183Z</timestampMember>"
+                                               + "<listOfStructs>");
+        for (int i = 0; i < LARGE_XML_LIST_SIZE; i++) {
+            body.append("<member><StringMember>listOfStructs").append(i).append("</StringMember></member>");
+        }
+        return body.append("</listOfStructs>").toString();
+    }
 }